@@ -0,0 +1,45 @@
+package com.meatmetrics.meatmetrics.api.admin;
+
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import com.meatmetrics.meatmetrics.api.common.AuthenticatedUserResolver;
+import com.meatmetrics.meatmetrics.config.AdminProperties;
+
+/**
+ * 管理APIのアクセス制御
+ *
+ * <p>認証済みかつ {@link AdminProperties} の許可リストに含まれるユーザーのみ通過させます。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Component
+public class AdminAccessGuard {
+
+    private final AuthenticatedUserResolver userResolver;
+    private final AdminProperties adminProperties;
+
+    public AdminAccessGuard(AuthenticatedUserResolver userResolver, AdminProperties adminProperties) {
+        this.userResolver = userResolver;
+        this.adminProperties = adminProperties;
+    }
+
+    /**
+     * 管理者であることを検証
+     *
+     * @param request HTTPリクエスト
+     * @return 管理者のユーザーID
+     * @throws com.meatmetrics.meatmetrics.auth.domain.exception.AuthenticationException 未認証の場合
+     * @throws AccessDeniedException 管理者でない場合
+     */
+    public Long requireAdmin(HttpServletRequest request) {
+        Long userId = userResolver.resolveUserId(request);
+        if (!adminProperties.isAdmin(userId)) {
+            throw new AccessDeniedException("Admin privileges required");
+        }
+        return userId;
+    }
+}
@@ -0,0 +1,155 @@
+package com.meatmetrics.meatmetrics.api.admin;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import com.meatmetrics.meatmetrics.api.common.ApiResponse;
+import com.meatmetrics.meatmetrics.api.food.dto.response.FoodImportResponse;
+import com.meatmetrics.meatmetrics.api.food.dto.response.MealNutritionRecomputeResponse;
+import com.meatmetrics.meatmetrics.food.application.command.ImportFoodsCommand;
+import com.meatmetrics.meatmetrics.food.application.handler.ImportFoodsHandler;
+import com.meatmetrics.meatmetrics.meal.application.handler.RecomputeMealNutritionHandler;
+
+/**
+ * 食材管理API Controller（管理者向け）
+ *
+ * <h3>提供エンドポイント:</h3>
+ * <ul>
+ *   <li>POST /api/admin/foods/import - 食材一括インポート（CSV/JSON）</li>
+ *   <li>POST /api/admin/foods/nutrition-recompute - 食事明細の栄養成分一括再計算の開始</li>
+ *   <li>GET /api/admin/foods/nutrition-recompute - 一括再計算の進捗</li>
+ * </ul>
+ *
+ * <h3>セキュリティ設定:</h3>
+ * <ul>
+ *   <li>認証必須、かつ admin.user-ids に含まれるユーザーのみ実行可能</li>
+ * </ul>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@RestController
+@RequestMapping("/api/admin/foods")
+public class AdminFoodController {
+
+    private final AdminAccessGuard adminAccessGuard;
+    private final ImportFoodsHandler importFoodsHandler;
+    private final RecomputeMealNutritionHandler recomputeMealNutritionHandler;
+
+    /**
+     * コンストラクタインジェクション
+     *
+     * @param adminAccessGuard 管理APIアクセス制御
+     * @param importFoodsHandler 食材一括インポートサービス
+     * @param recomputeMealNutritionHandler 食事明細の栄養成分一括再計算サービス
+     */
+    public AdminFoodController(AdminAccessGuard adminAccessGuard, ImportFoodsHandler importFoodsHandler,
+                               RecomputeMealNutritionHandler recomputeMealNutritionHandler) {
+        this.adminAccessGuard = adminAccessGuard;
+        this.importFoodsHandler = importFoodsHandler;
+        this.recomputeMealNutritionHandler = recomputeMealNutritionHandler;
+    }
+
+    /**
+     * 食材一括インポートAPI
+     *
+     * <p>リクエストボディをバッファせずストリームのまま取り込みます。
+     * Content-Type が {@code text/csv} の場合はCSV、{@code application/json} の場合は
+     * オブジェクト配列として解釈します。同じ source_code の食材は更新されます。</p>
+     *
+     * <h3>エラーケース:</h3>
+     * <ul>
+     *   <li>400 Bad Request - ヘッダー行・JSON構造が不正（行単位の不正はスキップしてレスポンスに記録）</li>
+     *   <li>401 Unauthorized - トークンが無効または未提供</li>
+     *   <li>403 Forbidden - 管理者でない</li>
+     *   <li>500 Internal Server Error - システムエラー</li>
+     * </ul>
+     *
+     * @param contentType リクエストのContent-Type
+     * @param request HTTPリクエスト（認証トークンとボディ取得用）
+     * @return 200 OK - 取り込み件数・行エラーを含むレスポンス
+     * @throws IOException ボディの読み込みに失敗した場合
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ApiResponse<FoodImportResponse>> importFoods(
+            @RequestHeader("Content-Type") String contentType,
+            HttpServletRequest request) throws IOException {
+        adminAccessGuard.requireAdmin(request);
+
+        ImportFoodsCommand.Format format = MediaType.parseMediaType(contentType)
+                .isCompatibleWith(MediaType.APPLICATION_JSON)
+                ? ImportFoodsCommand.Format.JSON
+                : ImportFoodsCommand.Format.CSV;
+        ImportFoodsCommand command = new ImportFoodsCommand(format, request.getInputStream());
+
+        FoodImportResponse response = importFoodsHandler.importFoods(command);
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.success("インポート完了", response));
+    }
+
+    /**
+     * 食事明細の栄養成分一括再計算API
+     *
+     * <p>食材の栄養成分を訂正した後に呼び出します。訂正前のバージョンを参照している明細を
+     * バックグラウンドでID順のチャンクごとに計算し直し、食事の合計も更新します。
+     * 実行中のジョブがある場合は新しいジョブを作らず、そのジョブを返します。</p>
+     *
+     * <h3>エラーケース:</h3>
+     * <ul>
+     *   <li>401 Unauthorized - トークンが無効または未提供</li>
+     *   <li>403 Forbidden - 管理者でない</li>
+     *   <li>409 Conflict - 他のインスタンスが同時にジョブを開始した</li>
+     * </ul>
+     *
+     * @param foodIds 対象の食材ID（省略時は古いバージョンを参照する全明細）
+     * @param request HTTPリクエスト（認証トークン取得用）
+     * @return 202 Accepted - 開始した（または実行中の）ジョブ
+     */
+    @PostMapping("/nutrition-recompute")
+    public ResponseEntity<ApiResponse<MealNutritionRecomputeResponse>> startNutritionRecompute(
+            @RequestParam(required = false) List<Long> foodIds,
+            HttpServletRequest request) {
+        Long adminUserId = adminAccessGuard.requireAdmin(request);
+
+        MealNutritionRecomputeResponse response = recomputeMealNutritionHandler.start(foodIds, adminUserId);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("再計算を開始しました", response));
+    }
+
+    /**
+     * 一括再計算の進捗取得API
+     *
+     * <h3>エラーケース:</h3>
+     * <ul>
+     *   <li>401 Unauthorized - トークンが無効または未提供</li>
+     *   <li>403 Forbidden - 管理者でない</li>
+     *   <li>404 Not Found - ジョブが1件もない</li>
+     * </ul>
+     *
+     * @param request HTTPリクエスト（認証トークン取得用）
+     * @return 200 OK - 最後に開始したジョブの状態
+     */
+    @GetMapping("/nutrition-recompute")
+    public ResponseEntity<ApiResponse<MealNutritionRecomputeResponse>> getNutritionRecompute(HttpServletRequest request) {
+        adminAccessGuard.requireAdmin(request);
+
+        MealNutritionRecomputeResponse response = recomputeMealNutritionHandler.getLatest();
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.success("再計算ジョブ取得成功", response));
+    }
+}
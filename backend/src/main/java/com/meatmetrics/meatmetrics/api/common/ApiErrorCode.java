@@ -6,9 +6,11 @@ public enum ApiErrorCode {
     NOT_FOUND,
     METHOD_NOT_ALLOWED,
     CONFLICT,
+    IDEMPOTENCY_KEY_REUSED,
     DB_ERROR,
     INTERNAL_ERROR,
-    UNAUTHORIZED
+    UNAUTHORIZED,
+    FORBIDDEN
 }
 
 
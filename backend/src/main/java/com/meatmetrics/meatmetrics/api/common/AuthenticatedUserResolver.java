@@ -0,0 +1,63 @@
+package com.meatmetrics.meatmetrics.api.common;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import com.meatmetrics.meatmetrics.auth.domain.exception.AuthenticationException;
+import com.meatmetrics.meatmetrics.auth.infrastructure.security.JwtTokenService;
+
+/**
+ * Authorization Header から認証済みユーザーIDを解決するコンポーネント
+ *
+ * <p>各Controllerで重複していた「Bearer トークン取得 → 検証 → ユーザーID抽出」を共通化します。
+ * 失敗時は {@link AuthenticationException} を送出し、GlobalExceptionHandler で 401 に変換されます。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Component
+public class AuthenticatedUserResolver {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenService jwtTokenService;
+
+    public AuthenticatedUserResolver(JwtTokenService jwtTokenService) {
+        this.jwtTokenService = jwtTokenService;
+    }
+
+    /**
+     * 認証済みユーザーIDを取得（必須）
+     *
+     * @param request HTTPリクエスト
+     * @return ユーザーID
+     * @throws AuthenticationException トークンが未提供または無効な場合
+     */
+    public Long resolveUserId(HttpServletRequest request) {
+        return resolveOptionalUserId(request)
+                .orElseThrow(() -> new AuthenticationException("認証トークンが見つからないか無効です"));
+    }
+
+    /**
+     * 認証済みユーザーIDを取得（任意）
+     *
+     * <p>未認証でも利用できるが、認証済みならユーザー別の結果を返すAPIで使用します。</p>
+     *
+     * @param request HTTPリクエスト
+     * @return ユーザーID、トークンが未提供または無効な場合は{@code Optional.empty()}
+     */
+    public Optional<Long> resolveOptionalUserId(HttpServletRequest request) {
+        String authorizationHeader = request.getHeader("Authorization");
+        if (authorizationHeader == null || !authorizationHeader.startsWith(BEARER_PREFIX)) {
+            return Optional.empty();
+        }
+        String token = authorizationHeader.substring(BEARER_PREFIX.length());
+        if (!jwtTokenService.validateToken(token)) {
+            return Optional.empty();
+        }
+        return Optional.of(jwtTokenService.extractUserId(token));
+    }
+}
@@ -5,11 +5,14 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import jakarta.validation.ConstraintViolationException;
 import org.slf4j.Logger;
@@ -23,6 +26,8 @@ import java.util.NoSuchElementException;
 import com.meatmetrics.meatmetrics.auth.domain.exception.AuthenticationException;
 import com.meatmetrics.meatmetrics.auth.domain.exception.DuplicateEmailException;
 import com.meatmetrics.meatmetrics.auth.domain.exception.DuplicateUsernameException;
+import com.meatmetrics.meatmetrics.meal.domain.exception.IdempotencyKeyInProgressException;
+import com.meatmetrics.meatmetrics.meal.domain.exception.IdempotencyKeyReusedException;
 import com.meatmetrics.meatmetrics.sharedkernel.domain.common.exception.DomainException;
 
 @RestControllerAdvice
@@ -34,7 +39,8 @@ public class GlobalExceptionHandler {
         return new ErrorResponse(Instant.now().toString(), request.getRequestURI(), message, code.name());
     }
 
-    @ExceptionHandler({HttpMessageNotReadableException.class, MissingServletRequestParameterException.class})
+    @ExceptionHandler({HttpMessageNotReadableException.class, MissingServletRequestParameterException.class,
+        MethodArgumentTypeMismatchException.class})
     public ResponseEntity<ErrorResponse> handleBadRequest(Exception exception, HttpServletRequest request) {
         log.warn("Bad request: {} {} - {}", request.getMethod(), request.getRequestURI(), exception.getClass().getSimpleName());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -48,7 +54,8 @@ public class GlobalExceptionHandler {
             .body(body(request, "許可されていないメソッドです。", ApiErrorCode.METHOD_NOT_ALLOWED));
     }
 
-    @ExceptionHandler({MethodArgumentNotValidException.class, ConstraintViolationException.class})
+    @ExceptionHandler({MethodArgumentNotValidException.class, ConstraintViolationException.class,
+        HandlerMethodValidationException.class})
     public ResponseEntity<ErrorResponse> handleValidation(Exception exception, HttpServletRequest request) {
         log.warn("Validation error: {} {} - {}", request.getMethod(), request.getRequestURI(), exception.getClass().getSimpleName());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -86,6 +93,20 @@ public class GlobalExceptionHandler {
             .body(body(request, exception.getMessage(), ApiErrorCode.CONFLICT));
     }
 
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyReused(IdempotencyKeyReusedException exception, HttpServletRequest request) {
+        log.warn("Idempotency key reused: {} {} - {}", request.getMethod(), request.getRequestURI(), exception.getMessage());
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+            .body(body(request, exception.getMessage(), ApiErrorCode.IDEMPOTENCY_KEY_REUSED));
+    }
+
+    @ExceptionHandler(IdempotencyKeyInProgressException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyInProgress(IdempotencyKeyInProgressException exception, HttpServletRequest request) {
+        log.warn("Idempotency key in progress: {} {} - {}", request.getMethod(), request.getRequestURI(), exception.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .body(body(request, exception.getMessage(), ApiErrorCode.CONFLICT));
+    }
+
     @ExceptionHandler({SQLException.class, DataAccessException.class})
     public ResponseEntity<ErrorResponse> handleDbError(HttpServletRequest request) {
         log.error("Database error: {} {}", request.getMethod(), request.getRequestURI());
@@ -108,7 +129,10 @@ public class GlobalExceptionHandler {
             .body(body(request, "認証に失敗しました。", ApiErrorCode.UNAUTHORIZED));
     }
 
-
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<ErrorResponse> handleAccessDenied(AccessDeniedException ex, HttpServletRequest request) {
+        log.warn("Access denied: {} {} - {}", request.getMethod(), request.getRequestURI(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+            .body(body(request, "この操作を行う権限がありません。", ApiErrorCode.FORBIDDEN));
+    }
 }
-
-
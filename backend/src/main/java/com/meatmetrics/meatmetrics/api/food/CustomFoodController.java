@@ -0,0 +1,103 @@
+package com.meatmetrics.meatmetrics.api.food;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+
+import com.meatmetrics.meatmetrics.api.common.ApiResponse;
+import com.meatmetrics.meatmetrics.api.common.AuthenticatedUserResolver;
+import com.meatmetrics.meatmetrics.api.food.dto.request.CustomFoodRequest;
+import com.meatmetrics.meatmetrics.api.food.dto.response.FoodSummaryResponse;
+import com.meatmetrics.meatmetrics.food.application.handler.AddCustomFoodHandler;
+import com.meatmetrics.meatmetrics.food.application.handler.GetCustomFoodsHandler;
+
+/**
+ * ユーザー独自食材API Controller
+ *
+ * <p>ユーザーごとの独自食材は共有の食材マスタとは別に保持し、
+ * 食材検索（GET /api/foods/search）で共有カタログに重ねて返します。</p>
+ *
+ * <h3>提供エンドポイント:</h3>
+ * <ul>
+ *   <li>GET /api/foods/custom - 自分の独自食材一覧</li>
+ *   <li>POST /api/foods/custom - 独自食材の登録</li>
+ * </ul>
+ *
+ * <h3>セキュリティ設定:</h3>
+ * <ul>
+ *   <li>認証必須</li>
+ * </ul>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@RestController
+@RequestMapping("/api/foods/custom")
+public class CustomFoodController {
+
+    private final AuthenticatedUserResolver userResolver;
+    private final AddCustomFoodHandler addCustomFoodHandler;
+    private final GetCustomFoodsHandler getCustomFoodsHandler;
+
+    /**
+     * コンストラクタインジェクション
+     *
+     * @param userResolver 認証ユーザー解決
+     * @param addCustomFoodHandler 独自食材登録サービス
+     * @param getCustomFoodsHandler 独自食材一覧取得サービス
+     */
+    public CustomFoodController(AuthenticatedUserResolver userResolver,
+                                AddCustomFoodHandler addCustomFoodHandler,
+                                GetCustomFoodsHandler getCustomFoodsHandler) {
+        this.userResolver = userResolver;
+        this.addCustomFoodHandler = addCustomFoodHandler;
+        this.getCustomFoodsHandler = getCustomFoodsHandler;
+    }
+
+    /**
+     * 独自食材一覧API
+     *
+     * @param httpRequest HTTPリクエスト（認証トークン取得用）
+     * @return 200 OK - 独自食材一覧（ID昇順）
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<FoodSummaryResponse>>> listCustomFoods(HttpServletRequest httpRequest) {
+        Long userId = userResolver.resolveUserId(httpRequest);
+        return ResponseEntity.ok(ApiResponse.success("独自食材一覧取得完了", getCustomFoodsHandler.listCustomFoods(userId)));
+    }
+
+    /**
+     * 独自食材登録API
+     *
+     * <p>登録した食材は、キャッシュ済みのユーザー別オーバーレイに即時反映されます。
+     * 共有カタログの索引は再構築しません。</p>
+     *
+     * <h3>エラーケース:</h3>
+     * <ul>
+     *   <li>400 Bad Request - 入力値が不正、存在しないカテゴリ、登録上限超過</li>
+     *   <li>401 Unauthorized - トークンが無効または未提供</li>
+     * </ul>
+     *
+     * @param request 登録リクエスト
+     * @param httpRequest HTTPリクエスト（認証トークン取得用）
+     * @return 201 Created - 登録された独自食材
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<FoodSummaryResponse>> addCustomFood(
+            @Valid @RequestBody CustomFoodRequest request,
+            HttpServletRequest httpRequest) {
+        Long userId = userResolver.resolveUserId(httpRequest);
+        FoodSummaryResponse response = addCustomFoodHandler.addCustomFood(request.toCommand(userId));
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("独自食材登録完了", response));
+    }
+}
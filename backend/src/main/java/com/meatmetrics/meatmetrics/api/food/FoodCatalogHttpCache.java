@@ -0,0 +1,160 @@
+package com.meatmetrics.meatmetrics.api.food;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.function.Supplier;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import com.meatmetrics.meatmetrics.api.common.ApiResponse;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodCatalog;
+
+/**
+ * 食材カタログ応答のHTTPキャッシュ制御
+ *
+ * <p>カタログバージョンから強いETagを、カタログの最終変更日時からLast-Modifiedを生成します。
+ * 条件付きGETが一致した場合は応答DTOの組み立て自体を行わずに304を返します。</p>
+ *
+ * <p>強いETagは同一バージョンで応答がバイト単位で一致することを要求するため、
+ * {@link ApiResponse} のtimestampにはカタログの最終変更日時を設定します。</p>
+ *
+ * <p>言語によって内容が変わる応答は、ETagに言語を含め、Vary: Accept-Language と Content-Language を付けます。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+final class FoodCatalogHttpCache {
+
+    private FoodCatalogHttpCache() {}
+
+    /**
+     * カタログバージョンからETagを生成
+     *
+     * @param catalog カタログ
+     * @return 強いETag（引用符付き）
+     */
+    static String etag(FoodCatalog catalog) {
+        return "\"catalog-" + catalog.version() + "\"";
+    }
+
+    /**
+     * カタログバージョンと言語からETagを生成
+     *
+     * @param catalog カタログ
+     * @param locale 応答の言語
+     * @return 強いETag（引用符付き）
+     */
+    static String etag(FoodCatalog catalog, String locale) {
+        return "\"catalog-" + catalog.version() + "-" + locale + "\"";
+    }
+
+    /**
+     * 条件付きGETに応答する
+     *
+     * @param <T> 応答データの型
+     * @param request リクエスト
+     * @param catalog 応答の元になるカタログ
+     * @param cacheControl Cache-Control
+     * @param message 成功メッセージ
+     * @param body 応答データの生成処理（304の場合は呼び出されない）
+     * @return 200（本文あり）または304（本文なし）
+     */
+    static <T> ResponseEntity<ApiResponse<T>> respond(WebRequest request, FoodCatalog catalog,
+                                                      CacheControl cacheControl, String message, Supplier<T> body) {
+        return respond(request, catalog, null, cacheControl, message, body);
+    }
+
+    /**
+     * 言語によって内容が変わる応答の条件付きGETに応答する
+     *
+     * @param <T> 応答データの型
+     * @param request リクエスト
+     * @param catalog 応答の元になるカタログ
+     * @param locale 応答の言語（nullの場合は言語によらない応答）
+     * @param cacheControl Cache-Control
+     * @param message 成功メッセージ
+     * @param body 応答データの生成処理（304の場合は呼び出されない）
+     * @return 200（本文あり）または304（本文なし）
+     */
+    static <T> ResponseEntity<ApiResponse<T>> respond(WebRequest request, FoodCatalog catalog, String locale,
+                                                      CacheControl cacheControl, String message, Supplier<T> body) {
+        if (catalog.version() == 0) {
+            // カタログ未読み込み（DB未接続等）の応答はキャッシュさせない
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noStore())
+                    .body(ApiResponse.success(message, body.get()));
+        }
+
+        String etag = locale == null ? etag(catalog) : etag(catalog, locale);
+        Instant lastModified = catalog.lastModified();
+        if (isNotModified(request.getHeader(HttpHeaders.IF_NONE_MATCH),
+                request.getHeader(HttpHeaders.IF_MODIFIED_SINCE), etag, lastModified)) {
+            return validators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), etag, lastModified, locale, cacheControl)
+                    .build();
+        }
+
+        ApiResponse<T> response = ApiResponse.success(message, body.get());
+        response.setTimestamp(LocalDateTime.ofInstant(lastModified, ZoneId.systemDefault()));
+        return validators(ResponseEntity.ok(), etag, lastModified, locale, cacheControl)
+                .body(response);
+    }
+
+    private static ResponseEntity.BodyBuilder validators(ResponseEntity.BodyBuilder builder, String etag,
+                                                         Instant lastModified, String locale, CacheControl cacheControl) {
+        builder.eTag(etag)
+                .lastModified(lastModified)
+                .cacheControl(cacheControl);
+        if (locale != null) {
+            builder.varyBy(HttpHeaders.ACCEPT_LANGUAGE)
+                    .header(HttpHeaders.CONTENT_LANGUAGE, locale);
+        }
+        return builder;
+    }
+
+    /**
+     * 条件付きリクエストヘッダーが現在の表現と一致するか
+     *
+     * <p>RFC 9110 に従い、If-None-Match がある場合は If-Modified-Since を無視します。
+     * If-None-Match の比較は弱い比較（W/ 接頭辞を無視）です。</p>
+     *
+     * @param ifNoneMatch If-None-Match ヘッダー（null可）
+     * @param ifModifiedSince If-Modified-Since ヘッダー（null可）
+     * @param etag 現在のETag
+     * @param lastModified 現在の最終変更日時
+     * @return 304を返せる場合true
+     */
+    static boolean isNotModified(String ifNoneMatch, String ifModifiedSince, String etag, Instant lastModified) {
+        if (ifNoneMatch != null) {
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*")) {
+                    return true;
+                }
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (ifModifiedSince != null) {
+            try {
+                Instant since = ZonedDateTime.parse(ifModifiedSince, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+                return lastModified.getEpochSecond() <= since.getEpochSecond();
+            } catch (DateTimeParseException e) {
+                return false;
+            }
+        }
+        return false;
+    }
+}
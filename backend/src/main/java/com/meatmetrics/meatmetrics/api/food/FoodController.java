@@ -0,0 +1,359 @@
+package com.meatmetrics.meatmetrics.api.food;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+import com.meatmetrics.meatmetrics.api.common.ApiResponse;
+import com.meatmetrics.meatmetrics.api.common.AuthenticatedUserResolver;
+import com.meatmetrics.meatmetrics.api.food.dto.response.FoodAutocompleteResponse;
+import com.meatmetrics.meatmetrics.api.food.dto.response.FoodBarcodeResponse;
+import com.meatmetrics.meatmetrics.api.food.dto.response.FoodRankingResponse;
+import com.meatmetrics.meatmetrics.api.food.dto.response.FoodSearchResponse;
+import com.meatmetrics.meatmetrics.api.food.dto.response.FoodSubstituteResponse;
+import com.meatmetrics.meatmetrics.api.food.dto.response.FoodSummaryResponse;
+import com.meatmetrics.meatmetrics.api.food.dto.response.ItemNutritionResponse;
+import com.meatmetrics.meatmetrics.config.FoodCatalogProperties;
+import com.meatmetrics.meatmetrics.food.application.handler.CalculateFoodNutritionHandler;
+import com.meatmetrics.meatmetrics.food.application.handler.GetFoodRankingsHandler;
+import com.meatmetrics.meatmetrics.food.application.handler.GetFoodSubstitutesHandler;
+import com.meatmetrics.meatmetrics.food.application.handler.GetFoodsHandler;
+import com.meatmetrics.meatmetrics.food.application.handler.SearchFoodsHandler;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodCatalog;
+import com.meatmetrics.meatmetrics.food.domain.catalog.RankingMetric;
+import com.meatmetrics.meatmetrics.food.domain.search.FoodSearchIndex;
+import com.meatmetrics.meatmetrics.food.domain.similarity.FoodSimilarityIndex;
+
+/**
+ * 食材API Controller
+ *
+ * <p>食材マスタ（カタログ）の参照APIを提供します。
+ * 応答はインメモリのカタログ索引から生成し、リクエストごとのDBアクセスを行いません。</p>
+ *
+ * <h3>提供エンドポイント:</h3>
+ * <ul>
+ *   <li>GET /api/foods - 食材一覧</li>
+ *   <li>GET /api/foods/{id} - 食材詳細</li>
+ *   <li>GET /api/foods/{id}/nutrition - 摂取量・調理方法を指定した栄養成分</li>
+ *   <li>GET /api/foods/{id}/substitutes - 栄養成分が近い代替食材</li>
+ *   <li>GET /api/foods/barcode/{gtin} - バーコード（GTIN-13 / UPC-A）による食材検索</li>
+ *   <li>GET /api/foods/rankings - 栄養指標による食材ランキング</li>
+ *   <li>GET /api/foods/search - 食材名・タグ検索（言語別、認証済みの場合は独自食材を含む）</li>
+ *   <li>GET /api/foods/autocomplete - 食材名の入力補完（認証済みの場合はよく記録する食材を先頭に並べる）</li>
+ * </ul>
+ *
+ * <h3>HTTPキャッシュ:</h3>
+ * <ul>
+ *   <li>ETag / Last-Modified はカタログバージョン（food_catalog_version）から生成</li>
+ *   <li>If-None-Match / If-Modified-Since が一致した場合は本文なしの304</li>
+ *   <li>Cache-Control: public, max-age（nginxのproxy_cacheで共有キャッシュ可能）</li>
+ * </ul>
+ *
+ * <h3>セキュリティ設定:</h3>
+ * <ul>
+ *   <li>GET: 認証不要（食材マスタは公開データ）</li>
+ *   <li>検索・入力補完のみ、認証済みの場合はユーザー別の結果となるため共有キャッシュさせない</li>
+ * </ul>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@RestController
+@RequestMapping("/api/foods")
+public class FoodController {
+
+    private final GetFoodsHandler getFoodsHandler;
+    private final GetFoodRankingsHandler getFoodRankingsHandler;
+    private final SearchFoodsHandler searchFoodsHandler;
+    private final CalculateFoodNutritionHandler calculateFoodNutritionHandler;
+    private final GetFoodSubstitutesHandler getFoodSubstitutesHandler;
+    private final AuthenticatedUserResolver userResolver;
+    private final CacheControl catalogCacheControl;
+
+    /**
+     * コンストラクタインジェクション
+     *
+     * @param getFoodsHandler 食材参照サービス
+     * @param getFoodRankingsHandler 食材ランキング取得サービス
+     * @param searchFoodsHandler 食材検索サービス
+     * @param calculateFoodNutritionHandler 栄養成分計算サービス
+     * @param getFoodSubstitutesHandler 代替食材検索サービス
+     * @param userResolver 認証ユーザー解決（検索で独自食材を含めるため）
+     * @param foodCatalogProperties カタログ設定（max-age）
+     */
+    public FoodController(GetFoodsHandler getFoodsHandler,
+                          GetFoodRankingsHandler getFoodRankingsHandler,
+                          SearchFoodsHandler searchFoodsHandler,
+                          CalculateFoodNutritionHandler calculateFoodNutritionHandler,
+                          GetFoodSubstitutesHandler getFoodSubstitutesHandler,
+                          AuthenticatedUserResolver userResolver,
+                          FoodCatalogProperties foodCatalogProperties) {
+        this.getFoodsHandler = getFoodsHandler;
+        this.getFoodRankingsHandler = getFoodRankingsHandler;
+        this.searchFoodsHandler = searchFoodsHandler;
+        this.calculateFoodNutritionHandler = calculateFoodNutritionHandler;
+        this.getFoodSubstitutesHandler = getFoodSubstitutesHandler;
+        this.userResolver = userResolver;
+        this.catalogCacheControl = CacheControl
+                .maxAge(Duration.ofSeconds(foodCatalogProperties.getHttpMaxAgeSeconds()))
+                .cachePublic();
+    }
+
+    /**
+     * 食材一覧API
+     *
+     * @param categoryId カテゴリ条件（任意、配下のカテゴリを含む）
+     * @param tag タグ条件（任意）
+     * @param request リクエスト（条件付きGETヘッダー取得用）
+     * @return 200 OK - 食材一覧、または 304 Not Modified
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<FoodSummaryResponse>>> listFoods(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String tag,
+            WebRequest request) {
+        FoodCatalog catalog = getFoodsHandler.currentCatalog();
+        return FoodCatalogHttpCache.respond(request, catalog, catalogCacheControl, "食材一覧取得完了",
+                () -> getFoodsHandler.listFoods(catalog, categoryId, tag));
+    }
+
+    /**
+     * 食材詳細API
+     *
+     * <h3>エラーケース:</h3>
+     * <ul>
+     *   <li>404 Not Found - 食材が存在しない、または無効</li>
+     * </ul>
+     *
+     * @param id 食材ID
+     * @param request リクエスト（条件付きGETヘッダー取得用）
+     * @return 200 OK - 食材、または 304 Not Modified
+     */
+    @GetMapping("/{id:\\d+}")
+    public ResponseEntity<ApiResponse<FoodSummaryResponse>> getFood(@PathVariable long id, WebRequest request) {
+        FoodCatalog catalog = getFoodsHandler.currentCatalog();
+        // 存在しない食材は304ではなく404を返すため、キャッシュ判定より先に確認する
+        FoodSummaryResponse food = getFoodsHandler.getFood(catalog, id);
+        return FoodCatalogHttpCache.respond(request, catalog, catalogCacheControl, "食材取得完了", () -> food);
+    }
+
+    /**
+     * バーコード検索API
+     *
+     * <p>包装済み製品のバーコード（GTIN-13、または12桁のUPC-A）から食材を返します。
+     * 検索はインメモリのGTIN索引で行い、リクエストごとのDBアクセスを行いません。</p>
+     *
+     * <h3>エラーケース:</h3>
+     * <ul>
+     *   <li>400 Bad Request - 桁数・文字・チェックディジットが不正</li>
+     *   <li>404 Not Found - バーコードが登録されていない、または食材が無効</li>
+     * </ul>
+     *
+     * @param gtin バーコード（12桁または13桁の数字）
+     * @param request リクエスト（条件付きGETヘッダー取得用）
+     * @return 200 OK - バーコードと食材、または 304 Not Modified
+     */
+    @GetMapping("/barcode/{gtin}")
+    public ResponseEntity<ApiResponse<FoodBarcodeResponse>> getFoodByBarcode(@PathVariable String gtin, WebRequest request) {
+        FoodCatalog catalog = getFoodsHandler.currentCatalog();
+        // 不正・未登録のバーコードは304ではなくエラーを返すため、キャッシュ判定より先に検索する
+        FoodBarcodeResponse food = getFoodsHandler.getFoodByBarcode(catalog, gtin);
+        return FoodCatalogHttpCache.respond(request, catalog, catalogCacheControl, "バーコード検索完了", () -> food);
+    }
+
+    /**
+     * 栄養成分計算API
+     *
+     * <p>摂取量（調理後の重量）と調理方法から、食事明細として記録した場合と同じ栄養成分を返します。
+     * 調理係数（残存率 ÷ 歩留まり）はカテゴリごとに設定され、未設定のカテゴリは祖先カテゴリの値を使います。</p>
+     *
+     * <h3>エラーケース:</h3>
+     * <ul>
+     *   <li>400 Bad Request - 不明な調理方法、摂取量が範囲外（0.01〜10000g、小数2桁まで）</li>
+     *   <li>404 Not Found - 食材が存在しない、または無効</li>
+     * </ul>
+     *
+     * @param id 食材ID
+     * @param quantityG 摂取量（g、デフォルト100）
+     * @param cookingMethod 調理方法（raw, grilled, pan_fried, boiled, steamed, roasted、デフォルトraw）
+     * @param request リクエスト（条件付きGETヘッダー取得用）
+     * @return 200 OK - 栄養成分、または 304 Not Modified
+     */
+    @GetMapping("/{id:\\d+}/nutrition")
+    public ResponseEntity<ApiResponse<ItemNutritionResponse>> getNutrition(
+            @PathVariable long id,
+            @RequestParam(defaultValue = "100") @DecimalMin("0.01") @DecimalMax("10000") @Digits(integer = 5, fraction = 2) BigDecimal quantityG,
+            @RequestParam(defaultValue = "raw") String cookingMethod,
+            WebRequest request) {
+        FoodCatalog catalog = getFoodsHandler.currentCatalog();
+        // 不明な食材・調理方法は304ではなくエラーを返すため、キャッシュ判定より先に計算する
+        ItemNutritionResponse nutrition = calculateFoodNutritionHandler.calculate(catalog, id, quantityG, cookingMethod);
+        return FoodCatalogHttpCache.respond(request, catalog, catalogCacheControl, "栄養成分計算完了", () -> nutrition);
+    }
+
+    /**
+     * 代替食材API
+     *
+     * <p>カロリー・タンパク質・脂質・正味炭水化物（100gあたり）を正規化したベクトルの距離が近い食材を、
+     * インメモリのk-d木から近い順に返します。基準の食材自身は含みません。</p>
+     *
+     * <h3>エラーケース:</h3>
+     * <ul>
+     *   <li>400 Bad Request - 件数が範囲外（1〜50）</li>
+     *   <li>404 Not Found - 食材が存在しない、または無効</li>
+     * </ul>
+     *
+     * @param id 基準の食材ID
+     * @param limit 最大件数（1〜50、デフォルト10）
+     * @param categoryId カテゴリ条件（任意、配下のカテゴリを含む）
+     * @param tag タグ条件（任意）
+     * @param request リクエスト（条件付きGETヘッダー取得用）
+     * @return 200 OK - 代替食材、または 304 Not Modified
+     */
+    @GetMapping("/{id:\\d+}/substitutes")
+    public ResponseEntity<ApiResponse<FoodSubstituteResponse>> getSubstitutes(
+            @PathVariable long id,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(50) int limit,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String tag,
+            WebRequest request) {
+        FoodSimilarityIndex index = getFoodSubstitutesHandler.currentIndex();
+        // 存在しない食材は304ではなく404を返すため、キャッシュ判定より先に検索する
+        FoodSubstituteResponse substitutes = getFoodSubstitutesHandler.getSubstitutes(index, id, limit, categoryId, tag);
+        return FoodCatalogHttpCache.respond(request, index.catalog(), catalogCacheControl, "代替食材取得完了", () -> substitutes);
+    }
+
+    /**
+     * 食材ランキングAPI
+     *
+     * <p>指標ごとに事前ソートされた索引から上位N件を返します。
+     * カテゴリ・タグで絞り込んだ場合も索引を先頭から走査するだけで、ソートは発生しません。</p>
+     *
+     * <h3>エラーケース:</h3>
+     * <ul>
+     *   <li>400 Bad Request - 不明な指標、件数が範囲外（1〜100）</li>
+     * </ul>
+     *
+     * @param metric 指標（CARNIVORE, PROTEIN_PER_KCAL, FAT_TO_PROTEIN_RATIO, LOWEST_NET_CARBS）
+     * @param limit 最大件数（1〜100、デフォルト20）
+     * @param categoryId カテゴリ条件（任意、配下のカテゴリを含む）
+     * @param tag タグ条件（任意）
+     * @param request リクエスト（条件付きGETヘッダー取得用）
+     * @return 200 OK - ランキング、または 304 Not Modified
+     */
+    @GetMapping("/rankings")
+    public ResponseEntity<ApiResponse<FoodRankingResponse>> getRankings(
+            @RequestParam(defaultValue = "CARNIVORE") RankingMetric metric,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String tag,
+            WebRequest request) {
+        FoodCatalog catalog = getFoodRankingsHandler.currentCatalog();
+        return FoodCatalogHttpCache.respond(request, catalog, catalogCacheControl, "ランキング取得完了",
+                () -> getFoodRankingsHandler.getRankings(metric, limit, categoryId, tag));
+    }
+
+    /**
+     * 食材検索API
+     *
+     * <p>食材名（表記ゆれを正規化した完全一致・前方一致・部分一致）とタグで検索します。
+     * 認証済みの場合は、共有カタログの結果に自分の独自食材を同じ順序で合成して返します。</p>
+     *
+     * <p>一致が1件もない場合は、編集距離2以内の食材名・タグを「もしかして」候補（suggestions）として返し、
+     * 最も近い候補で検索し直した結果を items に、その候補を correctedQuery に設定します。</p>
+     *
+     * <p>食材名は言語別（ja, en）に検索・表示します。言語は認証済みユーザーの表示言語設定、
+     * 未設定または未認証の場合は Accept-Language で決まり、応答の Content-Language に設定されます。</p>
+     *
+     * <h3>エラーケース:</h3>
+     * <ul>
+     *   <li>400 Bad Request - 件数が範囲外（1〜50）</li>
+     * </ul>
+     *
+     * @param q 検索語
+     * @param limit 最大件数（1〜50、デフォルト20）
+     * @param acceptLanguage Accept-Language（任意）
+     * @param request リクエスト（条件付きGETヘッダー取得用）
+     * @param httpRequest HTTPリクエスト（任意の認証トークン取得用）
+     * @return 200 OK - 検索結果、または 304 Not Modified（未認証時のみ）
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<FoodSearchResponse>> searchFoods(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(50) int limit,
+            @RequestHeader(value = HttpHeaders.ACCEPT_LANGUAGE, required = false) String acceptLanguage,
+            WebRequest request,
+            HttpServletRequest httpRequest) {
+        Long userId = userResolver.resolveOptionalUserId(httpRequest).orElse(null);
+        String locale = searchFoodsHandler.resolveLocale(userId, acceptLanguage);
+        FoodSearchIndex index = searchFoodsHandler.currentIndex(locale);
+        if (userId == null) {
+            return FoodCatalogHttpCache.respond(request, index.catalog(), locale, catalogCacheControl, "食材検索完了",
+                    () -> searchFoodsHandler.search(index, q, limit, null));
+        }
+        // 独自食材を含む結果はユーザーごとに異なるため、共有キャッシュにもETag判定にも載せない
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .header(HttpHeaders.CONTENT_LANGUAGE, locale)
+                .body(ApiResponse.success("食材検索完了", searchFoodsHandler.search(index, q, limit, userId)));
+    }
+
+    /**
+     * 食材名の入力補完API
+     *
+     * <p>食材名・読みの前方一致で候補を返します。認証済みの場合は、自分がよく記録する食材
+     * （記録回数を半減期で減衰させた頻度の高い順）のうち前方一致するものを先頭に並べ、
+     * 残りを通常の一致順と自分の独自食材で埋めます。よく記録する食材はメモリ上で保持しており、
+     * 1文字目の入力から集計クエリなしで返ります。検索語が空の場合はよく記録する食材だけを返します。</p>
+     *
+     * <h3>エラーケース:</h3>
+     * <ul>
+     *   <li>400 Bad Request - 件数が範囲外（1〜20）</li>
+     * </ul>
+     *
+     * @param q 入力途中の検索語（省略時は空）
+     * @param limit 最大件数（1〜20、デフォルト10）
+     * @param acceptLanguage Accept-Language（任意）
+     * @param request リクエスト（条件付きGETヘッダー取得用）
+     * @param httpRequest HTTPリクエスト（任意の認証トークン取得用）
+     * @return 200 OK - 候補、または 304 Not Modified（未認証時のみ）
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<ApiResponse<FoodAutocompleteResponse>> autocompleteFoods(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(20) int limit,
+            @RequestHeader(value = HttpHeaders.ACCEPT_LANGUAGE, required = false) String acceptLanguage,
+            WebRequest request,
+            HttpServletRequest httpRequest) {
+        Long userId = userResolver.resolveOptionalUserId(httpRequest).orElse(null);
+        String locale = searchFoodsHandler.resolveLocale(userId, acceptLanguage);
+        FoodSearchIndex index = searchFoodsHandler.currentIndex(locale);
+        if (userId == null) {
+            return FoodCatalogHttpCache.respond(request, index.catalog(), locale, catalogCacheControl, "入力補完完了",
+                    () -> searchFoodsHandler.autocomplete(index, q, limit, null));
+        }
+        // よく記録する食材はユーザーごと・記録のたびに変わるため、共有キャッシュにもETag判定にも載せない
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .header(HttpHeaders.CONTENT_LANGUAGE, locale)
+                .body(ApiResponse.success("入力補完完了", searchFoodsHandler.autocomplete(index, q, limit, userId)));
+    }
+}
@@ -0,0 +1,135 @@
+package com.meatmetrics.meatmetrics.api.food;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+import com.meatmetrics.meatmetrics.api.common.ApiResponse;
+import com.meatmetrics.meatmetrics.api.food.dto.response.ReferenceFoodResponse;
+import com.meatmetrics.meatmetrics.api.food.dto.response.ReferenceNutrientRankingResponse;
+import com.meatmetrics.meatmetrics.config.FoodCatalogProperties;
+import com.meatmetrics.meatmetrics.food.application.handler.GetReferenceFoodsHandler;
+import com.meatmetrics.meatmetrics.food.infrastructure.reference.ReferenceDb;
+
+/**
+ * 参照データベース（食品成分表）API Controller
+ *
+ * <p>食材マスタ（foods）とは別に配布する大規模な食品成分表を、メモリマップしたファイルから返します。</p>
+ *
+ * <h3>提供エンドポイント:</h3>
+ * <ul>
+ *   <li>GET /api/foods/reference/{code} - 食品コードによる参照</li>
+ *   <li>GET /api/foods/reference/rankings - 栄養素の値が大きい順の食品</li>
+ * </ul>
+ *
+ * <h3>HTTPキャッシュ:</h3>
+ * <ul>
+ *   <li>弱いETag をファイルのデータセットバージョンから生成（If-None-Match が一致した場合は304）</li>
+ * </ul>
+ *
+ * <h3>セキュリティ設定:</h3>
+ * <ul>
+ *   <li>GET: 認証不要（公開データ）</li>
+ * </ul>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@RestController
+@RequestMapping("/api/foods/reference")
+public class ReferenceFoodController {
+
+    private final GetReferenceFoodsHandler getReferenceFoodsHandler;
+    private final CacheControl cacheControl;
+
+    /**
+     * コンストラクタインジェクション
+     *
+     * @param getReferenceFoodsHandler 参照データベース参照サービス
+     * @param foodCatalogProperties カタログ設定（max-age）
+     */
+    public ReferenceFoodController(GetReferenceFoodsHandler getReferenceFoodsHandler,
+                                   FoodCatalogProperties foodCatalogProperties) {
+        this.getReferenceFoodsHandler = getReferenceFoodsHandler;
+        this.cacheControl = CacheControl
+                .maxAge(Duration.ofSeconds(foodCatalogProperties.getHttpMaxAgeSeconds()))
+                .cachePublic();
+    }
+
+    /**
+     * 食品参照API
+     *
+     * <h3>エラーケース:</h3>
+     * <ul>
+     *   <li>404 Not Found - 食品が存在しない、または参照データベースが未設定</li>
+     * </ul>
+     *
+     * @param code 食品コード
+     * @param request リクエスト（条件付きGETヘッダー取得用）
+     * @return 200 OK - 食品、または 304 Not Modified
+     */
+    @GetMapping("/{code:[A-Za-z0-9_-]{1,32}}")
+    public ResponseEntity<ApiResponse<ReferenceFoodResponse>> getFood(@PathVariable String code, WebRequest request) {
+        ReferenceDb db = getReferenceFoodsHandler.currentDb();
+        ReferenceFoodResponse food = getReferenceFoodsHandler.getFood(db, code);
+        return respond(request, db, "参照食品取得完了", () -> food);
+    }
+
+    /**
+     * 栄養素ランキングAPI
+     *
+     * <p>全食品のレコードをマップ上で走査し、指定栄養素の値が大きい順に返します（欠測の食品は除外）。</p>
+     *
+     * <h3>エラーケース:</h3>
+     * <ul>
+     *   <li>400 Bad Request - 定義されていない栄養素、件数が範囲外（1〜100）</li>
+     *   <li>404 Not Found - 参照データベースが未設定</li>
+     * </ul>
+     *
+     * @param nutrient 栄養素コード（例: protein_g）
+     * @param limit 最大件数（1〜100、デフォルト20）
+     * @param request リクエスト（条件付きGETヘッダー取得用）
+     * @return 200 OK - ランキング、または 304 Not Modified
+     */
+    @GetMapping("/rankings")
+    public ResponseEntity<ApiResponse<ReferenceNutrientRankingResponse>> getRankings(
+            @RequestParam String nutrient,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit,
+            WebRequest request) {
+        ReferenceDb db = getReferenceFoodsHandler.currentDb();
+        // 不明な栄養素は304ではなく400を返すため、キャッシュ判定より先に確認する
+        int nutrientIndex = getReferenceFoodsHandler.nutrientIndex(db, nutrient);
+        return respond(request, db, "参照栄養素ランキング取得完了",
+                () -> getReferenceFoodsHandler.getRankings(db, nutrientIndex, limit));
+    }
+
+    /**
+     * 条件付きGETに応答する
+     *
+     * <p>応答の timestamp は毎回変わるため、バイト単位の一致を要求しない弱いETagを使います。</p>
+     */
+    private <T> ResponseEntity<ApiResponse<T>> respond(WebRequest request, ReferenceDb db, String message, Supplier<T> body) {
+        String opaqueTag = "\"reference-" + db.datasetVersion() + "\"";
+        String etag = "W/" + opaqueTag;
+        if (FoodCatalogHttpCache.isNotModified(request.getHeader(HttpHeaders.IF_NONE_MATCH), null, opaqueTag, null)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .body(ApiResponse.success(message, body.get()));
+    }
+}
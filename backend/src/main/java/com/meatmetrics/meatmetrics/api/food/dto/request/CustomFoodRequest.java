@@ -0,0 +1,105 @@
+package com.meatmetrics.meatmetrics.api.food.dto.request;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import com.meatmetrics.meatmetrics.food.application.command.AddCustomFoodCommand;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * ユーザー独自食材登録リクエストDTO
+ *
+ * <p>POST /api/foods/custom のリクエストボディを受け取るためのDTO。
+ * 栄養成分は100gあたりの値で、範囲は食材マスタ（foods）と同じです。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public class CustomFoodRequest {
+
+    /** 食材名（必須、255文字以内） */
+    @NotBlank(message = "食材名は必須です")
+    @Size(max = 255, message = "食材名は255文字以内で入力してください")
+    private String name;
+
+    /** カテゴリID（任意） */
+    private Long categoryId;
+
+    /** 100gあたりカロリー（必須、0〜2000kcal） */
+    @NotNull(message = "カロリーは必須です")
+    @Min(value = 0, message = "カロリーは0以上で入力してください")
+    @Max(value = 2000, message = "カロリーは2000以下で入力してください")
+    private Integer caloriesPer100g;
+
+    /** 100gあたりタンパク質（必須、0〜200g） */
+    @NotNull(message = "タンパク質は必須です")
+    @DecimalMin(value = "0", message = "タンパク質は0以上で入力してください")
+    @DecimalMax(value = "200", message = "タンパク質は200以下で入力してください")
+    private BigDecimal proteinGPer100g;
+
+    /** 100gあたり脂質（必須、0〜200g） */
+    @NotNull(message = "脂質は必須です")
+    @DecimalMin(value = "0", message = "脂質は0以上で入力してください")
+    @DecimalMax(value = "200", message = "脂質は200以下で入力してください")
+    private BigDecimal fatGPer100g;
+
+    /** 100gあたり炭水化物（必須、0〜200g） */
+    @NotNull(message = "炭水化物は必須です")
+    @DecimalMin(value = "0", message = "炭水化物は0以上で入力してください")
+    @DecimalMax(value = "200", message = "炭水化物は200以下で入力してください")
+    private BigDecimal carbohydratesGPer100g;
+
+    /** 100gあたり食物繊維（任意、0〜炭水化物） */
+    @DecimalMin(value = "0", message = "食物繊維は0以上で入力してください")
+    private BigDecimal fiberGPer100g;
+
+    /** タグ（任意、20件まで） */
+    @Size(max = 20, message = "タグは20件まで指定できます")
+    private List<String> tags;
+
+    /** デフォルトコンストラクタ（Jackson用） */
+    public CustomFoodRequest() {}
+
+    /**
+     * AddCustomFoodCommandに変換
+     *
+     * @param userId 認証済みユーザーID
+     * @return AddCustomFoodCommand
+     */
+    public AddCustomFoodCommand toCommand(Long userId) {
+        List<String> normalizedTags = tags == null ? List.of() : tags.stream()
+                .filter(tag -> tag != null && !tag.isBlank())
+                .map(String::trim)
+                .distinct()
+                .toList();
+        return new AddCustomFoodCommand(userId, name == null ? null : name.trim(), categoryId, caloriesPer100g,
+                proteinGPer100g, fatGPer100g, carbohydratesGPer100g, fiberGPer100g, normalizedTags);
+    }
+
+    // Getters
+    public String getName() { return name; }
+    public Long getCategoryId() { return categoryId; }
+    public Integer getCaloriesPer100g() { return caloriesPer100g; }
+    public BigDecimal getProteinGPer100g() { return proteinGPer100g; }
+    public BigDecimal getFatGPer100g() { return fatGPer100g; }
+    public BigDecimal getCarbohydratesGPer100g() { return carbohydratesGPer100g; }
+    public BigDecimal getFiberGPer100g() { return fiberGPer100g; }
+    public List<String> getTags() { return tags; }
+
+    // Setters（Jackson用）
+    public void setName(String name) { this.name = name; }
+    public void setCategoryId(Long categoryId) { this.categoryId = categoryId; }
+    public void setCaloriesPer100g(Integer caloriesPer100g) { this.caloriesPer100g = caloriesPer100g; }
+    public void setProteinGPer100g(BigDecimal proteinGPer100g) { this.proteinGPer100g = proteinGPer100g; }
+    public void setFatGPer100g(BigDecimal fatGPer100g) { this.fatGPer100g = fatGPer100g; }
+    public void setCarbohydratesGPer100g(BigDecimal carbohydratesGPer100g) { this.carbohydratesGPer100g = carbohydratesGPer100g; }
+    public void setFiberGPer100g(BigDecimal fiberGPer100g) { this.fiberGPer100g = fiberGPer100g; }
+    public void setTags(List<String> tags) { this.tags = tags; }
+}
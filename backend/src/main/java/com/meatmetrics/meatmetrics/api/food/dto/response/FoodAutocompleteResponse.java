@@ -0,0 +1,53 @@
+package com.meatmetrics.meatmetrics.api.food.dto.response;
+
+import java.util.List;
+
+import com.meatmetrics.meatmetrics.food.domain.search.FoodSearchIndex.Match;
+
+/**
+ * 食材入力補完結果DTO
+ *
+ * <p>GET /api/foods/autocomplete のレスポンスデータです。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public class FoodAutocompleteResponse {
+
+    /** 入力途中の検索語 */
+    private String query;
+
+    /** 候補（先頭の frequentCount 件はユーザーのよく使う順、残りは一致の強い順） */
+    private List<FoodSummaryResponse> items;
+
+    /** items のうち、ユーザーの記録頻度で並べた先頭の件数 */
+    private int frequentCount;
+
+    /** デフォルトコンストラクタ（Jackson用） */
+    public FoodAutocompleteResponse() {}
+
+    /**
+     * 入力補完結果からDTOを生成するファクトリメソッド
+     *
+     * @param query 検索語
+     * @param matches 候補
+     * @param frequentCount 記録頻度で並べた先頭の件数
+     * @return FoodAutocompleteResponse DTO
+     */
+    public static FoodAutocompleteResponse from(String query, List<Match> matches, int frequentCount) {
+        FoodAutocompleteResponse response = new FoodAutocompleteResponse();
+        response.query = query;
+        response.items = matches.stream()
+                .map(match -> match.custom()
+                        ? FoodSummaryResponse.fromCustom(match.food())
+                        : FoodSummaryResponse.from(match.food()))
+                .toList();
+        response.frequentCount = frequentCount;
+        return response;
+    }
+
+    // Getters
+    public String getQuery() { return query; }
+    public List<FoodSummaryResponse> getItems() { return items; }
+    public int getFrequentCount() { return frequentCount; }
+}
@@ -0,0 +1,42 @@
+package com.meatmetrics.meatmetrics.api.food.dto.response;
+
+import com.meatmetrics.meatmetrics.food.domain.barcode.Gtin;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodSnapshot;
+
+/**
+ * バーコード検索結果DTO
+ *
+ * <p>GET /api/foods/barcode/{gtin} のレスポンスデータです。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public class FoodBarcodeResponse {
+
+    /** GTIN-13（13桁、12桁のUPC-Aで検索した場合も先頭に0を補う） */
+    private String gtin;
+
+    /** 食材 */
+    private FoodSummaryResponse food;
+
+    /** デフォルトコンストラクタ（Jackson用） */
+    public FoodBarcodeResponse() {}
+
+    /**
+     * GTINと食材からDTOを生成するファクトリメソッド
+     *
+     * @param gtin GTIN-13
+     * @param food 食材
+     * @return FoodBarcodeResponse DTO
+     */
+    public static FoodBarcodeResponse from(long gtin, FoodSnapshot food) {
+        FoodBarcodeResponse response = new FoodBarcodeResponse();
+        response.gtin = Gtin.format(gtin);
+        response.food = FoodSummaryResponse.from(food);
+        return response;
+    }
+
+    // Getters
+    public String getGtin() { return gtin; }
+    public FoodSummaryResponse getFood() { return food; }
+}
@@ -0,0 +1,77 @@
+package com.meatmetrics.meatmetrics.api.food.dto.response;
+
+import java.util.List;
+
+import com.meatmetrics.meatmetrics.food.infrastructure.importer.FoodImportReport;
+
+/**
+ * 食材一括インポート結果DTO
+ *
+ * <p>POST /api/admin/foods/import のレスポンスデータです。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public class FoodImportResponse {
+
+    /**
+     * 行単位の検証エラー
+     *
+     * @param line 入力上の行番号
+     * @param message エラー内容
+     */
+    public record RowError(long line, String message) {}
+
+    /** 読み込んだ総行数 */
+    private long totalRows;
+
+    /** 検証を通過した行数 */
+    private long acceptedRows;
+
+    /** 検証で除外した行数 */
+    private long rejectedRows;
+
+    /** 新規追加された食材数 */
+    private long insertedFoods;
+
+    /** 更新された食材数 */
+    private long updatedFoods;
+
+    /** 処理時間（ミリ秒） */
+    private long elapsedMs;
+
+    /** 行エラー（先頭100件まで） */
+    private List<RowError> errors;
+
+    /** デフォルトコンストラクタ（Jackson用） */
+    public FoodImportResponse() {}
+
+    /**
+     * インポート結果からDTOを生成するファクトリメソッド
+     *
+     * @param report インポート結果
+     * @return FoodImportResponse DTO
+     */
+    public static FoodImportResponse from(FoodImportReport report) {
+        FoodImportResponse response = new FoodImportResponse();
+        response.totalRows = report.getTotalRows();
+        response.acceptedRows = report.getStagedRows();
+        response.rejectedRows = report.getRejectedRows();
+        response.insertedFoods = report.getInsertedFoods();
+        response.updatedFoods = report.getUpdatedFoods();
+        response.elapsedMs = report.getElapsedMs();
+        response.errors = report.getErrors().stream()
+                .map(error -> new RowError(error.lineNo(), error.message()))
+                .toList();
+        return response;
+    }
+
+    // Getters
+    public long getTotalRows() { return totalRows; }
+    public long getAcceptedRows() { return acceptedRows; }
+    public long getRejectedRows() { return rejectedRows; }
+    public long getInsertedFoods() { return insertedFoods; }
+    public long getUpdatedFoods() { return updatedFoods; }
+    public long getElapsedMs() { return elapsedMs; }
+    public List<RowError> getErrors() { return errors; }
+}
@@ -0,0 +1,71 @@
+package com.meatmetrics.meatmetrics.api.food.dto.response;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodRankingIndex.RankedFood;
+import com.meatmetrics.meatmetrics.food.domain.catalog.RankingMetric;
+
+/**
+ * 食材ランキングDTO
+ *
+ * <p>GET /api/foods/rankings のレスポンスデータです。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public class FoodRankingResponse {
+
+    /**
+     * ランキングの1件
+     *
+     * @param rank 順位（1始まり）
+     * @param value 指標値（小数第4位まで）
+     * @param food 食材
+     */
+    public record Item(int rank, BigDecimal value, FoodSummaryResponse food) {}
+
+    /** 指標 */
+    private String metric;
+
+    /** 絞り込みカテゴリID（未指定の場合null） */
+    private Long categoryId;
+
+    /** 絞り込みタグ（未指定の場合null） */
+    private String tag;
+
+    /** ランキング */
+    private List<Item> items;
+
+    /** デフォルトコンストラクタ（Jackson用） */
+    public FoodRankingResponse() {}
+
+    /**
+     * ランキング結果からDTOを生成するファクトリメソッド
+     *
+     * @param metric 指標
+     * @param categoryId 絞り込みカテゴリID
+     * @param tag 絞り込みタグ
+     * @param ranked ランキング結果
+     * @return FoodRankingResponse DTO
+     */
+    public static FoodRankingResponse from(RankingMetric metric, Long categoryId, String tag, List<RankedFood> ranked) {
+        FoodRankingResponse response = new FoodRankingResponse();
+        response.metric = metric.name();
+        response.categoryId = categoryId;
+        response.tag = tag;
+        response.items = ranked.stream()
+                .map(r -> new Item(r.rank(),
+                        BigDecimal.valueOf(r.value()).setScale(4, RoundingMode.HALF_UP),
+                        FoodSummaryResponse.from(r.food())))
+                .toList();
+        return response;
+    }
+
+    // Getters
+    public String getMetric() { return metric; }
+    public Long getCategoryId() { return categoryId; }
+    public String getTag() { return tag; }
+    public List<Item> getItems() { return items; }
+}
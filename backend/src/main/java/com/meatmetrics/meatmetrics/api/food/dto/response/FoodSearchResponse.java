@@ -0,0 +1,68 @@
+package com.meatmetrics.meatmetrics.api.food.dto.response;
+
+import java.util.List;
+
+import com.meatmetrics.meatmetrics.food.domain.search.FoodSearchIndex.Match;
+
+/**
+ * 食材検索結果DTO
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public class FoodSearchResponse {
+
+    /** 検索語 */
+    private String query;
+
+    /** 元の検索語で一致がなく、訂正候補で検索し直した場合のその候補（それ以外はnull） */
+    private String correctedQuery;
+
+    /** 一致した食材（一致の強い順、ユーザー独自食材を含む） */
+    private List<FoodSummaryResponse> items;
+
+    /** 「もしかして」候補（元の検索語で一致がなかった場合のみ、綴りの近い順） */
+    private List<String> suggestions;
+
+    /** デフォルトコンストラクタ（Jackson用） */
+    public FoodSearchResponse() {}
+
+    /**
+     * 検索結果からDTOを生成するファクトリメソッド
+     *
+     * @param query 検索語
+     * @param matches 検索結果
+     * @return FoodSearchResponse DTO
+     */
+    public static FoodSearchResponse from(String query, List<Match> matches) {
+        return from(query, matches, null, List.of());
+    }
+
+    /**
+     * 訂正候補による再検索を含む検索結果からDTOを生成するファクトリメソッド
+     *
+     * @param query 検索語
+     * @param matches 検索結果（訂正候補で検索し直した場合はその結果）
+     * @param correctedQuery 検索し直した訂正候補（nullの場合は元の検索語の結果）
+     * @param suggestions 訂正候補
+     * @return FoodSearchResponse DTO
+     */
+    public static FoodSearchResponse from(String query, List<Match> matches, String correctedQuery, List<String> suggestions) {
+        FoodSearchResponse response = new FoodSearchResponse();
+        response.query = query;
+        response.correctedQuery = correctedQuery;
+        response.items = matches.stream()
+                .map(match -> match.custom()
+                        ? FoodSummaryResponse.fromCustom(match.food())
+                        : FoodSummaryResponse.from(match.food()))
+                .toList();
+        response.suggestions = List.copyOf(suggestions);
+        return response;
+    }
+
+    // Getters
+    public String getQuery() { return query; }
+    public String getCorrectedQuery() { return correctedQuery; }
+    public List<FoodSummaryResponse> getItems() { return items; }
+    public List<String> getSuggestions() { return suggestions; }
+}
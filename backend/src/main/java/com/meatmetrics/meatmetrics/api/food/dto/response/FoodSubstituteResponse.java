@@ -0,0 +1,69 @@
+package com.meatmetrics.meatmetrics.api.food.dto.response;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodSnapshot;
+import com.meatmetrics.meatmetrics.food.domain.similarity.FoodSimilarityIndex.Neighbour;
+
+/**
+ * 代替食材DTO
+ *
+ * <p>GET /api/foods/{id}/substitutes のレスポンスデータです。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public class FoodSubstituteResponse {
+
+    /**
+     * 代替食材の1件
+     *
+     * @param distance 栄養成分の距離（正規化後、小数第4位まで、0に近いほど似ている）
+     * @param food 食材
+     */
+    public record Item(BigDecimal distance, FoodSummaryResponse food) {}
+
+    /** 基準の食材 */
+    private FoodSummaryResponse base;
+
+    /** 絞り込みカテゴリID（未指定の場合null） */
+    private Long categoryId;
+
+    /** 絞り込みタグ（未指定の場合null） */
+    private String tag;
+
+    /** 代替食材（近い順） */
+    private List<Item> items;
+
+    /** デフォルトコンストラクタ（Jackson用） */
+    public FoodSubstituteResponse() {}
+
+    /**
+     * 近傍探索の結果からDTOを生成するファクトリメソッド
+     *
+     * @param base 基準の食材
+     * @param categoryId 絞り込みカテゴリID
+     * @param tag 絞り込みタグ
+     * @param neighbours 近傍探索の結果
+     * @return FoodSubstituteResponse DTO
+     */
+    public static FoodSubstituteResponse from(FoodSnapshot base, Long categoryId, String tag, List<Neighbour> neighbours) {
+        FoodSubstituteResponse response = new FoodSubstituteResponse();
+        response.base = FoodSummaryResponse.from(base);
+        response.categoryId = categoryId;
+        response.tag = tag;
+        response.items = neighbours.stream()
+                .map(n -> new Item(BigDecimal.valueOf(n.distance()).setScale(4, RoundingMode.HALF_UP),
+                        FoodSummaryResponse.from(n.food())))
+                .toList();
+        return response;
+    }
+
+    // Getters
+    public FoodSummaryResponse getBase() { return base; }
+    public Long getCategoryId() { return categoryId; }
+    public String getTag() { return tag; }
+    public List<Item> getItems() { return items; }
+}
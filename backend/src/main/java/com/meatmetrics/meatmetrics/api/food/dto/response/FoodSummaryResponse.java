@@ -0,0 +1,95 @@
+package com.meatmetrics.meatmetrics.api.food.dto.response;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodSnapshot;
+
+/**
+ * 食材概要DTO
+ *
+ * <p>食材の基本情報と100gあたりの栄養成分を返します。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public class FoodSummaryResponse {
+
+    /** 食材ID */
+    private Long id;
+
+    /** 食材名 */
+    private String name;
+
+    /** カテゴリID */
+    private Long categoryId;
+
+    /** 100gあたりカロリー（kcal） */
+    private Integer caloriesPer100g;
+
+    /** 100gあたりタンパク質（g） */
+    private BigDecimal proteinGPer100g;
+
+    /** 100gあたり脂質（g） */
+    private BigDecimal fatGPer100g;
+
+    /** 100gあたり炭水化物（g） */
+    private BigDecimal carbohydratesGPer100g;
+
+    /** 100gあたり食物繊維（g） */
+    private BigDecimal fiberGPer100g;
+
+    /** タグ */
+    private List<String> tags;
+
+    /** ユーザー独自食材の場合true */
+    private boolean custom;
+
+    /** デフォルトコンストラクタ（Jackson用） */
+    public FoodSummaryResponse() {}
+
+    /**
+     * カタログの食材からDTOを生成するファクトリメソッド
+     *
+     * @param food 食材
+     * @return FoodSummaryResponse DTO
+     */
+    public static FoodSummaryResponse from(FoodSnapshot food) {
+        FoodSummaryResponse response = new FoodSummaryResponse();
+        response.id = food.id();
+        response.name = food.name();
+        response.categoryId = food.categoryId();
+        response.caloriesPer100g = food.caloriesPer100g();
+        response.proteinGPer100g = food.proteinG();
+        response.fatGPer100g = food.fatG();
+        response.carbohydratesGPer100g = food.carbohydratesG();
+        response.fiberGPer100g = food.fiberG();
+        response.tags = food.tags();
+        return response;
+    }
+
+    /**
+     * ユーザー独自食材からDTOを生成するファクトリメソッド
+     *
+     * @param food 独自食材（categoryIdが0の場合はカテゴリなし）
+     * @return FoodSummaryResponse DTO
+     */
+    public static FoodSummaryResponse fromCustom(FoodSnapshot food) {
+        FoodSummaryResponse response = from(food);
+        response.categoryId = food.categoryId() == 0 ? null : food.categoryId();
+        response.custom = true;
+        return response;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public String getName() { return name; }
+    public Long getCategoryId() { return categoryId; }
+    public Integer getCaloriesPer100g() { return caloriesPer100g; }
+    public BigDecimal getProteinGPer100g() { return proteinGPer100g; }
+    public BigDecimal getFatGPer100g() { return fatGPer100g; }
+    public BigDecimal getCarbohydratesGPer100g() { return carbohydratesGPer100g; }
+    public BigDecimal getFiberGPer100g() { return fiberGPer100g; }
+    public List<String> getTags() { return tags; }
+    public boolean isCustom() { return custom; }
+}
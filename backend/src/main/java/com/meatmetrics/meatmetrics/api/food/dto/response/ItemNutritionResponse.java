@@ -0,0 +1,80 @@
+package com.meatmetrics.meatmetrics.api.food.dto.response;
+
+import java.math.BigDecimal;
+
+import com.meatmetrics.meatmetrics.food.domain.cooking.CookingFactors;
+import com.meatmetrics.meatmetrics.food.domain.cooking.CookingMethod;
+import com.meatmetrics.meatmetrics.food.domain.nutrition.ItemNutrition;
+
+/**
+ * 摂取量・調理方法を指定した栄養成分DTO
+ *
+ * <p>GET /api/foods/{id}/nutrition のレスポンスデータです。
+ * 値は食事明細として記録した場合に meal_items へ保存される値と一致します。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public class ItemNutritionResponse {
+
+    /** 食材ID */
+    private Long foodId;
+
+    /** 摂取量（調理後のg） */
+    private BigDecimal quantityG;
+
+    /** 調理方法 */
+    private String cookingMethod;
+
+    /** 適用した調理係数 */
+    private CookingFactors factors;
+
+    /** カロリー（kcal） */
+    private Integer calories;
+
+    /** タンパク質（g） */
+    private BigDecimal proteinG;
+
+    /** 脂質（g） */
+    private BigDecimal fatG;
+
+    /** 正味炭水化物（g） */
+    private BigDecimal netCarbsG;
+
+    /** デフォルトコンストラクタ（Jackson用） */
+    public ItemNutritionResponse() {}
+
+    /**
+     * 計算結果からDTOを生成するファクトリメソッド
+     *
+     * @param foodId 食材ID
+     * @param quantityG 摂取量
+     * @param method 調理方法
+     * @param factors 適用した調理係数
+     * @param nutrition 計算結果
+     * @return ItemNutritionResponse DTO
+     */
+    public static ItemNutritionResponse from(long foodId, BigDecimal quantityG, CookingMethod method,
+                                             CookingFactors factors, ItemNutrition nutrition) {
+        ItemNutritionResponse response = new ItemNutritionResponse();
+        response.foodId = foodId;
+        response.quantityG = quantityG;
+        response.cookingMethod = method.code();
+        response.factors = factors;
+        response.calories = nutrition.calories();
+        response.proteinG = nutrition.proteinG();
+        response.fatG = nutrition.fatG();
+        response.netCarbsG = nutrition.netCarbsG();
+        return response;
+    }
+
+    // Getters
+    public Long getFoodId() { return foodId; }
+    public BigDecimal getQuantityG() { return quantityG; }
+    public String getCookingMethod() { return cookingMethod; }
+    public CookingFactors getFactors() { return factors; }
+    public Integer getCalories() { return calories; }
+    public BigDecimal getProteinG() { return proteinG; }
+    public BigDecimal getFatG() { return fatG; }
+    public BigDecimal getNetCarbsG() { return netCarbsG; }
+}
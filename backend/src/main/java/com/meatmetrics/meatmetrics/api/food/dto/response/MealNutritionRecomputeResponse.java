@@ -0,0 +1,83 @@
+package com.meatmetrics.meatmetrics.api.food.dto.response;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.meatmetrics.meatmetrics.meal.infrastructure.recompute.RecomputeJobState;
+
+/**
+ * 栄養成分の一括再計算ジョブDTO
+ *
+ * <p>POST/GET /api/admin/foods/nutrition-recompute のレスポンスデータです。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public class MealNutritionRecomputeResponse {
+
+    /** ジョブID */
+    private long jobId;
+
+    /** 対象の食材ID（空の場合は全食材） */
+    private List<Long> foodIds;
+
+    /** 状態（RUNNING, COMPLETED, FAILED） */
+    private String status;
+
+    /** チェックポイント（処理済みの最大の明細ID） */
+    private long lastMealItemId;
+
+    /** 再計算した明細数 */
+    private long processedItems;
+
+    /** 合計を更新した食事数（チャンクごとの延べ数） */
+    private long updatedMeals;
+
+    /** 失敗時のエラー内容 */
+    private String error;
+
+    /** 開始日時 */
+    private Instant startedAt;
+
+    /** 最終更新日時 */
+    private Instant updatedAt;
+
+    /** 終了日時 */
+    private Instant finishedAt;
+
+    /** デフォルトコンストラクタ（Jackson用） */
+    public MealNutritionRecomputeResponse() {}
+
+    /**
+     * ジョブの状態からDTOを生成するファクトリメソッド
+     *
+     * @param job ジョブの状態
+     * @return MealNutritionRecomputeResponse DTO
+     */
+    public static MealNutritionRecomputeResponse from(RecomputeJobState job) {
+        MealNutritionRecomputeResponse response = new MealNutritionRecomputeResponse();
+        response.jobId = job.id();
+        response.foodIds = job.foodIds();
+        response.status = job.status();
+        response.lastMealItemId = job.lastMealItemId();
+        response.processedItems = job.processedItems();
+        response.updatedMeals = job.updatedMeals();
+        response.error = job.error();
+        response.startedAt = job.startedAt();
+        response.updatedAt = job.updatedAt();
+        response.finishedAt = job.finishedAt();
+        return response;
+    }
+
+    // Getters
+    public long getJobId() { return jobId; }
+    public List<Long> getFoodIds() { return foodIds; }
+    public String getStatus() { return status; }
+    public long getLastMealItemId() { return lastMealItemId; }
+    public long getProcessedItems() { return processedItems; }
+    public long getUpdatedMeals() { return updatedMeals; }
+    public String getError() { return error; }
+    public Instant getStartedAt() { return startedAt; }
+    public Instant getUpdatedAt() { return updatedAt; }
+    public Instant getFinishedAt() { return finishedAt; }
+}
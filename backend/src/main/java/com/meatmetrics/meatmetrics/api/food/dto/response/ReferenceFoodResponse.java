@@ -0,0 +1,82 @@
+package com.meatmetrics.meatmetrics.api.food.dto.response;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meatmetrics.meatmetrics.food.infrastructure.reference.ReferenceDb;
+import com.meatmetrics.meatmetrics.food.infrastructure.reference.ReferenceNutrient;
+
+/**
+ * 参照データベース（食品成分表）の食品DTO
+ *
+ * <p>GET /api/foods/reference/{code} のレスポンスデータです。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public class ReferenceFoodResponse {
+
+    /**
+     * 栄養素の値
+     *
+     * @param code 栄養素コード
+     * @param unit 単位
+     * @param value 値（欠測の場合null）
+     */
+    public record NutrientValue(String code, String unit, BigDecimal value) {}
+
+    /** 食品コード */
+    private String code;
+
+    /** 食品名 */
+    private String name;
+
+    /** データセットバージョン */
+    private Long datasetVersion;
+
+    /** 栄養素（参照データベースの定義順） */
+    private List<NutrientValue> nutrients;
+
+    /** デフォルトコンストラクタ（Jackson用） */
+    public ReferenceFoodResponse() {}
+
+    /**
+     * 参照データベースのレコードからDTOを生成するファクトリメソッド
+     *
+     * @param db 参照データベース
+     * @param record レコード番号
+     * @return ReferenceFoodResponse DTO
+     */
+    public static ReferenceFoodResponse from(ReferenceDb db, int record) {
+        ReferenceFoodResponse response = new ReferenceFoodResponse();
+        response.code = db.code(record);
+        response.name = db.name(record);
+        response.datasetVersion = db.datasetVersion();
+        List<ReferenceNutrient> definitions = db.nutrients();
+        List<NutrientValue> values = new ArrayList<>(definitions.size());
+        for (int n = 0; n < definitions.size(); n++) {
+            ReferenceNutrient nutrient = definitions.get(n);
+            values.add(new NutrientValue(nutrient.code(), nutrient.unit(), decimal(db.value(record, n), nutrient.scale())));
+        }
+        response.nutrients = values;
+        return response;
+    }
+
+    /**
+     * 参照データベースの整数値を小数に戻す
+     *
+     * @param raw {@code 10^scale} 倍した整数値
+     * @param scale 小数桁数
+     * @return 値（欠測の場合null）
+     */
+    static BigDecimal decimal(int raw, int scale) {
+        return raw == ReferenceDb.MISSING ? null : BigDecimal.valueOf(raw, scale);
+    }
+
+    // Getters
+    public String getCode() { return code; }
+    public String getName() { return name; }
+    public Long getDatasetVersion() { return datasetVersion; }
+    public List<NutrientValue> getNutrients() { return nutrients; }
+}
@@ -0,0 +1,75 @@
+package com.meatmetrics.meatmetrics.api.food.dto.response;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meatmetrics.meatmetrics.food.infrastructure.reference.ReferenceDb;
+import com.meatmetrics.meatmetrics.food.infrastructure.reference.ReferenceNutrient;
+
+/**
+ * 参照データベース（食品成分表）の栄養素ランキングDTO
+ *
+ * <p>GET /api/foods/reference/rankings のレスポンスデータです。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public class ReferenceNutrientRankingResponse {
+
+    /**
+     * ランキングの1件
+     *
+     * @param rank 順位（1始まり）
+     * @param code 食品コード
+     * @param name 食品名
+     * @param value 栄養素の値
+     */
+    public record Item(int rank, String code, String name, BigDecimal value) {}
+
+    /** 栄養素コード */
+    private String nutrient;
+
+    /** 単位 */
+    private String unit;
+
+    /** データセットバージョン */
+    private Long datasetVersion;
+
+    /** ランキング（値の大きい順） */
+    private List<Item> items;
+
+    /** デフォルトコンストラクタ（Jackson用） */
+    public ReferenceNutrientRankingResponse() {}
+
+    /**
+     * 上位レコードからDTOを生成するファクトリメソッド
+     *
+     * @param db 参照データベース
+     * @param nutrientIndex 栄養素の位置
+     * @param records 上位のレコード番号
+     * @param count records の有効件数
+     * @return ReferenceNutrientRankingResponse DTO
+     */
+    public static ReferenceNutrientRankingResponse from(ReferenceDb db, int nutrientIndex, int[] records, int count) {
+        ReferenceNutrient definition = db.nutrients().get(nutrientIndex);
+        ReferenceNutrientRankingResponse response = new ReferenceNutrientRankingResponse();
+        response.nutrient = definition.code();
+        response.unit = definition.unit();
+        response.datasetVersion = db.datasetVersion();
+        List<Item> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int record = records[i];
+            items.add(new Item(i + 1, db.code(record), db.name(record),
+                    ReferenceFoodResponse.decimal(db.value(record, nutrientIndex), definition.scale())));
+        }
+        response.items = items;
+        return response;
+    }
+
+    // Getters
+    public String getNutrient() { return nutrient; }
+    public String getUnit() { return unit; }
+    public Long getDatasetVersion() { return datasetVersion; }
+    public List<Item> getItems() { return items; }
+}
@@ -0,0 +1,169 @@
+package com.meatmetrics.meatmetrics.api.meal;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import com.meatmetrics.meatmetrics.api.common.ApiResponse;
+import com.meatmetrics.meatmetrics.meal.domain.exception.IdempotencyKeyInProgressException;
+import com.meatmetrics.meatmetrics.meal.domain.exception.IdempotencyKeyReusedException;
+import com.meatmetrics.meatmetrics.meal.domain.exception.InvalidIdempotencyKeyException;
+import com.meatmetrics.meatmetrics.meal.infrastructure.idempotency.IdempotencyKeyStore;
+import com.meatmetrics.meatmetrics.meal.infrastructure.idempotency.StoredResponse;
+
+/**
+ * 食事の書き込みAPIの冪等キー（Idempotency-Key）への応答
+ *
+ * <p>Idempotency-Key ヘッダー付きのリクエストは、成功した応答を本文のバイト列のまま保存します。
+ * 同じキーの再送には、書き込み処理を呼び出さずに保存済みの応答を同じステータス・同じバイト列で返し、
+ * {@code Idempotent-Replayed: true} を付けます。</p>
+ *
+ * <p>キーは書き込み処理と同じトランザクションで確保し（{@code INSERT ... ON CONFLICT DO NOTHING}）、
+ * 応答本文もコミット前に同じトランザクションで保存します。同じキーの同時送信は、インスタンスを問わず1件だけが
+ * 書き込み処理を実行し、他方は先のトランザクションの確定を待ってから保存済みの応答を返します
+ * （摂取量を加算する書き込みの二重実行を防ぐため）。</p>
+ *
+ * <p>同じキーで内容（メソッド・パス・本文）の異なるリクエストは 422 で拒否します。
+ * 失敗した書き込みはキーの確保ごとロールバックされるため、同じキーのまま再試行できます。
+ * ヘッダーのないリクエストは従来どおり毎回処理します。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Component
+class IdempotentResponder {
+
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyKeyStore store;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    IdempotentResponder(IdempotencyKeyStore store, TransactionTemplate transactionTemplate, ObjectMapper objectMapper) {
+        this.store = store;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 冪等キーを考慮して書き込みリクエストに応答する
+     *
+     * @param <T> 応答データの型
+     * @param request HTTPリクエスト（冪等キーとメソッド・パスの取得用）
+     * @param userId 認証済みユーザーID
+     * @param payload リクエスト本文（同じキーでの別内容の送信の検出用）
+     * @param status 成功時のステータス
+     * @param message 成功メッセージ
+     * @param body 書き込み処理（キーを確保したトランザクションで呼び出す、保存済みの応答を返す場合は呼び出されない）
+     * @return 応答（JSONのバイト列）
+     * @throws InvalidIdempotencyKeyException 冪等キーの形式が不正な場合
+     * @throws IdempotencyKeyReusedException 同じキーが別の内容で送信された場合
+     * @throws IdempotencyKeyInProgressException 同じキーが確保済みなのに保存済みの応答を読み出せない場合
+     */
+    <T> ResponseEntity<byte[]> respond(HttpServletRequest request, Long userId, Object payload,
+                                       HttpStatus status, String message, Supplier<T> body) {
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (key == null) {
+            return ResponseEntity.status(status)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(serialize(ApiResponse.success(message, body.get())));
+        }
+        validateKey(key);
+
+        byte[] requestHash = fingerprint(request.getMethod(), request.getRequestURI(), serialize(payload));
+        Optional<StoredResponse> stored = store.find(userId, key);
+        if (stored.isPresent()) {
+            return replay(stored.get(), requestHash);
+        }
+
+        StoredResponse completed = transactionTemplate.execute(tx -> {
+            if (!store.claim(userId, key, requestHash, status.value(), MediaType.APPLICATION_JSON_VALUE)) {
+                return null;
+            }
+            StoredResponse response = new StoredResponse(requestHash, status.value(),
+                    MediaType.APPLICATION_JSON_VALUE, serialize(ApiResponse.success(message, body.get())));
+            store.complete(userId, key, response);
+            return response;
+        });
+        if (completed == null) {
+            // 同じキーの同時送信が先にコミットされた
+            return replay(store.find(userId, key).orElseThrow(() ->
+                    new IdempotencyKeyInProgressException("この冪等キーのリクエストは処理中です")), requestHash);
+        }
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(completed.body());
+    }
+
+    private static ResponseEntity<byte[]> replay(StoredResponse response, byte[] requestHash) {
+        if (!response.matches(requestHash)) {
+            throw new IdempotencyKeyReusedException("この冪等キーは別の内容のリクエストで使用済みです");
+        }
+        return ResponseEntity.status(response.statusCode())
+                .header(HttpHeaders.CONTENT_TYPE, response.contentType())
+                .header(REPLAYED_HEADER, "true")
+                .body(response.body());
+    }
+
+    /**
+     * 冪等キーの形式を検証する（1〜255文字の表示可能なASCII文字）
+     *
+     * @param key 冪等キー
+     * @throws InvalidIdempotencyKeyException 形式が不正な場合
+     */
+    static void validateKey(String key) {
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException(
+                    "Idempotency-Keyは1文字以上" + MAX_KEY_LENGTH + "文字以下で指定してください");
+        }
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c < 0x21 || c > 0x7E) {
+                throw new InvalidIdempotencyKeyException("Idempotency-Keyに使用できない文字が含まれています");
+            }
+        }
+    }
+
+    /**
+     * リクエストの内容のSHA-256
+     *
+     * @param method HTTPメソッド
+     * @param path リクエストパス
+     * @param payload 本文（JSON）
+     * @return 32バイトのハッシュ
+     */
+    static byte[] fingerprint(String method, String path, byte[] payload) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((method + " " + path + "\n").getBytes(StandardCharsets.UTF_8));
+            digest.update(payload);
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize response", e);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.meatmetrics.meatmetrics.api.meal;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+import com.meatmetrics.meatmetrics.api.common.ApiResponse;
+import com.meatmetrics.meatmetrics.api.common.AuthenticatedUserResolver;
+import com.meatmetrics.meatmetrics.api.meal.dto.request.AddMealItemsRequest;
+import com.meatmetrics.meatmetrics.api.meal.dto.request.CopyMealsRequest;
+import com.meatmetrics.meatmetrics.api.meal.dto.request.LogMealsRequest;
+import com.meatmetrics.meatmetrics.api.meal.dto.request.PushMealChangesRequest;
+import com.meatmetrics.meatmetrics.api.meal.dto.response.MealChangesResponse;
+import com.meatmetrics.meatmetrics.meal.application.handler.AddMealItemsHandler;
+import com.meatmetrics.meatmetrics.meal.application.handler.CopyMealsHandler;
+import com.meatmetrics.meatmetrics.meal.application.handler.LogMealsHandler;
+import com.meatmetrics.meatmetrics.meal.application.handler.PullMealChangesHandler;
+import com.meatmetrics.meatmetrics.meal.application.handler.PushMealChangesHandler;
+
+/**
+ * 食事記録API Controller
+ *
+ * <h3>提供エンドポイント:</h3>
+ * <ul>
+ *   <li>POST /api/meals - 食事の記録（複数件まとめて）</li>
+ *   <li>POST /api/meals/items - 食事枠への明細の追加（食事がなければ作成、記録済みの食材は摂取量を加算）</li>
+ *   <li>POST /api/meals/copy - 食事1件、または1日分の食事のコピー</li>
+ *   <li>GET /api/meals/sync - 前回の同期以降に変更された食事の取得（差分同期）</li>
+ *   <li>POST /api/meals/sync - オフラインで記録・変更・削除した食事の送信（差分同期）</li>
+ * </ul>
+ *
+ * <h3>セキュリティ設定:</h3>
+ * <ul>
+ *   <li>認証必須</li>
+ * </ul>
+ *
+ * <h3>冪等キー:</h3>
+ * <ul>
+ *   <li>書き込みAPIは Idempotency-Key ヘッダーに対応（同じキーの再送には初回の応答をそのまま返す）</li>
+ * </ul>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@RestController
+@RequestMapping("/api/meals")
+public class MealController {
+
+    private final AuthenticatedUserResolver userResolver;
+    private final LogMealsHandler logMealsHandler;
+    private final AddMealItemsHandler addMealItemsHandler;
+    private final CopyMealsHandler copyMealsHandler;
+    private final PullMealChangesHandler pullMealChangesHandler;
+    private final PushMealChangesHandler pushMealChangesHandler;
+    private final IdempotentResponder idempotentResponder;
+
+    /**
+     * コンストラクタインジェクション
+     *
+     * @param userResolver 認証ユーザー解決
+     * @param logMealsHandler 食事記録サービス
+     * @param addMealItemsHandler 明細追加サービス
+     * @param copyMealsHandler 食事コピーサービス
+     * @param pullMealChangesHandler 食事の差分取得サービス
+     * @param pushMealChangesHandler 食事の変更の送信サービス
+     * @param idempotentResponder 冪等キーへの応答
+     */
+    public MealController(AuthenticatedUserResolver userResolver, LogMealsHandler logMealsHandler,
+                          AddMealItemsHandler addMealItemsHandler, CopyMealsHandler copyMealsHandler,
+                          PullMealChangesHandler pullMealChangesHandler,
+                          PushMealChangesHandler pushMealChangesHandler,
+                          IdempotentResponder idempotentResponder) {
+        this.userResolver = userResolver;
+        this.logMealsHandler = logMealsHandler;
+        this.addMealItemsHandler = addMealItemsHandler;
+        this.copyMealsHandler = copyMealsHandler;
+        this.pullMealChangesHandler = pullMealChangesHandler;
+        this.pushMealChangesHandler = pushMealChangesHandler;
+        this.idempotentResponder = idempotentResponder;
+    }
+
+    /**
+     * 食事記録API
+     *
+     * <p>1日分の朝食・昼食・夕食など、複数の食事と明細を1つのトランザクションで記録します。
+     * 食事・明細はそれぞれ1回のバッチINSERTで保存されます。</p>
+     *
+     * <p>Idempotency-Key ヘッダーを指定した場合、同じキーの再送には記録を行わずに初回の応答を返します
+     * （{@code Idempotent-Replayed: true} 付き）。</p>
+     *
+     * <h3>エラーケース:</h3>
+     * <ul>
+     *   <li>400 Bad Request - 入力値が不正、存在しない食材、不明な調理方法</li>
+     *   <li>401 Unauthorized - トークンが無効または未提供</li>
+     *   <li>400 Bad Request - Idempotency-Key の形式が不正</li>
+     *   <li>409 Conflict - 同じ日・同じ種類の食事が記録済み</li>
+     *   <li>422 Unprocessable Entity - 同じ Idempotency-Key が別の内容で使用済み</li>
+     * </ul>
+     *
+     * @param request 記録リクエスト
+     * @param httpRequest HTTPリクエスト（認証トークン・冪等キー取得用）
+     * @return 201 Created - 記録した食事（リクエストの順）
+     */
+    @PostMapping
+    public ResponseEntity<byte[]> logMeals(
+            @Valid @RequestBody LogMealsRequest request,
+            HttpServletRequest httpRequest) {
+        Long userId = userResolver.resolveUserId(httpRequest);
+        return idempotentResponder.respond(httpRequest, userId, request, HttpStatus.CREATED, "食事記録完了",
+                () -> logMealsHandler.logMeals(request.toCommand(userId)));
+    }
+
+    /**
+     * 明細追加API
+     *
+     * <p>食事日・食事の種類で指定した食事枠に明細を追加します。食事がなければ作成し、
+     * 同じ食材が記録済みであれば摂取量を加算します。複数の端末から同じ食事枠へ同時に追加しても、
+     * 重複エラーにはならず、いずれの追加も反映されます。</p>
+     *
+     * <p>摂取量を加算するため、再送に備えて Idempotency-Key ヘッダーの指定を推奨します。</p>
+     *
+     * <h3>エラーケース:</h3>
+     * <ul>
+     *   <li>400 Bad Request - 入力値が不正、存在しない食材、不明な調理方法、記録済みの食材と調理方法が異なる</li>
+     *   <li>401 Unauthorized - トークンが無効または未提供</li>
+     *   <li>409 Conflict - 加算後の摂取量が上限（10000g）を超える</li>
+     *   <li>422 Unprocessable Entity - 同じ Idempotency-Key が別の内容で使用済み</li>
+     * </ul>
+     *
+     * @param request 明細追加リクエスト
+     * @param httpRequest HTTPリクエスト（認証トークン・冪等キー取得用）
+     * @return 200 OK - 追加後の食事（有効な明細全て）
+     */
+    @PostMapping("/items")
+    public ResponseEntity<byte[]> addItems(
+            @Valid @RequestBody AddMealItemsRequest request,
+            HttpServletRequest httpRequest) {
+        Long userId = userResolver.resolveUserId(httpRequest);
+        return idempotentResponder.respond(httpRequest, userId, request, HttpStatus.OK, "明細追加完了",
+                () -> addMealItemsHandler.addItems(request.toCommand(userId)));
+    }
+
+    /**
+     * 食事コピーAPI
+     *
+     * <p>食事1件（sourceMealId）、または1日分の食事（sourceDate）を、明細ごとコピー先の日付に記録します。
+     * 明細の数によらず、コピーはDBへの1文で行われます。コピー先の食事枠に記録済みの食事はコピーしません。</p>
+     *
+     * <h3>エラーケース:</h3>
+     * <ul>
+     *   <li>400 Bad Request - コピー元の指定が不正（両方指定・未指定）、コピー先の日付が範囲外</li>
+     *   <li>401 Unauthorized - トークンが無効または未提供</li>
+     *   <li>404 Not Found - コピー元の食事が存在しない</li>
+     *   <li>422 Unprocessable Entity - 同じ Idempotency-Key が別の内容で使用済み</li>
+     * </ul>
+     *
+     * @param request 食事コピーリクエスト
+     * @param httpRequest HTTPリクエスト（認証トークン・冪等キー取得用）
+     * @return 201 Created - コピーした食事（ID順、コピー先が全て記録済みの場合は空）
+     */
+    @PostMapping("/copy")
+    public ResponseEntity<byte[]> copyMeals(
+            @Valid @RequestBody CopyMealsRequest request,
+            HttpServletRequest httpRequest) {
+        Long userId = userResolver.resolveUserId(httpRequest);
+        return idempotentResponder.respond(httpRequest, userId, request, HttpStatus.CREATED, "食事コピー完了",
+                () -> copyMealsHandler.copyMeals(request.toCommand(userId)));
+    }
+
+    /**
+     * 食事の差分取得API
+     *
+     * <p>前回の応答の {@code cursor} 以降に変更・削除された食事を、明細を含む食事全体の状態で変更の順に返します。
+     * 初回は {@code cursor} を省略します（有効な食事を全て返す）。{@code hasMore} が true の間は続きを取得します。</p>
+     *
+     * <h3>エラーケース:</h3>
+     * <ul>
+     *   <li>400 Bad Request - 読み出し位置の形式が不正、件数が範囲外（1〜500）</li>
+     *   <li>401 Unauthorized - トークンが無効または未提供</li>
+     * </ul>
+     *
+     * @param cursor 前回の応答の読み出し位置（初回は省略）
+     * @param limit 最大件数（1〜500、デフォルト200）
+     * @param httpRequest HTTPリクエスト（認証トークン取得用）
+     * @return 200 OK - 変更された食事と次回の読み出し位置
+     */
+    @GetMapping("/sync")
+    public ResponseEntity<ApiResponse<MealChangesResponse>> pullChanges(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "200") @Min(1) @Max(500) int limit,
+            HttpServletRequest httpRequest) {
+        Long userId = userResolver.resolveUserId(httpRequest);
+        return ResponseEntity.ok(ApiResponse.success("食事差分取得完了",
+                pullMealChangesHandler.pull(userId, cursor, limit)));
+    }
+
+    /**
+     * 食事の変更の送信API
+     *
+     * <p>オフラインで記録・変更した食事（クライアントIDで識別、明細を含む食事全体の状態）と削除した食事を
+     * 1つのトランザクションで反映し、変更ごとの結果を返します。送信後は差分取得APIで最新の状態を取得します。</p>
+     *
+     * <h3>エラーケース:</h3>
+     * <ul>
+     *   <li>400 Bad Request - 入力値が不正、同じクライアントIDの重複（食事ごとの内容の不正は結果の REJECTED）</li>
+     *   <li>401 Unauthorized - トークンが無効または未提供</li>
+     *   <li>409 Conflict - 食事枠が同時に他の端末で記録された（送り直せば反映される）</li>
+     *   <li>422 Unprocessable Entity - 同じ Idempotency-Key が別の内容で使用済み</li>
+     * </ul>
+     *
+     * @param request 変更の送信リクエスト
+     * @param httpRequest HTTPリクエスト（認証トークン・冪等キー取得用）
+     * @return 200 OK - 変更ごとの結果
+     */
+    @PostMapping("/sync")
+    public ResponseEntity<byte[]> pushChanges(
+            @Valid @RequestBody PushMealChangesRequest request,
+            HttpServletRequest httpRequest) {
+        Long userId = userResolver.resolveUserId(httpRequest);
+        return idempotentResponder.respond(httpRequest, userId, request, HttpStatus.OK, "食事変更反映完了",
+                () -> pushMealChangesHandler.push(request.toCommand(userId)));
+    }
+}
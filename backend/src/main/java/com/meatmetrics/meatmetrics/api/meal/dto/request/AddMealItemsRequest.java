@@ -0,0 +1,28 @@
+package com.meatmetrics.meatmetrics.api.meal.dto.request;
+
+import com.meatmetrics.meatmetrics.meal.application.command.AddMealItemsCommand;
+
+/**
+ * 明細追加リクエストDTO
+ *
+ * <p>POST /api/meals/items のリクエストボディを受け取るためのDTO。
+ * 項目と検証は {@link LogMealsRequest} の食事1件と同じです（食事日・食事の種類で食事枠を指定）。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public class AddMealItemsRequest extends LogMealsRequest.MealRequest {
+
+    /** デフォルトコンストラクタ（Jackson用） */
+    public AddMealItemsRequest() {}
+
+    /**
+     * AddMealItemsCommandに変換
+     *
+     * @param userId 認証済みユーザーID
+     * @return AddMealItemsCommand
+     */
+    public AddMealItemsCommand toCommand(Long userId) {
+        return new AddMealItemsCommand(userId, toCommand());
+    }
+}
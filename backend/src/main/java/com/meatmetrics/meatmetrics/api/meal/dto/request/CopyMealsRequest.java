@@ -0,0 +1,54 @@
+package com.meatmetrics.meatmetrics.api.meal.dto.request;
+
+import java.time.LocalDate;
+
+import com.meatmetrics.meatmetrics.meal.application.command.CopyMealsCommand;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * 食事コピーリクエストDTO
+ *
+ * <p>POST /api/meals/copy のリクエストボディを受け取るためのDTO。
+ * コピー元は食事ID（食事1件）と食事日（1日分）のいずれか一方を指定します。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public class CopyMealsRequest {
+
+    /** コピー元の食事ID（食事1件をコピーする場合） */
+    @Positive(message = "食事IDは正の値を指定してください")
+    private Long sourceMealId;
+
+    /** コピー元の食事日（1日分をコピーする場合） */
+    private LocalDate sourceDate;
+
+    /** コピー先の食事日（必須） */
+    @NotNull(message = "コピー先の食事日は必須です")
+    private LocalDate targetDate;
+
+    /** デフォルトコンストラクタ（Jackson用） */
+    public CopyMealsRequest() {}
+
+    /**
+     * CopyMealsCommandに変換
+     *
+     * @param userId 認証済みユーザーID
+     * @return CopyMealsCommand
+     */
+    public CopyMealsCommand toCommand(Long userId) {
+        return new CopyMealsCommand(userId, sourceMealId, sourceDate, targetDate);
+    }
+
+    // Getters
+    public Long getSourceMealId() { return sourceMealId; }
+    public LocalDate getSourceDate() { return sourceDate; }
+    public LocalDate getTargetDate() { return targetDate; }
+
+    // Setters（Jackson用）
+    public void setSourceMealId(Long sourceMealId) { this.sourceMealId = sourceMealId; }
+    public void setSourceDate(LocalDate sourceDate) { this.sourceDate = sourceDate; }
+    public void setTargetDate(LocalDate targetDate) { this.targetDate = targetDate; }
+}
@@ -0,0 +1,138 @@
+package com.meatmetrics.meatmetrics.api.meal.dto.request;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import com.meatmetrics.meatmetrics.meal.application.command.LogMealsCommand;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 食事記録リクエストDTO
+ *
+ * <p>POST /api/meals のリクエストボディを受け取るためのDTO。
+ * 1日分の複数の食事を1リクエストで記録できます。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public class LogMealsRequest {
+
+    /** 食事（必須、10件まで） */
+    @NotEmpty(message = "食事は1件以上指定してください")
+    @Size(max = 10, message = "食事は10件まで指定できます")
+    @Valid
+    private List<MealRequest> meals;
+
+    /** デフォルトコンストラクタ（Jackson用） */
+    public LogMealsRequest() {}
+
+    /**
+     * LogMealsCommandに変換
+     *
+     * @param userId 認証済みユーザーID
+     * @return LogMealsCommand
+     */
+    public LogMealsCommand toCommand(Long userId) {
+        return new LogMealsCommand(userId, meals.stream().map(MealRequest::toCommand).toList());
+    }
+
+    // Getters
+    public List<MealRequest> getMeals() { return meals; }
+
+    // Setters（Jackson用）
+    public void setMeals(List<MealRequest> meals) { this.meals = meals; }
+
+    /**
+     * 食事1件
+     */
+    public static class MealRequest {
+
+        /** 食事日（必須） */
+        @NotNull(message = "食事日は必須です")
+        private LocalDate mealDate;
+
+        /** 食事の種類（必須、BREAKFAST, LUNCH, DINNER, SNACK） */
+        @NotBlank(message = "食事の種類は必須です")
+        private String mealType;
+
+        /** メモ（任意、1000文字以内） */
+        @Size(max = 1000, message = "メモは1000文字以内で入力してください")
+        private String notes;
+
+        /** 明細（必須、50件まで） */
+        @NotEmpty(message = "明細は1件以上指定してください")
+        @Size(max = 50, message = "明細は50件まで指定できます")
+        @Valid
+        private List<ItemRequest> items;
+
+        /** デフォルトコンストラクタ（Jackson用） */
+        public MealRequest() {}
+
+        LogMealsCommand.Meal toCommand() {
+            return new LogMealsCommand.Meal(mealDate, mealType, notes,
+                    items.stream().map(ItemRequest::toCommand).toList());
+        }
+
+        // Getters
+        public LocalDate getMealDate() { return mealDate; }
+        public String getMealType() { return mealType; }
+        public String getNotes() { return notes; }
+        public List<ItemRequest> getItems() { return items; }
+
+        // Setters（Jackson用）
+        public void setMealDate(LocalDate mealDate) { this.mealDate = mealDate; }
+        public void setMealType(String mealType) { this.mealType = mealType; }
+        public void setNotes(String notes) { this.notes = notes; }
+        public void setItems(List<ItemRequest> items) { this.items = items; }
+    }
+
+    /**
+     * 明細1件
+     */
+    public static class ItemRequest {
+
+        /** 食材ID（必須） */
+        @NotNull(message = "食材IDは必須です")
+        private Long foodId;
+
+        /** 摂取量（必須、調理後のg、0より大きく10000以下） */
+        @NotNull(message = "摂取量は必須です")
+        @DecimalMin(value = "0", inclusive = false, message = "摂取量は0より大きい値を入力してください")
+        @DecimalMax(value = "10000", message = "摂取量は10000g以下で入力してください")
+        private BigDecimal quantityG;
+
+        /** 調理方法（任意、省略時は raw） */
+        private String cookingMethod;
+
+        /** メモ（任意、1000文字以内） */
+        @Size(max = 1000, message = "メモは1000文字以内で入力してください")
+        private String notes;
+
+        /** デフォルトコンストラクタ（Jackson用） */
+        public ItemRequest() {}
+
+        LogMealsCommand.Item toCommand() {
+            return new LogMealsCommand.Item(foodId, quantityG, cookingMethod, notes);
+        }
+
+        // Getters
+        public Long getFoodId() { return foodId; }
+        public BigDecimal getQuantityG() { return quantityG; }
+        public String getCookingMethod() { return cookingMethod; }
+        public String getNotes() { return notes; }
+
+        // Setters（Jackson用）
+        public void setFoodId(Long foodId) { this.foodId = foodId; }
+        public void setQuantityG(BigDecimal quantityG) { this.quantityG = quantityG; }
+        public void setCookingMethod(String cookingMethod) { this.cookingMethod = cookingMethod; }
+        public void setNotes(String notes) { this.notes = notes; }
+    }
+}
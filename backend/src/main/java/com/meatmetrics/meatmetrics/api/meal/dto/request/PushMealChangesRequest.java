@@ -0,0 +1,73 @@
+package com.meatmetrics.meatmetrics.api.meal.dto.request;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.meatmetrics.meatmetrics.meal.application.command.PushMealChangesCommand;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 食事の変更の送信リクエストDTO
+ *
+ * <p>POST /api/meals/sync のリクエストボディを受け取るためのDTO。
+ * オフラインで記録・変更した食事（明細を含む食事全体の状態）と、削除した食事のクライアントIDをまとめて送ります。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public class PushMealChangesRequest {
+
+    @Size(max = 100, message = "食事は100件まで指定できます")
+    @Valid
+    private List<MealChangeRequest> meals;
+
+    @Size(max = 100, message = "削除する食事は100件まで指定できます")
+    private List<@NotNull(message = "クライアントIDは必須です") UUID> deletedClientIds;
+
+    /** デフォルトコンストラクタ（Jackson用） */
+    public PushMealChangesRequest() {}
+
+    /**
+     * PushMealChangesCommandに変換
+     *
+     * @param userId 認証済みユーザーID
+     * @return PushMealChangesCommand
+     */
+    public PushMealChangesCommand toCommand(Long userId) {
+        List<PushMealChangesCommand.Change> changes = meals == null ? List.of()
+                : meals.stream().map(MealChangeRequest::toChange).toList();
+        return new PushMealChangesCommand(userId, changes, deletedClientIds);
+    }
+
+    // Getters
+    public List<MealChangeRequest> getMeals() { return meals; }
+    public List<UUID> getDeletedClientIds() { return deletedClientIds; }
+
+    // Setters（Jackson用）
+    public void setMeals(List<MealChangeRequest> meals) { this.meals = meals; }
+    public void setDeletedClientIds(List<UUID> deletedClientIds) { this.deletedClientIds = deletedClientIds; }
+
+    /**
+     * 記録・変更した食事（項目と検証は {@link LogMealsRequest} の食事1件にクライアントIDを加えたもの）
+     */
+    public static class MealChangeRequest extends LogMealsRequest.MealRequest {
+
+        @NotNull(message = "クライアントIDは必須です")
+        private UUID clientId;
+
+        public MealChangeRequest() {}
+
+        PushMealChangesCommand.Change toChange() {
+            return new PushMealChangesCommand.Change(clientId, toCommand());
+        }
+
+        // Getters
+        public UUID getClientId() { return clientId; }
+
+        // Setters（Jackson用）
+        public void setClientId(UUID clientId) { this.clientId = clientId; }
+    }
+}
@@ -0,0 +1,97 @@
+package com.meatmetrics.meatmetrics.api.meal.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.MealEntity;
+
+/**
+ * 食事の差分DTO
+ *
+ * <p>GET /api/meals/sync のレスポンスデータです。前回の同期以降に変更された食事を、明細を含む食事全体の状態で返します。
+ * 削除された食事は {@code deleted: true}（明細なし）で返すため、クライアントは食事IDで置き換え・削除するだけで同期できます。</p>
+ *
+ * <p>{@code hasMore} が true の間は、{@code cursor} を指定して続きを取得します。
+ * false の場合も {@code cursor} を保存し、次回の同期で指定します。</p>
+ *
+ * <p>{@code reset} が true の場合、指定した読み出し位置が古すぎる（その後に削除された食事がパージ済み）ため、
+ * 全件同期からやり直しています。クライアントは保存している食事を破棄し、この応答から取得し直します。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public class MealChangesResponse {
+
+    /**
+     * 変更された食事
+     *
+     * @param id 食事ID
+     * @param clientId クライアントID
+     * @param mealDate 食事日
+     * @param mealType 食事の種類
+     * @param deleted 削除済みの場合true
+     * @param totalCalories 合計カロリー（kcal）
+     * @param totalProteinG 合計タンパク質（g）
+     * @param totalFatG 合計脂質（g）
+     * @param totalNetCarbsG 合計正味炭水化物（g）
+     * @param notes メモ
+     * @param items 明細（ID順、削除済みの食事は空）
+     */
+    public record Meal(Long id, UUID clientId, LocalDate mealDate, String mealType, boolean deleted,
+                       Integer totalCalories, BigDecimal totalProteinG, BigDecimal totalFatG,
+                       BigDecimal totalNetCarbsG, String notes, List<MealResponse.Item> items) {
+
+        /**
+         * 食事エンティティから生成する
+         *
+         * @param meal 食事（有効な明細を含む）
+         * @return 変更された食事
+         */
+        public static Meal from(MealEntity meal) {
+            List<MealResponse.Item> items = meal.isDeleted()
+                    ? List.of()
+                    : meal.getItems().stream().map(MealResponse.Item::from).toList();
+            return new Meal(meal.getId(), meal.getClientId(), meal.getMealDate(), meal.getMealType(), meal.isDeleted(),
+                    meal.getTotalCalories(), meal.getTotalProteinG(), meal.getTotalFatG(), meal.getTotalNetCarbsG(),
+                    meal.getNotes(), items);
+        }
+    }
+
+    /** 変更された食事（変更の順） */
+    private List<Meal> meals;
+
+    /** 次回の読み出し位置 */
+    private String cursor;
+
+    /** 続きがある場合true */
+    private boolean hasMore;
+
+    /** 全件同期からやり直した場合true */
+    private boolean reset;
+
+    /** デフォルトコンストラクタ（Jackson用） */
+    public MealChangesResponse() {}
+
+    /**
+     * 全項目指定コンストラクタ
+     *
+     * @param meals 変更された食事（変更の順）
+     * @param cursor 次回の読み出し位置
+     * @param hasMore 続きがある場合true
+     * @param reset 全件同期からやり直した場合true
+     */
+    public MealChangesResponse(List<Meal> meals, String cursor, boolean hasMore, boolean reset) {
+        this.meals = meals;
+        this.cursor = cursor;
+        this.hasMore = hasMore;
+        this.reset = reset;
+    }
+
+    // Getters
+    public List<Meal> getMeals() { return meals; }
+    public String getCursor() { return cursor; }
+    public boolean isHasMore() { return hasMore; }
+    public boolean isReset() { return reset; }
+}
@@ -0,0 +1,104 @@
+package com.meatmetrics.meatmetrics.api.meal.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.MealEntity;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.MealItemEntity;
+
+/**
+ * 食事記録DTO
+ *
+ * <p>POST /api/meals、POST /api/meals/items、POST /api/meals/copy のレスポンスデータです。
+ * 栄養成分は記録時点のカタログから計算した値で、meal_items / meals に保存された値と一致します。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public class MealResponse {
+
+    /**
+     * 明細
+     *
+     * @param id 明細ID
+     * @param foodId 食材ID
+     * @param quantityG 摂取量（調理後のg）
+     * @param cookingMethod 調理方法
+     * @param calories カロリー（kcal）
+     * @param proteinG タンパク質（g）
+     * @param fatG 脂質（g）
+     * @param netCarbsG 正味炭水化物（g）
+     * @param notes メモ
+     */
+    public record Item(Long id, Long foodId, BigDecimal quantityG, String cookingMethod, Integer calories,
+                       BigDecimal proteinG, BigDecimal fatG, BigDecimal netCarbsG, String notes) {
+
+        static Item from(MealItemEntity item) {
+            return new Item(item.getId(), item.getFoodId(), item.getQuantityG(), item.getCookingMethod(),
+                    item.getItemCalories(), item.getItemProteinG(), item.getItemFatG(), item.getItemNetCarbsG(),
+                    item.getNotes());
+        }
+    }
+
+    /** 食事ID */
+    private Long id;
+
+    /** 食事日 */
+    private LocalDate mealDate;
+
+    /** 食事の種類 */
+    private String mealType;
+
+    /** 合計カロリー（kcal） */
+    private Integer totalCalories;
+
+    /** 合計タンパク質（g） */
+    private BigDecimal totalProteinG;
+
+    /** 合計脂質（g） */
+    private BigDecimal totalFatG;
+
+    /** 合計正味炭水化物（g） */
+    private BigDecimal totalNetCarbsG;
+
+    /** メモ */
+    private String notes;
+
+    /** 明細（ID順） */
+    private List<Item> items;
+
+    /** デフォルトコンストラクタ（Jackson用） */
+    public MealResponse() {}
+
+    /**
+     * 食事エンティティからDTOを生成するファクトリメソッド
+     *
+     * @param meal 食事（明細を含む）
+     * @return MealResponse DTO
+     */
+    public static MealResponse from(MealEntity meal) {
+        MealResponse response = new MealResponse();
+        response.id = meal.getId();
+        response.mealDate = meal.getMealDate();
+        response.mealType = meal.getMealType();
+        response.totalCalories = meal.getTotalCalories();
+        response.totalProteinG = meal.getTotalProteinG();
+        response.totalFatG = meal.getTotalFatG();
+        response.totalNetCarbsG = meal.getTotalNetCarbsG();
+        response.notes = meal.getNotes();
+        response.items = meal.getItems().stream().map(Item::from).toList();
+        return response;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public LocalDate getMealDate() { return mealDate; }
+    public String getMealType() { return mealType; }
+    public Integer getTotalCalories() { return totalCalories; }
+    public BigDecimal getTotalProteinG() { return totalProteinG; }
+    public BigDecimal getTotalFatG() { return totalFatG; }
+    public BigDecimal getTotalNetCarbsG() { return totalNetCarbsG; }
+    public String getNotes() { return notes; }
+    public List<Item> getItems() { return items; }
+}
@@ -0,0 +1,70 @@
+package com.meatmetrics.meatmetrics.api.meal.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 食事の変更の送信結果DTO
+ *
+ * <p>POST /api/meals/sync のレスポンスデータです。送信した変更ごとの結果を、削除・記録の順に返します。</p>
+ *
+ * <ul>
+ *   <li>APPLIED - 記録した（{@code mealId} は記録先の食事ID）</li>
+ *   <li>DELETED - 削除した（既に削除済み・存在しない場合も含む）</li>
+ *   <li>CONFLICT - 食事枠に他の端末で記録した食事がある（{@code mealId} はその食事ID。差分を取得して統合してから送り直す）</li>
+ *   <li>REJECTED - 内容が不正なため記録しなかった（{@code message} に理由）</li>
+ * </ul>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public class PushMealChangesResponse {
+
+    /** 変更の結果 */
+    public enum Status { APPLIED, DELETED, CONFLICT, REJECTED }
+
+    /**
+     * 変更1件の結果
+     *
+     * @param clientId クライアントID
+     * @param mealId 食事ID（該当する食事がない場合はnull）
+     * @param status 結果
+     * @param message 記録しなかった理由（REJECTEDの場合のみ）
+     */
+    public record Result(UUID clientId, Long mealId, Status status, String message) {
+
+        public static Result applied(UUID clientId, long mealId) {
+            return new Result(clientId, mealId, Status.APPLIED, null);
+        }
+
+        public static Result deleted(UUID clientId, Long mealId) {
+            return new Result(clientId, mealId, Status.DELETED, null);
+        }
+
+        public static Result conflict(UUID clientId, long mealId) {
+            return new Result(clientId, mealId, Status.CONFLICT, null);
+        }
+
+        public static Result rejected(UUID clientId, String message) {
+            return new Result(clientId, null, Status.REJECTED, message);
+        }
+    }
+
+    /** 変更ごとの結果（削除・記録の順） */
+    private List<Result> results;
+
+    /** デフォルトコンストラクタ（Jackson用） */
+    public PushMealChangesResponse() {}
+
+    /**
+     * 全項目指定コンストラクタ
+     *
+     * @param results 変更ごとの結果
+     */
+    public PushMealChangesResponse(List<Result> results) {
+        this.results = results;
+    }
+
+    // Getters
+    public List<Result> getResults() { return results; }
+}
@@ -0,0 +1,51 @@
+package com.meatmetrics.meatmetrics.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 管理者設定プロパティ
+ *
+ * <p>管理API（/api/admin/**）を実行できるユーザーを設定します。
+ * ロール管理を導入するまでの暫定措置として、ユーザーIDの許可リストで制御します。</p>
+ *
+ * <h3>設定例:</h3>
+ * <pre>
+ * # application.properties
+ * admin.user-ids=1,2
+ * </pre>
+ *
+ * <h3>環境変数例:</h3>
+ * <pre>
+ * ADMIN_USER_IDS=1,2
+ * </pre>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Component
+@ConfigurationProperties(prefix = "admin")
+public class AdminProperties {
+
+    /**
+     * 管理APIを許可するユーザーID
+     * 未設定の場合は誰も実行できない
+     */
+    private List<Long> userIds = new ArrayList<>();
+
+    public List<Long> getUserIds() { return userIds; }
+    public void setUserIds(List<Long> userIds) { this.userIds = userIds; }
+
+    /**
+     * 指定ユーザーが管理者か判定
+     *
+     * @param userId ユーザーID
+     * @return 管理者の場合true
+     */
+    public boolean isAdmin(Long userId) {
+        return userId != null && userIds.contains(userId);
+    }
+}
@@ -0,0 +1,22 @@
+package com.meatmetrics.meatmetrics.config;
+
+import java.time.Clock;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 現在時刻の取得元の設定
+ *
+ * <p>タイムゾーンはJVMの既定のタイムゾーンです。PostgreSQLのJDBCドライバは接続時にJVMの既定のタイムゾーンを
+ * セッションの TimeZone に設定するため、{@code LocalDate.now(clock)} はDBの {@code CURRENT_DATE}
+ * （meals.meal_date のCHECK制約の基準）と同じ日付になります。</p>
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
@@ -0,0 +1,49 @@
+package com.meatmetrics.meatmetrics.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * ユーザー独自食材（オーバーレイ）設定プロパティ
+ *
+ * <h3>設定例:</h3>
+ * <pre>
+ * # application.properties
+ * food.custom.idle-ttl-ms=1800000
+ * food.custom.evict-interval-ms=60000
+ * food.custom.max-foods-per-user=500
+ * </pre>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Component
+@ConfigurationProperties(prefix = "food.custom")
+public class CustomFoodProperties {
+
+    /**
+     * オーバーレイをキャッシュに残す無アクセス時間（ミリ秒）
+     */
+    private long idleTtlMs = 1_800_000;
+
+    /**
+     * 無アクセスのオーバーレイを破棄する間隔（ミリ秒）
+     */
+    private long evictIntervalMs = 60_000;
+
+    /**
+     * ユーザーあたりの独自食材の上限
+     * オーバーレイを索引なしの全件判定で扱える大きさに保つため
+     */
+    private int maxFoodsPerUser = 500;
+
+    // Getters and Setters
+    public long getIdleTtlMs() { return idleTtlMs; }
+    public void setIdleTtlMs(long idleTtlMs) { this.idleTtlMs = idleTtlMs; }
+
+    public long getEvictIntervalMs() { return evictIntervalMs; }
+    public void setEvictIntervalMs(long evictIntervalMs) { this.evictIntervalMs = evictIntervalMs; }
+
+    public int getMaxFoodsPerUser() { return maxFoodsPerUser; }
+    public void setMaxFoodsPerUser(int maxFoodsPerUser) { this.maxFoodsPerUser = maxFoodsPerUser; }
+}
@@ -0,0 +1,60 @@
+package com.meatmetrics.meatmetrics.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 食材カタログ（インメモリ索引）設定プロパティ
+ *
+ * <h3>設定例:</h3>
+ * <pre>
+ * # application.properties
+ * food.catalog.refresh-interval-ms=30000
+ * food.catalog.full-reload-interval-ms=3600000
+ * food.catalog.refresh-overlap-ms=5000
+ * food.catalog.http-max-age-seconds=60
+ * </pre>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Component
+@ConfigurationProperties(prefix = "food.catalog")
+public class FoodCatalogProperties {
+
+    /**
+     * 差分取り込みの間隔（ミリ秒）
+     */
+    private long refreshIntervalMs = 30_000;
+
+    /**
+     * 全件再読み込みの間隔（ミリ秒）
+     * 物理削除など更新日時で検出できない変更を取り込むため
+     */
+    private long fullReloadIntervalMs = 3_600_000;
+
+    /**
+     * 差分取り込み時に起点をさかのぼる幅（ミリ秒）
+     * 取り込み時点で未コミットだった更新の取りこぼしを防ぐ
+     */
+    private long refreshOverlapMs = 5_000;
+
+    /**
+     * カタログ応答のCache-Control max-age（秒）
+     * 期限切れ後はETagによる再検証（304）となる
+     */
+    private long httpMaxAgeSeconds = 60;
+
+    // Getters and Setters
+    public long getRefreshIntervalMs() { return refreshIntervalMs; }
+    public void setRefreshIntervalMs(long refreshIntervalMs) { this.refreshIntervalMs = refreshIntervalMs; }
+
+    public long getFullReloadIntervalMs() { return fullReloadIntervalMs; }
+    public void setFullReloadIntervalMs(long fullReloadIntervalMs) { this.fullReloadIntervalMs = fullReloadIntervalMs; }
+
+    public long getRefreshOverlapMs() { return refreshOverlapMs; }
+    public void setRefreshOverlapMs(long refreshOverlapMs) { this.refreshOverlapMs = refreshOverlapMs; }
+
+    public long getHttpMaxAgeSeconds() { return httpMaxAgeSeconds; }
+    public void setHttpMaxAgeSeconds(long httpMaxAgeSeconds) { this.httpMaxAgeSeconds = httpMaxAgeSeconds; }
+}
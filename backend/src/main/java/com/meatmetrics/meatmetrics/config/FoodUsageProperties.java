@@ -0,0 +1,56 @@
+package com.meatmetrics.meatmetrics.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * ユーザー別の食材使用頻度（入力補完の並び順）設定プロパティ
+ *
+ * <h3>設定例:</h3>
+ * <pre>
+ * # application.properties
+ * food.usage.half-life-days=14
+ * food.usage.capacity=64
+ * food.usage.lookback-days=180
+ * </pre>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Component
+@ConfigurationProperties(prefix = "food.usage")
+public class FoodUsageProperties {
+
+    /**
+     * 使用回数の半減期（日）
+     * 小さいほど最近の記録を重視する
+     */
+    private int halfLifeDays = 14;
+
+    /**
+     * ユーザーあたりに保持する食材数の上限
+     */
+    private int capacity = 64;
+
+    /**
+     * 初回読み込み時に集計する期間（日）
+     */
+    private int lookbackDays = 180;
+
+    // Getters and Setters
+    public int getHalfLifeDays() { return halfLifeDays; }
+    public void setHalfLifeDays(int halfLifeDays) { this.halfLifeDays = halfLifeDays; }
+
+    public int getCapacity() { return capacity; }
+    public void setCapacity(int capacity) { this.capacity = capacity; }
+
+    public int getLookbackDays() { return lookbackDays; }
+    public void setLookbackDays(int lookbackDays) { this.lookbackDays = lookbackDays; }
+
+    /**
+     * @return 半減期（ミリ秒）
+     */
+    public long getHalfLifeMillis() {
+        return halfLifeDays * 86_400_000L;
+    }
+}
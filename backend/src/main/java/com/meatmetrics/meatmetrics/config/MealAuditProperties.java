@@ -0,0 +1,77 @@
+package com.meatmetrics.meatmetrics.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 食事の栄養合計の監査の設定プロパティ
+ *
+ * <h3>設定例:</h3>
+ * <pre>
+ * # application.properties
+ * meal.audit.enabled=true
+ * meal.audit.interval-ms=300000
+ * meal.audit.batch-size=500
+ * meal.audit.max-batches-per-run=20
+ * meal.audit.overlap-ms=60000
+ * meal.audit.auto-repair=false
+ * </pre>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Component
+@ConfigurationProperties(prefix = "meal.audit")
+public class MealAuditProperties {
+
+    /**
+     * 監査を実行するか
+     */
+    private boolean enabled = true;
+
+    /**
+     * 監査の実行間隔（ミリ秒）
+     */
+    private long intervalMs = 300_000;
+
+    /**
+     * 1バッチ（1トランザクション）で監査する食事数
+     */
+    private int batchSize = 500;
+
+    /**
+     * 1回の実行で処理するバッチ数の上限
+     * 残りは次回の実行で続きから処理する
+     */
+    private int maxBatchesPerRun = 20;
+
+    /**
+     * 実行開始時に走査位置を遡る時間（ミリ秒）
+     * 更新日時はトランザクション開始時刻のため、長いトランザクションが遅れてコミットした食事を拾い直す
+     */
+    private long overlapMs = 60_000;
+
+    /**
+     * 不一致を検出した食事を自動で修復するか
+     */
+    private boolean autoRepair = false;
+
+    // Getters and Setters
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public long getIntervalMs() { return intervalMs; }
+    public void setIntervalMs(long intervalMs) { this.intervalMs = intervalMs; }
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+    public int getMaxBatchesPerRun() { return maxBatchesPerRun; }
+    public void setMaxBatchesPerRun(int maxBatchesPerRun) { this.maxBatchesPerRun = maxBatchesPerRun; }
+
+    public long getOverlapMs() { return overlapMs; }
+    public void setOverlapMs(long overlapMs) { this.overlapMs = overlapMs; }
+
+    public boolean isAutoRepair() { return autoRepair; }
+    public void setAutoRepair(boolean autoRepair) { this.autoRepair = autoRepair; }
+}
@@ -0,0 +1,69 @@
+package com.meatmetrics.meatmetrics.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 食事の書き込みAPIの冪等キーの設定プロパティ
+ *
+ * <h3>設定例:</h3>
+ * <pre>
+ * # application.properties
+ * meal.idempotency.retention-days=1
+ * meal.idempotency.memory-ttl-ms=600000
+ * meal.idempotency.memory-max-entries=10000
+ * meal.idempotency.partition-days-ahead=3
+ * meal.idempotency.maintenance-interval-ms=3600000
+ * </pre>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Component
+@ConfigurationProperties(prefix = "meal.idempotency")
+public class MealIdempotencyProperties {
+
+    /**
+     * 冪等キーの保持日数
+     * 当日に加えてこの日数分の過去のパーティションを参照し、それより古いパーティションは削除する
+     */
+    private int retentionDays = 1;
+
+    /**
+     * 直近のキーをメモリに保持する時間（ミリ秒）
+     * 再送の大半は数秒〜数分以内のため、その間はDBを参照しない
+     */
+    private long memoryTtlMs = 600_000;
+
+    /**
+     * メモリに保持するキーの上限
+     * 上限に達している間の新しいキーはDBのみに保存する
+     */
+    private int memoryMaxEntries = 10_000;
+
+    /**
+     * 事前に作成しておく未来のパーティションの日数
+     */
+    private int partitionDaysAhead = 3;
+
+    /**
+     * パーティションの作成・削除とメモリの期限切れ破棄の実行間隔（ミリ秒）
+     */
+    private long maintenanceIntervalMs = 3_600_000;
+
+    // Getters and Setters
+    public int getRetentionDays() { return retentionDays; }
+    public void setRetentionDays(int retentionDays) { this.retentionDays = retentionDays; }
+
+    public long getMemoryTtlMs() { return memoryTtlMs; }
+    public void setMemoryTtlMs(long memoryTtlMs) { this.memoryTtlMs = memoryTtlMs; }
+
+    public int getMemoryMaxEntries() { return memoryMaxEntries; }
+    public void setMemoryMaxEntries(int memoryMaxEntries) { this.memoryMaxEntries = memoryMaxEntries; }
+
+    public int getPartitionDaysAhead() { return partitionDaysAhead; }
+    public void setPartitionDaysAhead(int partitionDaysAhead) { this.partitionDaysAhead = partitionDaysAhead; }
+
+    public long getMaintenanceIntervalMs() { return maintenanceIntervalMs; }
+    public void setMaintenanceIntervalMs(long maintenanceIntervalMs) { this.maintenanceIntervalMs = maintenanceIntervalMs; }
+}
@@ -0,0 +1,51 @@
+package com.meatmetrics.meatmetrics.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 食事・明細の月単位パーティションの設定プロパティ
+ *
+ * <h3>設定例:</h3>
+ * <pre>
+ * # application.properties
+ * meal.partition.months-ahead=2
+ * meal.partition.retention-months=0
+ * meal.partition.maintenance-interval-ms=3600000
+ * </pre>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Component
+@ConfigurationProperties(prefix = "meal.partition")
+public class MealPartitionProperties {
+
+    /**
+     * 事前に作成しておく未来のパーティションの月数
+     * 食事日は今日から7日後まで記録できるため、1以上が必要
+     */
+    private int monthsAhead = 2;
+
+    /**
+     * パーティションを保持する月数（0の場合は切り離さない）
+     * 当月に加えてこの月数分の過去のパーティションを残し、それより古いパーティションは親テーブルから切り離す。
+     * 切り離した月の食事は参照・記録できなくなる（テーブルは残るため、退避後に削除する）
+     */
+    private int retentionMonths = 0;
+
+    /**
+     * パーティションの作成・切り離しの実行間隔（ミリ秒）
+     */
+    private long maintenanceIntervalMs = 3_600_000;
+
+    // Getters and Setters
+    public int getMonthsAhead() { return monthsAhead; }
+    public void setMonthsAhead(int monthsAhead) { this.monthsAhead = monthsAhead; }
+
+    public int getRetentionMonths() { return retentionMonths; }
+    public void setRetentionMonths(int retentionMonths) { this.retentionMonths = retentionMonths; }
+
+    public long getMaintenanceIntervalMs() { return maintenanceIntervalMs; }
+    public void setMaintenanceIntervalMs(long maintenanceIntervalMs) { this.maintenanceIntervalMs = maintenanceIntervalMs; }
+}
@@ -0,0 +1,68 @@
+package com.meatmetrics.meatmetrics.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 論理削除済みの食事・明細のパージの設定プロパティ
+ *
+ * <h3>設定例:</h3>
+ * <pre>
+ * # application.properties
+ * meal.purge.enabled=true
+ * meal.purge.interval-ms=3600000
+ * meal.purge.retention-days=30
+ * meal.purge.batch-size=1000
+ * meal.purge.max-batches-per-run=50
+ * </pre>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Component
+@ConfigurationProperties(prefix = "meal.purge")
+public class MealPurgeProperties {
+
+    /**
+     * パージを実行するか
+     */
+    private boolean enabled = true;
+
+    /**
+     * パージの実行間隔（ミリ秒）
+     */
+    private long intervalMs = 3_600_000;
+
+    /**
+     * 論理削除してから物理削除するまでの日数
+     * 差分同期のクライアントがこの期間より長く同期しなかった場合は、全件の同期からやり直しになる
+     */
+    private int retentionDays = 30;
+
+    /**
+     * 1バッチ（1トランザクション）で削除する行数
+     */
+    private int batchSize = 1000;
+
+    /**
+     * 1回の実行で処理するバッチ数の上限（食事・明細それぞれ）
+     * 残りは次回の実行で処理する
+     */
+    private int maxBatchesPerRun = 50;
+
+    // Getters and Setters
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public long getIntervalMs() { return intervalMs; }
+    public void setIntervalMs(long intervalMs) { this.intervalMs = intervalMs; }
+
+    public int getRetentionDays() { return retentionDays; }
+    public void setRetentionDays(int retentionDays) { this.retentionDays = retentionDays; }
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+    public int getMaxBatchesPerRun() { return maxBatchesPerRun; }
+    public void setMaxBatchesPerRun(int maxBatchesPerRun) { this.maxBatchesPerRun = maxBatchesPerRun; }
+}
@@ -0,0 +1,50 @@
+package com.meatmetrics.meatmetrics.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 食事明細の栄養成分一括再計算の設定プロパティ
+ *
+ * <h3>設定例:</h3>
+ * <pre>
+ * # application.properties
+ * meal.recompute.chunk-size=1000
+ * meal.recompute.pause-ms=50
+ * meal.recompute.max-duty-cycle-percent=50
+ * </pre>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Component
+@ConfigurationProperties(prefix = "meal.recompute")
+public class MealRecomputeProperties {
+
+    /**
+     * 1チャンク（1トランザクション）で処理する明細数
+     * 行ロックの保持時間とトランザクションの大きさを抑えるため
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * チャンク間の最小待機時間（ミリ秒）
+     */
+    private long pauseMs = 50;
+
+    /**
+     * 処理時間の上限割合（%）
+     * チャンクの処理時間に応じて待機を延ばし、DBへの負荷をこの割合以下に保つ
+     */
+    private int maxDutyCyclePercent = 50;
+
+    // Getters and Setters
+    public int getChunkSize() { return chunkSize; }
+    public void setChunkSize(int chunkSize) { this.chunkSize = chunkSize; }
+
+    public long getPauseMs() { return pauseMs; }
+    public void setPauseMs(long pauseMs) { this.pauseMs = pauseMs; }
+
+    public int getMaxDutyCyclePercent() { return maxDutyCyclePercent; }
+    public void setMaxDutyCyclePercent(int maxDutyCyclePercent) { this.maxDutyCyclePercent = maxDutyCyclePercent; }
+}
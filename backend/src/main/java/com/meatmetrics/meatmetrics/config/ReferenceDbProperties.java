@@ -0,0 +1,40 @@
+package com.meatmetrics.meatmetrics.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 参照データベース（メモリマップする食品成分表ファイル）設定プロパティ
+ *
+ * <h3>設定例:</h3>
+ * <pre>
+ * # application.properties
+ * food.reference.path=/var/lib/meatmetrics/reference.mmrf
+ * food.reference.check-interval-ms=60000
+ * </pre>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Component
+@ConfigurationProperties(prefix = "food.reference")
+public class ReferenceDbProperties {
+
+    /**
+     * 参照データベースファイルのパス
+     * 空の場合は参照データベースを使用しない
+     */
+    private String path = "";
+
+    /**
+     * ファイルの置き換えを確認する間隔（ミリ秒）
+     */
+    private long checkIntervalMs = 60_000;
+
+    // Getters and Setters
+    public String getPath() { return path; }
+    public void setPath(String path) { this.path = path; }
+
+    public long getCheckIntervalMs() { return checkIntervalMs; }
+    public void setCheckIntervalMs(long checkIntervalMs) { this.checkIntervalMs = checkIntervalMs; }
+}
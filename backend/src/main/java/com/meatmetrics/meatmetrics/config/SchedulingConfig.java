@@ -0,0 +1,14 @@
+package com.meatmetrics.meatmetrics.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * スケジュール実行設定
+ *
+ * <p>インメモリ索引の定期更新などのバックグラウンド処理を有効化します。</p>
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -3,6 +3,7 @@ package com.meatmetrics.meatmetrics.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -30,7 +31,11 @@ public class SecurityConfig {
 				.requestMatchers("/api/health", "/api/health/db").permitAll()
 				.requestMatchers("/api/auth/register", "/api/auth/login", "/api/auth/refresh").permitAll()
 				.requestMatchers("/api/auth/logout", "/api/auth/change-password").authenticated()
+				.requestMatchers("/api/foods/custom/**").authenticated()
+				.requestMatchers(HttpMethod.GET, "/api/foods/**").permitAll()
 				.requestMatchers("/api/users/**").authenticated()
+				.requestMatchers("/api/meals/**").authenticated()
+				.requestMatchers("/api/admin/**").authenticated()
 				.anyRequest().authenticated()
 			)
 			.sessionManagement(session -> session
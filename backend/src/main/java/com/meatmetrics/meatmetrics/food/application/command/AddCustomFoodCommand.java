@@ -0,0 +1,99 @@
+package com.meatmetrics.meatmetrics.food.application.command;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * ユーザー独自食材登録のためのコマンドオブジェクト
+ *
+ * <p>栄養成分は100gあたりの値です。範囲の検証はハンドラーで食材マスタと同じルールにより行います。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public class AddCustomFoodCommand {
+
+    /** 所有ユーザーID */
+    private final Long userId;
+
+    /** 食材名 */
+    private final String name;
+
+    /** カテゴリID（任意） */
+    private final Long categoryId;
+
+    /** 100gあたりカロリー（kcal） */
+    private final int caloriesPer100g;
+
+    /** 100gあたりタンパク質（g） */
+    private final BigDecimal proteinG;
+
+    /** 100gあたり脂質（g） */
+    private final BigDecimal fatG;
+
+    /** 100gあたり炭水化物（g） */
+    private final BigDecimal carbohydratesG;
+
+    /** 100gあたり食物繊維（g） */
+    private final BigDecimal fiberG;
+
+    /** タグ */
+    private final List<String> tags;
+
+    /**
+     * 全項目指定コンストラクタ
+     *
+     * @param userId 所有ユーザーID
+     * @param name 食材名
+     * @param categoryId カテゴリID（任意）
+     * @param caloriesPer100g 100gあたりカロリー
+     * @param proteinG 100gあたりタンパク質
+     * @param fatG 100gあたり脂質
+     * @param carbohydratesG 100gあたり炭水化物
+     * @param fiberG 100gあたり食物繊維（nullの場合0）
+     * @param tags タグ（nullの場合なし）
+     */
+    public AddCustomFoodCommand(Long userId, String name, Long categoryId, int caloriesPer100g,
+                                BigDecimal proteinG, BigDecimal fatG, BigDecimal carbohydratesG,
+                                BigDecimal fiberG, List<String> tags) {
+        if (userId == null) {
+            throw new IllegalArgumentException("UserId cannot be null");
+        }
+        this.userId = userId;
+        this.name = name;
+        this.categoryId = categoryId;
+        this.caloriesPer100g = caloriesPer100g;
+        this.proteinG = proteinG;
+        this.fatG = fatG;
+        this.carbohydratesG = carbohydratesG;
+        this.fiberG = fiberG == null ? BigDecimal.ZERO : fiberG;
+        this.tags = tags == null ? List.of() : List.copyOf(tags);
+    }
+
+    /** @return 所有ユーザーID */
+    public Long getUserId() { return userId; }
+
+    /** @return 食材名 */
+    public String getName() { return name; }
+
+    /** @return カテゴリID（任意） */
+    public Long getCategoryId() { return categoryId; }
+
+    /** @return 100gあたりカロリー */
+    public int getCaloriesPer100g() { return caloriesPer100g; }
+
+    /** @return 100gあたりタンパク質 */
+    public BigDecimal getProteinG() { return proteinG; }
+
+    /** @return 100gあたり脂質 */
+    public BigDecimal getFatG() { return fatG; }
+
+    /** @return 100gあたり炭水化物 */
+    public BigDecimal getCarbohydratesG() { return carbohydratesG; }
+
+    /** @return 100gあたり食物繊維 */
+    public BigDecimal getFiberG() { return fiberG; }
+
+    /** @return タグ */
+    public List<String> getTags() { return tags; }
+}
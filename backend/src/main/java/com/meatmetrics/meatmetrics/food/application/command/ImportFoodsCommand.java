@@ -0,0 +1,57 @@
+package com.meatmetrics.meatmetrics.food.application.command;
+
+import java.io.InputStream;
+
+/**
+ * 食材一括インポートのためのコマンドオブジェクト
+ *
+ * <p>入力はストリームのまま保持し、全件をメモリに載せずに処理します。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public class ImportFoodsCommand {
+
+    /**
+     * 入力フォーマット
+     */
+    public enum Format {
+        /** ヘッダー行付きCSV（RFC 4180） */
+        CSV,
+        /** オブジェクトのJSON配列 */
+        JSON
+    }
+
+    /** 入力フォーマット */
+    private final Format format;
+
+    /** 入力ストリーム（UTF-8） */
+    private final InputStream input;
+
+    /**
+     * 全項目指定コンストラクタ
+     *
+     * @param format 入力フォーマット
+     * @param input 入力ストリーム
+     */
+    public ImportFoodsCommand(Format format, InputStream input) {
+        if (format == null) {
+            throw new IllegalArgumentException("Format cannot be null");
+        }
+        if (input == null) {
+            throw new IllegalArgumentException("Input cannot be null");
+        }
+        this.format = format;
+        this.input = input;
+    }
+
+    /** @return 入力フォーマット */
+    public Format getFormat() {
+        return format;
+    }
+
+    /** @return 入力ストリーム */
+    public InputStream getInput() {
+        return input;
+    }
+}
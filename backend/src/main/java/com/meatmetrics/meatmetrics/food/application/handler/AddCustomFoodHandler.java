@@ -0,0 +1,113 @@
+package com.meatmetrics.meatmetrics.food.application.handler;
+
+import java.math.BigDecimal;
+
+import org.springframework.stereotype.Service;
+
+import com.meatmetrics.meatmetrics.api.food.dto.response.FoodSummaryResponse;
+import com.meatmetrics.meatmetrics.config.CustomFoodProperties;
+import com.meatmetrics.meatmetrics.food.application.command.AddCustomFoodCommand;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodNutritionRules;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodSnapshot;
+import com.meatmetrics.meatmetrics.food.domain.category.CategoryTree;
+import com.meatmetrics.meatmetrics.food.domain.exception.InvalidCustomFoodException;
+import com.meatmetrics.meatmetrics.food.infrastructure.catalog.FoodCatalogService;
+import com.meatmetrics.meatmetrics.food.infrastructure.custom.CustomFoodOverlayCache;
+import com.meatmetrics.meatmetrics.food.infrastructure.custom.JdbcCustomFoodRepository;
+
+/**
+ * ユーザー独自食材登録サービス
+ *
+ * <p>食材マスタと同じ栄養成分ルールで検証して user_custom_foods に登録し、
+ * キャッシュ済みのオーバーレイに1件追加します。共有カタログとその索引は変更しません。</p>
+ *
+ * <p>オーバーレイへの反映はDB登録のコミット後に行うため、このハンドラーはトランザクションを持ちません。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Service
+public class AddCustomFoodHandler {
+
+    private final JdbcCustomFoodRepository customFoodRepository;
+    private final CustomFoodOverlayCache overlayCache;
+    private final FoodCatalogService foodCatalogService;
+    private final CustomFoodProperties properties;
+
+    /**
+     * コンストラクタ
+     *
+     * @param customFoodRepository 独自食材リポジトリ
+     * @param overlayCache オーバーレイキャッシュ
+     * @param foodCatalogService 食材カタログ（カテゴリ存在確認用）
+     * @param properties 独自食材設定
+     */
+    public AddCustomFoodHandler(JdbcCustomFoodRepository customFoodRepository,
+                                CustomFoodOverlayCache overlayCache,
+                                FoodCatalogService foodCatalogService,
+                                CustomFoodProperties properties) {
+        this.customFoodRepository = customFoodRepository;
+        this.overlayCache = overlayCache;
+        this.foodCatalogService = foodCatalogService;
+        this.properties = properties;
+    }
+
+    /**
+     * 独自食材登録処理
+     *
+     * @param command 登録コマンド
+     * @return 登録された独自食材
+     * @throws InvalidCustomFoodException 入力が食材マスタのルールを満たさない、または登録上限に達している場合
+     */
+    public FoodSummaryResponse addCustomFood(AddCustomFoodCommand command) {
+        FoodSnapshot draft = toDraft(command);
+        long userId = command.getUserId();
+        if (overlayCache.get(userId).size() >= properties.getMaxFoodsPerUser()) {
+            throw new InvalidCustomFoodException("独自食材は" + properties.getMaxFoodsPerUser() + "件まで登録できます");
+        }
+
+        FoodSnapshot saved = customFoodRepository.insert(userId, draft);
+        overlayCache.added(userId, saved);
+        return FoodSummaryResponse.fromCustom(saved);
+    }
+
+    private FoodSnapshot toDraft(AddCustomFoodCommand command) {
+        String name = command.getName() == null ? null : command.getName().strip();
+        if (!FoodNutritionRules.isValidName(name)) {
+            throw new InvalidCustomFoodException("食材名は1文字以上" + FoodNutritionRules.MAX_NAME_LENGTH + "文字以内で入力してください");
+        }
+        if (!FoodNutritionRules.isValidCalories(command.getCaloriesPer100g())) {
+            throw new InvalidCustomFoodException("カロリーは0〜" + FoodNutritionRules.MAX_CALORIES_PER_100G + "kcalで入力してください");
+        }
+        long protein = toMacroCentiG(command.getProteinG(), "タンパク質");
+        long fat = toMacroCentiG(command.getFatG(), "脂質");
+        long carbohydrates = toMacroCentiG(command.getCarbohydratesG(), "炭水化物");
+        long fiber = toMacroCentiG(command.getFiberG(), "食物繊維");
+        if (!FoodNutritionRules.isValidFiber(fiber, carbohydrates)) {
+            throw new InvalidCustomFoodException("食物繊維は炭水化物以下で入力してください");
+        }
+
+        long categoryId = 0;
+        if (command.getCategoryId() != null) {
+            CategoryTree tree = foodCatalogService.current().categoryTree();
+            if (tree.find(command.getCategoryId()).isEmpty()) {
+                throw new InvalidCustomFoodException("カテゴリが存在しません: " + command.getCategoryId());
+            }
+            categoryId = command.getCategoryId();
+        }
+
+        return new FoodSnapshot(0, name, categoryId, command.getCaloriesPer100g(),
+                protein, fat, carbohydrates, fiber, command.getTags(), true, null);
+    }
+
+    private static long toMacroCentiG(BigDecimal grams, String label) {
+        if (grams == null || grams.stripTrailingZeros().scale() > 2) {
+            throw new InvalidCustomFoodException(label + "は小数点以下2桁までで入力してください");
+        }
+        long centiGrams = grams.movePointRight(2).longValue();
+        if (!FoodNutritionRules.isValidMacro(centiGrams)) {
+            throw new InvalidCustomFoodException(label + "は0〜200gで入力してください");
+        }
+        return centiGrams;
+    }
+}
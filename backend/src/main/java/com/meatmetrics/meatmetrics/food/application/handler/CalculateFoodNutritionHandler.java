@@ -0,0 +1,55 @@
+package com.meatmetrics.meatmetrics.food.application.handler;
+
+import java.math.BigDecimal;
+import java.util.NoSuchElementException;
+
+import org.springframework.stereotype.Service;
+
+import com.meatmetrics.meatmetrics.api.food.dto.response.ItemNutritionResponse;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodCatalog;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodSnapshot;
+import com.meatmetrics.meatmetrics.food.domain.cooking.CookingFactors;
+import com.meatmetrics.meatmetrics.food.domain.cooking.CookingMethod;
+import com.meatmetrics.meatmetrics.food.domain.exception.InvalidCookingMethodException;
+import com.meatmetrics.meatmetrics.food.domain.nutrition.ItemNutrition;
+
+/**
+ * 摂取量・調理方法を指定した栄養成分の計算サービス
+ *
+ * <p>食材と調理係数はインメモリのカタログから取得し、DBアクセスを行いません。
+ * 計算は食事明細の栄養計算トリガーと同じ式・丸めです。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Service
+public class CalculateFoodNutritionHandler {
+
+    /**
+     * 栄養成分計算処理
+     *
+     * @param catalog カタログ（HTTPキャッシュ判定に使ったものと同じスナップショット）
+     * @param foodId 食材ID
+     * @param quantityG 摂取量（調理後のg）
+     * @param cookingMethod 調理方法（DB上の値、大文字小文字を区別しない）
+     * @return 栄養成分
+     * @throws NoSuchElementException 有効な食材が存在しない場合
+     * @throws InvalidCookingMethodException 不明な調理方法の場合
+     */
+    public ItemNutritionResponse calculate(FoodCatalog catalog, long foodId, BigDecimal quantityG, String cookingMethod) {
+        CookingMethod method = parseMethod(cookingMethod);
+        FoodSnapshot food = catalog.find(foodId)
+                .orElseThrow(() -> new NoSuchElementException("Food not found: " + foodId));
+        CookingFactors factors = catalog.cookingFactors().factors(food.categoryId(), method);
+        return ItemNutritionResponse.from(foodId, quantityG, method, factors,
+                ItemNutrition.calculate(food, quantityG, factors));
+    }
+
+    private static CookingMethod parseMethod(String cookingMethod) {
+        try {
+            return CookingMethod.fromCode(cookingMethod);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCookingMethodException(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.meatmetrics.meatmetrics.food.application.handler;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.meatmetrics.meatmetrics.api.food.dto.response.FoodSummaryResponse;
+import com.meatmetrics.meatmetrics.food.infrastructure.custom.CustomFoodOverlayCache;
+
+/**
+ * ユーザー独自食材一覧取得サービス
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Service
+public class GetCustomFoodsHandler {
+
+    private final CustomFoodOverlayCache overlayCache;
+
+    /**
+     * コンストラクタ
+     *
+     * @param overlayCache オーバーレイキャッシュ
+     */
+    public GetCustomFoodsHandler(CustomFoodOverlayCache overlayCache) {
+        this.overlayCache = overlayCache;
+    }
+
+    /**
+     * 独自食材一覧取得処理
+     *
+     * @param userId ユーザーID
+     * @return 独自食材（ID昇順）
+     */
+    public List<FoodSummaryResponse> listCustomFoods(long userId) {
+        return overlayCache.get(userId).foods().stream()
+                .map(FoodSummaryResponse::fromCustom)
+                .toList();
+    }
+}
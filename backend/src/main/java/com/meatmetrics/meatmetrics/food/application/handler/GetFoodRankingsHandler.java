@@ -0,0 +1,62 @@
+package com.meatmetrics.meatmetrics.food.application.handler;
+
+import java.util.List;
+import java.util.function.LongPredicate;
+
+import org.springframework.stereotype.Service;
+
+import com.meatmetrics.meatmetrics.api.food.dto.response.FoodRankingResponse;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodCatalog;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodRankingIndex;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodRankingIndex.RankedFood;
+import com.meatmetrics.meatmetrics.food.domain.catalog.RankingMetric;
+import com.meatmetrics.meatmetrics.food.infrastructure.catalog.FoodRankingIndexProvider;
+
+/**
+ * 食材ランキング取得サービス
+ *
+ * <p>事前ソート済みのランキング索引から上位N件を切り出して返します。DBアクセスは行いません。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Service
+public class GetFoodRankingsHandler {
+
+    private final FoodRankingIndexProvider rankingIndexProvider;
+
+    /**
+     * コンストラクタ
+     *
+     * @param rankingIndexProvider ランキング索引
+     */
+    public GetFoodRankingsHandler(FoodRankingIndexProvider rankingIndexProvider) {
+        this.rankingIndexProvider = rankingIndexProvider;
+    }
+
+    /**
+     * @return ランキング索引の元になっているカタログ
+     */
+    public FoodCatalog currentCatalog() {
+        return rankingIndexProvider.current().catalog();
+    }
+
+    /**
+     * ランキング取得処理
+     *
+     * @param metric 指標
+     * @param limit 最大件数
+     * @param categoryId カテゴリ条件（配下のカテゴリを含む、nullの場合は全カテゴリ）
+     * @param tag タグ条件（nullの場合は条件なし）
+     * @return ランキングDTO
+     */
+    public FoodRankingResponse getRankings(RankingMetric metric, int limit, Long categoryId, String tag) {
+        FoodRankingIndex index = rankingIndexProvider.current();
+        // 子孫カテゴリも含めて絞り込む（判定は行きがけ順の区間比較）
+        LongPredicate categoryFilter = categoryId == null ? null : index.catalog().categoryTree().subtreeFilter(categoryId);
+        String normalizedTag = tag == null || tag.isBlank() ? null : tag.trim();
+
+        List<RankedFood> ranked = index.top(metric, limit, categoryFilter, normalizedTag);
+        return FoodRankingResponse.from(metric, categoryId, normalizedTag, ranked);
+    }
+}
@@ -0,0 +1,71 @@
+package com.meatmetrics.meatmetrics.food.application.handler;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+import org.springframework.stereotype.Service;
+
+import com.meatmetrics.meatmetrics.api.food.dto.response.FoodSubstituteResponse;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodSnapshot;
+import com.meatmetrics.meatmetrics.food.domain.similarity.FoodSimilarityIndex;
+import com.meatmetrics.meatmetrics.food.domain.similarity.FoodSimilarityIndex.Neighbour;
+import com.meatmetrics.meatmetrics.food.infrastructure.catalog.FoodSimilarityIndexProvider;
+
+/**
+ * 代替食材検索サービス
+ *
+ * <p>栄養成分（カロリー・タンパク質・脂質・正味炭水化物）が近い食材を、k-d木索引から返します。DBアクセスは行いません。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Service
+public class GetFoodSubstitutesHandler {
+
+    private final FoodSimilarityIndexProvider similarityIndexProvider;
+
+    /**
+     * コンストラクタ
+     *
+     * @param similarityIndexProvider 代替食材検索索引
+     */
+    public GetFoodSubstitutesHandler(FoodSimilarityIndexProvider similarityIndexProvider) {
+        this.similarityIndexProvider = similarityIndexProvider;
+    }
+
+    /**
+     * @return 現在の索引（HTTPキャッシュ判定と応答で同じスナップショットを使うため）
+     */
+    public FoodSimilarityIndex currentIndex() {
+        return similarityIndexProvider.current();
+    }
+
+    /**
+     * 代替食材検索処理
+     *
+     * @param index 索引
+     * @param foodId 基準の食材ID
+     * @param limit 最大件数
+     * @param categoryId カテゴリ条件（配下のカテゴリを含む、nullの場合は全カテゴリ）
+     * @param tag タグ条件（nullの場合は条件なし）
+     * @return 代替食材DTO
+     * @throws NoSuchElementException 有効な食材が存在しない場合
+     */
+    public FoodSubstituteResponse getSubstitutes(FoodSimilarityIndex index, long foodId, int limit, Long categoryId, String tag) {
+        FoodSnapshot base = index.catalog().find(foodId)
+                .orElseThrow(() -> new NoSuchElementException("Food not found: " + foodId));
+        // 子孫カテゴリも含めて絞り込む（判定は行きがけ順の区間比較）
+        LongPredicate categoryFilter = categoryId == null ? null : index.catalog().categoryTree().subtreeFilter(categoryId);
+        String normalizedTag = tag == null || tag.isBlank() ? null : tag.trim();
+
+        Predicate<FoodSnapshot> filter = null;
+        if (categoryFilter != null || normalizedTag != null) {
+            filter = food -> (categoryFilter == null || categoryFilter.test(food.categoryId()))
+                    && (normalizedTag == null || food.hasTag(normalizedTag));
+        }
+        List<Neighbour> neighbours = index.nearest(base, limit, filter);
+        return FoodSubstituteResponse.from(base, categoryId, normalizedTag, neighbours);
+    }
+}
@@ -0,0 +1,121 @@
+package com.meatmetrics.meatmetrics.food.application.handler;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.springframework.stereotype.Service;
+
+import com.meatmetrics.meatmetrics.api.food.dto.response.FoodBarcodeResponse;
+import com.meatmetrics.meatmetrics.api.food.dto.response.FoodSummaryResponse;
+import com.meatmetrics.meatmetrics.food.domain.barcode.Gtin;
+import com.meatmetrics.meatmetrics.food.domain.catalog.CategoryFoodIndex;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodCatalog;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodSnapshot;
+import com.meatmetrics.meatmetrics.food.domain.exception.InvalidGtinException;
+import com.meatmetrics.meatmetrics.food.infrastructure.catalog.CategoryFoodIndexProvider;
+
+/**
+ * 食材参照サービス
+ *
+ * <p>インメモリの食材カタログから食材一覧・詳細・バーコード検索結果を返します。
+ * 呼び出し側はHTTPキャッシュ判定に使ったカタログと同じスナップショットを渡すことで、
+ * ETagと応答内容の整合性を保ちます。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Service
+public class GetFoodsHandler {
+
+    private final CategoryFoodIndexProvider categoryFoodIndexProvider;
+
+    /**
+     * コンストラクタ
+     *
+     * @param categoryFoodIndexProvider カテゴリ配下食材索引
+     */
+    public GetFoodsHandler(CategoryFoodIndexProvider categoryFoodIndexProvider) {
+        this.categoryFoodIndexProvider = categoryFoodIndexProvider;
+    }
+
+    /**
+     * @return カテゴリ配下食材索引の元になっているカタログ
+     */
+    public FoodCatalog currentCatalog() {
+        return categoryFoodIndexProvider.current().catalog();
+    }
+
+    /**
+     * 食材一覧取得処理
+     *
+     * @param catalog カタログ
+     * @param categoryId カテゴリ条件（配下のカテゴリを含む、nullの場合は全カテゴリ）
+     * @param tag タグ条件（nullの場合は条件なし）
+     * @return 食材一覧（ID昇順）
+     */
+    public List<FoodSummaryResponse> listFoods(FoodCatalog catalog, Long categoryId, String tag) {
+        String normalizedTag = tag == null || tag.isBlank() ? null : tag.trim();
+        List<FoodSnapshot> candidates = categoryId == null
+                ? catalog.activeFoods()
+                : categoryIndexFor(catalog).foodsUnder(categoryId);
+        List<FoodSummaryResponse> foods = new ArrayList<>();
+        for (FoodSnapshot food : candidates) {
+            if (normalizedTag != null && !food.hasTag(normalizedTag)) {
+                continue;
+            }
+            foods.add(FoodSummaryResponse.from(food));
+        }
+        if (categoryId != null) {
+            // 索引はカテゴリの行きがけ順に並んでいるため、一覧の並び順（ID昇順）に揃える
+            foods.sort(Comparator.comparing(FoodSummaryResponse::getId));
+        }
+        return foods;
+    }
+
+    /**
+     * 渡されたカタログと同じスナップショットの索引を返す
+     *
+     * <p>カタログ更新の通知途中に呼ばれた場合のみ、その場で索引を作り直します。</p>
+     */
+    private CategoryFoodIndex categoryIndexFor(FoodCatalog catalog) {
+        CategoryFoodIndex index = categoryFoodIndexProvider.current();
+        return index.catalog() == catalog ? index : CategoryFoodIndex.build(catalog);
+    }
+
+    /**
+     * 食材詳細取得処理
+     *
+     * @param catalog カタログ
+     * @param foodId 食材ID
+     * @return 食材
+     * @throws NoSuchElementException 有効な食材が存在しない場合
+     */
+    public FoodSummaryResponse getFood(FoodCatalog catalog, long foodId) {
+        return catalog.find(foodId)
+                .map(FoodSummaryResponse::from)
+                .orElseThrow(() -> new NoSuchElementException("Food not found: " + foodId));
+    }
+
+    /**
+     * バーコード検索処理
+     *
+     * <p>カタログが保持するGTIN索引（ソート済み配列）を二分探索し、DBアクセスを行いません。</p>
+     *
+     * @param catalog カタログ
+     * @param gtin GTIN-13、または12桁のUPC-A
+     * @return バーコードと食材
+     * @throws InvalidGtinException GTINの形式・チェックディジットが不正な場合
+     * @throws NoSuchElementException 登録がない、または食材が無効な場合
+     */
+    public FoodBarcodeResponse getFoodByBarcode(FoodCatalog catalog, String gtin) {
+        long code = Gtin.parse(gtin);
+        long foodId = catalog.barcodes().find(code);
+        FoodSnapshot food = foodId < 0 ? null : catalog.get(foodId);
+        if (food == null) {
+            throw new NoSuchElementException("Barcode not found: " + Gtin.format(code));
+        }
+        return FoodBarcodeResponse.from(code, food);
+    }
+}
@@ -0,0 +1,89 @@
+package com.meatmetrics.meatmetrics.food.application.handler;
+
+import java.util.NoSuchElementException;
+
+import org.springframework.stereotype.Service;
+
+import com.meatmetrics.meatmetrics.api.food.dto.response.ReferenceFoodResponse;
+import com.meatmetrics.meatmetrics.api.food.dto.response.ReferenceNutrientRankingResponse;
+import com.meatmetrics.meatmetrics.food.domain.exception.UnknownReferenceNutrientException;
+import com.meatmetrics.meatmetrics.food.infrastructure.reference.ReferenceDb;
+import com.meatmetrics.meatmetrics.food.infrastructure.reference.ReferenceDbProvider;
+
+/**
+ * 参照データベース（食品成分表）参照サービス
+ *
+ * <p>メモリマップした参照データベースから直接読み出します。DBアクセスやファイル全体の読み込みは行いません。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Service
+public class GetReferenceFoodsHandler {
+
+    private final ReferenceDbProvider referenceDbProvider;
+
+    /**
+     * コンストラクタ
+     *
+     * @param referenceDbProvider 参照データベース
+     */
+    public GetReferenceFoodsHandler(ReferenceDbProvider referenceDbProvider) {
+        this.referenceDbProvider = referenceDbProvider;
+    }
+
+    /**
+     * @return 現在の参照データベース（HTTPキャッシュ判定と応答で同じファイルを使うため）
+     * @throws NoSuchElementException 参照データベースが設定されていない、または開けていない場合
+     */
+    public ReferenceDb currentDb() {
+        return referenceDbProvider.current()
+                .orElseThrow(() -> new NoSuchElementException("Reference database is not available"));
+    }
+
+    /**
+     * 食品取得処理
+     *
+     * @param db 参照データベース
+     * @param code 食品コード
+     * @return 食品
+     * @throws NoSuchElementException 食品が存在しない場合
+     */
+    public ReferenceFoodResponse getFood(ReferenceDb db, String code) {
+        int record = db.find(code);
+        if (record < 0) {
+            throw new NoSuchElementException("Reference food not found: " + code);
+        }
+        return ReferenceFoodResponse.from(db, record);
+    }
+
+    /**
+     * 栄養素コードを位置に解決する
+     *
+     * @param db 参照データベース
+     * @param nutrient 栄養素コード
+     * @return 栄養素の位置
+     * @throws UnknownReferenceNutrientException 栄養素コードが定義されていない場合
+     */
+    public int nutrientIndex(ReferenceDb db, String nutrient) {
+        int nutrientIndex = db.nutrientIndex(nutrient);
+        if (nutrientIndex < 0) {
+            throw new UnknownReferenceNutrientException("Unknown nutrient: " + nutrient);
+        }
+        return nutrientIndex;
+    }
+
+    /**
+     * 栄養素ランキング取得処理
+     *
+     * @param db 参照データベース
+     * @param nutrientIndex 栄養素の位置（{@link #nutrientIndex} で解決したもの）
+     * @param limit 最大件数
+     * @return ランキング
+     */
+    public ReferenceNutrientRankingResponse getRankings(ReferenceDb db, int nutrientIndex, int limit) {
+        int[] records = new int[limit];
+        int count = db.top(nutrientIndex, records);
+        return ReferenceNutrientRankingResponse.from(db, nutrientIndex, records, count);
+    }
+}
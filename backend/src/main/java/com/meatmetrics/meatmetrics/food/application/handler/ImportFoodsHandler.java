@@ -0,0 +1,82 @@
+package com.meatmetrics.meatmetrics.food.application.handler;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.meatmetrics.meatmetrics.api.food.dto.response.FoodImportResponse;
+import com.meatmetrics.meatmetrics.food.application.command.ImportFoodsCommand;
+import com.meatmetrics.meatmetrics.food.infrastructure.importer.CsvFoodImportReader;
+import com.meatmetrics.meatmetrics.food.infrastructure.importer.FoodImportReader;
+import com.meatmetrics.meatmetrics.food.infrastructure.importer.FoodImportReport;
+import com.meatmetrics.meatmetrics.food.infrastructure.importer.FoodImportRowValidator;
+import com.meatmetrics.meatmetrics.food.infrastructure.importer.JsonFoodImportReader;
+import com.meatmetrics.meatmetrics.food.infrastructure.importer.PostgresFoodImporter;
+
+/**
+ * 食材一括インポートサービス
+ *
+ * <p>公開栄養データセット等のCSV/JSONをストリーミングで読み込み、
+ * foodsテーブルの制約と同じ基準で検証したうえでCOPY経由で取り込みます。
+ * 不正な行はスキップしてエラー一覧に記録し、正常な行のみをマージします。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Service
+public class ImportFoodsHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportFoodsHandler.class);
+
+    private final PostgresFoodImporter foodImporter;
+
+    /**
+     * コンストラクタ
+     *
+     * @param foodImporter COPYインポーター
+     */
+    public ImportFoodsHandler(PostgresFoodImporter foodImporter) {
+        this.foodImporter = foodImporter;
+    }
+
+    /**
+     * 食材一括インポート処理
+     *
+     * <p>以下の処理を1トランザクションで実行します：</p>
+     * <ol>
+     *   <li>カテゴリ解決用マップの読み込み</li>
+     *   <li>入力の逐次読み込みと行検証</li>
+     *   <li>COPYによるステージング投入</li>
+     *   <li>ON CONFLICTによるfoodsへのマージ</li>
+     * </ol>
+     *
+     * @param command インポートコマンド
+     * @return インポート結果DTO（件数、処理時間、行エラー）
+     * @throws com.meatmetrics.meatmetrics.food.domain.exception.InvalidFoodImportException 入力構造が不正な場合
+     */
+    @Transactional
+    public FoodImportResponse importFoods(ImportFoodsCommand command) {
+        FoodImportRowValidator validator = new FoodImportRowValidator(foodImporter.loadCategoryKeys());
+
+        try (FoodImportReader reader = openReader(command)) {
+            FoodImportReport report = foodImporter.importRows(reader, validator);
+            log.info("Food import finished: total={}, staged={}, rejected={}, inserted={}, updated={}, elapsedMs={}",
+                    report.getTotalRows(), report.getStagedRows(), report.getRejectedRows(),
+                    report.getInsertedFoods(), report.getUpdatedFoods(), report.getElapsedMs());
+            return FoodImportResponse.from(report);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read food import input", e);
+        }
+    }
+
+    private FoodImportReader openReader(ImportFoodsCommand command) throws IOException {
+        return switch (command.getFormat()) {
+            case CSV -> new CsvFoodImportReader(command.getInput());
+            case JSON -> new JsonFoodImportReader(command.getInput());
+        };
+    }
+}
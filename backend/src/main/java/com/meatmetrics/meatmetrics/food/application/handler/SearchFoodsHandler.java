@@ -0,0 +1,188 @@
+package com.meatmetrics.meatmetrics.food.application.handler;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+
+import com.meatmetrics.meatmetrics.api.food.dto.response.FoodAutocompleteResponse;
+import com.meatmetrics.meatmetrics.api.food.dto.response.FoodSearchResponse;
+import com.meatmetrics.meatmetrics.food.domain.locale.FoodLocale;
+import com.meatmetrics.meatmetrics.food.domain.search.FoodNameNormalizer;
+import com.meatmetrics.meatmetrics.food.domain.search.FoodSearchIndex;
+import com.meatmetrics.meatmetrics.food.domain.search.FoodSearchIndex.Match;
+import com.meatmetrics.meatmetrics.food.domain.search.FoodSearchIndex.MatchType;
+import com.meatmetrics.meatmetrics.food.domain.search.FoodSpellingIndex.Suggestion;
+import com.meatmetrics.meatmetrics.food.infrastructure.catalog.FoodSearchIndexProvider;
+import com.meatmetrics.meatmetrics.food.infrastructure.custom.CustomFoodOverlayCache;
+import com.meatmetrics.meatmetrics.food.infrastructure.custom.UserLocaleCache;
+import com.meatmetrics.meatmetrics.food.infrastructure.usage.FoodUsageSketchCache;
+
+/**
+ * 食材検索サービス
+ *
+ * <p>共有カタログの検索索引（不変）と、認証済みユーザーの独自食材オーバーレイを検索時に合成します。
+ * 両者は同じ順序（{@link FoodSearchIndex#ORDER}）で並んでいるため、合成は上位N件のマージだけです。</p>
+ *
+ * <p>一致が1件もない場合は、綴りの近い食材名・タグ（「もしかして」候補）を返し、
+ * 最も近い候補で検索し直した結果を代わりに返します。</p>
+ *
+ * <p>検索索引は言語ごとに用意されており、ユーザーの表示言語（未設定の場合は Accept-Language）で選びます。</p>
+ *
+ * <p>入力補完では、ユーザーがよく記録する食材（{@link FoodUsageSketchCache}）のうち前方一致するものを先に並べ、
+ * 残りを通常の前方一致の順で埋めます。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Service
+public class SearchFoodsHandler {
+
+    /** 「もしかして」候補の最大件数 */
+    static final int SUGGESTION_LIMIT = 5;
+
+    private final FoodSearchIndexProvider searchIndexProvider;
+    private final CustomFoodOverlayCache overlayCache;
+    private final UserLocaleCache userLocaleCache;
+    private final FoodUsageSketchCache usageCache;
+
+    /**
+     * コンストラクタ
+     *
+     * @param searchIndexProvider 食材名検索索引
+     * @param overlayCache 独自食材オーバーレイキャッシュ
+     * @param userLocaleCache ユーザー表示言語キャッシュ
+     * @param usageCache ユーザー別食材使用頻度キャッシュ
+     */
+    public SearchFoodsHandler(FoodSearchIndexProvider searchIndexProvider, CustomFoodOverlayCache overlayCache,
+                              UserLocaleCache userLocaleCache, FoodUsageSketchCache usageCache) {
+        this.searchIndexProvider = searchIndexProvider;
+        this.overlayCache = overlayCache;
+        this.userLocaleCache = userLocaleCache;
+        this.usageCache = usageCache;
+    }
+
+    /**
+     * @return 既定言語の現在の検索索引（HTTPキャッシュ判定に使ったものを検索にも渡す）
+     */
+    public FoodSearchIndex currentIndex() {
+        return searchIndexProvider.current();
+    }
+
+    /**
+     * @param locale 言語
+     * @return 指定言語の現在の検索索引
+     */
+    public FoodSearchIndex currentIndex(String locale) {
+        return searchIndexProvider.current(locale);
+    }
+
+    /**
+     * 検索に使う言語を決める
+     *
+     * @param userId 認証済みユーザーID（nullの場合は Accept-Language のみで決める）
+     * @param acceptLanguage Accept-Language ヘッダー（null可）
+     * @return 対応言語
+     */
+    public String resolveLocale(Long userId, String acceptLanguage) {
+        String preferred = userId == null ? null : userLocaleCache.get(userId).orElse(null);
+        return FoodLocale.resolve(preferred, acceptLanguage);
+    }
+
+    /**
+     * 食材検索処理
+     *
+     * @param index 検索索引
+     * @param query 検索語
+     * @param limit 最大件数
+     * @param userId 認証済みユーザーID（nullの場合は共有カタログのみ）
+     * @return 検索結果DTO
+     */
+    public FoodSearchResponse search(FoodSearchIndex index, String query, int limit, Long userId) {
+        List<Match> matches = searchMerged(index, query, limit, userId);
+        if (!matches.isEmpty()) {
+            return FoodSearchResponse.from(query, matches);
+        }
+        List<String> suggestions = index.suggest(query, SUGGESTION_LIMIT).stream()
+                .map(Suggestion::term)
+                .toList();
+        if (suggestions.isEmpty()) {
+            return FoodSearchResponse.from(query, matches);
+        }
+        String corrected = suggestions.get(0);
+        return FoodSearchResponse.from(query, searchMerged(index, corrected, limit, userId), corrected, suggestions);
+    }
+
+    /**
+     * 入力補完処理
+     *
+     * <p>ユーザーのよく使う食材（最大でもスケッチの保持件数）を1件ずつ前方一致で判定して先頭に置き、
+     * 残りを共有カタログと独自食材の前方一致で埋めます。検索語が空の場合はよく使う食材だけを返します。</p>
+     *
+     * @param index 検索索引
+     * @param query 入力途中の検索語
+     * @param limit 最大件数
+     * @param userId 認証済みユーザーID（nullの場合は共有カタログの前方一致のみ）
+     * @return 入力補完結果DTO
+     */
+    public FoodAutocompleteResponse autocomplete(FoodSearchIndex index, String query, int limit, Long userId) {
+        String key = FoodNameNormalizer.normalize(query);
+        List<Match> items = new ArrayList<>(limit);
+        Set<Long> frequentIds = new HashSet<>();
+        if (userId != null) {
+            for (long foodId : usageCache.get(userId).foodIds()) {
+                if (items.size() >= limit) {
+                    break;
+                }
+                Match match = index.prefixMatch(foodId, key);
+                if (match != null) {
+                    items.add(match);
+                    frequentIds.add(foodId);
+                }
+            }
+        }
+        int frequentCount = items.size();
+        if (items.size() < limit && !key.isEmpty()) {
+            List<Match> shared = index.searchPrefix(query, limit);
+            List<Match> custom = userId == null ? List.of() : overlayCache.get(userId).search(query).stream()
+                    .filter(match -> match.matchType() == MatchType.EXACT || match.matchType() == MatchType.PREFIX)
+                    .toList();
+            for (Match match : merge(shared, custom, limit)) {
+                if (items.size() >= limit) {
+                    break;
+                }
+                if (match.custom() || !frequentIds.contains(match.food().id())) {
+                    items.add(match);
+                }
+            }
+        }
+        return FoodAutocompleteResponse.from(query, items, frequentCount);
+    }
+
+    private List<Match> searchMerged(FoodSearchIndex index, String query, int limit, Long userId) {
+        List<Match> shared = index.search(query, limit);
+        if (userId == null) {
+            return shared;
+        }
+        List<Match> custom = overlayCache.get(userId).search(query);
+        return merge(shared, custom, limit);
+    }
+
+    /** 同じ順序で並んだ2つの結果から上位N件を取り出す */
+    private static List<Match> merge(List<Match> shared, List<Match> custom, int limit) {
+        if (custom.isEmpty()) {
+            return shared;
+        }
+        List<Match> merged = new ArrayList<>(Math.min(limit, shared.size() + custom.size()));
+        int s = 0;
+        int c = 0;
+        while (merged.size() < limit && (s < shared.size() || c < custom.size())) {
+            boolean takeShared = c >= custom.size()
+                    || (s < shared.size() && FoodSearchIndex.ORDER.compare(shared.get(s), custom.get(c)) <= 0);
+            merged.add(takeShared ? shared.get(s++) : custom.get(c++));
+        }
+        return merged;
+    }
+}
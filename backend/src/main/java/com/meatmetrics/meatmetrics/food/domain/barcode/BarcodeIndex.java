@@ -0,0 +1,141 @@
+package com.meatmetrics.meatmetrics.food.domain.barcode;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GTIN-13 → 食材ID の索引（不変）
+ *
+ * <p>GTINの昇順に並べた long[] と、並列の食材ID配列を保持し、二分探索で引きます。
+ * 1件あたり16バイトで、ボクシングやハッシュ表のエントリを持ちません。</p>
+ *
+ * <p>差分更新時は変更分だけをソートし、既存の並びとマージします（O(N + k log k)、kは変更件数）。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public final class BarcodeIndex {
+
+    private static final BarcodeIndex EMPTY = new BarcodeIndex(new long[0], new long[0], Instant.EPOCH);
+
+    private final long[] gtins;
+    private final long[] foodIds;
+    private final Instant highWaterMark;
+
+    private BarcodeIndex(long[] gtins, long[] foodIds, Instant highWaterMark) {
+        this.gtins = gtins;
+        this.foodIds = foodIds;
+        this.highWaterMark = highWaterMark;
+    }
+
+    /**
+     * @return 空の索引
+     */
+    public static BarcodeIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 全件から索引を構築する（無効な対応は除外）
+     *
+     * @param barcodes バーコード
+     * @return 索引
+     */
+    public static BarcodeIndex of(Collection<FoodBarcode> barcodes) {
+        return EMPTY.withChanges(barcodes);
+    }
+
+    /**
+     * 変更分を適用した新しい索引を返す
+     *
+     * @param changed 追加・更新・無効化された対応
+     * @return 新しい索引（変更がない場合は自身）
+     */
+    public BarcodeIndex withChanges(Collection<FoodBarcode> changed) {
+        if (changed.isEmpty()) {
+            return this;
+        }
+        // 同じGTINが複数回含まれる場合は更新日時の新しいものを採用する
+        Map<Long, FoodBarcode> latest = new HashMap<>(changed.size() * 2);
+        Instant mark = highWaterMark;
+        for (FoodBarcode barcode : changed) {
+            latest.merge(barcode.gtin(), barcode, (a, b) -> b.updatedAt().isBefore(a.updatedAt()) ? a : b);
+            if (barcode.updatedAt().isAfter(mark)) {
+                mark = barcode.updatedAt();
+            }
+        }
+        List<FoodBarcode> sorted = new ArrayList<>(latest.values());
+        sorted.sort(Comparator.comparingLong(FoodBarcode::gtin));
+
+        long[] nextGtins = new long[gtins.length + sorted.size()];
+        long[] nextFoodIds = new long[nextGtins.length];
+        int size = 0;
+        int i = 0;
+        boolean modified = false;
+        for (FoodBarcode barcode : sorted) {
+            while (i < gtins.length && gtins[i] < barcode.gtin()) {
+                nextGtins[size] = gtins[i];
+                nextFoodIds[size++] = foodIds[i++];
+            }
+            boolean existed = i < gtins.length && gtins[i] == barcode.gtin();
+            if (barcode.active()) {
+                nextGtins[size] = barcode.gtin();
+                nextFoodIds[size++] = barcode.foodId();
+                modified |= !existed || foodIds[i] != barcode.foodId();
+            } else {
+                modified |= existed;
+            }
+            if (existed) {
+                i++;
+            }
+        }
+        while (i < gtins.length) {
+            nextGtins[size] = gtins[i];
+            nextFoodIds[size++] = foodIds[i++];
+        }
+        if (!modified) {
+            return mark.equals(highWaterMark) ? this : new BarcodeIndex(gtins, foodIds, mark);
+        }
+        return new BarcodeIndex(Arrays.copyOf(nextGtins, size), Arrays.copyOf(nextFoodIds, size), mark);
+    }
+
+    /**
+     * @param gtin GTIN-13
+     * @return 食材ID、登録がない場合は-1
+     */
+    public long find(long gtin) {
+        int low = 0;
+        int high = gtins.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (gtins[mid] < gtin) {
+                low = mid + 1;
+            } else if (gtins[mid] > gtin) {
+                high = mid - 1;
+            } else {
+                return foodIds[mid];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return 登録数
+     */
+    public int size() {
+        return gtins.length;
+    }
+
+    /**
+     * @return 取り込み済みの最終更新日時（差分取得の起点）
+     */
+    public Instant highWaterMark() {
+        return highWaterMark;
+    }
+}
@@ -0,0 +1,15 @@
+package com.meatmetrics.meatmetrics.food.domain.barcode;
+
+import java.time.Instant;
+
+/**
+ * バーコードと食材の対応（food_barcodesの1行）
+ *
+ * @param gtin GTIN-13
+ * @param foodId 食材ID
+ * @param active 有効フラグ（無効化された対応は索引から取り除かれる）
+ * @param updatedAt 最終更新日時
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public record FoodBarcode(long gtin, long foodId, boolean active, Instant updatedAt) {}
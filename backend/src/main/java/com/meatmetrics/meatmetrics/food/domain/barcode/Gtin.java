@@ -0,0 +1,76 @@
+package com.meatmetrics.meatmetrics.food.domain.barcode;
+
+import com.meatmetrics.meatmetrics.food.domain.exception.InvalidGtinException;
+
+/**
+ * GTIN-13（JANコード）の解析・検証
+ *
+ * <p>GTINは13桁の数値として long で扱います（先頭の0は表示時に補います）。
+ * 12桁のUPC-Aは先頭に0を補ったGTIN-13として扱います。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public final class Gtin {
+
+    /** GTIN-13の桁数 */
+    public static final int LENGTH = 13;
+
+    private Gtin() {}
+
+    /**
+     * 文字列をGTIN-13として解析する
+     *
+     * @param value 12桁（UPC-A）または13桁の数字
+     * @return GTIN-13
+     * @throws InvalidGtinException 桁数・文字・チェックディジットが不正な場合
+     */
+    public static long parse(String value) {
+        if (value == null || (value.length() != LENGTH && value.length() != LENGTH - 1)) {
+            throw new InvalidGtinException("GTIN must be 12 or 13 digits");
+        }
+        long gtin = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new InvalidGtinException("GTIN must contain digits only");
+            }
+            gtin = gtin * 10 + (c - '0');
+        }
+        if (!hasValidCheckDigit(gtin)) {
+            throw new InvalidGtinException("Invalid GTIN check digit: " + value);
+        }
+        return gtin;
+    }
+
+    /**
+     * チェックディジット（末尾1桁）を検証する
+     *
+     * <p>末尾を除く12桁に、左から1, 3, 1, 3, ... の重みを掛けた和から求めます。</p>
+     *
+     * @param gtin GTIN-13
+     * @return 正しい場合true
+     */
+    public static boolean hasValidCheckDigit(long gtin) {
+        if (gtin < 0 || gtin > 9_999_999_999_999L) {
+            return false;
+        }
+        long body = gtin / 10;
+        int sum = 0;
+        // 右から数えて奇数桁（チェックディジットの直前）の重みが3
+        for (int position = 0; position < LENGTH - 1; position++) {
+            int digit = (int) (body % 10);
+            sum += position % 2 == 0 ? digit * 3 : digit;
+            body /= 10;
+        }
+        return (10 - sum % 10) % 10 == gtin % 10;
+    }
+
+    /**
+     * @param gtin GTIN-13
+     * @return 先頭の0を補った13桁の文字列
+     */
+    public static String format(long gtin) {
+        return String.format("%013d", gtin);
+    }
+}
@@ -0,0 +1,105 @@
+package com.meatmetrics.meatmetrics.food.domain.catalog;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import com.meatmetrics.meatmetrics.food.domain.category.CategoryTree;
+
+/**
+ * カテゴリ配下の食材を区間で引くための索引（不変）
+ *
+ * <p>食材を「所属カテゴリの行きがけ順番号 → 食材ID」の順に並べておくことで、
+ * カテゴリYの配下（Y自身を含む）の食材は {@code [pre(Y), last(Y)]} に対応する連続区間になります。
+ * 区間の両端は二分探索で求めるため、再帰CTEやカテゴリIDのIN句展開は不要です。</p>
+ *
+ * <p>ツリーに存在しない（無効な）カテゴリに属する食材は索引に含めません。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public final class CategoryFoodIndex {
+
+    private static final CategoryFoodIndex EMPTY = new CategoryFoodIndex(FoodCatalog.empty(), new int[0], new FoodSnapshot[0]);
+
+    private final FoodCatalog catalog;
+    private final CategoryTree tree;
+    /** foods と並列の、所属カテゴリの行きがけ順番号（昇順） */
+    private final int[] preorders;
+    private final FoodSnapshot[] foods;
+
+    private CategoryFoodIndex(FoodCatalog catalog, int[] preorders, FoodSnapshot[] foods) {
+        this.catalog = catalog;
+        this.tree = catalog.categoryTree();
+        this.preorders = preorders;
+        this.foods = foods;
+    }
+
+    /**
+     * @return 空の索引
+     */
+    public static CategoryFoodIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * カタログから索引を構築する
+     *
+     * @param catalog カタログ（カテゴリツリーを含む）
+     * @return 索引
+     */
+    public static CategoryFoodIndex build(FoodCatalog catalog) {
+        CategoryTree tree = catalog.categoryTree();
+        List<FoodSnapshot> active = catalog.activeFoods();
+        FoodSnapshot[] sorted = active.stream()
+                .filter(food -> tree.preorder(food.categoryId()) >= 0)
+                .sorted(Comparator.<FoodSnapshot>comparingInt(food -> tree.preorder(food.categoryId()))
+                        .thenComparingLong(FoodSnapshot::id))
+                .toArray(FoodSnapshot[]::new);
+        int[] preorders = new int[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            preorders[i] = tree.preorder(sorted[i].categoryId());
+        }
+        return new CategoryFoodIndex(catalog, preorders, sorted);
+    }
+
+    /**
+     * カテゴリ配下（自身を含む）の食材を返す
+     *
+     * @param categoryId カテゴリID
+     * @return 食材（カテゴリの行きがけ順 → ID順）、カテゴリが存在しない場合は空
+     */
+    public List<FoodSnapshot> foodsUnder(long categoryId) {
+        int from = tree.preorder(categoryId);
+        if (from < 0) {
+            return List.of();
+        }
+        int to = tree.lastInSubtree(categoryId);
+        int start = lowerBound(preorders, from);
+        int end = lowerBound(preorders, to + 1);
+        return Collections.unmodifiableList(Arrays.asList(foods).subList(start, end));
+    }
+
+    /**
+     * @return 索引の元になったカタログ
+     */
+    public FoodCatalog catalog() {
+        return catalog;
+    }
+
+    /** value 以上の最初の位置 */
+    private static int lowerBound(int[] values, int value) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
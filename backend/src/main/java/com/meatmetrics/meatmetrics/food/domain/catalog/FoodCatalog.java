@@ -0,0 +1,263 @@
+package com.meatmetrics.meatmetrics.food.domain.catalog;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import com.meatmetrics.meatmetrics.food.domain.barcode.BarcodeIndex;
+import com.meatmetrics.meatmetrics.food.domain.category.CategoryTree;
+import com.meatmetrics.meatmetrics.food.domain.cooking.CookingFactorTable;
+import com.meatmetrics.meatmetrics.food.domain.locale.FoodNameTable;
+
+/**
+ * 有効な食材の不変スナップショット
+ *
+ * <p>読み取り側はロックなしで参照し、更新時は差分を適用した新しいインスタンスに
+ * 差し替えます（copy-on-write）。各インメモリ索引はこのスナップショットから構築されます。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public final class FoodCatalog {
+
+    private static final FoodCatalog EMPTY =
+            new FoodCatalog(Map.of(), List.of(), Instant.EPOCH, 0L, Instant.EPOCH, CategoryTree.empty(),
+                    CookingFactorTable.empty(), BarcodeIndex.empty(), FoodNameTable.empty());
+
+    private final Map<Long, FoodSnapshot> foodsById;
+    private final List<FoodSnapshot> activeFoods;
+    private final Instant highWaterMark;
+    private final long version;
+    private final Instant lastModified;
+    private final CategoryTree categoryTree;
+    private final CookingFactorTable cookingFactors;
+    private final BarcodeIndex barcodes;
+    private final FoodNameTable names;
+
+    private FoodCatalog(Map<Long, FoodSnapshot> foodsById, List<FoodSnapshot> activeFoods, Instant highWaterMark,
+                        long version, Instant lastModified, CategoryTree categoryTree,
+                        CookingFactorTable cookingFactors, BarcodeIndex barcodes, FoodNameTable names) {
+        this.foodsById = foodsById;
+        this.activeFoods = activeFoods;
+        this.highWaterMark = highWaterMark;
+        this.version = version;
+        this.lastModified = lastModified;
+        this.categoryTree = categoryTree;
+        this.cookingFactors = cookingFactors;
+        this.barcodes = barcodes;
+        this.names = names;
+    }
+
+    /**
+     * @return 空のカタログ
+     */
+    public static FoodCatalog empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 全件からカタログを構築する（無効な食材は除外）
+     *
+     * @param foods 食材
+     * @return カタログ
+     */
+    public static FoodCatalog of(Collection<FoodSnapshot> foods) {
+        return EMPTY.withChanges(foods);
+    }
+
+    /**
+     * 変更分を適用した新しいカタログを返す
+     *
+     * <p>無効化された食材はカタログから取り除かれます。
+     * 有効な食材のID順は、ID順に並べた変更分を既存の並びにマージして作るため、
+     * 変更がk件のとき O(n + k log k) で、全件の並べ替えは行いません。</p>
+     *
+     * @param changed 追加・更新・無効化された食材
+     * @return 新しいカタログ（変更がない場合は自身）
+     */
+    public FoodCatalog withChanges(Collection<FoodSnapshot> changed) {
+        if (changed.isEmpty()) {
+            return this;
+        }
+        // 同じ食材が複数回含まれる場合は後の変更を採用する
+        TreeMap<Long, FoodSnapshot> delta = new TreeMap<>();
+        Instant mark = highWaterMark;
+        for (FoodSnapshot food : changed) {
+            delta.put(food.id(), food);
+            if (food.updatedAt().isAfter(mark)) {
+                mark = food.updatedAt();
+            }
+        }
+
+        Map<Long, FoodSnapshot> next = new HashMap<>(foodsById);
+        List<FoodSnapshot> active = new ArrayList<>(activeFoods.size() + delta.size());
+        Iterator<FoodSnapshot> pending = delta.values().iterator();
+        FoodSnapshot change = pending.hasNext() ? pending.next() : null;
+        for (FoodSnapshot current : activeFoods) {
+            while (change != null && change.id() <= current.id()) {
+                apply(change, next, active);
+                change = pending.hasNext() ? pending.next() : null;
+            }
+            if (!delta.containsKey(current.id())) {
+                active.add(current);
+            }
+        }
+        while (change != null) {
+            apply(change, next, active);
+            change = pending.hasNext() ? pending.next() : null;
+        }
+        return new FoodCatalog(Collections.unmodifiableMap(next), Collections.unmodifiableList(active), mark,
+                version, lastModified, categoryTree, cookingFactors, barcodes, names);
+    }
+
+    private static void apply(FoodSnapshot change, Map<Long, FoodSnapshot> foodsById, List<FoodSnapshot> active) {
+        if (change.active()) {
+            foodsById.put(change.id(), change);
+            active.add(change);
+        } else {
+            foodsById.remove(change.id());
+        }
+    }
+
+    /**
+     * カタログバージョンを設定した新しいカタログを返す
+     *
+     * @param version food_catalog_version.version
+     * @param lastModified food_catalog_version.updated_at
+     * @return 新しいカタログ
+     */
+    public FoodCatalog withVersion(long version, Instant lastModified) {
+        return new FoodCatalog(foodsById, activeFoods, highWaterMark, version, lastModified, categoryTree,
+                cookingFactors, barcodes, names);
+    }
+
+    /**
+     * カテゴリツリーを差し替えた新しいカタログを返す
+     *
+     * @param categoryTree カテゴリツリー
+     * @return 新しいカタログ
+     */
+    public FoodCatalog withCategoryTree(CategoryTree categoryTree) {
+        return new FoodCatalog(foodsById, activeFoods, highWaterMark, version, lastModified, categoryTree,
+                cookingFactors, barcodes, names);
+    }
+
+    /**
+     * 調理係数表を差し替えた新しいカタログを返す
+     *
+     * @param cookingFactors 調理係数表（同じカタログのカテゴリツリーから構築したもの）
+     * @return 新しいカタログ
+     */
+    public FoodCatalog withCookingFactors(CookingFactorTable cookingFactors) {
+        return new FoodCatalog(foodsById, activeFoods, highWaterMark, version, lastModified, categoryTree,
+                cookingFactors, barcodes, names);
+    }
+
+    /**
+     * バーコード索引を差し替えた新しいカタログを返す
+     *
+     * @param barcodes バーコード索引
+     * @return 新しいカタログ
+     */
+    public FoodCatalog withBarcodes(BarcodeIndex barcodes) {
+        return new FoodCatalog(foodsById, activeFoods, highWaterMark, version, lastModified, categoryTree,
+                cookingFactors, barcodes, names);
+    }
+
+    /**
+     * 言語別の食材名表を差し替えた新しいカタログを返す
+     *
+     * @param names 言語別の食材名表
+     * @return 新しいカタログ
+     */
+    public FoodCatalog withNames(FoodNameTable names) {
+        return new FoodCatalog(foodsById, activeFoods, highWaterMark, version, lastModified, categoryTree,
+                cookingFactors, barcodes, names);
+    }
+
+    /**
+     * @param id 食材ID
+     * @return 有効な食材、存在しない場合は空
+     */
+    public Optional<FoodSnapshot> find(long id) {
+        return Optional.ofNullable(foodsById.get(id));
+    }
+
+    /**
+     * @param id 食材ID
+     * @return 有効な食材、存在しない場合はnull
+     */
+    public FoodSnapshot get(long id) {
+        return foodsById.get(id);
+    }
+
+    /**
+     * @return 有効な食材（ID昇順）
+     */
+    public List<FoodSnapshot> activeFoods() {
+        return activeFoods;
+    }
+
+    /**
+     * @return 有効な食材数
+     */
+    public int size() {
+        return activeFoods.size();
+    }
+
+    /**
+     * @return 取り込み済みの最終更新日時（差分取得の起点）
+     */
+    public Instant highWaterMark() {
+        return highWaterMark;
+    }
+
+    /**
+     * @return カタログバージョン（未読み込みの場合0）
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * @return カタログの最終変更日時
+     */
+    public Instant lastModified() {
+        return lastModified;
+    }
+
+    /**
+     * @return 有効なカテゴリのツリー
+     */
+    public CategoryTree categoryTree() {
+        return categoryTree;
+    }
+
+    /**
+     * @return カテゴリ × 調理方法の係数表
+     */
+    public CookingFactorTable cookingFactors() {
+        return cookingFactors;
+    }
+
+    /**
+     * @return GTIN-13 → 食材ID のバーコード索引
+     */
+    public BarcodeIndex barcodes() {
+        return barcodes;
+    }
+
+    /**
+     * @return 言語別の食材名表（既定言語の名前は各食材のname）
+     */
+    public FoodNameTable names() {
+        return names;
+    }
+}
@@ -0,0 +1,24 @@
+package com.meatmetrics.meatmetrics.food.domain.catalog;
+
+import java.util.Collection;
+
+/**
+ * 食材カタログの更新通知を受け取るインメモリ索引
+ *
+ * <p>カタログが差し替えられるたびに呼び出されます。実装は受け取ったカタログから
+ * 自身の索引を作り直し（または差分更新し）、不変のまま公開してください。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public interface FoodCatalogListener {
+
+    /**
+     * カタログ更新時の通知
+     *
+     * @param catalog 新しいカタログ
+     * @param changed 追加・更新・無効化された食材（全件再読み込み時は空）
+     * @param fullReload 全件再読み込みの場合true（差分ではなく全体を再構築すること）
+     */
+    void onCatalogChanged(FoodCatalog catalog, Collection<FoodSnapshot> changed, boolean fullReload);
+}
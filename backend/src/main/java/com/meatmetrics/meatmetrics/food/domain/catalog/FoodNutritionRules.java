@@ -0,0 +1,74 @@
+package com.meatmetrics.meatmetrics.food.domain.catalog;
+
+/**
+ * 食材栄養成分の妥当性ルール
+ *
+ * <p>foodsテーブルのCHECK制約（V003__create_foods_table.sql）と同一の範囲を
+ * アプリケーション側で表現します。DBに到達する前に同じ基準で検証することで、
+ * 一括投入時に1行の制約違反でトランザクション全体が失敗することを防ぎます。</p>
+ *
+ * <p>小数値はDECIMAL(6,2)と同じ精度で扱うため、1/100グラム単位の整数（centi-gram）で比較します。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public final class FoodNutritionRules {
+
+    /** 食材名の最大長（VARCHAR(255)） */
+    public static final int MAX_NAME_LENGTH = 255;
+
+    /** 外部データセット食品コードの最大長（VARCHAR(64)） */
+    public static final int MAX_SOURCE_CODE_LENGTH = 64;
+
+    /** 100gあたりカロリーの上限（foods_calories_positive） */
+    public static final int MAX_CALORIES_PER_100G = 2000;
+
+    /** 100gあたりタンパク質・脂質・炭水化物の上限（1/100g単位、200.00g） */
+    public static final long MAX_MACRO_CENTI_G = 200_00L;
+
+    private FoodNutritionRules() {}
+
+    /**
+     * カロリーが許容範囲内か（0〜2000kcal）
+     *
+     * @param calories 100gあたりカロリー
+     * @return 範囲内の場合true
+     */
+    public static boolean isValidCalories(long calories) {
+        return calories >= 0 && calories <= MAX_CALORIES_PER_100G;
+    }
+
+    /**
+     * 主要栄養素量が許容範囲内か（0〜200.00g）
+     *
+     * @param centiGrams 100gあたり量（1/100g単位）
+     * @return 範囲内の場合true
+     */
+    public static boolean isValidMacro(long centiGrams) {
+        return centiGrams >= 0 && centiGrams <= MAX_MACRO_CENTI_G;
+    }
+
+    /**
+     * 食物繊維量が許容範囲内か（0以上かつ炭水化物以下: foods_fiber_positive）
+     *
+     * @param fiberCentiGrams 100gあたり食物繊維量（1/100g単位）
+     * @param carbohydratesCentiGrams 100gあたり炭水化物量（1/100g単位）
+     * @return 範囲内の場合true
+     */
+    public static boolean isValidFiber(long fiberCentiGrams, long carbohydratesCentiGrams) {
+        return fiberCentiGrams >= 0 && fiberCentiGrams <= carbohydratesCentiGrams;
+    }
+
+    /**
+     * 食材名が妥当か（空白のみ不可、255文字以内: foods_name_not_empty）
+     *
+     * <p>VARCHAR(255)の長さはコードポイント数のため、サロゲートペアも1文字として数えます。
+     * 呼び出し側は {@link String#strip()} した値（全角空白も前後から除いた値）を検証・格納してください。</p>
+     *
+     * @param name 食材名（格納する値）
+     * @return 妥当な場合true
+     */
+    public static boolean isValidName(String name) {
+        return name != null && !name.isBlank() && name.codePointCount(0, name.length()) <= MAX_NAME_LENGTH;
+    }
+}
@@ -0,0 +1,172 @@
+package com.meatmetrics.meatmetrics.food.domain.catalog;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongPredicate;
+
+/**
+ * 指標ごとに事前ソートした食材ランキング索引（不変）
+ *
+ * <p>指標ごとに「ランキング順の食材ID・カテゴリID・指標値」をプリミティブ配列で保持します。
+ * 上位N件の取得は先頭から条件に合うものを拾うだけなので、クエリ時のソートやDBアクセスは発生しません。</p>
+ *
+ * <p>カタログの差分更新時は、変更のあった食材だけを取り除いてソートし直し、
+ * 既存の並びとマージします（O(N + k log k)、kは変更件数）。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public final class FoodRankingIndex {
+
+    /**
+     * ランキングの1件
+     *
+     * @param rank 順位（条件で絞り込んだ後の1始まり）
+     * @param food 食材
+     * @param value 指標値
+     */
+    public record RankedFood(int rank, FoodSnapshot food, double value) {}
+
+    /** 1指標分のランキング（ランキング順の並列配列） */
+    private static final class Ranking {
+        final long[] ids;
+        final long[] categoryIds;
+        final double[] values;
+
+        Ranking(long[] ids, long[] categoryIds, double[] values) {
+            this.ids = ids;
+            this.categoryIds = categoryIds;
+            this.values = values;
+        }
+    }
+
+    private final FoodCatalog catalog;
+    private final Map<RankingMetric, Ranking> rankings;
+
+    private FoodRankingIndex(FoodCatalog catalog, Map<RankingMetric, Ranking> rankings) {
+        this.catalog = catalog;
+        this.rankings = rankings;
+    }
+
+    /**
+     * カタログ全体から索引を構築する
+     *
+     * @param catalog カタログ
+     * @return 索引
+     */
+    public static FoodRankingIndex build(FoodCatalog catalog) {
+        Map<RankingMetric, Ranking> rankings = new EnumMap<>(RankingMetric.class);
+        for (RankingMetric metric : RankingMetric.values()) {
+            List<FoodSnapshot> ordered = new ArrayList<>(catalog.size());
+            for (FoodSnapshot food : catalog.activeFoods()) {
+                if (metric.appliesTo(food)) {
+                    ordered.add(food);
+                }
+            }
+            ordered.sort(metric.order());
+            rankings.put(metric, toRanking(metric, ordered));
+        }
+        return new FoodRankingIndex(catalog, rankings);
+    }
+
+    /**
+     * 変更分だけを反映した新しい索引を返す
+     *
+     * @param catalog 変更適用後のカタログ
+     * @param changed 追加・更新・無効化された食材
+     * @return 新しい索引
+     */
+    public FoodRankingIndex update(FoodCatalog catalog, Collection<FoodSnapshot> changed) {
+        if (changed.isEmpty()) {
+            return new FoodRankingIndex(catalog, rankings);
+        }
+        Set<Long> changedIds = new HashSet<>(changed.size() * 2);
+        for (FoodSnapshot food : changed) {
+            changedIds.add(food.id());
+        }
+
+        Map<RankingMetric, Ranking> next = new EnumMap<>(RankingMetric.class);
+        for (RankingMetric metric : RankingMetric.values()) {
+            Comparator<FoodSnapshot> order = metric.order();
+            List<FoodSnapshot> inserted = new ArrayList<>();
+            for (FoodSnapshot food : changed) {
+                FoodSnapshot current = catalog.get(food.id());
+                if (current != null && metric.appliesTo(current)) {
+                    inserted.add(current);
+                }
+            }
+            inserted.sort(order);
+
+            Ranking previous = rankings.get(metric);
+            List<FoodSnapshot> merged = new ArrayList<>(previous.ids.length + inserted.size());
+            int j = 0;
+            for (long id : previous.ids) {
+                if (changedIds.contains(id)) {
+                    continue;
+                }
+                FoodSnapshot kept = catalog.get(id);
+                while (j < inserted.size() && order.compare(inserted.get(j), kept) < 0) {
+                    merged.add(inserted.get(j++));
+                }
+                merged.add(kept);
+            }
+            while (j < inserted.size()) {
+                merged.add(inserted.get(j++));
+            }
+            next.put(metric, toRanking(metric, merged));
+        }
+        return new FoodRankingIndex(catalog, next);
+    }
+
+    /**
+     * 上位N件を取得する
+     *
+     * @param metric 指標
+     * @param limit 最大件数
+     * @param categoryFilter カテゴリ条件（nullの場合は全カテゴリ）
+     * @param tag タグ条件（nullの場合は条件なし）
+     * @return ランキング順の食材
+     */
+    public List<RankedFood> top(RankingMetric metric, int limit, LongPredicate categoryFilter, String tag) {
+        Ranking ranking = rankings.get(metric);
+        List<RankedFood> result = new ArrayList<>(Math.min(limit, ranking.ids.length));
+        for (int i = 0; i < ranking.ids.length && result.size() < limit; i++) {
+            if (categoryFilter != null && !categoryFilter.test(ranking.categoryIds[i])) {
+                continue;
+            }
+            FoodSnapshot food = catalog.get(ranking.ids[i]);
+            if (tag != null && !food.hasTag(tag)) {
+                continue;
+            }
+            result.add(new RankedFood(result.size() + 1, food, ranking.values[i]));
+        }
+        return result;
+    }
+
+    /**
+     * @return 索引の元になったカタログ
+     */
+    public FoodCatalog catalog() {
+        return catalog;
+    }
+
+    private static Ranking toRanking(RankingMetric metric, List<FoodSnapshot> ordered) {
+        int size = ordered.size();
+        long[] ids = new long[size];
+        long[] categoryIds = new long[size];
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            FoodSnapshot food = ordered.get(i);
+            ids[i] = food.id();
+            categoryIds[i] = food.categoryId();
+            values[i] = metric.value(food);
+        }
+        return new Ranking(ids, categoryIds, values);
+    }
+}
@@ -0,0 +1,101 @@
+package com.meatmetrics.meatmetrics.food.domain.catalog;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 食材カタログの1件分（不変）
+ *
+ * <p>foodsテーブルの1行を、インメモリ索引で扱いやすい形に写したものです。
+ * 栄養成分はDECIMAL(6,2)と同じ精度を保つため1/100グラム単位の整数で保持します。</p>
+ *
+ * @param id 食材ID
+ * @param name 食材名
+ * @param categoryId カテゴリID
+ * @param caloriesPer100g 100gあたりカロリー（kcal）
+ * @param proteinCentiG 100gあたりタンパク質（1/100g単位）
+ * @param fatCentiG 100gあたり脂質（1/100g単位）
+ * @param carbohydratesCentiG 100gあたり炭水化物（1/100g単位）
+ * @param fiberCentiG 100gあたり食物繊維（1/100g単位）
+ * @param tags タグ
+ * @param active 有効フラグ
+ * @param updatedAt 最終更新日時
+ * @param nutritionVersion 栄養成分のバージョン（foods.nutrition_version、値と同じ行から読み込む）
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public record FoodSnapshot(
+        long id,
+        String name,
+        long categoryId,
+        int caloriesPer100g,
+        long proteinCentiG,
+        long fatCentiG,
+        long carbohydratesCentiG,
+        long fiberCentiG,
+        List<String> tags,
+        boolean active,
+        Instant updatedAt,
+        int nutritionVersion) {
+
+    /** 栄養成分の最初のバージョン（バージョン管理のない独自食材もこの値） */
+    public static final int INITIAL_NUTRITION_VERSION = 1;
+
+    public FoodSnapshot {
+        Objects.requireNonNull(name, "name");
+        tags = tags == null ? List.of() : List.copyOf(tags);
+        updatedAt = updatedAt == null ? Instant.EPOCH : updatedAt;
+        if (nutritionVersion < INITIAL_NUTRITION_VERSION) {
+            throw new IllegalArgumentException("nutritionVersion must be positive: " + nutritionVersion);
+        }
+    }
+
+    /**
+     * 栄養成分のバージョンを最初のバージョンとして生成する
+     */
+    public FoodSnapshot(long id, String name, long categoryId, int caloriesPer100g, long proteinCentiG, long fatCentiG,
+                        long carbohydratesCentiG, long fiberCentiG, List<String> tags, boolean active, Instant updatedAt) {
+        this(id, name, categoryId, caloriesPer100g, proteinCentiG, fatCentiG, carbohydratesCentiG, fiberCentiG,
+                tags, active, updatedAt, INITIAL_NUTRITION_VERSION);
+    }
+
+    /**
+     * 正味炭水化物（炭水化物 - 食物繊維）
+     *
+     * @return 100gあたり正味炭水化物（1/100g単位）
+     */
+    public long netCarbsCentiG() {
+        return carbohydratesCentiG - fiberCentiG;
+    }
+
+    /**
+     * 名前だけを差し替えたコピーを返す（言語別の検索索引用）
+     *
+     * @param localizedName 表示名
+     * @return 新しいスナップショット（同じ名前の場合は自身）
+     */
+    public FoodSnapshot withName(String localizedName) {
+        if (name.equals(localizedName)) {
+            return this;
+        }
+        return new FoodSnapshot(id, localizedName, categoryId, caloriesPer100g, proteinCentiG, fatCentiG,
+                carbohydratesCentiG, fiberCentiG, tags, active, updatedAt, nutritionVersion);
+    }
+
+    /**
+     * 指定タグを持つか（大文字小文字を区別）
+     *
+     * @param tag タグ
+     * @return 持つ場合true
+     */
+    public boolean hasTag(String tag) {
+        return tags.contains(tag);
+    }
+
+    public BigDecimal proteinG() { return BigDecimal.valueOf(proteinCentiG, 2); }
+    public BigDecimal fatG() { return BigDecimal.valueOf(fatCentiG, 2); }
+    public BigDecimal carbohydratesG() { return BigDecimal.valueOf(carbohydratesCentiG, 2); }
+    public BigDecimal fiberG() { return BigDecimal.valueOf(fiberCentiG, 2); }
+}
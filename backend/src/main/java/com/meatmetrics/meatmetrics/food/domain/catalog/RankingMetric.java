@@ -0,0 +1,98 @@
+package com.meatmetrics.meatmetrics.food.domain.catalog;
+
+import java.util.Comparator;
+
+/**
+ * 食材ランキングの指標
+ *
+ * <p>各指標は並び順（{@link #order()}）と表示用の値（{@link #value(FoodSnapshot)}）を持ちます。
+ * 同順位はID昇順で決定的に並べます。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public enum RankingMetric {
+
+    /**
+     * カーニボア指標：タンパク質降順 → 脂質降順 → 炭水化物昇順
+     * （idx_foods_nutrition_carnivore と同じ並び、値はタンパク質g）
+     */
+    CARNIVORE(Comparator
+            .comparingLong(FoodSnapshot::proteinCentiG).reversed()
+            .thenComparing(Comparator.comparingLong(FoodSnapshot::fatCentiG).reversed())
+            .thenComparingLong(FoodSnapshot::carbohydratesCentiG)) {
+        @Override
+        public double value(FoodSnapshot food) {
+            return food.proteinCentiG() / 100.0;
+        }
+    },
+
+    /** 1kcalあたりのタンパク質g（降順）。0kcalの食材は対象外 */
+    PROTEIN_PER_KCAL(null) {
+        @Override
+        public boolean appliesTo(FoodSnapshot food) {
+            return food.caloriesPer100g() > 0;
+        }
+
+        @Override
+        public double value(FoodSnapshot food) {
+            return food.proteinCentiG() / 100.0 / food.caloriesPer100g();
+        }
+    },
+
+    /** 脂質:タンパク質比（降順）。タンパク質0gの食材は対象外 */
+    FAT_TO_PROTEIN_RATIO(null) {
+        @Override
+        public boolean appliesTo(FoodSnapshot food) {
+            return food.proteinCentiG() > 0;
+        }
+
+        @Override
+        public double value(FoodSnapshot food) {
+            return (double) food.fatCentiG() / food.proteinCentiG();
+        }
+    },
+
+    /** 正味炭水化物g（昇順） */
+    LOWEST_NET_CARBS(Comparator.comparingLong(FoodSnapshot::netCarbsCentiG)) {
+        @Override
+        public double value(FoodSnapshot food) {
+            return food.netCarbsCentiG() / 100.0;
+        }
+    };
+
+    private final Comparator<FoodSnapshot> order;
+
+    RankingMetric(Comparator<FoodSnapshot> order) {
+        // 並び順の指定がない指標は値の降順
+        Comparator<FoodSnapshot> primary = order != null
+                ? order
+                : Comparator.comparingDouble(this::value).reversed();
+        this.order = primary.thenComparingLong(FoodSnapshot::id);
+    }
+
+    /**
+     * 指標を計算できる食材か
+     *
+     * @param food 食材
+     * @return 対象の場合true
+     */
+    public boolean appliesTo(FoodSnapshot food) {
+        return true;
+    }
+
+    /**
+     * 表示用の指標値
+     *
+     * @param food 食材（{@link #appliesTo(FoodSnapshot)} がtrueであること）
+     * @return 指標値
+     */
+    public abstract double value(FoodSnapshot food);
+
+    /**
+     * @return ランキング順（上位が先）の比較器
+     */
+    public Comparator<FoodSnapshot> order() {
+        return order;
+    }
+}
@@ -0,0 +1,14 @@
+package com.meatmetrics.meatmetrics.food.domain.category;
+
+/**
+ * カテゴリツリーの1ノード（categoriesテーブルの1行）
+ *
+ * @param id カテゴリID
+ * @param parentId 親カテゴリID（ルートの場合null）
+ * @param name カテゴリ名（システム用）
+ * @param displayName 表示名
+ * @param sortOrder 同階層内の表示順
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public record CategoryNode(long id, Long parentId, String name, String displayName, int sortOrder) {}
@@ -0,0 +1,263 @@
+package com.meatmetrics.meatmetrics.food.domain.category;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongPredicate;
+
+/**
+ * Euler-tour番号付きのカテゴリツリー（不変）
+ *
+ * <p>各カテゴリに深さ優先探索の行きがけ順番号（preorder）と、部分木内の最大番号（last）を振ります。
+ * 「XはYの配下か」は {@code pre(Y) <= pre(X) <= last(Y)} の整数比較2回で判定でき、
+ * Yの部分木は行きがけ順で連続した区間 {@code [pre(Y), last(Y)]} になります。</p>
+ *
+ * <p>兄弟は sort_order → id の順に並べます。親が存在しない（無効化された）カテゴリの部分木は、
+ * category_hierarchy ビューと同様にツリーから除外します。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public final class CategoryTree {
+
+    private static final CategoryTree EMPTY = new CategoryTree(new CategoryNode[0], new int[0], new int[0], new int[0], Map.of());
+
+    private static final Comparator<CategoryNode> SIBLING_ORDER =
+            Comparator.comparingInt(CategoryNode::sortOrder).thenComparingLong(CategoryNode::id);
+
+    /** 行きがけ順に並べたノード */
+    private final CategoryNode[] nodes;
+    /** 行きがけ順での親の位置（ルートは-1） */
+    private final int[] parents;
+    /** 部分木の最後の位置（行きがけ順） */
+    private final int[] lasts;
+    /** 深さ（ルート=1、categories.levelと同じ） */
+    private final int[] levels;
+    /** カテゴリID → 行きがけ順の位置 */
+    private final Map<Long, Integer> preorderById;
+
+    private CategoryTree(CategoryNode[] nodes, int[] parents, int[] lasts, int[] levels, Map<Long, Integer> preorderById) {
+        this.nodes = nodes;
+        this.parents = parents;
+        this.lasts = lasts;
+        this.levels = levels;
+        this.preorderById = preorderById;
+    }
+
+    /**
+     * @return 空のツリー
+     */
+    public static CategoryTree empty() {
+        return EMPTY;
+    }
+
+    /**
+     * ノード一覧からツリーを構築する
+     *
+     * @param categories 有効なカテゴリ
+     * @return ツリー
+     */
+    public static CategoryTree of(Collection<CategoryNode> categories) {
+        Map<Long, CategoryNode> byId = new HashMap<>(categories.size() * 2);
+        for (CategoryNode node : categories) {
+            byId.put(node.id(), node);
+        }
+        Map<Long, List<CategoryNode>> children = new HashMap<>();
+        List<CategoryNode> roots = new ArrayList<>();
+        for (CategoryNode node : categories) {
+            if (node.parentId() == null) {
+                roots.add(node);
+            } else if (byId.containsKey(node.parentId())) {
+                children.computeIfAbsent(node.parentId(), k -> new ArrayList<>()).add(node);
+            }
+        }
+        roots.sort(SIBLING_ORDER);
+        children.values().forEach(list -> list.sort(SIBLING_ORDER));
+
+        int capacity = categories.size();
+        CategoryNode[] nodes = new CategoryNode[capacity];
+        int[] parents = new int[capacity];
+        int[] lasts = new int[capacity];
+        int[] levels = new int[capacity];
+        Map<Long, Integer> preorderById = new HashMap<>(capacity * 2);
+
+        // 再帰を使わない深さ優先探索（スタックには「位置, 次に訪れる子の番号」を積む）
+        int size = 0;
+        int[] stackPos = new int[capacity + 1];
+        int[] stackChild = new int[capacity + 1];
+        for (CategoryNode root : roots) {
+            int top = 0;
+            size = visit(root, -1, 1, nodes, parents, levels, preorderById, size);
+            stackPos[0] = size - 1;
+            stackChild[0] = 0;
+            while (top >= 0) {
+                int pos = stackPos[top];
+                List<CategoryNode> kids = children.getOrDefault(nodes[pos].id(), List.of());
+                if (stackChild[top] < kids.size()) {
+                    CategoryNode child = kids.get(stackChild[top]++);
+                    size = visit(child, pos, levels[pos] + 1, nodes, parents, levels, preorderById, size);
+                    top++;
+                    stackPos[top] = size - 1;
+                    stackChild[top] = 0;
+                } else {
+                    lasts[pos] = size - 1;
+                    top--;
+                }
+            }
+        }
+        if (size < capacity) {
+            // 親が存在しない（無効化された）部分木を除外した分を詰める
+            nodes = Arrays.copyOf(nodes, size);
+            parents = Arrays.copyOf(parents, size);
+            lasts = Arrays.copyOf(lasts, size);
+            levels = Arrays.copyOf(levels, size);
+        }
+        return new CategoryTree(nodes, parents, lasts, levels, preorderById);
+    }
+
+    private static int visit(CategoryNode node, int parent, int level, CategoryNode[] nodes, int[] parents,
+                             int[] levels, Map<Long, Integer> preorderById, int size) {
+        nodes[size] = node;
+        parents[size] = parent;
+        levels[size] = level;
+        preorderById.put(node.id(), size);
+        return size + 1;
+    }
+
+    /**
+     * @param categoryId カテゴリID
+     * @return 行きがけ順の位置、ツリーに存在しない場合-1
+     */
+    public int preorder(long categoryId) {
+        Integer pos = preorderById.get(categoryId);
+        return pos == null ? -1 : pos;
+    }
+
+    /**
+     * @param categoryId カテゴリID
+     * @return 部分木の最後の位置（行きがけ順）、ツリーに存在しない場合-1
+     */
+    public int lastInSubtree(long categoryId) {
+        Integer pos = preorderById.get(categoryId);
+        return pos == null ? -1 : lasts[pos];
+    }
+
+    /**
+     * カテゴリが祖先カテゴリ自身またはその配下か
+     *
+     * @param categoryId 判定対象
+     * @param ancestorId 祖先候補
+     * @return 配下（同一を含む）の場合true、いずれかがツリーに存在しない場合false
+     */
+    public boolean isSelfOrDescendant(long categoryId, long ancestorId) {
+        Integer pos = preorderById.get(categoryId);
+        Integer ancestor = preorderById.get(ancestorId);
+        return pos != null && ancestor != null && ancestor <= pos && pos <= lasts[ancestor];
+    }
+
+    /**
+     * 自身と配下のカテゴリに属するかを判定する述語を返す
+     *
+     * <p>祖先側の区間を先に求めておくため、判定1回あたりはID→位置の参照と整数比較2回です。</p>
+     *
+     * @param ancestorId 祖先カテゴリID
+     * @return カテゴリIDを受け取る述語（祖先がツリーに存在しない場合は常にfalse）
+     */
+    public LongPredicate subtreeFilter(long ancestorId) {
+        Integer ancestor = preorderById.get(ancestorId);
+        if (ancestor == null) {
+            return categoryId -> false;
+        }
+        int from = ancestor;
+        int to = lasts[ancestor];
+        return categoryId -> {
+            Integer pos = preorderById.get(categoryId);
+            return pos != null && from <= pos && pos <= to;
+        };
+    }
+
+    /**
+     * 自身と配下のカテゴリID（行きがけ順）
+     *
+     * @param ancestorId 祖先カテゴリID
+     * @return カテゴリID、ツリーに存在しない場合は空
+     */
+    public List<Long> subtreeIds(long ancestorId) {
+        Integer ancestor = preorderById.get(ancestorId);
+        if (ancestor == null) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(lasts[ancestor] - ancestor + 1);
+        for (int i = ancestor; i <= lasts[ancestor]; i++) {
+            ids.add(nodes[i].id());
+        }
+        return ids;
+    }
+
+    /**
+     * ルートから自身までのカテゴリ（祖先パス）
+     *
+     * @param categoryId カテゴリID
+     * @return ルートが先頭のノード、ツリーに存在しない場合は空
+     */
+    public List<CategoryNode> path(long categoryId) {
+        Integer pos = preorderById.get(categoryId);
+        if (pos == null) {
+            return List.of();
+        }
+        List<CategoryNode> path = new ArrayList<>(levels[pos]);
+        for (int i = pos; i >= 0; i = parents[i]) {
+            path.add(0, nodes[i]);
+        }
+        return path;
+    }
+
+    /**
+     * @param categoryId カテゴリID
+     * @return ノード、ツリーに存在しない場合は空
+     */
+    public Optional<CategoryNode> find(long categoryId) {
+        Integer pos = preorderById.get(categoryId);
+        return pos == null ? Optional.empty() : Optional.of(nodes[pos]);
+    }
+
+    /**
+     * @param categoryId カテゴリID
+     * @return 深さ（ルート=1）、ツリーに存在しない場合0
+     */
+    public int level(long categoryId) {
+        Integer pos = preorderById.get(categoryId);
+        return pos == null ? 0 : levels[pos];
+    }
+
+    /**
+     * @return 行きがけ順のノード
+     */
+    public List<CategoryNode> nodes() {
+        return List.of(nodes);
+    }
+
+    /**
+     * @return カテゴリ数
+     */
+    public int size() {
+        return nodes.length;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CategoryTree other)) return false;
+        return Arrays.equals(nodes, other.nodes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(nodes);
+    }
+}
@@ -0,0 +1,42 @@
+package com.meatmetrics.meatmetrics.food.domain.cooking;
+
+import java.math.BigDecimal;
+
+/**
+ * カテゴリ・調理方法ごとの歩留まり・栄養残存率（cooking_method_factorsの1行）
+ *
+ * <p>歩留まりは「調理後重量 ÷ 調理前重量」、残存率は「調理後に残る栄養素量 ÷ 調理前の量」です。
+ * 摂取量（quantity_g）は調理後の重量として扱います。</p>
+ *
+ * @param categoryId カテゴリID（nullの場合は全カテゴリの既定値）
+ * @param method 調理方法
+ * @param yieldFactor 歩留まり
+ * @param energyRetention エネルギー残存率
+ * @param proteinRetention タンパク質残存率
+ * @param fatRetention 脂質残存率
+ * @param carbohydrateRetention 炭水化物残存率
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public record CookingFactorRule(
+        Long categoryId,
+        CookingMethod method,
+        BigDecimal yieldFactor,
+        BigDecimal energyRetention,
+        BigDecimal proteinRetention,
+        BigDecimal fatRetention,
+        BigDecimal carbohydrateRetention) {
+
+    /**
+     * 調理後重量あたりの係数に換算する
+     *
+     * @return 生の100gあたり栄養成分に掛ける係数
+     */
+    public CookingFactors toFactors() {
+        return new CookingFactors(
+                CookingFactors.perCookedGram(energyRetention, yieldFactor),
+                CookingFactors.perCookedGram(proteinRetention, yieldFactor),
+                CookingFactors.perCookedGram(fatRetention, yieldFactor),
+                CookingFactors.perCookedGram(carbohydrateRetention, yieldFactor));
+    }
+}
@@ -0,0 +1,122 @@
+package com.meatmetrics.meatmetrics.food.domain.cooking;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.meatmetrics.meatmetrics.food.domain.category.CategoryNode;
+import com.meatmetrics.meatmetrics.food.domain.category.CategoryTree;
+
+/**
+ * カテゴリ × 調理方法の係数表（不変）
+ *
+ * <p>カテゴリに行がない場合は最も近い祖先の行、それもなければ全カテゴリ既定値（category_id IS NULL）、
+ * それもなければ生と同じ係数を使います。この継承は構築時に解決して、
+ * カテゴリの行きがけ順 × 調理方法の平坦な配列に展開しておくため、
+ * 1明細あたりの参照はカテゴリID→位置の変換と配列の添字アクセスだけです。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public final class CookingFactorTable {
+
+    private static final int METHODS = CookingMethod.values().length;
+
+    private static final CookingFactorTable EMPTY = build(CategoryTree.empty(), List.of());
+
+    private final CategoryTree tree;
+    /** [行きがけ順 * METHODS + 調理方法] の係数 */
+    private final CookingFactors[] factors;
+    /** カテゴリ不明時の調理方法ごとの係数 */
+    private final CookingFactors[] defaults;
+
+    private CookingFactorTable(CategoryTree tree, CookingFactors[] factors, CookingFactors[] defaults) {
+        this.tree = tree;
+        this.factors = factors;
+        this.defaults = defaults;
+    }
+
+    /**
+     * @return 全調理方法が生と同じ係数の表
+     */
+    public static CookingFactorTable empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 係数表を構築する
+     *
+     * @param tree カテゴリツリー
+     * @param rules cooking_method_factorsの行
+     * @return 係数表
+     */
+    public static CookingFactorTable build(CategoryTree tree, Collection<CookingFactorRule> rules) {
+        CookingFactors[] defaults = new CookingFactors[METHODS];
+        Map<Long, CookingFactors[]> own = new HashMap<>();
+        for (CookingFactorRule rule : rules) {
+            if (rule.method() == CookingMethod.RAW) {
+                continue;
+            }
+            CookingFactors[] target = rule.categoryId() == null
+                    ? defaults
+                    : own.computeIfAbsent(rule.categoryId(), id -> new CookingFactors[METHODS]);
+            target[rule.method().ordinal()] = rule.toFactors();
+        }
+        for (int m = 0; m < METHODS; m++) {
+            if (defaults[m] == null) {
+                defaults[m] = CookingFactors.IDENTITY;
+            }
+        }
+
+        // 行きがけ順では親が必ず子より先に現れるため、親の行をそのまま引き継げる
+        List<CategoryNode> nodes = tree.nodes();
+        CookingFactors[] factors = new CookingFactors[nodes.size() * METHODS];
+        for (int pos = 0; pos < nodes.size(); pos++) {
+            CategoryNode node = nodes.get(pos);
+            int parent = node.parentId() == null ? -1 : tree.preorder(node.parentId());
+            CookingFactors[] specific = own.get(node.id());
+            for (int m = 0; m < METHODS; m++) {
+                CookingFactors inherited = parent < 0 ? defaults[m] : factors[parent * METHODS + m];
+                factors[pos * METHODS + m] = specific != null && specific[m] != null ? specific[m] : inherited;
+            }
+        }
+        return new CookingFactorTable(tree, factors, defaults);
+    }
+
+    /**
+     * 係数を返す
+     *
+     * @param categoryId 食材のカテゴリID（ツリーにない場合は既定値）
+     * @param method 調理方法
+     * @return 係数
+     */
+    public CookingFactors factors(long categoryId, CookingMethod method) {
+        if (method == CookingMethod.RAW) {
+            return CookingFactors.IDENTITY;
+        }
+        int pos = tree.preorder(categoryId);
+        return pos < 0 ? defaults[method.ordinal()] : factors[pos * METHODS + method.ordinal()];
+    }
+
+    /**
+     * 同じカテゴリツリーで、全カテゴリ・全調理方法の係数が同じ場合に等しい
+     * （カタログ更新時に係数表が実際に変わったかを判定するため）
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CookingFactorTable other)) {
+            return false;
+        }
+        return tree.equals(other.tree) && Arrays.equals(factors, other.factors) && Arrays.equals(defaults, other.defaults);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(factors) + Arrays.hashCode(defaults);
+    }
+}
@@ -0,0 +1,32 @@
+package com.meatmetrics.meatmetrics.food.domain.cooking;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 生の100gあたり栄養成分に掛ける係数（調理後重量あたり）
+ *
+ * <p>係数は「残存率 ÷ 歩留まり」を meal_items の係数列（NUMERIC(6,4)）と同じ小数4桁に丸めた値です。
+ * 書き込み時はこの値をそのまま meal_items に保存し、DB側の栄養計算は同じ行の値だけを使います。</p>
+ *
+ * @param calories カロリー係数
+ * @param protein タンパク質係数
+ * @param fat 脂質係数
+ * @param netCarbs 正味炭水化物係数
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public record CookingFactors(BigDecimal calories, BigDecimal protein, BigDecimal fat, BigDecimal netCarbs) {
+
+    /** 係数の小数桁数（meal_items.*_factor NUMERIC(6,4)） */
+    public static final int SCALE = 4;
+
+    /** 生（係数1） */
+    public static final CookingFactors IDENTITY = new CookingFactors(
+            BigDecimal.ONE.setScale(SCALE), BigDecimal.ONE.setScale(SCALE),
+            BigDecimal.ONE.setScale(SCALE), BigDecimal.ONE.setScale(SCALE));
+
+    static BigDecimal perCookedGram(BigDecimal retention, BigDecimal yieldFactor) {
+        return retention.divide(yieldFactor, SCALE, RoundingMode.HALF_UP);
+    }
+}
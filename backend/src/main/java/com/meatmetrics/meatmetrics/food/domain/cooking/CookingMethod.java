@@ -0,0 +1,70 @@
+package com.meatmetrics.meatmetrics.food.domain.cooking;
+
+import java.util.Locale;
+
+/**
+ * 調理方法
+ *
+ * <p>DB上の値（meal_items.cooking_method・cooking_method_factors.cooking_method）は {@link #code()} の小文字表記です。
+ * 書き込み経路で参照テーブルとの結合・外部キー確認が発生しないよう、DB側はCHECK制約で同じ値に限定しています。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public enum CookingMethod {
+
+    /** 生（食材マスタの値をそのまま使用） */
+    RAW("raw", "生"),
+    /** 焼く（グリル・網焼き） */
+    GRILLED("grilled", "焼く"),
+    /** 炒める・ソテー */
+    PAN_FRIED("pan_fried", "炒める"),
+    /** 茹でる・煮る */
+    BOILED("boiled", "茹でる"),
+    /** 蒸す */
+    STEAMED("steamed", "蒸す"),
+    /** オーブン焼き・ロースト */
+    ROASTED("roasted", "ロースト");
+
+    private final String code;
+    private final String displayName;
+
+    CookingMethod(String code, String displayName) {
+        this.code = code;
+        this.displayName = displayName;
+    }
+
+    /**
+     * @return DB上の値
+     */
+    public String code() {
+        return code;
+    }
+
+    /**
+     * @return 表示名
+     */
+    public String displayName() {
+        return displayName;
+    }
+
+    /**
+     * DB上の値・API入力から調理方法を解決する（大文字小文字を区別しない）
+     *
+     * @param value 値（例: "grilled", "GRILLED"）
+     * @return 調理方法
+     * @throws IllegalArgumentException 不明な値の場合
+     */
+    public static CookingMethod fromCode(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Cooking method cannot be null");
+        }
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        for (CookingMethod method : values()) {
+            if (method.code.equals(normalized)) {
+                return method;
+            }
+        }
+        throw new IllegalArgumentException("Unknown cooking method: " + value);
+    }
+}
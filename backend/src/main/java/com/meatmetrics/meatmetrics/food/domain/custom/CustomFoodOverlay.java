@@ -0,0 +1,114 @@
+package com.meatmetrics.meatmetrics.food.domain.custom;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodSnapshot;
+import com.meatmetrics.meatmetrics.food.domain.search.FoodNameNormalizer;
+import com.meatmetrics.meatmetrics.food.domain.search.FoodSearchIndex;
+import com.meatmetrics.meatmetrics.food.domain.search.FoodSearchIndex.Match;
+import com.meatmetrics.meatmetrics.food.domain.search.FoodSearchIndex.MatchType;
+
+/**
+ * 1ユーザー分の独自食材（共有カタログに重ねるオーバーレイ）
+ *
+ * <p>ユーザーあたりの件数は小さいため索引は持たず、検索時に全件を判定します。
+ * 追加・削除はこのユーザーの集合だけを O(1) で更新し、共有の食材索引には触れません。</p>
+ *
+ * <p>独自食材のIDは負の値で、共有カタログの食材ID（正の値）とは重なりません。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public final class CustomFoodOverlay {
+
+    private final Map<Long, FoodSnapshot> foods = new ConcurrentHashMap<>();
+
+    /**
+     * @param foodId 食材ID
+     * @return 独自食材のIDの場合true（共有カタログの食材IDは正の値）
+     */
+    public static boolean isCustomFoodId(long foodId) {
+        return foodId < 0;
+    }
+
+    /**
+     * 読み込み済みの独自食材からオーバーレイを生成する
+     *
+     * @param foods 有効な独自食材
+     * @return オーバーレイ
+     */
+    public static CustomFoodOverlay of(List<FoodSnapshot> foods) {
+        CustomFoodOverlay overlay = new CustomFoodOverlay();
+        foods.forEach(overlay::add);
+        return overlay;
+    }
+
+    /**
+     * 独自食材を追加（同じIDの場合は置き換え）する
+     *
+     * @param food 独自食材
+     */
+    public void add(FoodSnapshot food) {
+        foods.put(food.id(), food);
+    }
+
+    /**
+     * 独自食材を取り除く
+     *
+     * @param foodId 独自食材ID
+     */
+    public void remove(long foodId) {
+        foods.remove(foodId);
+    }
+
+    /**
+     * @param foodId 独自食材ID
+     * @return このユーザーの有効な独自食材、存在しない場合は空
+     */
+    public Optional<FoodSnapshot> find(long foodId) {
+        return Optional.ofNullable(foods.get(foodId));
+    }
+
+    /**
+     * 食材名・タグで検索する
+     *
+     * @param query 検索語（正規化前）
+     * @return 一致した独自食材（{@link FoodSearchIndex#ORDER} 順）
+     */
+    public List<Match> search(String query) {
+        String key = FoodNameNormalizer.normalize(query);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        List<Match> matches = new ArrayList<>();
+        for (FoodSnapshot food : foods.values()) {
+            MatchType type = FoodSearchIndex.match(food, key);
+            if (type != null) {
+                matches.add(new Match(food, type, true));
+            }
+        }
+        matches.sort(FoodSearchIndex.ORDER);
+        return matches;
+    }
+
+    /**
+     * @return 独自食材（ID昇順）
+     */
+    public List<FoodSnapshot> foods() {
+        List<FoodSnapshot> sorted = new ArrayList<>(foods.values());
+        sorted.sort(Comparator.comparingLong(FoodSnapshot::id));
+        return sorted;
+    }
+
+    /**
+     * @return 件数
+     */
+    public int size() {
+        return foods.size();
+    }
+}
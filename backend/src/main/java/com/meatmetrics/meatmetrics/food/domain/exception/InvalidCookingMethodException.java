@@ -0,0 +1,14 @@
+package com.meatmetrics.meatmetrics.food.domain.exception;
+
+import com.meatmetrics.meatmetrics.sharedkernel.domain.common.exception.DomainException;
+
+/**
+ * 調理方法不正例外
+ * 調理方法の指定が raw, grilled, pan_fried, boiled, steamed, roasted のいずれでもない場合に発生。
+ */
+public class InvalidCookingMethodException extends DomainException {
+
+    public InvalidCookingMethodException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.meatmetrics.meatmetrics.food.domain.exception;
+
+import com.meatmetrics.meatmetrics.sharedkernel.domain.common.exception.DomainException;
+
+/**
+ * 独自食材入力不正例外
+ * 栄養成分が食材マスタと同じ範囲を満たさない場合や、ユーザーあたりの登録上限を超える場合に発生。
+ */
+public class InvalidCustomFoodException extends DomainException {
+
+    public InvalidCustomFoodException(String message) {
+        super(message);
+    }
+}
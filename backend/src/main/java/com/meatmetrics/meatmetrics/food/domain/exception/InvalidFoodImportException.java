@@ -0,0 +1,19 @@
+package com.meatmetrics.meatmetrics.food.domain.exception;
+
+import com.meatmetrics.meatmetrics.sharedkernel.domain.common.exception.DomainException;
+
+/**
+ * 食材インポート入力不正例外
+ * ヘッダー欠落やJSON構造不正など、ファイル全体として取り込めない場合に発生。
+ * 個々の行の検証エラーは例外にせず、インポート結果のエラー一覧として返す。
+ */
+public class InvalidFoodImportException extends DomainException {
+
+    public InvalidFoodImportException(String message) {
+        super(message);
+    }
+
+    public InvalidFoodImportException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
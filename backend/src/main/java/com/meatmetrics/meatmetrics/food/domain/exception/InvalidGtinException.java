@@ -0,0 +1,14 @@
+package com.meatmetrics.meatmetrics.food.domain.exception;
+
+import com.meatmetrics.meatmetrics.sharedkernel.domain.common.exception.DomainException;
+
+/**
+ * GTIN（バーコード）不正例外
+ * 桁数・文字・チェックディジットがGTIN-13として不正な場合に発生。
+ */
+public class InvalidGtinException extends DomainException {
+
+    public InvalidGtinException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.meatmetrics.meatmetrics.food.domain.exception;
+
+import com.meatmetrics.meatmetrics.sharedkernel.domain.common.exception.DomainException;
+
+/**
+ * 参照データベース栄養素不明例外
+ * 参照データベースに定義されていない栄養素コードが指定された場合に発生。
+ */
+public class UnknownReferenceNutrientException extends DomainException {
+
+    public UnknownReferenceNutrientException(String message) {
+        super(message);
+    }
+}
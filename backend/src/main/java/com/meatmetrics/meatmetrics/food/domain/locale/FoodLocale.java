@@ -0,0 +1,58 @@
+package com.meatmetrics.meatmetrics.food.domain.locale;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 食材名の言語
+ *
+ * <p>対応言語ごとに検索索引を構築するため、対応言語は固定の小さな集合です（food_names.localeのCHECK制約と同じ）。
+ * 既定言語（ja）の名前は foods.name です。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public final class FoodLocale {
+
+    /** 既定言語 */
+    public static final String DEFAULT = "ja";
+
+    /** 対応言語（先頭が既定言語） */
+    public static final List<String> SUPPORTED = List.of(DEFAULT, "en");
+
+    private FoodLocale() {}
+
+    /**
+     * @param locale 言語
+     * @return 対応言語の場合true
+     */
+    public static boolean isSupported(String locale) {
+        return locale != null && SUPPORTED.contains(locale);
+    }
+
+    /**
+     * 応答に使う言語を決める
+     *
+     * <p>ユーザーが設定した言語を優先し、未設定の場合は Accept-Language の優先順位で対応言語を選びます。
+     * どちらからも決まらない場合は既定言語です。</p>
+     *
+     * @param preferred ユーザーの設定言語（null可）
+     * @param acceptLanguage Accept-Language ヘッダー（null可）
+     * @return 対応言語
+     */
+    public static String resolve(String preferred, String acceptLanguage) {
+        if (isSupported(preferred)) {
+            return preferred;
+        }
+        if (acceptLanguage == null || acceptLanguage.isBlank()) {
+            return DEFAULT;
+        }
+        try {
+            // "en-US" は言語部分の "en" に一致する
+            String tag = Locale.lookupTag(Locale.LanguageRange.parse(acceptLanguage), SUPPORTED);
+            return tag == null ? DEFAULT : tag;
+        } catch (IllegalArgumentException e) {
+            return DEFAULT;
+        }
+    }
+}
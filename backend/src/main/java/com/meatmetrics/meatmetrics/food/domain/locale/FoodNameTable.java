@@ -0,0 +1,82 @@
+package com.meatmetrics.meatmetrics.food.domain.locale;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 言語別の食材名表（不変）
+ *
+ * <p>言語ごとに「食材ID → 名前」の表を持ちます。検索索引は構築時にこの表から名前を引き、
+ * 検索時には参照しません。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public final class FoodNameTable {
+
+    private static final FoodNameTable EMPTY = new FoodNameTable(Map.of());
+
+    private final Map<String, Map<Long, LocalizedFoodName>> byLocale;
+
+    private FoodNameTable(Map<String, Map<Long, LocalizedFoodName>> byLocale) {
+        this.byLocale = byLocale;
+    }
+
+    /**
+     * @return 空の表
+     */
+    public static FoodNameTable empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 表を構築する
+     *
+     * @param names food_namesの行（対応言語以外は無視）
+     * @return 表
+     */
+    public static FoodNameTable of(Collection<LocalizedFoodName> names) {
+        if (names.isEmpty()) {
+            return EMPTY;
+        }
+        Map<String, Map<Long, LocalizedFoodName>> byLocale = new HashMap<>();
+        for (LocalizedFoodName name : names) {
+            if (FoodLocale.isSupported(name.locale())) {
+                byLocale.computeIfAbsent(name.locale(), locale -> new HashMap<>()).put(name.foodId(), name);
+            }
+        }
+        byLocale.replaceAll((locale, table) -> Collections.unmodifiableMap(table));
+        return new FoodNameTable(Collections.unmodifiableMap(byLocale));
+    }
+
+    /**
+     * @param locale 言語
+     * @param foodId 食材ID
+     * @return 言語別の名前、登録がない場合はnull
+     */
+    public LocalizedFoodName find(String locale, long foodId) {
+        Map<Long, LocalizedFoodName> table = byLocale.get(locale);
+        return table == null ? null : table.get(foodId);
+    }
+
+    /**
+     * @param locale 言語
+     * @return 言語別の名前の登録数
+     */
+    public int size(String locale) {
+        Map<Long, LocalizedFoodName> table = byLocale.get(locale);
+        return table == null ? 0 : table.size();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof FoodNameTable other && byLocale.equals(other.byLocale));
+    }
+
+    @Override
+    public int hashCode() {
+        return byLocale.hashCode();
+    }
+}
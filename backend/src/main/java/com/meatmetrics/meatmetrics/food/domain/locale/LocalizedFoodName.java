@@ -0,0 +1,21 @@
+package com.meatmetrics.meatmetrics.food.domain.locale;
+
+import java.util.Objects;
+
+/**
+ * 言語別の食材名（food_namesの1行）
+ *
+ * @param foodId 食材ID
+ * @param locale 言語
+ * @param name 表示名
+ * @param reading 読み（任意、検索キーとして使用）
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public record LocalizedFoodName(long foodId, String locale, String name, String reading) {
+
+    public LocalizedFoodName {
+        Objects.requireNonNull(locale, "locale");
+        Objects.requireNonNull(name, "name");
+    }
+}
@@ -0,0 +1,43 @@
+package com.meatmetrics.meatmetrics.food.domain.nutrition;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodSnapshot;
+import com.meatmetrics.meatmetrics.food.domain.cooking.CookingFactors;
+
+/**
+ * 食事明細1件分の栄養成分
+ *
+ * <p>calculate_meal_item_nutrition() と同じ式・丸め（ROUND(numeric) = 0から遠ざかる四捨五入）で計算します。
+ * 途中計算は100での除算を含めて全て10進の正確な値で行い、最後に1回だけ丸めます。</p>
+ *
+ * @param calories カロリー（kcal）
+ * @param proteinG タンパク質（g、小数2桁）
+ * @param fatG 脂質（g、小数2桁）
+ * @param netCarbsG 正味炭水化物（g、小数2桁）
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public record ItemNutrition(int calories, BigDecimal proteinG, BigDecimal fatG, BigDecimal netCarbsG) {
+
+    /**
+     * 摂取量と調理係数から栄養成分を計算する
+     *
+     * @param food 食材（生の100gあたり）
+     * @param quantityG 摂取量（調理後のg）
+     * @param factors 調理係数
+     * @return 栄養成分
+     */
+    public static ItemNutrition calculate(FoodSnapshot food, BigDecimal quantityG, CookingFactors factors) {
+        return new ItemNutrition(
+                scale(BigDecimal.valueOf(food.caloriesPer100g()), quantityG, factors.calories(), 0).intValueExact(),
+                scale(BigDecimal.valueOf(food.proteinCentiG(), 2), quantityG, factors.protein(), 2),
+                scale(BigDecimal.valueOf(food.fatCentiG(), 2), quantityG, factors.fat(), 2),
+                scale(BigDecimal.valueOf(food.netCarbsCentiG(), 2), quantityG, factors.netCarbs(), 2));
+    }
+
+    private static BigDecimal scale(BigDecimal per100g, BigDecimal quantityG, BigDecimal factor, int digits) {
+        return per100g.multiply(quantityG).multiply(factor).movePointLeft(2).setScale(digits, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,44 @@
+package com.meatmetrics.meatmetrics.food.domain.search;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 食材名検索用の正規化
+ *
+ * <p>NFKC正規化（全角英数・半角カナの統一）、小文字化、ひらがな→カタカナ変換、空白除去を行います。
+ * 「さけ」「サケ」「ｻｹ」を同じキーとして扱うためのもので、表示には使用しません。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public final class FoodNameNormalizer {
+
+    private static final char HIRAGANA_FIRST = 'ぁ';
+    private static final char HIRAGANA_LAST = 'ゖ';
+    private static final int KATAKANA_OFFSET = 0x60;
+
+    private FoodNameNormalizer() {}
+
+    /**
+     * 検索キーに正規化する
+     *
+     * @param text 食材名・タグ・検索語
+     * @return 正規化済みキー（nullの場合は空文字）
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String nfkc = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder key = new StringBuilder(nfkc.length());
+        for (int i = 0; i < nfkc.length(); i++) {
+            char c = nfkc.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            key.append(c >= HIRAGANA_FIRST && c <= HIRAGANA_LAST ? (char) (c + KATAKANA_OFFSET) : c);
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,350 @@
+package com.meatmetrics.meatmetrics.food.domain.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodCatalog;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodSnapshot;
+import com.meatmetrics.meatmetrics.food.domain.locale.FoodLocale;
+import com.meatmetrics.meatmetrics.food.domain.locale.FoodNameTable;
+import com.meatmetrics.meatmetrics.food.domain.locale.LocalizedFoodName;
+
+/**
+ * 食材名検索索引（不変）
+ *
+ * <p>正規化した食材名を辞書順に並べて保持します。前方一致は二分探索で区間を求め、
+ * 部分一致とタグ一致は正規化済みキーの走査で求めます（走査時に文字列の正規化は行いません）。</p>
+ *
+ * <p>一致の強さは {@link MatchType} の順で、同じ強さの中では名前の短い順 → ID順に並べます。
+ * ユーザー独自食材のオーバーレイも同じ順序で並べるため、結果は {@link #ORDER} で合成できます。</p>
+ *
+ * <p>一致がない場合の「もしかして」候補用に、同じ食材から作ったスペル訂正索引（{@link FoodSpellingIndex}）も保持します。</p>
+ *
+ * <p>索引は言語ごとに構築します。構築時に食材名を言語別の名前（food_names）に置き換え、読みがあれば
+ * 名前と同じ並びに別のキーとして加えるため、検索時の計算量は言語によらず同じで、翻訳表も参照しません。</p>
+ *
+ * <p>入力補完でユーザーのよく使う食材を先に判定できるよう、食材IDからそのキー（名前・読み）の位置も引けます。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public final class FoodSearchIndex {
+
+    /**
+     * 一致の種類（宣言順に強い）
+     */
+    public enum MatchType {
+        /** 名前の完全一致 */
+        EXACT,
+        /** 名前の前方一致 */
+        PREFIX,
+        /** 名前の部分一致 */
+        CONTAINS,
+        /** タグの完全一致 */
+        TAG
+    }
+
+    /**
+     * 検索結果の1件
+     *
+     * @param food 食材
+     * @param matchType 一致の種類
+     * @param custom ユーザー独自食材の場合true
+     */
+    public record Match(FoodSnapshot food, MatchType matchType, boolean custom) {}
+
+    /** 結果の並び順（一致の強さ → 名前の長さ → 共有食材を先 → ID） */
+    public static final Comparator<Match> ORDER = Comparator
+            .comparing(Match::matchType)
+            .thenComparingInt((Match match) -> match.food().name().length())
+            .thenComparing(Match::custom)
+            .thenComparingLong(match -> match.food().id());
+
+    private static final FoodSearchIndex EMPTY = new FoodSearchIndex(FoodCatalog.empty(), FoodLocale.DEFAULT, new String[0],
+            new FoodSnapshot[0], new String[0][], false, FoodSpellingIndex.empty());
+
+    /** 食材ごとのキーの最大数（名前・読み） */
+    private static final int KEYS_PER_FOOD = 2;
+
+    private final FoodCatalog catalog;
+    private final String locale;
+    /** 正規化済みの名前・読み（辞書順） */
+    private final String[] keys;
+    /** keys と並列の食材（名前は索引の言語のもの） */
+    private final FoodSnapshot[] foods;
+    /** keys と並列の正規化済みタグ */
+    private final String[][] tagKeys;
+    /** 読みのキーを含む（同じ食材が複数のキーで一致しうる）場合true */
+    private final boolean hasReadings;
+    private final FoodSpellingIndex spelling;
+    /** 食材ID（昇順） */
+    private final long[] foodIds;
+    /** foodIds と並列の、キーの位置（食材ごとに {@value #KEYS_PER_FOOD} 個、ない場合は-1） */
+    private final int[] keyPositions;
+
+    private FoodSearchIndex(FoodCatalog catalog, String locale, String[] keys, FoodSnapshot[] foods, String[][] tagKeys,
+                            boolean hasReadings, FoodSpellingIndex spelling) {
+        this.catalog = catalog;
+        this.locale = locale;
+        this.keys = keys;
+        this.foods = foods;
+        this.tagKeys = tagKeys;
+        this.hasReadings = hasReadings;
+        this.spelling = spelling;
+
+        Integer[] byId = new Integer[keys.length];
+        for (int i = 0; i < byId.length; i++) {
+            byId[i] = i;
+        }
+        Arrays.sort(byId, Comparator.<Integer>comparingLong(i -> foods[i].id()).thenComparingInt(i -> i));
+        long[] ids = new long[keys.length];
+        int[] positions = new int[keys.length * KEYS_PER_FOOD];
+        Arrays.fill(positions, -1);
+        int count = 0;
+        for (int i = 0; i < byId.length; i++) {
+            long id = foods[byId[i]].id();
+            if (count == 0 || ids[count - 1] != id) {
+                ids[count++] = id;
+                positions[(count - 1) * KEYS_PER_FOOD] = byId[i];
+            } else {
+                positions[(count - 1) * KEYS_PER_FOOD + 1] = byId[i];
+            }
+        }
+        this.foodIds = Arrays.copyOf(ids, count);
+        this.keyPositions = Arrays.copyOf(positions, count * KEYS_PER_FOOD);
+    }
+
+    /**
+     * @return 空の索引
+     */
+    public static FoodSearchIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * カタログの有効な食材から既定言語の索引を構築する
+     *
+     * @param catalog カタログ
+     * @return 索引
+     */
+    public static FoodSearchIndex build(FoodCatalog catalog) {
+        return build(catalog, FoodLocale.DEFAULT);
+    }
+
+    /**
+     * カタログの有効な食材から指定言語の索引を構築する
+     *
+     * @param catalog カタログ
+     * @param locale 言語（名前が登録されていない食材は既定の名前を使う）
+     * @return 索引
+     */
+    public static FoodSearchIndex build(FoodCatalog catalog, String locale) {
+        List<FoodSnapshot> active = catalog.activeFoods();
+        FoodNameTable names = catalog.names();
+        List<FoodSnapshot> localized = new ArrayList<>(active.size());
+        List<String> entryKeys = new ArrayList<>(active.size());
+        List<FoodSnapshot> entryFoods = new ArrayList<>(active.size());
+        for (FoodSnapshot food : active) {
+            LocalizedFoodName name = names.find(locale, food.id());
+            FoodSnapshot display = name == null ? food : food.withName(name.name());
+            localized.add(display);
+            String key = FoodNameNormalizer.normalize(display.name());
+            entryKeys.add(key);
+            entryFoods.add(display);
+            String reading = name == null ? "" : FoodNameNormalizer.normalize(name.reading());
+            if (!reading.isEmpty() && !reading.equals(key)) {
+                entryKeys.add(reading);
+                entryFoods.add(display);
+            }
+        }
+        Integer[] order = new Integer[entryKeys.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.<Integer, String>comparing(entryKeys::get).thenComparingInt(i -> i));
+
+        String[] keys = new String[order.length];
+        FoodSnapshot[] foods = new FoodSnapshot[order.length];
+        String[][] tagKeys = new String[order.length][];
+        for (int i = 0; i < order.length; i++) {
+            keys[i] = entryKeys.get(order[i]);
+            foods[i] = entryFoods.get(order[i]);
+            tagKeys[i] = normalizeTags(foods[i].tags());
+        }
+        return new FoodSearchIndex(catalog, locale, keys, foods, tagKeys, order.length > active.size(),
+                FoodSpellingIndex.build(localized));
+    }
+
+    /**
+     * 食材名・タグで検索する
+     *
+     * @param query 検索語（正規化前）
+     * @param limit 最大件数
+     * @return 一致した食材（{@link #ORDER} 順）、検索語が空の場合は空
+     */
+    public List<Match> search(String query, int limit) {
+        String key = FoodNameNormalizer.normalize(query);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        List<Match> matches = new ArrayList<>();
+        int from = lowerBound(key);
+        int to = addPrefixMatches(key, from, matches);
+        for (int i = 0; i < keys.length; i++) {
+            if (i >= from && i < to) {
+                continue;
+            }
+            MatchType type = matchOutsidePrefix(keys[i], tagKeys[i], key);
+            if (type != null) {
+                matches.add(new Match(foods[i], type, false));
+            }
+        }
+        return sortAndLimit(matches, limit);
+    }
+
+    /**
+     * 食材名・読みの前方一致（完全一致を含む）だけで検索する（入力補完用、部分一致のための走査を行わない）
+     *
+     * @param query 検索語（正規化前）
+     * @param limit 最大件数
+     * @return 一致した食材（{@link #ORDER} 順）、検索語が空の場合は空
+     */
+    public List<Match> searchPrefix(String query, int limit) {
+        String key = FoodNameNormalizer.normalize(query);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        List<Match> matches = new ArrayList<>();
+        addPrefixMatches(key, lowerBound(key), matches);
+        return sortAndLimit(matches, limit);
+    }
+
+    /**
+     * 1件の食材が正規化済みの検索語に前方一致するかを判定する（名前・読みのどちらか強い方）
+     *
+     * @param foodId 食材ID
+     * @param normalizedQuery 正規化済み検索語（空の場合は索引にある全ての食材が前方一致）
+     * @return 一致（食材名は索引の言語のもの）、索引にない・前方一致しない場合null
+     */
+    public Match prefixMatch(long foodId, String normalizedQuery) {
+        int index = Arrays.binarySearch(foodIds, foodId);
+        if (index < 0) {
+            return null;
+        }
+        MatchType best = null;
+        for (int k = 0; k < KEYS_PER_FOOD; k++) {
+            int position = keyPositions[index * KEYS_PER_FOOD + k];
+            if (position < 0 || !keys[position].startsWith(normalizedQuery)) {
+                continue;
+            }
+            MatchType type = keys[position].length() == normalizedQuery.length() ? MatchType.EXACT : MatchType.PREFIX;
+            if (best == null || type.compareTo(best) < 0) {
+                best = type;
+            }
+        }
+        return best == null ? null : new Match(foods[keyPositions[index * KEYS_PER_FOOD]], best, false);
+    }
+
+    /**
+     * 検索語に綴りの近い食材名・タグを返す
+     *
+     * @param query 検索語（正規化前）
+     * @param limit 最大件数
+     * @return 訂正候補（編集距離 {@value FoodSpellingIndex#MAX_EDIT_DISTANCE} 以内、近い順）
+     */
+    public List<FoodSpellingIndex.Suggestion> suggest(String query, int limit) {
+        return spelling.suggest(query, limit);
+    }
+
+    /**
+     * 1件の食材が検索語に一致するかを判定する（オーバーレイなど索引を持たない少数の食材用）
+     *
+     * @param food 食材
+     * @param normalizedQuery 正規化済み検索語
+     * @return 一致の種類、一致しない場合null
+     */
+    public static MatchType match(FoodSnapshot food, String normalizedQuery) {
+        String name = FoodNameNormalizer.normalize(food.name());
+        if (name.startsWith(normalizedQuery)) {
+            return name.length() == normalizedQuery.length() ? MatchType.EXACT : MatchType.PREFIX;
+        }
+        return matchOutsidePrefix(name, normalizeTags(food.tags()), normalizedQuery);
+    }
+
+    /**
+     * @return 索引の元になったカタログ
+     */
+    public FoodCatalog catalog() {
+        return catalog;
+    }
+
+    /**
+     * @return 索引の言語
+     */
+    public String locale() {
+        return locale;
+    }
+
+    /**
+     * @return 索引のキー数（読みを含む）
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    private static MatchType matchOutsidePrefix(String name, String[] tags, String key) {
+        if (name.contains(key)) {
+            return MatchType.CONTAINS;
+        }
+        for (String tag : tags) {
+            if (tag.equals(key)) {
+                return MatchType.TAG;
+            }
+        }
+        return null;
+    }
+
+    private static String[] normalizeTags(Collection<String> tags) {
+        return tags.stream().map(FoodNameNormalizer::normalize).toArray(String[]::new);
+    }
+
+    /** 前方一致（完全一致を含む）は辞書順で連続した区間になる。区間の終端を返す */
+    private int addPrefixMatches(String key, int from, List<Match> matches) {
+        int to = from;
+        while (to < keys.length && keys[to].startsWith(key)) {
+            matches.add(new Match(foods[to], keys[to].length() == key.length() ? MatchType.EXACT : MatchType.PREFIX, false));
+            to++;
+        }
+        return to;
+    }
+
+    private List<Match> sortAndLimit(List<Match> matches, int limit) {
+        matches.sort(ORDER);
+        if (hasReadings) {
+            // 名前と読みの両方で一致した食材は、強い方の一致だけを残す
+            Set<Long> seen = new HashSet<>();
+            matches.removeIf(match -> !seen.add(match.food().id()));
+        }
+        return matches.size() <= limit ? matches : List.copyOf(matches.subList(0, limit));
+    }
+
+    /** key 以上の最初の位置 */
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
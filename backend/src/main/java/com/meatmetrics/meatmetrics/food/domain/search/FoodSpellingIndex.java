@@ -0,0 +1,231 @@
+package com.meatmetrics.meatmetrics.food.domain.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodSnapshot;
+
+/**
+ * 「もしかして」候補を返すスペル訂正索引（不変、Symmetric Delete方式）
+ *
+ * <p>辞書語（正規化した食材名とタグ）から最大 {@link #MAX_EDIT_DISTANCE} 文字を削除した文字列を
+ * 構築時にすべて登録しておきます。検索時は検索語からも同様に削除した文字列を作り、
+ * 登録済みの削除文字列と一致した辞書語だけを編集距離で検証します。
+ * 辞書全体との距離計算や、挿入・置換の候補生成（文字種の多い日本語では膨大になる）を行いません。</p>
+ *
+ * <p>削除文字列は先頭 {@link #PREFIX_LENGTH} 文字だけから作り、長い名前による索引の肥大化を抑えます。
+ * 距離の検証は全体の文字列で行います。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public final class FoodSpellingIndex {
+
+    /** 候補とする最大編集距離 */
+    public static final int MAX_EDIT_DISTANCE = 2;
+
+    /** 削除文字列を作る先頭の文字数 */
+    static final int PREFIX_LENGTH = 7;
+
+    private static final FoodSpellingIndex EMPTY = build(List.of());
+
+    /**
+     * 訂正候補の1件
+     *
+     * @param term 辞書語（表示用、食材名またはタグの元の表記）
+     * @param distance 検索語との編集距離（隣接文字の入れ替えは1）
+     * @param frequency 辞書語を持つ食材の数
+     */
+    public record Suggestion(String term, int distance, int frequency) {}
+
+    /** 候補の並び順（距離 → 食材数の多い順 → 短い順 → 辞書順） */
+    private static final Comparator<Suggestion> ORDER = Comparator
+            .comparingInt(Suggestion::distance)
+            .thenComparing(Comparator.comparingInt(Suggestion::frequency).reversed())
+            .thenComparingInt((Suggestion s) -> s.term().length())
+            .thenComparing(Suggestion::term);
+
+    /** 正規化済みの辞書語 */
+    private final String[] keys;
+    /** keys と並列の表示用表記 */
+    private final String[] terms;
+    /** keys と並列の食材数 */
+    private final int[] frequencies;
+    /** 削除文字列 → 辞書語の位置 */
+    private final Map<String, int[]> deletes;
+    private final int maxKeyLength;
+
+    private FoodSpellingIndex(String[] keys, String[] terms, int[] frequencies, Map<String, int[]> deletes, int maxKeyLength) {
+        this.keys = keys;
+        this.terms = terms;
+        this.frequencies = frequencies;
+        this.deletes = deletes;
+        this.maxKeyLength = maxKeyLength;
+    }
+
+    /**
+     * @return 空の索引
+     */
+    public static FoodSpellingIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 食材名とタグから索引を構築する
+     *
+     * @param foods 有効な食材
+     * @return 索引
+     */
+    public static FoodSpellingIndex build(List<FoodSnapshot> foods) {
+        // 正規化後に同じになる表記は1語にまとめ、最初に現れた表記を表示に使う
+        Map<String, String> display = new LinkedHashMap<>();
+        Map<String, Integer> counts = new HashMap<>();
+        for (FoodSnapshot food : foods) {
+            Set<String> ofFood = new HashSet<>();
+            addTerm(food.name(), display, counts, ofFood);
+            for (String tag : food.tags()) {
+                addTerm(tag, display, counts, ofFood);
+            }
+        }
+
+        String[] keys = display.keySet().toArray(String[]::new);
+        String[] terms = new String[keys.length];
+        int[] frequencies = new int[keys.length];
+        Map<String, List<Integer>> variants = new HashMap<>();
+        int maxKeyLength = 0;
+        for (int i = 0; i < keys.length; i++) {
+            terms[i] = display.get(keys[i]);
+            frequencies[i] = counts.get(keys[i]);
+            maxKeyLength = Math.max(maxKeyLength, keys[i].length());
+            for (String variant : deleteVariants(prefix(keys[i]))) {
+                variants.computeIfAbsent(variant, v -> new ArrayList<>(1)).add(i);
+            }
+        }
+        Map<String, int[]> deletes = new HashMap<>(variants.size() * 4 / 3 + 1);
+        variants.forEach((variant, positions) ->
+                deletes.put(variant, positions.stream().mapToInt(Integer::intValue).toArray()));
+        return new FoodSpellingIndex(keys, terms, frequencies, deletes, maxKeyLength);
+    }
+
+    private static void addTerm(String term, Map<String, String> display, Map<String, Integer> counts, Set<String> ofFood) {
+        String key = FoodNameNormalizer.normalize(term);
+        if (key.isEmpty() || !ofFood.add(key)) {
+            return;
+        }
+        display.putIfAbsent(key, term.strip());
+        counts.merge(key, 1, Integer::sum);
+    }
+
+    /**
+     * 検索語に近い辞書語を返す
+     *
+     * @param query 検索語（正規化前）
+     * @param limit 最大件数
+     * @return 訂正候補（距離の近い順）、検索語と完全に一致する辞書語は含めない
+     */
+    public List<Suggestion> suggest(String query, int limit) {
+        String key = FoodNameNormalizer.normalize(query);
+        if (key.isEmpty() || limit <= 0 || key.length() - MAX_EDIT_DISTANCE > maxKeyLength) {
+            return List.of();
+        }
+        List<Suggestion> suggestions = new ArrayList<>();
+        Set<Integer> checked = new HashSet<>();
+        for (String variant : deleteVariants(prefix(key))) {
+            int[] positions = deletes.get(variant);
+            if (positions == null) {
+                continue;
+            }
+            for (int position : positions) {
+                if (!checked.add(position) || Math.abs(keys[position].length() - key.length()) > MAX_EDIT_DISTANCE) {
+                    continue;
+                }
+                int distance = distance(key, keys[position], MAX_EDIT_DISTANCE);
+                if (distance > 0 && distance <= MAX_EDIT_DISTANCE) {
+                    suggestions.add(new Suggestion(terms[position], distance, frequencies[position]));
+                }
+            }
+        }
+        suggestions.sort(ORDER);
+        return suggestions.size() <= limit ? suggestions : List.copyOf(suggestions.subList(0, limit));
+    }
+
+    /**
+     * @return 辞書語の数
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    private static String prefix(String key) {
+        return key.length() <= PREFIX_LENGTH ? key : key.substring(0, PREFIX_LENGTH);
+    }
+
+    /** 自身と、最大 MAX_EDIT_DISTANCE 文字を削除した文字列 */
+    static Set<String> deleteVariants(String word) {
+        Set<String> variants = new HashSet<>();
+        variants.add(word);
+        List<String> frontier = List.of(word);
+        for (int depth = 0; depth < MAX_EDIT_DISTANCE; depth++) {
+            List<String> next = new ArrayList<>();
+            for (String current : frontier) {
+                if (current.length() <= 1) {
+                    continue;
+                }
+                for (int i = 0; i < current.length(); i++) {
+                    String deleted = current.substring(0, i) + current.substring(i + 1);
+                    if (variants.add(deleted)) {
+                        next.add(deleted);
+                    }
+                }
+            }
+            frontier = next;
+        }
+        return variants;
+    }
+
+    /**
+     * 制限付き編集距離（挿入・削除・置換・隣接文字の入れ替え）
+     *
+     * @return 距離、max を超える場合は max + 1
+     */
+    static int distance(String a, String b, int max) {
+        int n = a.length();
+        int m = b.length();
+        if (Math.abs(n - m) > max) {
+            return max + 1;
+        }
+        int[] twoBack = new int[m + 1];
+        int[] previous = new int[m + 1];
+        int[] current = new int[m + 1];
+        for (int j = 0; j <= m; j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= n; i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= m; j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, twoBack[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] recycled = twoBack;
+            twoBack = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[m], max + 1);
+    }
+}
@@ -0,0 +1,279 @@
+package com.meatmetrics.meatmetrics.food.domain.similarity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodCatalog;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodSnapshot;
+
+/**
+ * 栄養成分の近さで代替食材を探すk-d木索引（不変）
+ *
+ * <p>有効な食材を「カロリー・タンパク質・脂質・正味炭水化物（100gあたり）」の4次元ベクトルとし、
+ * 次元ごとに平均0・標準偏差1へ正規化したうえでユークリッド距離を比べます（kcalとgの桁の違いを打ち消すため）。</p>
+ *
+ * <p>木は配列上の暗黙の平衡木です。区間 {@code [lo, hi)} の中央の要素が節点で、
+ * 左右の部分区間がそれぞれ部分木になります。分割軸は区間内で値の広がりが最も大きい次元です。
+ * 探索は近い側の部分木から降り、分割面までの距離が暫定k位の距離以上なら反対側を枝刈りします。</p>
+ *
+ * <p>カテゴリ・タグ条件は候補の採否にだけ使い、木の形は変えません。
+ * 条件に合う候補がk件そろうまでは枝刈りが効かないため、条件が厳しいほど走査は全件に近づきます。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public final class FoodSimilarityIndex {
+
+    /** ベクトルの次元数（カロリー・タンパク質・脂質・正味炭水化物） */
+    static final int DIMENSIONS = 4;
+
+    private static final FoodSimilarityIndex EMPTY = build(FoodCatalog.empty());
+
+    /**
+     * 近傍の1件
+     *
+     * @param food 食材
+     * @param distance 正規化ベクトル間の距離（0に近いほど似ている）
+     */
+    public record Neighbour(FoodSnapshot food, double distance) {}
+
+    private final FoodCatalog catalog;
+    /** 木の並び順の食材 */
+    private final FoodSnapshot[] foods;
+    /** foods と並列の正規化ベクトル（[i * DIMENSIONS + 次元]） */
+    private final double[] points;
+    /** foods と並列の、その要素を節点とした場合の分割軸 */
+    private final byte[] axes;
+    private final double[] means;
+    /** 次元ごとの 1 / 標準偏差（ばらつきのない次元は0） */
+    private final double[] scales;
+
+    private FoodSimilarityIndex(FoodCatalog catalog, FoodSnapshot[] foods, double[] points, byte[] axes,
+                                double[] means, double[] scales) {
+        this.catalog = catalog;
+        this.foods = foods;
+        this.points = points;
+        this.axes = axes;
+        this.means = means;
+        this.scales = scales;
+    }
+
+    /**
+     * @return 空の索引
+     */
+    public static FoodSimilarityIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * カタログの有効な食材から索引を構築する
+     *
+     * @param catalog カタログ
+     * @return 索引
+     */
+    public static FoodSimilarityIndex build(FoodCatalog catalog) {
+        List<FoodSnapshot> active = catalog.activeFoods();
+        int n = active.size();
+        double[] means = new double[DIMENSIONS];
+        double[] scales = new double[DIMENSIONS];
+        double[][] raw = new double[n][];
+        for (int i = 0; i < n; i++) {
+            raw[i] = rawVector(active.get(i));
+            for (int d = 0; d < DIMENSIONS; d++) {
+                means[d] += raw[i][d] / n;
+            }
+        }
+        for (int d = 0; d < DIMENSIONS; d++) {
+            double variance = 0;
+            for (double[] vector : raw) {
+                double diff = vector[d] - means[d];
+                variance += diff * diff / n;
+            }
+            scales[d] = variance > 1e-12 ? 1.0 / Math.sqrt(variance) : 0.0;
+        }
+
+        double[][] normalized = new double[n][];
+        for (int i = 0; i < n; i++) {
+            normalized[i] = normalize(raw[i], means, scales);
+        }
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        byte[] axes = new byte[n];
+        arrange(order, normalized, axes, 0, n);
+
+        FoodSnapshot[] foods = new FoodSnapshot[n];
+        double[] points = new double[n * DIMENSIONS];
+        for (int i = 0; i < n; i++) {
+            foods[i] = active.get(order[i]);
+            System.arraycopy(normalized[order[i]], 0, points, i * DIMENSIONS, DIMENSIONS);
+        }
+        return new FoodSimilarityIndex(catalog, foods, points, axes, means, scales);
+    }
+
+    /**
+     * 区間 {@code [lo, hi)} を中央値で分割し、再帰的に木の並びへ並べ替える
+     */
+    private static void arrange(Integer[] order, double[][] vectors, byte[] axes, int lo, int hi) {
+        if (hi - lo <= 0) {
+            return;
+        }
+        int axis = widestAxis(order, vectors, lo, hi);
+        Arrays.sort(order, lo, hi, Comparator.comparingDouble(i -> vectors[i][axis]));
+        int mid = (lo + hi) >>> 1;
+        axes[mid] = (byte) axis;
+        arrange(order, vectors, axes, lo, mid);
+        arrange(order, vectors, axes, mid + 1, hi);
+    }
+
+    private static int widestAxis(Integer[] order, double[][] vectors, int lo, int hi) {
+        int widest = 0;
+        double widestSpread = -1;
+        for (int d = 0; d < DIMENSIONS; d++) {
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int i = lo; i < hi; i++) {
+                double value = vectors[order[i]][d];
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            if (max - min > widestSpread) {
+                widestSpread = max - min;
+                widest = d;
+            }
+        }
+        return widest;
+    }
+
+    /**
+     * 基準の食材に栄養成分が近い食材を返す（基準の食材自身は含めない）
+     *
+     * @param target 基準の食材（カタログにない食材も指定可能）
+     * @param k 最大件数
+     * @param filter 候補の条件（nullの場合は条件なし）
+     * @return 近い順の食材（同距離の場合はID昇順）
+     */
+    public List<Neighbour> nearest(FoodSnapshot target, int k, Predicate<FoodSnapshot> filter) {
+        if (k <= 0 || foods.length == 0) {
+            return List.of();
+        }
+        double[] query = normalize(rawVector(target), means, scales);
+        Predicate<FoodSnapshot> accept = filter == null
+                ? food -> food.id() != target.id()
+                : food -> food.id() != target.id() && filter.test(food);
+        Candidates best = new Candidates(k);
+        search(query, accept, best, 0, foods.length);
+
+        List<Neighbour> result = new ArrayList<>(best.size);
+        for (int i = 0; i < best.size; i++) {
+            result.add(new Neighbour(foods[best.positions[i]], Math.sqrt(best.distances[i])));
+        }
+        return result;
+    }
+
+    private void search(double[] query, Predicate<FoodSnapshot> accept, Candidates best, int lo, int hi) {
+        if (hi - lo <= 0) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (accept.test(foods[mid])) {
+            best.offer(mid, squaredDistance(query, mid), foods[mid].id());
+        }
+        double diff = query[axes[mid]] - points[mid * DIMENSIONS + axes[mid]];
+        if (diff < 0) {
+            search(query, accept, best, lo, mid);
+            if (diff * diff <= best.worst()) {
+                search(query, accept, best, mid + 1, hi);
+            }
+        } else {
+            search(query, accept, best, mid + 1, hi);
+            if (diff * diff <= best.worst()) {
+                search(query, accept, best, lo, mid);
+            }
+        }
+    }
+
+    private double squaredDistance(double[] query, int position) {
+        double sum = 0;
+        int offset = position * DIMENSIONS;
+        for (int d = 0; d < DIMENSIONS; d++) {
+            double diff = query[d] - points[offset + d];
+            sum += diff * diff;
+        }
+        return sum;
+    }
+
+    /**
+     * @return 索引の元になったカタログ
+     */
+    public FoodCatalog catalog() {
+        return catalog;
+    }
+
+    /**
+     * @return 索引に含まれる食材数
+     */
+    public int size() {
+        return foods.length;
+    }
+
+    private static double[] rawVector(FoodSnapshot food) {
+        return new double[] {
+                food.caloriesPer100g(),
+                food.proteinCentiG() / 100.0,
+                food.fatCentiG() / 100.0,
+                food.netCarbsCentiG() / 100.0
+        };
+    }
+
+    private static double[] normalize(double[] raw, double[] means, double[] scales) {
+        double[] normalized = new double[DIMENSIONS];
+        for (int d = 0; d < DIMENSIONS; d++) {
+            normalized[d] = (raw[d] - means[d]) * scales[d];
+        }
+        return normalized;
+    }
+
+    /** 距離の昇順に保つ上位k件（kは小さいため挿入ソートで十分） */
+    private static final class Candidates {
+        final int[] positions;
+        final double[] distances;
+        final long[] ids;
+        int size;
+
+        Candidates(int k) {
+            positions = new int[k];
+            distances = new double[k];
+            ids = new long[k];
+        }
+
+        /** 暫定k位の距離（k件に満たない間は無限大） */
+        double worst() {
+            return size < positions.length ? Double.POSITIVE_INFINITY : distances[size - 1];
+        }
+
+        void offer(int position, double distance, long id) {
+            if (size == positions.length && !before(distance, id, size - 1)) {
+                return;
+            }
+            int i = size == positions.length ? size - 1 : size++;
+            while (i > 0 && before(distance, id, i - 1)) {
+                positions[i] = positions[i - 1];
+                distances[i] = distances[i - 1];
+                ids[i] = ids[i - 1];
+                i--;
+            }
+            positions[i] = position;
+            distances[i] = distance;
+            ids[i] = id;
+        }
+
+        private boolean before(double distance, long id, int i) {
+            return distance < distances[i] || (distance == distances[i] && id < ids[i]);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.meatmetrics.meatmetrics.food.domain.usage;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ユーザーごとの食材の使用頻度（減衰付きカウンタ、不変）
+ *
+ * <p>食材ごとに「記録1回 = 1」を半減期で減衰させた合計をスコアとし、スコアの高い順に最大 capacity 件を保持します。
+ * 記録のたびに全件を減衰させる代わりに、基準時刻からの経過に応じて記録時の重みを {@code 2^(経過/半減期)} 倍にします
+ * （前方減衰）。全件が同じ倍率になるため、並び順は「現在時刻で減衰させたスコア」の順と一致し、
+ * 頻度の高い食材も最近の食材も1つのスコアで比較できます。</p>
+ *
+ * <p>重みが大きくなりすぎないよう、基準時刻から {@value #MAX_EXPONENT} 半減期を超えた記録では
+ * 基準時刻を進めて全件のスコアを縮めます。</p>
+ *
+ * <p>満杯のときに新しい食材を記録した場合、その重みが最下位のスコアを上回れば最下位と入れ替えます。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public final class FoodUsageSketch {
+
+    /** 基準時刻を進めるまでの半減期数 */
+    static final int MAX_EXPONENT = 512;
+
+    /**
+     * 食材1件の集計値（読み込み用）
+     *
+     * @param foodId 食材ID
+     * @param score 基準時刻で減衰させたスコア
+     */
+    public record Usage(long foodId, double score) {}
+
+    private final int capacity;
+    private final long halfLifeMillis;
+    private final long landmarkMillis;
+    /** スコアの降順 */
+    private final long[] foodIds;
+    /** foodIds と並列のスコア（基準時刻での値） */
+    private final double[] scores;
+
+    private FoodUsageSketch(int capacity, long halfLifeMillis, long landmarkMillis, long[] foodIds, double[] scores) {
+        this.capacity = capacity;
+        this.halfLifeMillis = halfLifeMillis;
+        this.landmarkMillis = landmarkMillis;
+        this.foodIds = foodIds;
+        this.scores = scores;
+    }
+
+    /**
+     * 空のスケッチを作成する
+     *
+     * @param capacity 保持する食材数の上限
+     * @param halfLifeMillis 半減期（ミリ秒）
+     * @param landmarkMillis 基準時刻（エポックミリ秒）
+     * @return スケッチ
+     */
+    public static FoodUsageSketch empty(int capacity, long halfLifeMillis, long landmarkMillis) {
+        return of(List.of(), capacity, halfLifeMillis, landmarkMillis);
+    }
+
+    /**
+     * 集計済みの値からスケッチを作成する
+     *
+     * @param usages 食材ごとのスコア（基準時刻で減衰させた値、食材IDの重複なし）
+     * @param capacity 保持する食材数の上限（超える分はスコアの低いものから捨てる）
+     * @param halfLifeMillis 半減期（ミリ秒）
+     * @param landmarkMillis 基準時刻（エポックミリ秒）
+     * @return スケッチ
+     */
+    public static FoodUsageSketch of(List<Usage> usages, int capacity, long halfLifeMillis, long landmarkMillis) {
+        if (capacity <= 0 || halfLifeMillis <= 0) {
+            throw new IllegalArgumentException("capacity and halfLifeMillis must be positive");
+        }
+        Usage[] sorted = usages.stream()
+                .filter(usage -> usage.score() > 0)
+                .sorted((a, b) -> compare(a.score(), a.foodId(), b.score(), b.foodId()))
+                .limit(capacity)
+                .toArray(Usage[]::new);
+        long[] ids = new long[sorted.length];
+        double[] values = new double[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            ids[i] = sorted[i].foodId();
+            values[i] = sorted[i].score();
+        }
+        return new FoodUsageSketch(capacity, halfLifeMillis, landmarkMillis, ids, values);
+    }
+
+    /**
+     * 食材の記録を加えたスケッチを返す
+     *
+     * @param foodId 食材ID
+     * @param atMillis 記録時刻（エポックミリ秒）
+     * @return 新しいスケッチ（満杯で重みが最下位に届かない場合は自身）
+     */
+    public FoodUsageSketch record(long foodId, long atMillis) {
+        double exponent = (double) (atMillis - landmarkMillis) / halfLifeMillis;
+        if (exponent > MAX_EXPONENT) {
+            return rescale(atMillis).record(foodId, atMillis);
+        }
+        double weight = Math.pow(2, exponent);
+
+        int existing = indexOf(foodId);
+        int size = foodIds.length;
+        long[] ids;
+        double[] values;
+        int position;
+        if (existing >= 0) {
+            ids = foodIds.clone();
+            values = scores.clone();
+            position = existing;
+            values[position] += weight;
+        } else if (size < capacity) {
+            ids = Arrays.copyOf(foodIds, size + 1);
+            values = Arrays.copyOf(scores, size + 1);
+            position = size;
+            ids[position] = foodId;
+            values[position] = weight;
+        } else if (size > 0 && weight > scores[size - 1]) {
+            ids = foodIds.clone();
+            values = scores.clone();
+            position = size - 1;
+            ids[position] = foodId;
+            values[position] = weight;
+        } else {
+            return this;
+        }
+        // スコアが増えた要素だけを前へ移動する（挿入ソート1回分）
+        while (position > 0 && compare(values[position], ids[position], values[position - 1], ids[position - 1]) < 0) {
+            swap(ids, values, position, position - 1);
+            position--;
+        }
+        return new FoodUsageSketch(capacity, halfLifeMillis, landmarkMillis, ids, values);
+    }
+
+    /**
+     * @return 食材ID（よく使う順）
+     */
+    public long[] foodIds() {
+        return foodIds.clone();
+    }
+
+    /**
+     * 食材の現在のスコア（記録1回 = 1 を減衰させた合計）
+     *
+     * @param foodId 食材ID
+     * @param nowMillis 現在時刻（エポックミリ秒）
+     * @return スコア、保持していない場合は0
+     */
+    public double score(long foodId, long nowMillis) {
+        int index = indexOf(foodId);
+        if (index < 0) {
+            return 0;
+        }
+        return scores[index] * Math.pow(2, -(double) (nowMillis - landmarkMillis) / halfLifeMillis);
+    }
+
+    /**
+     * @return 保持している食材数
+     */
+    public int size() {
+        return foodIds.length;
+    }
+
+    private FoodUsageSketch rescale(long atMillis) {
+        double factor = Math.pow(2, -(double) (atMillis - landmarkMillis) / halfLifeMillis);
+        double[] values = new double[scores.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = scores[i] * factor;
+        }
+        return new FoodUsageSketch(capacity, halfLifeMillis, atMillis, foodIds, values);
+    }
+
+    private int indexOf(long foodId) {
+        for (int i = 0; i < foodIds.length; i++) {
+            if (foodIds[i] == foodId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** スコアの降順 → 食材IDの昇順 */
+    private static int compare(double scoreA, long idA, double scoreB, long idB) {
+        int byScore = Double.compare(scoreB, scoreA);
+        return byScore != 0 ? byScore : Long.compare(idA, idB);
+    }
+
+    private static void swap(long[] ids, double[] values, int i, int j) {
+        long id = ids[i];
+        ids[i] = ids[j];
+        ids[j] = id;
+        double value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+}
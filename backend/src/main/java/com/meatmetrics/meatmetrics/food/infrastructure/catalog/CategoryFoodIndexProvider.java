@@ -0,0 +1,36 @@
+package com.meatmetrics.meatmetrics.food.infrastructure.catalog;
+
+import java.util.Collection;
+
+import org.springframework.stereotype.Component;
+
+import com.meatmetrics.meatmetrics.food.domain.catalog.CategoryFoodIndex;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodCatalog;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodCatalogListener;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodSnapshot;
+
+/**
+ * カテゴリ配下食材索引の保持
+ *
+ * <p>カテゴリの行きがけ順で食材を並べ直すだけなので、カタログ更新のたびに全体を再構築します。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Component
+public class CategoryFoodIndexProvider implements FoodCatalogListener {
+
+    private volatile CategoryFoodIndex index = CategoryFoodIndex.empty();
+
+    /**
+     * @return 現在の索引
+     */
+    public CategoryFoodIndex current() {
+        return index;
+    }
+
+    @Override
+    public void onCatalogChanged(FoodCatalog catalog, Collection<FoodSnapshot> changed, boolean fullReload) {
+        index = CategoryFoodIndex.build(catalog);
+    }
+}
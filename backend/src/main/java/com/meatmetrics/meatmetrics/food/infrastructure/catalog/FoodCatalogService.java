@@ -0,0 +1,166 @@
+package com.meatmetrics.meatmetrics.food.infrastructure.catalog;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.meatmetrics.meatmetrics.config.FoodCatalogProperties;
+import com.meatmetrics.meatmetrics.food.domain.barcode.BarcodeIndex;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodCatalog;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodCatalogListener;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodSnapshot;
+import com.meatmetrics.meatmetrics.food.domain.category.CategoryTree;
+import com.meatmetrics.meatmetrics.food.domain.cooking.CookingFactorTable;
+import com.meatmetrics.meatmetrics.food.domain.locale.FoodNameTable;
+import com.meatmetrics.meatmetrics.food.infrastructure.catalog.JdbcFoodCatalogLoader.CatalogVersion;
+
+/**
+ * 食材カタログの保持と更新
+ *
+ * <p>起動時に有効な食材を全件読み込み、以降は food_catalog_version が進んだときだけ
+ * updated_at を基準に差分を取り込みます。
+ * 更新のたびに新しい {@link FoodCatalog} に差し替え、登録された {@link FoodCatalogListener}
+ * （ランキング等のインメモリ索引）へ通知します。読み取り側はロックなしで最新のスナップショットを参照できます。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Component
+public class FoodCatalogService {
+
+    private static final Logger log = LoggerFactory.getLogger(FoodCatalogService.class);
+
+    private final JdbcFoodCatalogLoader loader;
+    private final List<FoodCatalogListener> listeners;
+    private final FoodCatalogProperties properties;
+    private final AtomicReference<FoodCatalog> current = new AtomicReference<>(FoodCatalog.empty());
+    private volatile boolean loaded;
+
+    public FoodCatalogService(JdbcFoodCatalogLoader loader,
+                              List<FoodCatalogListener> listeners,
+                              FoodCatalogProperties properties) {
+        this.loader = loader;
+        this.listeners = listeners;
+        this.properties = properties;
+    }
+
+    /**
+     * @return 現在のカタログ
+     */
+    public FoodCatalog current() {
+        return current.get();
+    }
+
+    /**
+     * 起動完了時に全件を読み込む
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            reload();
+        } catch (DataAccessException e) {
+            // DB未接続でも起動は継続し、次回の定期更新で再試行する
+            log.warn("Initial food catalog load failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 全件を読み込み直す
+     */
+    @Scheduled(initialDelayString = "${food.catalog.full-reload-interval-ms:3600000}",
+               fixedDelayString = "${food.catalog.full-reload-interval-ms:3600000}")
+    public synchronized void reload() {
+        long startedAt = System.nanoTime();
+        CatalogVersion version = loader.loadVersion();
+        CategoryTree categoryTree = CategoryTree.of(loader.loadCategories());
+        CookingFactorTable cookingFactors = CookingFactorTable.build(categoryTree, loader.loadCookingFactorRules());
+        FoodCatalog catalog = FoodCatalog.of(loader.loadAll())
+                .withVersion(version.version(), version.updatedAt())
+                .withCategoryTree(categoryTree)
+                .withCookingFactors(cookingFactors)
+                .withBarcodes(BarcodeIndex.of(loader.loadBarcodes()))
+                .withNames(FoodNameTable.of(loader.loadNames()));
+        current.set(catalog);
+        loaded = true;
+        notifyListeners(catalog, List.of(), true);
+        log.info("Food catalog loaded: foods={}, categories={}, barcodes={}, elapsedMs={}",
+                catalog.size(), categoryTree.size(), catalog.barcodes().size(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    /**
+     * 前回以降に更新された食材を取り込む
+     */
+    @Scheduled(initialDelayString = "${food.catalog.refresh-interval-ms:30000}",
+               fixedDelayString = "${food.catalog.refresh-interval-ms:30000}")
+    public synchronized void refresh() {
+        if (!loaded) {
+            reload();
+            return;
+        }
+        FoodCatalog catalog = current.get();
+        // バージョンが変わっていなければ差分の問い合わせ自体を省略する
+        CatalogVersion version = loader.loadVersion();
+        if (version.version() == catalog.version()) {
+            return;
+        }
+        CategoryTree categoryTree = CategoryTree.of(loader.loadCategories());
+        CookingFactorTable cookingFactors = CookingFactorTable.build(categoryTree, loader.loadCookingFactorRules());
+        List<FoodSnapshot> fetched = loader.loadChangedSince(
+                catalog.highWaterMark().minusMillis(properties.getRefreshOverlapMs()));
+        FoodNameTable names = FoodNameTable.of(loader.loadNames());
+        BarcodeIndex barcodes = catalog.barcodes().withChanges(loader.loadBarcodesChangedSince(
+                catalog.barcodes().highWaterMark().minusMillis(properties.getRefreshOverlapMs())));
+
+        // さかのぼって読み直した分のうち、実際に変わったものだけを反映する
+        List<FoodSnapshot> changed = new ArrayList<>(fetched.size());
+        for (FoodSnapshot food : fetched) {
+            FoodSnapshot known = catalog.get(food.id());
+            boolean unchanged = known == null ? !food.active() : known.equals(food);
+            if (!unchanged) {
+                changed.add(food);
+            }
+        }
+        FoodCatalog next = catalog.withChanges(changed)
+                .withVersion(version.version(), version.updatedAt())
+                .withCategoryTree(categoryTree)
+                .withCookingFactors(cookingFactors)
+                .withBarcodes(barcodes)
+                .withNames(names);
+        current.set(next);
+        if (!categoryTree.equals(catalog.categoryTree())) {
+            // カテゴリ構成が変わった場合は各索引を全体から作り直す
+            notifyListeners(next, List.of(), true);
+            return;
+        }
+        if (changed.isEmpty()) {
+            if (!cookingFactors.equals(catalog.cookingFactors()) || barcodes != catalog.barcodes()
+                    || !names.equals(catalog.names())) {
+                // 食材以外（調理係数・バーコード・言語別の名前）のみの変更でも、索引が保持するカタログを差し替える
+                notifyListeners(next, List.of(), false);
+            }
+            // カタログに載らない列（説明文など）のみの変更
+            return;
+        }
+        notifyListeners(next, changed, false);
+        log.debug("Food catalog refreshed: changed={}, foods={}", changed.size(), next.size());
+    }
+
+    private void notifyListeners(FoodCatalog catalog, Collection<FoodSnapshot> changed, boolean fullReload) {
+        for (FoodCatalogListener listener : listeners) {
+            try {
+                listener.onCatalogChanged(catalog, changed, fullReload);
+            } catch (RuntimeException e) {
+                log.error("Food catalog listener failed: {}", listener.getClass().getSimpleName(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.meatmetrics.meatmetrics.food.infrastructure.catalog;
+
+import java.util.Collection;
+
+import org.springframework.stereotype.Component;
+
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodCatalog;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodCatalogListener;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodRankingIndex;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodSnapshot;
+
+/**
+ * 食材ランキング索引の保持
+ *
+ * <p>カタログの差分更新時は変更分だけをマージし、全件再読み込み時のみ全体を再構築します。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Component
+public class FoodRankingIndexProvider implements FoodCatalogListener {
+
+    private volatile FoodRankingIndex index = FoodRankingIndex.build(FoodCatalog.empty());
+
+    /**
+     * @return 現在のランキング索引
+     */
+    public FoodRankingIndex current() {
+        return index;
+    }
+
+    @Override
+    public void onCatalogChanged(FoodCatalog catalog, Collection<FoodSnapshot> changed, boolean fullReload) {
+        index = fullReload ? FoodRankingIndex.build(catalog) : index.update(catalog, changed);
+    }
+}
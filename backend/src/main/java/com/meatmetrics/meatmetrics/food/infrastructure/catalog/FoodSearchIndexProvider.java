@@ -0,0 +1,56 @@
+package com.meatmetrics.meatmetrics.food.infrastructure.catalog;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodCatalog;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodCatalogListener;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodSnapshot;
+import com.meatmetrics.meatmetrics.food.domain.locale.FoodLocale;
+import com.meatmetrics.meatmetrics.food.domain.search.FoodSearchIndex;
+
+/**
+ * 食材名検索索引の保持
+ *
+ * <p>共有カタログの食材だけから構築します。ユーザー独自食材は検索時にオーバーレイとして合成するため、
+ * 独自食材の登録でこの索引が再構築されることはありません。</p>
+ *
+ * <p>対応言語ごとに索引を構築し、同じカタログから作った組として一度に差し替えます。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Component
+public class FoodSearchIndexProvider implements FoodCatalogListener {
+
+    private volatile Map<String, FoodSearchIndex> indexes = Map.of(FoodLocale.DEFAULT, FoodSearchIndex.empty());
+
+    /**
+     * @return 既定言語の現在の索引
+     */
+    public FoodSearchIndex current() {
+        return current(FoodLocale.DEFAULT);
+    }
+
+    /**
+     * @param locale 言語
+     * @return 指定言語の現在の索引（対応していない言語の場合は既定言語の索引）
+     */
+    public FoodSearchIndex current(String locale) {
+        Map<String, FoodSearchIndex> snapshot = indexes;
+        FoodSearchIndex index = snapshot.get(locale);
+        return index != null ? index : snapshot.get(FoodLocale.DEFAULT);
+    }
+
+    @Override
+    public void onCatalogChanged(FoodCatalog catalog, Collection<FoodSnapshot> changed, boolean fullReload) {
+        Map<String, FoodSearchIndex> next = new HashMap<>();
+        for (String locale : FoodLocale.SUPPORTED) {
+            next.put(locale, FoodSearchIndex.build(catalog, locale));
+        }
+        indexes = Map.copyOf(next);
+    }
+}
@@ -0,0 +1,37 @@
+package com.meatmetrics.meatmetrics.food.infrastructure.catalog;
+
+import java.util.Collection;
+
+import org.springframework.stereotype.Component;
+
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodCatalog;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodCatalogListener;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodSnapshot;
+import com.meatmetrics.meatmetrics.food.domain.similarity.FoodSimilarityIndex;
+
+/**
+ * 代替食材検索（k-d木）索引の保持
+ *
+ * <p>正規化の平均・標準偏差が全食材に依存するため、差分更新でも全体を再構築します。
+ * 再構築はカタログ更新のスケジューラスレッド上で行い、完成した索引に差し替えるまでは旧索引で応答します。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Component
+public class FoodSimilarityIndexProvider implements FoodCatalogListener {
+
+    private volatile FoodSimilarityIndex index = FoodSimilarityIndex.empty();
+
+    /**
+     * @return 現在の索引
+     */
+    public FoodSimilarityIndex current() {
+        return index;
+    }
+
+    @Override
+    public void onCatalogChanged(FoodCatalog catalog, Collection<FoodSnapshot> changed, boolean fullReload) {
+        index = FoodSimilarityIndex.build(catalog);
+    }
+}
@@ -0,0 +1,66 @@
+package com.meatmetrics.meatmetrics.food.infrastructure.catalog;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodSnapshot;
+
+/**
+ * 食材行（foods・user_custom_foods 共通の列構成）を {@link FoodSnapshot} に写す
+ *
+ * <p>必要な列: id, name, category_id, calories_per_100g, protein_g_per_100g, fat_g_per_100g,
+ * carbohydrates_g_per_100g, fiber_g_per_100g, tags, is_active, updated_at, nutrition_version</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public final class FoodSnapshotRowMapper implements RowMapper<FoodSnapshot> {
+
+    /** 共有インスタンス（状態を持たない） */
+    public static final FoodSnapshotRowMapper INSTANCE = new FoodSnapshotRowMapper();
+
+    private FoodSnapshotRowMapper() {}
+
+    @Override
+    public FoodSnapshot mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        return new FoodSnapshot(
+                rs.getLong("id"),
+                rs.getString("name"),
+                rs.getLong("category_id"),
+                rs.getInt("calories_per_100g"),
+                toCenti(rs, "protein_g_per_100g"),
+                toCenti(rs, "fat_g_per_100g"),
+                toCenti(rs, "carbohydrates_g_per_100g"),
+                toCenti(rs, "fiber_g_per_100g"),
+                toTags(rs.getArray("tags")),
+                rs.getBoolean("is_active"),
+                updatedAt == null ? null : updatedAt.toInstant(),
+                rs.getInt("nutrition_version"));
+    }
+
+    private static long toCenti(ResultSet rs, String column) throws SQLException {
+        // DECIMAL(6,2) のため小数点を2桁ずらせば整数になる
+        return rs.getBigDecimal(column).movePointRight(2).longValue();
+    }
+
+    private static List<String> toTags(Array array) throws SQLException {
+        if (array == null) {
+            return List.of();
+        }
+        Object[] values = (Object[]) array.getArray();
+        List<String> tags = new ArrayList<>(values.length);
+        for (Object value : values) {
+            if (value != null) {
+                tags.add(value.toString());
+            }
+        }
+        return tags;
+    }
+}
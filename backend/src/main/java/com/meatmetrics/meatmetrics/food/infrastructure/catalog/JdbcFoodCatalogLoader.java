@@ -0,0 +1,186 @@
+package com.meatmetrics.meatmetrics.food.infrastructure.catalog;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.meatmetrics.meatmetrics.food.domain.barcode.FoodBarcode;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodSnapshot;
+import com.meatmetrics.meatmetrics.food.domain.category.CategoryNode;
+import com.meatmetrics.meatmetrics.food.domain.cooking.CookingFactorRule;
+import com.meatmetrics.meatmetrics.food.domain.cooking.CookingMethod;
+import com.meatmetrics.meatmetrics.food.domain.locale.LocalizedFoodName;
+
+/**
+ * foodsテーブルから食材カタログを読み込む
+ *
+ * <p>食材・カテゴリ・調理係数・バーコード・言語別の食材名を読み込みます。食材の全件読み込みは有効なもののみ、差分読み込みは無効化を検出するため
+ * is_activeに関わらず更新日時で絞り込みます。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Repository
+public class JdbcFoodCatalogLoader {
+
+    private static final String SELECT_FOODS = """
+        SELECT id, name, category_id, calories_per_100g, protein_g_per_100g, fat_g_per_100g,
+               carbohydrates_g_per_100g, COALESCE(fiber_g_per_100g, 0) AS fiber_g_per_100g,
+               tags, COALESCE(is_active, true) AS is_active, updated_at, nutrition_version
+        FROM foods
+        """;
+
+    private static final String SELECT_BARCODES = """
+        SELECT gtin, food_id, is_active, updated_at
+        FROM food_barcodes
+        """;
+
+    /**
+     * カタログバージョン
+     *
+     * @param version バージョン番号
+     * @param updatedAt 最終変更日時
+     */
+    public record CatalogVersion(long version, Instant updatedAt) {}
+
+    private static final RowMapper<FoodBarcode> BARCODE_ROW_MAPPER = (rs, rowNum) -> new FoodBarcode(
+            rs.getLong("gtin"),
+            rs.getLong("food_id"),
+            rs.getBoolean("is_active"),
+            rs.getTimestamp("updated_at").toInstant());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcFoodCatalogLoader(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 現在のカタログバージョンを読み込む
+     *
+     * <p>食材の読み込みより先に呼び出すこと。間に発生した更新は次回の差分取り込みで拾われます。</p>
+     *
+     * @return カタログバージョン
+     */
+    @Transactional(readOnly = true)
+    public CatalogVersion loadVersion() {
+        List<CatalogVersion> versions = jdbcTemplate.query(
+                "SELECT version, updated_at FROM food_catalog_version WHERE id = 1",
+                (rs, rowNum) -> new CatalogVersion(rs.getLong("version"), rs.getTimestamp("updated_at").toInstant()));
+        return versions.isEmpty() ? new CatalogVersion(0L, Instant.EPOCH) : versions.get(0);
+    }
+
+    /**
+     * 有効なカテゴリを全件読み込む
+     *
+     * <p>categoriesは小さなマスタのため、カタログが変わるたびに全件を読み直します。</p>
+     *
+     * @return 有効なカテゴリ
+     */
+    @Transactional(readOnly = true)
+    public List<CategoryNode> loadCategories() {
+        return jdbcTemplate.query(
+                "SELECT id, parent_id, name, display_name, sort_order FROM categories WHERE is_active = true",
+                (rs, rowNum) -> new CategoryNode(
+                        rs.getLong("id"),
+                        rs.getObject("parent_id", Long.class),
+                        rs.getString("name"),
+                        rs.getString("display_name"),
+                        rs.getInt("sort_order")));
+    }
+
+    /**
+     * 調理方法の係数を全件読み込む
+     *
+     * <p>カテゴリ数 × 調理方法数程度の小さな表のため、カテゴリと同様に毎回全件を読み直します。</p>
+     *
+     * @return cooking_method_factorsの行
+     */
+    @Transactional(readOnly = true)
+    public List<CookingFactorRule> loadCookingFactorRules() {
+        return jdbcTemplate.query("""
+                SELECT category_id, cooking_method, yield_factor, energy_retention, protein_retention,
+                       fat_retention, carbohydrate_retention
+                FROM cooking_method_factors
+                """,
+                (rs, rowNum) -> new CookingFactorRule(
+                        rs.getObject("category_id", Long.class),
+                        CookingMethod.fromCode(rs.getString("cooking_method")),
+                        rs.getBigDecimal("yield_factor"),
+                        rs.getBigDecimal("energy_retention"),
+                        rs.getBigDecimal("protein_retention"),
+                        rs.getBigDecimal("fat_retention"),
+                        rs.getBigDecimal("carbohydrate_retention")));
+    }
+
+    /**
+     * 言語別の食材名を全件読み込む
+     *
+     * <p>行の削除（名前の取り下げ）も反映するため、カテゴリと同様にカタログが変わるたびに全件を読み直します。
+     * 無効な食材の名前は読み込みません。</p>
+     *
+     * @return food_namesの行
+     */
+    @Transactional(readOnly = true)
+    public List<LocalizedFoodName> loadNames() {
+        return jdbcTemplate.query("""
+                SELECT n.food_id, n.locale, n.name, n.reading
+                FROM food_names n
+                INNER JOIN foods f ON f.id = n.food_id
+                WHERE f.is_active = true
+                """,
+                (rs, rowNum) -> new LocalizedFoodName(
+                        rs.getLong("food_id"),
+                        rs.getString("locale"),
+                        rs.getString("name"),
+                        rs.getString("reading")));
+    }
+
+    /**
+     * 有効な食材を全件読み込む
+     *
+     * @return 有効な食材
+     */
+    @Transactional(readOnly = true)
+    public List<FoodSnapshot> loadAll() {
+        return jdbcTemplate.query(SELECT_FOODS + " WHERE is_active = true ORDER BY id", FoodSnapshotRowMapper.INSTANCE);
+    }
+
+    /**
+     * 指定日時より後に更新された食材を読み込む（無効化されたものを含む）
+     *
+     * @param since 起点日時（この日時は含まない）
+     * @return 更新された食材
+     */
+    @Transactional(readOnly = true)
+    public List<FoodSnapshot> loadChangedSince(Instant since) {
+        return jdbcTemplate.query(SELECT_FOODS + " WHERE updated_at > ? ORDER BY id",
+                FoodSnapshotRowMapper.INSTANCE, Timestamp.from(since));
+    }
+
+    /**
+     * 有効なバーコードを全件読み込む
+     *
+     * @return 有効なバーコード
+     */
+    @Transactional(readOnly = true)
+    public List<FoodBarcode> loadBarcodes() {
+        return jdbcTemplate.query(SELECT_BARCODES + " WHERE is_active = true", BARCODE_ROW_MAPPER);
+    }
+
+    /**
+     * 指定日時より後に更新されたバーコードを読み込む（無効化されたものを含む）
+     *
+     * @param since 起点日時（この日時は含まない）
+     * @return 更新されたバーコード
+     */
+    @Transactional(readOnly = true)
+    public List<FoodBarcode> loadBarcodesChangedSince(Instant since) {
+        return jdbcTemplate.query(SELECT_BARCODES + " WHERE updated_at > ?", BARCODE_ROW_MAPPER, Timestamp.from(since));
+    }
+}
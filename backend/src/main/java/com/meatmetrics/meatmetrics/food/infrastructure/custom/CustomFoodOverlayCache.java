@@ -0,0 +1,102 @@
+package com.meatmetrics.meatmetrics.food.infrastructure.custom;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.meatmetrics.meatmetrics.config.CustomFoodProperties;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodSnapshot;
+import com.meatmetrics.meatmetrics.food.domain.custom.CustomFoodOverlay;
+
+/**
+ * アクティブユーザーの独自食材オーバーレイを保持するキャッシュ
+ *
+ * <p>初回アクセス時にユーザー分だけを読み込み、一定時間アクセスのないユーザーは定期的に破棄します。
+ * 登録時はキャッシュ済みのオーバーレイに1件追加するだけで、再読み込みや共有索引の再構築は行いません。</p>
+ *
+ * <p>読み込みと追加は同じキーに対する {@link ConcurrentHashMap} の原子的操作で行うため、
+ * 読み込み中に登録された食材も取りこぼしません（読み込み完了を待ってから追加されます）。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Component
+public class CustomFoodOverlayCache {
+
+    private static final Logger log = LoggerFactory.getLogger(CustomFoodOverlayCache.class);
+
+    /** オーバーレイと最終アクセス時刻 */
+    private static final class Entry {
+        private final CustomFoodOverlay overlay;
+        private volatile long lastAccessMillis;
+
+        private Entry(CustomFoodOverlay overlay, long now) {
+            this.overlay = overlay;
+            this.lastAccessMillis = now;
+        }
+    }
+
+    private final ConcurrentMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final JdbcCustomFoodRepository repository;
+    private final CustomFoodProperties properties;
+
+    public CustomFoodOverlayCache(JdbcCustomFoodRepository repository, CustomFoodProperties properties) {
+        this.repository = repository;
+        this.properties = properties;
+    }
+
+    /**
+     * ユーザーのオーバーレイを取得する（未読み込みの場合は読み込む）
+     *
+     * @param userId ユーザーID
+     * @return オーバーレイ
+     */
+    public CustomFoodOverlay get(long userId) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.computeIfAbsent(userId,
+                id -> new Entry(CustomFoodOverlay.of(repository.findActiveByUserId(id)), now));
+        entry.lastAccessMillis = now;
+        return entry.overlay;
+    }
+
+    /**
+     * 登録済みの独自食材をキャッシュ済みのオーバーレイに反映する
+     *
+     * <p>未読み込みのユーザーは次回アクセス時にDBから読み込まれるため何もしません。</p>
+     *
+     * @param userId ユーザーID
+     * @param food 登録された独自食材
+     */
+    public void added(long userId, FoodSnapshot food) {
+        entries.computeIfPresent(userId, (id, entry) -> {
+            entry.overlay.add(food);
+            return entry;
+        });
+    }
+
+    /**
+     * 一定時間アクセスのないユーザーのオーバーレイを破棄する
+     */
+    @Scheduled(initialDelayString = "${food.custom.evict-interval-ms:60000}",
+               fixedDelayString = "${food.custom.evict-interval-ms:60000}")
+    public void evictIdle() {
+        long threshold = System.currentTimeMillis() - properties.getIdleTtlMs();
+        int before = entries.size();
+        entries.values().removeIf(entry -> entry.lastAccessMillis < threshold);
+        int evicted = before - entries.size();
+        if (evicted > 0) {
+            log.debug("Evicted idle custom food overlays: evicted={}, remaining={}", evicted, entries.size());
+        }
+    }
+
+    /**
+     * @return キャッシュ中のユーザー数
+     */
+    public int size() {
+        return entries.size();
+    }
+}
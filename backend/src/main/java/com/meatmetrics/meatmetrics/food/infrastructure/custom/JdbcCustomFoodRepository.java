@@ -0,0 +1,86 @@
+package com.meatmetrics.meatmetrics.food.infrastructure.custom;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodSnapshot;
+import com.meatmetrics.meatmetrics.food.infrastructure.catalog.FoodSnapshotRowMapper;
+
+/**
+ * user_custom_foodsテーブルへのアクセス
+ *
+ * <p>独自食材のIDは降順のシーケンスから採番される負の値で、foods.id とは重なりません。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Repository
+public class JdbcCustomFoodRepository {
+
+    private static final String COLUMNS = """
+        id, name, COALESCE(category_id, 0) AS category_id, calories_per_100g, protein_g_per_100g,
+        fat_g_per_100g, carbohydrates_g_per_100g, fiber_g_per_100g, tags, is_active, updated_at,
+        1 AS nutrition_version
+        """;
+
+    private static final String INSERT_SQL = """
+        INSERT INTO user_custom_foods (user_id, name, category_id, calories_per_100g, protein_g_per_100g,
+                                       fat_g_per_100g, carbohydrates_g_per_100g, fiber_g_per_100g, tags)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+        RETURNING
+        """ + COLUMNS;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcCustomFoodRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * ユーザーの有効な独自食材を読み込む
+     *
+     * @param userId ユーザーID
+     * @return 有効な独自食材（ID昇順）
+     */
+    @Transactional(readOnly = true)
+    public List<FoodSnapshot> findActiveByUserId(long userId) {
+        return jdbcTemplate.query(
+                "SELECT " + COLUMNS + " FROM user_custom_foods WHERE user_id = ? AND is_active = true ORDER BY id",
+                FoodSnapshotRowMapper.INSTANCE, userId);
+    }
+
+    /**
+     * 独自食材を登録する
+     *
+     * @param userId 所有ユーザーID
+     * @param draft 登録内容（ID・更新日時は無視、categoryIdが0の場合はカテゴリなし）
+     * @return 登録された独自食材
+     */
+    @Transactional
+    public FoodSnapshot insert(long userId, FoodSnapshot draft) {
+        List<FoodSnapshot> inserted = jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_SQL);
+            ps.setLong(1, userId);
+            ps.setString(2, draft.name());
+            if (draft.categoryId() == 0) {
+                ps.setNull(3, Types.BIGINT);
+            } else {
+                ps.setLong(3, draft.categoryId());
+            }
+            ps.setInt(4, draft.caloriesPer100g());
+            ps.setBigDecimal(5, BigDecimal.valueOf(draft.proteinCentiG(), 2));
+            ps.setBigDecimal(6, BigDecimal.valueOf(draft.fatCentiG(), 2));
+            ps.setBigDecimal(7, BigDecimal.valueOf(draft.carbohydratesCentiG(), 2));
+            ps.setBigDecimal(8, BigDecimal.valueOf(draft.fiberCentiG(), 2));
+            ps.setArray(9, connection.createArrayOf("text", draft.tags().toArray()));
+            return ps;
+        }, FoodSnapshotRowMapper.INSTANCE);
+        return inserted.get(0);
+    }
+}
@@ -0,0 +1,37 @@
+package com.meatmetrics.meatmetrics.food.infrastructure.custom;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * user_profilesテーブルから表示言語を読み込む
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Repository
+public class JdbcUserLocaleRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcUserLocaleRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * ユーザーの表示言語を読み込む
+     *
+     * @param userId ユーザーID
+     * @return 表示言語、プロフィールがない・未設定の場合はnull
+     */
+    @Transactional(readOnly = true)
+    public String findPreferredLocale(long userId) {
+        List<String> locales = jdbcTemplate.query(
+                "SELECT preferred_locale FROM user_profiles WHERE user_id = ?",
+                (rs, rowNum) -> rs.getString("preferred_locale"), userId);
+        return locales.isEmpty() ? null : locales.get(0);
+    }
+}
@@ -0,0 +1,68 @@
+package com.meatmetrics.meatmetrics.food.infrastructure.custom;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.meatmetrics.meatmetrics.config.CustomFoodProperties;
+
+/**
+ * アクティブユーザーの表示言語を保持するキャッシュ
+ *
+ * <p>認証済みの検索のたびにプロフィールを読まないよう、初回アクセス時にユーザー分だけを読み込みます。
+ * 保持期間は独自食材オーバーレイと同じで、一定時間アクセスのないユーザーは定期的に破棄します
+ * （プロフィールの変更は破棄後の次回アクセスで反映されます）。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Component
+public class UserLocaleCache {
+
+    /** 表示言語と最終アクセス時刻 */
+    private static final class Entry {
+        private final Optional<String> locale;
+        private volatile long lastAccessMillis;
+
+        private Entry(Optional<String> locale, long now) {
+            this.locale = locale;
+            this.lastAccessMillis = now;
+        }
+    }
+
+    private final ConcurrentMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final JdbcUserLocaleRepository repository;
+    private final CustomFoodProperties properties;
+
+    public UserLocaleCache(JdbcUserLocaleRepository repository, CustomFoodProperties properties) {
+        this.repository = repository;
+        this.properties = properties;
+    }
+
+    /**
+     * ユーザーの表示言語を取得する（未読み込みの場合は読み込む）
+     *
+     * @param userId ユーザーID
+     * @return 表示言語、未設定の場合は空
+     */
+    public Optional<String> get(long userId) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.computeIfAbsent(userId,
+                id -> new Entry(Optional.ofNullable(repository.findPreferredLocale(id)), now));
+        entry.lastAccessMillis = now;
+        return entry.locale;
+    }
+
+    /**
+     * 一定時間アクセスのないユーザーの表示言語を破棄する
+     */
+    @Scheduled(initialDelayString = "${food.custom.evict-interval-ms:60000}",
+               fixedDelayString = "${food.custom.evict-interval-ms:60000}")
+    public void evictIdle() {
+        long threshold = System.currentTimeMillis() - properties.getIdleTtlMs();
+        entries.values().removeIf(entry -> entry.lastAccessMillis < threshold);
+    }
+}
@@ -0,0 +1,228 @@
+package com.meatmetrics.meatmetrics.food.infrastructure.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.meatmetrics.meatmetrics.food.domain.exception.InvalidFoodImportException;
+
+/**
+ * ヘッダー行付きCSV（RFC 4180）のストリーミングリーダー
+ *
+ * <p>列はヘッダー名で対応付けます（順不同）。ダブルクォートによる囲み、
+ * 囲み内の改行・カンマ、{@code ""} によるクォートのエスケープに対応します。
+ * タグ列は {@code |} 区切りで複数指定できます。</p>
+ *
+ * <h3>列名:</h3>
+ * <ul>
+ *   <li>必須: source_code, name, category, calories_per_100g, protein_g_per_100g,
+ *       fat_g_per_100g, carbohydrates_g_per_100g</li>
+ *   <li>任意: fiber_g_per_100g, tags, description</li>
+ * </ul>
+ */
+public class CsvFoodImportReader implements FoodImportReader {
+
+    private static final String[] REQUIRED_COLUMNS = {
+        "source_code", "name", "category", "calories_per_100g",
+        "protein_g_per_100g", "fat_g_per_100g", "carbohydrates_g_per_100g"
+    };
+
+    private static final char TAG_SEPARATOR = '|';
+
+    private final Reader reader;
+    private final char[] buffer = new char[1 << 16];
+    private int position;
+    private int limit;
+
+    private final List<String> fields = new ArrayList<>();
+    private final StringBuilder field = new StringBuilder(64);
+    private long physicalLine = 1;
+
+    private int sourceCodeIndex = -1;
+    private int nameIndex = -1;
+    private int categoryIndex = -1;
+    private int caloriesIndex = -1;
+    private int proteinIndex = -1;
+    private int fatIndex = -1;
+    private int carbohydratesIndex = -1;
+    private int fiberIndex = -1;
+    private int tagsIndex = -1;
+    private int descriptionIndex = -1;
+
+    /**
+     * ヘッダー行を読み込んでリーダーを初期化する
+     *
+     * @param input UTF-8のCSV入力
+     * @throws IOException 入力の読み込みに失敗した場合
+     * @throws InvalidFoodImportException ヘッダーが空、または必須列が不足している場合
+     */
+    public CsvFoodImportReader(InputStream input) throws IOException {
+        this.reader = new InputStreamReader(input, StandardCharsets.UTF_8);
+        if (!readRecord()) {
+            throw new InvalidFoodImportException("CSV header row is missing");
+        }
+        mapHeader();
+    }
+
+    @Override
+    public boolean next(FoodImportRow row) throws IOException {
+        while (true) {
+            long startLine = physicalLine;
+            if (!readRecord()) {
+                return false;
+            }
+            // 空行はスキップ
+            if (fields.size() == 1 && fields.get(0).isEmpty()) {
+                continue;
+            }
+            row.reset(startLine);
+            row.sourceCode = field(sourceCodeIndex);
+            row.name = field(nameIndex);
+            row.category = field(categoryIndex);
+            row.calories = field(caloriesIndex);
+            row.protein = field(proteinIndex);
+            row.fat = field(fatIndex);
+            row.carbohydrates = field(carbohydratesIndex);
+            row.fiber = field(fiberIndex);
+            row.description = field(descriptionIndex);
+            splitTags(field(tagsIndex), row.tags);
+            return true;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void mapHeader() {
+        for (int i = 0; i < fields.size(); i++) {
+            String column = fields.get(i).trim().toLowerCase(Locale.ROOT);
+            // 先頭列のBOMを除去
+            if (i == 0 && !column.isEmpty() && column.charAt(0) == '\uFEFF') {
+                column = column.substring(1);
+            }
+            switch (column) {
+                case "source_code" -> sourceCodeIndex = i;
+                case "name" -> nameIndex = i;
+                case "category" -> categoryIndex = i;
+                case "calories_per_100g" -> caloriesIndex = i;
+                case "protein_g_per_100g" -> proteinIndex = i;
+                case "fat_g_per_100g" -> fatIndex = i;
+                case "carbohydrates_g_per_100g" -> carbohydratesIndex = i;
+                case "fiber_g_per_100g" -> fiberIndex = i;
+                case "tags" -> tagsIndex = i;
+                case "description" -> descriptionIndex = i;
+                default -> { /* 未知の列は無視 */ }
+            }
+        }
+        int[] required = {
+            sourceCodeIndex, nameIndex, categoryIndex, caloriesIndex,
+            proteinIndex, fatIndex, carbohydratesIndex
+        };
+        for (int i = 0; i < required.length; i++) {
+            if (required[i] < 0) {
+                throw new InvalidFoodImportException("CSV header is missing required column: " + REQUIRED_COLUMNS[i]);
+            }
+        }
+    }
+
+    private String field(int index) {
+        if (index < 0 || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    private static void splitTags(String value, List<String> tags) {
+        if (value == null) {
+            return;
+        }
+        int start = 0;
+        for (int i = 0; i <= value.length(); i++) {
+            if (i == value.length() || value.charAt(i) == TAG_SEPARATOR) {
+                String tag = value.substring(start, i).trim();
+                if (!tag.isEmpty()) {
+                    tags.add(tag);
+                }
+                start = i + 1;
+            }
+        }
+    }
+
+    /**
+     * 1レコード分のフィールドを {@link #fields} に読み込む
+     *
+     * @return レコードを読み込めた場合true、入力終端の場合false
+     */
+    private boolean readRecord() throws IOException {
+        fields.clear();
+        field.setLength(0);
+        int c = read();
+        if (c < 0) {
+            return false;
+        }
+        boolean quoted = false;
+        boolean fieldStart = true;
+        while (true) {
+            if (quoted) {
+                if (c < 0) {
+                    throw new InvalidFoodImportException("Unterminated quoted field starting before line " + physicalLine);
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        physicalLine++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c < 0 || c == '\n') {
+                if (c == '\n') {
+                    physicalLine++;
+                }
+                fields.add(field.toString());
+                return true;
+            } else if (c == '\r') {
+                // CRLF の CR は読み飛ばす
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldStart = true;
+                c = read();
+                continue;
+            } else if (c == '"' && fieldStart) {
+                quoted = true;
+            } else {
+                field.append((char) c);
+            }
+            fieldStart = false;
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+}
@@ -0,0 +1,98 @@
+package com.meatmetrics.meatmetrics.food.infrastructure.importer;
+
+import java.util.List;
+
+/**
+ * 検証済みの行を {@code COPY ... (FORMAT csv)} の1行に符号化する
+ *
+ * <p>列順は {@link PostgresFoodImporter#COPY_SQL} と一致させます。
+ * CSV形式では引用符なしの空フィールドがNULL、{@code ""} が空文字列として扱われます。</p>
+ */
+final class FoodCopyEncoder {
+
+    private FoodCopyEncoder() {}
+
+    /**
+     * 1行分を追記する（末尾に改行を含む）
+     *
+     * @param out 出力先
+     * @param batchId インポート実行ID
+     * @param row 検証済みの行
+     */
+    static void appendRow(StringBuilder out, String batchId, FoodImportRow row) {
+        out.append(batchId).append(',')
+           .append(row.lineNo).append(',');
+        appendQuoted(out, row.sourceCode);
+        out.append(',');
+        appendQuoted(out, row.name);
+        out.append(',')
+           .append(row.categoryId).append(',')
+           .append(row.caloriesValue).append(',');
+        appendCenti(out, row.proteinCentiG);
+        out.append(',');
+        appendCenti(out, row.fatCentiG);
+        out.append(',');
+        appendCenti(out, row.carbohydratesCentiG);
+        out.append(',');
+        appendCenti(out, row.fiberCentiG);
+        out.append(',');
+        appendTags(out, row.tags);
+        out.append(',');
+        if (row.description != null) {
+            appendQuoted(out, row.description);
+        }
+        out.append('\n');
+    }
+
+    /**
+     * 1/100単位の整数を小数2桁の10進表記で追記する
+     */
+    static void appendCenti(StringBuilder out, long centi) {
+        out.append(centi / 100).append('.');
+        long fraction = centi % 100;
+        if (fraction < 10) {
+            out.append('0');
+        }
+        out.append(fraction);
+    }
+
+    /**
+     * TEXT[] の配列リテラル（{@code {"a","b"}}）をCSVフィールドとして追記する
+     */
+    static void appendTags(StringBuilder out, List<String> tags) {
+        StringBuilder literal = new StringBuilder(16 + tags.size() * 12);
+        literal.append('{');
+        for (int i = 0; i < tags.size(); i++) {
+            if (i > 0) {
+                literal.append(',');
+            }
+            literal.append('"');
+            String tag = tags.get(i);
+            for (int j = 0; j < tag.length(); j++) {
+                char c = tag.charAt(j);
+                if (c == '"' || c == '\\') {
+                    literal.append('\\');
+                }
+                literal.append(c);
+            }
+            literal.append('"');
+        }
+        literal.append('}');
+        appendQuoted(out, literal);
+    }
+
+    /**
+     * ダブルクォートで囲んで追記する（内部の {@code "} は {@code ""} にエスケープ）
+     */
+    static void appendQuoted(StringBuilder out, CharSequence value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                out.append('"');
+            }
+            out.append(c);
+        }
+        out.append('"');
+    }
+}
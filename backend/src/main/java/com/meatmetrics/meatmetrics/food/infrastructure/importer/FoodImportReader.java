@@ -0,0 +1,22 @@
+package com.meatmetrics.meatmetrics.food.infrastructure.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * インポート入力を1行ずつ読み出すストリーミングリーダー
+ *
+ * <p>実装は入力全体をバッファせず、呼び出しごとに次の1レコードだけを解析します。</p>
+ */
+public interface FoodImportReader extends Closeable {
+
+    /**
+     * 次のレコードを読み込む
+     *
+     * @param row 読み込み先（使い回し）
+     * @return レコードを読み込めた場合true、入力終端の場合false
+     * @throws IOException 入力の読み込みに失敗した場合
+     * @throws com.meatmetrics.meatmetrics.food.domain.exception.InvalidFoodImportException 入力構造が不正な場合
+     */
+    boolean next(FoodImportRow row) throws IOException;
+}
@@ -0,0 +1,72 @@
+package com.meatmetrics.meatmetrics.food.infrastructure.importer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 一括インポートの実行結果
+ *
+ * <p>行エラーは先頭 {@value #MAX_REPORTED_ERRORS} 件のみ保持し、
+ * 不正行が大量にあってもメモリ使用量が増えないようにします。</p>
+ */
+public class FoodImportReport {
+
+    /** 保持する行エラーの最大件数 */
+    public static final int MAX_REPORTED_ERRORS = 100;
+
+    /**
+     * 行単位の検証エラー
+     *
+     * @param lineNo 入力上の行番号
+     * @param message エラー内容
+     */
+    public record RowError(long lineNo, String message) {}
+
+    private long totalRows;
+    private long stagedRows;
+    private long rejectedRows;
+    private long insertedFoods;
+    private long updatedFoods;
+    private long elapsedMs;
+    private final List<RowError> errors = new ArrayList<>();
+
+    void rowRead() {
+        totalRows++;
+    }
+
+    void rowStaged() {
+        stagedRows++;
+    }
+
+    void rowRejected(long lineNo, String message) {
+        rejectedRows++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new RowError(lineNo, message));
+        }
+    }
+
+    void merged(long inserted, long updated) {
+        this.insertedFoods = inserted;
+        this.updatedFoods = updated;
+    }
+
+    void finished(long elapsedMs) {
+        this.elapsedMs = elapsedMs;
+    }
+
+    /** @return 読み込んだ総行数 */
+    public long getTotalRows() { return totalRows; }
+    /** @return 検証を通過しステージングに投入した行数 */
+    public long getStagedRows() { return stagedRows; }
+    /** @return 検証で除外した行数 */
+    public long getRejectedRows() { return rejectedRows; }
+    /** @return foodsに新規追加された件数 */
+    public long getInsertedFoods() { return insertedFoods; }
+    /** @return 既存のfoodsが更新された件数（内容に差分があったもののみ） */
+    public long getUpdatedFoods() { return updatedFoods; }
+    /** @return 処理時間（ミリ秒） */
+    public long getElapsedMs() { return elapsedMs; }
+    /** @return 行エラー（先頭 {@value #MAX_REPORTED_ERRORS} 件まで） */
+    public List<RowError> getErrors() { return Collections.unmodifiableList(errors); }
+}
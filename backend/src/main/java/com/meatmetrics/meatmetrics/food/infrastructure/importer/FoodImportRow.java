@@ -0,0 +1,66 @@
+package com.meatmetrics.meatmetrics.food.infrastructure.importer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * インポート入力の1行分
+ *
+ * <p>リーダーが生の文字列を詰め、{@link FoodImportRowValidator} が検証済みの数値を書き戻します。
+ * 行ごとにインスタンスを生成せず1つを使い回すことで、入力件数に依存しない
+ * 一定のメモリ使用量で処理します。</p>
+ */
+public final class FoodImportRow {
+
+    // 入力値（リーダーが設定）
+    long lineNo;
+    String sourceCode;
+    String name;
+    String category;
+    String calories;
+    String protein;
+    String fat;
+    String carbohydrates;
+    String fiber;
+    String description;
+    final List<String> tags = new ArrayList<>();
+
+    // 検証済みの値（バリデーターが設定）
+    long categoryId;
+    int caloriesValue;
+    long proteinCentiG;
+    long fatCentiG;
+    long carbohydratesCentiG;
+    long fiberCentiG;
+
+    /**
+     * 次の行を読み込む前に全項目をクリアする
+     *
+     * @param lineNo 入力上の行番号（CSVはヘッダーを1行目とした物理行、JSONは要素番号）
+     */
+    void reset(long lineNo) {
+        this.lineNo = lineNo;
+        this.sourceCode = null;
+        this.name = null;
+        this.category = null;
+        this.calories = null;
+        this.protein = null;
+        this.fat = null;
+        this.carbohydrates = null;
+        this.fiber = null;
+        this.description = null;
+        this.tags.clear();
+    }
+
+    public long getLineNo() { return lineNo; }
+    public String getSourceCode() { return sourceCode; }
+    public String getName() { return name; }
+    public long getCategoryId() { return categoryId; }
+    public int getCaloriesValue() { return caloriesValue; }
+    public long getProteinCentiG() { return proteinCentiG; }
+    public long getFatCentiG() { return fatCentiG; }
+    public long getCarbohydratesCentiG() { return carbohydratesCentiG; }
+    public long getFiberCentiG() { return fiberCentiG; }
+    public String getDescription() { return description; }
+    public List<String> getTags() { return tags; }
+}
@@ -0,0 +1,158 @@
+package com.meatmetrics.meatmetrics.food.infrastructure.importer;
+
+import java.util.Locale;
+import java.util.Map;
+
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodNutritionRules;
+
+/**
+ * インポート行の検証
+ *
+ * <p>foodsテーブルのCHECK制約と同じ基準（{@link FoodNutritionRules}）で検証し、
+ * 合格した行には数値化した値を書き戻します。小数はDECIMAL(6,2)への格納時と同じく
+ * 小数第3位で四捨五入してから範囲を判定します。</p>
+ *
+ * <p>カテゴリは {@code categories.name}（大文字小文字を区別しない）または
+ * {@code categories.id} で指定できます。</p>
+ */
+public class FoodImportRowValidator {
+
+    /** 数値として解釈できない入力を表す番兵値 */
+    static final long INVALID = Long.MIN_VALUE;
+
+    private final Map<String, Long> categoryIdsByKey;
+
+    /**
+     * @param categoryIdsByKey カテゴリキー（小文字のname、またはidの文字列表現）→ カテゴリID
+     */
+    public FoodImportRowValidator(Map<String, Long> categoryIdsByKey) {
+        this.categoryIdsByKey = categoryIdsByKey;
+    }
+
+    /**
+     * 行を検証する
+     *
+     * @param row 検証対象（合格時は数値項目が設定される）
+     * @return 検証エラーメッセージ、合格の場合null
+     */
+    public String validate(FoodImportRow row) {
+        String sourceCode = row.sourceCode == null ? null : row.sourceCode.trim();
+        if (sourceCode == null || sourceCode.isEmpty()) {
+            return "source_code is required";
+        }
+        if (sourceCode.length() > FoodNutritionRules.MAX_SOURCE_CODE_LENGTH) {
+            return "source_code exceeds " + FoodNutritionRules.MAX_SOURCE_CODE_LENGTH + " characters";
+        }
+        row.sourceCode = sourceCode;
+
+        // DBと同じくコードポイント数で長さを判定するため、全角空白も前後から除いた値を格納する
+        String name = row.name == null ? null : row.name.strip();
+        if (!FoodNutritionRules.isValidName(name)) {
+            return "name must be 1-" + FoodNutritionRules.MAX_NAME_LENGTH + " non-blank characters";
+        }
+        row.name = name;
+
+        Long categoryId = row.category == null ? null
+                : categoryIdsByKey.get(row.category.trim().toLowerCase(Locale.ROOT));
+        if (categoryId == null) {
+            return "unknown category: " + row.category;
+        }
+        row.categoryId = categoryId;
+
+        long calories = parseCenti(row.calories);
+        if (calories == INVALID || calories < 0) {
+            return "calories_per_100g must be between 0 and " + FoodNutritionRules.MAX_CALORIES_PER_100G + ": " + row.calories;
+        }
+        // INTEGER列のため整数kcalに丸める（centi単位 → 単位、四捨五入）
+        calories = (calories + 50) / 100;
+        if (!FoodNutritionRules.isValidCalories(calories)) {
+            return "calories_per_100g must be between 0 and " + FoodNutritionRules.MAX_CALORIES_PER_100G + ": " + row.calories;
+        }
+        row.caloriesValue = (int) calories;
+
+        long protein = parseCenti(row.protein);
+        if (protein == INVALID || !FoodNutritionRules.isValidMacro(protein)) {
+            return "protein_g_per_100g must be between 0 and 200: " + row.protein;
+        }
+        long fat = parseCenti(row.fat);
+        if (fat == INVALID || !FoodNutritionRules.isValidMacro(fat)) {
+            return "fat_g_per_100g must be between 0 and 200: " + row.fat;
+        }
+        long carbohydrates = parseCenti(row.carbohydrates);
+        if (carbohydrates == INVALID || !FoodNutritionRules.isValidMacro(carbohydrates)) {
+            return "carbohydrates_g_per_100g must be between 0 and 200: " + row.carbohydrates;
+        }
+        long fiber = row.fiber == null ? 0L : parseCenti(row.fiber);
+        if (fiber == INVALID || !FoodNutritionRules.isValidFiber(fiber, carbohydrates)) {
+            return "fiber_g_per_100g must be between 0 and carbohydrates_g_per_100g: " + row.fiber;
+        }
+        row.proteinCentiG = protein;
+        row.fatCentiG = fat;
+        row.carbohydratesCentiG = carbohydrates;
+        row.fiberCentiG = fiber;
+        return null;
+    }
+
+    /**
+     * 10進数文字列を1/100単位の整数に変換する（小数第3位で四捨五入）
+     *
+     * <p>BigDecimalを生成せずに解析することで、大量行の検証を高速に行います。
+     * 負数は範囲外として呼び出し側で弾けるよう、そのまま負の値で返します。</p>
+     *
+     * @param text 入力文字列（null可）
+     * @return 1/100単位の値、解釈できない場合は {@link #INVALID}
+     */
+    static long parseCenti(String text) {
+        if (text == null) {
+            return INVALID;
+        }
+        int length = text.length();
+        int i = 0;
+        while (i < length && text.charAt(i) == ' ') i++;
+        while (length > i && text.charAt(length - 1) == ' ') length--;
+        if (i == length) {
+            return INVALID;
+        }
+        boolean negative = false;
+        char first = text.charAt(i);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i++;
+        }
+        long integerPart = 0;
+        int integerDigits = 0;
+        while (i < length && isAsciiDigit(text.charAt(i))) {
+            if (++integerDigits > 12) {
+                return INVALID;
+            }
+            integerPart = integerPart * 10 + (text.charAt(i++) - '0');
+        }
+        long fraction = 0;
+        int fractionDigits = 0;
+        boolean roundUp = false;
+        if (i < length && text.charAt(i) == '.') {
+            i++;
+            while (i < length && isAsciiDigit(text.charAt(i))) {
+                int digit = text.charAt(i++) - '0';
+                if (fractionDigits < 2) {
+                    fraction = fraction * 10 + digit;
+                } else if (fractionDigits == 2) {
+                    roundUp = digit >= 5;
+                }
+                fractionDigits++;
+            }
+        }
+        if (i != length || (integerDigits == 0 && fractionDigits == 0)) {
+            return INVALID;
+        }
+        if (fractionDigits == 1) {
+            fraction *= 10;
+        }
+        long value = integerPart * 100 + fraction + (roundUp ? 1 : 0);
+        return negative ? -value : value;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
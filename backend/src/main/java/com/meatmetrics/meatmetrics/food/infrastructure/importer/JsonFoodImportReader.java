@@ -0,0 +1,121 @@
+package com.meatmetrics.meatmetrics.food.infrastructure.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.meatmetrics.meatmetrics.food.domain.exception.InvalidFoodImportException;
+
+/**
+ * JSON配列のストリーミングリーダー
+ *
+ * <p>Jacksonのトークンパーサーで1要素ずつ読み進め、配列全体をツリーとして保持しません。
+ * フィールド名はCSVの列名と同じです。{@code tags} は文字列配列、
+ * 数値項目は数値・文字列のどちらでも受け付けます。</p>
+ *
+ * <pre>
+ * [
+ *   {"source_code": "11001", "name": "牛肉サーロイン", "category": "beef",
+ *    "calories_per_100g": 498, "protein_g_per_100g": 17.4, "fat_g_per_100g": 47.5,
+ *    "carbohydrates_g_per_100g": 0.3, "tags": ["肉類", "牛肉"]}
+ * ]
+ * </pre>
+ */
+public class JsonFoodImportReader implements FoodImportReader {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonParser parser;
+    private long elementNo;
+
+    /**
+     * 配列の開始トークンを読み込んでリーダーを初期化する
+     *
+     * @param input UTF-8のJSON入力
+     * @throws IOException 入力の読み込みに失敗した場合
+     * @throws InvalidFoodImportException トップレベルが配列でない場合
+     */
+    public JsonFoodImportReader(InputStream input) throws IOException {
+        this.parser = JSON_FACTORY.createParser(input);
+        if (nextToken() != JsonToken.START_ARRAY) {
+            throw new InvalidFoodImportException("JSON input must be an array of food objects");
+        }
+    }
+
+    @Override
+    public boolean next(FoodImportRow row) throws IOException {
+        JsonToken token = nextToken();
+        if (token == JsonToken.END_ARRAY || token == null) {
+            return false;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new InvalidFoodImportException("JSON array element " + (elementNo + 1) + " is not an object");
+        }
+        row.reset(++elementNo);
+        while ((token = nextToken()) == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken valueToken = nextToken();
+            switch (fieldName) {
+                case "source_code" -> row.sourceCode = scalar(valueToken);
+                case "name" -> row.name = scalar(valueToken);
+                case "category" -> row.category = scalar(valueToken);
+                case "calories_per_100g" -> row.calories = scalar(valueToken);
+                case "protein_g_per_100g" -> row.protein = scalar(valueToken);
+                case "fat_g_per_100g" -> row.fat = scalar(valueToken);
+                case "carbohydrates_g_per_100g" -> row.carbohydrates = scalar(valueToken);
+                case "fiber_g_per_100g" -> row.fiber = scalar(valueToken);
+                case "description" -> row.description = scalar(valueToken);
+                case "tags" -> readTags(valueToken, row);
+                default -> parser.skipChildren();
+            }
+        }
+        if (token != JsonToken.END_OBJECT) {
+            throw new InvalidFoodImportException("JSON array element " + elementNo + " is malformed");
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    private String scalar(JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isScalarValue()) {
+            String text = parser.getText();
+            return text.isEmpty() ? null : text;
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    private void readTags(JsonToken token, FoodImportRow row) throws IOException {
+        if (token != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while ((token = nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new InvalidFoodImportException("Unexpected end of JSON input in tags");
+            }
+            String tag = scalar(token);
+            if (tag != null && !tag.isBlank()) {
+                row.tags.add(tag.trim());
+            }
+        }
+    }
+
+    private JsonToken nextToken() throws IOException {
+        try {
+            return parser.nextToken();
+        } catch (JsonProcessingException e) {
+            throw new InvalidFoodImportException("Malformed JSON input: " + e.getOriginalMessage(), e);
+        }
+    }
+}
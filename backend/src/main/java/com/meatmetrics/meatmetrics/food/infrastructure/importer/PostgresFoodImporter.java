@@ -0,0 +1,202 @@
+package com.meatmetrics.meatmetrics.food.infrastructure.importer;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * PostgreSQL COPY による食材一括インポート
+ *
+ * <p>検証済みの行をpgjdbcの {@code CopyManager}（{@link PGCopyOutputStream}）で
+ * ステージングテーブルにストリーミング投入し、最後に1文の
+ * {@code INSERT ... ON CONFLICT (source_code) DO UPDATE} で foods にマージします。</p>
+ *
+ * <h3>設計方針:</h3>
+ * <ul>
+ *   <li>入力は1行ずつ読み、固定サイズのバッファ単位でCOPYへ送るため、メモリ使用量は件数に依存しない</li>
+ *   <li>行ごとのINSERT往復やPreparedStatementのバインドを行わない（COPYプロトコル1本）</li>
+ *   <li>マージは同一source_codeの重複を後勝ちで排除し、内容に差分がある行のみ更新する</li>
+ *   <li>呼び出し側のトランザクション内で実行し、失敗時はステージング投入ごとロールバックする</li>
+ * </ul>
+ */
+@Repository
+public class PostgresFoodImporter {
+
+    static final String COPY_SQL = """
+        COPY foods_import_staging (batch_id, line_no, source_code, name, category_id,
+            calories_per_100g, protein_g_per_100g, fat_g_per_100g, carbohydrates_g_per_100g,
+            fiber_g_per_100g, tags, description)
+        FROM STDIN WITH (FORMAT csv)
+        """;
+
+    private static final String MERGE_SQL = """
+        WITH latest AS (
+            SELECT DISTINCT ON (source_code)
+                source_code, name, category_id, calories_per_100g, protein_g_per_100g,
+                fat_g_per_100g, carbohydrates_g_per_100g, fiber_g_per_100g, tags, description
+            FROM foods_import_staging
+            WHERE batch_id = ?
+            ORDER BY source_code, line_no DESC
+        ), merged AS (
+            INSERT INTO foods (source_code, name, category_id, calories_per_100g, protein_g_per_100g,
+                fat_g_per_100g, carbohydrates_g_per_100g, fiber_g_per_100g, tags, description)
+            SELECT source_code, name, category_id, calories_per_100g, protein_g_per_100g,
+                fat_g_per_100g, carbohydrates_g_per_100g, fiber_g_per_100g, tags, description
+            FROM latest
+            ON CONFLICT (source_code) DO UPDATE SET
+                name = EXCLUDED.name,
+                category_id = EXCLUDED.category_id,
+                calories_per_100g = EXCLUDED.calories_per_100g,
+                protein_g_per_100g = EXCLUDED.protein_g_per_100g,
+                fat_g_per_100g = EXCLUDED.fat_g_per_100g,
+                carbohydrates_g_per_100g = EXCLUDED.carbohydrates_g_per_100g,
+                fiber_g_per_100g = EXCLUDED.fiber_g_per_100g,
+                tags = EXCLUDED.tags,
+                description = EXCLUDED.description
+            WHERE (foods.name, foods.category_id, foods.calories_per_100g, foods.protein_g_per_100g,
+                   foods.fat_g_per_100g, foods.carbohydrates_g_per_100g, foods.fiber_g_per_100g,
+                   foods.tags, foods.description)
+                IS DISTINCT FROM
+                  (EXCLUDED.name, EXCLUDED.category_id, EXCLUDED.calories_per_100g, EXCLUDED.protein_g_per_100g,
+                   EXCLUDED.fat_g_per_100g, EXCLUDED.carbohydrates_g_per_100g, EXCLUDED.fiber_g_per_100g,
+                   EXCLUDED.tags, EXCLUDED.description)
+            RETURNING (xmax = 0) AS inserted
+        )
+        SELECT COUNT(*) FILTER (WHERE inserted) AS inserted_count,
+               COUNT(*) FILTER (WHERE NOT inserted) AS updated_count
+        FROM merged
+        """;
+
+    private static final String CLEANUP_SQL = "DELETE FROM foods_import_staging WHERE batch_id = ?";
+
+    /** COPYへ送る前にためる文字数（約64KB） */
+    private static final int FLUSH_THRESHOLD = 1 << 16;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    public PostgresFoodImporter(DataSource dataSource, JdbcTemplate jdbcTemplate) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * カテゴリ指定の解決用マップを読み込む
+     *
+     * <p>categoriesは小さなマスタのため全件をメモリに載せ、行ごとのDB問い合わせを避けます。</p>
+     *
+     * @return 小文字のカテゴリ名およびIDの文字列表現 → カテゴリID
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Long> loadCategoryKeys() {
+        Map<String, Long> keys = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name FROM categories WHERE is_active = true ORDER BY level, id", rs -> {
+            long id = rs.getLong("id");
+            keys.put(Long.toString(id), id);
+            // 同名カテゴリが複数階層にある場合は浅い階層を優先
+            keys.putIfAbsent(rs.getString("name").toLowerCase(Locale.ROOT), id);
+        });
+        return keys;
+    }
+
+    /**
+     * 入力を検証しながらCOPYでステージングに投入し、foodsへマージする
+     *
+     * @param reader 入力リーダー
+     * @param validator 行バリデーター
+     * @return 実行結果
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public FoodImportReport importRows(FoodImportReader reader, FoodImportRowValidator validator) {
+        long startedAt = System.nanoTime();
+        FoodImportReport report = new FoodImportReport();
+        UUID batchId = UUID.randomUUID();
+
+        copyToStaging(reader, validator, batchId, report);
+
+        jdbcTemplate.query(MERGE_SQL, rs -> {
+            report.merged(rs.getLong("inserted_count"), rs.getLong("updated_count"));
+        }, batchId);
+        jdbcTemplate.update(CLEANUP_SQL, batchId);
+
+        report.finished((System.nanoTime() - startedAt) / 1_000_000);
+        return report;
+    }
+
+    private void copyToStaging(FoodImportReader reader, FoodImportRowValidator validator,
+                               UUID batchId, FoodImportReport report) {
+        // トランザクションに紐づいた接続を取得（マージと同一トランザクションで実行するため）
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        PGCopyOutputStream copyStream = null;
+        try {
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            copyStream = new PGCopyOutputStream(pgConnection, COPY_SQL, FLUSH_THRESHOLD);
+            Writer writer = new OutputStreamWriter(copyStream, StandardCharsets.UTF_8);
+
+            String batch = batchId.toString();
+            StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD + 1024);
+            FoodImportRow row = new FoodImportRow();
+            while (reader.next(row)) {
+                report.rowRead();
+                String error = validator.validate(row);
+                if (error != null) {
+                    report.rowRejected(row.lineNo, error);
+                    continue;
+                }
+                FoodCopyEncoder.appendRow(buffer, batch, row);
+                report.rowStaged();
+                if (buffer.length() >= FLUSH_THRESHOLD) {
+                    writer.append(buffer);
+                    buffer.setLength(0);
+                }
+            }
+            writer.append(buffer);
+            writer.flush();
+            copyStream.endCopy();
+        } catch (SQLException e) {
+            cancelQuietly(copyStream);
+            DataAccessException translated = jdbcTemplate.getExceptionTranslator()
+                    .translate("COPY foods_import_staging", COPY_SQL, e);
+            throw translated != null ? translated : new UncategorizedSQLException("COPY foods_import_staging", COPY_SQL, e);
+        } catch (IOException e) {
+            cancelQuietly(copyStream);
+            throw new UncheckedIOException("Failed to stream food import", e);
+        } catch (RuntimeException e) {
+            cancelQuietly(copyStream);
+            throw e;
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private static void cancelQuietly(PGCopyOutputStream copyStream) {
+        if (copyStream == null || !copyStream.isActive()) {
+            return;
+        }
+        try {
+            copyStream.cancelCopy();
+        } catch (SQLException ignored) {
+            // ロールバックで後始末されるため握りつぶす
+        }
+    }
+}
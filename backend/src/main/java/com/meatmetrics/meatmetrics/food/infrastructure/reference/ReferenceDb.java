@@ -0,0 +1,255 @@
+package com.meatmetrics.meatmetrics.food.infrastructure.reference;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * メモリマップした読み取り専用の参照データベース（食品成分表）
+ *
+ * <p>{@link FileChannel#map} でファイル全体をマップし、ヘッダーと栄養素定義（数十件）だけを開く時点で読みます。
+ * 食品レコードは開く時点では一切読まず、参照のたびにマップ上の絶対位置から直接読み出します。
+ * ページはOSのページキャッシュから必要な分だけ読み込まれ、Javaヒープには載りません。</p>
+ *
+ * <p>{@link #find(CharSequence)}・{@link #value(int, int)}・{@link #top(int, int[])} はオブジェクトを生成しません。
+ * 文字列を返す {@link #code(int)}・{@link #name(int)} は応答の組み立て時にだけ使います。</p>
+ *
+ * <p>位置を変える相対アクセスを使わないため、1つのインスタンスを複数スレッドから同時に参照できます。
+ * マップはGCで回収されるまで有効なので、ファイルを置き換えて開き直しても参照中の旧インスタンスは安全です。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public final class ReferenceDb {
+
+    /** 欠測値 */
+    public static final int MISSING = Integer.MIN_VALUE;
+
+    private final Path path;
+    private final ByteBuffer buffer;
+    private final long datasetVersion;
+    private final int recordCount;
+    private final int recordSize;
+    private final int keyIndexOffset;
+    private final int recordsOffset;
+    private final int poolOffset;
+    private final List<ReferenceNutrient> nutrients;
+    private final Map<String, Integer> nutrientIndexes;
+
+    private ReferenceDb(Path path, ByteBuffer buffer) {
+        this.path = path;
+        this.buffer = buffer;
+        long fileLength = buffer.capacity();
+        if (fileLength < ReferenceDbFormat.HEADER_SIZE
+                || buffer.getInt(ReferenceDbFormat.OFFSET_MAGIC) != ReferenceDbFormat.MAGIC) {
+            throw invalid("not a reference database");
+        }
+        short formatVersion = buffer.getShort(ReferenceDbFormat.OFFSET_FORMAT_VERSION);
+        if (formatVersion != ReferenceDbFormat.FORMAT_VERSION) {
+            throw invalid("unsupported format version " + formatVersion);
+        }
+        if (buffer.getLong(ReferenceDbFormat.OFFSET_FILE_LENGTH) != fileLength) {
+            throw invalid("file length mismatch (truncated or partially written)");
+        }
+        this.datasetVersion = buffer.getLong(ReferenceDbFormat.OFFSET_DATASET_VERSION);
+        this.recordCount = buffer.getInt(ReferenceDbFormat.OFFSET_RECORD_COUNT);
+        int nutrientCount = buffer.getInt(ReferenceDbFormat.OFFSET_NUTRIENT_COUNT);
+        this.recordSize = buffer.getInt(ReferenceDbFormat.OFFSET_RECORD_SIZE);
+        int nutrientsOffset = buffer.getInt(ReferenceDbFormat.OFFSET_NUTRIENTS);
+        this.keyIndexOffset = buffer.getInt(ReferenceDbFormat.OFFSET_KEY_INDEX);
+        this.recordsOffset = buffer.getInt(ReferenceDbFormat.OFFSET_RECORDS);
+        this.poolOffset = buffer.getInt(ReferenceDbFormat.OFFSET_STRING_POOL);
+        int poolLength = buffer.getInt(ReferenceDbFormat.OFFSET_STRING_POOL_LENGTH);
+
+        if (recordCount < 0 || nutrientCount < 0 || recordSize != ReferenceDbFormat.recordSize(nutrientCount)
+                || nutrientsOffset != ReferenceDbFormat.HEADER_SIZE
+                || keyIndexOffset != nutrientsOffset + (long) nutrientCount * ReferenceDbFormat.NUTRIENT_ENTRY_SIZE
+                || recordsOffset != keyIndexOffset + (long) recordCount * ReferenceDbFormat.KEY_ENTRY_SIZE
+                || poolOffset != recordsOffset + (long) recordCount * recordSize
+                || (long) poolOffset + poolLength != fileLength) {
+            throw invalid("inconsistent section layout");
+        }
+
+        // 栄養素定義（数十件）だけはヒープに展開し、コードから位置を引けるようにする
+        ReferenceNutrient[] definitions = new ReferenceNutrient[nutrientCount];
+        this.nutrientIndexes = new HashMap<>();
+        for (int n = 0; n < nutrientCount; n++) {
+            int at = nutrientsOffset + n * ReferenceDbFormat.NUTRIENT_ENTRY_SIZE;
+            definitions[n] = new ReferenceNutrient(string(buffer.getInt(at)), string(buffer.getInt(at + 4)), buffer.getInt(at + 8));
+            nutrientIndexes.put(definitions[n].code(), n);
+        }
+        this.nutrients = List.of(definitions);
+    }
+
+    /**
+     * 参照データベースファイルを開く
+     *
+     * @param path ファイル
+     * @return 参照データベース
+     * @throws IOException ファイルを開けない場合
+     * @throws IllegalStateException ファイルの形式が不正な場合
+     */
+    public static ReferenceDb open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Invalid reference database " + path + ": larger than 2GB");
+            }
+            // マップはチャネルを閉じた後も有効
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            return new ReferenceDb(path, mapped);
+        }
+    }
+
+    /**
+     * 食品コードからレコード番号を引く（キー索引の二分探索、オブジェクト生成なし）
+     *
+     * @param code 食品コード
+     * @return レコード番号、存在しない場合は-1
+     */
+    public int find(CharSequence code) {
+        if (!ReferenceDbFormat.isValidCode(code)) {
+            return -1;
+        }
+        int low = 0;
+        int high = recordCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int at = keyIndexOffset + mid * ReferenceDbFormat.KEY_ENTRY_SIZE;
+            int cmp = compareAscii(buffer.getInt(at), code);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return buffer.getInt(at + 4);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 栄養素の値を読む（オブジェクト生成なし）
+     *
+     * @param record レコード番号
+     * @param nutrient 栄養素の位置
+     * @return {@code 10^scale} 倍した整数値、欠測の場合は {@link #MISSING}
+     */
+    public int value(int record, int nutrient) {
+        return buffer.getInt(recordsOffset + record * recordSize + ReferenceDbFormat.RECORD_FIXED_SIZE + nutrient * 4);
+    }
+
+    /**
+     * 栄養素の値が大きい順の上位レコードを求める（全レコードの走査、オブジェクト生成なし）
+     *
+     * @param nutrient 栄養素の位置
+     * @param out 結果のレコード番号を書き込む配列（長さが最大件数）
+     * @return 書き込んだ件数（欠測のレコードは含めない）
+     */
+    public int top(int nutrient, int[] out) {
+        int count = 0;
+        for (int record = 0; record < recordCount; record++) {
+            int value = value(record, nutrient);
+            if (value == MISSING) {
+                continue;
+            }
+            if (count == out.length && (count == 0 || value <= value(out[count - 1], nutrient))) {
+                continue;
+            }
+            // 値の降順を保つ挿入（同値は先に現れたレコードを前に置く）
+            int i = count < out.length ? count++ : count - 1;
+            while (i > 0 && value(out[i - 1], nutrient) < value) {
+                out[i] = out[i - 1];
+                i--;
+            }
+            out[i] = record;
+        }
+        return count;
+    }
+
+    /**
+     * @param record レコード番号
+     * @return 食品コード
+     */
+    public String code(int record) {
+        return string(buffer.getInt(recordsOffset + record * recordSize));
+    }
+
+    /**
+     * @param record レコード番号
+     * @return 食品名
+     */
+    public String name(int record) {
+        return string(buffer.getInt(recordsOffset + record * recordSize + 4));
+    }
+
+    /**
+     * @param code 栄養素コード
+     * @return 栄養素の位置、存在しない場合は-1
+     */
+    public int nutrientIndex(String code) {
+        Integer index = nutrientIndexes.get(code);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * @return 栄養素定義（位置順）
+     */
+    public List<ReferenceNutrient> nutrients() {
+        return nutrients;
+    }
+
+    /**
+     * @return データセットバージョン
+     */
+    public long datasetVersion() {
+        return datasetVersion;
+    }
+
+    /**
+     * @return 食品数
+     */
+    public int size() {
+        return recordCount;
+    }
+
+    /**
+     * @return ファイルのパス
+     */
+    public Path path() {
+        return path;
+    }
+
+    /** 文字列プールのASCII文字列と検索キーを比較する */
+    private int compareAscii(int ref, CharSequence key) {
+        int at = poolOffset + ref;
+        int length = Short.toUnsignedInt(buffer.getShort(at));
+        int common = Math.min(length, key.length());
+        for (int i = 0; i < common; i++) {
+            int diff = (buffer.get(at + 2 + i) & 0xFF) - key.charAt(i);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return length - key.length();
+    }
+
+    private String string(int ref) {
+        int at = poolOffset + ref;
+        int length = Short.toUnsignedInt(buffer.getShort(at));
+        byte[] bytes = new byte[length];
+        buffer.get(at + 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private IllegalStateException invalid(String reason) {
+        return new IllegalStateException("Invalid reference database " + path + ": " + reason);
+    }
+}
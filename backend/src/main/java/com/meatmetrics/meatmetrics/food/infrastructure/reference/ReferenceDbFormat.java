@@ -0,0 +1,86 @@
+package com.meatmetrics.meatmetrics.food.infrastructure.reference;
+
+/**
+ * 参照データベース（バイナリファイル）のレイアウト定義
+ *
+ * <p>全ての数値はビッグエンディアンです。オフセットはファイル先頭からのバイト位置、
+ * 文字列参照は文字列プール先頭からのバイト位置です。</p>
+ *
+ * <pre>
+ * ヘッダー（64バイト）
+ *   0  int   マジックナンバー "MMRF"
+ *   4  short フォーマットバージョン
+ *   8  long  データセットバージョン（元データの版、ETagに使用）
+ *  16  int   食品数
+ *  20  int   栄養素数
+ *  24  int   1レコードのバイト数（8 + 4 × 栄養素数）
+ *  28  int   栄養素定義の位置
+ *  32  int   キー索引の位置
+ *  36  int   レコードの位置
+ *  40  int   文字列プールの位置
+ *  44  int   文字列プールのバイト数
+ *  48  long  ファイル全体のバイト数（切り詰められたファイルの検出用）
+ * 栄養素定義（栄養素数 × 12バイト）
+ *   int コード参照, int 単位参照, int 小数桁数
+ * キー索引（食品数 × 8バイト、食品コードの昇順）
+ *   int 食品コード参照, int レコード番号
+ * レコード（食品数 × 1レコードのバイト数、元データの順）
+ *   int 食品コード参照, int 食品名参照, int[栄養素数] 値
+ * 文字列プール
+ *   unsigned short バイト数, UTF-8バイト列 の繰り返し
+ * </pre>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+final class ReferenceDbFormat {
+
+    static final int MAGIC = 0x4D4D5246;
+    static final short FORMAT_VERSION = 1;
+
+    static final int HEADER_SIZE = 64;
+    static final int NUTRIENT_ENTRY_SIZE = 12;
+    static final int KEY_ENTRY_SIZE = 8;
+    static final int RECORD_FIXED_SIZE = 8;
+
+    static final int OFFSET_MAGIC = 0;
+    static final int OFFSET_FORMAT_VERSION = 4;
+    static final int OFFSET_DATASET_VERSION = 8;
+    static final int OFFSET_RECORD_COUNT = 16;
+    static final int OFFSET_NUTRIENT_COUNT = 20;
+    static final int OFFSET_RECORD_SIZE = 24;
+    static final int OFFSET_NUTRIENTS = 28;
+    static final int OFFSET_KEY_INDEX = 32;
+    static final int OFFSET_RECORDS = 36;
+    static final int OFFSET_STRING_POOL = 40;
+    static final int OFFSET_STRING_POOL_LENGTH = 44;
+    static final int OFFSET_FILE_LENGTH = 48;
+
+    /** 食品コード・栄養素コードの最大長（ASCIIのみ） */
+    static final int MAX_CODE_LENGTH = 32;
+    /** 文字列1件の最大バイト数 */
+    static final int MAX_STRING_BYTES = 0xFFFF;
+
+    private ReferenceDbFormat() {}
+
+    static int recordSize(int nutrientCount) {
+        return RECORD_FIXED_SIZE + 4 * nutrientCount;
+    }
+
+    /** 食品コード・栄養素コードとして使える文字か */
+    static boolean isCodeChar(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || c == '_' || c == '-';
+    }
+
+    static boolean isValidCode(CharSequence code) {
+        if (code == null || code.length() == 0 || code.length() > MAX_CODE_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < code.length(); i++) {
+            if (!isCodeChar(code.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
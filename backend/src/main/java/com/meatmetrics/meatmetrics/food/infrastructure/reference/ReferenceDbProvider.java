@@ -0,0 +1,90 @@
+package com.meatmetrics.meatmetrics.food.infrastructure.reference;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.meatmetrics.meatmetrics.config.ReferenceDbProperties;
+
+/**
+ * 参照データベースの保持
+ *
+ * <p>起動時にファイルをマップし、以降は定期的にファイルの置き換え（ファイルキー・更新日時・サイズの変化）を確認して開き直します。
+ * 開き直しに失敗した場合は旧ファイルのマップで応答を続けます。
+ * ファイルの差し替えは {@link ReferenceDbWriter} と同様に別ファイルからのリネームで行ってください
+ * （同じファイルを上書きすると、マップ中の内容が書き込み途中の状態で見えてしまうため）。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Component
+public class ReferenceDbProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(ReferenceDbProvider.class);
+
+    private final ReferenceDbProperties properties;
+    private volatile ReferenceDb current;
+    /** 現在開いているファイルの識別（置き換え検出用） */
+    private volatile Object openedFileState;
+
+    public ReferenceDbProvider(ReferenceDbProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * @return 現在の参照データベース（未設定・未読み込みの場合は空）
+     */
+    public Optional<ReferenceDb> current() {
+        return Optional.ofNullable(current);
+    }
+
+    /**
+     * 起動完了時に参照データベースを開く
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reloadIfChanged();
+    }
+
+    /**
+     * ファイルが置き換えられていれば開き直す
+     */
+    @Scheduled(initialDelayString = "${food.reference.check-interval-ms:60000}",
+               fixedDelayString = "${food.reference.check-interval-ms:60000}")
+    public void reloadIfChanged() {
+        String configured = properties.getPath();
+        if (configured == null || configured.isBlank()) {
+            return;
+        }
+        Path path = Path.of(configured);
+        try {
+            Object state = fileState(path);
+            if (Objects.equals(state, openedFileState)) {
+                return;
+            }
+            ReferenceDb opened = ReferenceDb.open(path);
+            current = opened;
+            openedFileState = state;
+            log.info("Reference database opened: path={}, datasetVersion={}, foods={}, nutrients={}",
+                    path, opened.datasetVersion(), opened.size(), opened.nutrients().size());
+        } catch (IOException | IllegalStateException e) {
+            log.warn("Reference database could not be opened: {}", e.getMessage());
+        }
+    }
+
+    private static Object fileState(Path path) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        return List.of(String.valueOf(attributes.fileKey()), attributes.lastModifiedTime(), attributes.size());
+    }
+}
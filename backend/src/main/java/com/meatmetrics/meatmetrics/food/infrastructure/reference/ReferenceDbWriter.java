@@ -0,0 +1,181 @@
+package com.meatmetrics.meatmetrics.food.infrastructure.reference;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 参照データベースファイルの書き込み
+ *
+ * <p>食品成分表などの元データを変換するオフライン処理から使用します。
+ * 同じディレクトリの一時ファイルに書き出してから置き換えるため、
+ * 稼働中のアプリケーションが旧ファイルをマップしていても旧ファイルの内容は変わりません。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public final class ReferenceDbWriter {
+
+    private ReferenceDbWriter() {}
+
+    /**
+     * 参照データベースファイルを書き出す
+     *
+     * @param path 出力先
+     * @param datasetVersion データセットバージョン（元データの版、更新のたびに増やす）
+     * @param nutrients 栄養素定義
+     * @param foods 食品（食品コードは一意）
+     * @throws IOException 書き込みに失敗した場合
+     * @throws IllegalArgumentException 入力がフォーマットの制約を満たさない場合
+     */
+    public static void write(Path path, long datasetVersion, List<ReferenceNutrient> nutrients,
+                             List<ReferenceFoodEntry> foods) throws IOException {
+        validate(nutrients, foods);
+
+        StringPool pool = new StringPool();
+        int nutrientCount = nutrients.size();
+        int recordSize = ReferenceDbFormat.recordSize(nutrientCount);
+        int nutrientsOffset = ReferenceDbFormat.HEADER_SIZE;
+        int keyIndexOffset = nutrientsOffset + nutrientCount * ReferenceDbFormat.NUTRIENT_ENTRY_SIZE;
+        int recordsOffset = keyIndexOffset + foods.size() * ReferenceDbFormat.KEY_ENTRY_SIZE;
+        long poolOffsetLong = recordsOffset + (long) foods.size() * recordSize;
+
+        int[] nutrientRefs = new int[nutrientCount * 2];
+        for (int n = 0; n < nutrientCount; n++) {
+            nutrientRefs[n * 2] = pool.add(nutrients.get(n).code());
+            nutrientRefs[n * 2 + 1] = pool.add(nutrients.get(n).unit());
+        }
+        int[] codeRefs = new int[foods.size()];
+        int[] nameRefs = new int[foods.size()];
+        for (int i = 0; i < foods.size(); i++) {
+            codeRefs[i] = pool.add(foods.get(i).code());
+            nameRefs[i] = pool.add(foods.get(i).name());
+        }
+        byte[] poolBytes = pool.toByteArray();
+        long fileLength = poolOffsetLong + poolBytes.length;
+        if (fileLength > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Reference database exceeds 2GB: " + fileLength + " bytes");
+        }
+        int poolOffset = (int) poolOffsetLong;
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) fileLength);
+        buffer.putInt(ReferenceDbFormat.OFFSET_MAGIC, ReferenceDbFormat.MAGIC);
+        buffer.putShort(ReferenceDbFormat.OFFSET_FORMAT_VERSION, ReferenceDbFormat.FORMAT_VERSION);
+        buffer.putLong(ReferenceDbFormat.OFFSET_DATASET_VERSION, datasetVersion);
+        buffer.putInt(ReferenceDbFormat.OFFSET_RECORD_COUNT, foods.size());
+        buffer.putInt(ReferenceDbFormat.OFFSET_NUTRIENT_COUNT, nutrientCount);
+        buffer.putInt(ReferenceDbFormat.OFFSET_RECORD_SIZE, recordSize);
+        buffer.putInt(ReferenceDbFormat.OFFSET_NUTRIENTS, nutrientsOffset);
+        buffer.putInt(ReferenceDbFormat.OFFSET_KEY_INDEX, keyIndexOffset);
+        buffer.putInt(ReferenceDbFormat.OFFSET_RECORDS, recordsOffset);
+        buffer.putInt(ReferenceDbFormat.OFFSET_STRING_POOL, poolOffset);
+        buffer.putInt(ReferenceDbFormat.OFFSET_STRING_POOL_LENGTH, poolBytes.length);
+        buffer.putLong(ReferenceDbFormat.OFFSET_FILE_LENGTH, fileLength);
+
+        for (int n = 0; n < nutrientCount; n++) {
+            int at = nutrientsOffset + n * ReferenceDbFormat.NUTRIENT_ENTRY_SIZE;
+            buffer.putInt(at, nutrientRefs[n * 2]);
+            buffer.putInt(at + 4, nutrientRefs[n * 2 + 1]);
+            buffer.putInt(at + 8, nutrients.get(n).scale());
+        }
+
+        // コードはASCIIのみのため、Stringの比較順とUTF-8バイト列の比較順は一致する
+        Integer[] byCode = new Integer[foods.size()];
+        for (int i = 0; i < byCode.length; i++) {
+            byCode[i] = i;
+        }
+        Arrays.sort(byCode, Comparator.comparing(i -> foods.get(i).code()));
+        for (int k = 0; k < byCode.length; k++) {
+            int at = keyIndexOffset + k * ReferenceDbFormat.KEY_ENTRY_SIZE;
+            buffer.putInt(at, codeRefs[byCode[k]]);
+            buffer.putInt(at + 4, byCode[k]);
+        }
+
+        for (int i = 0; i < foods.size(); i++) {
+            int at = recordsOffset + i * recordSize;
+            buffer.putInt(at, codeRefs[i]);
+            buffer.putInt(at + 4, nameRefs[i]);
+            int[] values = foods.get(i).values();
+            for (int n = 0; n < nutrientCount; n++) {
+                buffer.putInt(at + ReferenceDbFormat.RECORD_FIXED_SIZE + n * 4, values[n]);
+            }
+        }
+        buffer.put(poolOffset, poolBytes);
+
+        Path absolute = path.toAbsolutePath();
+        Path temp = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                buffer.rewind();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void validate(List<ReferenceNutrient> nutrients, List<ReferenceFoodEntry> foods) {
+        Set<String> nutrientCodes = new HashSet<>();
+        for (ReferenceNutrient nutrient : nutrients) {
+            if (!ReferenceDbFormat.isValidCode(nutrient.code()) || !nutrientCodes.add(nutrient.code())) {
+                throw new IllegalArgumentException("Invalid or duplicate nutrient code: " + nutrient.code());
+            }
+            if (nutrient.unit() == null || nutrient.scale() < 0 || nutrient.scale() > 6) {
+                throw new IllegalArgumentException("Invalid unit or scale for nutrient: " + nutrient.code());
+            }
+        }
+        Set<String> foodCodes = new HashSet<>();
+        for (ReferenceFoodEntry food : foods) {
+            if (!ReferenceDbFormat.isValidCode(food.code()) || !foodCodes.add(food.code())) {
+                throw new IllegalArgumentException("Invalid or duplicate food code: " + food.code());
+            }
+            if (food.name() == null || food.values() == null || food.values().length != nutrients.size()) {
+                throw new IllegalArgumentException("Name and one value per nutrient are required: " + food.code());
+            }
+        }
+    }
+
+    /** 重複を除いた文字列プール */
+    private static final class StringPool {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final Map<String, Integer> offsets = new HashMap<>();
+
+        int add(String value) {
+            Integer existing = offsets.get(value);
+            if (existing != null) {
+                return existing;
+            }
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            if (utf8.length > ReferenceDbFormat.MAX_STRING_BYTES) {
+                throw new IllegalArgumentException("String too long for reference database: " + utf8.length + " bytes");
+            }
+            int offset = bytes.size();
+            bytes.write(utf8.length >>> 8);
+            bytes.write(utf8.length);
+            bytes.write(utf8, 0, utf8.length);
+            offsets.put(value, offset);
+            return offset;
+        }
+
+        byte[] toByteArray() {
+            return bytes.toByteArray();
+        }
+    }
+}
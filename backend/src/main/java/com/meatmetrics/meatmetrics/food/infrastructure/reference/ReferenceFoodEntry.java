@@ -0,0 +1,12 @@
+package com.meatmetrics.meatmetrics.food.infrastructure.reference;
+
+/**
+ * 参照データベースに書き込む食品1件（書き込み用）
+ *
+ * @param code 食品コード（ASCII英数字・アンダースコア・ハイフン、例: 食品成分表の食品番号）
+ * @param name 食品名
+ * @param values 栄養素定義と並列の値（{@link ReferenceNutrient#scale()} 倍した整数、欠測は {@link ReferenceDb#MISSING}）
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public record ReferenceFoodEntry(String code, String name, int[] values) {}
@@ -0,0 +1,14 @@
+package com.meatmetrics.meatmetrics.food.infrastructure.reference;
+
+/**
+ * 参照データベースの栄養素定義
+ *
+ * <p>値は {@code 実際の値 × 10^scale} の整数で保持します（例: scale=2 の "protein_g" で 1234 は 12.34g）。</p>
+ *
+ * @param code 栄養素コード（ASCII英数字・アンダースコア、例: "protein_g"）
+ * @param unit 単位（例: "g", "mg", "kcal"）
+ * @param scale 小数桁数（0〜6）
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public record ReferenceNutrient(String code, String unit, int scale) {}
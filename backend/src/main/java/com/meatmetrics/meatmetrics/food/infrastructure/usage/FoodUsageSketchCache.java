@@ -0,0 +1,111 @@
+package com.meatmetrics.meatmetrics.food.infrastructure.usage;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.meatmetrics.meatmetrics.config.CustomFoodProperties;
+import com.meatmetrics.meatmetrics.config.FoodUsageProperties;
+import com.meatmetrics.meatmetrics.food.domain.usage.FoodUsageSketch;
+import com.meatmetrics.meatmetrics.meal.domain.event.MealLoggedEvent;
+
+/**
+ * アクティブユーザーの食材使用頻度を保持するキャッシュ
+ *
+ * <p>初回アクセス時にユーザーの直近の明細を1回だけ集計して {@link FoodUsageSketch} を作り、
+ * 以降は食事の記録（{@link MealLoggedEvent}）のたびにメモリ上で更新します。入力補完のたびの集計は行いません。
+ * 保持期間は独自食材オーバーレイと同じで、一定時間アクセスのないユーザーは定期的に破棄します。</p>
+ *
+ * <p>集計はマップの外で行い、終わってから {@code putIfAbsent} で登録します。集計中のユーザーにはまだエントリがないため、
+ * その間の記録イベントはスケッチに加えません（集計がコミット済みの明細として読んでいれば反映済み）。
+ * 集計を {@code computeIfAbsent} の中で行うと、集計後に待たされたイベントが集計結果に重ねて数えられるためです。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Component
+public class FoodUsageSketchCache {
+
+    /** スケッチと最終アクセス時刻 */
+    private static final class Entry {
+        private volatile FoodUsageSketch sketch;
+        private volatile long lastAccessMillis;
+
+        private Entry(FoodUsageSketch sketch, long now) {
+            this.sketch = sketch;
+            this.lastAccessMillis = now;
+        }
+    }
+
+    private final ConcurrentMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final JdbcFoodUsageRepository repository;
+    private final FoodUsageProperties properties;
+    private final CustomFoodProperties cacheProperties;
+
+    public FoodUsageSketchCache(JdbcFoodUsageRepository repository, FoodUsageProperties properties,
+                                CustomFoodProperties cacheProperties) {
+        this.repository = repository;
+        this.properties = properties;
+        this.cacheProperties = cacheProperties;
+    }
+
+    /**
+     * ユーザーのスケッチを取得する（未読み込みの場合は集計して読み込む）
+     *
+     * @param userId ユーザーID
+     * @return スケッチ
+     */
+    public FoodUsageSketch get(long userId) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(userId);
+        if (entry == null) {
+            Entry loaded = new Entry(load(userId, now), now);
+            Entry existing = entries.putIfAbsent(userId, loaded);
+            entry = existing == null ? loaded : existing;
+        }
+        entry.lastAccessMillis = now;
+        return entry.sketch;
+    }
+
+    /**
+     * 記録された食材をキャッシュ済みのスケッチに反映する（未読み込み・集計中のユーザーには反映しない）
+     *
+     * @param event 食事記録イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMealLogged(MealLoggedEvent event) {
+        long at = event.loggedAt().toEpochMilli();
+        entries.computeIfPresent(event.userId(), (id, entry) -> {
+            FoodUsageSketch sketch = entry.sketch;
+            for (long foodId : event.foodIds()) {
+                sketch = sketch.record(foodId, at);
+            }
+            entry.sketch = sketch;
+            return entry;
+        });
+    }
+
+    /**
+     * 一定時間アクセスのないユーザーのスケッチを破棄する
+     */
+    @Scheduled(initialDelayString = "${food.custom.evict-interval-ms:60000}",
+               fixedDelayString = "${food.custom.evict-interval-ms:60000}")
+    public void evictIdle() {
+        long threshold = System.currentTimeMillis() - cacheProperties.getIdleTtlMs();
+        entries.values().removeIf(entry -> entry.lastAccessMillis < threshold);
+    }
+
+    private FoodUsageSketch load(long userId, long now) {
+        Instant landmark = Instant.ofEpochMilli(now);
+        LocalDate since = LocalDate.ofInstant(landmark, ZoneOffset.UTC).minusDays(properties.getLookbackDays());
+        return FoodUsageSketch.of(
+                repository.loadUsages(userId, since, landmark, properties.getHalfLifeMillis(), properties.getCapacity()),
+                properties.getCapacity(), properties.getHalfLifeMillis(), now);
+    }
+}
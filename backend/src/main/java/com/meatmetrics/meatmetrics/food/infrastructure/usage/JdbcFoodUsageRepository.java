@@ -0,0 +1,67 @@
+package com.meatmetrics.meatmetrics.food.infrastructure.usage;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.meatmetrics.meatmetrics.food.domain.usage.FoodUsageSketch.Usage;
+
+/**
+ * ユーザーの食事明細から食材の使用頻度を集計する
+ *
+ * <p>キャッシュへの初回読み込み時だけ使用し、検索のたびには呼び出しません。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Repository
+public class JdbcFoodUsageRepository {
+
+    /**
+     * 明細ごとに 2^((記録日時 - 基準時刻) / 半減期) を合計する（基準時刻より前の記録ほど小さい）
+     * 食事日の条件は明細にも指定する（パーティションの絞り込みは結合条件から推論されないため）
+     */
+    private static final String SELECT_USAGES = """
+            SELECT mi.food_id,
+                   SUM(power(2.0, EXTRACT(EPOCH FROM (mi.created_at - ?))::float8 * 1000 / ?)) AS score
+            FROM meals m
+            INNER JOIN meal_items mi ON mi.meal_id = m.id AND mi.meal_date = m.meal_date
+            WHERE m.user_id = ?
+              AND m.meal_date >= ?
+              AND mi.meal_date >= ?
+              AND m.is_deleted = false
+              AND mi.is_deleted = false
+            GROUP BY mi.food_id
+            ORDER BY score DESC, mi.food_id
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcFoodUsageRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * ユーザーの食材ごとのスコアを読み込む
+     *
+     * @param userId ユーザーID
+     * @param since 集計対象の最初の食事日
+     * @param landmark 基準時刻
+     * @param halfLifeMillis 半減期（ミリ秒）
+     * @param limit 最大件数（スコアの高い順）
+     * @return 食材ごとのスコア
+     */
+    @Transactional(readOnly = true)
+    public List<Usage> loadUsages(long userId, LocalDate since, Instant landmark, long halfLifeMillis, int limit) {
+        return jdbcTemplate.query(SELECT_USAGES,
+                (rs, rowNum) -> new Usage(rs.getLong("food_id"), rs.getDouble("score")),
+                Timestamp.from(landmark), halfLifeMillis, userId, Date.valueOf(since), Date.valueOf(since), limit);
+    }
+}
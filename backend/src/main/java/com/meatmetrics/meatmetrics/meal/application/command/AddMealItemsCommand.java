@@ -0,0 +1,32 @@
+package com.meatmetrics.meatmetrics.meal.application.command;
+
+/**
+ * 食事枠（日付・食事の種類）への明細の追加のためのコマンドオブジェクト
+ *
+ * <p>食事がまだない場合は作成し、記録済みの食材は摂取量を加算します。値の検証はハンドラーで行います。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public class AddMealItemsCommand {
+
+    /** 記録するユーザーID */
+    private final Long userId;
+
+    /** 食事枠と追加する明細 */
+    private final LogMealsCommand.Meal meal;
+
+    /**
+     * 全項目指定コンストラクタ
+     *
+     * @param userId 記録するユーザーID
+     * @param meal 食事枠と追加する明細
+     */
+    public AddMealItemsCommand(Long userId, LogMealsCommand.Meal meal) {
+        this.userId = userId;
+        this.meal = meal;
+    }
+
+    public Long getUserId() { return userId; }
+    public LogMealsCommand.Meal getMeal() { return meal; }
+}
@@ -0,0 +1,46 @@
+package com.meatmetrics.meatmetrics.meal.application.command;
+
+import java.time.LocalDate;
+
+/**
+ * 食事のコピー（食事1件、または1日分）のためのコマンドオブジェクト
+ *
+ * <p>コピー元は食事IDと食事日のいずれか一方を指定します。値の検証はハンドラーで行います。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public class CopyMealsCommand {
+
+    /** 記録するユーザーID */
+    private final Long userId;
+
+    /** コピー元の食事ID（食事1件をコピーする場合） */
+    private final Long sourceMealId;
+
+    /** コピー元の食事日（1日分をコピーする場合） */
+    private final LocalDate sourceDate;
+
+    /** コピー先の食事日 */
+    private final LocalDate targetDate;
+
+    /**
+     * 全項目指定コンストラクタ
+     *
+     * @param userId 記録するユーザーID
+     * @param sourceMealId コピー元の食事ID
+     * @param sourceDate コピー元の食事日
+     * @param targetDate コピー先の食事日
+     */
+    public CopyMealsCommand(Long userId, Long sourceMealId, LocalDate sourceDate, LocalDate targetDate) {
+        this.userId = userId;
+        this.sourceMealId = sourceMealId;
+        this.sourceDate = sourceDate;
+        this.targetDate = targetDate;
+    }
+
+    public Long getUserId() { return userId; }
+    public Long getSourceMealId() { return sourceMealId; }
+    public LocalDate getSourceDate() { return sourceDate; }
+    public LocalDate getTargetDate() { return targetDate; }
+}
@@ -0,0 +1,60 @@
+package com.meatmetrics.meatmetrics.meal.application.command;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 食事記録（複数件まとめて）のためのコマンドオブジェクト
+ *
+ * <p>値の検証はハンドラーで行います。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public class LogMealsCommand {
+
+    /**
+     * 食事1件
+     *
+     * @param mealDate 食事日
+     * @param mealType 食事の種類（BREAKFAST, LUNCH, DINNER, SNACK）
+     * @param notes メモ（任意）
+     * @param items 明細
+     */
+    public record Meal(LocalDate mealDate, String mealType, String notes, List<Item> items) {
+        public Meal {
+            items = items == null ? List.of() : List.copyOf(items);
+        }
+    }
+
+    /**
+     * 明細1件
+     *
+     * @param foodId 食材ID
+     * @param quantityG 摂取量（調理後のg）
+     * @param cookingMethod 調理方法（省略時は raw）
+     * @param notes メモ（任意）
+     */
+    public record Item(Long foodId, BigDecimal quantityG, String cookingMethod, String notes) {}
+
+    /** 記録するユーザーID */
+    private final Long userId;
+
+    /** 食事 */
+    private final List<Meal> meals;
+
+    /**
+     * 全項目指定コンストラクタ
+     *
+     * @param userId 記録するユーザーID
+     * @param meals 食事
+     */
+    public LogMealsCommand(Long userId, List<Meal> meals) {
+        this.userId = userId;
+        this.meals = meals == null ? List.of() : List.copyOf(meals);
+    }
+
+    public Long getUserId() { return userId; }
+    public List<Meal> getMeals() { return meals; }
+}
@@ -0,0 +1,49 @@
+package com.meatmetrics.meatmetrics.meal.application.command;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * オフラインで記録した食事の変更（差分同期の送信）のためのコマンドオブジェクト
+ *
+ * <p>食事はクライアントが生成したIDで識別します。値の検証はハンドラーで行います。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public class PushMealChangesCommand {
+
+    /**
+     * 記録・変更した食事1件（明細を含む食事全体の状態）
+     *
+     * @param clientId クライアントID
+     * @param meal 食事と明細
+     */
+    public record Change(UUID clientId, LogMealsCommand.Meal meal) {}
+
+    /** 記録するユーザーID */
+    private final Long userId;
+
+    /** 記録・変更した食事（送信順） */
+    private final List<Change> meals;
+
+    /** 削除した食事のクライアントID */
+    private final List<UUID> deletedClientIds;
+
+    /**
+     * 全項目指定コンストラクタ
+     *
+     * @param userId 記録するユーザーID
+     * @param meals 記録・変更した食事（送信順）
+     * @param deletedClientIds 削除した食事のクライアントID
+     */
+    public PushMealChangesCommand(Long userId, List<Change> meals, List<UUID> deletedClientIds) {
+        this.userId = userId;
+        this.meals = meals == null ? List.of() : List.copyOf(meals);
+        this.deletedClientIds = deletedClientIds == null ? List.of() : List.copyOf(deletedClientIds);
+    }
+
+    public Long getUserId() { return userId; }
+    public List<Change> getMeals() { return meals; }
+    public List<UUID> getDeletedClientIds() { return deletedClientIds; }
+}
@@ -0,0 +1,103 @@
+package com.meatmetrics.meatmetrics.meal.application.handler;
+
+import java.time.Clock;
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.meatmetrics.meatmetrics.api.meal.dto.response.MealResponse;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodCatalog;
+import com.meatmetrics.meatmetrics.food.domain.custom.CustomFoodOverlay;
+import com.meatmetrics.meatmetrics.food.domain.exception.InvalidCookingMethodException;
+import com.meatmetrics.meatmetrics.food.infrastructure.catalog.FoodCatalogService;
+import com.meatmetrics.meatmetrics.food.infrastructure.custom.CustomFoodOverlayCache;
+import com.meatmetrics.meatmetrics.meal.application.command.AddMealItemsCommand;
+import com.meatmetrics.meatmetrics.meal.application.handler.MealDraftResolver.ResolvedMeal;
+import com.meatmetrics.meatmetrics.meal.domain.event.MealLoggedEvent;
+import com.meatmetrics.meatmetrics.meal.domain.exception.InvalidMealException;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.JdbcMealSlotRepository;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.JdbcMealSlotRepository.ItemRow;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.MealJpaRepository;
+
+/**
+ * 食事枠への明細追加サービス
+ *
+ * <p>今日の夕食に食材を足す、といった追記を、食事の作成と明細の追加のいずれも INSERT ... ON CONFLICT DO UPDATE で行います。
+ * 食事がなければ作成し、同じ食材が記録済みであれば摂取量を加算します（加算後の摂取量も上限を超えられません）。
+ * 複数の端末から同じ食事枠へ同時に追加しても、いずれも1回の試行で成功します
+ * （後から来た書き込みは食事の行ロックを待ってから加算に切り替わる）。</p>
+ *
+ * <p>明細は食材ID順に1文で書き込むため、同時に追加する端末どうしでロックの順序が揃います。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Service
+public class AddMealItemsHandler {
+
+    private final FoodCatalogService foodCatalogService;
+    private final CustomFoodOverlayCache customFoodOverlayCache;
+    private final JdbcMealSlotRepository mealSlotRepository;
+    private final MealJpaRepository mealJpaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+
+    /**
+     * コンストラクタインジェクション
+     *
+     * @param foodCatalogService 食材カタログ
+     * @param customFoodOverlayCache ユーザー別の独自食材
+     * @param mealSlotRepository 食事枠への書き込み
+     * @param mealJpaRepository 食事リポジトリ（応答の読み込み用）
+     * @param eventPublisher 食事記録イベントの発行
+     * @param clock 現在時刻（食事日の上限の基準）
+     */
+    public AddMealItemsHandler(FoodCatalogService foodCatalogService,
+                               CustomFoodOverlayCache customFoodOverlayCache,
+                               JdbcMealSlotRepository mealSlotRepository,
+                               MealJpaRepository mealJpaRepository,
+                               ApplicationEventPublisher eventPublisher,
+                               Clock clock) {
+        this.foodCatalogService = foodCatalogService;
+        this.customFoodOverlayCache = customFoodOverlayCache;
+        this.mealSlotRepository = mealSlotRepository;
+        this.mealJpaRepository = mealJpaRepository;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+    }
+
+    /**
+     * 明細追加処理
+     *
+     * @param command 明細追加コマンド
+     * @return 追加後の食事（有効な明細全て）
+     * @throws InvalidMealException 日付・食事の種類・明細が不正、存在しない食材、
+     *                              記録済みの食材と調理方法が異なる、または加算後の摂取量が上限を超える場合
+     * @throws InvalidCookingMethodException 不明な調理方法の場合
+     */
+    @Transactional
+    public MealResponse addItems(AddMealItemsCommand command) {
+        FoodCatalog catalog = foodCatalogService.current();
+        CustomFoodOverlay customFoods = customFoodOverlayCache.get(command.getUserId());
+        ResolvedMeal meal = MealDraftResolver.resolveMeal(command.getMeal(), catalog, customFoods,
+                MealDraftResolver.maxMealDate(clock));
+        List<ItemRow> rows = MealDraftResolver.toItemRows(meal.mealDate(), meal.items());
+
+        long mealId = mealSlotRepository.upsertMeal(command.getUserId(), meal.mealDate(), meal.mealType().name(),
+                meal.notes());
+        List<Long> written = mealSlotRepository.upsertItems(mealId, meal.mealDate(), rows);
+        if (written.size() != rows.size()) {
+            List<ItemRow> skipped = rows.stream().filter(row -> !written.contains(row.foodId())).toList();
+            if (!mealSlotRepository.findQuantityOverflows(mealId, meal.mealDate(), skipped).isEmpty()) {
+                throw MealDraftResolver.quantityOutOfRange();
+            }
+            throw new InvalidMealException("Food already logged with a different cooking method: "
+                    + skipped.stream().map(ItemRow::foodId).toList());
+        }
+
+        eventPublisher.publishEvent(new MealLoggedEvent(command.getUserId(), written, clock.instant()));
+        return MealResponse.from(mealJpaRepository.findById(mealId).orElseThrow());
+    }
+}
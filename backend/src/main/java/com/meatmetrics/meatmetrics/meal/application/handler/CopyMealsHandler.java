@@ -0,0 +1,92 @@
+package com.meatmetrics.meatmetrics.meal.application.handler;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.meatmetrics.meatmetrics.api.meal.dto.response.MealResponse;
+import com.meatmetrics.meatmetrics.meal.application.command.CopyMealsCommand;
+import com.meatmetrics.meatmetrics.meal.domain.event.MealLoggedEvent;
+import com.meatmetrics.meatmetrics.meal.domain.exception.InvalidMealException;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.JdbcMealCopyRepository;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.JdbcMealCopyRepository.CopyResult;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.MealJpaRepository;
+
+/**
+ * 食事コピーサービス
+ *
+ * <p>前日と同じ食事を記録し直す、といった操作を、クライアントから明細ごとに送り直すのではなく
+ * サーバー側の1文（INSERT ... SELECT）で行います。明細の栄養成分はコピー元の値をそのまま引き継ぎます。</p>
+ *
+ * <p>コピー先の食事枠に記録済みの食事はコピーせず、それ以外の食事だけをコピーします。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Service
+public class CopyMealsHandler {
+
+    private final JdbcMealCopyRepository mealCopyRepository;
+    private final MealJpaRepository mealJpaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+
+    /**
+     * コンストラクタインジェクション
+     *
+     * @param mealCopyRepository 食事のコピー
+     * @param mealJpaRepository 食事リポジトリ（応答の読み込み用）
+     * @param eventPublisher 食事記録イベントの発行
+     * @param clock 現在時刻（食事日の上限の基準）
+     */
+    public CopyMealsHandler(JdbcMealCopyRepository mealCopyRepository,
+                            MealJpaRepository mealJpaRepository,
+                            ApplicationEventPublisher eventPublisher,
+                            Clock clock) {
+        this.mealCopyRepository = mealCopyRepository;
+        this.mealJpaRepository = mealJpaRepository;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+    }
+
+    /**
+     * 食事コピー処理
+     *
+     * @param command 食事コピーコマンド
+     * @return コピーした食事（ID順、コピー先に記録済みの食事枠の分は含まれない）
+     * @throws InvalidMealException コピー元の指定・コピー先の日付が不正な場合
+     * @throws NoSuchElementException コピー元の食事が存在しない場合
+     */
+    @Transactional
+    public List<MealResponse> copyMeals(CopyMealsCommand command) {
+        boolean byMeal = command.getSourceMealId() != null;
+        if (byMeal == (command.getSourceDate() != null)) {
+            throw new InvalidMealException("Specify either a source meal or a source date");
+        }
+        MealDraftResolver.validateMealDate(command.getTargetDate(), MealDraftResolver.maxMealDate(clock));
+        if (!byMeal && command.getSourceDate().equals(command.getTargetDate())) {
+            throw new InvalidMealException("Target date must differ from the source date");
+        }
+
+        CopyResult result = byMeal
+                ? mealCopyRepository.copyMeal(command.getUserId(), command.getSourceMealId(), command.getTargetDate())
+                : mealCopyRepository.copyDay(command.getUserId(), command.getSourceDate(), command.getTargetDate());
+        if (result.mealIds().isEmpty()) {
+            // コピー先が全て記録済みか、コピー元が存在しないかを区別する（コピーできなかった場合のみ）
+            boolean sourceExists = byMeal
+                    ? mealJpaRepository.existsByIdAndUserIdAndDeletedFalse(command.getSourceMealId(), command.getUserId())
+                    : mealJpaRepository.existsByUserIdAndMealDateAndDeletedFalse(command.getUserId(), command.getSourceDate());
+            if (!sourceExists) {
+                throw new NoSuchElementException("Source meal not found");
+            }
+            return List.of();
+        }
+
+        eventPublisher.publishEvent(new MealLoggedEvent(command.getUserId(), result.foodIds(), clock.instant()));
+        return mealJpaRepository.findByIdInOrderByIdAsc(result.mealIds()).stream().map(MealResponse::from).toList();
+    }
+}
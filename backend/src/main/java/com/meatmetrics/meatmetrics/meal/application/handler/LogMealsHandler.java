@@ -0,0 +1,138 @@
+package com.meatmetrics.meatmetrics.meal.application.handler;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.meatmetrics.meatmetrics.api.meal.dto.response.MealResponse;
+import com.meatmetrics.meatmetrics.food.infrastructure.catalog.FoodCatalogService;
+import com.meatmetrics.meatmetrics.food.infrastructure.custom.CustomFoodOverlayCache;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodCatalog;
+import com.meatmetrics.meatmetrics.food.domain.custom.CustomFoodOverlay;
+import com.meatmetrics.meatmetrics.food.domain.exception.InvalidCookingMethodException;
+import com.meatmetrics.meatmetrics.meal.application.command.LogMealsCommand;
+import com.meatmetrics.meatmetrics.meal.application.handler.MealDraftResolver.ResolvedItem;
+import com.meatmetrics.meatmetrics.meal.application.handler.MealDraftResolver.ResolvedMeal;
+import com.meatmetrics.meatmetrics.meal.domain.event.MealLoggedEvent;
+import com.meatmetrics.meatmetrics.meal.domain.exception.InvalidMealException;
+import com.meatmetrics.meatmetrics.meal.domain.nutrition.MealItemNutritionBatch;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.MealEntity;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.MealItemEntity;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.MealJpaRepository;
+
+/**
+ * 食事記録サービス
+ *
+ * <p>1リクエストで複数の食事（1日分など）とその明細をまとめて記録します。
+ * 食材と調理係数はインメモリのカタログから解決し、リクエスト内の全明細の栄養成分を
+ * {@link MealItemNutritionBatch} で1回にまとめて計算します（DBのトリガーと同じ式・丸め）。
+ * 計算値と栄養成分のバージョンをINSERTに含めるため、DB側で明細ごとに食材を参照することはなく、
+ * レスポンスの値も保存後に読み直す必要がありません。</p>
+ *
+ * <p>IDはシーケンスから50件単位で確保済みのため、INSERTの前にIDを採番する往復は発生しません。
+ * 食事・明細のINSERTはコミット時にテーブルごとのJDBCバッチにまとめられ、
+ * {@code reWriteBatchedInserts} により複数行のINSERT文としてDBへ送られます。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Service
+public class LogMealsHandler {
+
+    private final FoodCatalogService foodCatalogService;
+    private final CustomFoodOverlayCache customFoodOverlayCache;
+    private final MealJpaRepository mealJpaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+
+    /**
+     * コンストラクタインジェクション
+     *
+     * @param foodCatalogService 食材カタログ
+     * @param customFoodOverlayCache ユーザー別の独自食材
+     * @param mealJpaRepository 食事リポジトリ
+     * @param eventPublisher 食事記録イベントの発行
+     * @param clock 現在時刻（食事日の上限の基準）
+     */
+    public LogMealsHandler(FoodCatalogService foodCatalogService,
+                           CustomFoodOverlayCache customFoodOverlayCache,
+                           MealJpaRepository mealJpaRepository,
+                           ApplicationEventPublisher eventPublisher,
+                           Clock clock) {
+        this.foodCatalogService = foodCatalogService;
+        this.customFoodOverlayCache = customFoodOverlayCache;
+        this.mealJpaRepository = mealJpaRepository;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+    }
+
+    /**
+     * 食事記録処理
+     *
+     * @param command 食事記録コマンド
+     * @return 記録した食事（リクエストの順）
+     * @throws InvalidMealException 日付・食事の種類・明細が不正、または存在しない食材の場合
+     * @throws InvalidCookingMethodException 不明な調理方法の場合
+     */
+    @Transactional
+    public List<MealResponse> logMeals(LogMealsCommand command) {
+        if (command.getMeals().isEmpty()) {
+            throw new InvalidMealException("At least one meal is required");
+        }
+        FoodCatalog catalog = foodCatalogService.current();
+        CustomFoodOverlay customFoods = customFoodOverlayCache.get(command.getUserId());
+        LocalDate maxDate = MealDraftResolver.maxMealDate(clock);
+        Set<String> mealKeys = new HashSet<>();
+        List<ResolvedMeal> resolved = new ArrayList<>(command.getMeals().size());
+        int itemCount = 0;
+        for (LogMealsCommand.Meal draft : command.getMeals()) {
+            ResolvedMeal meal = MealDraftResolver.resolveMeal(draft, catalog, customFoods, maxDate);
+            if (!mealKeys.add(meal.mealDate() + "/" + meal.mealType())) {
+                throw new InvalidMealException("Duplicate meal in request: " + meal.mealDate() + " " + meal.mealType());
+            }
+            resolved.add(meal);
+            itemCount += meal.items().size();
+        }
+
+        // 全明細を1回で計算する（識別子は採番前のためリクエスト内の連番）
+        MealItemNutritionBatch batch = new MealItemNutritionBatch(itemCount);
+        for (int m = 0; m < resolved.size(); m++) {
+            for (ResolvedItem item : resolved.get(m).items()) {
+                batch.add(batch.size(), m, resolved.get(m).mealDate(), item.food(), item.quantityG(), item.factors());
+            }
+        }
+        batch.calculate();
+
+        List<MealEntity> meals = new ArrayList<>(resolved.size());
+        int index = 0;
+        for (ResolvedMeal draft : resolved) {
+            MealEntity meal = new MealEntity(command.getUserId(), draft.mealDate(), draft.mealType().name(), draft.notes());
+            for (ResolvedItem item : draft.items()) {
+                meal.addItem(new MealItemEntity(item.food().id(), batch.foodVersion(index), item.quantityG(),
+                        item.method().code(),
+                        item.factors().calories(), item.factors().protein(), item.factors().fat(), item.factors().netCarbs(),
+                        batch.calories(index), batch.proteinG(index), batch.fatG(index), batch.netCarbsG(index),
+                        item.notes()));
+                index++;
+            }
+            meals.add(meal);
+        }
+
+        mealJpaRepository.saveAll(meals);
+
+        Instant loggedAt = clock.instant();
+        for (MealEntity meal : meals) {
+            List<Long> foodIds = meal.getItems().stream().map(MealItemEntity::getFoodId).toList();
+            eventPublisher.publishEvent(new MealLoggedEvent(command.getUserId(), foodIds, loggedAt));
+        }
+        return meals.stream().map(MealResponse::from).toList();
+    }
+}
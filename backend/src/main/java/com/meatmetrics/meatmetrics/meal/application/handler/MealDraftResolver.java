@@ -0,0 +1,177 @@
+package com.meatmetrics.meatmetrics.meal.application.handler;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodCatalog;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodSnapshot;
+import com.meatmetrics.meatmetrics.food.domain.cooking.CookingFactors;
+import com.meatmetrics.meatmetrics.food.domain.cooking.CookingMethod;
+import com.meatmetrics.meatmetrics.food.domain.custom.CustomFoodOverlay;
+import com.meatmetrics.meatmetrics.food.domain.exception.InvalidCookingMethodException;
+import com.meatmetrics.meatmetrics.meal.application.command.LogMealsCommand;
+import com.meatmetrics.meatmetrics.meal.domain.exception.InvalidMealException;
+import com.meatmetrics.meatmetrics.meal.domain.meal.MealType;
+import com.meatmetrics.meatmetrics.meal.domain.nutrition.MealItemNutritionBatch;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.JdbcMealSlotRepository.ItemRow;
+
+/**
+ * 食事の入力値の検証と、カタログによる食材・調理係数の解決
+ *
+ * <p>食事記録と明細の追加で共通の検証（日付・食事の種類・摂取量・調理方法・食事内の食材の重複）を行います。
+ * 範囲はいずれもDBのCHECK制約と同じです。</p>
+ *
+ * <p>食材は、独自食材のID（負の値）であれば記録するユーザーのオーバーレイから、それ以外は共有カタログから解決します。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+final class MealDraftResolver {
+
+    /** meals.meal_date の下限（DBのCHECK制約と同じ） */
+    private static final LocalDate MIN_MEAL_DATE = LocalDate.of(2020, 1, 1);
+    /** meals.meal_date の上限（今日からの日数、DBのCHECK制約と同じ） */
+    private static final int MAX_DAYS_AHEAD = 7;
+    /** meal_items.quantity_g の上限（DBのCHECK制約と同じ） */
+    private static final BigDecimal MAX_QUANTITY_G = new BigDecimal("10000");
+    private static final int QUANTITY_SCALE = 2;
+
+    private MealDraftResolver() {}
+
+    /** 検証・解決済みの食事 */
+    record ResolvedMeal(LocalDate mealDate, MealType mealType, String notes, List<ResolvedItem> items) {}
+
+    /** 検証・解決済みの明細 */
+    record ResolvedItem(FoodSnapshot food, BigDecimal quantityG, CookingMethod method,
+                        CookingFactors factors, String notes) {}
+
+    /**
+     * @param clock 現在時刻（タイムゾーンはDBの CURRENT_DATE と同じ、{@link com.meatmetrics.meatmetrics.config.ClockConfig}）
+     * @return 記録できる食事日の上限（今日から {@value #MAX_DAYS_AHEAD} 日後）
+     */
+    static LocalDate maxMealDate(Clock clock) {
+        return LocalDate.now(clock).plusDays(MAX_DAYS_AHEAD);
+    }
+
+    /**
+     * 食事1件を検証し、明細の食材と調理係数を解決する
+     *
+     * @param draft 食事
+     * @param catalog 食材カタログ
+     * @param customFoods 記録するユーザーの独自食材
+     * @param maxDate 食事日の上限
+     * @return 解決済みの食事
+     * @throws InvalidMealException 日付・食事の種類・明細が不正、または存在しない食材の場合
+     * @throws InvalidCookingMethodException 不明な調理方法の場合
+     */
+    static ResolvedMeal resolveMeal(LogMealsCommand.Meal draft, FoodCatalog catalog, CustomFoodOverlay customFoods,
+                                    LocalDate maxDate) {
+        LocalDate mealDate = draft.mealDate();
+        validateMealDate(mealDate, maxDate);
+        MealType mealType;
+        try {
+            mealType = MealType.fromCode(draft.mealType());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidMealException(e.getMessage());
+        }
+        if (draft.items().isEmpty()) {
+            throw new InvalidMealException("At least one item is required: " + mealDate + " " + mealType);
+        }
+
+        Set<Long> foodIds = new HashSet<>();
+        List<ResolvedItem> items = new ArrayList<>(draft.items().size());
+        for (LogMealsCommand.Item item : draft.items()) {
+            if (item.foodId() == null || !foodIds.add(item.foodId())) {
+                throw new InvalidMealException("Food must be specified once per meal: " + item.foodId());
+            }
+            items.add(resolveItem(item, catalog, customFoods));
+        }
+        return new ResolvedMeal(mealDate, mealType, draft.notes(), items);
+    }
+
+    /**
+     * 食事日を検証する
+     *
+     * @param mealDate 食事日
+     * @param maxDate 食事日の上限
+     * @throws InvalidMealException 食事日が未指定、または範囲外の場合
+     */
+    static void validateMealDate(LocalDate mealDate, LocalDate maxDate) {
+        if (mealDate == null || mealDate.isBefore(MIN_MEAL_DATE) || mealDate.isAfter(maxDate)) {
+            throw new InvalidMealException("Meal date must be between " + MIN_MEAL_DATE + " and " + maxDate);
+        }
+    }
+
+    /**
+     * 明細の栄養成分を計算し、食材ID順の書き込み用の行にする
+     *
+     * @param mealDate 食事日
+     * @param items 解決済みの明細（食材の重複なし）
+     * @return 書き込み用の明細（食材ID順）
+     */
+    static List<ItemRow> toItemRows(LocalDate mealDate, List<ResolvedItem> items) {
+        List<ResolvedItem> sorted = new ArrayList<>(items);
+        sorted.sort(Comparator.comparingLong(item -> item.food().id()));
+
+        MealItemNutritionBatch batch = new MealItemNutritionBatch(sorted.size());
+        for (ResolvedItem item : sorted) {
+            batch.add(batch.size(), 0, mealDate, item.food(), item.quantityG(), item.factors());
+        }
+        batch.calculate();
+
+        List<ItemRow> rows = new ArrayList<>(sorted.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            ResolvedItem item = sorted.get(i);
+            rows.add(new ItemRow(item.food().id(), batch.foodVersion(i), item.quantityG(), item.method().code(),
+                    item.factors().calories(), item.factors().protein(), item.factors().fat(), item.factors().netCarbs(),
+                    batch.calories(i), batch.proteinG(i), batch.fatG(i), batch.netCarbsG(i), item.notes()));
+        }
+        return rows;
+    }
+
+    private static ResolvedItem resolveItem(LogMealsCommand.Item item, FoodCatalog catalog,
+                                            CustomFoodOverlay customFoods) {
+        BigDecimal quantityG = normalizeQuantity(item.quantityG());
+        CookingMethod method = parseMethod(item.cookingMethod());
+        FoodSnapshot food = (CustomFoodOverlay.isCustomFoodId(item.foodId())
+                ? customFoods.find(item.foodId()) : catalog.find(item.foodId()))
+                .orElseThrow(() -> new InvalidMealException("Food not found: " + item.foodId()));
+        CookingFactors factors = catalog.cookingFactors().factors(food.categoryId(), method);
+        return new ResolvedItem(food, quantityG, method, factors, item.notes());
+    }
+
+    /** 摂取量を meal_items.quantity_g の精度に揃える（丸めが必要な値は不正とする） */
+    private static BigDecimal normalizeQuantity(BigDecimal quantityG) {
+        if (quantityG == null || quantityG.signum() <= 0 || quantityG.compareTo(MAX_QUANTITY_G) > 0) {
+            throw quantityOutOfRange();
+        }
+        try {
+            return quantityG.setScale(QUANTITY_SCALE, RoundingMode.UNNECESSARY);
+        } catch (ArithmeticException e) {
+            throw new InvalidMealException("Quantity must have at most " + QUANTITY_SCALE + " decimal places");
+        }
+    }
+
+    /** 摂取量が範囲外の場合の例外（記録済みの明細に加算した摂取量が上限を超える場合も同じ） */
+    static InvalidMealException quantityOutOfRange() {
+        return new InvalidMealException("Quantity must be greater than 0 and at most " + MAX_QUANTITY_G + "g");
+    }
+
+    private static CookingMethod parseMethod(String cookingMethod) {
+        if (cookingMethod == null || cookingMethod.isBlank()) {
+            return CookingMethod.RAW;
+        }
+        try {
+            return CookingMethod.fromCode(cookingMethod);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCookingMethodException(e.getMessage());
+        }
+    }
+}
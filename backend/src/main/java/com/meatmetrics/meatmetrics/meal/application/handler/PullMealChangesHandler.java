@@ -0,0 +1,90 @@
+package com.meatmetrics.meatmetrics.meal.application.handler;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.meatmetrics.meatmetrics.api.meal.dto.response.MealChangesResponse;
+import com.meatmetrics.meatmetrics.meal.domain.exception.InvalidMealException;
+import com.meatmetrics.meatmetrics.meal.domain.sync.MealChangeCursor;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.JdbcMealSyncRepository;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.JdbcMealSyncRepository.ChangePage;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.JdbcMealSyncRepository.ChangedMeal;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.MealEntity;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.MealJpaRepository;
+
+/**
+ * 食事の差分取得サービス
+ *
+ * <p>前回の同期以降に変更された食事（削除を含む）を変更の順に返します。
+ * 日付ごとに食事を取得し直す必要がないため、久しぶりに起動したクライアントも1回の小さなリクエストで追いつけます。</p>
+ *
+ * <p>初回の同期（読み出し位置なし）では削除済みの食事を返しません。</p>
+ *
+ * <p>読み出し位置がパージ済みの墓標より前の場合、削除を伝えられないため全件同期からやり直します（応答の {@code reset}）。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Service
+public class PullMealChangesHandler {
+
+    private final JdbcMealSyncRepository mealSyncRepository;
+    private final MealJpaRepository mealJpaRepository;
+
+    /**
+     * コンストラクタインジェクション
+     *
+     * @param mealSyncRepository 差分同期の読み出し
+     * @param mealJpaRepository 食事リポジトリ（明細の読み込み用）
+     */
+    public PullMealChangesHandler(JdbcMealSyncRepository mealSyncRepository, MealJpaRepository mealJpaRepository) {
+        this.mealSyncRepository = mealSyncRepository;
+        this.mealJpaRepository = mealJpaRepository;
+    }
+
+    /**
+     * 差分取得処理
+     *
+     * @param userId 認証済みユーザーID
+     * @param cursor 前回の応答の読み出し位置（初回はnull）
+     * @param limit 最大件数
+     * @return 変更された食事と次回の読み出し位置
+     * @throws InvalidMealException 読み出し位置の形式が不正な場合
+     */
+    @Transactional(readOnly = true)
+    public MealChangesResponse pull(Long userId, String cursor, int limit) {
+        MealChangeCursor after = cursor == null ? MealChangeCursor.INITIAL : MealChangeCursor.parse(cursor);
+        boolean includeDeleted = cursor != null;
+        boolean reset = false;
+        if (!after.fullSync() && after.isBefore(mealSyncRepository.findPurgedThrough())) {
+            after = MealChangeCursor.INITIAL;
+            includeDeleted = false;
+            reset = true;
+        }
+        ChangePage page = mealSyncRepository.findChanges(userId, after, includeDeleted, limit);
+        List<ChangedMeal> changed = page.meals();
+
+        Map<Long, MealEntity> meals = mealJpaRepository
+                .findByIdInOrderByIdAsc(changed.stream().map(ChangedMeal::mealId).toList()).stream()
+                .collect(Collectors.toMap(MealEntity::getId, Function.identity()));
+        List<MealChangesResponse.Meal> responses = changed.stream()
+                .map(change -> meals.get(change.mealId()))
+                .filter(Objects::nonNull)
+                .map(MealChangesResponse.Meal::from)
+                .toList();
+
+        // ページが埋まった場合は最後の食事の位置から（全件同期の途中はそのまま）、
+        // そうでなければ読み出し位置の上限から差分同期として続ける
+        boolean hasMore = changed.size() == limit;
+        MealChangeCursor next = hasMore
+                ? changed.get(changed.size() - 1).cursor().withFullSync(after.fullSync())
+                : page.horizon().max(after).withFullSync(false);
+        return new MealChangesResponse(responses, next.toString(), hasMore, reset);
+    }
+}
@@ -0,0 +1,158 @@
+package com.meatmetrics.meatmetrics.meal.application.handler;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.meatmetrics.meatmetrics.api.meal.dto.response.PushMealChangesResponse;
+import com.meatmetrics.meatmetrics.api.meal.dto.response.PushMealChangesResponse.Result;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodCatalog;
+import com.meatmetrics.meatmetrics.food.domain.custom.CustomFoodOverlay;
+import com.meatmetrics.meatmetrics.food.infrastructure.catalog.FoodCatalogService;
+import com.meatmetrics.meatmetrics.food.infrastructure.custom.CustomFoodOverlayCache;
+import com.meatmetrics.meatmetrics.meal.application.command.PushMealChangesCommand;
+import com.meatmetrics.meatmetrics.meal.application.handler.MealDraftResolver.ResolvedMeal;
+import com.meatmetrics.meatmetrics.meal.domain.event.MealLoggedEvent;
+import com.meatmetrics.meatmetrics.meal.domain.exception.InvalidMealException;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.JdbcMealSlotRepository.ItemRow;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.JdbcMealSyncRepository;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.JdbcMealSyncRepository.StoredMeal;
+import com.meatmetrics.meatmetrics.sharedkernel.domain.common.exception.DomainException;
+
+/**
+ * 食事の変更の送信サービス（差分同期）
+ *
+ * <p>オフラインで記録・変更・削除した食事を、クライアントが生成したIDで識別してまとめて反映します。
+ * 記録・変更は明細を含む食事全体の状態で送られ、サーバーの食事をその状態に置き換えます（後勝ち）。
+ * 同じ変更の再送は同じ結果になるため、通信が途切れた場合もそのまま送り直せます。</p>
+ *
+ * <ul>
+ *   <li>削除を先に、記録・変更を送信順に反映する（食事枠を空けてから別の食事を記録できるように）</li>
+ *   <li>食事枠を移動した食事は、元の食事枠を削除してから移動先に記録する</li>
+ *   <li>移動先の食事枠に他の端末で記録した有効な食事がある場合は反映せず、CONFLICT を返す</li>
+ *   <li>内容が不正な食事は反映せず REJECTED を返す（他の変更は反映する）</li>
+ * </ul>
+ *
+ * <p>同じユーザーの送信はトランザクション単位で直列化します（クライアントIDの一意性を保つため）。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Service
+public class PushMealChangesHandler {
+
+    private final FoodCatalogService foodCatalogService;
+    private final CustomFoodOverlayCache customFoodOverlayCache;
+    private final JdbcMealSyncRepository mealSyncRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+
+    /**
+     * コンストラクタインジェクション
+     *
+     * @param foodCatalogService 食材カタログ
+     * @param customFoodOverlayCache ユーザー別の独自食材
+     * @param mealSyncRepository 差分同期の書き込み
+     * @param eventPublisher 食事記録イベントの発行
+     * @param clock 現在時刻（食事日の上限の基準）
+     */
+    public PushMealChangesHandler(FoodCatalogService foodCatalogService,
+                                  CustomFoodOverlayCache customFoodOverlayCache,
+                                  JdbcMealSyncRepository mealSyncRepository,
+                                  ApplicationEventPublisher eventPublisher,
+                                  Clock clock) {
+        this.foodCatalogService = foodCatalogService;
+        this.customFoodOverlayCache = customFoodOverlayCache;
+        this.mealSyncRepository = mealSyncRepository;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+    }
+
+    /**
+     * 変更の送信処理
+     *
+     * @param command 変更の送信コマンド
+     * @return 変更ごとの結果（削除・記録の順）
+     * @throws InvalidMealException 同じクライアントIDが複数回指定された場合
+     * @throws DataIntegrityViolationException 食事枠が同時に他の端末で記録された場合（送り直せば反映される）
+     */
+    @Transactional
+    public PushMealChangesResponse push(PushMealChangesCommand command) {
+        Set<UUID> clientIds = new HashSet<>();
+        for (UUID clientId : command.getDeletedClientIds()) {
+            requireOnce(clientIds, clientId);
+        }
+        for (PushMealChangesCommand.Change change : command.getMeals()) {
+            requireOnce(clientIds, change.clientId());
+        }
+
+        long userId = command.getUserId();
+        mealSyncRepository.lockUser(userId);
+        List<Result> results = new ArrayList<>(clientIds.size());
+        for (UUID clientId : command.getDeletedClientIds()) {
+            Optional<StoredMeal> meal = mealSyncRepository.lockByClientId(userId, clientId);
+            meal.filter(m -> !m.deleted()).ifPresent(m -> mealSyncRepository.deleteMeal(m.id(), m.mealDate(), false));
+            results.add(Result.deleted(clientId, meal.map(StoredMeal::id).orElse(null)));
+        }
+
+        FoodCatalog catalog = foodCatalogService.current();
+        CustomFoodOverlay customFoods = customFoodOverlayCache.get(userId);
+        LocalDate maxDate = MealDraftResolver.maxMealDate(clock);
+        List<Long> loggedFoodIds = new ArrayList<>();
+        for (PushMealChangesCommand.Change change : command.getMeals()) {
+            results.add(apply(userId, change, catalog, customFoods, maxDate, loggedFoodIds));
+        }
+
+        if (!loggedFoodIds.isEmpty()) {
+            eventPublisher.publishEvent(new MealLoggedEvent(userId, loggedFoodIds, clock.instant()));
+        }
+        return new PushMealChangesResponse(results);
+    }
+
+    private Result apply(long userId, PushMealChangesCommand.Change change, FoodCatalog catalog,
+                         CustomFoodOverlay customFoods, LocalDate maxDate, List<Long> loggedFoodIds) {
+        ResolvedMeal meal;
+        try {
+            meal = MealDraftResolver.resolveMeal(change.meal(), catalog, customFoods, maxDate);
+        } catch (DomainException e) {
+            return Result.rejected(change.clientId(), e.getMessage());
+        }
+        String mealType = meal.mealType().name();
+
+        Optional<StoredMeal> current = mealSyncRepository.lockByClientId(userId, change.clientId());
+        Optional<StoredMeal> occupant = mealSyncRepository.lockActiveSlot(userId, meal.mealDate(), mealType);
+        if (occupant.isPresent() && (current.isEmpty() || occupant.get().id() != current.get().id())) {
+            return Result.conflict(change.clientId(), occupant.get().id());
+        }
+        if (current.isPresent() && !isSameSlot(current.get(), meal.mealDate(), mealType)) {
+            mealSyncRepository.deleteMeal(current.get().id(), current.get().mealDate(), true);
+        }
+
+        long mealId = mealSyncRepository.saveMeal(userId, change.clientId(), meal.mealDate(), mealType, meal.notes())
+                .orElseThrow(() -> new DataIntegrityViolationException(
+                        "Meal slot was logged concurrently: " + meal.mealDate() + " " + mealType));
+        List<ItemRow> rows = MealDraftResolver.toItemRows(meal.mealDate(), meal.items());
+        loggedFoodIds.addAll(mealSyncRepository.replaceItems(mealId, meal.mealDate(), rows));
+        return Result.applied(change.clientId(), mealId);
+    }
+
+    private static boolean isSameSlot(StoredMeal meal, LocalDate mealDate, String mealType) {
+        return meal.mealDate().equals(mealDate) && meal.mealType().equals(mealType);
+    }
+
+    private static void requireOnce(Set<UUID> clientIds, UUID clientId) {
+        if (!clientIds.add(clientId)) {
+            throw new InvalidMealException("Client id must be specified once per request: " + clientId);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.meatmetrics.meatmetrics.meal.application.handler;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import org.springframework.stereotype.Service;
+
+import com.meatmetrics.meatmetrics.api.food.dto.response.MealNutritionRecomputeResponse;
+import com.meatmetrics.meatmetrics.meal.infrastructure.recompute.MealNutritionRecomputeRunner;
+
+/**
+ * 食事明細の栄養成分一括再計算サービス
+ *
+ * <p>食材の栄養成分を訂正した後、訂正前のバージョンを参照している明細と食事の合計を
+ * バックグラウンドで計算し直します。ジョブは同時に1件までで、進捗はチェックポイントとして記録されます。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Service
+public class RecomputeMealNutritionHandler {
+
+    private final MealNutritionRecomputeRunner runner;
+
+    /**
+     * コンストラクタ
+     *
+     * @param runner 再計算ジョブの実行
+     */
+    public RecomputeMealNutritionHandler(MealNutritionRecomputeRunner runner) {
+        this.runner = runner;
+    }
+
+    /**
+     * 再計算ジョブを開始する
+     *
+     * @param foodIds 対象の食材ID（null・空の場合は古いバージョンを参照する全明細）
+     * @param adminUserId 実行する管理者のユーザーID
+     * @return 開始したジョブ、実行中のジョブがある場合はそのジョブ
+     */
+    public MealNutritionRecomputeResponse start(List<Long> foodIds, long adminUserId) {
+        List<Long> targets = foodIds == null ? List.of() : foodIds.stream().filter(Objects::nonNull).distinct().sorted().toList();
+        return MealNutritionRecomputeResponse.from(runner.start(targets, adminUserId));
+    }
+
+    /**
+     * 最後に開始したジョブの状態を返す
+     *
+     * @return ジョブの状態
+     * @throws NoSuchElementException ジョブが1件もない場合
+     */
+    public MealNutritionRecomputeResponse getLatest() {
+        return runner.latest()
+                .map(MealNutritionRecomputeResponse::from)
+                .orElseThrow(() -> new NoSuchElementException("No meal nutrition recompute job found"));
+    }
+}
@@ -0,0 +1,25 @@
+package com.meatmetrics.meatmetrics.meal.domain.event;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 食事が記録されたことを表すイベント
+ *
+ * <p>食事記録のトランザクション内で発行し、購読側はコミット後に受け取ります
+ * （ユーザーの食材使用頻度など、インメモリの集計を更新するため）。</p>
+ *
+ * @param userId ユーザーID
+ * @param foodIds 記録した食材ID（明細ごと、同じ食材の重複を含む）
+ * @param loggedAt 記録日時
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public record MealLoggedEvent(long userId, List<Long> foodIds, Instant loggedAt) {
+
+    public MealLoggedEvent {
+        foodIds = List.copyOf(foodIds);
+        Objects.requireNonNull(loggedAt, "loggedAt");
+    }
+}
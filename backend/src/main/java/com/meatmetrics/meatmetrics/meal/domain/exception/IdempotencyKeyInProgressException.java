@@ -0,0 +1,14 @@
+package com.meatmetrics.meatmetrics.meal.domain.exception;
+
+import com.meatmetrics.meatmetrics.sharedkernel.domain.common.exception.DomainException;
+
+/**
+ * 冪等キー処理中例外
+ * 同じ冪等キーの行が確保済みなのに、確定した応答を読み出せない場合に発生（再送すれば保存済みの応答が返る）。
+ */
+public class IdempotencyKeyInProgressException extends DomainException {
+
+    public IdempotencyKeyInProgressException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.meatmetrics.meatmetrics.meal.domain.exception;
+
+import com.meatmetrics.meatmetrics.sharedkernel.domain.common.exception.DomainException;
+
+/**
+ * 冪等キー再利用例外
+ * 保存済みの冪等キーが、初回とは異なる内容のリクエストで再び送信された場合に発生。
+ */
+public class IdempotencyKeyReusedException extends DomainException {
+
+    public IdempotencyKeyReusedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.meatmetrics.meatmetrics.meal.domain.exception;
+
+import com.meatmetrics.meatmetrics.sharedkernel.domain.common.exception.DomainException;
+
+/**
+ * 冪等キー不正例外
+ * Idempotency-Keyヘッダーの値が長すぎる、または使用できない文字を含む場合に発生。
+ */
+public class InvalidIdempotencyKeyException extends DomainException {
+
+    public InvalidIdempotencyKeyException(String message) {
+        super(message);
+    }
+}
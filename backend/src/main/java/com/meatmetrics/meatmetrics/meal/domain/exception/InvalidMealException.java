@@ -0,0 +1,14 @@
+package com.meatmetrics.meatmetrics.meal.domain.exception;
+
+import com.meatmetrics.meatmetrics.sharedkernel.domain.common.exception.DomainException;
+
+/**
+ * 食事記録不正例外
+ * 食事の日付・種類、明細の食材・摂取量・調理方法が記録できない値の場合に発生。
+ */
+public class InvalidMealException extends DomainException {
+
+    public InvalidMealException(String message) {
+        super(message);
+    }
+}
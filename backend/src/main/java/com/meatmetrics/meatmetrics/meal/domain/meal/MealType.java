@@ -0,0 +1,41 @@
+package com.meatmetrics.meatmetrics.meal.domain.meal;
+
+import java.util.Locale;
+
+/**
+ * 食事の種類（meals.meal_type）
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public enum MealType {
+
+    /** 朝食 */
+    BREAKFAST,
+    /** 昼食 */
+    LUNCH,
+    /** 夕食 */
+    DINNER,
+    /** 間食 */
+    SNACK;
+
+    /**
+     * API入力から食事の種類を解決する（大文字小文字を区別しない）
+     *
+     * @param value 値（例: "dinner", "DINNER"）
+     * @return 食事の種類
+     * @throws IllegalArgumentException 不明な値の場合
+     */
+    public static MealType fromCode(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Meal type cannot be null");
+        }
+        String normalized = value.trim().toUpperCase(Locale.ROOT);
+        for (MealType type : values()) {
+            if (type.name().equals(normalized)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown meal type: " + value);
+    }
+}
@@ -0,0 +1,207 @@
+package com.meatmetrics.meatmetrics.meal.domain.nutrition;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodSnapshot;
+import com.meatmetrics.meatmetrics.food.domain.cooking.CookingFactors;
+
+/**
+ * 食事明細の栄養成分をまとめて計算するバッファ（struct of arrays）
+ *
+ * <p>明細ごとの入力（摂取量・調理係数・食材の100gあたり栄養成分）と計算結果を、列ごとのプリミティブ配列で保持します。
+ * 値は全て固定小数点の整数（摂取量・栄養成分は1/100単位、係数は1/10000単位）で、
+ * {@link #calculate()} は分岐のない単純なループのため、JITによる自動ベクトル化が効きます。</p>
+ *
+ * <p>計算は calculate_meal_item_nutrition() と同じ式・丸めです。
+ * 入力はいずれも0以上（テーブルのCHECK制約）のため、ROUND(numeric) の四捨五入は
+ * {@code (x + 半単位) / 単位} の整数除算と一致します。積の最大値は約2×10^17で long に収まります。</p>
+ *
+ * <p>一括再計算ではDBから読んだ固定小数点の値をそのまま、食事記録ではインメモリのカタログの食材を渡して詰めます。
+ * 1インスタンスを使い回し、チャンクごとに {@link #clear()} してから {@link #add} で詰めます。スレッドセーフではありません。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public final class MealItemNutritionBatch {
+
+    /** 栄養成分 × 摂取量 × 係数 の積（1/10^8単位）を1/100単位・1単位に丸めるための除数 */
+    private static final long UNIT = 100_000_000L;
+    private static final long HALF_UNIT = UNIT / 2;
+
+    private final int capacity;
+    private int size;
+
+    // 入力
+    private final long[] itemIds;
+    private final long[] mealIds;
+    private final long[] mealEpochDays;
+    private final int[] foodVersions;
+    private final long[] quantityCentiG;
+    private final int[] caloriesFactorE4;
+    private final int[] proteinFactorE4;
+    private final int[] fatFactorE4;
+    private final int[] netCarbsFactorE4;
+    private final int[] caloriesPer100g;
+    private final long[] proteinCentiGPer100g;
+    private final long[] fatCentiGPer100g;
+    private final long[] netCarbsCentiGPer100g;
+
+    // 計算結果
+    private final int[] calories;
+    private final long[] proteinCentiG;
+    private final long[] fatCentiG;
+    private final long[] netCarbsCentiG;
+
+    /**
+     * @param capacity 最大件数（チャンクサイズ）
+     */
+    public MealItemNutritionBatch(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.itemIds = new long[capacity];
+        this.mealIds = new long[capacity];
+        this.mealEpochDays = new long[capacity];
+        this.foodVersions = new int[capacity];
+        this.quantityCentiG = new long[capacity];
+        this.caloriesFactorE4 = new int[capacity];
+        this.proteinFactorE4 = new int[capacity];
+        this.fatFactorE4 = new int[capacity];
+        this.netCarbsFactorE4 = new int[capacity];
+        this.caloriesPer100g = new int[capacity];
+        this.proteinCentiGPer100g = new long[capacity];
+        this.fatCentiGPer100g = new long[capacity];
+        this.netCarbsCentiGPer100g = new long[capacity];
+        this.calories = new int[capacity];
+        this.proteinCentiG = new long[capacity];
+        this.fatCentiG = new long[capacity];
+        this.netCarbsCentiG = new long[capacity];
+    }
+
+    /**
+     * 明細を1件追加する
+     *
+     * @param itemId 明細ID
+     * @param mealId 食事ID
+     * @param mealDate 食事日（パーティションキー、書き戻しで食事・明細を特定する）
+     * @param foodVersion 計算に使う栄養成分のバージョン
+     * @param quantity 摂取量（1/100g単位）
+     * @param caloriesFactor カロリー係数（1/10000単位）
+     * @param proteinFactor タンパク質係数（1/10000単位）
+     * @param fatFactor 脂質係数（1/10000単位）
+     * @param netCarbsFactor 正味炭水化物係数（1/10000単位）
+     * @param foodCalories 100gあたりカロリー（kcal）
+     * @param foodProtein 100gあたりタンパク質（1/100g単位）
+     * @param foodFat 100gあたり脂質（1/100g単位）
+     * @param foodNetCarbs 100gあたり正味炭水化物（1/100g単位）
+     * @throws IllegalStateException 容量を超える場合
+     */
+    public void add(long itemId, long mealId, LocalDate mealDate, int foodVersion, long quantity,
+                    int caloriesFactor, int proteinFactor, int fatFactor, int netCarbsFactor,
+                    int foodCalories, long foodProtein, long foodFat, long foodNetCarbs) {
+        if (size == capacity) {
+            throw new IllegalStateException("Batch is full: " + capacity);
+        }
+        int i = size++;
+        itemIds[i] = itemId;
+        mealIds[i] = mealId;
+        mealEpochDays[i] = mealDate.toEpochDay();
+        foodVersions[i] = foodVersion;
+        quantityCentiG[i] = quantity;
+        caloriesFactorE4[i] = caloriesFactor;
+        proteinFactorE4[i] = proteinFactor;
+        fatFactorE4[i] = fatFactor;
+        netCarbsFactorE4[i] = netCarbsFactor;
+        caloriesPer100g[i] = foodCalories;
+        proteinCentiGPer100g[i] = foodProtein;
+        fatCentiGPer100g[i] = foodFat;
+        netCarbsCentiGPer100g[i] = foodNetCarbs;
+    }
+
+    /**
+     * 食材カタログの食材から明細を1件追加する
+     *
+     * @param itemId 明細の識別子（採番前の場合は呼び出し側の連番）
+     * @param mealId 食事の識別子（採番前の場合は呼び出し側の連番）
+     * @param mealDate 食事日
+     * @param food 食材（栄養成分のバージョンと100gあたりの値）
+     * @param quantityG 摂取量（小数2桁以内のg）
+     * @param factors 調理係数（小数4桁）
+     * @throws ArithmeticException 摂取量・係数の桁が固定小数点に収まらない場合
+     * @throws IllegalStateException 容量を超える場合
+     */
+    public void add(long itemId, long mealId, LocalDate mealDate, FoodSnapshot food, BigDecimal quantityG,
+                    CookingFactors factors) {
+        add(itemId, mealId, mealDate, food.nutritionVersion(), quantityG.movePointRight(2).longValueExact(),
+                toE4(factors.calories()), toE4(factors.protein()), toE4(factors.fat()), toE4(factors.netCarbs()),
+                food.caloriesPer100g(), food.proteinCentiG(), food.fatCentiG(), food.netCarbsCentiG());
+    }
+
+    private static int toE4(BigDecimal factor) {
+        return factor.movePointRight(CookingFactors.SCALE).intValueExact();
+    }
+
+    /**
+     * 追加済みの全明細の栄養成分を計算する
+     *
+     * <p>kcal × 1/100g × 1/10000 = 1/10^6 kcal・g を100gで割るため、1単位への丸めは 10^8 で割ります。
+     * g（1/100単位）× 1/100g × 1/10000 の場合も同様に、1/100g単位への丸めは 10^8 で割ります。</p>
+     */
+    public void calculate() {
+        int n = size;
+        for (int i = 0; i < n; i++) {
+            calories[i] = (int) ((caloriesPer100g[i] * quantityCentiG[i] * caloriesFactorE4[i] + HALF_UNIT) / UNIT);
+        }
+        for (int i = 0; i < n; i++) {
+            proteinCentiG[i] = (proteinCentiGPer100g[i] * quantityCentiG[i] * proteinFactorE4[i] + HALF_UNIT) / UNIT;
+        }
+        for (int i = 0; i < n; i++) {
+            fatCentiG[i] = (fatCentiGPer100g[i] * quantityCentiG[i] * fatFactorE4[i] + HALF_UNIT) / UNIT;
+        }
+        for (int i = 0; i < n; i++) {
+            netCarbsCentiG[i] = (netCarbsCentiGPer100g[i] * quantityCentiG[i] * netCarbsFactorE4[i] + HALF_UNIT) / UNIT;
+        }
+    }
+
+    /**
+     * 空にする（配列は再利用する）
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * @return 追加済みの件数
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return 最大件数
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return 最後に追加した明細ID（チェックポイント）、空の場合は-1
+     */
+    public long lastItemId() {
+        return size == 0 ? -1 : itemIds[size - 1];
+    }
+
+    public long itemId(int i) { return itemIds[i]; }
+    public long mealId(int i) { return mealIds[i]; }
+    public LocalDate mealDate(int i) { return LocalDate.ofEpochDay(mealEpochDays[i]); }
+    public int foodVersion(int i) { return foodVersions[i]; }
+    public int calories(int i) { return calories[i]; }
+    public long proteinCentiG(int i) { return proteinCentiG[i]; }
+    public long fatCentiG(int i) { return fatCentiG[i]; }
+    public long netCarbsCentiG(int i) { return netCarbsCentiG[i]; }
+    public BigDecimal proteinG(int i) { return BigDecimal.valueOf(proteinCentiG[i], 2); }
+    public BigDecimal fatG(int i) { return BigDecimal.valueOf(fatCentiG[i], 2); }
+    public BigDecimal netCarbsG(int i) { return BigDecimal.valueOf(netCarbsCentiG[i], 2); }
+}
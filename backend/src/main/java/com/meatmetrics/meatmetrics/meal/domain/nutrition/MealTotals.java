@@ -0,0 +1,36 @@
+package com.meatmetrics.meatmetrics.meal.domain.nutrition;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * 食事の栄養合計
+ *
+ * @param calories 合計カロリー（kcal）
+ * @param proteinG 合計タンパク質（g）
+ * @param fatG 合計脂質（g）
+ * @param netCarbsG 合計正味炭水化物（g）
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public record MealTotals(int calories, BigDecimal proteinG, BigDecimal fatG, BigDecimal netCarbsG) {
+
+    public MealTotals {
+        Objects.requireNonNull(proteinG, "proteinG");
+        Objects.requireNonNull(fatG, "fatG");
+        Objects.requireNonNull(netCarbsG, "netCarbsG");
+    }
+
+    /**
+     * 値が一致するか（小数の桁数の違いは無視する）
+     *
+     * @param other 比較対象
+     * @return 全ての値が等しい場合true
+     */
+    public boolean matches(MealTotals other) {
+        return calories == other.calories
+                && proteinG.compareTo(other.proteinG) == 0
+                && fatG.compareTo(other.fatG) == 0
+                && netCarbsG.compareTo(other.netCarbsG) == 0;
+    }
+}
@@ -0,0 +1,97 @@
+package com.meatmetrics.meatmetrics.meal.domain.sync;
+
+import com.meatmetrics.meatmetrics.meal.domain.exception.InvalidMealException;
+
+/**
+ * 差分同期の読み出し位置（食事の変更の印 (change_xid, change_seq) のキーセット）
+ *
+ * <p>クライアントには {@code "<トランザクションID>-<連番>"} の不透明な文字列として渡し、
+ * 次回の同期でそのまま送り返してもらいます。</p>
+ *
+ * <p>全件同期（初回、またはリセット後）の途中の位置には {@code "f"} を前に付けます。
+ * 全件同期の途中ではパージ済みの位置との比較（リセットの判定）を行わないため、
+ * 読み出し中にパージが進んでもリセットを繰り返しません。</p>
+ *
+ * @param xid トランザクションID（この位置より後ろの変更を読む）
+ * @param seq 同じトランザクション内の連番
+ * @param fullSync 全件同期の途中の場合true
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public record MealChangeCursor(long xid, long seq, boolean fullSync) {
+
+    /** 全件同期の開始位置（全ての食事を読む） */
+    public static final MealChangeCursor INITIAL = new MealChangeCursor(0, 0, true);
+
+    private static final String FULL_SYNC_PREFIX = "f";
+
+    /**
+     * 差分同期の位置を生成する
+     *
+     * @param xid トランザクションID
+     * @param seq 同じトランザクション内の連番
+     */
+    public MealChangeCursor(long xid, long seq) {
+        this(xid, seq, false);
+    }
+
+    /**
+     * クライアントから受け取った文字列を読み出し位置に変換する
+     *
+     * @param value 読み出し位置の文字列
+     * @return 読み出し位置
+     * @throws InvalidMealException 形式が不正な場合
+     */
+    public static MealChangeCursor parse(String value) {
+        boolean fullSync = value.startsWith(FULL_SYNC_PREFIX);
+        String position = fullSync ? value.substring(FULL_SYNC_PREFIX.length()) : value;
+        int separator = position.indexOf('-');
+        try {
+            if (separator > 0) {
+                long xid = Long.parseLong(position.substring(0, separator));
+                long seq = Long.parseLong(position.substring(separator + 1));
+                if (xid >= 0 && seq >= 0) {
+                    return new MealChangeCursor(xid, seq, fullSync);
+                }
+            }
+        } catch (NumberFormatException e) {
+            // 下で不正な形式として扱う
+        }
+        throw new InvalidMealException("Invalid sync cursor: " + value);
+    }
+
+    /**
+     * 指定位置より前の位置か
+     *
+     * @param other 比較する位置
+     * @return 前の位置の場合true
+     */
+    public boolean isBefore(MealChangeCursor other) {
+        return xid != other.xid ? xid < other.xid : seq < other.seq;
+    }
+
+    /**
+     * 指定位置と比べて後ろの方の位置を返す
+     *
+     * @param other 比較する位置
+     * @return 後ろの方の位置
+     */
+    public MealChangeCursor max(MealChangeCursor other) {
+        return isBefore(other) ? other : this;
+    }
+
+    /**
+     * 全件同期の途中かどうかを指定した同じ位置を返す
+     *
+     * @param fullSync 全件同期の途中の場合true
+     * @return 位置
+     */
+    public MealChangeCursor withFullSync(boolean fullSync) {
+        return new MealChangeCursor(xid, seq, fullSync);
+    }
+
+    @Override
+    public String toString() {
+        return (fullSync ? FULL_SYNC_PREFIX : "") + xid + "-" + seq;
+    }
+}
@@ -0,0 +1,27 @@
+package com.meatmetrics.meatmetrics.meal.infrastructure.audit;
+
+import java.time.Instant;
+
+/**
+ * 監査の走査位置（meals の (updated_at, id) のキーセット）
+ *
+ * @param updatedAt 最後に監査した食事の更新日時
+ * @param mealId 最後に監査した食事ID
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public record AuditCursor(Instant updatedAt, long mealId) {
+
+    /**
+     * 指定時間だけ遡った位置を返す（遅れてコミットされた更新を拾い直すため）
+     *
+     * @param overlapMs 遡る時間（ミリ秒）
+     * @return 新しい位置（同じ時刻の食事は全て含む）
+     */
+    public AuditCursor rewind(long overlapMs) {
+        if (overlapMs <= 0) {
+            return this;
+        }
+        return new AuditCursor(updatedAt.minusMillis(overlapMs), 0);
+    }
+}
@@ -0,0 +1,257 @@
+package com.meatmetrics.meatmetrics.meal.infrastructure.audit;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.meatmetrics.meatmetrics.meal.domain.nutrition.MealTotals;
+
+/**
+ * 栄養合計の監査の読み書き
+ *
+ * <p>食事は (updated_at, id) のキーセット順に読み、保存済みの合計と、明細が参照するバージョンの
+ * 栄養成分から calculate_meal_item_nutrition() と同じ式で計算し直した合計を1回の集計で返します。</p>
+ *
+ * <p>修復は食事を (id, meal_date)、明細を (meal_id, meal_date) で特定し、食事日の月のパーティションだけを読み書きします。</p>
+ *
+ * <p>{@link #lockCursor} から {@link #saveCursor} までは呼び出し側の同じトランザクションで実行する前提です
+ * （走査位置の行ロックで、複数インスタンスの監査を直列化するため）。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Repository
+public class JdbcMealNutritionAuditRepository {
+
+    private static final String SELECT_BATCH = """
+            SELECT b.id, b.meal_date, b.updated_at,
+                   b.total_calories, b.total_protein_g, b.total_fat_g, b.total_net_carbs_g,
+                   COALESCE(SUM(ROUND((v.calories_per_100g * mi.quantity_g * mi.calories_factor / 100.0)::numeric, 0)::integer), 0)
+                       AS expected_calories,
+                   COALESCE(SUM(ROUND((v.protein_g_per_100g * mi.quantity_g * mi.protein_factor / 100.0)::numeric, 2)), 0.00)
+                       AS expected_protein_g,
+                   COALESCE(SUM(ROUND((v.fat_g_per_100g * mi.quantity_g * mi.fat_factor / 100.0)::numeric, 2)), 0.00)
+                       AS expected_fat_g,
+                   COALESCE(SUM(ROUND(((v.carbohydrates_g_per_100g - v.fiber_g_per_100g) * mi.quantity_g
+                                       * mi.net_carbs_factor / 100.0)::numeric, 2)), 0.00)
+                       AS expected_net_carbs_g
+            FROM (
+                SELECT id, meal_date, updated_at, total_calories, total_protein_g, total_fat_g, total_net_carbs_g
+                FROM meals
+                WHERE (updated_at, id) > (?, ?)
+                ORDER BY updated_at, id
+                LIMIT ?
+            ) b
+            LEFT JOIN meal_items mi ON mi.meal_id = b.id AND mi.meal_date = b.meal_date AND mi.is_deleted = false
+            LEFT JOIN meal_item_food_nutrition v ON v.food_id = mi.food_id AND v.version_no = mi.food_version
+            GROUP BY b.id, b.meal_date, b.updated_at, b.total_calories, b.total_protein_g, b.total_fat_g, b.total_net_carbs_g
+            ORDER BY b.updated_at, b.id
+            """;
+
+    private static final String UPSERT_MISMATCH = """
+            INSERT INTO meal_nutrition_mismatches (
+                meal_id, stored_calories, stored_protein_g, stored_fat_g, stored_net_carbs_g,
+                expected_calories, expected_protein_g, expected_fat_g, expected_net_carbs_g)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (meal_id) DO UPDATE SET
+                stored_calories = EXCLUDED.stored_calories,
+                stored_protein_g = EXCLUDED.stored_protein_g,
+                stored_fat_g = EXCLUDED.stored_fat_g,
+                stored_net_carbs_g = EXCLUDED.stored_net_carbs_g,
+                expected_calories = EXCLUDED.expected_calories,
+                expected_protein_g = EXCLUDED.expected_protein_g,
+                expected_fat_g = EXCLUDED.expected_fat_g,
+                expected_net_carbs_g = EXCLUDED.expected_net_carbs_g,
+                detected_at = CURRENT_TIMESTAMP,
+                repaired_at = NULL
+            """;
+
+    private static final String REPAIR_ITEMS = """
+            UPDATE meal_items mi
+            SET item_calories = c.calories, item_protein_g = c.protein_g, item_fat_g = c.fat_g,
+                item_net_carbs_g = c.net_carbs_g, updated_at = CURRENT_TIMESTAMP
+            FROM (
+                SELECT mi2.id, mi2.meal_date,
+                       ROUND((v.calories_per_100g * mi2.quantity_g * mi2.calories_factor / 100.0)::numeric, 0)::integer AS calories,
+                       ROUND((v.protein_g_per_100g * mi2.quantity_g * mi2.protein_factor / 100.0)::numeric, 2) AS protein_g,
+                       ROUND((v.fat_g_per_100g * mi2.quantity_g * mi2.fat_factor / 100.0)::numeric, 2) AS fat_g,
+                       ROUND(((v.carbohydrates_g_per_100g - v.fiber_g_per_100g) * mi2.quantity_g
+                              * mi2.net_carbs_factor / 100.0)::numeric, 2) AS net_carbs_g
+                FROM unnest(?::bigint[], ?::date[]) AS target(id, meal_date)
+                INNER JOIN meal_items mi2 ON mi2.meal_id = target.id AND mi2.meal_date = target.meal_date
+                INNER JOIN meal_item_food_nutrition v ON v.food_id = mi2.food_id AND v.version_no = mi2.food_version
+            ) c
+            WHERE mi.id = c.id AND mi.meal_date = c.meal_date
+              AND (mi.item_calories, mi.item_protein_g, mi.item_fat_g, mi.item_net_carbs_g)
+                  IS DISTINCT FROM (c.calories, c.protein_g, c.fat_g, c.net_carbs_g)
+            """;
+
+    private static final String REPAIR_MEAL_TOTALS = """
+            UPDATE meals m
+            SET total_calories = COALESCE(t.calories, 0),
+                total_protein_g = COALESCE(t.protein_g, 0.00),
+                total_fat_g = COALESCE(t.fat_g, 0.00),
+                total_net_carbs_g = COALESCE(t.net_carbs_g, 0.00),
+                updated_at = CURRENT_TIMESTAMP
+            FROM (
+                SELECT target.id AS meal_id, target.meal_date,
+                       SUM(mi.item_calories) AS calories,
+                       SUM(mi.item_protein_g) AS protein_g,
+                       SUM(mi.item_fat_g) AS fat_g,
+                       SUM(mi.item_net_carbs_g) AS net_carbs_g
+                FROM unnest(?::bigint[], ?::date[]) AS target(id, meal_date)
+                LEFT JOIN meal_items mi
+                    ON mi.meal_id = target.id AND mi.meal_date = target.meal_date AND mi.is_deleted = false
+                GROUP BY target.id, target.meal_date
+            ) t
+            WHERE m.id = t.meal_id AND m.meal_date = t.meal_date
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcMealNutritionAuditRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 走査位置の行をロックして読む（他のインスタンスが監査中の場合は待たずに空を返す）
+     *
+     * @return 走査位置、他のインスタンスが監査中の場合は空
+     */
+    public Optional<AuditCursor> lockCursor() {
+        return jdbcTemplate.query("""
+                SELECT last_updated_at, last_meal_id FROM meal_nutrition_audit_cursor
+                WHERE id = 1
+                FOR UPDATE SKIP LOCKED
+                """, (rs, rowNum) -> new AuditCursor(rs.getTimestamp("last_updated_at").toInstant(), rs.getLong("last_meal_id")))
+                .stream().findFirst();
+    }
+
+    /**
+     * 走査位置の続きから食事を読み、保存値と再計算値を返す
+     *
+     * @param from 走査位置（この位置より後ろの食事を読む）
+     * @param limit 最大件数
+     * @return 監査結果（(updated_at, id) 順）
+     */
+    public List<MealNutritionAuditRow> scan(AuditCursor from, int limit) {
+        return jdbcTemplate.query(SELECT_BATCH, JdbcMealNutritionAuditRepository::mapRow,
+                Timestamp.from(from.updatedAt()), from.mealId(), limit);
+    }
+
+    /**
+     * 不一致を記録する（同じ食事の記録は最新の値で置き換え、未修復に戻す）
+     *
+     * @param mismatches 不一致の食事
+     */
+    public void recordMismatches(List<MealNutritionAuditRow> mismatches) {
+        if (mismatches.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_MISMATCH, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                MealNutritionAuditRow row = mismatches.get(i);
+                ps.setLong(1, row.mealId());
+                setTotals(ps, 2, row.stored());
+                setTotals(ps, 6, row.expected());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return mismatches.size();
+            }
+        });
+    }
+
+    /**
+     * 一致を確認した食事の未修復の記録を削除する（別の経路で直った不一致）
+     *
+     * @param mealIds 一致した食事ID
+     */
+    public void clearResolved(List<Long> mealIds) {
+        if (mealIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update("DELETE FROM meal_nutrition_mismatches WHERE meal_id = ANY(?) AND repaired_at IS NULL",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", mealIds.toArray())));
+    }
+
+    /**
+     * 明細の値と食事の合計を、明細が参照するバージョンの栄養成分から計算し直して書き込む
+     *
+     * @param meals 修復する食事
+     * @return 書き換えた明細数
+     */
+    public int repair(List<MealNutritionAuditRow> meals) {
+        if (meals.isEmpty()) {
+            return 0;
+        }
+        Object[] ids = meals.stream().map(MealNutritionAuditRow::mealId).toArray();
+        Object[] dates = meals.stream().map(meal -> Date.valueOf(meal.mealDate())).toArray();
+        // 合計は最後に明細から集計し直すため、明細の差分トリガーは止める
+        jdbcTemplate.queryForObject("SELECT set_config('meatmetrics.bulk_nutrition_write', 'on', true)", String.class);
+        int repairedItems = jdbcTemplate.update(REPAIR_ITEMS, ps -> bindMeals(ps, ids, dates));
+        jdbcTemplate.update(REPAIR_MEAL_TOTALS, ps -> bindMeals(ps, ids, dates));
+        jdbcTemplate.queryForObject("SELECT set_config('meatmetrics.bulk_nutrition_write', 'off', true)", String.class);
+
+        jdbcTemplate.update("UPDATE meal_nutrition_mismatches SET repaired_at = CURRENT_TIMESTAMP WHERE meal_id = ANY(?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids)));
+        return repairedItems;
+    }
+
+    /**
+     * 走査位置を保存する
+     *
+     * @param cursor 最後に監査した食事の位置
+     */
+    public void saveCursor(AuditCursor cursor) {
+        jdbcTemplate.update("""
+                UPDATE meal_nutrition_audit_cursor
+                SET last_updated_at = ?, last_meal_id = ?, audited_at = CURRENT_TIMESTAMP
+                WHERE id = 1
+                """, Timestamp.from(cursor.updatedAt()), cursor.mealId());
+    }
+
+    /**
+     * @return 未修復の不一致の件数
+     */
+    public long countOpenMismatches() {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM meal_nutrition_mismatches WHERE repaired_at IS NULL", Long.class);
+        return count == null ? 0 : count;
+    }
+
+    private static void bindMeals(PreparedStatement ps, Object[] ids, Object[] dates) throws SQLException {
+        Connection connection = ps.getConnection();
+        ps.setArray(1, connection.createArrayOf("bigint", ids));
+        ps.setArray(2, connection.createArrayOf("date", dates));
+    }
+
+    private static void setTotals(PreparedStatement ps, int index, MealTotals totals) throws SQLException {
+        ps.setInt(index, totals.calories());
+        ps.setBigDecimal(index + 1, totals.proteinG());
+        ps.setBigDecimal(index + 2, totals.fatG());
+        ps.setBigDecimal(index + 3, totals.netCarbsG());
+    }
+
+    private static MealNutritionAuditRow mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new MealNutritionAuditRow(
+                rs.getLong("id"),
+                rs.getDate("meal_date").toLocalDate(),
+                rs.getTimestamp("updated_at").toInstant(),
+                new MealTotals(rs.getInt("total_calories"), rs.getBigDecimal("total_protein_g"),
+                        rs.getBigDecimal("total_fat_g"), rs.getBigDecimal("total_net_carbs_g")),
+                new MealTotals(rs.getInt("expected_calories"), rs.getBigDecimal("expected_protein_g"),
+                        rs.getBigDecimal("expected_fat_g"), rs.getBigDecimal("expected_net_carbs_g")));
+    }
+}
@@ -0,0 +1,27 @@
+package com.meatmetrics.meatmetrics.meal.infrastructure.audit;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import com.meatmetrics.meatmetrics.meal.domain.nutrition.MealTotals;
+
+/**
+ * 監査した食事1件分の保存値と再計算値
+ *
+ * @param mealId 食事ID
+ * @param mealDate 食事日（修復で食事・明細のパーティションを絞り込む）
+ * @param updatedAt 食事の更新日時（走査位置）
+ * @param stored 保存済みの合計
+ * @param expected 明細が参照するバージョンの栄養成分から計算し直した合計
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public record MealNutritionAuditRow(long mealId, LocalDate mealDate, Instant updatedAt, MealTotals stored, MealTotals expected) {
+
+    /**
+     * @return 保存値と再計算値が一致する場合true
+     */
+    public boolean isConsistent() {
+        return stored.matches(expected);
+    }
+}
@@ -0,0 +1,170 @@
+package com.meatmetrics.meatmetrics.meal.infrastructure.audit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import com.meatmetrics.meatmetrics.config.MealAuditProperties;
+
+/**
+ * 食事の栄養合計のバックグラウンド監査
+ *
+ * <p>書き込み時の整合性チェックの代わりに、最近更新された食事を一定間隔でまとめて検証します。
+ * 1バッチは1トランザクションで、走査位置の行ロック → 食事の読み込みと再計算 → 不一致の記録（と修復）→ 走査位置の保存 を行います。
+ * 他のインスタンスが監査中の場合は何もせずに終了します。</p>
+ *
+ * <h3>メトリクス:</h3>
+ * <ul>
+ *   <li>meal.nutrition.audit.checked - 監査した食事数</li>
+ *   <li>meal.nutrition.audit.mismatches - 検出した不一致の数</li>
+ *   <li>meal.nutrition.audit.repaired - 自動修復した食事数</li>
+ *   <li>meal.nutrition.audit.open - 未修復の不一致の数（最後の実行時点）</li>
+ * </ul>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Component
+public class MealNutritionAuditor {
+
+    private static final Logger log = LoggerFactory.getLogger(MealNutritionAuditor.class);
+
+    private final JdbcMealNutritionAuditRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final MealAuditProperties properties;
+    private final Counter checked;
+    private final Counter mismatches;
+    private final Counter repaired;
+    private final AtomicLong openMismatches = new AtomicLong();
+
+    public MealNutritionAuditor(JdbcMealNutritionAuditRepository repository,
+                                TransactionTemplate transactionTemplate,
+                                MealAuditProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.checked = Counter.builder("meal.nutrition.audit.checked")
+                .description("監査した食事数").register(meterRegistry);
+        this.mismatches = Counter.builder("meal.nutrition.audit.mismatches")
+                .description("栄養合計の不一致を検出した食事数").register(meterRegistry);
+        this.repaired = Counter.builder("meal.nutrition.audit.repaired")
+                .description("自動修復した食事数").register(meterRegistry);
+        Gauge.builder("meal.nutrition.audit.open", openMismatches, AtomicLong::get)
+                .description("未修復の不一致の数").register(meterRegistry);
+    }
+
+    /**
+     * 定期監査
+     */
+    @Scheduled(initialDelayString = "${meal.audit.interval-ms:300000}",
+               fixedDelayString = "${meal.audit.interval-ms:300000}")
+    public void scheduledAudit() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            audit();
+        } catch (DataAccessException e) {
+            log.warn("Meal nutrition audit failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 走査位置の続きから、最大 {@link MealAuditProperties#getMaxBatchesPerRun()} バッチを監査する
+     *
+     * @return 監査した食事数
+     */
+    public int audit() {
+        int total = 0;
+        AuditCursor position = null;
+        for (int i = 0; i < properties.getMaxBatchesPerRun(); i++) {
+            AuditCursor from = position;
+            BatchResult result = transactionTemplate.execute(status -> auditBatch(from));
+            if (result == null || result.audited() == 0) {
+                break;
+            }
+            total += result.audited();
+            position = result.next();
+            if (result.audited() < properties.getBatchSize()) {
+                break;
+            }
+        }
+        openMismatches.set(repository.countOpenMismatches());
+        return total;
+    }
+
+    /**
+     * 1バッチの結果
+     *
+     * @param audited 監査した食事数
+     * @param next 次のバッチの開始位置
+     */
+    private record BatchResult(int audited, AuditCursor next) {}
+
+    /**
+     * 1バッチを監査する
+     *
+     * @param position この実行での位置（最初のバッチはnull、保存済みの位置を遡ってから読む）
+     * @return 結果、他のインスタンスが監査中の場合はnull
+     */
+    private BatchResult auditBatch(AuditCursor position) {
+        Optional<AuditCursor> saved = repository.lockCursor();
+        if (saved.isEmpty()) {
+            return null;
+        }
+        AuditCursor from = position != null ? position : saved.get().rewind(properties.getOverlapMs());
+        List<MealNutritionAuditRow> rows = repository.scan(from, properties.getBatchSize());
+        if (rows.isEmpty()) {
+            return new BatchResult(0, from);
+        }
+
+        List<MealNutritionAuditRow> mismatched = new ArrayList<>();
+        List<Long> consistent = new ArrayList<>();
+        for (MealNutritionAuditRow row : rows) {
+            if (row.isConsistent()) {
+                consistent.add(row.mealId());
+            } else {
+                mismatched.add(row);
+            }
+        }
+        repository.clearResolved(consistent);
+        repository.recordMismatches(mismatched);
+        checked.increment(rows.size());
+
+        if (!mismatched.isEmpty()) {
+            mismatches.increment(mismatched.size());
+            List<Long> mealIds = mismatched.stream().map(MealNutritionAuditRow::mealId).toList();
+            log.warn("Meal nutrition totals mismatch: mealIds={}", mealIds);
+            if (properties.isAutoRepair()) {
+                repository.repair(mismatched);
+                repaired.increment(mealIds.size());
+            }
+        }
+
+        MealNutritionAuditRow last = rows.get(rows.size() - 1);
+        AuditCursor next = new AuditCursor(last.updatedAt(), last.mealId());
+        // 遡って読み直した範囲では、保存済みの位置より前に戻さない
+        if (compare(next, saved.get()) > 0) {
+            repository.saveCursor(next);
+        }
+        return new BatchResult(rows.size(), next);
+    }
+
+    private static int compare(AuditCursor a, AuditCursor b) {
+        int byTime = a.updatedAt().compareTo(b.updatedAt());
+        return byTime != 0 ? byTime : Long.compare(a.mealId(), b.mealId());
+    }
+}
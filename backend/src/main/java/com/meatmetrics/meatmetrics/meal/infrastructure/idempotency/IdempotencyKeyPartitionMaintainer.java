@@ -0,0 +1,61 @@
+package com.meatmetrics.meatmetrics.meal.infrastructure.idempotency;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.meatmetrics.meatmetrics.config.MealIdempotencyProperties;
+
+/**
+ * 冪等キーのパーティション保守
+ *
+ * <p>起動時と一定間隔で、数日先までのパーティションを作成し、保持期間を過ぎたパーティションを削除します。
+ * 作成・削除はいずれも冪等なため、複数インスタンスで同時に実行しても問題ありません。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Component
+public class IdempotencyKeyPartitionMaintainer {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyKeyPartitionMaintainer.class);
+
+    private final JdbcIdempotencyKeyRepository repository;
+    private final MealIdempotencyProperties properties;
+
+    public IdempotencyKeyPartitionMaintainer(JdbcIdempotencyKeyRepository repository,
+                                             MealIdempotencyProperties properties) {
+        this.repository = repository;
+        this.properties = properties;
+    }
+
+    /**
+     * 起動完了時に保守する
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        scheduledMaintain();
+    }
+
+    /**
+     * 定期保守
+     */
+    @Scheduled(initialDelayString = "${meal.idempotency.maintenance-interval-ms:3600000}",
+               fixedDelayString = "${meal.idempotency.maintenance-interval-ms:3600000}")
+    public void scheduledMaintain() {
+        try {
+            int created = repository.createPartitions(properties.getPartitionDaysAhead());
+            int dropped = repository.dropExpiredPartitions(properties.getRetentionDays());
+            if (created > 0 || dropped > 0) {
+                log.info("Idempotency key partitions maintained: created={}, dropped={}", created, dropped);
+            }
+        } catch (DataAccessException e) {
+            // DB未接続でも起動は継続し、次回の定期保守で再試行する
+            log.warn("Idempotency key partition maintenance failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.meatmetrics.meatmetrics.meal.infrastructure.idempotency;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.meatmetrics.meatmetrics.config.MealIdempotencyProperties;
+
+/**
+ * 冪等キーの保存先（直近のキーのメモリキャッシュ + 日単位パーティションのテーブル）
+ *
+ * <p>再送の大半は短時間のうちに同じインスタンスへ届くため、保存した応答を一定時間メモリにも保持し、
+ * その間の再送はDBを参照せずに返します。メモリにない場合（別インスタンス・再起動後・期限切れ）はテーブルを参照し、
+ * 見つかった応答をメモリに載せ直します。</p>
+ *
+ * <p>キーの確保（{@link #claim}）と応答の保存（{@link #complete}）は書き込みと同じトランザクションで行います。
+ * 同じキーの同時送信は、インスタンスを問わずテーブルの主キーで1件だけが確保でき、他方は先のトランザクションの確定を待ちます。
+ * 保存に失敗した場合は書き込みごとロールバックされるため、書き込みだけが確定して応答が残らないことはありません。
+ * メモリへの登録はコミット後に行います。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Component
+public class IdempotencyKeyStore {
+
+    /** ユーザーIDと冪等キーの組 */
+    private record Key(long userId, String idempotencyKey) {}
+
+    /** 保存済みの応答とメモリに載せた時刻 */
+    private record Entry(StoredResponse response, long cachedAtMillis) {}
+
+    private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final JdbcIdempotencyKeyRepository repository;
+    private final MealIdempotencyProperties properties;
+
+    public IdempotencyKeyStore(JdbcIdempotencyKeyRepository repository, MealIdempotencyProperties properties) {
+        this.repository = repository;
+        this.properties = properties;
+    }
+
+    /**
+     * 保存済み（コミット済み）の応答を取得する
+     *
+     * @param userId ユーザーID
+     * @param idempotencyKey 冪等キー
+     * @return 保存済みの応答、ない場合は空
+     */
+    public Optional<StoredResponse> find(long userId, String idempotencyKey) {
+        Key key = new Key(userId, idempotencyKey);
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+        if (entry != null && now - entry.cachedAtMillis() < properties.getMemoryTtlMs()) {
+            return Optional.of(entry.response());
+        }
+        Optional<StoredResponse> stored = repository.find(userId, idempotencyKey, properties.getRetentionDays());
+        stored.ifPresent(response -> cache(key, response, now));
+        return stored;
+    }
+
+    /**
+     * キーを確保する（書き込みと同じトランザクションで呼び出す）
+     *
+     * <p>同じキーを他のトランザクションが確保中の場合は、その確定まで待ちます。</p>
+     *
+     * @param userId ユーザーID
+     * @param idempotencyKey 冪等キー
+     * @param requestHash リクエストのSHA-256
+     * @param statusCode 成功時のステータスコード
+     * @param contentType 応答のContent-Type
+     * @return 確保できた場合true、同じキーの応答が先に保存された場合false
+     */
+    public boolean claim(long userId, String idempotencyKey, byte[] requestHash, int statusCode, String contentType) {
+        return repository.claim(userId, idempotencyKey, requestHash, statusCode, contentType);
+    }
+
+    /**
+     * 確保したキーに応答を保存する（{@link #claim} と同じトランザクションで呼び出す）
+     *
+     * @param userId ユーザーID
+     * @param idempotencyKey 冪等キー
+     * @param response 応答
+     */
+    public void complete(long userId, String idempotencyKey, StoredResponse response) {
+        repository.complete(userId, idempotencyKey, response.body());
+        Key key = new Key(userId, idempotencyKey);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache(key, response, System.currentTimeMillis());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache(key, response, System.currentTimeMillis());
+            }
+        });
+    }
+
+    /**
+     * メモリの保持時間を過ぎたキーを破棄する
+     */
+    @Scheduled(initialDelayString = "${meal.idempotency.memory-ttl-ms:600000}",
+               fixedDelayString = "${meal.idempotency.memory-ttl-ms:600000}")
+    public void evictExpired() {
+        long threshold = System.currentTimeMillis() - properties.getMemoryTtlMs();
+        entries.values().removeIf(entry -> entry.cachedAtMillis() < threshold);
+    }
+
+    /**
+     * @return メモリに保持しているキーの数
+     */
+    int cachedSize() {
+        return entries.size();
+    }
+
+    private void cache(Key key, StoredResponse response, long now) {
+        if (entries.size() >= properties.getMemoryMaxEntries() && !entries.containsKey(key)) {
+            return;
+        }
+        entries.put(key, new Entry(response, now));
+    }
+}
@@ -0,0 +1,121 @@
+package com.meatmetrics.meatmetrics.meal.infrastructure.idempotency;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 冪等キーの読み書き
+ *
+ * <p>idempotency_keys は作成日の日単位パーティションです。参照は保持期間内のパーティションだけを対象にし、
+ * 期限切れの行は {@link #dropExpiredPartitions} でパーティションごと削除します。</p>
+ *
+ * <p>キーの確保（{@link #claim}）と応答の保存（{@link #complete}）は、書き込みと同じトランザクションで実行します。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Repository
+public class JdbcIdempotencyKeyRepository {
+
+    private static final String SELECT_KEY = """
+            SELECT request_hash, status_code, content_type, response_body
+            FROM idempotency_keys
+            WHERE user_id = ? AND idempotency_key = ?
+              AND created_on >= CURRENT_DATE - ?::integer
+            ORDER BY created_on
+            LIMIT 1
+            """;
+
+    /** 本文は応答の確定時に保存する（確保した行は同じトランザクションで本文を保存してからコミットされる） */
+    private static final String CLAIM_KEY = """
+            INSERT INTO idempotency_keys (user_id, idempotency_key, request_hash, status_code, content_type, response_body)
+            VALUES (?, ?, ?, ?, ?, ''::bytea)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String COMPLETE_KEY = """
+            UPDATE idempotency_keys
+            SET response_body = ?
+            WHERE user_id = ? AND idempotency_key = ? AND created_on = CURRENT_DATE
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcIdempotencyKeyRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 保持期間内の保存済みの応答を取得する
+     *
+     * @param userId ユーザーID
+     * @param key 冪等キー
+     * @param retentionDays 保持日数（当日に加えて参照する過去の日数）
+     * @return 保存済みの応答、ない場合は空
+     */
+    public Optional<StoredResponse> find(long userId, String key, int retentionDays) {
+        List<StoredResponse> rows = jdbcTemplate.query(SELECT_KEY, (rs, rowNum) -> new StoredResponse(
+                rs.getBytes("request_hash"),
+                rs.getInt("status_code"),
+                rs.getString("content_type"),
+                rs.getBytes("response_body")), userId, key, retentionDays);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * 当日のパーティションにキーの行を挿入して確保する
+     *
+     * <p>同じキーの行が他のトランザクションで未確定の場合は、その確定（コミットまたはロールバック）まで待ちます。</p>
+     *
+     * @param userId ユーザーID
+     * @param key 冪等キー
+     * @param requestHash リクエストのSHA-256
+     * @param statusCode 成功時のステータスコード
+     * @param contentType 応答のContent-Type
+     * @return 確保できた場合true、同じ日に同じキーの行が確定済みの場合false
+     */
+    public boolean claim(long userId, String key, byte[] requestHash, int statusCode, String contentType) {
+        return jdbcTemplate.update(CLAIM_KEY, userId, key, requestHash, statusCode, contentType) == 1;
+    }
+
+    /**
+     * 確保したキーに応答本文を保存する
+     *
+     * @param userId ユーザーID
+     * @param key 冪等キー
+     * @param body 応答本文
+     * @throws IllegalStateException 同じトランザクションで確保したキーの行がない場合
+     */
+    public void complete(long userId, String key, byte[] body) {
+        if (jdbcTemplate.update(COMPLETE_KEY, body, userId, key) != 1) {
+            throw new IllegalStateException("Idempotency key is not claimed: userId=" + userId);
+        }
+    }
+
+    /**
+     * 前日から指定日数先までのパーティションを作成する
+     *
+     * @param daysAhead 事前に作成する日数
+     * @return 新しく作成したパーティション数
+     */
+    public int createPartitions(int daysAhead) {
+        Integer created = jdbcTemplate.queryForObject(
+                "SELECT create_idempotency_key_partitions(?)", Integer.class, daysAhead);
+        return created == null ? 0 : created;
+    }
+
+    /**
+     * 保持期間を過ぎたパーティションを削除する
+     *
+     * @param retentionDays 保持日数
+     * @return 削除したパーティション数
+     */
+    public int dropExpiredPartitions(int retentionDays) {
+        Integer dropped = jdbcTemplate.queryForObject(
+                "SELECT drop_idempotency_key_partitions(?)", Integer.class, retentionDays);
+        return dropped == null ? 0 : dropped;
+    }
+}
@@ -0,0 +1,24 @@
+package com.meatmetrics.meatmetrics.meal.infrastructure.idempotency;
+
+import java.security.MessageDigest;
+
+/**
+ * 冪等キーに対応付けて保存した応答
+ *
+ * @param requestHash 初回のリクエストのSHA-256（メソッド・パス・本文）
+ * @param statusCode 応答のステータスコード
+ * @param contentType 応答のContent-Type
+ * @param body 応答本文（再送時にそのまま返すバイト列）
+ */
+public record StoredResponse(byte[] requestHash, int statusCode, String contentType, byte[] body) {
+
+    /**
+     * 再送されたリクエストが初回と同じ内容か
+     *
+     * @param requestHash 再送されたリクエストのSHA-256
+     * @return 同じ内容の場合true
+     */
+    public boolean matches(byte[] requestHash) {
+        return MessageDigest.isEqual(this.requestHash, requestHash);
+    }
+}
@@ -0,0 +1,92 @@
+package com.meatmetrics.meatmetrics.meal.infrastructure.partition;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 食事・明細の月単位パーティションの作成と切り離し
+ *
+ * <p>作成は create_meal_partitions()（V035）で、食事と明細の同じ月のパーティションを対にして作成します。</p>
+ *
+ * <p>切り離しは DETACH PARTITION ... CONCURRENTLY で行い、親テーブルへの読み書きを止めません。
+ * トランザクションブロックの中では実行できないため、呼び出し側はトランザクションを開始しないでください。
+ * 明細は食事を外部キーで参照するため、明細のパーティションを先に切り離し、その参照を外してから食事のパーティションを切り離します。
+ * 途中で中断した切り離し（detach pending）は FINALIZE で完了させます。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Repository
+public class JdbcMealPartitionRepository {
+
+    // 明細 → 食事 の順（食事のパーティションを切り離す時点で、参照する明細が残らないように）
+    private static final String SELECT_EXPIRED_PARTITIONS = """
+            SELECT p.relname AS parent, c.relname AS partition, i.inhdetachpending AS detach_pending
+            FROM pg_inherits i
+            INNER JOIN pg_class c ON c.oid = i.inhrelid
+            INNER JOIN pg_class p ON p.oid = i.inhparent
+            WHERE p.relname IN ('meals', 'meal_items')
+              AND c.relname ~ '^(meals|meal_items)_p[0-9]{6}$'
+              AND to_date(right(c.relname, 6), 'YYYYMM') < ?
+            ORDER BY p.relname = 'meals', c.relname
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcMealPartitionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 切り離すパーティション
+     *
+     * @param parent 親テーブル名
+     * @param name パーティション名
+     * @param detachPending 切り離しが中断されている場合true
+     */
+    record ExpiredPartition(String parent, String name, boolean detachPending) {}
+
+    /**
+     * 当月から指定月数先までのパーティションを作成する（作成済みの月は何もしない）
+     *
+     * @param monthsAhead 月数
+     * @return 作成したパーティション数（食事・明細の合計）
+     */
+    public int createPartitions(int monthsAhead) {
+        Integer created = jdbcTemplate.queryForObject(
+                "SELECT create_meal_partitions(CURRENT_DATE, (CURRENT_DATE + make_interval(months => ?))::date)",
+                Integer.class, monthsAhead);
+        return created == null ? 0 : created;
+    }
+
+    /**
+     * 指定月より前のパーティションを親テーブルから切り離す
+     *
+     * @param before この月の初日より前の月を切り離す
+     * @return 切り離したパーティション名（明細・食事の順）
+     */
+    public List<String> detachPartitionsBefore(LocalDate before) {
+        List<ExpiredPartition> expired = jdbcTemplate.query(SELECT_EXPIRED_PARTITIONS,
+                (rs, rowNum) -> new ExpiredPartition(rs.getString("parent"), rs.getString("partition"),
+                        rs.getBoolean("detach_pending")),
+                Date.valueOf(before.withDayOfMonth(1)));
+
+        List<String> detached = new ArrayList<>(expired.size());
+        for (ExpiredPartition partition : expired) {
+            // 名前は問い合わせの正規表現で検証済み
+            jdbcTemplate.execute("ALTER TABLE " + partition.parent() + " DETACH PARTITION " + partition.name()
+                    + (partition.detachPending() ? " FINALIZE" : " CONCURRENTLY"));
+            if (partition.parent().equals("meal_items")) {
+                // 切り離した明細は独立したテーブルとして食事への外部キーを引き継ぐため、食事の切り離しの前に外す
+                jdbcTemplate.execute("ALTER TABLE " + partition.name() + " DROP CONSTRAINT IF EXISTS fk_meal_items_meal_id");
+            }
+            detached.add(partition.name());
+        }
+        return detached;
+    }
+}
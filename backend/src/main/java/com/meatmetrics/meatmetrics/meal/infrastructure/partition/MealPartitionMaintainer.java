@@ -0,0 +1,86 @@
+package com.meatmetrics.meatmetrics.meal.infrastructure.partition;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.meatmetrics.meatmetrics.config.MealPartitionProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 食事・明細のパーティション保守
+ *
+ * <p>起動時と一定間隔で、数か月先までのパーティションを作成し、
+ * 保持期間が設定されている場合はそれより古いパーティションを切り離します。
+ * 作成・切り離しはいずれも冪等なため、複数インスタンスで同時に実行しても問題ありません。</p>
+ *
+ * <p>DEFAULT パーティションは作成しません（DETACH PARTITION ... CONCURRENTLY が使えなくなり、
+ * 範囲外の行がそこに溜まるため）。その代わり、パーティションのない月の食事・明細の書き込みは
+ * {@code no partition of relation "meals" found for row} で失敗します。
+ * 記録できる食事日は今日から7日後までのため、{@link MealPartitionProperties#getMonthsAhead()} か月先まで
+ * 作成済みであれば、その間に保守が一度でも成功すれば書き込みは止まりません。
+ * 保守の失敗は警告ログに残して次回に再試行し、失敗回数をメトリクスで公開します（続けて失敗する場合は監視で検知する）。</p>
+ *
+ * <h3>メトリクス:</h3>
+ * <ul>
+ *   <li>meal.partition.maintenance.failures - 保守（作成・切り離し）に失敗した回数</li>
+ * </ul>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Component
+public class MealPartitionMaintainer {
+
+    private static final Logger log = LoggerFactory.getLogger(MealPartitionMaintainer.class);
+
+    private final JdbcMealPartitionRepository repository;
+    private final MealPartitionProperties properties;
+    private final Counter failures;
+
+    public MealPartitionMaintainer(JdbcMealPartitionRepository repository, MealPartitionProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.properties = properties;
+        this.failures = Counter.builder("meal.partition.maintenance.failures")
+                .description("食事・明細のパーティションの保守に失敗した回数").register(meterRegistry);
+    }
+
+    /**
+     * 起動完了時に保守する
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        scheduledMaintain();
+    }
+
+    /**
+     * 定期保守
+     */
+    @Scheduled(initialDelayString = "${meal.partition.maintenance-interval-ms:3600000}",
+               fixedDelayString = "${meal.partition.maintenance-interval-ms:3600000}")
+    public void scheduledMaintain() {
+        try {
+            int created = repository.createPartitions(properties.getMonthsAhead());
+            List<String> detached = properties.getRetentionMonths() > 0
+                    ? repository.detachPartitionsBefore(LocalDate.now().minusMonths(properties.getRetentionMonths()))
+                    : List.of();
+            if (created > 0 || !detached.isEmpty()) {
+                log.info("Meal partitions maintained: created={}, detached={}", created, detached);
+            }
+        } catch (DataAccessException e) {
+            // DB未接続でも起動は継続し、次回の定期保守で再試行する
+            failures.increment();
+            log.warn("Meal partition maintenance failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.meatmetrics.meatmetrics.meal.infrastructure.persistence;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 食事のコピー（食事1件、または1日分）
+ *
+ * <p>コピー元の選択・食事の作成・明細の複製を、データ変更を含むCTEの1文（INSERT ... SELECT）で行います。
+ * 明細の数によらずDBとの往復は1回です。</p>
+ *
+ * <p>明細は栄養成分のバージョン・調理係数・計算値をそのまま複製するため、
+ * calculate_meal_item_nutrition() は呼ばれず、食材の参照も発生しません。
+ * 食事の合計は明細のINSERTに対する文単位の差分トリガーで、食事ごとに1回だけ加算されます。</p>
+ *
+ * <p>コピー先の食事枠に有効な食事がある場合、その食事はコピーしません（記録済みの食事には手を加えない）。
+ * 論理削除済みの食事・明細はコピー元の内容で置き換えて復元します。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Repository
+public class JdbcMealCopyRepository {
+
+    private static final String COPY_MEALS = """
+            WITH source AS (
+                SELECT id, meal_date, meal_type, notes
+                FROM meals
+                WHERE user_id = ? AND is_deleted = false AND %s
+            ),
+            copied AS (
+                INSERT INTO meals (user_id, meal_date, meal_type, notes)
+                SELECT ?, ?, meal_type, notes FROM source
+                ON CONFLICT ON CONSTRAINT unique_user_meal_date_type DO UPDATE SET
+                    notes = EXCLUDED.notes,
+                    is_deleted = false
+                WHERE meals.is_deleted
+                RETURNING id, meal_date, meal_type
+            ),
+            items AS (
+                INSERT INTO meal_items (
+                    meal_id, meal_date, food_id, food_version, quantity_g, cooking_method,
+                    calories_factor, protein_factor, fat_factor, net_carbs_factor,
+                    item_calories, item_protein_g, item_fat_g, item_net_carbs_g, notes)
+                SELECT c.id, c.meal_date, mi.food_id, mi.food_version, mi.quantity_g, mi.cooking_method,
+                       mi.calories_factor, mi.protein_factor, mi.fat_factor, mi.net_carbs_factor,
+                       mi.item_calories, mi.item_protein_g, mi.item_fat_g, mi.item_net_carbs_g, mi.notes
+                FROM copied c
+                INNER JOIN source s ON s.meal_type = c.meal_type
+                INNER JOIN meal_items mi ON mi.meal_id = s.id AND mi.meal_date = s.meal_date AND mi.is_deleted = false
+                ORDER BY c.id, mi.food_id
+                ON CONFLICT ON CONSTRAINT unique_meal_food DO UPDATE SET
+                    food_version = EXCLUDED.food_version,
+                    quantity_g = EXCLUDED.quantity_g,
+                    cooking_method = EXCLUDED.cooking_method,
+                    calories_factor = EXCLUDED.calories_factor,
+                    protein_factor = EXCLUDED.protein_factor,
+                    fat_factor = EXCLUDED.fat_factor,
+                    net_carbs_factor = EXCLUDED.net_carbs_factor,
+                    item_calories = EXCLUDED.item_calories,
+                    item_protein_g = EXCLUDED.item_protein_g,
+                    item_fat_g = EXCLUDED.item_fat_g,
+                    item_net_carbs_g = EXCLUDED.item_net_carbs_g,
+                    notes = EXCLUDED.notes,
+                    is_deleted = false
+                WHERE meal_items.is_deleted
+                RETURNING meal_id, food_id
+            )
+            SELECT c.id AS meal_id, i.food_id
+            FROM copied c
+            LEFT JOIN items i ON i.meal_id = c.id
+            ORDER BY c.id, i.food_id
+            """;
+
+    private static final String BY_MEAL_ID = String.format(COPY_MEALS, "id = ?");
+    private static final String BY_MEAL_DATE = String.format(COPY_MEALS, "meal_date = ?");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcMealCopyRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * コピーの結果
+     *
+     * @param mealIds コピー先の食事ID（ID順、コピー先に有効な食事があった食事は含まれない）
+     * @param foodIds 複製した明細の食材ID
+     */
+    public record CopyResult(List<Long> mealIds, List<Long> foodIds) {}
+
+    /**
+     * 食事1件をコピーする
+     *
+     * @param userId ユーザーID（コピー元の所有者）
+     * @param mealId コピー元の食事ID
+     * @param targetDate コピー先の食事日
+     * @return コピーの結果
+     */
+    public CopyResult copyMeal(long userId, long mealId, LocalDate targetDate) {
+        return copy(BY_MEAL_ID, userId, mealId, targetDate);
+    }
+
+    /**
+     * 1日分の食事をコピーする
+     *
+     * @param userId ユーザーID
+     * @param sourceDate コピー元の食事日
+     * @param targetDate コピー先の食事日
+     * @return コピーの結果
+     */
+    public CopyResult copyDay(long userId, LocalDate sourceDate, LocalDate targetDate) {
+        return copy(BY_MEAL_DATE, userId, Date.valueOf(sourceDate), targetDate);
+    }
+
+    private CopyResult copy(String sql, long userId, Object sourceKey, LocalDate targetDate) {
+        Set<Long> mealIds = new LinkedHashSet<>();
+        List<Long> foodIds = new ArrayList<>();
+        jdbcTemplate.query(sql, rs -> {
+            mealIds.add(rs.getLong("meal_id"));
+            long foodId = rs.getLong("food_id");
+            if (!rs.wasNull()) {
+                foodIds.add(foodId);
+            }
+        }, userId, sourceKey, userId, Date.valueOf(targetDate));
+        return new CopyResult(List.copyOf(mealIds), foodIds);
+    }
+}
@@ -0,0 +1,206 @@
+package com.meatmetrics.meatmetrics.meal.infrastructure.persistence;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 食事枠（ユーザー・日付・食事の種類）への明細の追加
+ *
+ * <p>食事と明細はいずれも INSERT ... ON CONFLICT DO UPDATE で書き込みます。
+ * 同じ食事枠に複数の端末から同時に追加しても、後から来た文は先行トランザクションの完了を待って既存行の更新に切り替わるため、
+ * 一意制約違反によるトランザクションのやり直しやアプリケーション側のロックは不要です。</p>
+ *
+ * <ul>
+ *   <li>食事：なければ作成し、論理削除済みであれば復元する（いずれの場合もIDを返す）</li>
+ *   <li>明細：同じ食材が記録済みであれば摂取量を加算する。論理削除済みの明細は今回の値で置き換えて復元する。
+ *       加算後の摂取量が上限を超える明細は、CHECK制約違反で文全体を失敗させずに更新しない</li>
+ * </ul>
+ *
+ * <p>明細はリクエスト分を1文で書き込むため、栄養合計の差分トリガーは文ごとに1回だけ実行されます。
+ * 新しい明細はアプリケーションで計算した栄養成分をそのまま書き込み、摂取量を加算した明細は
+ * 計算値を変更しないことで calculate_meal_item_nutrition() に記録済みのバージョンで計算し直させます
+ * （合計は明細ごとの丸め後の値の和のため、加算分の計算値を足すことはできない）。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Repository
+public class JdbcMealSlotRepository {
+
+    private static final String UPSERT_MEAL = """
+            INSERT INTO meals (user_id, meal_date, meal_type, notes)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT ON CONSTRAINT unique_user_meal_date_type DO UPDATE SET
+                notes = CASE WHEN meals.is_deleted THEN EXCLUDED.notes ELSE COALESCE(meals.notes, EXCLUDED.notes) END,
+                is_deleted = false
+            RETURNING id
+            """;
+
+    // 調理方法の異なる同じ食材と、加算後の摂取量が上限（meal_items_quantity_positive と同じ10000g）を超える食材は
+    // 更新しない（RETURNING に含まれない）
+    private static final String UPSERT_ITEMS = """
+            INSERT INTO meal_items (
+                meal_id, meal_date, food_id, food_version, quantity_g, cooking_method,
+                calories_factor, protein_factor, fat_factor, net_carbs_factor,
+                item_calories, item_protein_g, item_fat_g, item_net_carbs_g, notes)
+            SELECT ?, ?, i.food_id, i.food_version, i.quantity_g, i.cooking_method,
+                   i.calories_factor, i.protein_factor, i.fat_factor, i.net_carbs_factor,
+                   i.item_calories, i.item_protein_g, i.item_fat_g, i.item_net_carbs_g, i.notes
+            FROM unnest(?::bigint[], ?::integer[], ?::numeric[], ?::varchar[],
+                        ?::numeric[], ?::numeric[], ?::numeric[], ?::numeric[],
+                        ?::integer[], ?::numeric[], ?::numeric[], ?::numeric[], ?::text[])
+                AS i(food_id, food_version, quantity_g, cooking_method,
+                     calories_factor, protein_factor, fat_factor, net_carbs_factor,
+                     item_calories, item_protein_g, item_fat_g, item_net_carbs_g, notes)
+            ON CONFLICT ON CONSTRAINT unique_meal_food DO UPDATE SET
+                quantity_g = CASE WHEN meal_items.is_deleted THEN EXCLUDED.quantity_g
+                                  ELSE meal_items.quantity_g + EXCLUDED.quantity_g END,
+                food_version = CASE WHEN meal_items.is_deleted THEN EXCLUDED.food_version ELSE meal_items.food_version END,
+                cooking_method = EXCLUDED.cooking_method,
+                calories_factor = CASE WHEN meal_items.is_deleted THEN EXCLUDED.calories_factor ELSE meal_items.calories_factor END,
+                protein_factor = CASE WHEN meal_items.is_deleted THEN EXCLUDED.protein_factor ELSE meal_items.protein_factor END,
+                fat_factor = CASE WHEN meal_items.is_deleted THEN EXCLUDED.fat_factor ELSE meal_items.fat_factor END,
+                net_carbs_factor = CASE WHEN meal_items.is_deleted THEN EXCLUDED.net_carbs_factor ELSE meal_items.net_carbs_factor END,
+                item_calories = CASE WHEN meal_items.is_deleted THEN EXCLUDED.item_calories ELSE meal_items.item_calories END,
+                item_protein_g = CASE WHEN meal_items.is_deleted THEN EXCLUDED.item_protein_g ELSE meal_items.item_protein_g END,
+                item_fat_g = CASE WHEN meal_items.is_deleted THEN EXCLUDED.item_fat_g ELSE meal_items.item_fat_g END,
+                item_net_carbs_g = CASE WHEN meal_items.is_deleted THEN EXCLUDED.item_net_carbs_g ELSE meal_items.item_net_carbs_g END,
+                notes = CASE WHEN meal_items.is_deleted THEN EXCLUDED.notes ELSE COALESCE(meal_items.notes, EXCLUDED.notes) END,
+                is_deleted = false
+            WHERE meal_items.is_deleted
+               OR (meal_items.cooking_method = EXCLUDED.cooking_method
+                   AND meal_items.quantity_g + EXCLUDED.quantity_g <= 10000)
+            RETURNING food_id
+            """;
+
+    private static final String SELECT_QUANTITY_OVERFLOWS = """
+            SELECT mi.food_id
+            FROM meal_items mi
+            JOIN unnest(?::bigint[], ?::numeric[], ?::varchar[]) AS i(food_id, quantity_g, cooking_method)
+              ON i.food_id = mi.food_id
+            WHERE mi.meal_id = ? AND mi.meal_date = ? AND mi.is_deleted = false
+              AND mi.cooking_method = i.cooking_method
+              AND mi.quantity_g + i.quantity_g > 10000
+            ORDER BY mi.food_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcMealSlotRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 追加する明細（栄養成分は摂取量に対する計算済みの値）
+     *
+     * @param foodId 食材ID
+     * @param foodVersion 計算に使った栄養成分のバージョン
+     * @param quantityG 摂取量（調理後のg）
+     * @param cookingMethod 調理方法
+     * @param caloriesFactor カロリー係数
+     * @param proteinFactor タンパク質係数
+     * @param fatFactor 脂質係数
+     * @param netCarbsFactor 正味炭水化物係数
+     * @param calories カロリー（kcal）
+     * @param proteinG タンパク質（g）
+     * @param fatG 脂質（g）
+     * @param netCarbsG 正味炭水化物（g）
+     * @param notes メモ
+     */
+    public record ItemRow(long foodId, int foodVersion, BigDecimal quantityG, String cookingMethod,
+                          BigDecimal caloriesFactor, BigDecimal proteinFactor, BigDecimal fatFactor,
+                          BigDecimal netCarbsFactor, int calories, BigDecimal proteinG, BigDecimal fatG,
+                          BigDecimal netCarbsG, String notes) {}
+
+    /**
+     * 食事を作成する（作成済みの場合はそのIDを返し、論理削除済みの場合は復元する）
+     *
+     * @param userId ユーザーID
+     * @param mealDate 食事日
+     * @param mealType 食事の種類
+     * @param notes メモ（作成・復元時のみ、記録済みのメモがない場合は補完）
+     * @return 食事ID
+     */
+    public long upsertMeal(long userId, LocalDate mealDate, String mealType, String notes) {
+        return jdbcTemplate.queryForObject(UPSERT_MEAL, Long.class, userId, Date.valueOf(mealDate), mealType, notes);
+    }
+
+    /**
+     * 明細を追加する（同じ食材が記録済みの場合は摂取量を加算する）
+     *
+     * @param mealId 食事ID
+     * @param mealDate 食事日（明細のパーティションキー）
+     * @param items 明細（食材の重複なし、食材ID順）
+     * @return 追加・加算した明細の食材ID（調理方法が記録済みの明細と異なる食材、
+     *         および加算後の摂取量が上限を超える食材は含まれない）
+     */
+    public List<Long> upsertItems(long mealId, LocalDate mealDate, List<ItemRow> items) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(UPSERT_ITEMS);
+            ps.setLong(1, mealId);
+            ps.setDate(2, Date.valueOf(mealDate));
+            bindItems(ps, 3, items);
+            return ps;
+        }, (rs, rowNum) -> rs.getLong("food_id"));
+    }
+
+    /**
+     * 記録済みの明細に加算すると摂取量が上限を超える食材を返す
+     *
+     * <p>{@link #upsertItems} で書き込まれなかった明細の理由の判別に使います。</p>
+     *
+     * @param mealId 食事ID
+     * @param mealDate 食事日（明細のパーティションキー）
+     * @param items 明細
+     * @return 記録済みの明細と調理方法が同じで、加算後の摂取量が上限を超える食材ID（食材ID順）
+     */
+    public List<Long> findQuantityOverflows(long mealId, LocalDate mealDate, List<ItemRow> items) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_QUANTITY_OVERFLOWS);
+            ps.setArray(1, array(connection, "bigint", items.stream().map(ItemRow::foodId).toArray()));
+            ps.setArray(2, array(connection, "numeric", items.stream().map(ItemRow::quantityG).toArray()));
+            ps.setArray(3, array(connection, "varchar", items.stream().map(ItemRow::cookingMethod).toArray()));
+            ps.setLong(4, mealId);
+            ps.setDate(5, Date.valueOf(mealDate));
+            return ps;
+        }, (rs, rowNum) -> rs.getLong("food_id"));
+    }
+
+    /**
+     * 明細を unnest 用の列ごとの配列（13個）としてバインドする
+     *
+     * @param ps 文
+     * @param firstIndex 最初の配列のパラメータ番号
+     * @param items 明細
+     */
+    static void bindItems(PreparedStatement ps, int firstIndex, List<ItemRow> items) throws SQLException {
+        Connection connection = ps.getConnection();
+        int i = firstIndex;
+        ps.setArray(i++, array(connection, "bigint", items.stream().map(ItemRow::foodId).toArray()));
+        ps.setArray(i++, array(connection, "integer", items.stream().map(ItemRow::foodVersion).toArray()));
+        ps.setArray(i++, array(connection, "numeric", items.stream().map(ItemRow::quantityG).toArray()));
+        ps.setArray(i++, array(connection, "varchar", items.stream().map(ItemRow::cookingMethod).toArray()));
+        ps.setArray(i++, array(connection, "numeric", items.stream().map(ItemRow::caloriesFactor).toArray()));
+        ps.setArray(i++, array(connection, "numeric", items.stream().map(ItemRow::proteinFactor).toArray()));
+        ps.setArray(i++, array(connection, "numeric", items.stream().map(ItemRow::fatFactor).toArray()));
+        ps.setArray(i++, array(connection, "numeric", items.stream().map(ItemRow::netCarbsFactor).toArray()));
+        ps.setArray(i++, array(connection, "integer", items.stream().map(ItemRow::calories).toArray()));
+        ps.setArray(i++, array(connection, "numeric", items.stream().map(ItemRow::proteinG).toArray()));
+        ps.setArray(i++, array(connection, "numeric", items.stream().map(ItemRow::fatG).toArray()));
+        ps.setArray(i++, array(connection, "numeric", items.stream().map(ItemRow::netCarbsG).toArray()));
+        ps.setArray(i, array(connection, "text", items.stream().map(ItemRow::notes).toArray()));
+    }
+
+    private static Array array(Connection connection, String type, Object[] values) throws SQLException {
+        return connection.createArrayOf(type, values);
+    }
+}
@@ -0,0 +1,291 @@
+package com.meatmetrics.meatmetrics.meal.infrastructure.persistence;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.meatmetrics.meatmetrics.meal.domain.sync.MealChangeCursor;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.JdbcMealSlotRepository.ItemRow;
+
+/**
+ * 差分同期の読み書き
+ *
+ * <p>読み出しは食事の変更の印 (change_xid, change_seq) のキーセット順です。
+ * 実行中の最古のトランザクション（スナップショットの xmin）より前に終了したトランザクションの変更だけを返し、
+ * それ以降の変更は次回の読み出しに回すため、コミットの順序が前後しても変更を取りこぼしません。</p>
+ *
+ * <p>書き込みはクライアントIDで識別した食事の内容（明細を含む）を、送られた状態に置き換えます。
+ * 変更のない明細は更新しないため、記録時点の栄養成分のバージョンはそのまま残ります。</p>
+ *
+ * <p>論理削除済みの食事（墓標）は保持期間の経過後にパージされます。
+ * パージ済みの墓標の最新の印は meal_sync_purge_horizon に記録され、それより前の位置からは差分を読めません。</p>
+ *
+ * <p>食事・明細は食事日の月単位でパーティション化されているため、食事日が分かっている書き込みは食事日を条件に含めます。
+ * クライアントIDと変更の印による参照は食事日を含まないため、全ての月の索引を参照します。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Repository
+public class JdbcMealSyncRepository {
+
+    // 変更がない場合も読み出し位置の上限（horizon）を返すため、LATERAL の外側で1行を保証する
+    private static final String SELECT_CHANGES = """
+            WITH horizon AS (
+                SELECT pg_snapshot_xmin(pg_current_snapshot()) AS xmin
+            )
+            SELECT h.xmin::text::bigint AS horizon, c.id, c.change_xid::text::bigint AS change_xid, c.change_seq
+            FROM horizon h
+            LEFT JOIN LATERAL (
+                SELECT m.id, m.change_xid, m.change_seq
+                FROM meals m
+                WHERE m.user_id = ?
+                  AND (m.change_xid, m.change_seq) > (?::text::xid8, ?)
+                  AND m.change_xid < h.xmin
+                  AND (? OR m.is_deleted = false)
+                ORDER BY m.change_xid, m.change_seq
+                LIMIT ?
+            ) c ON true
+            ORDER BY c.change_xid, c.change_seq
+            """;
+
+    // 論理削除済みの食事枠は復元し、同じクライアントの食事は更新する（他のクライアントの有効な食事は更新しない）
+    private static final String SAVE_MEAL = """
+            INSERT INTO meals (user_id, meal_date, meal_type, notes, client_id)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT ON CONSTRAINT unique_user_meal_date_type DO UPDATE SET
+                notes = EXCLUDED.notes,
+                client_id = EXCLUDED.client_id,
+                is_deleted = false
+            WHERE meals.is_deleted OR meals.client_id = EXCLUDED.client_id
+            RETURNING id
+            """;
+
+    private static final String DELETE_MISSING_ITEMS = """
+            UPDATE meal_items
+            SET is_deleted = true
+            WHERE meal_id = ? AND meal_date = ? AND is_deleted = false AND NOT (food_id = ANY(?::bigint[]))
+            """;
+
+    // 変更のない明細は更新しない（記録時点の栄養成分のバージョンを残すため）
+    private static final String REPLACE_ITEMS = """
+            INSERT INTO meal_items (
+                meal_id, meal_date, food_id, food_version, quantity_g, cooking_method,
+                calories_factor, protein_factor, fat_factor, net_carbs_factor,
+                item_calories, item_protein_g, item_fat_g, item_net_carbs_g, notes)
+            SELECT ?, ?, i.food_id, i.food_version, i.quantity_g, i.cooking_method,
+                   i.calories_factor, i.protein_factor, i.fat_factor, i.net_carbs_factor,
+                   i.item_calories, i.item_protein_g, i.item_fat_g, i.item_net_carbs_g, i.notes
+            FROM unnest(?::bigint[], ?::integer[], ?::numeric[], ?::varchar[],
+                        ?::numeric[], ?::numeric[], ?::numeric[], ?::numeric[],
+                        ?::integer[], ?::numeric[], ?::numeric[], ?::numeric[], ?::text[])
+                AS i(food_id, food_version, quantity_g, cooking_method,
+                     calories_factor, protein_factor, fat_factor, net_carbs_factor,
+                     item_calories, item_protein_g, item_fat_g, item_net_carbs_g, notes)
+            ON CONFLICT ON CONSTRAINT unique_meal_food DO UPDATE SET
+                food_version = EXCLUDED.food_version,
+                quantity_g = EXCLUDED.quantity_g,
+                cooking_method = EXCLUDED.cooking_method,
+                calories_factor = EXCLUDED.calories_factor,
+                protein_factor = EXCLUDED.protein_factor,
+                fat_factor = EXCLUDED.fat_factor,
+                net_carbs_factor = EXCLUDED.net_carbs_factor,
+                item_calories = EXCLUDED.item_calories,
+                item_protein_g = EXCLUDED.item_protein_g,
+                item_fat_g = EXCLUDED.item_fat_g,
+                item_net_carbs_g = EXCLUDED.item_net_carbs_g,
+                notes = EXCLUDED.notes,
+                is_deleted = false
+            WHERE meal_items.is_deleted
+               OR meal_items.quantity_g <> EXCLUDED.quantity_g
+               OR meal_items.cooking_method <> EXCLUDED.cooking_method
+               OR meal_items.notes IS DISTINCT FROM EXCLUDED.notes
+            RETURNING food_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcMealSyncRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 変更された食事
+     *
+     * @param mealId 食事ID
+     * @param cursor 変更の印（この食事まで読んだ位置）
+     */
+    public record ChangedMeal(long mealId, MealChangeCursor cursor) {}
+
+    /**
+     * 変更の読み出し結果
+     *
+     * @param meals 変更された食事（印の順）
+     * @param horizon 読み出し位置の上限（これより前に終了したトランザクションの変更は全て読める）
+     */
+    public record ChangePage(List<ChangedMeal> meals, MealChangeCursor horizon) {}
+
+    /**
+     * 食事の記録先（クライアントIDまたは食事枠で特定した食事）
+     *
+     * @param id 食事ID
+     * @param mealDate 食事日
+     * @param mealType 食事の種類
+     * @param deleted 論理削除済みの場合true
+     */
+    public record StoredMeal(long id, LocalDate mealDate, String mealType, boolean deleted) {}
+
+    /**
+     * 読み出し位置より後ろの変更された食事を読む
+     *
+     * @param userId ユーザーID
+     * @param after 読み出し位置
+     * @param includeDeleted 論理削除済みの食事（墓標）を含める場合true
+     * @param limit 最大件数
+     * @return 変更された食事と読み出し位置の上限
+     */
+    public ChangePage findChanges(long userId, MealChangeCursor after, boolean includeDeleted, int limit) {
+        List<ChangedMeal> meals = new ArrayList<>();
+        long[] horizon = new long[1];
+        jdbcTemplate.query(SELECT_CHANGES, rs -> {
+            horizon[0] = rs.getLong("horizon");
+            long mealId = rs.getLong("id");
+            if (!rs.wasNull()) {
+                meals.add(new ChangedMeal(mealId, new MealChangeCursor(rs.getLong("change_xid"), rs.getLong("change_seq"))));
+            }
+        }, userId, Long.toString(after.xid()), after.seq(), includeDeleted, limit);
+        return new ChangePage(meals, new MealChangeCursor(horizon[0], 0));
+    }
+
+    /**
+     * パージ済みの墓標の最新の印を読む
+     *
+     * @return この位置までの墓標はパージ済み（パージしていない場合は {@link MealChangeCursor#INITIAL} と同じ位置）
+     */
+    public MealChangeCursor findPurgedThrough() {
+        return jdbcTemplate.query("""
+                SELECT purged_xid::text::bigint AS purged_xid, purged_seq FROM meal_sync_purge_horizon WHERE id = 1
+                """, (rs, rowNum) -> new MealChangeCursor(rs.getLong("purged_xid"), rs.getLong("purged_seq")))
+                .stream().findFirst().orElse(new MealChangeCursor(0, 0));
+    }
+
+    /**
+     * ユーザーの差分同期の書き込みをトランザクションの終了まで直列化する
+     *
+     * <p>クライアントIDの一意制約は食事日（パーティションキー）を含むため、同じクライアントIDの食事を
+     * 別の食事日に同時に作成することを制約では防げません。書き込みの前にユーザー単位のロックを取得します。</p>
+     *
+     * @param userId ユーザーID
+     */
+    public void lockUser(long userId) {
+        jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(hashtextextended('meal_sync:' || ?, 0))", userId);
+    }
+
+    /**
+     * クライアントIDの食事を行ロックして読む
+     *
+     * @param userId ユーザーID
+     * @param clientId クライアントID
+     * @return 食事（論理削除済みを含む）、存在しない場合は空
+     */
+    public Optional<StoredMeal> lockByClientId(long userId, UUID clientId) {
+        return jdbcTemplate.query("""
+                SELECT id, meal_date, meal_type, is_deleted FROM meals
+                WHERE user_id = ? AND client_id = ?
+                FOR UPDATE
+                """, (rs, rowNum) -> mapStoredMeal(rs), userId, clientId).stream().findFirst();
+    }
+
+    /**
+     * 食事枠の有効な食事を行ロックして読む
+     *
+     * @param userId ユーザーID
+     * @param mealDate 食事日
+     * @param mealType 食事の種類
+     * @return 有効な食事、存在しない場合は空
+     */
+    public Optional<StoredMeal> lockActiveSlot(long userId, LocalDate mealDate, String mealType) {
+        return jdbcTemplate.query("""
+                SELECT id, meal_date, meal_type, is_deleted FROM meals
+                WHERE user_id = ? AND meal_date = ? AND meal_type = ? AND is_deleted = false
+                FOR UPDATE
+                """, (rs, rowNum) -> mapStoredMeal(rs), userId, Date.valueOf(mealDate), mealType)
+                .stream().findFirst();
+    }
+
+    /**
+     * 食事を記録する（作成、論理削除済みの食事枠の復元、または同じクライアントの食事の更新）
+     *
+     * @param userId ユーザーID
+     * @param clientId クライアントID
+     * @param mealDate 食事日
+     * @param mealType 食事の種類
+     * @param notes メモ
+     * @return 食事ID、食事枠に他のクライアントの有効な食事がある場合は空
+     */
+    public Optional<Long> saveMeal(long userId, UUID clientId, LocalDate mealDate, String mealType, String notes) {
+        return jdbcTemplate.query(SAVE_MEAL, (rs, rowNum) -> rs.getLong("id"),
+                userId, Date.valueOf(mealDate), mealType, notes, clientId).stream().findFirst();
+    }
+
+    /**
+     * 食事と明細を論理削除する
+     *
+     * @param mealId 食事ID
+     * @param mealDate 食事日
+     * @param releaseClientId クライアントIDを手放す場合true（同じクライアントIDで別の食事枠に記録し直すため）
+     */
+    public void deleteMeal(long mealId, LocalDate mealDate, boolean releaseClientId) {
+        Date date = Date.valueOf(mealDate);
+        jdbcTemplate.update("""
+                UPDATE meal_items SET is_deleted = true
+                WHERE meal_id = ? AND meal_date = ? AND is_deleted = false
+                """, mealId, date);
+        jdbcTemplate.update("""
+                UPDATE meals
+                SET is_deleted = true,
+                    client_id = CASE WHEN ? THEN gen_random_uuid() ELSE client_id END
+                WHERE id = ? AND meal_date = ?
+                """, releaseClientId, mealId, date);
+    }
+
+    /**
+     * 食事の明細を送られた明細で置き換える（含まれない明細は論理削除する）
+     *
+     * @param mealId 食事ID
+     * @param mealDate 食事日（明細のパーティションキー）
+     * @param items 明細（食材の重複なし、食材ID順）
+     * @return 追加・変更した明細の食材ID
+     */
+    public List<Long> replaceItems(long mealId, LocalDate mealDate, List<ItemRow> items) {
+        Date date = Date.valueOf(mealDate);
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(DELETE_MISSING_ITEMS);
+            ps.setLong(1, mealId);
+            ps.setDate(2, date);
+            ps.setArray(3, connection.createArrayOf("bigint", items.stream().map(ItemRow::foodId).toArray()));
+            return ps;
+        });
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(REPLACE_ITEMS);
+            ps.setLong(1, mealId);
+            ps.setDate(2, date);
+            JdbcMealSlotRepository.bindItems(ps, 3, items);
+            return ps;
+        }, (rs, rowNum) -> rs.getLong("food_id"));
+    }
+
+    private static StoredMeal mapStoredMeal(ResultSet rs) throws SQLException {
+        return new StoredMeal(rs.getLong("id"), rs.getDate("meal_date").toLocalDate(), rs.getString("meal_type"),
+                rs.getBoolean("is_deleted"));
+    }
+}
@@ -0,0 +1,129 @@
+package com.meatmetrics.meatmetrics.meal.infrastructure.persistence;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SQLRestriction;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 食事記録エンティティ（meals）
+ *
+ * <p>主キーはシーケンスから50件単位で確保する（pooled）。IDENTITY と異なりINSERTごとに生成キーを
+ * 受け取る必要がないため、食事と明細のINSERTをJDBCバッチにまとめられます。</p>
+ *
+ * <p>栄養合計はDB側で明細の追加・変更の差分から加算されるため、INSERTには含めません（列の既定値0から始まる）。
+ * エンティティ上の合計は {@link #addItem} で同じ値を積み上げたもので、レスポンスにそのまま使えます。</p>
+ *
+ * <p>明細のコレクションは論理削除済みの明細を含みません。</p>
+ *
+ * <p>クライアントID（差分同期用）はDBの既定値で採番するため、読み取り専用です。</p>
+ *
+ * <p>テーブルは食事日の月単位でパーティション化されており、主キーは (id, meal_date) です。
+ * IDはシーケンスで全体で一意のため、エンティティはIDだけで識別します（IDだけの参照は全ての月を探すため、
+ * 件数の多い読み込みは食事日を条件に含めてください）。</p>
+ */
+@Entity
+@Table(name = "meals")
+public class MealEntity {
+
+    /** シーケンスの増分（V027 の INCREMENT BY と一致させる） */
+    static final int ID_ALLOCATION_SIZE = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "meals_id_seq")
+    @SequenceGenerator(name = "meals_id_seq", sequenceName = "meals_id_seq", allocationSize = ID_ALLOCATION_SIZE)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private Long userId;
+
+    @Column(name = "meal_date", nullable = false)
+    private LocalDate mealDate;
+
+    @Column(name = "meal_type", nullable = false, length = 20)
+    private String mealType;
+
+    @Column(name = "total_calories", insertable = false, updatable = false)
+    private Integer totalCalories;
+
+    @Column(name = "total_protein_g", precision = 8, scale = 2, insertable = false, updatable = false)
+    private BigDecimal totalProteinG;
+
+    @Column(name = "total_fat_g", precision = 8, scale = 2, insertable = false, updatable = false)
+    private BigDecimal totalFatG;
+
+    @Column(name = "total_net_carbs_g", precision = 8, scale = 2, insertable = false, updatable = false)
+    private BigDecimal totalNetCarbsG;
+
+    @Column(name = "notes")
+    private String notes;
+
+    @Column(name = "is_deleted", nullable = false)
+    private boolean deleted;
+
+    @Column(name = "client_id", insertable = false, updatable = false)
+    private UUID clientId;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @OneToMany(mappedBy = "meal", cascade = CascadeType.PERSIST)
+    @OrderBy("id")
+    @SQLRestriction("is_deleted = false")
+    private List<MealItemEntity> items = new ArrayList<>();
+
+    // コンストラクタ
+    protected MealEntity() {}
+
+    public MealEntity(Long userId, LocalDate mealDate, String mealType, String notes) {
+        this.userId = userId;
+        this.mealDate = mealDate;
+        this.mealType = mealType;
+        this.notes = notes;
+        this.totalCalories = 0;
+        this.totalProteinG = BigDecimal.ZERO.setScale(2);
+        this.totalFatG = BigDecimal.ZERO.setScale(2);
+        this.totalNetCarbsG = BigDecimal.ZERO.setScale(2);
+    }
+
+    /**
+     * 明細を追加し、栄養合計に加算する
+     *
+     * @param item 明細
+     */
+    public void addItem(MealItemEntity item) {
+        item.attachTo(this);
+        items.add(item);
+        totalCalories += item.getItemCalories();
+        totalProteinG = totalProteinG.add(item.getItemProteinG());
+        totalFatG = totalFatG.add(item.getItemFatG());
+        totalNetCarbsG = totalNetCarbsG.add(item.getItemNetCarbsG());
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public Long getUserId() { return userId; }
+    public LocalDate getMealDate() { return mealDate; }
+    public String getMealType() { return mealType; }
+    public Integer getTotalCalories() { return totalCalories; }
+    public BigDecimal getTotalProteinG() { return totalProteinG; }
+    public BigDecimal getTotalFatG() { return totalFatG; }
+    public BigDecimal getTotalNetCarbsG() { return totalNetCarbsG; }
+    public String getNotes() { return notes; }
+    public boolean isDeleted() { return deleted; }
+    public UUID getClientId() { return clientId; }
+    public Instant getCreatedAt() { return createdAt; }
+    public List<MealItemEntity> getItems() { return items; }
+}
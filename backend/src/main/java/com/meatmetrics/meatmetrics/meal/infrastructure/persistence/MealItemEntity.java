@@ -0,0 +1,131 @@
+package com.meatmetrics.meatmetrics.meal.infrastructure.persistence;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 食事明細エンティティ（meal_items）
+ *
+ * <p>主キーは {@link MealEntity} と同じくシーケンスから50件単位で確保する。
+ * 調理係数はカタログの係数表から解決した値、栄養成分は計算に使った栄養成分のバージョン（food_version）とともに
+ * アプリケーションで計算した値を書き込みます。全て指定済みの行ではDBのトリガーは食材を参照しません。</p>
+ *
+ * <p>テーブルは食事日の月単位でパーティション化されているため、親の食事の食事日（パーティションキー）を持ちます。</p>
+ */
+@Entity
+@Table(name = "meal_items")
+public class MealItemEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "meal_items_id_seq")
+    @SequenceGenerator(name = "meal_items_id_seq", sequenceName = "meal_items_id_seq",
+            allocationSize = MealEntity.ID_ALLOCATION_SIZE)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "meal_id", nullable = false, updatable = false)
+    private MealEntity meal;
+
+    @Column(name = "meal_date", nullable = false, updatable = false)
+    private LocalDate mealDate;
+
+    @Column(name = "food_id", nullable = false)
+    private Long foodId;
+
+    @Column(name = "food_version", nullable = false, updatable = false)
+    private Integer foodVersion;
+
+    @Column(name = "quantity_g", nullable = false, precision = 8, scale = 2)
+    private BigDecimal quantityG;
+
+    @Column(name = "cooking_method", nullable = false, length = 20)
+    private String cookingMethod;
+
+    @Column(name = "calories_factor", nullable = false, precision = 6, scale = 4)
+    private BigDecimal caloriesFactor;
+
+    @Column(name = "protein_factor", nullable = false, precision = 6, scale = 4)
+    private BigDecimal proteinFactor;
+
+    @Column(name = "fat_factor", nullable = false, precision = 6, scale = 4)
+    private BigDecimal fatFactor;
+
+    @Column(name = "net_carbs_factor", nullable = false, precision = 6, scale = 4)
+    private BigDecimal netCarbsFactor;
+
+    @Column(name = "item_calories")
+    private Integer itemCalories;
+
+    @Column(name = "item_protein_g", precision = 8, scale = 2)
+    private BigDecimal itemProteinG;
+
+    @Column(name = "item_fat_g", precision = 8, scale = 2)
+    private BigDecimal itemFatG;
+
+    @Column(name = "item_net_carbs_g", precision = 8, scale = 2)
+    private BigDecimal itemNetCarbsG;
+
+    @Column(name = "notes")
+    private String notes;
+
+    @Column(name = "is_deleted", nullable = false)
+    private boolean deleted;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    // コンストラクタ
+    protected MealItemEntity() {}
+
+    public MealItemEntity(Long foodId, Integer foodVersion, BigDecimal quantityG, String cookingMethod,
+                          BigDecimal caloriesFactor, BigDecimal proteinFactor, BigDecimal fatFactor, BigDecimal netCarbsFactor,
+                          Integer itemCalories, BigDecimal itemProteinG, BigDecimal itemFatG, BigDecimal itemNetCarbsG,
+                          String notes) {
+        this.foodId = foodId;
+        this.foodVersion = foodVersion;
+        this.quantityG = quantityG;
+        this.cookingMethod = cookingMethod;
+        this.caloriesFactor = caloriesFactor;
+        this.proteinFactor = proteinFactor;
+        this.fatFactor = fatFactor;
+        this.netCarbsFactor = netCarbsFactor;
+        this.itemCalories = itemCalories;
+        this.itemProteinG = itemProteinG;
+        this.itemFatG = itemFatG;
+        this.itemNetCarbsG = itemNetCarbsG;
+        this.notes = notes;
+    }
+
+    void attachTo(MealEntity meal) {
+        this.meal = meal;
+        this.mealDate = meal.getMealDate();
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public MealEntity getMeal() { return meal; }
+    public Long getFoodId() { return foodId; }
+    public Integer getFoodVersion() { return foodVersion; }
+    public BigDecimal getQuantityG() { return quantityG; }
+    public String getCookingMethod() { return cookingMethod; }
+    public BigDecimal getCaloriesFactor() { return caloriesFactor; }
+    public BigDecimal getProteinFactor() { return proteinFactor; }
+    public BigDecimal getFatFactor() { return fatFactor; }
+    public BigDecimal getNetCarbsFactor() { return netCarbsFactor; }
+    public Integer getItemCalories() { return itemCalories; }
+    public BigDecimal getItemProteinG() { return itemProteinG; }
+    public BigDecimal getItemFatG() { return itemFatG; }
+    public BigDecimal getItemNetCarbsG() { return itemNetCarbsG; }
+    public String getNotes() { return notes; }
+    public boolean isDeleted() { return deleted; }
+}
@@ -0,0 +1,49 @@
+package com.meatmetrics.meatmetrics.meal.infrastructure.persistence;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * MealEntity用のSpring Data JPAリポジトリ
+ *
+ * <p>明細（{@link MealItemEntity}）は食事の永続化にカスケードして追加されます。</p>
+ *
+ * @see MealEntity
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Repository
+public interface MealJpaRepository extends JpaRepository<MealEntity, Long> {
+
+    /**
+     * 食事を明細とともに1回の問い合わせで取得
+     *
+     * @param ids 食事ID
+     * @return 食事（ID順、有効な明細を含む）
+     */
+    @EntityGraph(attributePaths = "items")
+    List<MealEntity> findByIdInOrderByIdAsc(Collection<Long> ids);
+
+    /**
+     * ユーザーの有効な食事が存在するかチェック
+     *
+     * @param id 食事ID
+     * @param userId ユーザーID
+     * @return 存在する場合true
+     */
+    boolean existsByIdAndUserIdAndDeletedFalse(Long id, Long userId);
+
+    /**
+     * ユーザーの指定日の有効な食事が存在するかチェック
+     *
+     * @param userId ユーザーID
+     * @param mealDate 食事日
+     * @return 存在する場合true
+     */
+    boolean existsByUserIdAndMealDateAndDeletedFalse(Long userId, LocalDate mealDate);
+}
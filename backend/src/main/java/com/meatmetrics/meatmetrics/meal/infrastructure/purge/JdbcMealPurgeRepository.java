@@ -0,0 +1,159 @@
+package com.meatmetrics.meatmetrics.meal.infrastructure.purge;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 論理削除済みの食事・明細の物理削除
+ *
+ * <p>削除済みの行だけを含む部分索引を id のキーセット順に読み、1文で1バッチを削除します。
+ * 他のインスタンスが削除中の行は読み飛ばします（FOR UPDATE SKIP LOCKED）。
+ * 削除の判定（削除済み・保持期間の経過）は削除時の行で確定するため、読み込み後に復元された行は削除しません。</p>
+ *
+ * <p>各メソッドは呼び出し側のトランザクションで実行する前提です
+ * （{@code meatmetrics.bulk_nutrition_write} はトランザクション内だけ有効）。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Repository
+public class JdbcMealPurgeRepository {
+
+    private static final String PURGE_ITEMS = """
+            WITH batch AS (
+                SELECT id, meal_date FROM meal_items
+                WHERE is_deleted = true AND id > ? AND updated_at < ?
+                ORDER BY id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            ),
+            purged AS (
+                DELETE FROM meal_items mi
+                USING batch b
+                WHERE mi.id = b.id AND mi.meal_date = b.meal_date
+                RETURNING mi.id
+            )
+            SELECT COUNT(*) AS purged, COALESCE(MAX(id), 0) AS last_id FROM purged
+            """;
+
+    // 明細は外部キーの ON DELETE CASCADE で一緒に削除される。監査の不一致の記録（外部キーなし）も削除し、
+    // 差分同期で配信できなくなった位置（削除した墓標の最新の印）を進める
+    private static final String PURGE_MEALS = """
+            WITH batch AS (
+                SELECT id, meal_date FROM meals
+                WHERE is_deleted = true AND id > ? AND updated_at < ?
+                ORDER BY id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            ),
+            purged AS (
+                DELETE FROM meals m
+                USING batch b
+                WHERE m.id = b.id AND m.meal_date = b.meal_date
+                RETURNING m.id, m.change_xid, m.change_seq
+            ),
+            mismatches AS (
+                DELETE FROM meal_nutrition_mismatches mm
+                USING purged p
+                WHERE mm.meal_id = p.id
+            ),
+            horizon AS (
+                UPDATE meal_sync_purge_horizon h
+                SET purged_xid = latest.change_xid, purged_seq = latest.change_seq, updated_at = CURRENT_TIMESTAMP
+                FROM (
+                    SELECT change_xid, change_seq FROM purged
+                    ORDER BY change_xid DESC, change_seq DESC
+                    LIMIT 1
+                ) latest
+                WHERE h.id = 1 AND (latest.change_xid, latest.change_seq) > (h.purged_xid, h.purged_seq)
+            )
+            SELECT COUNT(*) AS purged, COALESCE(MAX(id), 0) AS last_id FROM purged
+            """;
+
+    // 食事・明細はパーティション化されているため、パーティションの統計を親テーブルごとに合計する
+    private static final String SELECT_TABLE_STATS = """
+            SELECT p.relname,
+                   SUM(s.n_live_tup) AS n_live_tup,
+                   SUM(s.n_dead_tup) AS n_dead_tup,
+                   SUM(pg_total_relation_size(s.relid)) AS total_bytes
+            FROM pg_stat_user_tables s
+            INNER JOIN pg_inherits i ON i.inhrelid = s.relid
+            INNER JOIN pg_class p ON p.oid = i.inhparent
+            WHERE p.relname IN ('meals', 'meal_items')
+            GROUP BY p.relname
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcMealPurgeRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 1バッチの結果
+     *
+     * @param purged 削除した行数
+     * @param lastId 削除した行の最大ID（次のバッチの開始位置）
+     */
+    public record PurgeBatch(int purged, long lastId) {}
+
+    /**
+     * テーブルの統計（pg_stat_user_tables の推定値）
+     *
+     * @param table テーブル名
+     * @param liveRows 有効な行数
+     * @param deadRows 回収されていない不要な行数
+     * @param totalBytes 索引を含むサイズ（バイト）
+     */
+    public record TableStats(String table, long liveRows, long deadRows, long totalBytes) {}
+
+    /**
+     * 明細のトリガー（合計の差分・親の食事の印の更新）をトランザクション内だけ止める
+     */
+    public void suppressItemTriggers() {
+        jdbcTemplate.queryForObject("SELECT set_config('meatmetrics.bulk_nutrition_write', 'on', true)", String.class);
+    }
+
+    /**
+     * 論理削除済みの明細を1バッチ削除する
+     *
+     * @param afterId この位置より後ろの明細を削除する
+     * @param deletedBefore この日時より前に論理削除された明細を削除する
+     * @param limit 最大件数
+     * @return 結果
+     */
+    public PurgeBatch purgeItems(long afterId, Instant deletedBefore, int limit) {
+        return purge(PURGE_ITEMS, afterId, deletedBefore, limit);
+    }
+
+    /**
+     * 論理削除済みの食事を明細ごと1バッチ削除する
+     *
+     * @param afterId この位置より後ろの食事を削除する
+     * @param deletedBefore この日時より前に論理削除された食事を削除する
+     * @param limit 最大件数
+     * @return 結果
+     */
+    public PurgeBatch purgeMeals(long afterId, Instant deletedBefore, int limit) {
+        return purge(PURGE_MEALS, afterId, deletedBefore, limit);
+    }
+
+    /**
+     * 食事・明細のテーブルの統計を読む
+     *
+     * @return テーブルごとの統計
+     */
+    public List<TableStats> tableStats() {
+        return jdbcTemplate.query(SELECT_TABLE_STATS, (rs, rowNum) -> new TableStats(rs.getString("relname"),
+                rs.getLong("n_live_tup"), rs.getLong("n_dead_tup"), rs.getLong("total_bytes")));
+    }
+
+    private PurgeBatch purge(String sql, long afterId, Instant deletedBefore, int limit) {
+        return jdbcTemplate.queryForObject(sql, (rs, rowNum) -> new PurgeBatch(rs.getInt("purged"), rs.getLong("last_id")),
+                afterId, Timestamp.from(deletedBefore), limit);
+    }
+}
@@ -0,0 +1,160 @@
+package com.meatmetrics.meatmetrics.meal.infrastructure.purge;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import com.meatmetrics.meatmetrics.config.MealPurgeProperties;
+import com.meatmetrics.meatmetrics.meal.infrastructure.purge.JdbcMealPurgeRepository.PurgeBatch;
+import com.meatmetrics.meatmetrics.meal.infrastructure.purge.JdbcMealPurgeRepository.TableStats;
+
+/**
+ * 論理削除済みの食事・明細のバックグラウンドパージ
+ *
+ * <p>保持期間（{@link MealPurgeProperties#getRetentionDays()}）を過ぎた論理削除済みの行を、
+ * 小さなバッチ（1バッチ1トランザクション）で物理削除します。明細 → 食事 の順に削除し、
+ * 各バッチでは明細のトリガー（合計の差分・親の食事の印の更新）を止めます（削除済みの行は合計に含まれないため）。</p>
+ *
+ * <p>ロックは削除する行だけで、他のインスタンスが削除中の行は読み飛ばします。
+ * 削除で生じた不要な行の回収は autovacuum に任せます（V034でしきい値を下げています）。</p>
+ *
+ * <h3>メトリクス:</h3>
+ * <ul>
+ *   <li>meal.purge.items - 物理削除した明細数</li>
+ *   <li>meal.purge.meals - 物理削除した食事数（一緒に削除された明細を除く）</li>
+ *   <li>meal.table.rows.live - 有効な行数（table タグ、最後の実行時点）</li>
+ *   <li>meal.table.rows.dead - 回収されていない不要な行数（table タグ、最後の実行時点）</li>
+ *   <li>meal.table.size.bytes - 索引を含むテーブルのサイズ（table タグ、最後の実行時点）</li>
+ * </ul>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Component
+public class MealPurger {
+
+    private static final Logger log = LoggerFactory.getLogger(MealPurger.class);
+    private static final List<String> TABLES = List.of("meals", "meal_items");
+
+    private final JdbcMealPurgeRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final MealPurgeProperties properties;
+    private final Counter purgedItems;
+    private final Counter purgedMeals;
+    private final Map<String, AtomicLong> liveRows = new HashMap<>();
+    private final Map<String, AtomicLong> deadRows = new HashMap<>();
+    private final Map<String, AtomicLong> totalBytes = new HashMap<>();
+
+    public MealPurger(JdbcMealPurgeRepository repository,
+                      TransactionTemplate transactionTemplate,
+                      MealPurgeProperties properties,
+                      MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.purgedItems = Counter.builder("meal.purge.items")
+                .description("物理削除した明細数").register(meterRegistry);
+        this.purgedMeals = Counter.builder("meal.purge.meals")
+                .description("物理削除した食事数").register(meterRegistry);
+        for (String table : TABLES) {
+            registerGauge(meterRegistry, "meal.table.rows.live", "有効な行数", table, liveRows);
+            registerGauge(meterRegistry, "meal.table.rows.dead", "回収されていない不要な行数", table, deadRows);
+            registerGauge(meterRegistry, "meal.table.size.bytes", "索引を含むテーブルのサイズ", table, totalBytes);
+        }
+    }
+
+    /**
+     * 定期パージ
+     */
+    @Scheduled(initialDelayString = "${meal.purge.interval-ms:3600000}",
+               fixedDelayString = "${meal.purge.interval-ms:3600000}")
+    public void scheduledPurge() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            purge();
+        } catch (DataAccessException e) {
+            log.warn("Meal purge failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 保持期間を過ぎた明細・食事を、それぞれ最大 {@link MealPurgeProperties#getMaxBatchesPerRun()} バッチ削除する
+     *
+     * @return 物理削除した行数（明細と食事の合計、食事と一緒に削除された明細を除く）
+     */
+    public int purge() {
+        Instant deletedBefore = Instant.now().minus(Duration.ofDays(properties.getRetentionDays()));
+        int items = purgeInBatches(afterId -> repository.purgeItems(afterId, deletedBefore, properties.getBatchSize()));
+        purgedItems.increment(items);
+        int meals = purgeInBatches(afterId -> repository.purgeMeals(afterId, deletedBefore, properties.getBatchSize()));
+        purgedMeals.increment(meals);
+
+        for (TableStats stats : repository.tableStats()) {
+            update(liveRows, stats.table(), stats.liveRows());
+            update(deadRows, stats.table(), stats.deadRows());
+            update(totalBytes, stats.table(), stats.totalBytes());
+        }
+        if (items + meals > 0) {
+            log.info("Purged soft-deleted meals: meals={}, items={}, deletedBefore={}", meals, items, deletedBefore);
+        }
+        return items + meals;
+    }
+
+    private int purgeInBatches(BatchPurge batchPurge) {
+        int total = 0;
+        long afterId = 0;
+        for (int i = 0; i < properties.getMaxBatchesPerRun(); i++) {
+            long from = afterId;
+            PurgeBatch batch = transactionTemplate.execute(status -> {
+                repository.suppressItemTriggers();
+                return batchPurge.purge(from);
+            });
+            if (batch == null || batch.purged() == 0) {
+                break;
+            }
+            total += batch.purged();
+            afterId = batch.lastId();
+            if (batch.purged() < properties.getBatchSize()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    /** 1バッチの削除（開始位置を受け取る） */
+    @FunctionalInterface
+    private interface BatchPurge {
+        PurgeBatch purge(long afterId);
+    }
+
+    private static void registerGauge(MeterRegistry meterRegistry, String name, String description,
+                                      String table, Map<String, AtomicLong> values) {
+        AtomicLong value = new AtomicLong();
+        values.put(table, value);
+        Gauge.builder(name, value, AtomicLong::get)
+                .description(description).tag("table", table).register(meterRegistry);
+    }
+
+    private static void update(Map<String, AtomicLong> values, String table, long value) {
+        AtomicLong gauge = values.get(table);
+        if (gauge != null) {
+            gauge.set(value);
+        }
+    }
+}
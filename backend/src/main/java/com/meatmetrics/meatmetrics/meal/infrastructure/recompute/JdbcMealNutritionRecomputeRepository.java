@@ -0,0 +1,297 @@
+package com.meatmetrics.meatmetrics.meal.infrastructure.recompute;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import com.meatmetrics.meatmetrics.meal.domain.nutrition.MealItemNutritionBatch;
+
+/**
+ * 栄養成分の一括再計算の読み書き
+ *
+ * <p>明細は主キー順のキーセット（{@code id > チェックポイント}）でチャンクごとに読み、
+ * 計算結果は1回のバッチUPDATEで書き戻します。書き戻しの間は明細のトリガーを
+ * {@code meatmetrics.bulk_nutrition_write} で止め、食事の合計はチャンク内の食事IDに対して集合演算で1回だけ更新します。
+ * 書き戻しは明細を (id, meal_date)、食事を (meal_id, meal_date) で特定し、食事日の月のパーティションだけを読みます。</p>
+ *
+ * <p>{@link #loadChunk} と {@link #writeChunk} は呼び出し側の同じトランザクションで実行する前提です
+ * （読み込みで明細に行ロックを取り、書き戻しとチェックポイントの記録を同時に確定させるため）。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Repository
+public class JdbcMealNutritionRecomputeRepository {
+
+    private static final String JOB_COLUMNS = """
+            SELECT id, food_ids, status, last_meal_item_id, processed_items, updated_meals,
+                   requested_by, error, started_at, updated_at, finished_at
+            FROM meal_nutrition_recompute_jobs
+            """;
+
+    /**
+     * 古いバージョンを参照する明細（固定小数点に変換済み）
+     * 係数・栄養成分は列の小数桁に合わせた整数倍のため、キャストで誤差は生じない
+     * foods.fiber_g_per_100g はNULLを許すため、トリガーと同じく未設定の食物繊維は0として扱う
+     */
+    private static final String SELECT_CHUNK = """
+            SELECT mi.id, mi.meal_id, mi.meal_date, f.nutrition_version,
+                   (mi.quantity_g * 100)::bigint AS quantity_centi_g,
+                   (mi.calories_factor * 10000)::int AS calories_factor,
+                   (mi.protein_factor * 10000)::int AS protein_factor,
+                   (mi.fat_factor * 10000)::int AS fat_factor,
+                   (mi.net_carbs_factor * 10000)::int AS net_carbs_factor,
+                   f.calories_per_100g,
+                   (f.protein_g_per_100g * 100)::bigint AS protein_centi_g,
+                   (f.fat_g_per_100g * 100)::bigint AS fat_centi_g,
+                   ((f.carbohydrates_g_per_100g - COALESCE(f.fiber_g_per_100g, 0)) * 100)::bigint AS net_carbs_centi_g
+            FROM meal_items mi
+            INNER JOIN foods f ON f.id = mi.food_id
+            WHERE mi.id > ?
+              AND mi.is_deleted = false
+              AND mi.food_version <> f.nutrition_version
+            """;
+
+    private static final String CHUNK_ORDER = " ORDER BY mi.id LIMIT ? FOR UPDATE OF mi";
+
+    private static final String UPDATE_ITEM = """
+            UPDATE meal_items
+            SET food_version = ?, item_calories = ?, item_protein_g = ?, item_fat_g = ?, item_net_carbs_g = ?,
+                updated_at = CURRENT_TIMESTAMP
+            WHERE id = ? AND meal_date = ?
+            """;
+
+    private static final String UPDATE_MEAL_TOTALS = """
+            UPDATE meals m
+            SET total_calories = COALESCE(t.calories, 0),
+                total_protein_g = COALESCE(t.protein_g, 0.00),
+                total_fat_g = COALESCE(t.fat_g, 0.00),
+                total_net_carbs_g = COALESCE(t.net_carbs_g, 0.00),
+                updated_at = CURRENT_TIMESTAMP
+            FROM (
+                SELECT target.id AS meal_id, target.meal_date,
+                       SUM(mi.item_calories) AS calories,
+                       SUM(mi.item_protein_g) AS protein_g,
+                       SUM(mi.item_fat_g) AS fat_g,
+                       SUM(mi.item_net_carbs_g) AS net_carbs_g
+                FROM unnest(?::bigint[], ?::date[]) AS target(id, meal_date)
+                LEFT JOIN meal_items mi
+                    ON mi.meal_id = target.id AND mi.meal_date = target.meal_date AND mi.is_deleted = false
+                GROUP BY target.id, target.meal_date
+            ) t
+            WHERE m.id = t.meal_id AND m.meal_date = t.meal_date
+            """;
+
+    private static final RowMapper<RecomputeJobState> JOB_ROW_MAPPER = JdbcMealNutritionRecomputeRepository::mapJob;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcMealNutritionRecomputeRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * ジョブを作成する
+     *
+     * @param foodIds 対象の食材ID（空の場合は全食材）
+     * @param requestedBy 実行した管理者のユーザーID
+     * @return 作成したジョブ
+     * @throws org.springframework.dao.DataIntegrityViolationException 実行中のジョブが既にある場合
+     */
+    public RecomputeJobState create(List<Long> foodIds, long requestedBy) {
+        List<RecomputeJobState> created = jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO meal_nutrition_recompute_jobs (food_ids, requested_by) VALUES (?, ?) RETURNING *");
+            ps.setArray(1, foodIds.isEmpty() ? null : connection.createArrayOf("bigint", foodIds.toArray()));
+            ps.setLong(2, requestedBy);
+            return ps;
+        }, JOB_ROW_MAPPER);
+        return created.get(0);
+    }
+
+    /**
+     * @return 実行中のジョブ
+     */
+    public Optional<RecomputeJobState> findRunning() {
+        return jdbcTemplate.query(JOB_COLUMNS + " WHERE status = 'RUNNING'", JOB_ROW_MAPPER).stream().findFirst();
+    }
+
+    /**
+     * 実行中のジョブの行をロックして最新の状態（チェックポイント）を読む
+     *
+     * <p>チャンクのトランザクションの先頭で呼び出します。複数のインスタンスが同じジョブを再開しても、
+     * チャンクの処理はジョブ行のロックで直列化され、常に確定済みのチェックポイントから続きを読みます。</p>
+     *
+     * @param jobId ジョブID
+     * @return ジョブ、実行中でない場合は空
+     */
+    public Optional<RecomputeJobState> lockRunning(long jobId) {
+        return jdbcTemplate.query(JOB_COLUMNS + " WHERE id = ? AND status = 'RUNNING' FOR UPDATE", JOB_ROW_MAPPER, jobId)
+                .stream().findFirst();
+    }
+
+    /**
+     * @return 最後に開始したジョブ
+     */
+    public Optional<RecomputeJobState> findLatest() {
+        return jdbcTemplate.query(JOB_COLUMNS + " ORDER BY id DESC LIMIT 1", JOB_ROW_MAPPER).stream().findFirst();
+    }
+
+    /**
+     * チェックポイントの続きから明細を読み、行ロックを取ってバッファに詰める
+     *
+     * @param job ジョブ（チェックポイントと対象の食材）
+     * @param batch 詰めるバッファ（クリアしてから詰める、最大件数はバッファの容量）
+     */
+    public void loadChunk(RecomputeJobState job, MealItemNutritionBatch batch) {
+        batch.clear();
+        RowCallbackHandler addRow = rs -> addRow(rs, batch);
+        if (job.foodIds().isEmpty()) {
+            jdbcTemplate.query(SELECT_CHUNK + CHUNK_ORDER,
+                    addRow, job.lastMealItemId(), batch.capacity());
+        } else {
+            jdbcTemplate.query(SELECT_CHUNK + " AND mi.food_id = ANY(?)" + CHUNK_ORDER, ps -> {
+                ps.setLong(1, job.lastMealItemId());
+                ps.setArray(2, ps.getConnection().createArrayOf("bigint", job.foodIds().toArray()));
+                ps.setInt(3, batch.capacity());
+            }, addRow);
+        }
+    }
+
+    /**
+     * 計算済みのチャンクを書き戻し、食事の合計とチェックポイントを更新する
+     *
+     * @param jobId ジョブID
+     * @param batch 計算済みのバッファ（空でないこと）
+     * @return 合計を更新した食事数
+     */
+    public int writeChunk(long jobId, MealItemNutritionBatch batch) {
+        // 同じトランザクション内だけ明細のトリガー（明細の再計算・食事合計の差分更新）を止める
+        jdbcTemplate.queryForObject("SELECT set_config('meatmetrics.bulk_nutrition_write', 'on', true)", String.class);
+
+        int size = batch.size();
+        jdbcTemplate.batchUpdate(UPDATE_ITEM, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setInt(1, batch.foodVersion(i));
+                ps.setInt(2, batch.calories(i));
+                ps.setBigDecimal(3, BigDecimal.valueOf(batch.proteinCentiG(i), 2));
+                ps.setBigDecimal(4, BigDecimal.valueOf(batch.fatCentiG(i), 2));
+                ps.setBigDecimal(5, BigDecimal.valueOf(batch.netCarbsCentiG(i), 2));
+                ps.setLong(6, batch.itemId(i));
+                ps.setDate(7, Date.valueOf(batch.mealDate(i)));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return size;
+            }
+        });
+
+        // 同じ食事の明細は食事日も同じ
+        Map<Long, LocalDate> meals = new TreeMap<>();
+        for (int i = 0; i < size; i++) {
+            meals.put(batch.mealId(i), batch.mealDate(i));
+        }
+        Object[] mealIds = meals.keySet().toArray();
+        Object[] mealDates = meals.values().stream().map(Date::valueOf).toArray();
+        int updatedMeals = jdbcTemplate.update(UPDATE_MEAL_TOTALS, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("bigint", mealIds));
+            ps.setArray(2, ps.getConnection().createArrayOf("date", mealDates));
+        });
+
+        jdbcTemplate.update("""
+                UPDATE meal_nutrition_recompute_jobs
+                SET last_meal_item_id = ?, processed_items = processed_items + ?, updated_meals = updated_meals + ?,
+                    updated_at = CURRENT_TIMESTAMP
+                WHERE id = ?
+                """, batch.lastItemId(), size, updatedMeals, jobId);
+
+        jdbcTemplate.queryForObject("SELECT set_config('meatmetrics.bulk_nutrition_write', 'off', true)", String.class);
+        return updatedMeals;
+    }
+
+    /**
+     * ジョブを完了にする
+     *
+     * @param jobId ジョブID
+     */
+    public void complete(long jobId) {
+        finish(jobId, RecomputeJobState.COMPLETED, null);
+    }
+
+    /**
+     * ジョブを失敗にする（チェックポイントは残る）
+     *
+     * @param jobId ジョブID
+     * @param error エラー内容
+     */
+    public void fail(long jobId, String error) {
+        finish(jobId, RecomputeJobState.FAILED, error);
+    }
+
+    private void finish(long jobId, String status, String error) {
+        jdbcTemplate.update("""
+                UPDATE meal_nutrition_recompute_jobs
+                SET status = ?, error = ?, updated_at = CURRENT_TIMESTAMP, finished_at = CURRENT_TIMESTAMP
+                WHERE id = ? AND status = 'RUNNING'
+                """, status, error, jobId);
+    }
+
+    private static void addRow(ResultSet rs, MealItemNutritionBatch batch) throws SQLException {
+        batch.add(
+                rs.getLong("id"),
+                rs.getLong("meal_id"),
+                rs.getDate("meal_date").toLocalDate(),
+                rs.getInt("nutrition_version"),
+                rs.getLong("quantity_centi_g"),
+                rs.getInt("calories_factor"),
+                rs.getInt("protein_factor"),
+                rs.getInt("fat_factor"),
+                rs.getInt("net_carbs_factor"),
+                rs.getInt("calories_per_100g"),
+                rs.getLong("protein_centi_g"),
+                rs.getLong("fat_centi_g"),
+                rs.getLong("net_carbs_centi_g"));
+    }
+
+    private static RecomputeJobState mapJob(ResultSet rs, int rowNum) throws SQLException {
+        Array foodIds = rs.getArray("food_ids");
+        List<Long> ids = foodIds == null ? List.of() : Arrays.asList((Long[]) foodIds.getArray());
+        long requestedBy = rs.getLong("requested_by");
+        Long admin = rs.wasNull() ? null : requestedBy;
+        return new RecomputeJobState(
+                rs.getLong("id"),
+                ids,
+                rs.getString("status"),
+                rs.getLong("last_meal_item_id"),
+                rs.getLong("processed_items"),
+                rs.getLong("updated_meals"),
+                admin,
+                rs.getString("error"),
+                toInstant(rs.getTimestamp("started_at")),
+                toInstant(rs.getTimestamp("updated_at")),
+                toInstant(rs.getTimestamp("finished_at")));
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+}
@@ -0,0 +1,179 @@
+package com.meatmetrics.meatmetrics.meal.infrastructure.recompute;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+
+import com.meatmetrics.meatmetrics.config.MealRecomputeProperties;
+import com.meatmetrics.meatmetrics.meal.domain.nutrition.MealItemNutritionBatch;
+
+/**
+ * 栄養成分の一括再計算ジョブの実行
+ *
+ * <p>ジョブは専用の1スレッドでチャンクごとに処理します。1チャンクは1トランザクションで、
+ * ジョブ行のロック → 明細の読み込み（行ロック）→ 計算 → 書き戻し・食事合計・チェックポイントの更新 を行います。
+ * 途中で停止・失敗しても、確定済みのチェックポイントから再開できます（起動時に実行中のジョブを自動で再開します）。</p>
+ *
+ * <p>チャンク間はチャンクの処理時間に応じて待機し、DBを占有する割合を
+ * {@link MealRecomputeProperties#getMaxDutyCyclePercent()} 以下に抑えます。</p>
+ *
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+@Component
+public class MealNutritionRecomputeRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(MealNutritionRecomputeRunner.class);
+
+    private final JdbcMealNutritionRecomputeRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final MealRecomputeProperties properties;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "meal-nutrition-recompute");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /** このインスタンスで実行中のジョブID（二重投入の防止） */
+    private volatile Long activeJobId;
+    private volatile boolean stopping;
+
+    public MealNutritionRecomputeRunner(JdbcMealNutritionRecomputeRepository repository,
+                                        TransactionTemplate transactionTemplate,
+                                        MealRecomputeProperties properties) {
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+    }
+
+    /**
+     * 起動完了時に実行中のジョブを再開する
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            repository.findRunning().ifPresent(job -> {
+                log.info("Resuming meal nutrition recompute: jobId={}, lastMealItemId={}", job.id(), job.lastMealItemId());
+                submit(job.id());
+            });
+        } catch (DataAccessException e) {
+            log.warn("Failed to check meal nutrition recompute jobs: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * ジョブを開始する
+     *
+     * @param foodIds 対象の食材ID（空の場合は古いバージョンを参照する全明細）
+     * @param requestedBy 実行する管理者のユーザーID
+     * @return 開始したジョブ、実行中のジョブがある場合はそのジョブ
+     */
+    public synchronized RecomputeJobState start(List<Long> foodIds, long requestedBy) {
+        Optional<RecomputeJobState> running = repository.findRunning();
+        if (running.isPresent()) {
+            submit(running.get().id());
+            return running.get();
+        }
+        RecomputeJobState job = repository.create(foodIds, requestedBy);
+        log.info("Meal nutrition recompute started: jobId={}, foodIds={}, requestedBy={}", job.id(), foodIds, requestedBy);
+        submit(job.id());
+        return job;
+    }
+
+    /**
+     * @return 最後に開始したジョブ
+     */
+    public Optional<RecomputeJobState> latest() {
+        return repository.findLatest();
+    }
+
+    /**
+     * 終了時は処理中のチャンクの完了を待って停止する（ジョブは実行中のまま残り、次回起動時に再開する）
+     */
+    @PreDestroy
+    public void shutdown() {
+        stopping = true;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized void submit(long jobId) {
+        if (stopping || activeJobId != null) {
+            return;
+        }
+        activeJobId = jobId;
+        executor.execute(() -> run(jobId));
+    }
+
+    private void run(long jobId) {
+        MealItemNutritionBatch batch = new MealItemNutritionBatch(properties.getChunkSize());
+        try {
+            while (!stopping) {
+                long startedAt = System.nanoTime();
+                Boolean more = transactionTemplate.execute(status -> processChunk(jobId, batch));
+                if (!Boolean.TRUE.equals(more)) {
+                    break;
+                }
+                throttle((System.nanoTime() - startedAt) / 1_000_000);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("Meal nutrition recompute failed: jobId={}", jobId, e);
+            repository.fail(jobId, e.getMessage());
+        } finally {
+            activeJobId = null;
+        }
+    }
+
+    /**
+     * 1チャンクを処理する
+     *
+     * @return 続きがある場合true
+     */
+    private boolean processChunk(long jobId, MealItemNutritionBatch batch) {
+        Optional<RecomputeJobState> job = repository.lockRunning(jobId);
+        if (job.isEmpty()) {
+            return false;
+        }
+        repository.loadChunk(job.get(), batch);
+        if (batch.size() > 0) {
+            batch.calculate();
+            repository.writeChunk(jobId, batch);
+        }
+        if (batch.size() < batch.capacity()) {
+            repository.complete(jobId);
+            log.info("Meal nutrition recompute completed: jobId={}, processedItems={}",
+                    jobId, job.get().processedItems() + batch.size());
+            return false;
+        }
+        return true;
+    }
+
+    /** 処理時間に比例して待機し、負荷を上限の割合に抑える */
+    private void throttle(long elapsedMs) throws InterruptedException {
+        int duty = Math.max(1, Math.min(100, properties.getMaxDutyCyclePercent()));
+        long sleepMs = Math.max(properties.getPauseMs(), elapsedMs * (100 - duty) / duty);
+        if (sleepMs > 0) {
+            Thread.sleep(sleepMs);
+        }
+    }
+}
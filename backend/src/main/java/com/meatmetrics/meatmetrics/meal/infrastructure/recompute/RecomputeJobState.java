@@ -0,0 +1,50 @@
+package com.meatmetrics.meatmetrics.meal.infrastructure.recompute;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 栄養成分の一括再計算ジョブの状態（meal_nutrition_recompute_jobs の1行）
+ *
+ * @param id ジョブID
+ * @param foodIds 対象の食材ID（空の場合は古いバージョンを参照する全明細）
+ * @param status 状態（RUNNING, COMPLETED, FAILED）
+ * @param lastMealItemId チェックポイント（処理済みの最大の明細ID）
+ * @param processedItems 再計算した明細数
+ * @param updatedMeals 合計を更新した食事数（チャンクごとの延べ数）
+ * @param requestedBy 実行した管理者のユーザーID
+ * @param error 失敗時のエラー内容
+ * @param startedAt 開始日時
+ * @param updatedAt 最終更新日時（チェックポイントの記録日時）
+ * @param finishedAt 終了日時
+ * @author MeatMetrics Development Team
+ * @since 1.0.0
+ */
+public record RecomputeJobState(
+        long id,
+        List<Long> foodIds,
+        String status,
+        long lastMealItemId,
+        long processedItems,
+        long updatedMeals,
+        Long requestedBy,
+        String error,
+        Instant startedAt,
+        Instant updatedAt,
+        Instant finishedAt) {
+
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+
+    public RecomputeJobState {
+        foodIds = foodIds == null ? List.of() : List.copyOf(foodIds);
+    }
+
+    /**
+     * @return 実行中の場合true
+     */
+    public boolean isRunning() {
+        return RUNNING.equals(status);
+    }
+}
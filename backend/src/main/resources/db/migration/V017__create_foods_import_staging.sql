@@ -0,0 +1,36 @@
+-- 食材一括インポート用のステージングテーブル作成
+-- 公開栄養データセット（数十万行）を COPY でステージングに流し込み、
+-- ON CONFLICT で foods にマージするための構造
+
+-- 1. foods に外部データセット由来の識別子を追加（マージキー）
+ALTER TABLE foods ADD COLUMN IF NOT EXISTS source_code VARCHAR(64);
+
+ALTER TABLE foods
+    ADD CONSTRAINT foods_source_code_unique UNIQUE (source_code);
+
+COMMENT ON COLUMN foods.source_code IS '外部データセットの食品コード（一括インポートのマージキー、手動登録分はNULL）';
+
+-- 2. ステージングテーブル（UNLOGGED: WAL を書かずに高速ロード）
+-- 制約は持たせず、Java 側で foods の CHECK 制約と同じ検証を済ませた行のみを投入する
+CREATE UNLOGGED TABLE IF NOT EXISTS foods_import_staging (
+    batch_id UUID NOT NULL,
+    line_no BIGINT NOT NULL,
+    source_code VARCHAR(64) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    category_id BIGINT NOT NULL,
+    calories_per_100g INTEGER NOT NULL,
+    protein_g_per_100g DECIMAL(6,2) NOT NULL,
+    fat_g_per_100g DECIMAL(6,2) NOT NULL,
+    carbohydrates_g_per_100g DECIMAL(6,2) NOT NULL,
+    fiber_g_per_100g DECIMAL(6,2) NOT NULL,
+    tags TEXT[] NOT NULL DEFAULT '{}',
+    description TEXT
+);
+
+-- マージ時の batch_id 絞り込み・重複排除（DISTINCT ON source_code）用
+CREATE INDEX IF NOT EXISTS idx_foods_import_staging_batch
+    ON foods_import_staging(batch_id, source_code, line_no DESC);
+
+COMMENT ON TABLE foods_import_staging IS '食材一括インポート用ステージング（COPY投入 → foodsへマージ後に削除）';
+COMMENT ON COLUMN foods_import_staging.batch_id IS 'インポート実行ID（同時実行の分離用）';
+COMMENT ON COLUMN foods_import_staging.line_no IS '入力ファイル上の行番号（同一コード重複時は後勝ち）';
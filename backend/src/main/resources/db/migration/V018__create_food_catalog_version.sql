@@ -0,0 +1,55 @@
+-- 食材カタログのバージョン管理
+-- foods が変更されるたびに単調増加するバージョン番号を1行で保持し、
+-- HTTPキャッシュ（ETag / Last-Modified）とインメモリカタログの差分取り込み判定に使用する
+
+-- 1. バージョンテーブル（常に1行）
+CREATE TABLE IF NOT EXISTS food_catalog_version (
+    id SMALLINT PRIMARY KEY DEFAULT 1,
+    version BIGINT NOT NULL DEFAULT 1,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT date_trunc('second', CURRENT_TIMESTAMP),
+
+    CONSTRAINT food_catalog_version_single_row CHECK (id = 1)
+);
+
+INSERT INTO food_catalog_version (id) VALUES (1) ON CONFLICT (id) DO NOTHING;
+
+-- 2. バージョン更新関数
+-- 行単位の trigger_foods_updated_at と同じ変更を、文単位で1回だけカウントする
+-- （一括インポートで数十万行を更新してもバージョン行の更新は1回）
+-- Last-Modified は秒精度のため、updated_at も秒に切り捨てて保持する
+CREATE OR REPLACE FUNCTION bump_food_catalog_version()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM changed_rows) THEN
+        UPDATE food_catalog_version
+        SET version = version + 1,
+            updated_at = date_trunc('second', CURRENT_TIMESTAMP)
+        WHERE id = 1;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 3. 文単位トリガー（遷移テーブルで実際に変更された行がある場合のみ更新）
+CREATE TRIGGER trigger_foods_catalog_version_insert
+    AFTER INSERT ON foods
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION bump_food_catalog_version();
+
+CREATE TRIGGER trigger_foods_catalog_version_update
+    AFTER UPDATE ON foods
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION bump_food_catalog_version();
+
+CREATE TRIGGER trigger_foods_catalog_version_delete
+    AFTER DELETE ON foods
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION bump_food_catalog_version();
+
+-- テーブルコメント
+COMMENT ON TABLE food_catalog_version IS '食材カタログのバージョン（foods変更時に文単位で加算、ETag生成用）';
+COMMENT ON COLUMN food_catalog_version.version IS 'カタログバージョン（単調増加）';
+COMMENT ON COLUMN food_catalog_version.updated_at IS '最終変更日時（秒精度、Last-Modified用）';
@@ -0,0 +1,22 @@
+-- カテゴリ変更時にも食材カタログのバージョンを更新する
+-- インメモリのカテゴリツリー（配下カテゴリでの絞り込みに使用）を、食材と同じバージョン判定で読み直すため
+
+CREATE TRIGGER trigger_categories_catalog_version_insert
+    AFTER INSERT ON categories
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION bump_food_catalog_version();
+
+CREATE TRIGGER trigger_categories_catalog_version_update
+    AFTER UPDATE ON categories
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION bump_food_catalog_version();
+
+CREATE TRIGGER trigger_categories_catalog_version_delete
+    AFTER DELETE ON categories
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION bump_food_catalog_version();
+
+COMMENT ON TABLE food_catalog_version IS '食材カタログのバージョン（foods・categories変更時に文単位で加算、ETag生成用）';
@@ -0,0 +1,207 @@
+-- カテゴリ階層の閉包テーブル（category_closure）の作成
+-- 祖先・子孫の全組み合わせを保持し、行単位で parent_id をたどっていた階層検証を置き換える
+--   循環参照チェック : (ancestor_id, descendant_id) の主キー1回の参照
+--   部分木の取得     : ancestor_id の範囲スキャン（主キー）
+--   祖先パスの取得   : descendant_id の範囲スキャン（idx_category_closure_descendant）
+
+-- 1. 閉包テーブル
+CREATE TABLE IF NOT EXISTS category_closure (
+    ancestor_id BIGINT NOT NULL REFERENCES categories(id) ON DELETE CASCADE,
+    descendant_id BIGINT NOT NULL REFERENCES categories(id) ON DELETE CASCADE,
+    depth INTEGER NOT NULL,
+
+    CONSTRAINT category_closure_pkey PRIMARY KEY (ancestor_id, descendant_id),
+    CONSTRAINT category_closure_depth_non_negative CHECK (depth >= 0)
+);
+
+CREATE INDEX IF NOT EXISTS idx_category_closure_descendant ON category_closure(descendant_id, depth);
+
+-- 2. 既存カテゴリからの初期構築（移行時の1回のみ再帰CTEを使用）
+INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+WITH RECURSIVE paths AS (
+    SELECT id AS ancestor_id, id AS descendant_id, 0 AS depth
+    FROM categories
+
+    UNION ALL
+
+    SELECT p.ancestor_id, c.id, p.depth + 1
+    FROM paths p
+    INNER JOIN categories c ON c.parent_id = p.descendant_id
+)
+SELECT ancestor_id, descendant_id, depth FROM paths
+ON CONFLICT (ancestor_id, descendant_id) DO NOTHING;
+
+-- 3. 行単位の階層検証（親の参照と閉包テーブルの参照のみ、親をたどるループは行わない）
+CREATE OR REPLACE FUNCTION validate_category_hierarchy()
+RETURNS TRIGGER AS $$
+DECLARE
+    max_depth INTEGER := 10;
+    parent_level INTEGER;
+    subtree_height INTEGER := 0;
+BEGIN
+    -- 親変更に伴う配下のlevel更新（閉包テーブル保守トリガーからの更新）はそのまま受け入れる
+    IF TG_OP = 'UPDATE' AND NEW.parent_id IS NOT DISTINCT FROM OLD.parent_id AND pg_trigger_depth() > 1 THEN
+        RETURN NEW;
+    END IF;
+
+    IF NEW.parent_id IS NULL THEN
+        -- 親IDが指定されていない場合はルートレベル
+        NEW.level := 1;
+    ELSE
+        -- 親カテゴリの存在確認
+        SELECT level INTO parent_level
+        FROM categories
+        WHERE id = NEW.parent_id AND is_active = true;
+
+        IF parent_level IS NULL THEN
+            RAISE EXCEPTION 'Parent category does not exist or is inactive: %', NEW.parent_id;
+        END IF;
+
+        -- レベルの自動計算
+        NEW.level := parent_level + 1;
+    END IF;
+
+    IF TG_OP = 'UPDATE' AND NEW.parent_id IS DISTINCT FROM OLD.parent_id THEN
+        -- 循環参照チェック：新しい親が自身の配下にあるか（主キー1回の参照）
+        IF NEW.parent_id IS NOT NULL AND EXISTS (
+            SELECT 1 FROM category_closure
+            WHERE ancestor_id = NEW.id AND descendant_id = NEW.parent_id
+        ) THEN
+            RAISE EXCEPTION 'Circular reference detected in category hierarchy';
+        END IF;
+
+        -- 移動する部分木の高さ
+        SELECT COALESCE(MAX(depth), 0) INTO subtree_height
+        FROM category_closure
+        WHERE ancestor_id = NEW.id;
+    END IF;
+
+    -- 最大深度チェック（移動時は部分木の末端まで含める）
+    IF NEW.level + subtree_height > max_depth THEN
+        RAISE EXCEPTION 'Category hierarchy too deep. Maximum depth is %', max_depth;
+    END IF;
+
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 4. 追加時の閉包テーブル保守（文単位）
+-- 同じ文で親子をまとめて追加した場合に備え、浅い階層から順に親の祖先行を引き継ぐ
+-- （ループ回数は文ごとの階層数で、行数には依存しない）
+CREATE OR REPLACE FUNCTION insert_category_closure()
+RETURNS TRIGGER AS $$
+DECLARE
+    current_level INTEGER;
+BEGIN
+    INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+    SELECT id, id, 0 FROM new_rows;
+
+    FOR current_level IN SELECT DISTINCT level FROM new_rows WHERE parent_id IS NOT NULL ORDER BY level LOOP
+        INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+        SELECT a.ancestor_id, n.id, a.depth + 1
+        FROM new_rows n
+        INNER JOIN category_closure a ON a.descendant_id = n.parent_id
+        WHERE n.level = current_level;
+    END LOOP;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 5. 親変更時の閉包テーブル保守（文単位）
+-- 移動した部分木と外部の祖先との行を削除し、新しい親の祖先 × 部分木の直積で張り直す
+CREATE OR REPLACE FUNCTION move_category_closure()
+RETURNS TRIGGER AS $$
+DECLARE
+    moved RECORD;
+BEGIN
+    FOR moved IN
+        SELECT n.id, n.parent_id
+        FROM new_rows n
+        INNER JOIN old_rows o ON o.id = n.id
+        WHERE n.parent_id IS DISTINCT FROM o.parent_id
+        ORDER BY n.level
+    LOOP
+        DELETE FROM category_closure c
+        USING category_closure sub
+        WHERE sub.ancestor_id = moved.id
+          AND c.descendant_id = sub.descendant_id
+          AND c.ancestor_id IN (
+              SELECT ancestor_id FROM category_closure
+              WHERE descendant_id = moved.id AND ancestor_id <> moved.id
+          );
+
+        IF moved.parent_id IS NOT NULL THEN
+            INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+            SELECT sup.ancestor_id, sub.descendant_id, sup.depth + sub.depth + 1
+            FROM category_closure sup
+            CROSS JOIN category_closure sub
+            WHERE sup.descendant_id = moved.parent_id
+              AND sub.ancestor_id = moved.id;
+        END IF;
+
+        -- 配下のlevelを祖先数から一括で再計算する
+        UPDATE categories c
+        SET level = d.depth + 1
+        FROM (
+            SELECT cl.descendant_id, MAX(cl.depth) AS depth
+            FROM category_closure cl
+            WHERE cl.descendant_id IN (
+                SELECT descendant_id FROM category_closure
+                WHERE ancestor_id = moved.id AND depth > 0
+            )
+            GROUP BY cl.descendant_id
+        ) d
+        WHERE c.id = d.descendant_id
+          AND c.level <> d.depth + 1;
+    END LOOP;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trigger_categories_closure_insert
+    AFTER INSERT ON categories
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION insert_category_closure();
+
+CREATE TRIGGER trigger_categories_closure_update
+    AFTER UPDATE ON categories
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION move_category_closure();
+
+-- 削除は外部キーの ON DELETE CASCADE で閉包テーブルからも削除される
+
+-- 6. 階層パス表示ビューを閉包テーブルで置き換え（列構成は従来と同じ）
+-- 祖先のいずれかが無効なカテゴリは、従来の再帰CTEと同様に除外する
+CREATE OR REPLACE VIEW category_hierarchy AS
+SELECT
+    c.id,
+    c.name,
+    c.display_name,
+    c.parent_id,
+    c.level,
+    c.sort_order,
+    p.path_names,
+    p.path_ids,
+    array_to_string(p.path_names, ' > ') AS full_path
+FROM categories c
+CROSS JOIN LATERAL (
+    SELECT
+        array_agg(a.name::text ORDER BY cl.depth DESC) AS path_names,
+        array_agg(a.id ORDER BY cl.depth DESC) AS path_ids,
+        bool_and(a.is_active IS TRUE) AS all_active
+    FROM category_closure cl
+    INNER JOIN categories a ON a.id = cl.ancestor_id
+    WHERE cl.descendant_id = c.id
+) p
+WHERE p.all_active
+ORDER BY p.path_names;
+
+-- テーブルコメント
+COMMENT ON TABLE category_closure IS 'カテゴリ階層の閉包テーブル（祖先・子孫の全組み合わせ、自身を深さ0で含む）';
+COMMENT ON COLUMN category_closure.ancestor_id IS '祖先カテゴリID';
+COMMENT ON COLUMN category_closure.descendant_id IS '子孫カテゴリID';
+COMMENT ON COLUMN category_closure.depth IS '祖先からの距離（0=自身）';
@@ -0,0 +1,57 @@
+-- ユーザー独自食材テーブル（user_custom_foods）の作成
+-- 共有の食材マスタ（foods）とは分けて保持し、検索時にユーザーごとの小さなオーバーレイとして合成する
+-- （foods に所有者列を足すと、全検索に所有者条件が付き、共有索引も全ユーザー分肥大化するため）
+
+CREATE TABLE IF NOT EXISTS user_custom_foods (
+    -- 基本情報
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    category_id BIGINT,
+
+    -- 栄養成分（100gあたり、foodsと同じ精度・範囲）
+    calories_per_100g INTEGER NOT NULL,
+    protein_g_per_100g DECIMAL(6,2) NOT NULL,
+    fat_g_per_100g DECIMAL(6,2) NOT NULL,
+    carbohydrates_g_per_100g DECIMAL(6,2) NOT NULL,
+    fiber_g_per_100g DECIMAL(6,2) NOT NULL DEFAULT 0.00,
+    tags TEXT[] NOT NULL DEFAULT '{}',
+
+    -- メタデータ
+    is_active BOOLEAN NOT NULL DEFAULT true,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+
+    -- 制約
+    CONSTRAINT fk_user_custom_foods_user_id FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT fk_user_custom_foods_category_id FOREIGN KEY (category_id) REFERENCES categories(id) ON DELETE SET NULL,
+    CONSTRAINT user_custom_foods_name_not_empty CHECK (LENGTH(TRIM(name)) > 0),
+    CONSTRAINT user_custom_foods_calories_positive CHECK (calories_per_100g >= 0 AND calories_per_100g <= 2000),
+    CONSTRAINT user_custom_foods_protein_positive CHECK (protein_g_per_100g >= 0 AND protein_g_per_100g <= 200),
+    CONSTRAINT user_custom_foods_fat_positive CHECK (fat_g_per_100g >= 0 AND fat_g_per_100g <= 200),
+    CONSTRAINT user_custom_foods_carbs_positive CHECK (carbohydrates_g_per_100g >= 0 AND carbohydrates_g_per_100g <= 200),
+    CONSTRAINT user_custom_foods_fiber_positive CHECK (fiber_g_per_100g >= 0 AND fiber_g_per_100g <= carbohydrates_g_per_100g)
+);
+
+-- オーバーレイ読み込み用（ユーザー単位で有効な食材のみ）
+CREATE INDEX IF NOT EXISTS idx_user_custom_foods_user_active ON user_custom_foods(user_id, id) WHERE is_active = true;
+
+-- 更新日時の自動更新トリガー
+CREATE OR REPLACE FUNCTION update_user_custom_foods_updated_at()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.updated_at = CURRENT_TIMESTAMP;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trigger_user_custom_foods_updated_at
+    BEFORE UPDATE ON user_custom_foods
+    FOR EACH ROW
+    EXECUTE FUNCTION update_user_custom_foods_updated_at();
+
+-- テーブルコメント
+COMMENT ON TABLE user_custom_foods IS 'ユーザー独自食材（共有カタログに重ねるユーザー別オーバーレイ）';
+COMMENT ON COLUMN user_custom_foods.user_id IS '所有ユーザーID';
+COMMENT ON COLUMN user_custom_foods.category_id IS 'カテゴリID（任意）';
+COMMENT ON COLUMN user_custom_foods.is_active IS '有効フラグ（論理削除用）';
@@ -0,0 +1,149 @@
+-- 調理方法による歩留まり・栄養残存率の導入
+-- 係数表（cooking_method_factors）はアプリケーションがカテゴリツリーと合わせてメモリ上に展開し、
+-- 明細の書き込み時に「残存率 ÷ 歩留まり」を解決済みの係数として meal_items に保存する。
+-- calculate_meal_item_nutrition() は同じ行の係数を掛けるだけで、係数表との結合や追加の参照は行わない。
+
+-- 1. カテゴリ × 調理方法の係数表
+CREATE TABLE IF NOT EXISTS cooking_method_factors (
+    id BIGSERIAL PRIMARY KEY,
+    category_id BIGINT REFERENCES categories(id) ON DELETE CASCADE, -- NULL = 全カテゴリの既定値
+    cooking_method VARCHAR(20) NOT NULL,
+    yield_factor DECIMAL(5,3) NOT NULL,           -- 調理後重量 ÷ 調理前重量
+    energy_retention DECIMAL(5,3) NOT NULL DEFAULT 1.000,
+    protein_retention DECIMAL(5,3) NOT NULL DEFAULT 1.000,
+    fat_retention DECIMAL(5,3) NOT NULL DEFAULT 1.000,
+    carbohydrate_retention DECIMAL(5,3) NOT NULL DEFAULT 1.000,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT cooking_method_factors_method_valid
+        CHECK (cooking_method IN ('grilled', 'pan_fried', 'boiled', 'steamed', 'roasted')),
+    CONSTRAINT cooking_method_factors_yield_range CHECK (yield_factor > 0.1 AND yield_factor <= 3),
+    CONSTRAINT cooking_method_factors_retention_range CHECK (
+        energy_retention BETWEEN 0 AND 1.5 AND protein_retention BETWEEN 0 AND 1.5
+        AND fat_retention BETWEEN 0 AND 1.5 AND carbohydrate_retention BETWEEN 0 AND 1.5),
+    CONSTRAINT cooking_method_factors_unique UNIQUE NULLS NOT DISTINCT (category_id, cooking_method)
+);
+
+-- 係数の変更も食材カタログのバージョンに含める（インメモリの係数表を読み直すため）
+CREATE TRIGGER trigger_cooking_method_factors_catalog_version_insert
+    AFTER INSERT ON cooking_method_factors
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION bump_food_catalog_version();
+
+CREATE TRIGGER trigger_cooking_method_factors_catalog_version_update
+    AFTER UPDATE ON cooking_method_factors
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION bump_food_catalog_version();
+
+CREATE TRIGGER trigger_cooking_method_factors_catalog_version_delete
+    AFTER DELETE ON cooking_method_factors
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION bump_food_catalog_version();
+
+-- 2. 初期係数（ルートカテゴリ単位、子カテゴリは最も近い祖先の値を引き継ぐ）
+INSERT INTO cooking_method_factors
+    (category_id, cooking_method, yield_factor, energy_retention, protein_retention, fat_retention, carbohydrate_retention)
+VALUES
+-- 全カテゴリ既定値
+(NULL, 'grilled',   0.750, 0.950, 1.000, 0.900, 1.000),
+(NULL, 'pan_fried', 0.780, 0.970, 1.000, 0.950, 1.000),
+(NULL, 'boiled',    0.800, 0.950, 0.980, 0.900, 0.950),
+(NULL, 'steamed',   0.850, 0.980, 1.000, 0.950, 1.000),
+(NULL, 'roasted',   0.720, 0.940, 1.000, 0.880, 1.000)
+ON CONFLICT ON CONSTRAINT cooking_method_factors_unique DO NOTHING;
+
+INSERT INTO cooking_method_factors
+    (category_id, cooking_method, yield_factor, energy_retention, protein_retention, fat_retention, carbohydrate_retention)
+SELECT c.id, v.cooking_method, v.yield_factor, v.energy_retention, v.protein_retention, v.fat_retention, v.carbohydrate_retention
+FROM (VALUES
+    -- 肉類：加熱で水分と脂が落ちる
+    ('meat',  'grilled',   0.720, 0.920, 1.000, 0.850, 1.000),
+    ('meat',  'pan_fried', 0.750, 0.950, 1.000, 0.920, 1.000),
+    ('meat',  'boiled',    0.700, 0.900, 0.970, 0.800, 1.000),
+    ('meat',  'steamed',   0.780, 0.940, 1.000, 0.880, 1.000),
+    ('meat',  'roasted',   0.700, 0.910, 1.000, 0.840, 1.000),
+    -- 魚介類：肉類より水分の減少が小さい
+    ('fish',  'grilled',   0.800, 0.960, 1.000, 0.920, 1.000),
+    ('fish',  'pan_fried', 0.820, 0.970, 1.000, 0.950, 1.000),
+    ('fish',  'boiled',    0.850, 0.950, 0.980, 0.900, 1.000),
+    ('fish',  'steamed',   0.870, 0.970, 1.000, 0.950, 1.000),
+    ('fish',  'roasted',   0.800, 0.960, 1.000, 0.920, 1.000),
+    -- 卵類：殻付きで茹でる・蒸す場合は重量がほぼ変わらない
+    ('eggs',  'boiled',    1.000, 1.000, 1.000, 1.000, 1.000),
+    ('eggs',  'steamed',   1.000, 1.000, 1.000, 1.000, 1.000),
+    ('eggs',  'pan_fried', 0.900, 0.980, 1.000, 0.950, 1.000),
+    -- 内臓：縮みが大きい
+    ('offal', 'grilled',   0.700, 0.930, 1.000, 0.900, 1.000),
+    ('offal', 'pan_fried', 0.720, 0.950, 1.000, 0.920, 1.000),
+    ('offal', 'boiled',    0.680, 0.920, 0.970, 0.880, 1.000)
+) AS v(category_name, cooking_method, yield_factor, energy_retention, protein_retention, fat_retention, carbohydrate_retention)
+INNER JOIN categories c ON c.name = v.category_name AND c.parent_id IS NULL
+ON CONFLICT ON CONSTRAINT cooking_method_factors_unique DO NOTHING;
+
+-- 3. 食事明細に調理方法と解決済み係数を追加（既存行は生 = 係数1）
+-- 調理方法は参照テーブルへの外部キーではなくCHECK制約で限定し、書き込み時の参照を増やさない
+ALTER TABLE meal_items
+    ADD COLUMN IF NOT EXISTS cooking_method VARCHAR(20) NOT NULL DEFAULT 'raw',
+    ADD COLUMN IF NOT EXISTS calories_factor DECIMAL(6,4) NOT NULL DEFAULT 1.0000,
+    ADD COLUMN IF NOT EXISTS protein_factor DECIMAL(6,4) NOT NULL DEFAULT 1.0000,
+    ADD COLUMN IF NOT EXISTS fat_factor DECIMAL(6,4) NOT NULL DEFAULT 1.0000,
+    ADD COLUMN IF NOT EXISTS net_carbs_factor DECIMAL(6,4) NOT NULL DEFAULT 1.0000;
+
+ALTER TABLE meal_items
+    ADD CONSTRAINT meal_items_cooking_method_valid
+        CHECK (cooking_method IN ('raw', 'grilled', 'pan_fried', 'boiled', 'steamed', 'roasted')),
+    ADD CONSTRAINT meal_items_factors_range CHECK (
+        calories_factor > 0 AND calories_factor <= 10 AND protein_factor > 0 AND protein_factor <= 10
+        AND fat_factor > 0 AND fat_factor <= 10 AND net_carbs_factor > 0 AND net_carbs_factor <= 10),
+    ADD CONSTRAINT meal_items_raw_factors_identity CHECK (
+        cooking_method <> 'raw'
+        OR (calories_factor = 1 AND protein_factor = 1 AND fat_factor = 1 AND net_carbs_factor = 1));
+
+-- 4. 栄養成分の自動計算に係数を反映（食材の参照は従来どおり1回のみ）
+-- 丸め前の計算は全て numeric の正確な値で行う（100での除算も割り切れる）
+CREATE OR REPLACE FUNCTION calculate_meal_item_nutrition()
+RETURNS TRIGGER AS $$
+DECLARE
+    food_nutrition RECORD;
+BEGIN
+    -- 食材の栄養成分を取得
+    SELECT
+        calories_per_100g,
+        protein_g_per_100g,
+        fat_g_per_100g,
+        carbohydrates_g_per_100g,
+        fiber_g_per_100g
+    INTO food_nutrition
+    FROM foods
+    WHERE id = NEW.food_id;
+
+    IF food_nutrition IS NULL THEN
+        RAISE EXCEPTION 'Food with id % not found', NEW.food_id;
+    END IF;
+
+    -- 栄養成分を計算（quantity_g/100 倍 × 調理係数）
+    NEW.item_calories := ROUND((food_nutrition.calories_per_100g * NEW.quantity_g * NEW.calories_factor / 100.0)::numeric, 0)::integer;
+    NEW.item_protein_g := ROUND((food_nutrition.protein_g_per_100g * NEW.quantity_g * NEW.protein_factor / 100.0)::numeric, 2);
+    NEW.item_fat_g := ROUND((food_nutrition.fat_g_per_100g * NEW.quantity_g * NEW.fat_factor / 100.0)::numeric, 2);
+    -- net_carbs = carbohydrates - fiber
+    NEW.item_net_carbs_g := ROUND(((food_nutrition.carbohydrates_g_per_100g - food_nutrition.fiber_g_per_100g) * NEW.quantity_g * NEW.net_carbs_factor / 100.0)::numeric, 2);
+
+    RETURN NEW;
+END;
+$$ language 'plpgsql';
+
+-- テーブルコメント
+COMMENT ON TABLE cooking_method_factors IS '調理方法ごとの歩留まり・栄養残存率（カテゴリ別、NULLは既定値）';
+COMMENT ON COLUMN cooking_method_factors.yield_factor IS '歩留まり（調理後重量 ÷ 調理前重量）';
+COMMENT ON COLUMN cooking_method_factors.energy_retention IS 'エネルギー残存率';
+COMMENT ON COLUMN cooking_method_factors.protein_retention IS 'タンパク質残存率';
+COMMENT ON COLUMN cooking_method_factors.fat_retention IS '脂質残存率';
+COMMENT ON COLUMN cooking_method_factors.carbohydrate_retention IS '炭水化物残存率';
+COMMENT ON COLUMN meal_items.cooking_method IS '調理方法（raw, grilled, pan_fried, boiled, steamed, roasted）';
+COMMENT ON COLUMN meal_items.calories_factor IS '調理後重量あたりのカロリー係数（残存率 ÷ 歩留まり、書き込み時に解決）';
+COMMENT ON COLUMN meal_items.protein_factor IS '調理後重量あたりのタンパク質係数';
+COMMENT ON COLUMN meal_items.fat_factor IS '調理後重量あたりの脂質係数';
+COMMENT ON COLUMN meal_items.net_carbs_factor IS '調理後重量あたりの正味炭水化物係数';
@@ -0,0 +1,68 @@
+-- 食材バーコード（GTIN-13 / JANコード）テーブル（food_barcodes）の作成
+-- アプリケーションは起動時に有効な対応を全件読み込み、GTIN昇順の配列としてメモリ上で二分探索する。
+-- 以降は食材と同様に food_catalog_version が進んだときだけ updated_at を基準に差分を取り込む。
+-- 対応の削除は is_active = false で行う（物理削除では差分取り込みで検出できないため）
+
+-- 1. チェックディジット検証関数（12桁に左から1,3,1,3,...の重みを掛けた和から求める）
+CREATE OR REPLACE FUNCTION is_valid_gtin13(gtin BIGINT)
+RETURNS BOOLEAN AS $$
+    SELECT gtin BETWEEN 0 AND 9999999999999
+       AND (10 - (
+               SELECT SUM(((gtin / (10::bigint ^ (i + 1))::bigint) % 10) * CASE WHEN i % 2 = 0 THEN 3 ELSE 1 END)
+               FROM generate_series(0, 11) AS i
+           ) % 10) % 10 = gtin % 10;
+$$ LANGUAGE sql IMMUTABLE;
+
+-- 2. バーコードテーブル（GTINは先頭の0を落とした数値で保持する）
+CREATE TABLE IF NOT EXISTS food_barcodes (
+    gtin BIGINT PRIMARY KEY,
+    food_id BIGINT NOT NULL REFERENCES foods(id) ON DELETE CASCADE,
+    is_active BOOLEAN NOT NULL DEFAULT true,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT food_barcodes_gtin_valid CHECK (is_valid_gtin13(gtin))
+);
+
+CREATE INDEX IF NOT EXISTS idx_food_barcodes_food_id ON food_barcodes(food_id);
+-- 差分取り込み用
+CREATE INDEX IF NOT EXISTS idx_food_barcodes_updated_at ON food_barcodes(updated_at);
+
+-- 3. 更新日時の自動更新トリガー
+CREATE OR REPLACE FUNCTION update_food_barcodes_updated_at()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.updated_at = CURRENT_TIMESTAMP;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trigger_food_barcodes_updated_at
+    BEFORE UPDATE ON food_barcodes
+    FOR EACH ROW
+    EXECUTE FUNCTION update_food_barcodes_updated_at();
+
+-- 4. バーコードの変更も食材カタログのバージョンに含める（差分取り込みの契機）
+CREATE TRIGGER trigger_food_barcodes_catalog_version_insert
+    AFTER INSERT ON food_barcodes
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION bump_food_catalog_version();
+
+CREATE TRIGGER trigger_food_barcodes_catalog_version_update
+    AFTER UPDATE ON food_barcodes
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION bump_food_catalog_version();
+
+CREATE TRIGGER trigger_food_barcodes_catalog_version_delete
+    AFTER DELETE ON food_barcodes
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION bump_food_catalog_version();
+
+-- テーブルコメント
+COMMENT ON TABLE food_barcodes IS '食材バーコード（GTIN-13 → 食材、包装済み食肉製品の検索用）';
+COMMENT ON COLUMN food_barcodes.gtin IS 'GTIN-13（12桁のUPC-Aは先頭に0を補う、数値のため先頭の0は保持しない）';
+COMMENT ON COLUMN food_barcodes.food_id IS '食材ID';
+COMMENT ON COLUMN food_barcodes.is_active IS '有効フラグ（削除は論理削除で行う）';
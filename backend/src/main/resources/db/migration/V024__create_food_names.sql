@@ -0,0 +1,101 @@
+-- 食材名の多言語化（food_names）
+-- foods.name は既定言語（ja）の表示名として残し、言語ごとの名前と読みを food_names に保持する。
+-- アプリケーションは言語ごとに検索索引をメモリ上に構築するため、検索時に翻訳テーブルとの結合は行わない。
+-- 名前が登録されていない言語では foods.name を使う（foods.name と重複する ja の行は持たない）。
+
+-- 1. 言語別の食材名
+CREATE TABLE IF NOT EXISTS food_names (
+    food_id BIGINT NOT NULL REFERENCES foods(id) ON DELETE CASCADE,
+    locale VARCHAR(10) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    reading VARCHAR(255),                         -- 読み（かな等、検索キーとして使用）
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT food_names_pkey PRIMARY KEY (food_id, locale),
+    CONSTRAINT food_names_locale_valid CHECK (locale IN ('ja', 'en')),
+    CONSTRAINT food_names_name_not_empty CHECK (LENGTH(TRIM(name)) > 0),
+    CONSTRAINT food_names_reading_not_empty CHECK (reading IS NULL OR LENGTH(TRIM(reading)) > 0)
+);
+
+-- 更新日時の自動更新トリガー
+CREATE OR REPLACE FUNCTION update_food_names_updated_at()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.updated_at = CURRENT_TIMESTAMP;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trigger_food_names_updated_at
+    BEFORE UPDATE ON food_names
+    FOR EACH ROW
+    EXECUTE FUNCTION update_food_names_updated_at();
+
+-- 名前の変更も食材カタログのバージョンに含める（言語別の検索索引を作り直すため）
+CREATE TRIGGER trigger_food_names_catalog_version_insert
+    AFTER INSERT ON food_names
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION bump_food_catalog_version();
+
+CREATE TRIGGER trigger_food_names_catalog_version_update
+    AFTER UPDATE ON food_names
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION bump_food_catalog_version();
+
+CREATE TRIGGER trigger_food_names_catalog_version_delete
+    AFTER DELETE ON food_names
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION bump_food_catalog_version();
+
+-- 2. 初期データ：初期食材に英語名を付ける
+-- ja は foods.name をそのまま使うため複製しない（読みを付ける場合のみ ja の行を登録する）
+INSERT INTO food_names (food_id, locale, name)
+SELECT f.id, 'en', v.en_name
+FROM (VALUES
+    ('牛肉サーロイン（脂身つき）', 'Beef sirloin (with fat)'),
+    ('牛肉ヒレ（赤身）', 'Beef tenderloin (lean)'),
+    ('牛肉リブロース（脂身つき）', 'Beef rib eye (with fat)'),
+    ('牛肉もも（赤身）', 'Beef round (lean)'),
+    ('牛挽肉（脂身つき）', 'Ground beef (with fat)'),
+    ('豚肉ロース（脂身つき）', 'Pork loin (with fat)'),
+    ('豚肉ヒレ（赤身）', 'Pork tenderloin (lean)'),
+    ('豚肉バラ（脂身つき）', 'Pork belly (with fat)'),
+    ('豚挽肉（脂身つき）', 'Ground pork (with fat)'),
+    ('鶏もも肉（皮つき）', 'Chicken thigh (with skin)'),
+    ('鶏むね肉（皮なし）', 'Chicken breast (skinless)'),
+    ('鶏ささみ', 'Chicken tenderloin'),
+    ('鶏皮', 'Chicken skin'),
+    ('サケ（切り身）', 'Salmon (fillet)'),
+    ('マグロ（赤身）', 'Tuna (lean)'),
+    ('マグロ（中トロ）', 'Tuna (medium fatty)'),
+    ('サバ（切り身）', 'Mackerel (fillet)'),
+    ('イワシ（丸干し）', 'Sardine (dried whole)'),
+    ('鶏卵（全卵）', 'Egg (whole)'),
+    ('鶏卵（卵黄のみ）', 'Egg yolk'),
+    ('鶏卵（卵白のみ）', 'Egg white'),
+    ('牛乳（普通）', 'Milk (whole)'),
+    ('チーズ（ナチュラルチーズ）', 'Natural cheese'),
+    ('バター（有塩）', 'Butter (salted)'),
+    ('生クリーム（乳脂肪35%）', 'Heavy cream (35% milk fat)'),
+    ('ヨーグルト（プレーン）', 'Yogurt (plain)')
+) AS v(ja_name, en_name)
+INNER JOIN foods f ON f.name = v.ja_name
+ON CONFLICT (food_id, locale) DO NOTHING;
+
+-- 3. ユーザーの表示言語（未設定の場合は Accept-Language から決める）
+ALTER TABLE user_profiles
+    ADD COLUMN IF NOT EXISTS preferred_locale VARCHAR(10);
+
+ALTER TABLE user_profiles
+    ADD CONSTRAINT chk_preferred_locale_valid CHECK (preferred_locale IS NULL OR preferred_locale IN ('ja', 'en'));
+
+-- テーブルコメント
+COMMENT ON TABLE food_names IS '言語別の食材名（言語ごとのインメモリ検索索引の元データ）';
+COMMENT ON COLUMN food_names.locale IS '言語（ja, en）';
+COMMENT ON COLUMN food_names.name IS '表示名';
+COMMENT ON COLUMN food_names.reading IS '読み（任意、名前と同様に検索対象）';
+COMMENT ON COLUMN user_profiles.preferred_locale IS '表示言語（ja, en、NULLの場合はAccept-Languageに従う）';
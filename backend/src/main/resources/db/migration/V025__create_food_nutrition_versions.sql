@@ -0,0 +1,203 @@
+-- 食材の栄養成分のバージョン管理（food_nutrition_versions）
+-- foods の栄養成分が変わるたびに新しいバージョン行を追加し（copy-on-write）、既存の行は変更しない。
+-- meal_items は計算に使ったバージョンを (food_id, food_version) で参照するため、
+-- 食材の値を訂正しても過去の明細・集計は再計算されず、整合性チェックも明細と同じバージョンで比較できる。
+
+-- 1. 栄養成分のバージョン（不変）
+CREATE TABLE IF NOT EXISTS food_nutrition_versions (
+    food_id BIGINT NOT NULL REFERENCES foods(id) ON DELETE CASCADE,  -- 明細から参照されているバージョンは meal_items 側の制約で削除できない
+    version_no INTEGER NOT NULL,
+    calories_per_100g INTEGER NOT NULL,
+    protein_g_per_100g DECIMAL(6,2) NOT NULL,
+    fat_g_per_100g DECIMAL(6,2) NOT NULL,
+    carbohydrates_g_per_100g DECIMAL(6,2) NOT NULL,
+    fiber_g_per_100g DECIMAL(6,2) NOT NULL DEFAULT 0.00,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT food_nutrition_versions_pkey PRIMARY KEY (food_id, version_no),
+    CONSTRAINT food_nutrition_versions_version_positive CHECK (version_no > 0)
+);
+
+-- 2. 食材の現在のバージョン番号
+ALTER TABLE foods
+    ADD COLUMN IF NOT EXISTS nutrition_version INTEGER NOT NULL DEFAULT 1;
+
+-- 既存の食材は現在の値をバージョン1とする
+INSERT INTO food_nutrition_versions
+    (food_id, version_no, calories_per_100g, protein_g_per_100g, fat_g_per_100g, carbohydrates_g_per_100g, fiber_g_per_100g)
+SELECT id, nutrition_version, calories_per_100g, protein_g_per_100g, fat_g_per_100g, carbohydrates_g_per_100g,
+       COALESCE(fiber_g_per_100g, 0)
+FROM foods
+ON CONFLICT (food_id, version_no) DO NOTHING;
+
+-- 3. 栄養成分が変わった行だけバージョン番号を進める（行単位、foods の同じ行のみを参照）
+-- 番号は常にトリガーが決め、UPDATE文で直接書き換えることはできない
+CREATE OR REPLACE FUNCTION bump_food_nutrition_version()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF (NEW.calories_per_100g, NEW.protein_g_per_100g, NEW.fat_g_per_100g,
+        NEW.carbohydrates_g_per_100g, COALESCE(NEW.fiber_g_per_100g, 0))
+       IS DISTINCT FROM
+       (OLD.calories_per_100g, OLD.protein_g_per_100g, OLD.fat_g_per_100g,
+        OLD.carbohydrates_g_per_100g, COALESCE(OLD.fiber_g_per_100g, 0)) THEN
+        NEW.nutrition_version := OLD.nutrition_version + 1;
+    ELSE
+        NEW.nutrition_version := OLD.nutrition_version;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trigger_foods_nutrition_version
+    BEFORE UPDATE ON foods
+    FOR EACH ROW
+    EXECUTE FUNCTION bump_food_nutrition_version();
+
+-- 4. 新しいバージョン行の追加（文単位、一括インポートでも1文の INSERT ... SELECT）
+CREATE OR REPLACE FUNCTION insert_food_nutrition_versions()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO food_nutrition_versions
+            (food_id, version_no, calories_per_100g, protein_g_per_100g, fat_g_per_100g, carbohydrates_g_per_100g, fiber_g_per_100g)
+        SELECT n.id, n.nutrition_version, n.calories_per_100g, n.protein_g_per_100g, n.fat_g_per_100g,
+               n.carbohydrates_g_per_100g, COALESCE(n.fiber_g_per_100g, 0)
+        FROM new_rows n;
+    ELSE
+        INSERT INTO food_nutrition_versions
+            (food_id, version_no, calories_per_100g, protein_g_per_100g, fat_g_per_100g, carbohydrates_g_per_100g, fiber_g_per_100g)
+        SELECT n.id, n.nutrition_version, n.calories_per_100g, n.protein_g_per_100g, n.fat_g_per_100g,
+               n.carbohydrates_g_per_100g, COALESCE(n.fiber_g_per_100g, 0)
+        FROM new_rows n
+        INNER JOIN old_rows o ON o.id = n.id
+        WHERE n.nutrition_version <> o.nutrition_version;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trigger_foods_nutrition_versions_insert
+    AFTER INSERT ON foods
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION insert_food_nutrition_versions();
+
+CREATE TRIGGER trigger_foods_nutrition_versions_update
+    AFTER UPDATE ON foods
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION insert_food_nutrition_versions();
+
+-- 5. バージョン行は追記のみ（過去の明細が参照する値を書き換えさせない）
+CREATE OR REPLACE FUNCTION reject_food_nutrition_version_update()
+RETURNS TRIGGER AS $$
+BEGIN
+    RAISE EXCEPTION 'food_nutrition_versions is append-only (food_id %, version %)', OLD.food_id, OLD.version_no;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trigger_food_nutrition_versions_immutable
+    BEFORE UPDATE ON food_nutrition_versions
+    FOR EACH ROW
+    EXECUTE FUNCTION reject_food_nutrition_version_update();
+
+-- 6. 食事明細に計算時のバージョンを追加
+-- 既存の明細は移行時点の値（バージョン1）で計算済みとみなす
+ALTER TABLE meal_items
+    ADD COLUMN IF NOT EXISTS food_version INTEGER;
+
+UPDATE meal_items mi
+SET food_version = f.nutrition_version
+FROM foods f
+WHERE f.id = mi.food_id AND mi.food_version IS NULL;
+
+ALTER TABLE meal_items
+    ALTER COLUMN food_version SET NOT NULL,
+    ADD CONSTRAINT fk_meal_items_food_version FOREIGN KEY (food_id, food_version)
+        REFERENCES food_nutrition_versions(food_id, version_no) ON DELETE RESTRICT;
+
+-- 7. 栄養成分の自動計算をバージョン参照に変更（参照は主キー1回）
+-- 新規追加・食材の変更時は現在のバージョンを使い、数量だけの変更では記録時のバージョンを維持する
+CREATE OR REPLACE FUNCTION calculate_meal_item_nutrition()
+RETURNS TRIGGER AS $$
+DECLARE
+    food_nutrition RECORD;
+BEGIN
+    IF TG_OP = 'UPDATE' AND NEW.food_id IS DISTINCT FROM OLD.food_id
+       AND NEW.food_version IS NOT DISTINCT FROM OLD.food_version THEN
+        NEW.food_version := NULL;
+    END IF;
+
+    -- バージョン未指定の場合は食材の現在のバージョン
+    SELECT
+        v.version_no,
+        v.calories_per_100g,
+        v.protein_g_per_100g,
+        v.fat_g_per_100g,
+        v.carbohydrates_g_per_100g,
+        v.fiber_g_per_100g
+    INTO food_nutrition
+    FROM food_nutrition_versions v
+    WHERE v.food_id = NEW.food_id
+      AND v.version_no = COALESCE(NEW.food_version, (SELECT nutrition_version FROM foods WHERE id = NEW.food_id));
+
+    IF food_nutrition IS NULL THEN
+        RAISE EXCEPTION 'Food with id % (version %) not found', NEW.food_id, NEW.food_version;
+    END IF;
+
+    NEW.food_version := food_nutrition.version_no;
+
+    -- 栄養成分を計算（quantity_g/100 倍 × 調理係数）
+    NEW.item_calories := ROUND((food_nutrition.calories_per_100g * NEW.quantity_g * NEW.calories_factor / 100.0)::numeric, 0)::integer;
+    NEW.item_protein_g := ROUND((food_nutrition.protein_g_per_100g * NEW.quantity_g * NEW.protein_factor / 100.0)::numeric, 2);
+    NEW.item_fat_g := ROUND((food_nutrition.fat_g_per_100g * NEW.quantity_g * NEW.fat_factor / 100.0)::numeric, 2);
+    -- net_carbs = carbohydrates - fiber
+    NEW.item_net_carbs_g := ROUND(((food_nutrition.carbohydrates_g_per_100g - food_nutrition.fiber_g_per_100g) * NEW.quantity_g * NEW.net_carbs_factor / 100.0)::numeric, 2);
+
+    RETURN NEW;
+END;
+$$ language 'plpgsql';
+
+-- 8. 整合性チェックを明細と同じバージョン・調理係数で比較するよう変更
+CREATE OR REPLACE FUNCTION validate_meal_nutrition_totals()
+RETURNS TRIGGER AS $$
+DECLARE
+    calculated_calories INTEGER;
+    calculated_protein DECIMAL(8,2);
+    calculated_fat DECIMAL(8,2);
+    calculated_net_carbs DECIMAL(8,2);
+BEGIN
+    -- 食事アイテムが参照するバージョンの値から栄養値を計算
+    SELECT
+        COALESCE(SUM(ROUND((v.calories_per_100g * mi.quantity_g * mi.calories_factor / 100.0)::numeric, 0)::integer), 0),
+        COALESCE(SUM(ROUND((v.protein_g_per_100g * mi.quantity_g * mi.protein_factor / 100.0)::numeric, 2)), 0.00),
+        COALESCE(SUM(ROUND((v.fat_g_per_100g * mi.quantity_g * mi.fat_factor / 100.0)::numeric, 2)), 0.00),
+        COALESCE(SUM(ROUND(((v.carbohydrates_g_per_100g - v.fiber_g_per_100g) * mi.quantity_g * mi.net_carbs_factor / 100.0)::numeric, 2)), 0.00)
+    INTO
+        calculated_calories,
+        calculated_protein,
+        calculated_fat,
+        calculated_net_carbs
+    FROM meal_items mi
+    JOIN food_nutrition_versions v ON v.food_id = mi.food_id AND v.version_no = mi.food_version
+    WHERE mi.meal_id = NEW.id AND mi.is_deleted = false;
+
+    -- 差異が閾値を超える場合は警告（ログ出力）
+    IF ABS(calculated_calories - NEW.total_calories) > 10 OR
+       ABS(calculated_protein - NEW.total_protein_g) > 1.0 OR
+       ABS(calculated_fat - NEW.total_fat_g) > 1.0 OR
+       ABS(calculated_net_carbs - NEW.total_net_carbs_g) > 1.0 THEN
+        RAISE NOTICE 'Nutrition totals mismatch for meal_id %: calculated(cal:%, protein:%, fat:%, net_carbs:%) vs stored(cal:%, protein:%, fat:%, net_carbs:%)',
+            NEW.id, calculated_calories, calculated_protein, calculated_fat, calculated_net_carbs,
+            NEW.total_calories, NEW.total_protein_g, NEW.total_fat_g, NEW.total_net_carbs_g;
+    END IF;
+
+    RETURN NEW;
+END;
+$$ language 'plpgsql';
+
+-- テーブルコメント
+COMMENT ON TABLE food_nutrition_versions IS '食材の栄養成分のバージョン（追記のみ、食事明細が計算時の値を参照する）';
+COMMENT ON COLUMN food_nutrition_versions.version_no IS 'バージョン番号（食材ごとに1から連番）';
+COMMENT ON COLUMN foods.nutrition_version IS '現在の栄養成分のバージョン番号（栄養成分の変更時にトリガーで加算）';
+COMMENT ON COLUMN meal_items.food_version IS '計算に使った栄養成分のバージョン番号（food_nutrition_versions参照）';
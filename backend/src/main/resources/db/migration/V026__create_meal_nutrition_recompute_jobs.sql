@@ -0,0 +1,127 @@
+-- 食事明細の栄養成分の一括再計算ジョブ
+-- 食材の栄養成分を訂正した後、古いバージョンを参照している明細を現在のバージョンで計算し直す。
+-- 明細はID順のチャンクで読み、アプリケーション側でまとめて計算して一括UPDATEし、
+-- 食事の合計はチャンクごとに集合演算で1回だけ更新する。
+-- チャンクの書き込みとチェックポイントの更新は同じトランザクションで行い、中断後はチェックポイントから再開する。
+
+-- 1. ジョブとチェックポイント
+CREATE TABLE IF NOT EXISTS meal_nutrition_recompute_jobs (
+    id BIGSERIAL PRIMARY KEY,
+    food_ids BIGINT[],                              -- 対象の食材（NULL = 古いバージョンを参照する全明細）
+    status VARCHAR(20) NOT NULL DEFAULT 'RUNNING',
+    last_meal_item_id BIGINT NOT NULL DEFAULT 0,    -- チェックポイント（処理済みの最大の明細ID）
+    processed_items BIGINT NOT NULL DEFAULT 0,
+    updated_meals BIGINT NOT NULL DEFAULT 0,
+    requested_by BIGINT,
+    error TEXT,
+    started_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    finished_at TIMESTAMP WITH TIME ZONE,
+
+    CONSTRAINT meal_nutrition_recompute_jobs_status_valid CHECK (status IN ('RUNNING', 'COMPLETED', 'FAILED'))
+);
+
+-- 実行中のジョブは常に1件まで
+CREATE UNIQUE INDEX IF NOT EXISTS idx_meal_nutrition_recompute_jobs_running
+    ON meal_nutrition_recompute_jobs ((true)) WHERE status = 'RUNNING';
+
+-- 2. 一括書き込み中は明細の行単位トリガーを省略する
+-- トランザクション内で set_config('meatmetrics.bulk_nutrition_write', 'on', true) を実行した場合のみ有効
+-- （計算済みの値と食事の合計は呼び出し側がまとめて書き込む）
+CREATE OR REPLACE FUNCTION calculate_meal_item_nutrition()
+RETURNS TRIGGER AS $$
+DECLARE
+    food_nutrition RECORD;
+BEGIN
+    IF current_setting('meatmetrics.bulk_nutrition_write', true) = 'on' THEN
+        RETURN NEW;
+    END IF;
+
+    IF TG_OP = 'UPDATE' AND NEW.food_id IS DISTINCT FROM OLD.food_id
+       AND NEW.food_version IS NOT DISTINCT FROM OLD.food_version THEN
+        NEW.food_version := NULL;
+    END IF;
+
+    -- バージョン未指定の場合は食材の現在のバージョン
+    SELECT
+        v.version_no,
+        v.calories_per_100g,
+        v.protein_g_per_100g,
+        v.fat_g_per_100g,
+        v.carbohydrates_g_per_100g,
+        v.fiber_g_per_100g
+    INTO food_nutrition
+    FROM food_nutrition_versions v
+    WHERE v.food_id = NEW.food_id
+      AND v.version_no = COALESCE(NEW.food_version, (SELECT nutrition_version FROM foods WHERE id = NEW.food_id));
+
+    IF food_nutrition IS NULL THEN
+        RAISE EXCEPTION 'Food with id % (version %) not found', NEW.food_id, NEW.food_version;
+    END IF;
+
+    NEW.food_version := food_nutrition.version_no;
+
+    -- 栄養成分を計算（quantity_g/100 倍 × 調理係数）
+    NEW.item_calories := ROUND((food_nutrition.calories_per_100g * NEW.quantity_g * NEW.calories_factor / 100.0)::numeric, 0)::integer;
+    NEW.item_protein_g := ROUND((food_nutrition.protein_g_per_100g * NEW.quantity_g * NEW.protein_factor / 100.0)::numeric, 2);
+    NEW.item_fat_g := ROUND((food_nutrition.fat_g_per_100g * NEW.quantity_g * NEW.fat_factor / 100.0)::numeric, 2);
+    -- net_carbs = carbohydrates - fiber
+    NEW.item_net_carbs_g := ROUND(((food_nutrition.carbohydrates_g_per_100g - food_nutrition.fiber_g_per_100g) * NEW.quantity_g * NEW.net_carbs_factor / 100.0)::numeric, 2);
+
+    RETURN NEW;
+END;
+$$ language 'plpgsql';
+
+CREATE OR REPLACE FUNCTION update_meal_totals()
+RETURNS TRIGGER AS $$
+DECLARE
+    target_meal_id BIGINT;
+BEGIN
+    IF current_setting('meatmetrics.bulk_nutrition_write', true) = 'on' THEN
+        RETURN COALESCE(NEW, OLD);
+    END IF;
+
+    -- INSERT/UPDATE の場合
+    IF TG_OP = 'INSERT' OR TG_OP = 'UPDATE' THEN
+        target_meal_id := NEW.meal_id;
+    -- DELETE の場合
+    ELSIF TG_OP = 'DELETE' THEN
+        target_meal_id := OLD.meal_id;
+    END IF;
+
+    -- 食事記録の栄養集計を更新
+    UPDATE meals
+    SET
+        total_calories = COALESCE((
+            SELECT SUM(item_calories)
+            FROM meal_items
+            WHERE meal_id = target_meal_id AND is_deleted = false
+        ), 0),
+        total_protein_g = COALESCE((
+            SELECT SUM(item_protein_g)
+            FROM meal_items
+            WHERE meal_id = target_meal_id AND is_deleted = false
+        ), 0.00),
+        total_fat_g = COALESCE((
+            SELECT SUM(item_fat_g)
+            FROM meal_items
+            WHERE meal_id = target_meal_id AND is_deleted = false
+        ), 0.00),
+        total_net_carbs_g = COALESCE((
+            SELECT SUM(item_net_carbs_g)
+            FROM meal_items
+            WHERE meal_id = target_meal_id AND is_deleted = false
+        ), 0.00),
+        updated_at = CURRENT_TIMESTAMP
+    WHERE id = target_meal_id;
+
+    RETURN COALESCE(NEW, OLD);
+END;
+$$ language 'plpgsql';
+
+-- テーブルコメント
+COMMENT ON TABLE meal_nutrition_recompute_jobs IS '食事明細の栄養成分の一括再計算ジョブ（チェックポイントから再開可能）';
+COMMENT ON COLUMN meal_nutrition_recompute_jobs.food_ids IS '対象の食材ID（NULLの場合は古いバージョンを参照する全明細）';
+COMMENT ON COLUMN meal_nutrition_recompute_jobs.last_meal_item_id IS 'チェックポイント（処理済みの最大の明細ID）';
+COMMENT ON COLUMN meal_nutrition_recompute_jobs.processed_items IS '再計算した明細数';
+COMMENT ON COLUMN meal_nutrition_recompute_jobs.updated_meals IS '合計を更新した食事数（チャンクごとの延べ数）';
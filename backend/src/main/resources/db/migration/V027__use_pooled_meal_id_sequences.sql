@@ -0,0 +1,13 @@
+-- 食事記録の主キー採番をアプリケーション側のプール方式に変更
+-- Hibernate は IDENTITY 採番ではINSERTをバッチ化できない（1行ごとに生成キーを受け取る必要がある）ため、
+-- meals / meal_items はシーケンスから50件単位で番号を確保し、INSERTをまとめて送る。
+--   nextval が N を返した場合、アプリケーションは N-49 〜 N を使う（Hibernate pooled optimizer）
+-- 列の DEFAULT nextval(...) はそのまま残す。SQLから直接追加した行は返された値そのものを使うため、
+-- アプリケーションが確保した範囲とは重ならない（番号に飛びが生じるだけ）。
+
+ALTER SEQUENCE meals_id_seq INCREMENT BY 50;
+ALTER SEQUENCE meal_items_id_seq INCREMENT BY 50;
+
+-- 既存データより後ろの範囲から確保されるよう、現在値を最大IDに合わせる
+SELECT setval('meals_id_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM meals), 1), (SELECT COUNT(*) > 0 FROM meals));
+SELECT setval('meal_items_id_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM meal_items), 1), (SELECT COUNT(*) > 0 FROM meal_items));
@@ -0,0 +1,140 @@
+-- 食事の栄養合計を文単位のトリガーで差分更新する
+-- 従来の trigger_update_meal_totals は明細1行ごとに食事の全明細を4回集計し直していたため、
+-- 1文で明細を N 行追加すると集計が 4N 回、meals の更新が N 回になっていた（O(N^2)）。
+-- 遷移テーブル（変更前後の行）から食事ごとの増減を1回だけ集計し、
+-- 食事1件につき1回の「合計 += 増減」で反映する（O(N)、同時更新でも行ロックの順に加算される）。
+-- 論理削除済みの明細は合計に含めないため、is_deleted の変更も増減として扱う。
+-- 一括書き込み中（meatmetrics.bulk_nutrition_write = 'on'）は呼び出し側が合計を書き込むため何もしない。
+
+-- 1. 行単位の再集計トリガーを削除
+DROP TRIGGER IF EXISTS trigger_update_meal_totals ON meal_items;
+DROP FUNCTION IF EXISTS update_meal_totals();
+
+-- 2. 文単位の差分反映
+-- 遷移テーブルは存在するものだけを参照する（PL/pgSQLの文は実行時に計画されるため、分岐ごとに参照を分ける）
+CREATE OR REPLACE FUNCTION apply_meal_totals_deltas()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF current_setting('meatmetrics.bulk_nutrition_write', true) = 'on' THEN
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP = 'INSERT' THEN
+        UPDATE meals m
+        SET
+            total_calories = m.total_calories + d.calories,
+            total_protein_g = m.total_protein_g + d.protein_g,
+            total_fat_g = m.total_fat_g + d.fat_g,
+            total_net_carbs_g = m.total_net_carbs_g + d.net_carbs_g,
+            updated_at = CURRENT_TIMESTAMP
+        FROM (
+            SELECT meal_id,
+                   SUM(item_calories) AS calories, SUM(item_protein_g) AS protein_g,
+                   SUM(item_fat_g) AS fat_g, SUM(item_net_carbs_g) AS net_carbs_g
+            FROM new_items
+            WHERE is_deleted = false
+            GROUP BY meal_id
+        ) d
+        WHERE m.id = d.meal_id;
+
+    ELSIF TG_OP = 'DELETE' THEN
+        UPDATE meals m
+        SET
+            total_calories = m.total_calories - d.calories,
+            total_protein_g = m.total_protein_g - d.protein_g,
+            total_fat_g = m.total_fat_g - d.fat_g,
+            total_net_carbs_g = m.total_net_carbs_g - d.net_carbs_g,
+            updated_at = CURRENT_TIMESTAMP
+        FROM (
+            SELECT meal_id,
+                   SUM(item_calories) AS calories, SUM(item_protein_g) AS protein_g,
+                   SUM(item_fat_g) AS fat_g, SUM(item_net_carbs_g) AS net_carbs_g
+            FROM old_items
+            WHERE is_deleted = false
+            GROUP BY meal_id
+        ) d
+        WHERE m.id = d.meal_id;
+
+    ELSE
+        -- 明細の移動（meal_id の変更）にも対応するため、変更後を加算・変更前を減算して食事ごとに集計する
+        UPDATE meals m
+        SET
+            total_calories = m.total_calories + d.calories,
+            total_protein_g = m.total_protein_g + d.protein_g,
+            total_fat_g = m.total_fat_g + d.fat_g,
+            total_net_carbs_g = m.total_net_carbs_g + d.net_carbs_g,
+            updated_at = CURRENT_TIMESTAMP
+        FROM (
+            SELECT meal_id,
+                   SUM(calories) AS calories, SUM(protein_g) AS protein_g,
+                   SUM(fat_g) AS fat_g, SUM(net_carbs_g) AS net_carbs_g
+            FROM (
+                SELECT meal_id, item_calories AS calories, item_protein_g AS protein_g,
+                       item_fat_g AS fat_g, item_net_carbs_g AS net_carbs_g
+                FROM new_items
+                WHERE is_deleted = false
+                UNION ALL
+                SELECT meal_id, -item_calories, -item_protein_g, -item_fat_g, -item_net_carbs_g
+                FROM old_items
+                WHERE is_deleted = false
+            ) changes
+            GROUP BY meal_id
+        ) d
+        WHERE m.id = d.meal_id
+          AND (d.calories <> 0 OR d.protein_g <> 0 OR d.fat_g <> 0 OR d.net_carbs_g <> 0);
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 遷移テーブルを使うトリガーは操作ごとに1つずつ定義する必要がある
+CREATE TRIGGER trigger_meal_items_totals_insert
+    AFTER INSERT ON meal_items
+    REFERENCING NEW TABLE AS new_items
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION apply_meal_totals_deltas();
+
+CREATE TRIGGER trigger_meal_items_totals_update
+    AFTER UPDATE ON meal_items
+    REFERENCING OLD TABLE AS old_items NEW TABLE AS new_items
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION apply_meal_totals_deltas();
+
+CREATE TRIGGER trigger_meal_items_totals_delete
+    AFTER DELETE ON meal_items
+    REFERENCING OLD TABLE AS old_items
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION apply_meal_totals_deltas();
+
+-- 3. 既存の合計を明細から1回だけ再集計し、以降の差分の起点を揃える
+UPDATE meals m
+SET
+    total_calories = t.calories,
+    total_protein_g = t.protein_g,
+    total_fat_g = t.fat_g,
+    total_net_carbs_g = t.net_carbs_g
+FROM (
+    SELECT ml.id AS meal_id,
+           COALESCE(SUM(mi.item_calories), 0) AS calories,
+           COALESCE(SUM(mi.item_protein_g), 0.00) AS protein_g,
+           COALESCE(SUM(mi.item_fat_g), 0.00) AS fat_g,
+           COALESCE(SUM(mi.item_net_carbs_g), 0.00) AS net_carbs_g
+    FROM meals ml
+    LEFT JOIN meal_items mi ON mi.meal_id = ml.id AND mi.is_deleted = false
+    GROUP BY ml.id
+) t
+WHERE m.id = t.meal_id
+  AND (m.total_calories IS DISTINCT FROM t.calories
+       OR m.total_protein_g IS DISTINCT FROM t.protein_g
+       OR m.total_fat_g IS DISTINCT FROM t.fat_g
+       OR m.total_net_carbs_g IS DISTINCT FROM t.net_carbs_g);
+
+-- 合計の NULL は差分の加算で NULL のままになるため禁止する
+ALTER TABLE meals
+    ALTER COLUMN total_calories SET NOT NULL,
+    ALTER COLUMN total_protein_g SET NOT NULL,
+    ALTER COLUMN total_fat_g SET NOT NULL,
+    ALTER COLUMN total_net_carbs_g SET NOT NULL;
+
+COMMENT ON FUNCTION apply_meal_totals_deltas() IS '明細の変更を食事ごとの増減に集計し、meals の合計へ1回だけ加算する（文単位）';
@@ -0,0 +1,39 @@
+-- 明細の栄養成分をアプリケーションで計算して書き込む
+-- 食事記録APIは、インメモリのカタログ（食材の値と栄養成分のバージョン）から明細の栄養成分を計算し、
+-- food_version と item_* をINSERTに含める。計算は calculate_meal_item_nutrition() と同じ式・丸めのため、
+-- 値が揃っている行ではトリガー関数を呼ばず、明細ごとの foods / food_nutrition_versions の参照をなくす。
+-- 値が揃っていない行（SQLから直接追加した行、摂取量だけを変更した行など）は従来どおりトリガーが計算する。
+-- バージョンと値の組は (food_id, food_version) の外部キーで検証され、値そのものは整合性チェックで照合する。
+
+-- 計算値の既定値（0）をなくす。既定値が残ると、バージョンだけを指定して計算値を省略した行が
+-- 0kcal・0g として揃っているとみなされ、トリガーが計算しない（V035 のパーティション化もこの定義を引き継ぐ）
+ALTER TABLE meal_items
+    ALTER COLUMN item_calories DROP DEFAULT,
+    ALTER COLUMN item_protein_g DROP DEFAULT,
+    ALTER COLUMN item_fat_g DROP DEFAULT,
+    ALTER COLUMN item_net_carbs_g DROP DEFAULT;
+
+DROP TRIGGER IF EXISTS trigger_calculate_meal_item_nutrition ON meal_items;
+
+-- 追加：バージョンまたは計算値のいずれかが未指定の場合のみ計算する
+CREATE TRIGGER trigger_calculate_meal_item_nutrition_insert
+    BEFORE INSERT ON meal_items
+    FOR EACH ROW
+    WHEN (NEW.food_version IS NULL
+          OR NEW.item_calories IS NULL OR NEW.item_protein_g IS NULL
+          OR NEW.item_fat_g IS NULL OR NEW.item_net_carbs_g IS NULL)
+    EXECUTE FUNCTION calculate_meal_item_nutrition();
+
+-- 更新：計算の入力（食材・バージョン・摂取量・係数）が変わり、計算値が同時に書き換えられていない場合のみ計算する
+CREATE TRIGGER trigger_calculate_meal_item_nutrition_update
+    BEFORE UPDATE ON meal_items
+    FOR EACH ROW
+    WHEN ((NEW.food_id, NEW.food_version, NEW.quantity_g,
+           NEW.calories_factor, NEW.protein_factor, NEW.fat_factor, NEW.net_carbs_factor)
+          IS DISTINCT FROM
+          (OLD.food_id, OLD.food_version, OLD.quantity_g,
+           OLD.calories_factor, OLD.protein_factor, OLD.fat_factor, OLD.net_carbs_factor)
+          AND (NEW.item_calories, NEW.item_protein_g, NEW.item_fat_g, NEW.item_net_carbs_g)
+              IS NOT DISTINCT FROM
+              (OLD.item_calories, OLD.item_protein_g, OLD.item_fat_g, OLD.item_net_carbs_g))
+    EXECUTE FUNCTION calculate_meal_item_nutrition();
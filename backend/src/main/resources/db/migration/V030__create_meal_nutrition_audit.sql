@@ -0,0 +1,50 @@
+-- 食事の栄養合計の整合性チェックをバックグラウンドの監査に移す
+-- validate_meal_nutrition_totals() は information_schema の参照と全明細の再集計を行い、
+-- 結果は誰も読まない RAISE NOTICE だけだったため削除する（書き込み経路では何も検証しない）。
+-- 監査は最近更新された食事を (updated_at, id) のキーセット順にまとめて読み、
+-- 保存済みの合計と、明細が参照するバージョンの栄養成分から計算し直した合計を比較する。
+-- 不一致は meal_nutrition_mismatches に記録し、設定により自動で修復する。
+
+-- 1. 書き込み時の整合性チェック関数を削除（トリガーが残っている場合は一緒に削除）
+DROP FUNCTION IF EXISTS validate_meal_nutrition_totals() CASCADE;
+
+-- 2. キーセット走査のための更新日時の索引
+UPDATE meals SET updated_at = COALESCE(created_at, CURRENT_TIMESTAMP) WHERE updated_at IS NULL;
+ALTER TABLE meals ALTER COLUMN updated_at SET NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_meals_updated_at_id ON meals(updated_at, id);
+
+-- 3. 監査の走査位置（1行のみ、行ロックで複数インスタンスの同時実行を防ぐ）
+CREATE TABLE IF NOT EXISTS meal_nutrition_audit_cursor (
+    id SMALLINT PRIMARY KEY DEFAULT 1,
+    last_updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT '1970-01-01 00:00:00+00',
+    last_meal_id BIGINT NOT NULL DEFAULT 0,
+    audited_at TIMESTAMP WITH TIME ZONE,
+
+    CONSTRAINT meal_nutrition_audit_cursor_single_row CHECK (id = 1)
+);
+
+INSERT INTO meal_nutrition_audit_cursor (id) VALUES (1) ON CONFLICT (id) DO NOTHING;
+
+-- 4. 検出した不一致（食事ごとに最新の1件）
+-- 食事の物理削除を妨げないよう外部キーは付けない
+CREATE TABLE IF NOT EXISTS meal_nutrition_mismatches (
+    meal_id BIGINT PRIMARY KEY,
+    stored_calories INTEGER NOT NULL,
+    stored_protein_g DECIMAL(10,2) NOT NULL,
+    stored_fat_g DECIMAL(10,2) NOT NULL,
+    stored_net_carbs_g DECIMAL(10,2) NOT NULL,
+    expected_calories INTEGER NOT NULL,
+    expected_protein_g DECIMAL(10,2) NOT NULL,
+    expected_fat_g DECIMAL(10,2) NOT NULL,
+    expected_net_carbs_g DECIMAL(10,2) NOT NULL,
+    detected_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    repaired_at TIMESTAMP WITH TIME ZONE
+);
+
+CREATE INDEX IF NOT EXISTS idx_meal_nutrition_mismatches_open
+    ON meal_nutrition_mismatches(detected_at) WHERE repaired_at IS NULL;
+
+-- テーブルコメント
+COMMENT ON TABLE meal_nutrition_audit_cursor IS '栄養合計の監査の走査位置（meals の updated_at, id）';
+COMMENT ON TABLE meal_nutrition_mismatches IS '栄養合計の監査で検出した不一致（stored = 保存値、expected = 明細のバージョンから再計算した値）';
+COMMENT ON COLUMN meal_nutrition_mismatches.repaired_at IS '自動修復した日時（未修復の場合NULL）';
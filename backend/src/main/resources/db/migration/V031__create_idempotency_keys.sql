@@ -0,0 +1,76 @@
+-- 食事の書き込みAPIの冪等キー（Idempotency-Key）の保存先
+-- 成功した応答をステータス・Content-Type・本文のバイト列のまま保存し、同じキーの再送には保存済みの応答をそのまま返す。
+-- 行の期限切れはDELETEではなく日単位のパーティションの削除で行う（不要行の掃除とVACUUMが不要）。
+-- キーは書き込みと同じトランザクションで行を挿入して確保し（ON CONFLICT DO NOTHING）、応答もコミット前に保存する。
+-- 同じキーの同時送信は主キー（同じ作成日）で1件だけが確保でき、他方は先のトランザクションの確定を待って保存済みの応答を返す。
+-- 前日までに保存した応答は、確保の前に保持期間内の全パーティションから参照する。
+
+-- 1. 冪等キー（作成日の範囲パーティション）
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    user_id BIGINT NOT NULL,
+    idempotency_key VARCHAR(255) NOT NULL,
+    created_on DATE NOT NULL DEFAULT CURRENT_DATE,
+    request_hash BYTEA NOT NULL,
+    status_code SMALLINT NOT NULL,
+    content_type VARCHAR(100) NOT NULL,
+    response_body BYTEA NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    -- パーティションキーを含める必要があるため、日付をまたぐ同じキーは別の行になる
+    -- （参照は保持期間内の全パーティションを対象に行う）
+    CONSTRAINT idempotency_keys_pkey PRIMARY KEY (user_id, idempotency_key, created_on),
+    CONSTRAINT idempotency_keys_request_hash_length CHECK (octet_length(request_hash) = 32),
+    CONSTRAINT idempotency_keys_status_code_range CHECK (status_code BETWEEN 200 AND 299)
+) PARTITION BY RANGE (created_on);
+
+-- 2. 日単位のパーティションの作成（作成済みの日は何もしない）
+CREATE OR REPLACE FUNCTION create_idempotency_key_partitions(days_ahead INTEGER)
+RETURNS INTEGER AS $$
+DECLARE
+    day DATE;
+    partition_name TEXT;
+    created INTEGER := 0;
+BEGIN
+    FOR day IN SELECT generate_series(CURRENT_DATE - 1, CURRENT_DATE + days_ahead, INTERVAL '1 day')::date LOOP
+        partition_name := 'idempotency_keys_p' || to_char(day, 'YYYYMMDD');
+        IF to_regclass(partition_name) IS NULL THEN
+            EXECUTE format(
+                'CREATE TABLE %I PARTITION OF idempotency_keys FOR VALUES FROM (%L) TO (%L)',
+                partition_name, day, day + 1);
+            created := created + 1;
+        END IF;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 3. 保持期間を過ぎたパーティションの削除
+CREATE OR REPLACE FUNCTION drop_idempotency_key_partitions(retention_days INTEGER)
+RETURNS INTEGER AS $$
+DECLARE
+    partition RECORD;
+    dropped INTEGER := 0;
+BEGIN
+    FOR partition IN
+        SELECT c.relname
+        FROM pg_inherits i
+        INNER JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'idempotency_keys'::regclass
+          AND c.relname ~ '^idempotency_keys_p[0-9]{8}$'
+          AND to_date(right(c.relname, 8), 'YYYYMMDD') < CURRENT_DATE - retention_days
+    LOOP
+        EXECUTE format('DROP TABLE %I', partition.relname);
+        dropped := dropped + 1;
+    END LOOP;
+    RETURN dropped;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT create_idempotency_key_partitions(3);
+
+-- テーブルコメント
+COMMENT ON TABLE idempotency_keys IS '食事の書き込みAPIの冪等キーと保存済みの応答（作成日の日単位パーティション）';
+COMMENT ON COLUMN idempotency_keys.idempotency_key IS 'クライアントが指定したIdempotency-Keyヘッダーの値';
+COMMENT ON COLUMN idempotency_keys.created_on IS '作成日（パーティションキー、保持期間を過ぎた日はパーティションごと削除）';
+COMMENT ON COLUMN idempotency_keys.request_hash IS 'メソッド・パス・リクエスト本文のSHA-256（同じキーでの別内容の送信を検出）';
+COMMENT ON COLUMN idempotency_keys.response_body IS '初回の応答本文（再送時にバイト単位でそのまま返す）';
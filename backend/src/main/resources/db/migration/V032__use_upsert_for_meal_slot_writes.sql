@@ -0,0 +1,20 @@
+-- 同じ食事枠（ユーザー・日付・食事の種類）への同時書き込みを INSERT ... ON CONFLICT DO UPDATE で処理する
+-- 遅延可能（DEFERRABLE）な一意制約は ON CONFLICT の判定に使えないため、即時判定の制約に張り替える。
+-- 遅延判定ではコミット時に初めて重複が分かり、トランザクション全体のやり直しが必要だったが、
+-- 即時判定であれば後から来たINSERTは先行トランザクションの完了を待ってから既存行の更新に切り替わる。
+
+-- 1. 食事：ユーザー・日付・食事の種類の一意制約
+ALTER TABLE meals DROP CONSTRAINT IF EXISTS unique_user_meal_date_type;
+ALTER TABLE meals
+    ADD CONSTRAINT unique_user_meal_date_type UNIQUE (user_id, meal_date, meal_type);
+
+-- 一意制約の索引と同じ列構成のため不要
+DROP INDEX IF EXISTS idx_meals_user_date_type;
+
+-- 2. 明細：食事内の食材の一意制約（論理削除済みの行も含む）
+ALTER TABLE meal_items DROP CONSTRAINT IF EXISTS unique_meal_food;
+ALTER TABLE meal_items
+    ADD CONSTRAINT unique_meal_food UNIQUE (meal_id, food_id);
+
+COMMENT ON CONSTRAINT unique_user_meal_date_type ON meals IS '食事枠の一意制約（ON CONFLICT の判定に使うため即時判定）';
+COMMENT ON CONSTRAINT unique_meal_food ON meal_items IS '食事内の食材の一意制約（ON CONFLICT の判定に使うため即時判定）';
@@ -0,0 +1,94 @@
+-- オフライン対応クライアントとの差分同期のため、食事に変更の印（チェンジスタンプ）とクライアントIDを追加する
+-- 同期の単位は食事（明細を含む）とし、明細の変更も親の食事の印を更新する。
+-- 論理削除（is_deleted）も変更として扱い、削除済みの食事を墓標として配信する。
+--
+-- 印は (change_xid, change_seq) の組：
+--   change_xid: 最後に変更したトランザクションのID（xid8、64ビットで周回しない）
+--   change_seq: 全ての食事で共通の単調増加の連番（同じトランザクション内の順序と、ページングのキー）
+-- 連番だけでは、先に番号を取得したトランザクションが後からコミットした場合に、読み手の位置を追い越されて取りこぼす。
+-- 読み手は pg_snapshot_xmin(pg_current_snapshot())（実行中の最古のトランザクション）より前に終了した
+-- トランザクションの変更だけを返し、次回はその位置から読み直すことで、コミット順が前後しても取りこぼさない。
+
+-- 1. 変更の連番
+CREATE SEQUENCE IF NOT EXISTS meal_change_seq;
+
+-- 2. 食事の印とクライアントID（既存の食事には列の既定値が行ごとに割り当てられる）
+ALTER TABLE meals
+    ADD COLUMN client_id UUID NOT NULL DEFAULT gen_random_uuid(),
+    ADD COLUMN change_xid xid8 NOT NULL DEFAULT pg_current_xact_id(),
+    ADD COLUMN change_seq BIGINT NOT NULL DEFAULT nextval('meal_change_seq');
+
+ALTER SEQUENCE meal_change_seq OWNED BY meals.change_seq;
+
+-- クライアントIDはユーザーごとに一意（他のユーザーのIDとの衝突は問題にしない）
+ALTER TABLE meals
+    ADD CONSTRAINT unique_user_meal_client_id UNIQUE (user_id, client_id);
+
+-- 差分の読み出し：ユーザーごとに印の順
+CREATE INDEX IF NOT EXISTS idx_meals_user_change ON meals(user_id, change_xid, change_seq);
+
+-- 3. 食事の更新時に印を付け直す
+CREATE OR REPLACE FUNCTION stamp_meal_change()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.change_xid := pg_current_xact_id();
+    NEW.change_seq := nextval('meal_change_seq');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trigger_meals_change_stamp
+    BEFORE UPDATE ON meals
+    FOR EACH ROW
+    EXECUTE FUNCTION stamp_meal_change();
+
+-- 4. 明細の変更で親の食事の印を付け直す（文単位）
+-- 栄養合計の差分トリガー（trigger_meal_items_totals_*、名前順で先に実行される）が合計を更新した食事は
+-- 同じトランザクションの印が付いているため更新しない。合計が変わらない変更（メモ等）の食事だけを更新する。
+CREATE OR REPLACE FUNCTION touch_meals_for_item_changes()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        UPDATE meals m
+        SET updated_at = CURRENT_TIMESTAMP
+        WHERE m.id IN (SELECT meal_id FROM new_items)
+          AND m.change_xid <> pg_current_xact_id();
+    ELSIF TG_OP = 'DELETE' THEN
+        UPDATE meals m
+        SET updated_at = CURRENT_TIMESTAMP
+        WHERE m.id IN (SELECT meal_id FROM old_items)
+          AND m.change_xid <> pg_current_xact_id();
+    ELSE
+        UPDATE meals m
+        SET updated_at = CURRENT_TIMESTAMP
+        WHERE m.id IN (SELECT meal_id FROM new_items UNION SELECT meal_id FROM old_items)
+          AND m.change_xid <> pg_current_xact_id();
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trigger_meal_items_touch_meal_insert
+    AFTER INSERT ON meal_items
+    REFERENCING NEW TABLE AS new_items
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION touch_meals_for_item_changes();
+
+CREATE TRIGGER trigger_meal_items_touch_meal_update
+    AFTER UPDATE ON meal_items
+    REFERENCING OLD TABLE AS old_items NEW TABLE AS new_items
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION touch_meals_for_item_changes();
+
+CREATE TRIGGER trigger_meal_items_touch_meal_delete
+    AFTER DELETE ON meal_items
+    REFERENCING OLD TABLE AS old_items
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION touch_meals_for_item_changes();
+
+COMMENT ON COLUMN meals.client_id IS 'クライアントが生成した食事ID（UUID、ユーザーごとに一意。サーバーで作成した食事は自動採番）';
+COMMENT ON COLUMN meals.change_xid IS '最後に食事・明細を変更したトランザクションID（差分同期の印）';
+COMMENT ON COLUMN meals.change_seq IS '最後に食事・明細を変更した順の連番（差分同期の印、meal_change_seq）';
+COMMENT ON FUNCTION stamp_meal_change() IS '食事の更新時に差分同期の印（change_xid, change_seq）を付け直す';
+COMMENT ON FUNCTION touch_meals_for_item_changes() IS '明細の変更で親の食事の印を付け直す（文単位、同じトランザクションで更新済みの食事は除く）';
@@ -0,0 +1,58 @@
+-- 論理削除済みの食事・明細を保持期間の経過後に物理削除する（バックグラウンドのパージ）
+-- 論理削除済みの行は部分索引（WHERE is_deleted = false）と集計から除外されるだけで残り続け、
+-- テーブルの肥大化の原因になっていた。パージは削除済みの行だけを対象に、id のキーセット順の小さなバッチで削除する。
+-- 削除する行はいずれも合計に含まれていないため、バッチ中は set_config('meatmetrics.bulk_nutrition_write', 'on', true)
+-- で明細のトリガー（合計の差分・親の食事の印の更新）を省略する（食事の削除から連鎖する明細の削除も同様）。
+
+-- 1. パージ対象の索引（削除済みの行だけを含むため小さい）
+CREATE INDEX IF NOT EXISTS idx_meals_deleted ON meals(id) WHERE is_deleted = true;
+CREATE INDEX IF NOT EXISTS idx_meal_items_deleted ON meal_items(id) WHERE is_deleted = true;
+
+-- 2. 一括書き込み中は明細の変更で親の食事の印を更新しない
+-- （合計を書き込む呼び出し側が食事を更新するため印は付く。パージで消える明細は同期の対象外）
+CREATE OR REPLACE FUNCTION touch_meals_for_item_changes()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF current_setting('meatmetrics.bulk_nutrition_write', true) = 'on' THEN
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP = 'INSERT' THEN
+        UPDATE meals m
+        SET updated_at = CURRENT_TIMESTAMP
+        WHERE m.id IN (SELECT meal_id FROM new_items)
+          AND m.change_xid <> pg_current_xact_id();
+    ELSIF TG_OP = 'DELETE' THEN
+        UPDATE meals m
+        SET updated_at = CURRENT_TIMESTAMP
+        WHERE m.id IN (SELECT meal_id FROM old_items)
+          AND m.change_xid <> pg_current_xact_id();
+    ELSE
+        UPDATE meals m
+        SET updated_at = CURRENT_TIMESTAMP
+        WHERE m.id IN (SELECT meal_id FROM new_items UNION SELECT meal_id FROM old_items)
+          AND m.change_xid <> pg_current_xact_id();
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 3. 差分同期で配信できなくなった位置（物理削除した食事の墓標のうち最新の印）
+-- これより前の読み出し位置のクライアントは削除を取りこぼしている可能性があるため、全件の同期からやり直させる
+CREATE TABLE IF NOT EXISTS meal_sync_purge_horizon (
+    id SMALLINT PRIMARY KEY DEFAULT 1,
+    purged_xid xid8 NOT NULL DEFAULT '0',
+    purged_seq BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT meal_sync_purge_horizon_single_row CHECK (id = 1)
+);
+
+INSERT INTO meal_sync_purge_horizon (id) VALUES (1) ON CONFLICT (id) DO NOTHING;
+
+-- 4. パージで生じる不要領域を早めに回収する（既定の20%では大きなテーブルほど回収が遅れる）
+ALTER TABLE meals SET (autovacuum_vacuum_scale_factor = 0.05);
+ALTER TABLE meal_items SET (autovacuum_vacuum_scale_factor = 0.05);
+
+COMMENT ON TABLE meal_sync_purge_horizon IS '物理削除した食事の墓標のうち最新の差分同期の印（これより前の読み出し位置は全件の同期が必要）';
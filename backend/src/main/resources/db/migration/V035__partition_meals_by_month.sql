@@ -0,0 +1,297 @@
+-- 食事・明細を食事日（meal_date）の月単位の範囲パーティションに分割する
+-- ほぼ全ての参照はユーザーと食事日で行われるが、テーブルと索引（idx_meals_user_date, idx_meal_items_created_at 等）は
+-- 履歴の増加とともに大きくなり続け、いずれメモリに収まらなくなる。
+-- 月単位に分割し、食事日を条件に含む参照が対象の月のパーティション（日・週の参照では1〜2個）だけを読むようにする。
+-- 古い月はパーティションごと切り離せる（DELETEと不要行の回収が不要）。
+--
+-- 一意制約・主キーにはパーティションキーを含める必要があるため、
+--   meals:      主キー (id, meal_date)、クライアントID (user_id, client_id, meal_date)
+--   meal_items: 主キー (id, meal_date)、食材 (meal_id, food_id, meal_date)
+-- とし、明細に親の食事日（meal_date）を持たせて (meal_id, meal_date) で食事を参照する。
+-- id は従来どおりシーケンスから採番するため、日付をまたいでも重複しない。
+-- クライアントIDの一意性は、差分同期の書き込みをユーザーごとに直列化して保つ（食事日をまたぐ重複は制約では防げない）。
+
+-- 1. 既存のテーブルを退避（シーケンスは新しいテーブルで使い続けるため所有を外す）
+ALTER SEQUENCE meals_id_seq OWNED BY NONE;
+ALTER SEQUENCE meal_items_id_seq OWNED BY NONE;
+ALTER SEQUENCE meal_change_seq OWNED BY NONE;
+
+ALTER TABLE meal_items RENAME TO meal_items_unpartitioned;
+ALTER TABLE meals RENAME TO meals_unpartitioned;
+
+-- 2. パーティション化したテーブル（列・既定値・CHECK制約・コメントは既存のテーブルと同じ）
+-- 一意制約・索引・外部キーはデータの移行後に作成する
+CREATE TABLE meals (
+    LIKE meals_unpartitioned INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING COMMENTS
+) PARTITION BY RANGE (meal_date);
+
+CREATE TABLE meal_items (
+    LIKE meal_items_unpartitioned INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING COMMENTS,
+    meal_date DATE NOT NULL
+) PARTITION BY RANGE (meal_date);
+
+ALTER SEQUENCE meals_id_seq OWNED BY meals.id;
+ALTER SEQUENCE meal_items_id_seq OWNED BY meal_items.id;
+ALTER SEQUENCE meal_change_seq OWNED BY meals.change_seq;
+
+-- 3. 月単位のパーティションの作成（作成済みの月は何もしない）
+-- 食事と明細は同じ月のパーティションを対にして作成する。親テーブルのロックを長く待たないよう lock_timeout を設定する。
+-- 不要行の回収のしきい値（V034）はパーティションごとに設定する（パーティション化したテーブル自体には設定できない）。
+CREATE OR REPLACE FUNCTION create_meal_partitions(from_date DATE, to_date DATE)
+RETURNS INTEGER AS $$
+DECLARE
+    month_start DATE;
+    parent TEXT;
+    partition_name TEXT;
+    created INTEGER := 0;
+BEGIN
+    PERFORM set_config('lock_timeout', '5s', true);
+    FOR month_start IN
+        SELECT generate_series(date_trunc('month', from_date), date_trunc('month', to_date), INTERVAL '1 month')::date
+    LOOP
+        FOREACH parent IN ARRAY ARRAY['meals', 'meal_items'] LOOP
+            partition_name := parent || '_p' || to_char(month_start, 'YYYYMM');
+            IF to_regclass(partition_name) IS NULL THEN
+                EXECUTE format(
+                    'CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L) '
+                    'WITH (autovacuum_vacuum_scale_factor = 0.05)',
+                    partition_name, parent, month_start, (month_start + INTERVAL '1 month')::date);
+                created := created + 1;
+            END IF;
+        END LOOP;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 記録できる食事日の範囲（meals_meal_date_valid: 2020-01-01 〜 今日 + 7日）の全ての月
+SELECT create_meal_partitions('2020-01-01', (CURRENT_DATE + INTERVAL '2 months')::date);
+
+-- 4. データの移行（トリガーは未作成のため、合計・変更の印はそのまま移る）
+INSERT INTO meals SELECT * FROM meals_unpartitioned;
+
+INSERT INTO meal_items
+SELECT mi.*, m.meal_date
+FROM meal_items_unpartitioned mi
+INNER JOIN meals_unpartitioned m ON m.id = mi.meal_id;
+
+DROP TABLE meal_items_unpartitioned;
+DROP TABLE meals_unpartitioned;
+
+-- 5. 主キー・一意制約・外部キー
+ALTER TABLE meals
+    ADD CONSTRAINT meals_pkey PRIMARY KEY (id, meal_date),
+    ADD CONSTRAINT unique_user_meal_date_type UNIQUE (user_id, meal_date, meal_type),
+    ADD CONSTRAINT unique_user_meal_client_id UNIQUE (user_id, client_id, meal_date),
+    ADD CONSTRAINT fk_meals_user_id FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE;
+
+ALTER TABLE meal_items
+    ADD CONSTRAINT meal_items_pkey PRIMARY KEY (id, meal_date),
+    ADD CONSTRAINT unique_meal_food UNIQUE (meal_id, food_id, meal_date),
+    ADD CONSTRAINT fk_meal_items_meal_id FOREIGN KEY (meal_id, meal_date)
+        REFERENCES meals(id, meal_date) ON DELETE CASCADE ON UPDATE CASCADE,
+    ADD CONSTRAINT fk_meal_items_food_id FOREIGN KEY (food_id) REFERENCES foods(id) ON DELETE RESTRICT,
+    ADD CONSTRAINT fk_meal_items_food_version FOREIGN KEY (food_id, food_version)
+        REFERENCES food_nutrition_versions(food_id, version_no) ON DELETE RESTRICT;
+
+-- 6. 索引（パーティションごとに作成される）
+CREATE INDEX IF NOT EXISTS idx_meals_user_date ON meals(user_id, meal_date DESC) WHERE is_deleted = false;
+CREATE INDEX IF NOT EXISTS idx_meals_date ON meals(meal_date DESC) WHERE is_deleted = false;
+CREATE INDEX IF NOT EXISTS idx_meals_user_recent ON meals(user_id, created_at DESC) WHERE is_deleted = false;
+CREATE INDEX IF NOT EXISTS idx_meals_nutrition_totals ON meals(total_calories, total_protein_g, total_fat_g, total_net_carbs_g) WHERE is_deleted = false;
+CREATE INDEX IF NOT EXISTS idx_meals_updated_at_id ON meals(updated_at, id);
+CREATE INDEX IF NOT EXISTS idx_meals_user_change ON meals(user_id, change_xid, change_seq);
+CREATE INDEX IF NOT EXISTS idx_meals_deleted ON meals(id) WHERE is_deleted = true;
+
+CREATE INDEX IF NOT EXISTS idx_meal_items_meal_id ON meal_items(meal_id) WHERE is_deleted = false;
+CREATE INDEX IF NOT EXISTS idx_meal_items_food_id ON meal_items(food_id) WHERE is_deleted = false;
+CREATE INDEX IF NOT EXISTS idx_meal_items_meal_food ON meal_items(meal_id, food_id) WHERE is_deleted = false;
+CREATE INDEX IF NOT EXISTS idx_meal_items_nutrition ON meal_items(item_calories, item_protein_g, item_fat_g, item_net_carbs_g) WHERE is_deleted = false;
+CREATE INDEX IF NOT EXISTS idx_meal_items_created_at ON meal_items(created_at DESC) WHERE is_deleted = false;
+CREATE INDEX IF NOT EXISTS idx_meal_items_deleted ON meal_items(id) WHERE is_deleted = true;
+
+-- 7. 文単位のトリガー関数を (meal_id, meal_date) で食事を特定するように変更（食事のパーティションを絞り込める）
+CREATE OR REPLACE FUNCTION apply_meal_totals_deltas()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF current_setting('meatmetrics.bulk_nutrition_write', true) = 'on' THEN
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP = 'INSERT' THEN
+        UPDATE meals m
+        SET
+            total_calories = m.total_calories + d.calories,
+            total_protein_g = m.total_protein_g + d.protein_g,
+            total_fat_g = m.total_fat_g + d.fat_g,
+            total_net_carbs_g = m.total_net_carbs_g + d.net_carbs_g,
+            updated_at = CURRENT_TIMESTAMP
+        FROM (
+            SELECT meal_id, meal_date,
+                   SUM(item_calories) AS calories, SUM(item_protein_g) AS protein_g,
+                   SUM(item_fat_g) AS fat_g, SUM(item_net_carbs_g) AS net_carbs_g
+            FROM new_items
+            WHERE is_deleted = false
+            GROUP BY meal_id, meal_date
+        ) d
+        WHERE m.id = d.meal_id AND m.meal_date = d.meal_date;
+
+    ELSIF TG_OP = 'DELETE' THEN
+        UPDATE meals m
+        SET
+            total_calories = m.total_calories - d.calories,
+            total_protein_g = m.total_protein_g - d.protein_g,
+            total_fat_g = m.total_fat_g - d.fat_g,
+            total_net_carbs_g = m.total_net_carbs_g - d.net_carbs_g,
+            updated_at = CURRENT_TIMESTAMP
+        FROM (
+            SELECT meal_id, meal_date,
+                   SUM(item_calories) AS calories, SUM(item_protein_g) AS protein_g,
+                   SUM(item_fat_g) AS fat_g, SUM(item_net_carbs_g) AS net_carbs_g
+            FROM old_items
+            WHERE is_deleted = false
+            GROUP BY meal_id, meal_date
+        ) d
+        WHERE m.id = d.meal_id AND m.meal_date = d.meal_date;
+
+    ELSE
+        -- 明細の移動（meal_id の変更）にも対応するため、変更後を加算・変更前を減算して食事ごとに集計する
+        UPDATE meals m
+        SET
+            total_calories = m.total_calories + d.calories,
+            total_protein_g = m.total_protein_g + d.protein_g,
+            total_fat_g = m.total_fat_g + d.fat_g,
+            total_net_carbs_g = m.total_net_carbs_g + d.net_carbs_g,
+            updated_at = CURRENT_TIMESTAMP
+        FROM (
+            SELECT meal_id, meal_date,
+                   SUM(calories) AS calories, SUM(protein_g) AS protein_g,
+                   SUM(fat_g) AS fat_g, SUM(net_carbs_g) AS net_carbs_g
+            FROM (
+                SELECT meal_id, meal_date, item_calories AS calories, item_protein_g AS protein_g,
+                       item_fat_g AS fat_g, item_net_carbs_g AS net_carbs_g
+                FROM new_items
+                WHERE is_deleted = false
+                UNION ALL
+                SELECT meal_id, meal_date, -item_calories, -item_protein_g, -item_fat_g, -item_net_carbs_g
+                FROM old_items
+                WHERE is_deleted = false
+            ) changes
+            GROUP BY meal_id, meal_date
+        ) d
+        WHERE m.id = d.meal_id AND m.meal_date = d.meal_date
+          AND (d.calories <> 0 OR d.protein_g <> 0 OR d.fat_g <> 0 OR d.net_carbs_g <> 0);
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION touch_meals_for_item_changes()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF current_setting('meatmetrics.bulk_nutrition_write', true) = 'on' THEN
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP = 'INSERT' THEN
+        UPDATE meals m
+        SET updated_at = CURRENT_TIMESTAMP
+        WHERE (m.id, m.meal_date) IN (SELECT meal_id, meal_date FROM new_items)
+          AND m.change_xid <> pg_current_xact_id();
+    ELSIF TG_OP = 'DELETE' THEN
+        UPDATE meals m
+        SET updated_at = CURRENT_TIMESTAMP
+        WHERE (m.id, m.meal_date) IN (SELECT meal_id, meal_date FROM old_items)
+          AND m.change_xid <> pg_current_xact_id();
+    ELSE
+        UPDATE meals m
+        SET updated_at = CURRENT_TIMESTAMP
+        WHERE (m.id, m.meal_date) IN (SELECT meal_id, meal_date FROM new_items
+                                      UNION SELECT meal_id, meal_date FROM old_items)
+          AND m.change_xid <> pg_current_xact_id();
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 8. トリガー（退避したテーブルと一緒に削除されたため作成し直す。名前順の実行順序は従来どおり）
+CREATE TRIGGER trigger_meals_updated_at
+    BEFORE UPDATE ON meals
+    FOR EACH ROW
+    EXECUTE FUNCTION update_meals_updated_at();
+
+CREATE TRIGGER trigger_meals_change_stamp
+    BEFORE UPDATE ON meals
+    FOR EACH ROW
+    EXECUTE FUNCTION stamp_meal_change();
+
+CREATE TRIGGER trigger_meal_items_updated_at
+    BEFORE UPDATE ON meal_items
+    FOR EACH ROW
+    EXECUTE FUNCTION update_meal_items_updated_at();
+
+CREATE TRIGGER trigger_calculate_meal_item_nutrition_insert
+    BEFORE INSERT ON meal_items
+    FOR EACH ROW
+    WHEN (NEW.food_version IS NULL
+          OR NEW.item_calories IS NULL OR NEW.item_protein_g IS NULL
+          OR NEW.item_fat_g IS NULL OR NEW.item_net_carbs_g IS NULL)
+    EXECUTE FUNCTION calculate_meal_item_nutrition();
+
+CREATE TRIGGER trigger_calculate_meal_item_nutrition_update
+    BEFORE UPDATE ON meal_items
+    FOR EACH ROW
+    WHEN ((NEW.food_id, NEW.food_version, NEW.quantity_g,
+           NEW.calories_factor, NEW.protein_factor, NEW.fat_factor, NEW.net_carbs_factor)
+          IS DISTINCT FROM
+          (OLD.food_id, OLD.food_version, OLD.quantity_g,
+           OLD.calories_factor, OLD.protein_factor, OLD.fat_factor, OLD.net_carbs_factor)
+          AND (NEW.item_calories, NEW.item_protein_g, NEW.item_fat_g, NEW.item_net_carbs_g)
+              IS NOT DISTINCT FROM
+              (OLD.item_calories, OLD.item_protein_g, OLD.item_fat_g, OLD.item_net_carbs_g))
+    EXECUTE FUNCTION calculate_meal_item_nutrition();
+
+CREATE TRIGGER trigger_meal_items_totals_insert
+    AFTER INSERT ON meal_items
+    REFERENCING NEW TABLE AS new_items
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION apply_meal_totals_deltas();
+
+CREATE TRIGGER trigger_meal_items_totals_update
+    AFTER UPDATE ON meal_items
+    REFERENCING OLD TABLE AS old_items NEW TABLE AS new_items
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION apply_meal_totals_deltas();
+
+CREATE TRIGGER trigger_meal_items_totals_delete
+    AFTER DELETE ON meal_items
+    REFERENCING OLD TABLE AS old_items
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION apply_meal_totals_deltas();
+
+CREATE TRIGGER trigger_meal_items_touch_meal_insert
+    AFTER INSERT ON meal_items
+    REFERENCING NEW TABLE AS new_items
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION touch_meals_for_item_changes();
+
+CREATE TRIGGER trigger_meal_items_touch_meal_update
+    AFTER UPDATE ON meal_items
+    REFERENCING OLD TABLE AS old_items NEW TABLE AS new_items
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION touch_meals_for_item_changes();
+
+CREATE TRIGGER trigger_meal_items_touch_meal_delete
+    AFTER DELETE ON meal_items
+    REFERENCING OLD TABLE AS old_items
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION touch_meals_for_item_changes();
+
+-- テーブルコメント
+COMMENT ON TABLE meals IS '食事記録テーブル - ユーザーの日別・食事タイプ別の食事記録を管理（食事日の月単位パーティション）';
+COMMENT ON TABLE meal_items IS '食事詳細テーブル - 食事記録内の個別食材と摂取量を管理（食事日の月単位パーティション）';
+COMMENT ON COLUMN meals.client_id IS 'クライアントが生成した食事ID（UUID、ユーザーごとに一意。差分同期の書き込みをユーザーごとに直列化して保つ）';
+COMMENT ON COLUMN meal_items.meal_date IS '親の食事の食事日（パーティションキー、食事は (meal_id, meal_date) で参照する）';
+COMMENT ON FUNCTION create_meal_partitions(DATE, DATE) IS '指定した期間の月の食事・明細のパーティションを作成する（作成済みの月は何もしない）';
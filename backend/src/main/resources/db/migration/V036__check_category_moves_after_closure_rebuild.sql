@@ -0,0 +1,85 @@
+-- カテゴリ移動時の循環参照・最大深度チェックを、閉包テーブルの張り直し後（文単位）にも行う
+-- 行単位の検証（validate_category_hierarchy）は文の開始時点の閉包テーブルを参照するため、
+-- 1文で複数の親を入れ替えた場合（例: AをBの下へ、BをAの下へ）は互いの移動が見えず、検証を通過してしまう
+-- 文単位のトリガーでは、同じ文の先行する移動を反映した閉包テーブルで移動ごとに循環を判定し、
+-- 全ての移動を反映した後に部分木の深さを判定する
+
+CREATE OR REPLACE FUNCTION move_category_closure()
+RETURNS TRIGGER AS $$
+DECLARE
+    max_depth INTEGER := 10;
+    moved RECORD;
+    moved_ids BIGINT[] := '{}';
+BEGIN
+    FOR moved IN
+        SELECT n.id, n.parent_id
+        FROM new_rows n
+        INNER JOIN old_rows o ON o.id = n.id
+        WHERE n.parent_id IS DISTINCT FROM o.parent_id
+        ORDER BY n.level
+    LOOP
+        -- 循環参照チェック：新しい親が（同じ文の先行する移動を含めて）自身の配下にあるか
+        IF moved.parent_id IS NOT NULL AND EXISTS (
+            SELECT 1 FROM category_closure
+            WHERE ancestor_id = moved.id AND descendant_id = moved.parent_id
+        ) THEN
+            RAISE EXCEPTION 'Circular reference detected in category hierarchy';
+        END IF;
+
+        DELETE FROM category_closure c
+        USING category_closure sub
+        WHERE sub.ancestor_id = moved.id
+          AND c.descendant_id = sub.descendant_id
+          AND c.ancestor_id IN (
+              SELECT ancestor_id FROM category_closure
+              WHERE descendant_id = moved.id AND ancestor_id <> moved.id
+          );
+
+        IF moved.parent_id IS NOT NULL THEN
+            INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+            SELECT sup.ancestor_id, sub.descendant_id, sup.depth + sub.depth + 1
+            FROM category_closure sup
+            CROSS JOIN category_closure sub
+            WHERE sup.descendant_id = moved.parent_id
+              AND sub.ancestor_id = moved.id;
+        END IF;
+
+        moved_ids := moved_ids || moved.id;
+    END LOOP;
+
+    IF cardinality(moved_ids) = 0 THEN
+        RETURN NULL;
+    END IF;
+
+    -- 最大深度チェック：全ての移動を反映した閉包テーブルで、移動した部分木の末端まで含める
+    IF EXISTS (
+        SELECT 1
+        FROM category_closure sub
+        INNER JOIN category_closure a ON a.descendant_id = sub.descendant_id
+        WHERE sub.ancestor_id = ANY(moved_ids)
+          AND a.depth + 1 > max_depth
+    ) THEN
+        RAISE EXCEPTION 'Category hierarchy too deep. Maximum depth is %', max_depth;
+    END IF;
+
+    -- 移動したカテゴリ自身と配下のlevelを祖先数から一括で再計算する
+    -- （行単位トリガーが設定したlevelは文の開始時点の親のlevelに基づくため、ここで確定させる）
+    UPDATE categories c
+    SET level = d.depth + 1
+    FROM (
+        SELECT cl.descendant_id, MAX(cl.depth) AS depth
+        FROM category_closure cl
+        WHERE cl.descendant_id IN (
+            SELECT descendant_id FROM category_closure
+            WHERE ancestor_id = ANY(moved_ids)
+        )
+        GROUP BY cl.descendant_id
+    ) d
+    WHERE c.id = d.descendant_id
+      AND c.level <> d.depth + 1;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+COMMENT ON FUNCTION move_category_closure() IS '親変更時の閉包テーブル保守と、張り直し後の循環参照・最大深度チェック（文単位）';
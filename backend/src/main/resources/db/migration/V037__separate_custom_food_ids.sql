@@ -0,0 +1,110 @@
+-- 独自食材（user_custom_foods）のIDを食材マスタ（foods）と重ならない負の値にし、食事明細から記録できるようにする
+-- これまでは独自食材が別のシーケンスから正のIDを採番していたため、foods.id と同じ値になり得た。
+-- meal_items.food_id は foods への外部キーのため、独自食材は記録できないか、同じIDの共有食材として記録されていた。
+--   foods.id             : 正の値（従来どおり）
+--   user_custom_foods.id : 負の値（降順のシーケンス）
+-- meal_items.food_id は1列のまま両方を受け入れ、符号で分けた生成列にそれぞれの外部キーを張る
+-- （一意制約・UPSERT・同期・集計などの food_id を使う既存のクエリはそのまま使える）
+
+-- 1. 独自食材のIDを負の値に振り直す（明細からの参照はまだないため、IDの変更は独自食材の中で完結する）
+UPDATE user_custom_foods SET id = -id WHERE id > 0;
+
+ALTER SEQUENCE user_custom_foods_id_seq
+    INCREMENT BY -1
+    MINVALUE -9223372036854775808
+    MAXVALUE -1
+    START WITH -1
+    RESTART WITH -1;
+
+SELECT setval('user_custom_foods_id_seq', COALESCE(MIN(id), -1), MIN(id) IS NOT NULL)
+FROM user_custom_foods;
+
+ALTER TABLE user_custom_foods
+    ADD CONSTRAINT user_custom_foods_id_negative CHECK (id < 0);
+
+ALTER TABLE foods
+    ADD CONSTRAINT foods_id_positive CHECK (id > 0);
+
+-- 2. 明細の食材IDを符号で分けた生成列と、それぞれの外部キー
+ALTER TABLE meal_items
+    DROP CONSTRAINT IF EXISTS fk_meal_items_food_version,
+    DROP CONSTRAINT IF EXISTS fk_meal_items_food_id,
+    ADD COLUMN shared_food_id BIGINT GENERATED ALWAYS AS (CASE WHEN food_id > 0 THEN food_id END) STORED,
+    ADD COLUMN custom_food_id BIGINT GENERATED ALWAYS AS (CASE WHEN food_id < 0 THEN food_id END) STORED;
+
+ALTER TABLE meal_items
+    ADD CONSTRAINT fk_meal_items_food_id FOREIGN KEY (shared_food_id) REFERENCES foods(id) ON DELETE RESTRICT,
+    ADD CONSTRAINT fk_meal_items_food_version FOREIGN KEY (shared_food_id, food_version)
+        REFERENCES food_nutrition_versions(food_id, version_no) ON DELETE RESTRICT,
+    -- 独自食材は論理削除のみ。ユーザー削除時は食事の削除と同じ文で消えるため、文の終わりに検証する（NO ACTION）
+    ADD CONSTRAINT fk_meal_items_custom_food_id FOREIGN KEY (custom_food_id) REFERENCES user_custom_foods(id),
+    -- 独自食材は栄養成分の変更履歴を持たないため、バージョンは常に1
+    ADD CONSTRAINT meal_items_custom_food_version CHECK (food_id > 0 OR food_version = 1);
+
+CREATE INDEX IF NOT EXISTS idx_meal_items_custom_food_id ON meal_items(custom_food_id) WHERE custom_food_id IS NOT NULL;
+
+-- 3. 明細の計算・照合に使う栄養成分（共有食材のバージョン ∪ 独自食材）
+-- 条件は各枝に押し下げられ、それぞれの主キーで1行を参照する
+CREATE OR REPLACE VIEW meal_item_food_nutrition AS
+SELECT food_id, version_no, calories_per_100g, protein_g_per_100g, fat_g_per_100g,
+       carbohydrates_g_per_100g, fiber_g_per_100g
+FROM food_nutrition_versions
+UNION ALL
+SELECT id, 1, calories_per_100g, protein_g_per_100g, fat_g_per_100g,
+       carbohydrates_g_per_100g, fiber_g_per_100g
+FROM user_custom_foods;
+
+-- 4. 明細の栄養成分計算（値が揃っていない行のみ）で独自食材も参照する
+-- 一括書き込み中（meatmetrics.bulk_nutrition_write = 'on'）は V026 と同じく計算を省略する
+CREATE OR REPLACE FUNCTION calculate_meal_item_nutrition()
+RETURNS TRIGGER AS $$
+DECLARE
+    food_nutrition RECORD;
+BEGIN
+    IF current_setting('meatmetrics.bulk_nutrition_write', true) = 'on' THEN
+        RETURN NEW;
+    END IF;
+
+    IF TG_OP = 'UPDATE' AND NEW.food_id IS DISTINCT FROM OLD.food_id
+       AND NEW.food_version IS NOT DISTINCT FROM OLD.food_version THEN
+        NEW.food_version := NULL;
+    END IF;
+
+    -- バージョン未指定の場合は食材の現在のバージョン（独自食材は常に1）
+    SELECT
+        v.version_no,
+        v.calories_per_100g,
+        v.protein_g_per_100g,
+        v.fat_g_per_100g,
+        v.carbohydrates_g_per_100g,
+        v.fiber_g_per_100g
+    INTO food_nutrition
+    FROM meal_item_food_nutrition v
+    WHERE v.food_id = NEW.food_id
+      AND v.version_no = COALESCE(NEW.food_version,
+                                  CASE WHEN NEW.food_id < 0 THEN 1
+                                       ELSE (SELECT nutrition_version FROM foods WHERE id = NEW.food_id) END);
+
+    IF food_nutrition IS NULL THEN
+        RAISE EXCEPTION 'Food with id % (version %) not found', NEW.food_id, NEW.food_version;
+    END IF;
+
+    NEW.food_version := food_nutrition.version_no;
+
+    -- 栄養成分を計算（quantity_g/100 倍 × 調理係数）
+    NEW.item_calories := ROUND((food_nutrition.calories_per_100g * NEW.quantity_g * NEW.calories_factor / 100.0)::numeric, 0)::integer;
+    NEW.item_protein_g := ROUND((food_nutrition.protein_g_per_100g * NEW.quantity_g * NEW.protein_factor / 100.0)::numeric, 2);
+    NEW.item_fat_g := ROUND((food_nutrition.fat_g_per_100g * NEW.quantity_g * NEW.fat_factor / 100.0)::numeric, 2);
+    -- net_carbs = carbohydrates - fiber
+    NEW.item_net_carbs_g := ROUND(((food_nutrition.carbohydrates_g_per_100g - food_nutrition.fiber_g_per_100g) * NEW.quantity_g * NEW.net_carbs_factor / 100.0)::numeric, 2);
+
+    RETURN NEW;
+END;
+$$ language 'plpgsql';
+
+-- コメント
+COMMENT ON COLUMN user_custom_foods.id IS '独自食材ID（負の値、foods.id と重ならない）';
+COMMENT ON COLUMN meal_items.food_id IS '食材ID（正: foods.id、負: user_custom_foods.id）';
+COMMENT ON COLUMN meal_items.shared_food_id IS '共有食材ID（food_idが正の場合、foodsへの外部キー用の生成列）';
+COMMENT ON COLUMN meal_items.custom_food_id IS '独自食材ID（food_idが負の場合、user_custom_foodsへの外部キー用の生成列）';
+COMMENT ON VIEW meal_item_food_nutrition IS '明細の計算・照合に使う栄養成分（共有食材の各バージョンと独自食材）';
@@ -128,7 +128,16 @@ VALUES ('test_invalid', 'テスト無効カテゴリ', 99999);
 -- この操作は外部キー制約違反でエラーになるはず
 ROLLBACK;
 
--- 10.2 レベル制約テスト
+-- 10.2 閉包テーブルによる循環参照検出テスト
+\echo 'Testing closure-based cycle detection...'
+BEGIN;
+-- 親を自身の子孫に付け替える（'Circular reference detected' でエラーになるはず）
+UPDATE categories
+SET parent_id = (SELECT id FROM categories WHERE name = 'beef')
+WHERE name = 'meat' AND parent_id IS NULL;
+ROLLBACK;
+
+-- 10.3 レベル制約テスト
 \echo 'Testing level constraints...'
 BEGIN;
 -- 深すぎる階層のテスト
@@ -139,22 +148,14 @@ ROLLBACK;
 
 -- 11. 階層クエリのパフォーマンステスト
 \echo '=== Hierarchy Query Performance Test ==='
+-- 閉包テーブルの ancestor_id 範囲スキャンで部分木を取得する
 EXPLAIN (ANALYZE, BUFFERS)
-WITH RECURSIVE category_children AS (
-    SELECT id, name, display_name, parent_id, level, 1 as depth
-    FROM categories 
-    WHERE name = 'meat' AND is_active = true
-    
-    UNION ALL
-    
-    SELECT c.id, c.name, c.display_name, c.parent_id, c.level, cc.depth + 1
-    FROM categories c
-    INNER JOIN category_children cc ON cc.id = c.parent_id
-    WHERE c.is_active = true AND cc.depth < 10
-)
-SELECT id, name, display_name, level, depth
-FROM category_children
-ORDER BY depth, name;
+SELECT c.id, c.name, c.display_name, c.level, cl.depth + 1 as depth
+FROM category_closure cl
+INNER JOIN categories c ON c.id = cl.descendant_id
+WHERE cl.ancestor_id = (SELECT id FROM categories WHERE name = 'meat' AND parent_id IS NULL)
+  AND c.is_active = true
+ORDER BY depth, c.name;
 
 -- 12. トリガー動作確認（階層レベル自動計算）
 \echo '=== Trigger Test (Auto Level Calculation) ==='
@@ -175,6 +176,18 @@ WHERE name = 'auto_level_test';
 
 ROLLBACK;
 
+-- 12.1 閉包テーブル整合性確認（parent_idから求めた階層と一致し、差分が0件になるはず）
+\echo '=== Closure Table Consistency ==='
+WITH RECURSIVE paths AS (
+    SELECT id AS ancestor_id, id AS descendant_id, 0 AS depth FROM categories
+    UNION ALL
+    SELECT p.ancestor_id, c.id, p.depth + 1
+    FROM paths p INNER JOIN categories c ON c.parent_id = p.descendant_id
+)
+SELECT 'missing' AS diff, * FROM (SELECT * FROM paths EXCEPT SELECT * FROM category_closure) m
+UNION ALL
+SELECT 'extra', * FROM (SELECT * FROM category_closure EXCEPT SELECT * FROM paths) e;
+
 -- 13. 更新日時トリガー確認
 \echo '=== Updated At Trigger Test ==='
 BEGIN;
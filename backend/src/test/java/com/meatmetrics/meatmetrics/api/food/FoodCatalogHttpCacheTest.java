@@ -0,0 +1,117 @@
+package com.meatmetrics.meatmetrics.api.food;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.meatmetrics.meatmetrics.api.common.ApiResponse;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodCatalog;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * FoodCatalogHttpCacheのユニットテスト
+ *
+ * <p>条件付きGETの判定と、304時に応答データを生成しないことをテストします。</p>
+ */
+@DisplayName("FoodCatalogHttpCache")
+class FoodCatalogHttpCacheTest {
+
+    private static final Instant LAST_MODIFIED = Instant.parse("2025-03-01T12:00:00Z");
+    private static final FoodCatalog CATALOG = FoodCatalog.of(List.of()).withVersion(7, LAST_MODIFIED);
+
+    @Nested
+    @DisplayName("isNotModifiedメソッド")
+    class IsNotModified {
+
+        @Test
+        @DisplayName("If-None-Matchが一致すれば304（弱い比較、複数指定可）")
+        void shouldMatchIfNoneMatch() {
+            assertThat(FoodCatalogHttpCache.isNotModified("\"catalog-7\"", null, "\"catalog-7\"", LAST_MODIFIED)).isTrue();
+            assertThat(FoodCatalogHttpCache.isNotModified("\"x\", W/\"catalog-7\"", null, "\"catalog-7\"", LAST_MODIFIED)).isTrue();
+            assertThat(FoodCatalogHttpCache.isNotModified("*", null, "\"catalog-7\"", LAST_MODIFIED)).isTrue();
+            assertThat(FoodCatalogHttpCache.isNotModified("\"catalog-6\"", null, "\"catalog-7\"", LAST_MODIFIED)).isFalse();
+        }
+
+        @Test
+        @DisplayName("If-None-MatchがあればIf-Modified-Sinceは無視される")
+        void shouldIgnoreIfModifiedSinceWhenIfNoneMatchPresent() {
+            assertThat(FoodCatalogHttpCache.isNotModified("\"catalog-6\"", "Sat, 01 Mar 2025 12:00:00 GMT",
+                    "\"catalog-7\"", LAST_MODIFIED)).isFalse();
+        }
+
+        @Test
+        @DisplayName("If-Modified-Sinceは秒単位で比較される")
+        void shouldCompareIfModifiedSinceInSeconds() {
+            assertThat(FoodCatalogHttpCache.isNotModified(null, "Sat, 01 Mar 2025 12:00:00 GMT",
+                    "\"catalog-7\"", LAST_MODIFIED.plusMillis(500))).isTrue();
+            assertThat(FoodCatalogHttpCache.isNotModified(null, "Sat, 01 Mar 2025 11:59:59 GMT",
+                    "\"catalog-7\"", LAST_MODIFIED)).isFalse();
+            assertThat(FoodCatalogHttpCache.isNotModified(null, "invalid-date",
+                    "\"catalog-7\"", LAST_MODIFIED)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("respondメソッド")
+    class Respond {
+
+        @Test
+        @DisplayName("一致した場合は応答データを生成せずに304を返す")
+        void shouldReturnNotModifiedWithoutBuildingBody() {
+            // Arrange
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/foods");
+            request.addHeader("If-None-Match", "\"catalog-7\"");
+
+            // Act
+            ResponseEntity<ApiResponse<String>> response = FoodCatalogHttpCache.respond(
+                    new ServletWebRequest(request), CATALOG, CacheControl.noCache(), "ok",
+                    () -> { throw new AssertionError("body must not be built"); });
+
+            // Assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(response.getBody()).isNull();
+            assertThat(response.getHeaders().getETag()).isEqualTo("\"catalog-7\"");
+        }
+
+        @Test
+        @DisplayName("一致しない場合はETagとLast-Modified付きで200を返し、同一バージョンの本文は同一になる")
+        void shouldReturnBodyWithValidators() {
+            // Arrange
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/foods");
+
+            // Act
+            ResponseEntity<ApiResponse<String>> first = FoodCatalogHttpCache.respond(
+                    new ServletWebRequest(request), CATALOG, CacheControl.noCache(), "ok", () -> "data");
+            ResponseEntity<ApiResponse<String>> second = FoodCatalogHttpCache.respond(
+                    new ServletWebRequest(request), CATALOG, CacheControl.noCache(), "ok", () -> "data");
+
+            // Assert
+            assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(first.getHeaders().getETag()).isEqualTo("\"catalog-7\"");
+            assertThat(first.getHeaders().getLastModified()).isEqualTo(LAST_MODIFIED.toEpochMilli());
+            assertThat(first.getBody().getTimestamp()).isEqualTo(second.getBody().getTimestamp());
+        }
+
+        @Test
+        @DisplayName("カタログ未読み込みの場合はキャッシュさせない")
+        void shouldNotCacheUnloadedCatalog() {
+            // Act
+            ResponseEntity<ApiResponse<String>> response = FoodCatalogHttpCache.respond(
+                    new ServletWebRequest(new MockHttpServletRequest()), FoodCatalog.empty(),
+                    CacheControl.noCache(), "ok", () -> "data");
+
+            // Assert
+            assertThat(response.getHeaders().getETag()).isNull();
+            assertThat(response.getHeaders().getCacheControl()).isEqualTo("no-store");
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.meatmetrics.meatmetrics.api.meal;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.meatmetrics.meatmetrics.PostgreSQLTestBase;
+import com.meatmetrics.meatmetrics.config.MealIdempotencyProperties;
+import com.meatmetrics.meatmetrics.meal.application.command.AddMealItemsCommand;
+import com.meatmetrics.meatmetrics.meal.application.command.LogMealsCommand;
+import com.meatmetrics.meatmetrics.meal.application.handler.AddMealItemsHandler;
+import com.meatmetrics.meatmetrics.meal.infrastructure.idempotency.IdempotencyKeyStore;
+import com.meatmetrics.meatmetrics.meal.infrastructure.idempotency.JdbcIdempotencyKeyRepository;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 明細追加APIの冪等キーの統合テスト
+ *
+ * <p>摂取量を加算する明細追加を同じ冪等キーで再送しても、摂取量が二重に加算されないことをテストします
+ * （トランザクションの確定を跨ぐため、テスト自体はロールバックしない）。</p>
+ */
+@SpringBootTest
+@ActiveProfiles("integration")
+@DisplayName("明細追加の冪等キー")
+class AddMealItemsIdempotencyTest extends PostgreSQLTestBase {
+
+    private static final LocalDate MEAL_DATE = LocalDate.now().minusDays(1);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AddMealItemsHandler addMealItemsHandler;
+
+    @Autowired
+    private JdbcIdempotencyKeyRepository repository;
+
+    @Autowired
+    private MealIdempotencyProperties properties;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private long userId;
+    private final String key = UUID.randomUUID().toString();
+
+    @BeforeEach
+    void setUp() {
+        userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'test1@example.com'", Long.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM meals WHERE user_id = ? AND meal_date = ? AND meal_type = 'SNACK'",
+                userId, MEAL_DATE);
+        jdbcTemplate.update("DELETE FROM idempotency_keys WHERE user_id = ? AND idempotency_key = ?", userId, key);
+    }
+
+    /** 別のインスタンス（メモリ上の保存済み応答を共有しない） */
+    private IdempotentResponder newInstance() {
+        return new IdempotentResponder(new IdempotencyKeyStore(repository, properties), transactionTemplate,
+                objectMapper);
+    }
+
+    private ResponseEntity<byte[]> addItems(IdempotentResponder responder) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/meals/items");
+        request.addHeader(IdempotentResponder.IDEMPOTENCY_KEY_HEADER, key);
+        LogMealsCommand.Meal meal = new LogMealsCommand.Meal(MEAL_DATE, "snack", null,
+                List.of(new LogMealsCommand.Item(1L, new BigDecimal("200"), null, null)));
+        return responder.respond(request, userId, meal, HttpStatus.OK, "明細追加完了",
+                () -> addMealItemsHandler.addItems(new AddMealItemsCommand(userId, meal)));
+    }
+
+    private BigDecimal loggedQuantity() {
+        return jdbcTemplate.queryForObject("""
+                SELECT i.quantity_g FROM meal_items i
+                JOIN meals m ON m.id = i.meal_id AND m.meal_date = i.meal_date
+                WHERE m.user_id = ? AND m.meal_date = ? AND m.meal_type = 'SNACK' AND i.food_id = 1
+                """, BigDecimal.class, userId, MEAL_DATE);
+    }
+
+    @Test
+    @DisplayName("確定後に別のインスタンスへ届いた再送は保存済みの応答を返し、摂取量を加算しない")
+    void shouldReplayRetryAfterCommitWithoutAddingAgain() {
+        // Arrange
+        ResponseEntity<byte[]> first = addItems(newInstance());
+
+        // Act
+        ResponseEntity<byte[]> retry = addItems(newInstance());
+
+        // Assert
+        assertThat(retry.getHeaders().getFirst(IdempotentResponder.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(retry.getBody()).isEqualTo(first.getBody());
+        assertThat(loggedQuantity()).isEqualByComparingTo("200");
+    }
+
+    @Test
+    @DisplayName("同じキーで同時に送信しても、摂取量は1回分だけ加算される")
+    void shouldAddOnceForConcurrentRetries() throws Exception {
+        // Act
+        CompletableFuture<ResponseEntity<byte[]>> first = CompletableFuture.supplyAsync(() -> addItems(newInstance()));
+        CompletableFuture<ResponseEntity<byte[]>> second = CompletableFuture.supplyAsync(() -> addItems(newInstance()));
+        ResponseEntity<byte[]> firstResponse = first.get(10, TimeUnit.SECONDS);
+        ResponseEntity<byte[]> secondResponse = second.get(10, TimeUnit.SECONDS);
+
+        // Assert
+        assertThat(firstResponse.getBody()).isEqualTo(secondResponse.getBody());
+        assertThat(loggedQuantity()).isEqualByComparingTo("200");
+    }
+}
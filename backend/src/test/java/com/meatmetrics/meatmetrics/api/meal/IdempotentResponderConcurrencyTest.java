@@ -0,0 +1,149 @@
+package com.meatmetrics.meatmetrics.api.meal;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.meatmetrics.meatmetrics.PostgreSQLTestBase;
+import com.meatmetrics.meatmetrics.config.MealIdempotencyProperties;
+import com.meatmetrics.meatmetrics.meal.infrastructure.idempotency.IdempotencyKeyStore;
+import com.meatmetrics.meatmetrics.meal.infrastructure.idempotency.JdbcIdempotencyKeyRepository;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * IdempotentResponderの同時送信の統合テスト
+ *
+ * <p>同じ冪等キーのリクエストが別々のインスタンスに同時に届いても、書き込み処理は1回だけ実行され、
+ * 他方は保存済みの応答を返すことをテストします（トランザクションの確定を跨ぐため、テスト自体はロールバックしない）。</p>
+ */
+@SpringBootTest
+@ActiveProfiles("integration")
+@DisplayName("IdempotentResponder（同時送信）")
+class IdempotentResponderConcurrencyTest extends PostgreSQLTestBase {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JdbcIdempotencyKeyRepository repository;
+
+    @Autowired
+    private MealIdempotencyProperties properties;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private long userId;
+    private final String key = UUID.randomUUID().toString();
+
+    @BeforeEach
+    void setUp() {
+        userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'test1@example.com'", Long.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM idempotency_keys WHERE user_id = ? AND idempotency_key = ?", userId, key);
+    }
+
+    /** 別のインスタンス（メモリ上の保存済み応答を共有しない） */
+    private IdempotentResponder newInstance() {
+        return new IdempotentResponder(new IdempotencyKeyStore(repository, properties), transactionTemplate,
+                objectMapper);
+    }
+
+    private MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/meals/items");
+        request.addHeader(IdempotentResponder.IDEMPOTENCY_KEY_HEADER, key);
+        return request;
+    }
+
+    @Test
+    @DisplayName("同じキーの同時送信は書き込み処理を1回だけ実行し、他方は確定を待って同じ応答を返す")
+    void shouldRunHandlerOnceForConcurrentRequests() throws Exception {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch entered = new CountDownLatch(1);
+        Map<String, Integer> payload = Map.of("quantity_g", 200);
+
+        // Act: 1件目の書き込み処理中（未コミット）に、別のインスタンスへ同じキーで再送する
+        CompletableFuture<ResponseEntity<byte[]>> first = CompletableFuture.supplyAsync(() ->
+                newInstance().respond(request(), userId, payload, HttpStatus.CREATED, "食事記録完了", () -> {
+                    int call = calls.incrementAndGet();
+                    entered.countDown();
+                    sleep(500);
+                    return Map.of("call", call);
+                }));
+        assertThat(entered.await(10, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<ResponseEntity<byte[]>> second = CompletableFuture.supplyAsync(() ->
+                newInstance().respond(request(), userId, payload, HttpStatus.CREATED, "食事記録完了",
+                        () -> Map.of("call", calls.incrementAndGet())));
+
+        ResponseEntity<byte[]> firstResponse = first.get(10, TimeUnit.SECONDS);
+        ResponseEntity<byte[]> secondResponse = second.get(10, TimeUnit.SECONDS);
+
+        // Assert
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(firstResponse.getHeaders().getFirst(IdempotentResponder.REPLAYED_HEADER)).isNull();
+        assertThat(secondResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(secondResponse.getHeaders().getFirst(IdempotentResponder.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(secondResponse.getBody()).isEqualTo(firstResponse.getBody());
+        assertThat(new String(secondResponse.getBody(), StandardCharsets.UTF_8)).contains("\"call\":1");
+    }
+
+    @Test
+    @DisplayName("書き込み処理が失敗した場合はキーの確保もロールバックされ、同じキーで再試行できる")
+    void shouldReleaseKeyWhenHandlerFails() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        Map<String, Integer> payload = Map.of("quantity_g", 200);
+        assertThatThrownBy(() -> newInstance().respond(request(), userId, payload, HttpStatus.CREATED, "食事記録完了",
+                () -> {
+                    calls.incrementAndGet();
+                    throw new IllegalStateException("handler failed");
+                })).isInstanceOf(IllegalStateException.class);
+
+        // Act
+        ResponseEntity<byte[]> retry = newInstance().respond(request(), userId, payload, HttpStatus.CREATED,
+                "食事記録完了", () -> Map.of("call", calls.incrementAndGet()));
+
+        // Assert
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(retry.getHeaders().getFirst(IdempotentResponder.REPLAYED_HEADER)).isNull();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM idempotency_keys WHERE user_id = ? AND idempotency_key = ? AND octet_length(response_body) > 0",
+                Integer.class, userId, key)).isEqualTo(1);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.meatmetrics.meatmetrics.api.meal;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.meatmetrics.meatmetrics.config.MealIdempotencyProperties;
+import com.meatmetrics.meatmetrics.meal.domain.exception.IdempotencyKeyInProgressException;
+import com.meatmetrics.meatmetrics.meal.domain.exception.IdempotencyKeyReusedException;
+import com.meatmetrics.meatmetrics.meal.domain.exception.InvalidIdempotencyKeyException;
+import com.meatmetrics.meatmetrics.meal.infrastructure.idempotency.IdempotencyKeyStore;
+import com.meatmetrics.meatmetrics.meal.infrastructure.idempotency.JdbcIdempotencyKeyRepository;
+import com.meatmetrics.meatmetrics.meal.infrastructure.idempotency.StoredResponse;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * IdempotentResponderのユニットテスト
+ *
+ * <p>冪等キーの検証、書き込みと同じトランザクションでのキーの確保と応答の保存、再送時の保存済み応答の返却（メモリ・DB）をテストします。</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotentResponder")
+class IdempotentResponderTest {
+
+    private static final long USER_ID = 1L;
+    private static final String KEY = "5f1c2a9e-retry-key";
+
+    @Mock
+    private JdbcIdempotencyKeyRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final MealIdempotencyProperties properties = new MealIdempotencyProperties();
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private IdempotentResponder responder;
+
+    @BeforeEach
+    void setUp() {
+        responder = new IdempotentResponder(new IdempotencyKeyStore(repository, properties),
+                new TransactionTemplate(transactionManager), objectMapper);
+    }
+
+    private static MockHttpServletRequest request(String key) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/meals");
+        if (key != null) {
+            request.addHeader(IdempotentResponder.IDEMPOTENCY_KEY_HEADER, key);
+        }
+        return request;
+    }
+
+    private void stubClaim(boolean claimed) {
+        when(repository.claim(eq(USER_ID), eq(KEY), any(), eq(201), eq("application/json"))).thenReturn(claimed);
+    }
+
+    private ResponseEntity<byte[]> respond(MockHttpServletRequest request, Object payload, AtomicInteger calls) {
+        return responder.respond(request, USER_ID, payload, HttpStatus.CREATED, "食事記録完了",
+                () -> Map.of("call", calls.incrementAndGet()));
+    }
+
+    @Nested
+    @DisplayName("初回のリクエスト")
+    class FirstRequest {
+
+        @Test
+        @DisplayName("冪等キーなしの場合は毎回処理し、保存しない")
+        void shouldProcessEveryTimeWithoutKey() {
+            AtomicInteger calls = new AtomicInteger();
+
+            respond(request(null), Map.of("a", 1), calls);
+            ResponseEntity<byte[]> response = respond(request(null), Map.of("a", 1), calls);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            assertThat(calls.get()).isEqualTo(2);
+            verifyNoInteractions(repository);
+        }
+
+        @Test
+        @DisplayName("冪等キー付きの場合は1つのトランザクションでキーを確保し、処理してから応答本文をそのまま保存する")
+        void shouldClaimAndStoreResponseBytesInOneTransaction() {
+            // Arrange
+            AtomicInteger calls = new AtomicInteger();
+            when(repository.find(USER_ID, KEY, 1)).thenReturn(Optional.empty());
+            stubClaim(true);
+
+            // Act
+            ResponseEntity<byte[]> response = respond(request(KEY), Map.of("a", 1), calls);
+
+            // Assert
+            InOrder inOrder = inOrder(transactionManager, repository);
+            inOrder.verify(transactionManager).getTransaction(any());
+            inOrder.verify(repository).claim(eq(USER_ID), eq(KEY), argThat(hash -> hash.length == 32), eq(201),
+                    eq("application/json"));
+            inOrder.verify(repository).complete(eq(USER_ID), eq(KEY), eq(response.getBody()));
+            inOrder.verify(transactionManager).commit(any());
+            assertThat(new String(response.getBody(), StandardCharsets.UTF_8)).contains("\"call\":1");
+        }
+
+        @Test
+        @DisplayName("応答の保存に失敗した場合は書き込みごとロールバックし、エラーにする")
+        void shouldRollBackWhenStoreFails() {
+            AtomicInteger calls = new AtomicInteger();
+            when(repository.find(USER_ID, KEY, 1)).thenReturn(Optional.empty());
+            stubClaim(true);
+            doThrow(new DataAccessResourceFailureException("down")).when(repository).complete(anyLong(), anyString(), any());
+
+            assertThatThrownBy(() -> respond(request(KEY), Map.of("a", 1), calls))
+                    .isInstanceOf(DataAccessResourceFailureException.class);
+            verify(transactionManager).rollback(any());
+            verify(transactionManager, never()).commit(any());
+        }
+
+        @Test
+        @DisplayName("空・長すぎる・制御文字を含む冪等キーは拒否する")
+        void shouldRejectInvalidKey() {
+            AtomicInteger calls = new AtomicInteger();
+
+            assertThatThrownBy(() -> respond(request(""), Map.of(), calls))
+                    .isInstanceOf(InvalidIdempotencyKeyException.class);
+            assertThatThrownBy(() -> respond(request("k".repeat(256)), Map.of(), calls))
+                    .isInstanceOf(InvalidIdempotencyKeyException.class);
+            assertThatThrownBy(() -> respond(request("key with space"), Map.of(), calls))
+                    .isInstanceOf(InvalidIdempotencyKeyException.class);
+            assertThat(calls.get()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("再送")
+    class Replay {
+
+        @Test
+        @DisplayName("同じ内容の再送は処理を呼び出さず、メモリから同じバイト列を返す")
+        void shouldReplayFromMemory() {
+            // Arrange
+            AtomicInteger calls = new AtomicInteger();
+            when(repository.find(USER_ID, KEY, 1)).thenReturn(Optional.empty());
+            stubClaim(true);
+            ResponseEntity<byte[]> first = respond(request(KEY), Map.of("a", 1), calls);
+
+            // Act
+            ResponseEntity<byte[]> replay = respond(request(KEY), Map.of("a", 1), calls);
+
+            // Assert
+            assertThat(calls.get()).isEqualTo(1);
+            assertThat(replay.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            assertThat(replay.getBody()).isEqualTo(first.getBody());
+            assertThat(replay.getHeaders().getFirst(IdempotentResponder.REPLAYED_HEADER)).isEqualTo("true");
+            verify(repository, times(1)).find(USER_ID, KEY, 1);
+        }
+
+        @Test
+        @DisplayName("メモリにない場合はDBの保存済み応答を返す")
+        void shouldReplayFromDatabase() {
+            // Arrange
+            AtomicInteger calls = new AtomicInteger();
+            byte[] body = "{\"stored\":true}".getBytes(StandardCharsets.UTF_8);
+            byte[] hash = IdempotentResponder.fingerprint("POST", "/api/meals",
+                    "{\"a\":1}".getBytes(StandardCharsets.UTF_8));
+            when(repository.find(USER_ID, KEY, 1))
+                    .thenReturn(Optional.of(new StoredResponse(hash, 201, "application/json", body)));
+
+            // Act
+            ResponseEntity<byte[]> replay = respond(request(KEY), Map.of("a", 1), calls);
+
+            // Assert
+            assertThat(calls.get()).isZero();
+            assertThat(replay.getBody()).isEqualTo(body);
+            verify(repository, never()).claim(anyLong(), anyString(), any(), anyInt(), anyString());
+        }
+
+        @Test
+        @DisplayName("同じキーで内容の異なるリクエストは拒否する")
+        void shouldRejectDifferentPayload() {
+            AtomicInteger calls = new AtomicInteger();
+            when(repository.find(USER_ID, KEY, 1)).thenReturn(Optional.empty());
+            stubClaim(true);
+            respond(request(KEY), Map.of("a", 1), calls);
+
+            assertThatThrownBy(() -> respond(request(KEY), Map.of("a", 2), calls))
+                    .isInstanceOf(IdempotencyKeyReusedException.class);
+            assertThat(calls.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("同時に送信された同じキーのリクエストが先に確定した場合は、処理を呼び出さず保存済みの応答を返す")
+        void shouldReplayWhenConcurrentRequestCommittedFirst() {
+            // Arrange
+            AtomicInteger calls = new AtomicInteger();
+            byte[] body = "{\"stored\":true}".getBytes(StandardCharsets.UTF_8);
+            byte[] hash = IdempotentResponder.fingerprint("POST", "/api/meals",
+                    "{\"a\":1}".getBytes(StandardCharsets.UTF_8));
+            when(repository.find(USER_ID, KEY, 1)).thenReturn(Optional.empty(),
+                    Optional.of(new StoredResponse(hash, 201, "application/json", body)));
+            stubClaim(false);
+
+            // Act
+            ResponseEntity<byte[]> replay = respond(request(KEY), Map.of("a", 1), calls);
+
+            // Assert
+            assertThat(calls.get()).isZero();
+            assertThat(replay.getBody()).isEqualTo(body);
+            assertThat(replay.getHeaders().getFirst(IdempotentResponder.REPLAYED_HEADER)).isEqualTo("true");
+            verify(repository, never()).complete(anyLong(), anyString(), any());
+        }
+
+        @Test
+        @DisplayName("キーを確保できず保存済みの応答も読み出せない場合は拒否し、処理を呼び出さない")
+        void shouldRejectWhenClaimedResponseIsUnavailable() {
+            AtomicInteger calls = new AtomicInteger();
+            when(repository.find(USER_ID, KEY, 1)).thenReturn(Optional.empty());
+            stubClaim(false);
+
+            assertThatThrownBy(() -> respond(request(KEY), Map.of("a", 1), calls))
+                    .isInstanceOf(IdempotencyKeyInProgressException.class);
+            assertThat(calls.get()).isZero();
+        }
+
+        @Test
+        @DisplayName("処理が失敗した場合は同じキーで再試行できる")
+        void shouldAllowRetryAfterFailure() {
+            AtomicInteger calls = new AtomicInteger();
+            when(repository.find(USER_ID, KEY, 1)).thenReturn(Optional.empty());
+            stubClaim(true);
+
+            assertThatThrownBy(() -> responder.respond(request(KEY), USER_ID, Map.of("a", 1), HttpStatus.CREATED,
+                    "食事記録完了", () -> { throw new IllegalStateException("failed"); }))
+                    .isInstanceOf(IllegalStateException.class);
+            ResponseEntity<byte[]> retry = respond(request(KEY), Map.of("a", 1), calls);
+
+            assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            assertThat(calls.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("メモリの保持時間を過ぎたキーはDBを参照する")
+        void shouldFallBackToDatabaseAfterMemoryTtl() {
+            AtomicInteger calls = new AtomicInteger();
+            properties.setMemoryTtlMs(0);
+            when(repository.find(USER_ID, KEY, 1)).thenReturn(Optional.empty());
+            stubClaim(true);
+            respond(request(KEY), Map.of("a", 1), calls);
+
+            respond(request(KEY), Map.of("a", 1), calls);
+
+            verify(repository, times(2)).find(USER_ID, KEY, 1);
+        }
+    }
+}
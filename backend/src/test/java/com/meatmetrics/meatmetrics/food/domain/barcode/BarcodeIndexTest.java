@@ -0,0 +1,114 @@
+package com.meatmetrics.meatmetrics.food.domain.barcode;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.meatmetrics.meatmetrics.food.domain.exception.InvalidGtinException;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * BarcodeIndex・Gtinのユニットテスト
+ *
+ * <p>GTINの検証と、ソート済み配列への差分マージをテストします。</p>
+ */
+@DisplayName("BarcodeIndex")
+class BarcodeIndexTest {
+
+    private static final Instant T0 = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Instant T1 = T0.plusSeconds(60);
+
+    // チェックディジットが正しいGTIN-13
+    private static final long JAN_A = 4901234567894L;
+    private static final long JAN_B = 4912345678904L;
+    private static final long UPC_AS_GTIN13 = 36000291452L;
+
+    @Nested
+    @DisplayName("GTINの解析")
+    class Parse {
+
+        @Test
+        @DisplayName("13桁はそのまま、12桁のUPC-Aは先頭に0を補って解析する")
+        void shouldParseGtin13AndUpcA() {
+            assertThat(Gtin.parse("4901234567894")).isEqualTo(JAN_A);
+            assertThat(Gtin.parse("036000291452")).isEqualTo(UPC_AS_GTIN13);
+            assertThat(Gtin.format(UPC_AS_GTIN13)).isEqualTo("0036000291452");
+        }
+
+        @Test
+        @DisplayName("チェックディジット・桁数・文字が不正な場合は例外")
+        void shouldRejectInvalidGtin() {
+            assertThatThrownBy(() -> Gtin.parse("4901234567890")).isInstanceOf(InvalidGtinException.class);
+            assertThatThrownBy(() -> Gtin.parse("490123456789")).isInstanceOf(InvalidGtinException.class);
+            assertThatThrownBy(() -> Gtin.parse("49012345678a4")).isInstanceOf(InvalidGtinException.class);
+            assertThatThrownBy(() -> Gtin.parse(null)).isInstanceOf(InvalidGtinException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("構築・検索")
+    class Build {
+
+        @Test
+        @DisplayName("有効な対応のみを索引し、未登録のGTINは-1を返す")
+        void shouldIndexActiveBarcodes() {
+            BarcodeIndex index = BarcodeIndex.of(List.of(
+                    new FoodBarcode(JAN_B, 2, true, T0),
+                    new FoodBarcode(JAN_A, 1, true, T0),
+                    new FoodBarcode(UPC_AS_GTIN13, 3, false, T1)));
+
+            assertThat(index.size()).isEqualTo(2);
+            assertThat(index.find(JAN_A)).isEqualTo(1);
+            assertThat(index.find(JAN_B)).isEqualTo(2);
+            assertThat(index.find(UPC_AS_GTIN13)).isEqualTo(-1);
+            assertThat(index.highWaterMark()).isEqualTo(T1);
+        }
+    }
+
+    @Nested
+    @DisplayName("差分の適用")
+    class Changes {
+
+        private final BarcodeIndex base = BarcodeIndex.of(List.of(
+                new FoodBarcode(JAN_A, 1, true, T0),
+                new FoodBarcode(JAN_B, 2, true, T0)));
+
+        @Test
+        @DisplayName("追加・付け替え・無効化を既存の並びにマージする")
+        void shouldMergeChanges() {
+            BarcodeIndex next = base.withChanges(List.of(
+                    new FoodBarcode(UPC_AS_GTIN13, 3, true, T1),
+                    new FoodBarcode(JAN_A, 4, true, T1),
+                    new FoodBarcode(JAN_B, 2, false, T1)));
+
+            assertThat(next.size()).isEqualTo(2);
+            assertThat(next.find(UPC_AS_GTIN13)).isEqualTo(3);
+            assertThat(next.find(JAN_A)).isEqualTo(4);
+            assertThat(next.find(JAN_B)).isEqualTo(-1);
+            assertThat(next.highWaterMark()).isEqualTo(T1);
+            // 元の索引は変わらない
+            assertThat(base.find(JAN_B)).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("同じGTINが複数含まれる場合は更新日時の新しいものを採用する")
+        void shouldPreferLatestChange() {
+            BarcodeIndex next = base.withChanges(List.of(
+                    new FoodBarcode(JAN_A, 9, false, T1),
+                    new FoodBarcode(JAN_A, 5, true, T0)));
+
+            assertThat(next.find(JAN_A)).isEqualTo(-1);
+        }
+
+        @Test
+        @DisplayName("さかのぼって読み直した変更なしの行だけなら同じ索引を返す")
+        void shouldReturnSameIndexWhenUnchanged() {
+            assertThat(base.withChanges(List.of(new FoodBarcode(JAN_A, 1, true, T0)))).isSameAs(base);
+            assertThat(base.withChanges(List.of())).isSameAs(base);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.meatmetrics.meatmetrics.food.domain.catalog;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * FoodCatalogのユニットテスト
+ *
+ * <p>差分の適用で、有効な食材のID順が保たれることをテストします。</p>
+ */
+@DisplayName("FoodCatalog")
+class FoodCatalogTest {
+
+    private static FoodSnapshot food(long id, boolean active, long updatedAtSeconds) {
+        return new FoodSnapshot(id, "food" + id, 1, 100, 10_00, 5_00, 0, 0, List.of(), active,
+                Instant.ofEpochSecond(updatedAtSeconds));
+    }
+
+    private static List<Long> ids(FoodCatalog catalog) {
+        return catalog.activeFoods().stream().map(FoodSnapshot::id).toList();
+    }
+
+    @Test
+    @DisplayName("追加・更新・無効化をID順の並びにマージする")
+    void shouldMergeChangesIntoIdOrder() {
+        // Arrange
+        FoodCatalog catalog = FoodCatalog.of(List.of(food(2, true, 1), food(5, true, 1), food(8, true, 1)));
+        FoodSnapshot renamed = food(5, true, 3).withName("renamed");
+
+        // Act
+        FoodCatalog next = catalog.withChanges(List.of(food(9, true, 2), renamed, food(1, true, 2),
+                food(8, false, 4), food(3, true, 2)));
+
+        // Assert
+        assertThat(ids(next)).containsExactly(1L, 2L, 3L, 5L, 9L);
+        assertThat(next.get(5).name()).isEqualTo("renamed");
+        assertThat(next.find(8)).isEmpty();
+        assertThat(next.highWaterMark()).isEqualTo(Instant.ofEpochSecond(4));
+        assertThat(ids(catalog)).containsExactly(2L, 5L, 8L);
+    }
+
+    @Test
+    @DisplayName("同じ食材の変更が複数ある場合は後の変更を採用する")
+    void shouldApplyLastChangeOfSameFood() {
+        // Arrange
+        FoodCatalog catalog = FoodCatalog.of(List.of(food(1, true, 1)));
+
+        // Act
+        FoodCatalog next = catalog.withChanges(List.of(food(1, false, 2), food(1, true, 3), food(2, true, 2),
+                food(2, false, 3)));
+
+        // Assert
+        assertThat(ids(next)).containsExactly(1L);
+        assertThat(next.get(1).updatedAt()).isEqualTo(Instant.ofEpochSecond(3));
+    }
+
+    @Test
+    @DisplayName("ランダムな差分の適用結果が全件の並べ替えと一致する")
+    void shouldMatchFullSortForRandomChanges() {
+        // Arrange
+        Random random = new Random(42);
+        Map<Long, FoodSnapshot> expected = new HashMap<>();
+        FoodCatalog catalog = FoodCatalog.empty();
+
+        for (int round = 0; round < 50; round++) {
+            List<FoodSnapshot> changes = new ArrayList<>();
+            for (int i = random.nextInt(20); i >= 0; i--) {
+                FoodSnapshot change = food(random.nextInt(200), random.nextInt(4) > 0, round);
+                changes.add(change);
+                if (change.active()) {
+                    expected.put(change.id(), change);
+                } else {
+                    expected.remove(change.id());
+                }
+            }
+
+            // Act
+            catalog = catalog.withChanges(changes);
+
+            // Assert
+            assertThat(catalog.activeFoods()).containsExactlyElementsOf(expected.values().stream()
+                    .sorted(Comparator.comparingLong(FoodSnapshot::id)).toList());
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.meatmetrics.meatmetrics.food.domain.catalog;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodRankingIndex.RankedFood;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * FoodRankingIndexのユニットテスト
+ *
+ * <p>指標ごとの並び順、絞り込み、差分更新が全件再構築と一致することをテストします。</p>
+ */
+@DisplayName("FoodRankingIndex")
+class FoodRankingIndexTest {
+
+    private static FoodSnapshot food(long id, long categoryId, int calories, long protein, long fat, long carbs, long fiber, String... tags) {
+        return new FoodSnapshot(id, "food" + id, categoryId, calories, protein, fat, carbs, fiber,
+                List.of(tags), true, Instant.parse("2025-01-01T00:00:00Z"));
+    }
+
+    private static List<Long> ids(List<RankedFood> ranked) {
+        return ranked.stream().map(r -> r.food().id()).toList();
+    }
+
+    private static final FoodSnapshot SIRLOIN = food(1, 10, 498, 17_40, 47_50, 30, 0, "牛肉");
+    private static final FoodSnapshot FILLET = food(2, 10, 185, 20_50, 11_20, 30, 0, "牛肉", "赤身");
+    private static final FoodSnapshot CHICKEN = food(3, 20, 105, 23_30, 1_90, 0, 0, "鶏肉");
+    private static final FoodSnapshot BUTTER = food(4, 30, 745, 60, 81_00, 20, 0);
+    private static final FoodSnapshot CHEESE = food(5, 30, 356, 22_70, 26_00, 1_30, 0);
+
+    private final FoodCatalog catalog = FoodCatalog.of(List.of(SIRLOIN, FILLET, CHICKEN, BUTTER, CHEESE));
+
+    @Nested
+    @DisplayName("topメソッド")
+    class Top {
+
+        @Test
+        @DisplayName("CARNIVOREはタンパク質降順で並ぶ")
+        void shouldOrderByProteinForCarnivore() {
+            // Arrange
+            FoodRankingIndex index = FoodRankingIndex.build(catalog);
+
+            // Act
+            List<RankedFood> ranked = index.top(RankingMetric.CARNIVORE, 10, null, null);
+
+            // Assert
+            assertThat(ids(ranked)).containsExactly(3L, 5L, 2L, 1L, 4L);
+            assertThat(ranked.get(0).rank()).isEqualTo(1);
+            assertThat(ranked.get(0).value()).isEqualTo(23.3);
+        }
+
+        @Test
+        @DisplayName("PROTEIN_PER_KCALは1kcalあたりタンパク質の降順で並ぶ")
+        void shouldOrderByProteinPerKcal() {
+            // Act
+            List<RankedFood> ranked = FoodRankingIndex.build(catalog).top(RankingMetric.PROTEIN_PER_KCAL, 2, null, null);
+
+            // Assert
+            assertThat(ids(ranked)).containsExactly(3L, 2L);
+        }
+
+        @Test
+        @DisplayName("LOWEST_NET_CARBSは正味炭水化物の昇順で、同値はID順に並ぶ")
+        void shouldOrderByNetCarbsAscending() {
+            // Act
+            List<RankedFood> ranked = FoodRankingIndex.build(catalog).top(RankingMetric.LOWEST_NET_CARBS, 10, null, null);
+
+            // Assert
+            assertThat(ids(ranked)).containsExactly(3L, 4L, 1L, 2L, 5L);
+        }
+
+        @Test
+        @DisplayName("カテゴリとタグで絞り込み、順位は絞り込み後に振られる")
+        void shouldFilterByCategoryAndTag() {
+            // Arrange
+            FoodRankingIndex index = FoodRankingIndex.build(catalog);
+
+            // Act
+            List<RankedFood> byCategory = index.top(RankingMetric.CARNIVORE, 10, id -> id == 10, null);
+            List<RankedFood> byTag = index.top(RankingMetric.CARNIVORE, 10, null, "赤身");
+
+            // Assert
+            assertThat(ids(byCategory)).containsExactly(2L, 1L);
+            assertThat(byCategory.get(1).rank()).isEqualTo(2);
+            assertThat(ids(byTag)).containsExactly(2L);
+        }
+    }
+
+    @Nested
+    @DisplayName("updateメソッド")
+    class Update {
+
+        @Test
+        @DisplayName("更新・追加・無効化が反映される")
+        void shouldApplyChanges() {
+            // Arrange
+            FoodRankingIndex index = FoodRankingIndex.build(catalog);
+            FoodSnapshot leanerSirloin = food(1, 10, 300, 30_00, 10_00, 0, 0, "牛肉");
+            FoodSnapshot liver = food(6, 40, 119, 20_40, 3_10, 3_70, 0);
+            FoodSnapshot removedButter = new FoodSnapshot(4, "food4", 30, 745, 60, 81_00, 20, 0, List.of(), false, Instant.now());
+            List<FoodSnapshot> changed = List.of(leanerSirloin, liver, removedButter);
+
+            // Act
+            FoodRankingIndex updated = index.update(catalog.withChanges(changed), changed);
+
+            // Assert
+            assertThat(ids(updated.top(RankingMetric.CARNIVORE, 10, null, null)))
+                    .containsExactly(1L, 3L, 5L, 2L, 6L);
+            // 元の索引は変更されない
+            assertThat(ids(index.top(RankingMetric.CARNIVORE, 10, null, null)))
+                    .containsExactly(3L, 5L, 2L, 1L, 4L);
+        }
+
+        @Test
+        @DisplayName("差分更新の結果は全件再構築と一致する")
+        void shouldMatchFullRebuild() {
+            // Arrange
+            Random random = new Random(42);
+            List<FoodSnapshot> foods = new ArrayList<>();
+            for (long id = 1; id <= 300; id++) {
+                foods.add(randomFood(random, id, true));
+            }
+            FoodCatalog base = FoodCatalog.of(foods);
+            FoodRankingIndex index = FoodRankingIndex.build(base);
+
+            List<FoodSnapshot> changed = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                changed.add(randomFood(random, 1 + random.nextInt(350), random.nextInt(5) > 0));
+            }
+            FoodCatalog next = base.withChanges(changed);
+
+            // Act
+            FoodRankingIndex updated = index.update(next, changed);
+            FoodRankingIndex rebuilt = FoodRankingIndex.build(next);
+
+            // Assert
+            for (RankingMetric metric : RankingMetric.values()) {
+                assertThat(ids(updated.top(metric, 1000, null, null)))
+                        .as(metric.name())
+                        .isEqualTo(ids(rebuilt.top(metric, 1000, null, null)));
+            }
+        }
+
+        private FoodSnapshot randomFood(Random random, long id, boolean active) {
+            long carbs = random.nextInt(500);
+            return new FoodSnapshot(id, "food" + id, 1 + random.nextInt(5), random.nextInt(600),
+                    random.nextInt(30) * 100L, random.nextInt(50) * 100L, carbs, random.nextInt((int) carbs + 1),
+                    List.of(), active, Instant.now());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.meatmetrics.meatmetrics.food.domain.category;
+
+import java.util.List;
+import java.util.function.LongPredicate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * CategoryTreeのユニットテスト
+ *
+ * <p>行きがけ順の番号付けと、区間比較による配下判定をテストします。</p>
+ */
+@DisplayName("CategoryTree")
+class CategoryTreeTest {
+
+    // 肉類(1) ─┬─ 牛肉(2) ─── 牛ひき肉(4)
+    //          └─ 豚肉(3)
+    // 魚介類(5)
+    // 内臓(6) の親(99)は無効化済み
+    private static final CategoryTree TREE = CategoryTree.of(List.of(
+            new CategoryNode(3, 1L, "pork", "豚肉", 2),
+            new CategoryNode(1, null, "meat", "肉類", 1),
+            new CategoryNode(4, 2L, "ground_beef", "牛ひき肉", 1),
+            new CategoryNode(5, null, "seafood", "魚介類", 2),
+            new CategoryNode(2, 1L, "beef", "牛肉", 1),
+            new CategoryNode(6, 99L, "offal", "内臓", 1)));
+
+    @Nested
+    @DisplayName("構築")
+    class Build {
+
+        @Test
+        @DisplayName("兄弟はsort_order順の行きがけ順に並び、親が存在しない部分木は除外される")
+        void shouldOrderNodesInPreorder() {
+            assertThat(TREE.nodes()).extracting(CategoryNode::id).containsExactly(1L, 2L, 4L, 3L, 5L);
+            assertThat(TREE.size()).isEqualTo(5);
+            assertThat(TREE.find(6)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("深さとルートからのパスを返す")
+        void shouldReturnLevelAndPath() {
+            assertThat(TREE.level(4)).isEqualTo(3);
+            assertThat(TREE.level(5)).isEqualTo(1);
+            assertThat(TREE.path(4)).extracting(CategoryNode::id).containsExactly(1L, 2L, 4L);
+        }
+    }
+
+    @Nested
+    @DisplayName("配下判定")
+    class Subtree {
+
+        @Test
+        @DisplayName("自身と子孫は配下、兄弟・祖先・存在しないカテゴリは配下ではない")
+        void shouldDetectDescendants() {
+            assertThat(TREE.isSelfOrDescendant(4, 1)).isTrue();
+            assertThat(TREE.isSelfOrDescendant(1, 1)).isTrue();
+            assertThat(TREE.isSelfOrDescendant(3, 2)).isFalse();
+            assertThat(TREE.isSelfOrDescendant(1, 2)).isFalse();
+            assertThat(TREE.isSelfOrDescendant(6, 1)).isFalse();
+        }
+
+        @Test
+        @DisplayName("部分木の述語とIDは行きがけ順の連続区間になる")
+        void shouldReturnSubtreeRange() {
+            LongPredicate underMeat = TREE.subtreeFilter(1);
+
+            assertThat(underMeat.test(4)).isTrue();
+            assertThat(underMeat.test(5)).isFalse();
+            assertThat(TREE.subtreeIds(1)).containsExactly(1L, 2L, 4L, 3L);
+            assertThat(TREE.subtreeIds(2)).containsExactly(2L, 4L);
+        }
+
+        @Test
+        @DisplayName("存在しない祖先の述語は常にfalse")
+        void shouldRejectUnknownAncestor() {
+            assertThat(TREE.subtreeFilter(99).test(1)).isFalse();
+            assertThat(TREE.subtreeIds(99)).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.meatmetrics.meatmetrics.food.domain.cooking;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.meatmetrics.meatmetrics.food.domain.category.CategoryNode;
+import com.meatmetrics.meatmetrics.food.domain.category.CategoryTree;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * CookingFactorTableのユニットテスト
+ *
+ * <p>カテゴリ階層に沿った係数の継承と、係数の換算・丸めをテストします。</p>
+ */
+@DisplayName("CookingFactorTable")
+class CookingFactorTableTest {
+
+    // 肉類(1) ─── 牛肉(2) ─── 牛ひき肉(4)
+    // 魚介類(5)
+    private static final CategoryTree TREE = CategoryTree.of(List.of(
+            new CategoryNode(1, null, "meat", "肉類", 1),
+            new CategoryNode(2, 1L, "beef", "牛肉", 1),
+            new CategoryNode(4, 2L, "ground_beef", "牛ひき肉", 1),
+            new CategoryNode(5, null, "seafood", "魚介類", 2)));
+
+    private static final CookingFactorTable TABLE = CookingFactorTable.build(TREE, List.of(
+            rule(null, CookingMethod.GRILLED, "0.750", "0.950", "1.000", "0.900", "1.000"),
+            rule(1L, CookingMethod.GRILLED, "0.720", "0.920", "1.000", "0.850", "1.000"),
+            rule(1L, CookingMethod.BOILED, "0.700", "0.900", "0.970", "0.800", "1.000"),
+            rule(2L, CookingMethod.BOILED, "0.650", "0.880", "0.960", "0.780", "1.000")));
+
+    private static CookingFactorRule rule(Long categoryId, CookingMethod method, String yield,
+                                          String energy, String protein, String fat, String carbs) {
+        return new CookingFactorRule(categoryId, method, new BigDecimal(yield), new BigDecimal(energy),
+                new BigDecimal(protein), new BigDecimal(fat), new BigDecimal(carbs));
+    }
+
+    private static CookingFactors factors(String calories, String protein, String fat, String netCarbs) {
+        return new CookingFactors(new BigDecimal(calories), new BigDecimal(protein),
+                new BigDecimal(fat), new BigDecimal(netCarbs));
+    }
+
+    @Nested
+    @DisplayName("継承")
+    class Inheritance {
+
+        @Test
+        @DisplayName("自身に行がないカテゴリは最も近い祖先の行を使う")
+        void shouldInheritFromNearestAncestor() {
+            CookingFactors meatGrilled = factors("1.2778", "1.3889", "1.1806", "1.3889");
+
+            assertThat(TABLE.factors(4, CookingMethod.GRILLED)).isEqualTo(meatGrilled);
+            assertThat(TABLE.factors(2, CookingMethod.GRILLED)).isEqualTo(meatGrilled);
+        }
+
+        @Test
+        @DisplayName("自身の行は祖先の行より優先され、その子孫にも引き継がれる")
+        void shouldPreferOwnRow() {
+            CookingFactors beefBoiled = factors("1.3538", "1.4769", "1.2000", "1.5385");
+
+            assertThat(TABLE.factors(2, CookingMethod.BOILED)).isEqualTo(beefBoiled);
+            assertThat(TABLE.factors(4, CookingMethod.BOILED)).isEqualTo(beefBoiled);
+            assertThat(TABLE.factors(1, CookingMethod.BOILED)).isNotEqualTo(beefBoiled);
+        }
+
+        @Test
+        @DisplayName("祖先にも行がなければ既定値、ツリーにないカテゴリも既定値を使う")
+        void shouldFallBackToDefault() {
+            CookingFactors defaultGrilled = factors("1.2667", "1.3333", "1.2000", "1.3333");
+
+            assertThat(TABLE.factors(5, CookingMethod.GRILLED)).isEqualTo(defaultGrilled);
+            assertThat(TABLE.factors(99, CookingMethod.GRILLED)).isEqualTo(defaultGrilled);
+        }
+
+        @Test
+        @DisplayName("既定値もない調理方法と生は係数1")
+        void shouldUseIdentityWithoutAnyRow() {
+            assertThat(TABLE.factors(5, CookingMethod.STEAMED)).isEqualTo(CookingFactors.IDENTITY);
+            assertThat(TABLE.factors(4, CookingMethod.RAW)).isEqualTo(CookingFactors.IDENTITY);
+            assertThat(CookingFactorTable.empty().factors(1, CookingMethod.GRILLED)).isEqualTo(CookingFactors.IDENTITY);
+        }
+    }
+
+    @Nested
+    @DisplayName("調理方法の解決")
+    class MethodCode {
+
+        @Test
+        @DisplayName("DB上の値は大文字小文字を区別せず解決し、不明な値は例外")
+        void shouldResolveCode() {
+            assertThat(CookingMethod.fromCode("pan_fried")).isEqualTo(CookingMethod.PAN_FRIED);
+            assertThat(CookingMethod.fromCode(" GRILLED ")).isEqualTo(CookingMethod.GRILLED);
+            assertThatThrownBy(() -> CookingMethod.fromCode("fried"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.meatmetrics.meatmetrics.food.domain.locale;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * FoodLocaleのユニットテスト
+ *
+ * <p>ユーザー設定と Accept-Language からの言語の決定をテストします。</p>
+ */
+@DisplayName("FoodLocale")
+class FoodLocaleTest {
+
+    @Test
+    @DisplayName("ユーザーの設定言語を Accept-Language より優先する")
+    void shouldPreferUserSetting() {
+        assertThat(FoodLocale.resolve("en", "ja-JP,ja;q=0.9")).isEqualTo("en");
+    }
+
+    @Test
+    @DisplayName("Accept-Language の優先順位で対応言語を選び、地域指定は言語部分で一致させる")
+    void shouldUseAcceptLanguage() {
+        assertThat(FoodLocale.resolve(null, "en-US,en;q=0.9,ja;q=0.8")).isEqualTo("en");
+        assertThat(FoodLocale.resolve(null, "fr-FR,ja;q=0.5,en;q=0.3")).isEqualTo("ja");
+        assertThat(FoodLocale.resolve("de", "en-GB")).isEqualTo("en");
+    }
+
+    @Test
+    @DisplayName("決まらない場合・不正なヘッダーの場合は既定言語")
+    void shouldFallBackToDefault() {
+        assertThat(FoodLocale.resolve(null, null)).isEqualTo(FoodLocale.DEFAULT);
+        assertThat(FoodLocale.resolve(null, "fr-FR")).isEqualTo(FoodLocale.DEFAULT);
+        assertThat(FoodLocale.resolve(null, ";;;q=abc")).isEqualTo(FoodLocale.DEFAULT);
+    }
+}
@@ -0,0 +1,72 @@
+package com.meatmetrics.meatmetrics.food.domain.nutrition;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodSnapshot;
+import com.meatmetrics.meatmetrics.food.domain.cooking.CookingFactors;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ItemNutritionのユニットテスト
+ *
+ * <p>calculate_meal_item_nutrition() と同じ値・丸めになることをテストします。</p>
+ */
+@DisplayName("ItemNutrition")
+class ItemNutritionTest {
+
+    private static FoodSnapshot food(int calories, long protein, long fat, long carbs, long fiber) {
+        return new FoodSnapshot(1, "food1", 1, calories, protein, fat, carbs, fiber,
+                List.of(), true, Instant.parse("2025-01-01T00:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("生の場合は栄養成分 × 摂取量 / 100")
+    void shouldScaleByQuantity() {
+        // Arrange
+        FoodSnapshot sirloin = food(250, 26_10, 15_40, 1_20, 20);
+
+        // Act
+        ItemNutrition nutrition = ItemNutrition.calculate(sirloin, new BigDecimal("150.00"), CookingFactors.IDENTITY);
+
+        // Assert
+        assertThat(nutrition.calories()).isEqualTo(375);
+        assertThat(nutrition.proteinG()).isEqualByComparingTo("39.15");
+        assertThat(nutrition.fatG()).isEqualByComparingTo("23.10");
+        assertThat(nutrition.netCarbsG()).isEqualByComparingTo("1.50");
+    }
+
+    @Test
+    @DisplayName("調理係数を掛けてから最後に1回だけ丸める")
+    void shouldApplyFactorsBeforeRounding() {
+        // Arrange
+        FoodSnapshot sirloin = food(250, 26_10, 15_40, 0, 0);
+        CookingFactors grilled = new CookingFactors(new BigDecimal("1.2778"), new BigDecimal("1.3889"),
+                new BigDecimal("1.1806"), new BigDecimal("1.3889"));
+
+        // Act
+        ItemNutrition nutrition = ItemNutrition.calculate(sirloin, new BigDecimal("150.00"), grilled);
+
+        // Assert（479.175 → 479, 54.375435 → 54.38, 27.27186 → 27.27）
+        assertThat(nutrition.calories()).isEqualTo(479);
+        assertThat(nutrition.proteinG()).isEqualByComparingTo("54.38");
+        assertThat(nutrition.fatG()).isEqualByComparingTo("27.27");
+        assertThat(nutrition.netCarbsG()).isEqualByComparingTo("0.00");
+    }
+
+    @Test
+    @DisplayName("ちょうど半分はROUND(numeric)と同じく切り上げる")
+    void shouldRoundHalfUp() {
+        // Act
+        ItemNutrition nutrition = ItemNutrition.calculate(food(5, 5, 5, 5, 0), new BigDecimal("10.00"), CookingFactors.IDENTITY);
+
+        // Assert（0.5 → 1, 0.005 → 0.01）
+        assertThat(nutrition.calories()).isEqualTo(1);
+        assertThat(nutrition.proteinG()).isEqualByComparingTo("0.01");
+    }
+}
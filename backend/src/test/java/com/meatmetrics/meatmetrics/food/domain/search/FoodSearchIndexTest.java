@@ -0,0 +1,168 @@
+package com.meatmetrics.meatmetrics.food.domain.search;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodCatalog;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodSnapshot;
+import com.meatmetrics.meatmetrics.food.domain.locale.FoodNameTable;
+import com.meatmetrics.meatmetrics.food.domain.locale.LocalizedFoodName;
+import com.meatmetrics.meatmetrics.food.domain.search.FoodSearchIndex.Match;
+import com.meatmetrics.meatmetrics.food.domain.search.FoodSearchIndex.MatchType;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * FoodSearchIndexのユニットテスト
+ *
+ * <p>表記ゆれの正規化、一致の強さによる並び順、件数制限をテストします。</p>
+ */
+@DisplayName("FoodSearchIndex")
+class FoodSearchIndexTest {
+
+    private static FoodSnapshot food(long id, String name, String... tags) {
+        return new FoodSnapshot(id, name, 10, 200, 20_00, 10_00, 0, 0,
+                List.of(tags), true, Instant.parse("2025-01-01T00:00:00Z"));
+    }
+
+    private static List<Long> ids(List<Match> matches) {
+        return matches.stream().map(match -> match.food().id()).toList();
+    }
+
+    private final FoodSearchIndex index = FoodSearchIndex.build(FoodCatalog.of(List.of(
+            food(1, "サケ"),
+            food(2, "サケ（焼き）"),
+            food(3, "塩サケ"),
+            food(4, "サバ", "青魚"),
+            food(5, "Beef Steak"))));
+
+    @Nested
+    @DisplayName("searchメソッド")
+    class Search {
+
+        @Test
+        @DisplayName("完全一致 → 前方一致 → 部分一致の順に並ぶ")
+        void shouldOrderByMatchStrength() {
+            // Act
+            List<Match> matches = index.search("サケ", 10);
+
+            // Assert
+            assertThat(ids(matches)).containsExactly(1L, 2L, 3L);
+            assertThat(matches).extracting(Match::matchType)
+                    .containsExactly(MatchType.EXACT, MatchType.PREFIX, MatchType.CONTAINS);
+        }
+
+        @Test
+        @DisplayName("ひらがな・全角英字・大文字小文字・空白の違いを吸収する")
+        void shouldNormalizeQuery() {
+            assertThat(ids(index.search("さけ", 10))).startsWith(1L);
+            assertThat(ids(index.search("ｂｅｅｆ　ｓｔｅａｋ", 10))).containsExactly(5L);
+            assertThat(ids(index.search("beefsteak", 10))).containsExactly(5L);
+        }
+
+        @Test
+        @DisplayName("タグの完全一致でも見つかる")
+        void shouldMatchTags() {
+            List<Match> matches = index.search("青魚", 10);
+
+            assertThat(ids(matches)).containsExactly(4L);
+            assertThat(matches.get(0).matchType()).isEqualTo(MatchType.TAG);
+        }
+
+        @Test
+        @DisplayName("件数制限と空の検索語")
+        void shouldApplyLimitAndIgnoreBlankQuery() {
+            assertThat(ids(index.search("サケ", 2))).containsExactly(1L, 2L);
+            assertThat(index.search("  ", 10)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("言語別の索引")
+    class Localized {
+
+        private final FoodCatalog catalog = FoodCatalog.of(List.of(
+                        food(1, "サケ"),
+                        food(2, "牛肉ヒレ"),
+                        food(3, "鶏卵")))
+                .withNames(FoodNameTable.of(List.of(
+                        new LocalizedFoodName(1, "en", "Salmon", null),
+                        new LocalizedFoodName(2, "en", "Beef tenderloin", null),
+                        new LocalizedFoodName(2, "ja", "牛肉ヒレ", "ぎゅうにくひれ"))));
+
+        @Test
+        @DisplayName("言語別の名前で検索・表示し、名前がない食材は既定の名前を使う")
+        void shouldSearchLocalizedNames() {
+            FoodSearchIndex en = FoodSearchIndex.build(catalog, "en");
+
+            List<Match> matches = en.search("salmon", 10);
+
+            assertThat(en.locale()).isEqualTo("en");
+            assertThat(ids(matches)).containsExactly(1L);
+            assertThat(matches.get(0).food().name()).isEqualTo("Salmon");
+            assertThat(en.search("サケ", 10)).isEmpty();
+            assertThat(ids(en.search("鶏卵", 10))).containsExactly(3L);
+        }
+
+        @Test
+        @DisplayName("読みでも一致し、名前と読みの両方で一致した食材は1件にまとめる")
+        void shouldMatchReadingOnce() {
+            FoodSearchIndex ja = FoodSearchIndex.build(catalog, "ja");
+
+            assertThat(ids(ja.search("ぎゅうにく", 10))).containsExactly(2L);
+            assertThat(ja.search("ぎゅうにく", 10).get(0).matchType()).isEqualTo(MatchType.PREFIX);
+            assertThat(ids(ja.search("ヒレ", 10))).containsExactly(2L);
+            assertThat(ja.size()).isEqualTo(4);
+        }
+    }
+
+    @Nested
+    @DisplayName("前方一致（入力補完）")
+    class Prefix {
+
+        @Test
+        @DisplayName("searchPrefixは部分一致・タグ一致を含めない")
+        void shouldSearchPrefixOnly() {
+            // Act
+            List<Match> matches = index.searchPrefix("サケ", 10);
+
+            // Assert
+            assertThat(ids(matches)).containsExactly(1L, 2L);
+            assertThat(index.searchPrefix("青魚", 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("prefixMatchは食材IDで名前・読みの強い方の一致を返す")
+        void shouldMatchSingleFoodByNameOrReading() {
+            // Arrange
+            FoodSearchIndex ja = FoodSearchIndex.build(FoodCatalog.of(List.of(food(1, "サケ"), food(2, "牛肉ヒレ")))
+                    .withNames(FoodNameTable.of(List.of(new LocalizedFoodName(2, "ja", "牛肉ヒレ", "ぎゅうにくひれ")))), "ja");
+            String reading = FoodNameNormalizer.normalize("ぎゅう");
+
+            // Act & Assert
+            assertThat(ja.prefixMatch(2, reading).matchType()).isEqualTo(MatchType.PREFIX);
+            assertThat(ja.prefixMatch(2, FoodNameNormalizer.normalize("牛肉ヒレ")).matchType()).isEqualTo(MatchType.EXACT);
+            assertThat(ja.prefixMatch(1, reading)).isNull();
+            assertThat(ja.prefixMatch(99, reading)).isNull();
+            assertThat(ja.prefixMatch(1, "").food().name()).isEqualTo("サケ");
+        }
+    }
+
+    @Nested
+    @DisplayName("ORDER")
+    class Order {
+
+        @Test
+        @DisplayName("同じ強さ・同じ長さでは共有食材が独自食材より先に並ぶ")
+        void shouldPlaceSharedBeforeCustom() {
+            Match shared = new Match(food(9, "サケ"), MatchType.EXACT, false);
+            Match custom = new Match(food(1, "さけ"), MatchType.EXACT, true);
+
+            assertThat(FoodSearchIndex.ORDER.compare(shared, custom)).isNegative();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.meatmetrics.meatmetrics.food.domain.search;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodSnapshot;
+import com.meatmetrics.meatmetrics.food.domain.search.FoodSpellingIndex.Suggestion;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * FoodSpellingIndexのユニットテスト
+ *
+ * <p>削除文字列による候補の絞り込みと、編集距離・並び順をテストします。</p>
+ */
+@DisplayName("FoodSpellingIndex")
+class FoodSpellingIndexTest {
+
+    private static FoodSnapshot food(long id, String name, String... tags) {
+        return new FoodSnapshot(id, name, 1, 100, 20_00, 5_00, 0, 0, List.of(tags), true, Instant.parse("2025-01-01T00:00:00Z"));
+    }
+
+    private static final FoodSpellingIndex INDEX = FoodSpellingIndex.build(List.of(
+            food(1, "Ribeye", "beef"),
+            food(2, "Ribeye Cap", "beef"),
+            food(3, "サーロイン", "牛肉"),
+            food(4, "鶏もも肉", "鶏肉"),
+            food(5, "Beef Liver", "beef", "offal")));
+
+    private static List<String> terms(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::term).toList();
+    }
+
+    @Nested
+    @DisplayName("suggestメソッド")
+    class Suggest {
+
+        @Test
+        @DisplayName("入れ替え・置換・脱字を編集距離2以内で訂正する")
+        void shouldCorrectTypos() {
+            assertThat(terms(INDEX.suggest("ribeey", 5))).startsWith("Ribeye");
+            assertThat(INDEX.suggest("ribeey", 5).get(0).distance()).isEqualTo(1);
+            // ひらがな表記は正規化で一致するため訂正候補にはならない
+            assertThat(INDEX.suggest("さーろいん", 5)).isEmpty();
+            assertThat(terms(INDEX.suggest("サーロン", 5))).containsExactly("サーロイン");
+            assertThat(terms(INDEX.suggest("とりもも肉", 5))).containsExactly("鶏もも肉");
+        }
+
+        @Test
+        @DisplayName("同じ距離の候補は食材数の多い語を優先し、タグも候補になる")
+        void shouldPreferFrequentTerms() {
+            List<Suggestion> suggestions = INDEX.suggest("beeff", 5);
+
+            assertThat(suggestions.get(0)).isEqualTo(new Suggestion("beef", 1, 3));
+        }
+
+        @Test
+        @DisplayName("先頭部分だけで削除文字列を作っても、長い名前の後半の誤字を訂正できる")
+        void shouldCorrectBeyondPrefix() {
+            assertThat(terms(INDEX.suggest("beef livr", 5))).containsExactly("Beef Liver");
+            assertThat(terms(INDEX.suggest("ribeye cpa", 5))).containsExactly("Ribeye Cap");
+        }
+
+        @Test
+        @DisplayName("距離が2を超える語、完全一致、空の検索語は候補にしない")
+        void shouldRejectDistantOrExact() {
+            assertThat(INDEX.suggest("chicken", 5)).isEmpty();
+            assertThat(INDEX.suggest("ribeye", 5)).extracting(Suggestion::term).doesNotContain("Ribeye");
+            assertThat(INDEX.suggest(" ", 5)).isEmpty();
+            assertThat(FoodSpellingIndex.empty().suggest("ribeye", 5)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("編集距離")
+    class Distance {
+
+        @Test
+        @DisplayName("隣接文字の入れ替えは1、上限を超える場合は上限+1")
+        void shouldComputeRestrictedDistance() {
+            assertThat(FoodSpellingIndex.distance("ribeye", "ribeey", 2)).isEqualTo(1);
+            assertThat(FoodSpellingIndex.distance("ribeye", "ribey", 2)).isEqualTo(1);
+            assertThat(FoodSpellingIndex.distance("ribeye", "rbeey", 2)).isEqualTo(2);
+            assertThat(FoodSpellingIndex.distance("ribeye", "chicken", 2)).isEqualTo(3);
+        }
+    }
+}
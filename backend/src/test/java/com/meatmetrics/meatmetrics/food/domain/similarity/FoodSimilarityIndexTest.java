@@ -0,0 +1,110 @@
+package com.meatmetrics.meatmetrics.food.domain.similarity;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodCatalog;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodSnapshot;
+import com.meatmetrics.meatmetrics.food.domain.similarity.FoodSimilarityIndex.Neighbour;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * FoodSimilarityIndexのユニットテスト
+ *
+ * <p>k-d木の枝刈りが全件比較と同じ結果になること、条件による絞り込みをテストします。</p>
+ */
+@DisplayName("FoodSimilarityIndex")
+class FoodSimilarityIndexTest {
+
+    private static FoodSnapshot food(long id, long categoryId, int calories, long protein, long fat, long carbs, String... tags) {
+        return new FoodSnapshot(id, "food" + id, categoryId, calories, protein, fat, carbs, 0,
+                List.of(tags), true, Instant.parse("2025-01-01T00:00:00Z"));
+    }
+
+    private static List<Long> ids(List<Neighbour> neighbours) {
+        return neighbours.stream().map(n -> n.food().id()).toList();
+    }
+
+    private static final FoodSnapshot RIBEYE = food(1, 10, 409, 14_00, 37_00, 20, "牛肉");
+    private static final FoodSnapshot SIRLOIN = food(2, 10, 460, 16_50, 42_50, 40, "牛肉");
+    private static final FoodSnapshot FILLET = food(3, 10, 185, 20_50, 11_20, 30, "牛肉", "赤身");
+    private static final FoodSnapshot PORK_BELLY = food(4, 20, 395, 14_40, 35_40, 10, "豚肉");
+    private static final FoodSnapshot CHICKEN = food(5, 30, 105, 23_30, 1_90, 0, "鶏肉", "赤身");
+    private static final FoodSnapshot BUTTER = food(6, 40, 745, 60, 81_00, 20);
+
+    private final FoodSimilarityIndex index = FoodSimilarityIndex.build(
+            FoodCatalog.of(List.of(RIBEYE, SIRLOIN, FILLET, PORK_BELLY, CHICKEN, BUTTER)));
+
+    @Nested
+    @DisplayName("nearestメソッド")
+    class Nearest {
+
+        @Test
+        @DisplayName("栄養成分が近い順に返し、基準の食材自身は含まない")
+        void shouldReturnClosestFoods() {
+            // Act
+            List<Neighbour> neighbours = index.nearest(RIBEYE, 3, null);
+
+            // Assert
+            assertThat(ids(neighbours)).containsExactly(4L, 2L, 3L);
+            assertThat(neighbours.get(0).distance()).isLessThan(neighbours.get(1).distance());
+        }
+
+        @Test
+        @DisplayName("条件に合う食材だけを候補にする")
+        void shouldApplyFilter() {
+            // Act
+            List<Neighbour> neighbours = index.nearest(RIBEYE, 3, food -> food.hasTag("赤身"));
+
+            // Assert
+            assertThat(ids(neighbours)).containsExactly(3L, 5L);
+        }
+
+        @Test
+        @DisplayName("空の索引や件数0では空を返す")
+        void shouldReturnEmpty() {
+            assertThat(FoodSimilarityIndex.empty().nearest(RIBEYE, 5, null)).isEmpty();
+            assertThat(index.nearest(RIBEYE, 0, null)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("枝刈り")
+    class Pruning {
+
+        @Test
+        @DisplayName("上位k件は全件を距離順に並べた先頭k件と一致する")
+        void shouldMatchExhaustiveOrder() {
+            // Arrange
+            Random random = new Random(42);
+            List<FoodSnapshot> foods = new ArrayList<>();
+            for (long id = 1; id <= 500; id++) {
+                foods.add(food(id, id % 7, random.nextInt(900), random.nextInt(40_00),
+                        random.nextInt(90_00), random.nextInt(30_00), id % 3 == 0 ? "赤身" : "脂身"));
+            }
+            FoodSimilarityIndex large = FoodSimilarityIndex.build(FoodCatalog.of(foods));
+
+            for (int t = 0; t < 20; t++) {
+                FoodSnapshot target = foods.get(random.nextInt(foods.size()));
+
+                // Act（k = 全件なら枝刈りは起こらない）
+                List<Long> exhaustive = ids(large.nearest(target, foods.size(), null));
+                List<Long> top = ids(large.nearest(target, 10, null));
+                List<Long> exhaustiveLean = ids(large.nearest(target, foods.size(), food -> food.hasTag("赤身")));
+                List<Long> topLean = ids(large.nearest(target, 10, food -> food.hasTag("赤身")));
+
+                // Assert
+                assertThat(exhaustive).hasSize(foods.size() - 1);
+                assertThat(top).isEqualTo(exhaustive.subList(0, 10));
+                assertThat(topLean).isEqualTo(exhaustiveLean.subList(0, 10));
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.meatmetrics.meatmetrics.food.domain.usage;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.meatmetrics.meatmetrics.food.domain.usage.FoodUsageSketch.Usage;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * FoodUsageSketchのユニットテスト
+ *
+ * <p>減衰付きの頻度による並び順、容量を超えた場合の入れ替え、基準時刻の更新をテストします。</p>
+ */
+@DisplayName("FoodUsageSketch")
+class FoodUsageSketchTest {
+
+    private static final long DAY = 86_400_000L;
+    private static final long HALF_LIFE = 14 * DAY;
+
+    @Nested
+    @DisplayName("recordメソッド")
+    class Record {
+
+        @Test
+        @DisplayName("回数の多い食材が先に並び、同じ回数なら最近の食材が先に並ぶ")
+        void shouldRankByDecayedFrequency() {
+            // Arrange
+            FoodUsageSketch sketch = FoodUsageSketch.empty(8, HALF_LIFE, 0);
+
+            // Act
+            sketch = sketch.record(1, 0).record(2, 10 * DAY).record(1, DAY).record(3, 20 * DAY);
+
+            // Assert（1: 2^0 + 2^(1/14) ≒ 2.05、3: 2^(20/14) ≒ 2.69、2: 2^(10/14) ≒ 1.64）
+            assertThat(sketch.foodIds()).containsExactly(3L, 1L, 2L);
+            assertThat(sketch.score(1, 0)).isCloseTo(2.05, within(0.01));
+            assertThat(sketch.score(1, HALF_LIFE)).isCloseTo(1.025, within(0.01));
+        }
+
+        @Test
+        @DisplayName("満杯の場合は重みが最下位を上回る食材だけが入れ替わる")
+        void shouldReplaceLowestWhenFull() {
+            // Arrange
+            FoodUsageSketch sketch = FoodUsageSketch.empty(2, HALF_LIFE, 0)
+                    .record(1, 0).record(1, 0).record(2, 0);
+
+            // Act
+            FoodUsageSketch same = sketch.record(3, 0);
+            FoodUsageSketch replaced = sketch.record(3, DAY);
+
+            // Assert
+            assertThat(same).isSameAs(sketch);
+            assertThat(replaced.foodIds()).containsExactly(1L, 3L);
+            assertThat(sketch.foodIds()).containsExactly(1L, 2L);
+        }
+
+        @Test
+        @DisplayName("基準時刻から大きく離れた記録でもスコアが有限のまま並び順を保つ")
+        void shouldRescaleLandmark() {
+            // Arrange
+            long far = (FoodUsageSketch.MAX_EXPONENT + 10) * HALF_LIFE;
+            FoodUsageSketch sketch = FoodUsageSketch.empty(4, HALF_LIFE, 0).record(1, 0).record(1, 0);
+
+            // Act
+            sketch = sketch.record(2, far).record(1, far + DAY);
+
+            // Assert
+            assertThat(sketch.foodIds()).containsExactly(1L, 2L);
+            assertThat(sketch.score(2, far)).isCloseTo(1.0, within(1e-9));
+            assertThat(Double.isFinite(sketch.score(1, far + DAY))).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("ofメソッド")
+    class Of {
+
+        @Test
+        @DisplayName("スコアの高い順に容量まで保持し、スコアが0以下の食材は除く")
+        void shouldKeepTopUsages() {
+            // Act
+            FoodUsageSketch sketch = FoodUsageSketch.of(List.of(
+                    new Usage(1, 0.5), new Usage(2, 3.0), new Usage(3, 1.0), new Usage(4, 0)), 2, HALF_LIFE, 0);
+
+            // Assert
+            assertThat(sketch.foodIds()).containsExactly(2L, 3L);
+            assertThat(sketch.size()).isEqualTo(2);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.meatmetrics.meatmetrics.food.infrastructure.catalog;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.meatmetrics.meatmetrics.PostgreSQLTestBase;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * カテゴリ階層トリガー（閉包テーブル保守と階層検証）の統合テスト
+ *
+ * <p>1文で複数のカテゴリを移動した場合も、張り直し後の閉包テーブルで循環参照と最大深度が検証されることをテストします。</p>
+ */
+@SpringBootTest
+@ActiveProfiles("integration")
+@Transactional
+@DisplayName("カテゴリ階層トリガー")
+class CategoryHierarchyTriggerTest extends PostgreSQLTestBase {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long insert(String name, Long parentId) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO categories (name, display_name, parent_id) VALUES (?, ?, ?) RETURNING id",
+                Long.class, name, name, parentId);
+    }
+
+    private long chain(String prefix, Long parentId, int length) {
+        long id = insert(prefix + 1, parentId);
+        for (int i = 2; i <= length; i++) {
+            id = insert(prefix + i, id);
+        }
+        return id;
+    }
+
+    private int level(long id) {
+        return jdbcTemplate.queryForObject("SELECT level FROM categories WHERE id = ?", Integer.class, id);
+    }
+
+    private List<Long> ancestors(long id) {
+        return jdbcTemplate.queryForList(
+                "SELECT ancestor_id FROM category_closure WHERE descendant_id = ? ORDER BY depth", Long.class, id);
+    }
+
+    @Test
+    @DisplayName("1文で2つのカテゴリの親を入れ替えると循環参照として拒否される")
+    void shouldRejectParentSwapInOneStatement() {
+        // Arrange
+        long root = insert("swap_root", null);
+        long a = insert("swap_a", root);
+        long b = insert("swap_b", root);
+
+        // Act & Assert
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "UPDATE categories SET parent_id = CASE id WHEN ? THEN ? ELSE ? END WHERE id IN (?, ?)",
+                a, b, a, a, b))
+                .isInstanceOf(DataAccessException.class)
+                .hasMessageContaining("Circular reference detected");
+    }
+
+    @Test
+    @DisplayName("1文で3つのカテゴリを環状に付け替えると循環参照として拒否される")
+    void shouldRejectRotationInOneStatement() {
+        // Arrange
+        long a = insert("rotate_a", null);
+        long b = insert("rotate_b", null);
+        long c = insert("rotate_c", null);
+
+        // Act & Assert
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "UPDATE categories SET parent_id = CASE id WHEN ? THEN ? WHEN ? THEN ? ELSE ? END WHERE id IN (?, ?, ?)",
+                a, b, b, c, a, a, b, c))
+                .isInstanceOf(DataAccessException.class)
+                .hasMessageContaining("Circular reference detected");
+    }
+
+    @Test
+    @DisplayName("1文の移動の組み合わせで最大深度を超える場合は拒否される")
+    void shouldRejectCombinedMovesExceedingMaxDepth() {
+        // Arrange: 各移動は単独では深さ10以内だが、両方を反映すると11階層になる
+        long z = insert("deep_z", null);
+        long xLeaf = chain("deep_x", null, 5);
+        long x1 = jdbcTemplate.queryForObject("SELECT id FROM categories WHERE name = 'deep_x1'", Long.class);
+        long yLeaf = chain("deep_y", null, 5);
+        long y1 = jdbcTemplate.queryForObject("SELECT id FROM categories WHERE name = 'deep_y1'", Long.class);
+        assertThat(level(xLeaf)).isEqualTo(5);
+
+        // Act & Assert
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "UPDATE categories SET parent_id = CASE id WHEN ? THEN ? ELSE ? END WHERE id IN (?, ?)",
+                x1, yLeaf, z, x1, y1))
+                .isInstanceOf(DataAccessException.class)
+                .hasMessageContaining("Category hierarchy too deep");
+    }
+
+    @Test
+    @DisplayName("1文で親子を続けて移動すると、全ての移動を反映した閉包テーブルとlevelになる")
+    void shouldRebuildClosureAndLevelsForChainedMoves() {
+        // Arrange
+        long root1 = insert("move_root1", null);
+        long root2 = insert("move_root2", null);
+        long parent = insert("move_parent", root1);
+        long child = insert("move_child", root1);
+        long grandchild = insert("move_grandchild", child);
+
+        // Act: childをparentの下へ、parentをroot2の下へ
+        jdbcTemplate.update(
+                "UPDATE categories SET parent_id = CASE id WHEN ? THEN ? ELSE ? END WHERE id IN (?, ?)",
+                child, parent, root2, child, parent);
+
+        // Assert
+        assertThat(ancestors(grandchild)).containsExactly(grandchild, child, parent, root2);
+        assertThat(level(parent)).isEqualTo(2);
+        assertThat(level(child)).isEqualTo(3);
+        assertThat(level(grandchild)).isEqualTo(4);
+    }
+}
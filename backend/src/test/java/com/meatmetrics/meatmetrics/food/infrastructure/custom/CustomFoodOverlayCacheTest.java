@@ -0,0 +1,91 @@
+package com.meatmetrics.meatmetrics.food.infrastructure.custom;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.meatmetrics.meatmetrics.config.CustomFoodProperties;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodSnapshot;
+import com.meatmetrics.meatmetrics.food.domain.custom.CustomFoodOverlay;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CustomFoodOverlayCacheのユニットテスト
+ *
+ * <p>ユーザー単位の遅延読み込み、登録の反映、無アクセス時の破棄をテストします。</p>
+ */
+@DisplayName("CustomFoodOverlayCache")
+class CustomFoodOverlayCacheTest {
+
+    private static FoodSnapshot food(long id, String name) {
+        return new FoodSnapshot(id, name, 0, 200, 20_00, 10_00, 0, 0, List.of(), true, Instant.EPOCH);
+    }
+
+    private JdbcCustomFoodRepository repository;
+    private CustomFoodProperties properties;
+    private CustomFoodOverlayCache cache;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(JdbcCustomFoodRepository.class);
+        properties = new CustomFoodProperties();
+        cache = new CustomFoodOverlayCache(repository, properties);
+    }
+
+    @Test
+    @DisplayName("ユーザーごとに初回のみ読み込む")
+    void shouldLoadOncePerUser() {
+        // Arrange
+        when(repository.findActiveByUserId(1L)).thenReturn(List.of(food(100, "自家製ジャーキー")));
+
+        // Act
+        CustomFoodOverlay first = cache.get(1L);
+        CustomFoodOverlay second = cache.get(1L);
+
+        // Assert
+        assertThat(first).isSameAs(second);
+        assertThat(first.size()).isEqualTo(1);
+        verify(repository, times(1)).findActiveByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("登録はキャッシュ済みのオーバーレイにだけ反映され、再読み込みしない")
+    void shouldApplyAddedFoodWithoutReload() {
+        // Arrange
+        when(repository.findActiveByUserId(anyLong())).thenReturn(List.of());
+        CustomFoodOverlay overlay = cache.get(1L);
+
+        // Act
+        cache.added(1L, food(101, "ボーンブロス"));
+        cache.added(2L, food(102, "未読み込みユーザーの食材"));
+
+        // Assert
+        assertThat(overlay.search("ボーンブロス")).hasSize(1);
+        assertThat(cache.size()).isEqualTo(1);
+        verify(repository, times(1)).findActiveByUserId(anyLong());
+    }
+
+    @Test
+    @DisplayName("無アクセス時間を超えたユーザーを破棄する")
+    void shouldEvictIdleUsers() {
+        // Arrange
+        when(repository.findActiveByUserId(anyLong())).thenReturn(List.of());
+        cache.get(1L);
+
+        // Act
+        properties.setIdleTtlMs(60_000);
+        cache.evictIdle();
+        int afterFreshCheck = cache.size();
+        properties.setIdleTtlMs(-1);
+        cache.evictIdle();
+
+        // Assert
+        assertThat(afterFreshCheck).isEqualTo(1);
+        assertThat(cache.size()).isZero();
+    }
+}
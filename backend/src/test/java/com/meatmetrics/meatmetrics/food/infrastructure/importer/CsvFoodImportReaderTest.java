@@ -0,0 +1,121 @@
+package com.meatmetrics.meatmetrics.food.infrastructure.importer;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.meatmetrics.meatmetrics.food.domain.exception.InvalidFoodImportException;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * CsvFoodImportReaderのユニットテスト
+ *
+ * <p>ヘッダーによる列の対応付け、クォート処理、行番号の追跡をテストします。</p>
+ */
+@DisplayName("CsvFoodImportReader")
+class CsvFoodImportReaderTest {
+
+    private static final String HEADER =
+        "source_code,name,category,calories_per_100g,protein_g_per_100g,fat_g_per_100g,carbohydrates_g_per_100g";
+
+    private static CsvFoodImportReader reader(String csv) throws IOException {
+        return new CsvFoodImportReader(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Nested
+    @DisplayName("ヘッダー")
+    class Header {
+
+        @Test
+        @DisplayName("必須列が不足している場合は例外が発生する")
+        void shouldThrowWhenRequiredColumnMissing() {
+            // Arrange
+            String csv = "source_code,name,category\nA,牛肉,beef\n";
+
+            // Act & Assert
+            assertThatThrownBy(() -> reader(csv))
+                .isInstanceOf(InvalidFoodImportException.class)
+                .hasMessageContaining("calories_per_100g");
+        }
+
+        @Test
+        @DisplayName("空の入力では例外が発生する")
+        void shouldThrowWhenEmpty() {
+            assertThatThrownBy(() -> reader(""))
+                .isInstanceOf(InvalidFoodImportException.class);
+        }
+
+        @Test
+        @DisplayName("BOM付き・順不同の列を名前で対応付ける")
+        void shouldMapColumnsByNameIgnoringBom() throws IOException {
+            // Arrange
+            String csv = "\uFEFFname,calories_per_100g,source_code,category,protein_g_per_100g,"
+                + "fat_g_per_100g,carbohydrates_g_per_100g,extra\n"
+                + "鶏もも肉,200,C-1,chicken,16.6,14.2,0,ignored\n";
+            FoodImportRow row = new FoodImportRow();
+
+            // Act
+            try (CsvFoodImportReader reader = reader(csv)) {
+                assertThat(reader.next(row)).isTrue();
+            }
+
+            // Assert
+            assertThat(row.sourceCode).isEqualTo("C-1");
+            assertThat(row.name).isEqualTo("鶏もも肉");
+            assertThat(row.calories).isEqualTo("200");
+        }
+    }
+
+    @Nested
+    @DisplayName("nextメソッド")
+    class Next {
+
+        @Test
+        @DisplayName("クォート内のカンマ・改行・エスケープを解釈し、行番号を追跡する")
+        void shouldParseQuotedFields() throws IOException {
+            // Arrange
+            String csv = HEADER + ",tags,description\r\n"
+                + "A,\"牛肉, 肩ロース\",beef,250,17,19,0,grass-fed| organic,\"1行目\n2行目 \"\"特選\"\"\"\r\n"
+                + "\r\n"
+                + "B,豚バラ,pork,386,14.4,35.4,0.1,,\r\n";
+            FoodImportRow row = new FoodImportRow();
+
+            try (CsvFoodImportReader reader = reader(csv)) {
+                // Act & Assert (1行目)
+                assertThat(reader.next(row)).isTrue();
+                assertThat(row.getLineNo()).isEqualTo(2);
+                assertThat(row.name).isEqualTo("牛肉, 肩ロース");
+                assertThat(row.tags).containsExactly("grass-fed", "organic");
+                assertThat(row.description).isEqualTo("1行目\n2行目 \"特選\"");
+
+                // Act & Assert (空行を挟んだ2行目)
+                assertThat(reader.next(row)).isTrue();
+                assertThat(row.getLineNo()).isEqualTo(5);
+                assertThat(row.sourceCode).isEqualTo("B");
+                assertThat(row.tags).isEmpty();
+                assertThat(row.description).isNull();
+                assertThat(row.fiber).isNull();
+
+                assertThat(reader.next(row)).isFalse();
+            }
+        }
+
+        @Test
+        @DisplayName("閉じられていないクォートで例外が発生する")
+        void shouldThrowOnUnterminatedQuote() throws IOException {
+            // Arrange
+            String csv = HEADER + "\nA,\"牛肉,beef,250,17,19,0\n";
+
+            try (CsvFoodImportReader reader = reader(csv)) {
+                // Act & Assert
+                assertThatThrownBy(() -> reader.next(new FoodImportRow()))
+                    .isInstanceOf(InvalidFoodImportException.class);
+            }
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.meatmetrics.meatmetrics.food.infrastructure.importer;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * FoodImportRowValidatorのユニットテスト
+ *
+ * <p>foodsテーブルのCHECK制約と同じ基準で行が検証されることをテストします。</p>
+ */
+@DisplayName("FoodImportRowValidator")
+class FoodImportRowValidatorTest {
+
+    private FoodImportRowValidator validator;
+    private FoodImportRow row;
+
+    @BeforeEach
+    void setUp() {
+        validator = new FoodImportRowValidator(Map.of("beef", 1L, "1", 1L, "fish", 2L, "2", 2L));
+        row = new FoodImportRow();
+        row.reset(2);
+        row.sourceCode = " usda-001 ";
+        row.name = "牛ひき肉";
+        row.category = "Beef";
+        row.calories = "254.6";
+        row.protein = "17.17";
+        row.fat = "20";
+        row.carbohydrates = "0";
+    }
+
+    @Nested
+    @DisplayName("validateメソッド")
+    class Validate {
+
+        @Test
+        @DisplayName("有効な行は合格し数値項目が設定される")
+        void shouldAcceptValidRow() {
+            // Act
+            String error = validator.validate(row);
+
+            // Assert
+            assertThat(error).isNull();
+            assertThat(row.getSourceCode()).isEqualTo("usda-001");
+            assertThat(row.getCategoryId()).isEqualTo(1L);
+            assertThat(row.getCaloriesValue()).isEqualTo(255);
+            assertThat(row.getProteinCentiG()).isEqualTo(1717);
+            assertThat(row.getFatCentiG()).isEqualTo(2000);
+            assertThat(row.getFiberCentiG()).isZero();
+        }
+
+        @Test
+        @DisplayName("カテゴリはIDでも指定できる")
+        void shouldResolveCategoryById() {
+            // Arrange
+            row.category = "2";
+
+            // Act & Assert
+            assertThat(validator.validate(row)).isNull();
+            assertThat(row.getCategoryId()).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("未知のカテゴリは拒否される")
+        void shouldRejectUnknownCategory() {
+            // Arrange
+            row.category = "vegetable";
+
+            // Act & Assert
+            assertThat(validator.validate(row)).contains("unknown category");
+        }
+
+        @Test
+        @DisplayName("カロリーが上限を超える行は拒否される")
+        void shouldRejectCaloriesOverLimit() {
+            // Arrange
+            row.calories = "2000.5";
+
+            // Act & Assert
+            assertThat(validator.validate(row)).startsWith("calories_per_100g");
+        }
+
+        @Test
+        @DisplayName("負のカロリーは丸めで0にならず拒否される")
+        void shouldRejectNegativeCalories() {
+            // Arrange
+            row.calories = "-0.4";
+
+            // Act & Assert
+            assertThat(validator.validate(row)).startsWith("calories_per_100g");
+        }
+
+        @Test
+        @DisplayName("食物繊維が炭水化物を超える行は拒否される")
+        void shouldRejectFiberOverCarbohydrates() {
+            // Arrange
+            row.carbohydrates = "1.0";
+            row.fiber = "1.01";
+
+            // Act & Assert
+            assertThat(validator.validate(row)).startsWith("fiber_g_per_100g");
+        }
+
+        @Test
+        @DisplayName("source_codeが空の行は拒否される")
+        void shouldRejectBlankSourceCode() {
+            // Arrange
+            row.sourceCode = "  ";
+
+            // Act & Assert
+            assertThat(validator.validate(row)).isEqualTo("source_code is required");
+        }
+
+        @Test
+        @DisplayName("食材名の長さはコードポイント数で判定する（サロゲートペアは1文字）")
+        void shouldCountNameLengthInCodePoints() {
+            // Arrange
+            row.name = "𩸽".repeat(255);
+
+            // Act & Assert
+            assertThat(validator.validate(row)).isNull();
+
+            row.name = "𩸽".repeat(256);
+            assertThat(validator.validate(row)).startsWith("name must be");
+        }
+
+        @Test
+        @DisplayName("食材名の前後の全角空白は除かれ、全角空白のみの名前は拒否される")
+        void shouldStripFullWidthSpacesFromName() {
+            // Arrange
+            row.name = "　牛ひき肉　";
+
+            // Act & Assert
+            assertThat(validator.validate(row)).isNull();
+            assertThat(row.getName()).isEqualTo("牛ひき肉");
+
+            row.name = "　　";
+            assertThat(validator.validate(row)).startsWith("name must be");
+        }
+    }
+
+    @Nested
+    @DisplayName("parseCentiメソッド")
+    class ParseCenti {
+
+        @Test
+        @DisplayName("小数第3位で四捨五入される")
+        void shouldRoundHalfUpAtThirdDecimal() {
+            assertThat(FoodImportRowValidator.parseCenti("1.234")).isEqualTo(123);
+            assertThat(FoodImportRowValidator.parseCenti("1.235")).isEqualTo(124);
+            assertThat(FoodImportRowValidator.parseCenti("0.999")).isEqualTo(100);
+        }
+
+        @Test
+        @DisplayName("整数部または小数部のみの表記を解釈できる")
+        void shouldParsePartialNotation() {
+            assertThat(FoodImportRowValidator.parseCenti("12")).isEqualTo(1200);
+            assertThat(FoodImportRowValidator.parseCenti(".5")).isEqualTo(50);
+            assertThat(FoodImportRowValidator.parseCenti(" 3. ")).isEqualTo(300);
+            assertThat(FoodImportRowValidator.parseCenti("-1.5")).isEqualTo(-150);
+        }
+
+        @Test
+        @DisplayName("数値でない入力はINVALIDを返す")
+        void shouldReturnInvalidForNonNumeric() {
+            assertThat(FoodImportRowValidator.parseCenti(null)).isEqualTo(FoodImportRowValidator.INVALID);
+            assertThat(FoodImportRowValidator.parseCenti("")).isEqualTo(FoodImportRowValidator.INVALID);
+            assertThat(FoodImportRowValidator.parseCenti("abc")).isEqualTo(FoodImportRowValidator.INVALID);
+            assertThat(FoodImportRowValidator.parseCenti("1,5")).isEqualTo(FoodImportRowValidator.INVALID);
+            assertThat(FoodImportRowValidator.parseCenti("-")).isEqualTo(FoodImportRowValidator.INVALID);
+            assertThat(FoodImportRowValidator.parseCenti("١٢")).isEqualTo(FoodImportRowValidator.INVALID);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.meatmetrics.meatmetrics.food.infrastructure.reference;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ReferenceDb・ReferenceDbWriterのユニットテスト
+ *
+ * <p>書き出したファイルをメモリマップで開き、キー索引・レコード・文字列プールが正しく読めることをテストします。</p>
+ */
+@DisplayName("ReferenceDb")
+class ReferenceDbTest {
+
+    private static final List<ReferenceNutrient> NUTRIENTS = List.of(
+            new ReferenceNutrient("energy_kcal", "kcal", 0),
+            new ReferenceNutrient("protein_g", "g", 1),
+            new ReferenceNutrient("iron_mg", "mg", 1));
+
+    private static final List<ReferenceFoodEntry> FOODS = List.of(
+            new ReferenceFoodEntry("11030", "うし［和牛肉］リブロース 脂身つき 生", new int[] {514, 97, 12}),
+            new ReferenceFoodEntry("11092", "うし［肝臓］生", new int[] {119, 196, 40}),
+            new ReferenceFoodEntry("10003", "あじ 生", new int[] {112, 197, ReferenceDb.MISSING}),
+            new ReferenceFoodEntry("12004", "鶏卵 全卵 生", new int[] {142, 122, 15}));
+
+    @TempDir
+    Path dir;
+
+    private ReferenceDb writeAndOpen() throws IOException {
+        Path file = dir.resolve("reference.mmrf");
+        ReferenceDbWriter.write(file, 20231, NUTRIENTS, FOODS);
+        return ReferenceDb.open(file);
+    }
+
+    @Nested
+    @DisplayName("参照")
+    class Lookup {
+
+        @Test
+        @DisplayName("食品コードで引いたレコードの名前と栄養素を読める")
+        void shouldFindByCode() throws IOException {
+            // Arrange
+            ReferenceDb db = writeAndOpen();
+
+            // Act
+            int liver = db.find("11092");
+
+            // Assert
+            assertThat(db.datasetVersion()).isEqualTo(20231);
+            assertThat(db.size()).isEqualTo(4);
+            assertThat(db.name(liver)).isEqualTo("うし［肝臓］生");
+            assertThat(db.code(liver)).isEqualTo("11092");
+            assertThat(db.value(liver, db.nutrientIndex("protein_g"))).isEqualTo(196);
+            assertThat(db.nutrients()).isEqualTo(NUTRIENTS);
+        }
+
+        @Test
+        @DisplayName("存在しないコード・形式外のコードは-1、欠測値はMISSING")
+        void shouldHandleMissing() throws IOException {
+            ReferenceDb db = writeAndOpen();
+
+            assertThat(db.find("99999")).isEqualTo(-1);
+            assertThat(db.find("1103")).isEqualTo(-1);
+            assertThat(db.find("あじ")).isEqualTo(-1);
+            assertThat(db.value(db.find("10003"), db.nutrientIndex("iron_mg"))).isEqualTo(ReferenceDb.MISSING);
+            assertThat(db.nutrientIndex("vitamin_c_mg")).isEqualTo(-1);
+        }
+
+        @Test
+        @DisplayName("多数のレコードでも全てのコードを二分探索で引ける")
+        void shouldFindAllInLargeFile() throws IOException {
+            // Arrange
+            List<ReferenceFoodEntry> foods = new ArrayList<>();
+            for (int i = 0; i < 5_000; i++) {
+                foods.add(new ReferenceFoodEntry(String.format("F%05d", (i * 7919) % 5_000), "食品" + i, new int[] {i, i % 100, 0}));
+            }
+            Path file = dir.resolve("large.mmrf");
+            ReferenceDbWriter.write(file, 1, NUTRIENTS, foods);
+
+            // Act
+            ReferenceDb db = ReferenceDb.open(file);
+
+            // Assert
+            for (int i = 0; i < foods.size(); i++) {
+                assertThat(db.find(foods.get(i).code())).isEqualTo(i);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("走査")
+    class Scan {
+
+        @Test
+        @DisplayName("栄養素の値が大きい順に呼び出し側の配列へ書き込み、欠測は除外する")
+        void shouldReturnTopRecords() throws IOException {
+            // Arrange
+            ReferenceDb db = writeAndOpen();
+            int[] out = new int[3];
+
+            // Act
+            int protein = db.top(db.nutrientIndex("protein_g"), out);
+            int[] iron = new int[10];
+            int ironCount = db.top(db.nutrientIndex("iron_mg"), iron);
+
+            // Assert
+            assertThat(protein).isEqualTo(3);
+            assertThat(Arrays.stream(out).mapToObj(db::code)).containsExactly("10003", "11092", "12004");
+            assertThat(ironCount).isEqualTo(3);
+            assertThat(db.code(iron[0])).isEqualTo("11092");
+        }
+    }
+
+    @Nested
+    @DisplayName("形式の検証")
+    class Validation {
+
+        @Test
+        @DisplayName("マジックナンバーが異なる、または切り詰められたファイルは開けない")
+        void shouldRejectInvalidFile() throws IOException {
+            // Arrange
+            Path notDb = dir.resolve("not.mmrf");
+            Files.write(notDb, new byte[128]);
+            ReferenceDb db = writeAndOpen();
+            byte[] bytes = Files.readAllBytes(db.path());
+            Path truncated = dir.resolve("truncated.mmrf");
+            Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 1));
+
+            // Act & Assert
+            assertThatThrownBy(() -> ReferenceDb.open(notDb)).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> ReferenceDb.open(truncated))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("length");
+        }
+
+        @Test
+        @DisplayName("重複したコード、値の数が栄養素数と異なる食品は書き込めない")
+        void shouldRejectInvalidEntries() {
+            Path file = dir.resolve("invalid.mmrf");
+
+            assertThatThrownBy(() -> ReferenceDbWriter.write(file, 1, NUTRIENTS, List.of(FOODS.get(0), FOODS.get(0))))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> ReferenceDbWriter.write(file, 1, NUTRIENTS,
+                    List.of(new ReferenceFoodEntry("1", "x", new int[] {1}))))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(file).doesNotExist();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.meatmetrics.meatmetrics.food.infrastructure.usage;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.meatmetrics.meatmetrics.config.CustomFoodProperties;
+import com.meatmetrics.meatmetrics.config.FoodUsageProperties;
+import com.meatmetrics.meatmetrics.food.domain.usage.FoodUsageSketch;
+import com.meatmetrics.meatmetrics.food.domain.usage.FoodUsageSketch.Usage;
+import com.meatmetrics.meatmetrics.meal.domain.event.MealLoggedEvent;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * FoodUsageSketchCacheのユニットテスト
+ *
+ * <p>ユーザー単位の遅延読み込み、記録イベントの反映、集計中のイベントを二重に数えないことをテストします。</p>
+ */
+@DisplayName("FoodUsageSketchCache")
+class FoodUsageSketchCacheTest {
+
+    private JdbcFoodUsageRepository repository;
+    private FoodUsageSketchCache cache;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(JdbcFoodUsageRepository.class);
+        cache = new FoodUsageSketchCache(repository, new FoodUsageProperties(), new CustomFoodProperties());
+    }
+
+    private static MealLoggedEvent logged(long userId, long... foodIds) {
+        return new MealLoggedEvent(userId, Arrays.stream(foodIds).boxed().toList(), Instant.now());
+    }
+
+    @Test
+    @DisplayName("ユーザーごとに初回のみ集計し、以降の記録はメモリ上で反映する")
+    void shouldLoadOnceAndApplyEvents() {
+        // Arrange
+        when(repository.loadUsages(eq(1L), any(), any(), anyLong(), anyInt())).thenReturn(List.of(new Usage(10L, 1.0)));
+        cache.get(1L);
+
+        // Act
+        cache.onMealLogged(logged(1L, 20L));
+        cache.onMealLogged(logged(2L, 30L));
+        FoodUsageSketch sketch = cache.get(1L);
+
+        // Assert
+        assertThat(sketch.foodIds()).containsExactlyInAnyOrder(10L, 20L);
+        verify(repository, times(1)).loadUsages(eq(1L), any(), any(), anyLong(), anyInt());
+        verify(repository, never()).loadUsages(eq(2L), any(), any(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("集計中に届いた記録イベントは待たされず、集計結果に重ねて数えない")
+    void shouldNotDoubleCountEventDuringLoad() throws Exception {
+        // Arrange: 集計が既にコミット済みの記録（食材10）を読んだ後で、その記録のイベントが届く
+        when(repository.loadUsages(eq(1L), any(), any(), anyLong(), anyInt())).thenAnswer(invocation -> {
+            CompletableFuture.runAsync(() -> cache.onMealLogged(logged(1L, 10L))).get(5, TimeUnit.SECONDS);
+            return List.of(new Usage(10L, 1.0));
+        });
+
+        // Act
+        FoodUsageSketch sketch = cache.get(1L);
+
+        // Assert
+        long now = System.currentTimeMillis();
+        assertThat(sketch.foodIds()).containsExactly(10L);
+        assertThat(sketch.score(10L, now)).isCloseTo(1.0, within(0.01));
+        assertThat(cache.get(1L)).isSameAs(sketch);
+    }
+}
@@ -0,0 +1,167 @@
+package com.meatmetrics.meatmetrics.meal.application.handler;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.meatmetrics.meatmetrics.food.domain.custom.CustomFoodOverlay;
+import com.meatmetrics.meatmetrics.meal.application.command.AddMealItemsCommand;
+import com.meatmetrics.meatmetrics.meal.application.command.LogMealsCommand;
+import com.meatmetrics.meatmetrics.meal.domain.event.MealLoggedEvent;
+import com.meatmetrics.meatmetrics.meal.domain.exception.InvalidMealException;
+import com.meatmetrics.meatmetrics.food.infrastructure.catalog.FoodCatalogService;
+import com.meatmetrics.meatmetrics.food.infrastructure.custom.CustomFoodOverlayCache;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.JdbcMealSlotRepository;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.JdbcMealSlotRepository.ItemRow;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.MealEntity;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.MealJpaRepository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * AddMealItemsHandlerのユニットテスト
+ *
+ * <p>食事枠の作成・明細の追加の呼び出し順、明細の栄養成分の計算、調理方法の異なる食材の拒否をテストします。</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AddMealItemsHandler")
+class AddMealItemsHandlerTest {
+
+    private static final long MEAL_ID = 500L;
+
+    private final Clock clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+
+    @Mock
+    private FoodCatalogService foodCatalogService;
+
+    @Mock
+    private CustomFoodOverlayCache customFoodOverlayCache;
+
+    @Mock
+    private JdbcMealSlotRepository mealSlotRepository;
+
+    @Mock
+    private MealJpaRepository mealJpaRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private AddMealItemsHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new AddMealItemsHandler(foodCatalogService, customFoodOverlayCache, mealSlotRepository, mealJpaRepository,
+                eventPublisher, clock);
+        when(foodCatalogService.current()).thenReturn(MealTestFoods.catalog());
+    }
+
+    private static AddMealItemsCommand command(LogMealsCommand.Item... items) {
+        return new AddMealItemsCommand(7L, new LogMealsCommand.Meal(LocalDate.now(), "dinner", null, List.of(items)));
+    }
+
+    private static LogMealsCommand.Item item(long foodId, String quantityG) {
+        return new LogMealsCommand.Item(foodId, new BigDecimal(quantityG), null, null);
+    }
+
+    @Test
+    @DisplayName("食事枠を作成・取得してから、食材ID順の明細を計算済みの栄養成分で1回で書き込む")
+    @SuppressWarnings("unchecked")
+    void shouldUpsertMealThenItems() {
+        // Arrange
+        when(mealSlotRepository.upsertMeal(eq(7L), any(), eq("DINNER"), isNull())).thenReturn(MEAL_ID);
+        when(mealSlotRepository.upsertItems(eq(MEAL_ID), eq(LocalDate.now()), anyList())).thenReturn(List.of(1L, 2L));
+        when(mealJpaRepository.findById(MEAL_ID))
+                .thenReturn(Optional.of(new MealEntity(7L, LocalDate.now(), "DINNER", null)));
+
+        // Act
+        handler.addItems(command(item(2, "50.5"), item(1, "200")));
+
+        // Assert
+        ArgumentCaptor<List<ItemRow>> rows = ArgumentCaptor.forClass(List.class);
+        verify(mealSlotRepository).upsertItems(eq(MEAL_ID), eq(LocalDate.now()), rows.capture());
+        assertThat(rows.getValue()).extracting(ItemRow::foodId).containsExactly(1L, 2L);
+        assertThat(rows.getValue()).extracting(ItemRow::foodVersion).containsExactly(3, 1);
+        assertThat(rows.getValue()).extracting(ItemRow::calories).containsExactly(500, 56);
+        assertThat(rows.getValue().get(1).proteinG()).isEqualByComparingTo("11.62");
+        assertThat(rows.getValue()).extracting(ItemRow::cookingMethod).containsOnly("raw");
+
+        ArgumentCaptor<MealLoggedEvent> event = ArgumentCaptor.forClass(MealLoggedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().foodIds()).containsExactly(1L, 2L);
+        assertThat(event.getValue().loggedAt()).isEqualTo(clock.instant());
+    }
+
+    @Test
+    @DisplayName("独自食材の明細は独自食材の栄養成分とIDで書き込む")
+    @SuppressWarnings("unchecked")
+    void shouldWriteCustomFoodItem() {
+        // Arrange: 共有食材（ID 1）と絶対値が同じIDの独自食材、100gあたり 120kcal
+        when(customFoodOverlayCache.get(7L)).thenReturn(CustomFoodOverlay.of(List.of(MealTestFoods.CUSTOM_PATTY)));
+        when(mealSlotRepository.upsertMeal(eq(7L), any(), eq("DINNER"), isNull())).thenReturn(MEAL_ID);
+        when(mealSlotRepository.upsertItems(eq(MEAL_ID), eq(LocalDate.now()), anyList())).thenReturn(List.of(-1L));
+        when(mealJpaRepository.findById(MEAL_ID))
+                .thenReturn(Optional.of(new MealEntity(7L, LocalDate.now(), "DINNER", null)));
+
+        // Act
+        handler.addItems(command(item(-1, "50")));
+
+        // Assert
+        ArgumentCaptor<List<ItemRow>> rows = ArgumentCaptor.forClass(List.class);
+        verify(mealSlotRepository).upsertItems(eq(MEAL_ID), eq(LocalDate.now()), rows.capture());
+        assertThat(rows.getValue()).extracting(ItemRow::foodId).containsExactly(-1L);
+        assertThat(rows.getValue()).extracting(ItemRow::foodVersion).containsExactly(1);
+        assertThat(rows.getValue()).extracting(ItemRow::calories).containsExactly(60);
+    }
+
+    @Test
+    @DisplayName("記録済みの食材と調理方法が異なる明細があればInvalidMealException")
+    void shouldRejectConflictingCookingMethod() {
+        // Arrange
+        when(mealSlotRepository.upsertMeal(anyLong(), any(), anyString(), any())).thenReturn(MEAL_ID);
+        when(mealSlotRepository.upsertItems(eq(MEAL_ID), any(), anyList())).thenReturn(List.of(1L));
+
+        // Act & Assert
+        assertThatThrownBy(() -> handler.addItems(command(item(1, "100"), item(2, "100"))))
+                .isInstanceOf(InvalidMealException.class)
+                .hasMessageContaining("[2]");
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("記録済みの明細に加算すると摂取量が上限を超える場合は、摂取量の範囲外と同じInvalidMealException")
+    void shouldRejectQuantityOverflow() {
+        // Arrange
+        when(mealSlotRepository.upsertMeal(anyLong(), any(), anyString(), any())).thenReturn(MEAL_ID);
+        when(mealSlotRepository.upsertItems(eq(MEAL_ID), any(), anyList())).thenReturn(List.of(1L));
+        when(mealSlotRepository.findQuantityOverflows(eq(MEAL_ID), any(), anyList())).thenReturn(List.of(2L));
+
+        // Act & Assert
+        assertThatThrownBy(() -> handler.addItems(command(item(1, "100"), item(2, "9000"))))
+                .isInstanceOf(InvalidMealException.class)
+                .hasMessage("Quantity must be greater than 0 and at most 10000g");
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("入力が不正な場合は書き込まない")
+    void shouldNotWriteInvalidInput() {
+        assertThatThrownBy(() -> handler.addItems(command(item(1, "100"), item(1, "50"))))
+                .isInstanceOf(InvalidMealException.class);
+        verifyNoInteractions(mealSlotRepository);
+    }
+}
@@ -0,0 +1,154 @@
+package com.meatmetrics.meatmetrics.meal.application.handler;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.meatmetrics.meatmetrics.api.meal.dto.response.MealResponse;
+import com.meatmetrics.meatmetrics.meal.application.command.CopyMealsCommand;
+import com.meatmetrics.meatmetrics.meal.domain.event.MealLoggedEvent;
+import com.meatmetrics.meatmetrics.meal.domain.exception.InvalidMealException;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.JdbcMealCopyRepository;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.JdbcMealCopyRepository.CopyResult;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.MealEntity;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.MealJpaRepository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CopyMealsHandlerのユニットテスト
+ *
+ * <p>コピー元・コピー先の検証、食事1件／1日分のコピーの呼び分け、
+ * 何もコピーされなかった場合のコピー元の有無による応答の違いをテストします。</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CopyMealsHandler")
+class CopyMealsHandlerTest {
+
+    private static final long USER_ID = 7L;
+    private static final LocalDate YESTERDAY = LocalDate.now().minusDays(1);
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Mock
+    private JdbcMealCopyRepository mealCopyRepository;
+
+    @Mock
+    private MealJpaRepository mealJpaRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private CopyMealsHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new CopyMealsHandler(mealCopyRepository, mealJpaRepository, eventPublisher, Clock.systemDefaultZone());
+    }
+
+    @Nested
+    @DisplayName("入力の検証")
+    class Validation {
+
+        @Test
+        @DisplayName("コピー元の食事IDと食事日を両方指定した場合はInvalidMealException")
+        void shouldRejectBothSources() {
+            assertThatThrownBy(() -> handler.copyMeals(new CopyMealsCommand(USER_ID, 1L, YESTERDAY, TODAY)))
+                    .isInstanceOf(InvalidMealException.class);
+            verifyNoInteractions(mealCopyRepository);
+        }
+
+        @Test
+        @DisplayName("コピー元を指定しない場合はInvalidMealException")
+        void shouldRejectMissingSource() {
+            assertThatThrownBy(() -> handler.copyMeals(new CopyMealsCommand(USER_ID, null, null, TODAY)))
+                    .isInstanceOf(InvalidMealException.class);
+            verifyNoInteractions(mealCopyRepository);
+        }
+
+        @Test
+        @DisplayName("コピー先の日付が記録できる範囲外の場合はInvalidMealException")
+        void shouldRejectTargetDateOutOfRange() {
+            LocalDate farFuture = TODAY.plusDays(30);
+            assertThatThrownBy(() -> handler.copyMeals(new CopyMealsCommand(USER_ID, 1L, null, farFuture)))
+                    .isInstanceOf(InvalidMealException.class);
+            verifyNoInteractions(mealCopyRepository);
+        }
+
+        @Test
+        @DisplayName("1日分のコピーでコピー元とコピー先が同じ日付の場合はInvalidMealException")
+        void shouldRejectSameDay() {
+            assertThatThrownBy(() -> handler.copyMeals(new CopyMealsCommand(USER_ID, null, TODAY, TODAY)))
+                    .isInstanceOf(InvalidMealException.class);
+            verifyNoInteractions(mealCopyRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("コピー")
+    class Copy {
+
+        @Test
+        @DisplayName("1日分のコピーは1文で行い、コピーした食事をID順にまとめて読み込む")
+        void shouldCopyDay() {
+            // Arrange
+            when(mealCopyRepository.copyDay(USER_ID, YESTERDAY, TODAY))
+                    .thenReturn(new CopyResult(List.of(10L, 11L), List.of(1L, 2L, 1L)));
+            when(mealJpaRepository.findByIdInOrderByIdAsc(List.of(10L, 11L))).thenReturn(List.of(
+                    new MealEntity(USER_ID, TODAY, "BREAKFAST", null),
+                    new MealEntity(USER_ID, TODAY, "DINNER", null)));
+
+            // Act
+            List<MealResponse> responses = handler.copyMeals(new CopyMealsCommand(USER_ID, null, YESTERDAY, TODAY));
+
+            // Assert
+            assertThat(responses).extracting(MealResponse::getMealType).containsExactly("BREAKFAST", "DINNER");
+            verify(mealCopyRepository, never()).copyMeal(anyLong(), anyLong(), any());
+            ArgumentCaptor<MealLoggedEvent> event = ArgumentCaptor.forClass(MealLoggedEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertThat(event.getValue().userId()).isEqualTo(USER_ID);
+            assertThat(event.getValue().foodIds()).containsExactly(1L, 2L, 1L);
+        }
+
+        @Test
+        @DisplayName("コピー先の食事枠が記録済みで何もコピーされなかった場合は空の結果を返す")
+        void shouldReturnEmptyWhenTargetOccupied() {
+            // Arrange
+            when(mealCopyRepository.copyMeal(USER_ID, 1L, TODAY)).thenReturn(new CopyResult(List.of(), List.of()));
+            when(mealJpaRepository.existsByIdAndUserIdAndDeletedFalse(1L, USER_ID)).thenReturn(true);
+
+            // Act
+            List<MealResponse> responses = handler.copyMeals(new CopyMealsCommand(USER_ID, 1L, null, TODAY));
+
+            // Assert
+            assertThat(responses).isEmpty();
+            verifyNoInteractions(eventPublisher);
+            verify(mealJpaRepository, never()).findByIdInOrderByIdAsc(any());
+        }
+
+        @Test
+        @DisplayName("コピー元の食事が存在しない場合はNoSuchElementException")
+        void shouldThrowWhenSourceMissing() {
+            // Arrange
+            when(mealCopyRepository.copyDay(USER_ID, YESTERDAY, TODAY)).thenReturn(new CopyResult(List.of(), List.of()));
+            when(mealJpaRepository.existsByUserIdAndMealDateAndDeletedFalse(USER_ID, YESTERDAY)).thenReturn(false);
+
+            // Act & Assert
+            assertThatThrownBy(() -> handler.copyMeals(new CopyMealsCommand(USER_ID, null, YESTERDAY, TODAY)))
+                    .isInstanceOf(NoSuchElementException.class);
+            verifyNoInteractions(eventPublisher);
+        }
+    }
+}
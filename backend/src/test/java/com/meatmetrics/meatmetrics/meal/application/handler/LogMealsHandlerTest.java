@@ -0,0 +1,239 @@
+package com.meatmetrics.meatmetrics.meal.application.handler;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.meatmetrics.meatmetrics.api.meal.dto.response.MealResponse;
+import com.meatmetrics.meatmetrics.food.domain.custom.CustomFoodOverlay;
+import com.meatmetrics.meatmetrics.food.domain.exception.InvalidCookingMethodException;
+import com.meatmetrics.meatmetrics.food.infrastructure.catalog.FoodCatalogService;
+import com.meatmetrics.meatmetrics.food.infrastructure.custom.CustomFoodOverlayCache;
+import com.meatmetrics.meatmetrics.meal.application.command.LogMealsCommand;
+import com.meatmetrics.meatmetrics.meal.domain.event.MealLoggedEvent;
+import com.meatmetrics.meatmetrics.meal.domain.exception.InvalidMealException;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.MealEntity;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.MealItemEntity;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.MealJpaRepository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * LogMealsHandlerのユニットテスト
+ *
+ * <p>入力の検証、明細の栄養成分と食事合計の計算、1回の保存呼び出しとイベント発行をテストします。</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LogMealsHandler")
+class LogMealsHandlerTest {
+
+    @Mock
+    private FoodCatalogService foodCatalogService;
+
+    @Mock
+    private CustomFoodOverlayCache customFoodOverlayCache;
+
+    @Mock
+    private MealJpaRepository mealJpaRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private LogMealsHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new LogMealsHandler(foodCatalogService, customFoodOverlayCache, mealJpaRepository, eventPublisher,
+                Clock.systemDefaultZone());
+    }
+
+    private static LogMealsCommand.Item item(long foodId, String quantityG) {
+        return new LogMealsCommand.Item(foodId, new BigDecimal(quantityG), null, null);
+    }
+
+    private static LogMealsCommand.Meal meal(String mealType, LogMealsCommand.Item... items) {
+        return new LogMealsCommand.Meal(LocalDate.now(), mealType, null, List.of(items));
+    }
+
+    @Nested
+    @DisplayName("正常系")
+    class Success {
+
+        @BeforeEach
+        void setUpCatalog() {
+            when(foodCatalogService.current()).thenReturn(MealTestFoods.catalog());
+        }
+
+        @Test
+        @DisplayName("複数の食事を1回の保存で記録し、明細と合計を計算する")
+        @SuppressWarnings("unchecked")
+        void shouldSaveAllMealsAtOnce() {
+            // Arrange
+            LogMealsCommand command = new LogMealsCommand(7L, List.of(
+                    meal("breakfast", item(2, "150")),
+                    meal("DINNER", item(1, "200"), item(2, "50.5"))));
+
+            // Act
+            List<MealResponse> responses = handler.logMeals(command);
+
+            // Assert
+            ArgumentCaptor<List<MealEntity>> saved = ArgumentCaptor.forClass(List.class);
+            verify(mealJpaRepository, times(1)).saveAll(saved.capture());
+            assertThat(saved.getValue()).hasSize(2);
+            assertThat(saved.getValue()).extracting(MealEntity::getUserId).containsOnly(7L);
+            assertThat(saved.getValue().get(1).getItems()).extracting(MealItemEntity::getFoodVersion)
+                    .containsExactly(3, 1);
+
+            assertThat(responses).extracting(MealResponse::getMealType).containsExactly("BREAKFAST", "DINNER");
+            MealResponse dinner = responses.get(1);
+            assertThat(dinner.getItems()).extracting(MealResponse.Item::calories).containsExactly(500, 56);
+            assertThat(dinner.getItems()).extracting(MealResponse.Item::cookingMethod).containsOnly("raw");
+            assertThat(dinner.getTotalCalories()).isEqualTo(556);
+            assertThat(dinner.getTotalProteinG()).isEqualByComparingTo("51.62");
+            assertThat(dinner.getTotalFatG()).isEqualByComparingTo("37.76");
+            assertThat(dinner.getTotalNetCarbsG()).isEqualByComparingTo("1.20");
+        }
+
+        @Test
+        @DisplayName("食事ごとに食材IDを含む記録イベントを発行する")
+        void shouldPublishEventPerMeal() {
+            // Arrange
+            LogMealsCommand command = new LogMealsCommand(7L, List.of(
+                    meal("LUNCH", item(1, "100")),
+                    meal("SNACK", item(2, "30"))));
+
+            // Act
+            handler.logMeals(command);
+
+            // Assert
+            ArgumentCaptor<MealLoggedEvent> events = ArgumentCaptor.forClass(MealLoggedEvent.class);
+            verify(eventPublisher, times(2)).publishEvent(events.capture());
+            assertThat(events.getAllValues()).extracting(MealLoggedEvent::foodIds)
+                    .containsExactly(List.of(1L), List.of(2L));
+        }
+
+        @Test
+        @DisplayName("独自食材のIDはユーザーの独自食材から解決し、同じ絶対値のIDの共有食材とは混同しない")
+        void shouldResolveCustomFoodFromOverlay() {
+            // Arrange
+            when(customFoodOverlayCache.get(7L)).thenReturn(CustomFoodOverlay.of(List.of(MealTestFoods.CUSTOM_PATTY)));
+            LogMealsCommand command = new LogMealsCommand(7L, List.of(meal("LUNCH", item(-1, "200"), item(1, "100"))));
+
+            // Act
+            List<MealResponse> responses = handler.logMeals(command);
+
+            // Assert
+            assertThat(responses.get(0).getItems()).extracting(MealResponse.Item::foodId).containsExactly(-1L, 1L);
+            assertThat(responses.get(0).getItems()).extracting(MealResponse.Item::calories).containsExactly(240, 250);
+            assertThat(responses.get(0).getTotalNetCarbsG()).isEqualByComparingTo("12.60");
+        }
+
+        @Test
+        @DisplayName("他のユーザーの独自食材や存在しない独自食材のIDはInvalidMealException")
+        void shouldRejectUnknownCustomFood() {
+            when(customFoodOverlayCache.get(7L)).thenReturn(CustomFoodOverlay.of(List.of()));
+            LogMealsCommand command = new LogMealsCommand(7L, List.of(meal("LUNCH", item(-1, "100"))));
+
+            assertThatThrownBy(() -> handler.logMeals(command)).isInstanceOf(InvalidMealException.class);
+            verify(mealJpaRepository, never()).saveAll(any());
+        }
+
+        @Test
+        @DisplayName("存在しない食材はInvalidMealException")
+        void shouldRejectUnknownFood() {
+            LogMealsCommand command = new LogMealsCommand(7L, List.of(meal("LUNCH", item(99, "100"))));
+
+            assertThatThrownBy(() -> handler.logMeals(command)).isInstanceOf(InvalidMealException.class);
+            verify(mealJpaRepository, never()).saveAll(any());
+        }
+
+        @Test
+        @DisplayName("不明な調理方法はInvalidCookingMethodException")
+        void shouldRejectUnknownCookingMethod() {
+            LogMealsCommand command = new LogMealsCommand(7L, List.of(meal("LUNCH",
+                    new LogMealsCommand.Item(1L, new BigDecimal("100"), "fried_twice", null))));
+
+            assertThatThrownBy(() -> handler.logMeals(command)).isInstanceOf(InvalidCookingMethodException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("入力検証")
+    class Validation {
+
+        @BeforeEach
+        void setUpCatalog() {
+            lenient().when(foodCatalogService.current()).thenReturn(MealTestFoods.catalog());
+        }
+
+        @Test
+        @DisplayName("同じ日・同じ種類の食事が重複する場合はInvalidMealException")
+        void shouldRejectDuplicateMeal() {
+            LogMealsCommand command = new LogMealsCommand(7L, List.of(
+                    meal("LUNCH", item(1, "100")),
+                    meal("lunch", item(2, "100"))));
+
+            assertThatThrownBy(() -> handler.logMeals(command)).isInstanceOf(InvalidMealException.class);
+        }
+
+        @Test
+        @DisplayName("同じ食事内で同じ食材が重複する場合はInvalidMealException")
+        void shouldRejectDuplicateFood() {
+            LogMealsCommand command = new LogMealsCommand(7L, List.of(meal("LUNCH", item(1, "100"), item(1, "50"))));
+
+            assertThatThrownBy(() -> handler.logMeals(command)).isInstanceOf(InvalidMealException.class);
+        }
+
+        @Test
+        @DisplayName("DBの制約外の日付・種類・摂取量はInvalidMealException")
+        void shouldRejectOutOfRangeValues() {
+            LogMealsCommand tooOld = new LogMealsCommand(7L, List.of(new LogMealsCommand.Meal(
+                    LocalDate.of(2019, 12, 31), "LUNCH", null, List.of(item(1, "100")))));
+            LogMealsCommand tooFar = new LogMealsCommand(7L, List.of(new LogMealsCommand.Meal(
+                    LocalDate.now().plusDays(8), "LUNCH", null, List.of(item(1, "100")))));
+            LogMealsCommand unknownType = new LogMealsCommand(7L, List.of(meal("BRUNCH", item(1, "100"))));
+            LogMealsCommand tooMuch = new LogMealsCommand(7L, List.of(meal("LUNCH", item(1, "10000.01"))));
+            LogMealsCommand tooPrecise = new LogMealsCommand(7L, List.of(meal("LUNCH", item(1, "100.005"))));
+
+            for (LogMealsCommand command : List.of(tooOld, tooFar, unknownType, tooMuch, tooPrecise)) {
+                assertThatThrownBy(() -> handler.logMeals(command)).isInstanceOf(InvalidMealException.class);
+            }
+            verify(mealJpaRepository, never()).saveAll(any());
+        }
+
+        @Test
+        @DisplayName("食事日の上限は注入した時計の日付から7日後、記録日時は注入した時計の時刻")
+        void shouldLimitMealDateByInjectedClock() {
+            // Arrange: 時計のタイムゾーンでは2024-03-01（UTCでは前日）
+            Clock clock = Clock.fixed(Instant.parse("2024-02-29T16:00:00Z"), ZoneId.of("Asia/Tokyo"));
+            LogMealsHandler handler = new LogMealsHandler(foodCatalogService, customFoodOverlayCache,
+                    mealJpaRepository, eventPublisher, clock);
+            LogMealsCommand lastDay = new LogMealsCommand(7L, List.of(new LogMealsCommand.Meal(
+                    LocalDate.of(2024, 3, 8), "LUNCH", null, List.of(item(1, "100")))));
+            LogMealsCommand tooFar = new LogMealsCommand(7L, List.of(new LogMealsCommand.Meal(
+                    LocalDate.of(2024, 3, 9), "LUNCH", null, List.of(item(1, "100")))));
+
+            // Act & Assert
+            assertThat(handler.logMeals(lastDay)).hasSize(1);
+            assertThatThrownBy(() -> handler.logMeals(tooFar)).isInstanceOf(InvalidMealException.class);
+            ArgumentCaptor<MealLoggedEvent> event = ArgumentCaptor.forClass(MealLoggedEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertThat(event.getValue().loggedAt()).isEqualTo(clock.instant());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.meatmetrics.meatmetrics.meal.application.handler;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodCatalog;
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodSnapshot;
+
+/**
+ * 食事ハンドラのテストで共通に使う食材
+ */
+final class MealTestFoods {
+
+    /** 100gあたり 250kcal / P 20.00g / F 18.50g / C 1.00g（食物繊維 0.40g）、栄養成分のバージョン3 */
+    static final FoodSnapshot STEAK = new FoodSnapshot(1, "steak", 10, 250, 20_00, 18_50, 1_00, 40,
+            List.of(), true, Instant.EPOCH, 3);
+
+    /** 100gあたり 110kcal / P 23.00g / F 1.50g / C 0g */
+    static final FoodSnapshot CHICKEN = new FoodSnapshot(2, "chicken", 10, 110, 23_00, 1_50, 0, 0,
+            List.of(), true, Instant.EPOCH);
+
+    /** 独自食材（IDの絶対値がSTEAKと同じ）、100gあたり 120kcal / P 10.00g / F 5.00g / C 8.00g（食物繊維 2.00g） */
+    static final FoodSnapshot CUSTOM_PATTY = new FoodSnapshot(-1, "my patty", 0, 120, 10_00, 5_00, 8_00, 2_00,
+            List.of(), true, Instant.EPOCH);
+
+    private MealTestFoods() {}
+
+    /**
+     * @return STEAKとCHICKENのカタログ
+     */
+    static FoodCatalog catalog() {
+        return FoodCatalog.of(List.of(STEAK, CHICKEN));
+    }
+}
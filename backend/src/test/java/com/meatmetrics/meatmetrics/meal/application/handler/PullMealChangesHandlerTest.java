@@ -0,0 +1,152 @@
+package com.meatmetrics.meatmetrics.meal.application.handler;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.meatmetrics.meatmetrics.api.meal.dto.response.MealChangesResponse;
+import com.meatmetrics.meatmetrics.meal.domain.exception.InvalidMealException;
+import com.meatmetrics.meatmetrics.meal.domain.sync.MealChangeCursor;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.JdbcMealSyncRepository;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.JdbcMealSyncRepository.ChangePage;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.JdbcMealSyncRepository.ChangedMeal;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.MealEntity;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.MealJpaRepository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * PullMealChangesHandlerのユニットテスト
+ *
+ * <p>読み出し位置の解釈、変更の順での応答、次回の読み出し位置（ページの続き・読み出し位置の上限）、
+ * パージ済みの墓標より前の位置からの全件同期のやり直しをテストします。</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PullMealChangesHandler")
+class PullMealChangesHandlerTest {
+
+    private static final long USER_ID = 7L;
+
+    @Mock
+    private JdbcMealSyncRepository mealSyncRepository;
+
+    @Mock
+    private MealJpaRepository mealJpaRepository;
+
+    private PullMealChangesHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new PullMealChangesHandler(mealSyncRepository, mealJpaRepository);
+        lenient().when(mealSyncRepository.findPurgedThrough()).thenReturn(new MealChangeCursor(50, 0));
+    }
+
+    private static MealEntity meal(long id, String mealType, boolean deleted) {
+        MealEntity meal = new MealEntity(USER_ID, LocalDate.now(), mealType, null);
+        ReflectionTestUtils.setField(meal, "id", id);
+        ReflectionTestUtils.setField(meal, "deleted", deleted);
+        return meal;
+    }
+
+    @Test
+    @DisplayName("初回は削除済みの食事を含めずに読み、変更がなければ読み出し位置の上限を返す")
+    void shouldStartFromBeginningWithoutTombstones() {
+        // Arrange
+        when(mealSyncRepository.findChanges(USER_ID, MealChangeCursor.INITIAL, false, 200))
+                .thenReturn(new ChangePage(List.of(), new MealChangeCursor(900, 0)));
+
+        // Act
+        MealChangesResponse response = handler.pull(USER_ID, null, 200);
+
+        // Assert
+        assertThat(response.getMeals()).isEmpty();
+        assertThat(response.getCursor()).isEqualTo("900-0");
+        assertThat(response.isHasMore()).isFalse();
+        assertThat(response.isReset()).isFalse();
+    }
+
+    @Test
+    @DisplayName("全件同期の途中はページの続きにも印を付け、パージ済みの位置と比較しない")
+    void shouldKeepFullSyncFlagWhilePaging() {
+        // Arrange
+        when(mealSyncRepository.findChanges(USER_ID, new MealChangeCursor(10, 1, true), true, 1))
+                .thenReturn(new ChangePage(List.of(new ChangedMeal(20L, new MealChangeCursor(30, 2))),
+                        new MealChangeCursor(900, 0)));
+        when(mealJpaRepository.findByIdInOrderByIdAsc(List.of(20L))).thenReturn(List.of(meal(20L, "DINNER", false)));
+
+        // Act
+        MealChangesResponse response = handler.pull(USER_ID, "f10-1", 1);
+
+        // Assert
+        assertThat(response.getCursor()).isEqualTo("f30-2");
+        assertThat(response.isReset()).isFalse();
+        verify(mealSyncRepository, never()).findPurgedThrough();
+    }
+
+    @Test
+    @DisplayName("読み出し位置がパージ済みの墓標より前の場合は、削除済みの食事を含めずに全件同期からやり直す")
+    void shouldResetWhenCursorPrecedesPurge() {
+        // Arrange
+        when(mealSyncRepository.findChanges(USER_ID, MealChangeCursor.INITIAL, false, 200))
+                .thenReturn(new ChangePage(List.of(), new MealChangeCursor(900, 0)));
+
+        // Act
+        MealChangesResponse response = handler.pull(USER_ID, "40-9", 200);
+
+        // Assert
+        assertThat(response.isReset()).isTrue();
+        assertThat(response.getCursor()).isEqualTo("900-0");
+    }
+
+    @Test
+    @DisplayName("ページが埋まった場合は変更の順に返し、最後の食事の位置から続ける（削除済みの食事は明細なし）")
+    void shouldContinueFromLastMealWhenPageIsFull() {
+        // Arrange
+        when(mealSyncRepository.findChanges(USER_ID, new MealChangeCursor(100, 5), true, 2))
+                .thenReturn(new ChangePage(List.of(
+                        new ChangedMeal(20L, new MealChangeCursor(101, 7)),
+                        new ChangedMeal(10L, new MealChangeCursor(102, 8))), new MealChangeCursor(900, 0)));
+        when(mealJpaRepository.findByIdInOrderByIdAsc(List.of(20L, 10L)))
+                .thenReturn(List.of(meal(10L, "LUNCH", true), meal(20L, "DINNER", false)));
+
+        // Act
+        MealChangesResponse response = handler.pull(USER_ID, "100-5", 2);
+
+        // Assert
+        assertThat(response.getMeals()).extracting(MealChangesResponse.Meal::id).containsExactly(20L, 10L);
+        assertThat(response.getMeals()).extracting(MealChangesResponse.Meal::deleted).containsExactly(false, true);
+        assertThat(response.getCursor()).isEqualTo("102-8");
+        assertThat(response.isHasMore()).isTrue();
+    }
+
+    @Test
+    @DisplayName("読み出し位置の上限が送られた位置より前の場合は、送られた位置を返す")
+    void shouldNotMoveCursorBackwards() {
+        // Arrange
+        when(mealSyncRepository.findChanges(USER_ID, new MealChangeCursor(950, 3), true, 200))
+                .thenReturn(new ChangePage(List.of(), new MealChangeCursor(900, 0)));
+
+        // Act
+        MealChangesResponse response = handler.pull(USER_ID, "950-3", 200);
+
+        // Assert
+        assertThat(response.getCursor()).isEqualTo("950-3");
+    }
+
+    @Test
+    @DisplayName("読み出し位置の形式が不正な場合はInvalidMealException")
+    void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> handler.pull(USER_ID, "abc", 200)).isInstanceOf(InvalidMealException.class);
+        assertThatThrownBy(() -> handler.pull(USER_ID, "-1-2", 200)).isInstanceOf(InvalidMealException.class);
+        verify(mealSyncRepository, never()).findChanges(anyLong(), any(), anyBoolean(), anyInt());
+    }
+}
@@ -0,0 +1,227 @@
+package com.meatmetrics.meatmetrics.meal.application.handler;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.meatmetrics.meatmetrics.api.meal.dto.response.PushMealChangesResponse;
+import com.meatmetrics.meatmetrics.api.meal.dto.response.PushMealChangesResponse.Result;
+import com.meatmetrics.meatmetrics.api.meal.dto.response.PushMealChangesResponse.Status;
+import com.meatmetrics.meatmetrics.food.infrastructure.catalog.FoodCatalogService;
+import com.meatmetrics.meatmetrics.food.infrastructure.custom.CustomFoodOverlayCache;
+import com.meatmetrics.meatmetrics.meal.application.command.LogMealsCommand;
+import com.meatmetrics.meatmetrics.meal.application.command.PushMealChangesCommand;
+import com.meatmetrics.meatmetrics.meal.domain.event.MealLoggedEvent;
+import com.meatmetrics.meatmetrics.meal.domain.exception.InvalidMealException;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.JdbcMealSlotRepository.ItemRow;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.JdbcMealSyncRepository;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.JdbcMealSyncRepository.StoredMeal;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * PushMealChangesHandlerのユニットテスト
+ *
+ * <p>削除・記録の反映順、食事枠の移動と他の端末の食事との競合、不正な食事の個別の拒否をテストします。</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PushMealChangesHandler")
+class PushMealChangesHandlerTest {
+
+    private static final long USER_ID = 7L;
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final UUID CLIENT_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID OTHER_CLIENT_ID = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+    @Mock
+    private FoodCatalogService foodCatalogService;
+
+    @Mock
+    private CustomFoodOverlayCache customFoodOverlayCache;
+
+    @Mock
+    private JdbcMealSyncRepository mealSyncRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private PushMealChangesHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new PushMealChangesHandler(foodCatalogService, customFoodOverlayCache, mealSyncRepository, eventPublisher,
+                Clock.systemDefaultZone());
+    }
+
+    private static PushMealChangesCommand.Change change(UUID clientId, LocalDate mealDate, String mealType) {
+        return new PushMealChangesCommand.Change(clientId, new LogMealsCommand.Meal(mealDate, mealType, null,
+                List.of(new LogMealsCommand.Item(1L, new BigDecimal("200"), null, null))));
+    }
+
+    private void stubCatalog() {
+        when(foodCatalogService.current()).thenReturn(MealTestFoods.catalog());
+    }
+
+    @Nested
+    @DisplayName("記録・変更")
+    class Save {
+
+        @Test
+        @DisplayName("新しい食事は食事枠に記録し、明細を計算済みの栄養成分で置き換える")
+        @SuppressWarnings("unchecked")
+        void shouldSaveNewMeal() {
+            // Arrange
+            stubCatalog();
+            when(mealSyncRepository.lockByClientId(USER_ID, CLIENT_ID)).thenReturn(Optional.empty());
+            when(mealSyncRepository.lockActiveSlot(USER_ID, TODAY, "DINNER")).thenReturn(Optional.empty());
+            when(mealSyncRepository.saveMeal(USER_ID, CLIENT_ID, TODAY, "DINNER", null)).thenReturn(Optional.of(500L));
+            when(mealSyncRepository.replaceItems(eq(500L), eq(TODAY), anyList())).thenReturn(List.of(1L));
+
+            // Act
+            PushMealChangesResponse response = handler.push(
+                    new PushMealChangesCommand(USER_ID, List.of(change(CLIENT_ID, TODAY, "dinner")), null));
+
+            // Assert
+            assertThat(response.getResults()).containsExactly(Result.applied(CLIENT_ID, 500L));
+            ArgumentCaptor<List<ItemRow>> rows = ArgumentCaptor.forClass(List.class);
+            verify(mealSyncRepository).replaceItems(eq(500L), eq(TODAY), rows.capture());
+            assertThat(rows.getValue()).extracting(ItemRow::calories).containsExactly(500);
+            verify(mealSyncRepository, never()).deleteMeal(anyLong(), any(), anyBoolean());
+
+            ArgumentCaptor<MealLoggedEvent> event = ArgumentCaptor.forClass(MealLoggedEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertThat(event.getValue().foodIds()).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("ユーザー単位のロックの後、食事枠を移動した食事は元の食事をクライアントIDを手放して削除してから移動先に記録する")
+        void shouldMoveMealToAnotherSlot() {
+            // Arrange
+            stubCatalog();
+            when(mealSyncRepository.lockByClientId(USER_ID, CLIENT_ID))
+                    .thenReturn(Optional.of(new StoredMeal(400L, TODAY, "LUNCH", false)));
+            when(mealSyncRepository.lockActiveSlot(USER_ID, TODAY, "DINNER")).thenReturn(Optional.empty());
+            when(mealSyncRepository.saveMeal(USER_ID, CLIENT_ID, TODAY, "DINNER", null)).thenReturn(Optional.of(500L));
+            when(mealSyncRepository.replaceItems(eq(500L), eq(TODAY), anyList())).thenReturn(List.of());
+
+            // Act
+            PushMealChangesResponse response = handler.push(
+                    new PushMealChangesCommand(USER_ID, List.of(change(CLIENT_ID, TODAY, "DINNER")), null));
+
+            // Assert
+            assertThat(response.getResults()).containsExactly(Result.applied(CLIENT_ID, 500L));
+            InOrder inOrder = inOrder(mealSyncRepository);
+            inOrder.verify(mealSyncRepository).lockUser(USER_ID);
+            inOrder.verify(mealSyncRepository).lockByClientId(USER_ID, CLIENT_ID);
+            inOrder.verify(mealSyncRepository).deleteMeal(400L, TODAY, true);
+            inOrder.verify(mealSyncRepository).saveMeal(USER_ID, CLIENT_ID, TODAY, "DINNER", null);
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("食事枠に他の端末で記録した有効な食事がある場合は反映せずCONFLICT")
+        void shouldReportConflictWithOtherClient() {
+            // Arrange
+            stubCatalog();
+            when(mealSyncRepository.lockByClientId(USER_ID, CLIENT_ID))
+                    .thenReturn(Optional.of(new StoredMeal(400L, TODAY, "LUNCH", false)));
+            when(mealSyncRepository.lockActiveSlot(USER_ID, TODAY, "DINNER"))
+                    .thenReturn(Optional.of(new StoredMeal(600L, TODAY, "DINNER", false)));
+
+            // Act
+            PushMealChangesResponse response = handler.push(
+                    new PushMealChangesCommand(USER_ID, List.of(change(CLIENT_ID, TODAY, "DINNER")), null));
+
+            // Assert
+            assertThat(response.getResults()).containsExactly(Result.conflict(CLIENT_ID, 600L));
+            verify(mealSyncRepository, never()).deleteMeal(anyLong(), any(), anyBoolean());
+            verify(mealSyncRepository, never()).saveMeal(anyLong(), any(), any(), anyString(), any());
+        }
+
+        @Test
+        @DisplayName("食事枠が同時に他の端末で記録された場合はDataIntegrityViolationException")
+        void shouldFailWhenSlotTakenConcurrently() {
+            // Arrange
+            stubCatalog();
+            when(mealSyncRepository.lockByClientId(USER_ID, CLIENT_ID)).thenReturn(Optional.empty());
+            when(mealSyncRepository.lockActiveSlot(USER_ID, TODAY, "DINNER")).thenReturn(Optional.empty());
+            when(mealSyncRepository.saveMeal(USER_ID, CLIENT_ID, TODAY, "DINNER", null)).thenReturn(Optional.empty());
+
+            // Act & Assert
+            assertThatThrownBy(() -> handler.push(
+                    new PushMealChangesCommand(USER_ID, List.of(change(CLIENT_ID, TODAY, "DINNER")), null)))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+        }
+
+        @Test
+        @DisplayName("内容が不正な食事はREJECTEDとし、他の食事は反映する")
+        void shouldRejectInvalidMealOnly() {
+            // Arrange
+            stubCatalog();
+            when(mealSyncRepository.lockByClientId(USER_ID, OTHER_CLIENT_ID)).thenReturn(Optional.empty());
+            when(mealSyncRepository.lockActiveSlot(USER_ID, TODAY, "LUNCH")).thenReturn(Optional.empty());
+            when(mealSyncRepository.saveMeal(USER_ID, OTHER_CLIENT_ID, TODAY, "LUNCH", null)).thenReturn(Optional.of(501L));
+            when(mealSyncRepository.replaceItems(eq(501L), eq(TODAY), anyList())).thenReturn(List.of(1L));
+
+            // Act
+            PushMealChangesResponse response = handler.push(new PushMealChangesCommand(USER_ID, List.of(
+                    change(CLIENT_ID, TODAY, "brunch"),
+                    change(OTHER_CLIENT_ID, TODAY, "LUNCH")), null));
+
+            // Assert
+            assertThat(response.getResults()).extracting(Result::status).containsExactly(Status.REJECTED, Status.APPLIED);
+            assertThat(response.getResults().get(0).message()).isNotBlank();
+            verify(mealSyncRepository, never()).lockByClientId(USER_ID, CLIENT_ID);
+        }
+    }
+
+    @Nested
+    @DisplayName("削除")
+    class Delete {
+
+        @Test
+        @DisplayName("有効な食事は明細ごと削除し、削除済み・存在しない食事もDELETEDを返す")
+        void shouldDeleteMeals() {
+            // Arrange
+            when(mealSyncRepository.lockByClientId(USER_ID, CLIENT_ID))
+                    .thenReturn(Optional.of(new StoredMeal(400L, TODAY, "LUNCH", false)));
+            when(mealSyncRepository.lockByClientId(USER_ID, OTHER_CLIENT_ID)).thenReturn(Optional.empty());
+
+            // Act
+            PushMealChangesResponse response = handler.push(
+                    new PushMealChangesCommand(USER_ID, null, List.of(CLIENT_ID, OTHER_CLIENT_ID)));
+
+            // Assert
+            assertThat(response.getResults()).containsExactly(
+                    Result.deleted(CLIENT_ID, 400L), Result.deleted(OTHER_CLIENT_ID, null));
+            verify(mealSyncRepository).deleteMeal(400L, TODAY, false);
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("同じクライアントIDを削除と記録の両方に指定した場合は何も反映せずInvalidMealException")
+        void shouldRejectDuplicateClientId() {
+            assertThatThrownBy(() -> handler.push(new PushMealChangesCommand(USER_ID,
+                    List.of(change(CLIENT_ID, TODAY, "DINNER")), List.of(CLIENT_ID))))
+                    .isInstanceOf(InvalidMealException.class);
+            verifyNoInteractions(mealSyncRepository);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.meatmetrics.meatmetrics.meal.domain.nutrition;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.meatmetrics.meatmetrics.food.domain.catalog.FoodSnapshot;
+import com.meatmetrics.meatmetrics.food.domain.cooking.CookingFactors;
+import com.meatmetrics.meatmetrics.food.domain.nutrition.ItemNutrition;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * MealItemNutritionBatchのユニットテスト
+ *
+ * <p>固定小数点の一括計算が ItemNutrition（calculate_meal_item_nutrition() と同じ丸め）と一致することをテストします。</p>
+ */
+@DisplayName("MealItemNutritionBatch")
+class MealItemNutritionBatchTest {
+
+    private static final LocalDate MEAL_DATE = LocalDate.of(2026, 1, 15);
+
+    @Nested
+    @DisplayName("計算")
+    class Calculate {
+
+        @Test
+        @DisplayName("調理係数を掛けてから最後に1回だけ丸める")
+        void shouldApplyFactorsBeforeRounding() {
+            // Arrange
+            MealItemNutritionBatch batch = new MealItemNutritionBatch(4);
+            batch.add(10, 1, MEAL_DATE, 2, 150_00, 1_2778, 1_3889, 1_1806, 1_3889, 250, 26_10, 15_40, 0);
+
+            // Act
+            batch.calculate();
+
+            // Assert（479.175 → 479, 54.375435 → 54.38, 27.27186 → 27.27）
+            assertThat(batch.calories(0)).isEqualTo(479);
+            assertThat(batch.proteinCentiG(0)).isEqualTo(54_38);
+            assertThat(batch.fatCentiG(0)).isEqualTo(27_27);
+            assertThat(batch.netCarbsCentiG(0)).isZero();
+            assertThat(batch.foodVersion(0)).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("ちょうど0.5の端数は切り上げる")
+        void shouldRoundHalfUp() {
+            // Arrange（1kcal × 50g = 0.5kcal、0.01g × 50g = 0.005g）
+            MealItemNutritionBatch batch = new MealItemNutritionBatch(1);
+            batch.add(1, 1, MEAL_DATE, 1, 50_00, 1_0000, 1_0000, 1_0000, 1_0000, 1, 1, 1, 1);
+
+            // Act
+            batch.calculate();
+
+            // Assert
+            assertThat(batch.calories(0)).isEqualTo(1);
+            assertThat(batch.proteinCentiG(0)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("無作為な入力でも ItemNutrition と同じ値になる")
+        void shouldMatchItemNutrition() {
+            // Arrange
+            Random random = new Random(42);
+            int n = 500;
+            MealItemNutritionBatch batch = new MealItemNutritionBatch(n);
+            FoodSnapshot[] foods = new FoodSnapshot[n];
+            BigDecimal[] quantities = new BigDecimal[n];
+            CookingFactors[] factors = new CookingFactors[n];
+            for (int i = 0; i < n; i++) {
+                long carbs = random.nextInt(200_00);
+                foods[i] = new FoodSnapshot(i, "food" + i, 1, random.nextInt(2000), random.nextInt(200_00),
+                        random.nextInt(200_00), carbs, random.nextInt((int) carbs + 1), List.of(), true, Instant.EPOCH);
+                long quantity = random.nextInt(2000_00);
+                int[] f = { 1 + random.nextInt(2_0000), 1 + random.nextInt(2_0000),
+                        1 + random.nextInt(2_0000), 1 + random.nextInt(2_0000) };
+                quantities[i] = BigDecimal.valueOf(quantity, 2);
+                factors[i] = new CookingFactors(BigDecimal.valueOf(f[0], 4), BigDecimal.valueOf(f[1], 4),
+                        BigDecimal.valueOf(f[2], 4), BigDecimal.valueOf(f[3], 4));
+                batch.add(i, i / 3, MEAL_DATE, 1, quantity, f[0], f[1], f[2], f[3], foods[i].caloriesPer100g(),
+                        foods[i].proteinCentiG(), foods[i].fatCentiG(), foods[i].netCarbsCentiG());
+            }
+
+            // Act
+            batch.calculate();
+
+            // Assert
+            for (int i = 0; i < n; i++) {
+                ItemNutrition expected = ItemNutrition.calculate(foods[i], quantities[i], factors[i]);
+                assertThat(batch.calories(i)).as("calories[%d]", i).isEqualTo(expected.calories());
+                assertThat(BigDecimal.valueOf(batch.proteinCentiG(i), 2)).isEqualByComparingTo(expected.proteinG());
+                assertThat(BigDecimal.valueOf(batch.fatCentiG(i), 2)).isEqualByComparingTo(expected.fatG());
+                assertThat(BigDecimal.valueOf(batch.netCarbsCentiG(i), 2)).isEqualByComparingTo(expected.netCarbsG());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("カタログの食材からの追加")
+    class FromSnapshot {
+
+        @Test
+        @DisplayName("食材のバージョンと値・摂取量・係数を固定小数点に変換して計算する")
+        void shouldConvertSnapshotToFixedPoint() {
+            // Arrange（100gあたり 250kcal / P 26.10g / F 15.40g / C 1.00g（食物繊維 0.40g）、バージョン3）
+            FoodSnapshot food = new FoodSnapshot(7, "steak", 1, 250, 26_10, 15_40, 1_00, 40, List.of(), true,
+                    Instant.EPOCH, 3);
+            CookingFactors factors = new CookingFactors(new BigDecimal("1.2778"), new BigDecimal("1.3889"),
+                    new BigDecimal("1.1806"), new BigDecimal("1.0000"));
+            MealItemNutritionBatch batch = new MealItemNutritionBatch(1);
+
+            // Act
+            batch.add(0, 0, MEAL_DATE, food, new BigDecimal("150.5"), factors);
+            batch.calculate();
+
+            // Assert
+            ItemNutrition expected = ItemNutrition.calculate(food, new BigDecimal("150.5"), factors);
+            assertThat(batch.foodVersion(0)).isEqualTo(3);
+            assertThat(batch.calories(0)).isEqualTo(expected.calories());
+            assertThat(batch.proteinG(0)).isEqualTo(expected.proteinG());
+            assertThat(batch.fatG(0)).isEqualTo(expected.fatG());
+            assertThat(batch.netCarbsG(0)).isEqualTo(expected.netCarbsG());
+        }
+
+        @Test
+        @DisplayName("小数3桁以上の摂取量は固定小数点に収まらないため例外")
+        void shouldRejectTooPreciseQuantity() {
+            FoodSnapshot food = new FoodSnapshot(7, "steak", 1, 250, 26_10, 15_40, 0, 0, List.of(), true, Instant.EPOCH);
+            MealItemNutritionBatch batch = new MealItemNutritionBatch(1);
+
+            assertThatThrownBy(
+                    () -> batch.add(0, 0, MEAL_DATE, food, new BigDecimal("100.005"), CookingFactors.IDENTITY))
+                    .isInstanceOf(ArithmeticException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("チャンク管理")
+    class Chunk {
+
+        @Test
+        @DisplayName("明細ごとに食事IDと食事日を保持し、最後の明細IDをチェックポイントとする")
+        void shouldKeepMealKeysAndCheckpoint() {
+            // Arrange
+            MealItemNutritionBatch batch = new MealItemNutritionBatch(4);
+            batch.add(5, 30, MEAL_DATE, 1, 100_00, 1_0000, 1_0000, 1_0000, 1_0000, 100, 0, 0, 0);
+            batch.add(6, 10, LocalDate.of(2020, 1, 1), 1, 100_00, 1_0000, 1_0000, 1_0000, 1_0000, 100, 0, 0, 0);
+            batch.add(9, 30, MEAL_DATE, 1, 100_00, 1_0000, 1_0000, 1_0000, 1_0000, 100, 0, 0, 0);
+
+            // Act & Assert
+            assertThat(batch.mealId(1)).isEqualTo(10L);
+            assertThat(batch.mealDate(1)).isEqualTo(LocalDate.of(2020, 1, 1));
+            assertThat(batch.mealDate(2)).isEqualTo(MEAL_DATE);
+            assertThat(batch.lastItemId()).isEqualTo(9);
+        }
+
+        @Test
+        @DisplayName("容量を超えると例外、clear後は再利用できる")
+        void shouldRejectOverflowAndReuseAfterClear() {
+            // Arrange
+            MealItemNutritionBatch batch = new MealItemNutritionBatch(1);
+            batch.add(1, 1, MEAL_DATE, 1, 100_00, 1_0000, 1_0000, 1_0000, 1_0000, 100, 0, 0, 0);
+
+            // Act & Assert
+            assertThatThrownBy(
+                    () -> batch.add(2, 1, MEAL_DATE, 1, 100_00, 1_0000, 1_0000, 1_0000, 1_0000, 100, 0, 0, 0))
+                    .isInstanceOf(IllegalStateException.class);
+            batch.clear();
+            assertThat(batch.size()).isZero();
+            assertThat(batch.lastItemId()).isEqualTo(-1);
+        }
+    }
+}
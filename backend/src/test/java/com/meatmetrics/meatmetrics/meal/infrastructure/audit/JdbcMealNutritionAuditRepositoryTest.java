@@ -0,0 +1,72 @@
+package com.meatmetrics.meatmetrics.meal.infrastructure.audit;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.meatmetrics.meatmetrics.PostgreSQLTestBase;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * JdbcMealNutritionAuditRepositoryの統合テスト
+ *
+ * <p>監査した食事の食事日を返し、食事日の月が異なる食事の明細と合計を (meal_id, meal_date) で修復することをテストします。</p>
+ */
+@SpringBootTest
+@ActiveProfiles("integration")
+@Transactional
+@DisplayName("JdbcMealNutritionAuditRepository")
+class JdbcMealNutritionAuditRepositoryTest extends PostgreSQLTestBase {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JdbcMealNutritionAuditRepository repository;
+
+    private long insertBrokenMeal(long userId, LocalDate mealDate) {
+        long mealId = jdbcTemplate.queryForObject(
+                "INSERT INTO meals (user_id, meal_date, meal_type) VALUES (?, ?, 'SNACK') RETURNING id",
+                Long.class, userId, mealDate);
+        jdbcTemplate.update("INSERT INTO meal_items (meal_id, meal_date, food_id, quantity_g) VALUES (?, ?, 1, 100)",
+                mealId, mealDate);
+        // 明細の値と合計をそれぞれ壊す（計算値だけの変更ではトリガーは計算し直さない）
+        jdbcTemplate.update("UPDATE meal_items SET item_calories = 1 WHERE meal_id = ?", mealId);
+        jdbcTemplate.update("UPDATE meals SET total_calories = 2 WHERE id = ?", mealId);
+        return mealId;
+    }
+
+    @Test
+    @DisplayName("食事日の月が異なる不一致の食事の明細と合計を修復する")
+    void shouldRepairMealsAcrossMonths() {
+        // Arrange
+        long userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'test1@example.com'", Long.class);
+        long january = insertBrokenMeal(userId, LocalDate.of(2024, 1, 31));
+        long february = insertBrokenMeal(userId, LocalDate.of(2024, 2, 1));
+        int calories = jdbcTemplate.queryForObject("SELECT calories_per_100g FROM foods WHERE id = 1", Integer.class);
+        List<MealNutritionAuditRow> broken = repository.scan(new AuditCursor(Instant.EPOCH, 0), Integer.MAX_VALUE)
+                .stream().filter(row -> row.mealId() == january || row.mealId() == february).toList();
+
+        // Act
+        int repairedItems = repository.repair(broken);
+
+        // Assert
+        assertThat(broken).extracting(MealNutritionAuditRow::mealDate)
+                .containsExactlyInAnyOrder(LocalDate.of(2024, 1, 31), LocalDate.of(2024, 2, 1));
+        assertThat(broken).noneMatch(MealNutritionAuditRow::isConsistent);
+        assertThat(repairedItems).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForList("SELECT item_calories FROM meal_items WHERE meal_id IN (?, ?)",
+                Integer.class, january, february)).containsOnly(calories);
+        assertThat(jdbcTemplate.queryForList("SELECT total_calories FROM meals WHERE id IN (?, ?)",
+                Integer.class, january, february)).containsOnly(calories);
+    }
+}
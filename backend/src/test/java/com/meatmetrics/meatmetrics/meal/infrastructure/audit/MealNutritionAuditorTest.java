@@ -0,0 +1,162 @@
+package com.meatmetrics.meatmetrics.meal.infrastructure.audit;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.meatmetrics.meatmetrics.config.MealAuditProperties;
+import com.meatmetrics.meatmetrics.meal.domain.nutrition.MealTotals;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * MealNutritionAuditorのユニットテスト
+ *
+ * <p>不一致の記録と自動修復、走査位置の扱い、メトリクスをテストします。</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MealNutritionAuditor")
+class MealNutritionAuditorTest {
+
+    private static final Instant T0 = Instant.parse("2026-01-01T00:00:00Z");
+    private static final MealTotals TOTALS = new MealTotals(500, new BigDecimal("40.00"), new BigDecimal("30.00"),
+            new BigDecimal("1.20"));
+    private static final LocalDate MEAL_DATE = LocalDate.of(2026, 1, 1);
+
+    @Mock
+    private JdbcMealNutritionAuditRepository repository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final MealAuditProperties properties = new MealAuditProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MealNutritionAuditor auditor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        properties.setBatchSize(2);
+        properties.setOverlapMs(60_000);
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        auditor = new MealNutritionAuditor(repository, transactionTemplate, properties, meterRegistry);
+    }
+
+    private static MealNutritionAuditRow consistent(long mealId, Instant updatedAt) {
+        return new MealNutritionAuditRow(mealId, MEAL_DATE, updatedAt, TOTALS,
+                new MealTotals(500, new BigDecimal("40"), new BigDecimal("30.0"), new BigDecimal("1.2")));
+    }
+
+    private static MealNutritionAuditRow mismatched(long mealId, Instant updatedAt) {
+        return new MealNutritionAuditRow(mealId, MEAL_DATE, updatedAt, TOTALS,
+                new MealTotals(480, new BigDecimal("40.00"), new BigDecimal("30.00"), new BigDecimal("1.20")));
+    }
+
+    private double count(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    @Nested
+    @DisplayName("不一致の検出")
+    class Detect {
+
+        @Test
+        @DisplayName("不一致を記録し、一致した食事の未修復の記録を消す（自動修復なし）")
+        void shouldRecordMismatchesWithoutRepair() {
+            // Arrange
+            AuditCursor saved = new AuditCursor(T0, 5);
+            when(repository.lockCursor()).thenReturn(Optional.of(saved));
+            MealNutritionAuditRow ok = consistent(6, T0.plusSeconds(1));
+            MealNutritionAuditRow ng = mismatched(7, T0.plusSeconds(2));
+            when(repository.scan(any(), eq(2))).thenReturn(List.of(ok, ng), List.of());
+
+            // Act
+            int audited = auditor.audit();
+
+            // Assert
+            assertThat(audited).isEqualTo(2);
+            verify(repository).clearResolved(List.of(6L));
+            verify(repository).recordMismatches(List.of(ng));
+            verify(repository, never()).repair(any());
+            verify(repository).saveCursor(new AuditCursor(T0.plusSeconds(2), 7));
+            assertThat(count("meal.nutrition.audit.checked")).isEqualTo(2);
+            assertThat(count("meal.nutrition.audit.mismatches")).isEqualTo(1);
+            assertThat(count("meal.nutrition.audit.repaired")).isZero();
+        }
+
+        @Test
+        @DisplayName("自動修復が有効な場合は不一致の食事だけを修復する")
+        void shouldRepairMismatchesWhenEnabled() {
+            // Arrange
+            properties.setAutoRepair(true);
+            when(repository.lockCursor()).thenReturn(Optional.of(new AuditCursor(T0, 0)));
+            MealNutritionAuditRow ng = mismatched(3, T0.plusSeconds(1));
+            when(repository.scan(any(), eq(2))).thenReturn(List.of(ng));
+
+            // Act
+            auditor.audit();
+
+            // Assert
+            verify(repository).repair(List.of(ng));
+            assertThat(count("meal.nutrition.audit.repaired")).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("走査位置")
+    class Cursor {
+
+        @Test
+        @DisplayName("最初のバッチは保存済みの位置を遡って読み、以降は前のバッチの続きから読む")
+        void shouldRewindOnlyFirstBatch() {
+            // Arrange
+            AuditCursor saved = new AuditCursor(T0, 9);
+            when(repository.lockCursor()).thenReturn(Optional.of(saved));
+            when(repository.scan(any(), eq(2))).thenReturn(
+                    List.of(consistent(4, T0.minusSeconds(30)), consistent(9, T0)),
+                    List.of(consistent(10, T0.plusSeconds(5))));
+
+            // Act
+            int audited = auditor.audit();
+
+            // Assert
+            assertThat(audited).isEqualTo(3);
+            verify(repository).scan(new AuditCursor(T0.minusSeconds(60), 0), 2);
+            verify(repository).scan(new AuditCursor(T0, 9), 2);
+            // 遡った範囲だけのバッチでは保存済みの位置を戻さない
+            verify(repository, times(1)).saveCursor(any());
+            verify(repository).saveCursor(new AuditCursor(T0.plusSeconds(5), 10));
+        }
+
+        @Test
+        @DisplayName("他のインスタンスが監査中の場合は何もしない")
+        void shouldSkipWhenLockedByAnotherInstance() {
+            // Arrange
+            when(repository.lockCursor()).thenReturn(Optional.empty());
+
+            // Act
+            int audited = auditor.audit();
+
+            // Assert
+            assertThat(audited).isZero();
+            verify(repository, never()).scan(any(), anyInt());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.meatmetrics.meatmetrics.meal.infrastructure.partition;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.meatmetrics.meatmetrics.PostgreSQLTestBase;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * JdbcMealPartitionRepositoryの統合テスト
+ *
+ * <p>パーティションの作成が冪等であること、明細が参照している食事の月も切り離せることをテストします
+ * （DETACH PARTITION ... CONCURRENTLY はトランザクションブロックの中で実行できないため、テスト自体はロールバックしない）。</p>
+ */
+@SpringBootTest
+@ActiveProfiles("integration")
+@DisplayName("JdbcMealPartitionRepository")
+class JdbcMealPartitionRepositoryTest extends PostgreSQLTestBase {
+
+    /** 記録できる最も古い月（他のテストのデータがない） */
+    private static final LocalDate OLDEST_MONTH = LocalDate.of(2020, 1, 1);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JdbcMealPartitionRepository repository;
+
+    @AfterEach
+    void tearDown() {
+        // 切り離したテーブルを削除して（明細 → 食事の順）、同じ月のパーティションを作り直す
+        List<String> detached = jdbcTemplate.queryForList("""
+                SELECT relname FROM pg_class
+                WHERE relname IN ('meal_items_p202001', 'meals_p202001') AND relkind = 'r' AND NOT relispartition
+                ORDER BY relname = 'meals_p202001'
+                """, String.class);
+        detached.forEach(table -> jdbcTemplate.execute("DROP TABLE " + table));
+        jdbcTemplate.queryForObject("SELECT create_meal_partitions(?, ?)", Integer.class, OLDEST_MONTH, OLDEST_MONTH);
+    }
+
+    private int countIn(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+
+    @Test
+    @DisplayName("作成済みの月のパーティションは作成しない")
+    void shouldCreatePartitionsIdempotently() {
+        // Arrange
+        repository.createPartitions(3);
+
+        // Act
+        int created = repository.createPartitions(3);
+
+        // Assert
+        assertThat(created).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class,
+                "meals_p" + LocalDate.now().plusMonths(3).format(DateTimeFormatter.ofPattern("yyyyMM")))).isTrue();
+    }
+
+    @Test
+    @DisplayName("明細が参照している食事の月も、明細・食事の順に切り離せる")
+    void shouldDetachMealsPartitionReferencedByItems() {
+        // Arrange
+        long userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'test1@example.com'", Long.class);
+        long mealId = jdbcTemplate.queryForObject(
+                "INSERT INTO meals (user_id, meal_date, meal_type) VALUES (?, ?, 'SNACK') RETURNING id",
+                Long.class, userId, OLDEST_MONTH.plusDays(14));
+        jdbcTemplate.update("INSERT INTO meal_items (meal_id, meal_date, food_id, quantity_g) VALUES (?, ?, 1, 100)",
+                mealId, OLDEST_MONTH.plusDays(14));
+
+        // Act
+        List<String> detached = repository.detachPartitionsBefore(OLDEST_MONTH.plusMonths(1));
+
+        // Assert
+        assertThat(detached).containsExactly("meal_items_p202001", "meals_p202001");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM meals WHERE id = ?", Integer.class, mealId))
+                .isZero();
+        assertThat(countIn("meals_p202001")).isEqualTo(1);
+        assertThat(countIn("meal_items_p202001")).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_inherits WHERE inhrelid IN ('meals_p202001'::regclass, 'meal_items_p202001'::regclass)",
+                Integer.class)).isZero();
+    }
+}
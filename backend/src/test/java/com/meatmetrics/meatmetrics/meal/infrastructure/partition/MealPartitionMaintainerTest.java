@@ -0,0 +1,107 @@
+package com.meatmetrics.meatmetrics.meal.infrastructure.partition;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import com.meatmetrics.meatmetrics.config.MealPartitionProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * MealPartitionMaintainerのユニットテスト
+ *
+ * <p>未来のパーティションの作成、保持期間による切り離しの有無と基準月、DBエラー時の継続と失敗回数の記録をテストします。</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MealPartitionMaintainer")
+class MealPartitionMaintainerTest {
+
+    @Mock
+    private JdbcMealPartitionRepository repository;
+
+    private final MealPartitionProperties properties = new MealPartitionProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MealPartitionMaintainer maintainer;
+
+    @BeforeEach
+    void setUp() {
+        properties.setMonthsAhead(3);
+        maintainer = new MealPartitionMaintainer(repository, properties, meterRegistry);
+    }
+
+    private double failures() {
+        return meterRegistry.counter("meal.partition.maintenance.failures").count();
+    }
+
+    @Test
+    @DisplayName("保持月数が0の場合、未来のパーティションを作成し、切り離しは行わない")
+    void shouldCreateAheadWithoutDetachingByDefault() {
+        // Arrange
+        when(repository.createPartitions(3)).thenReturn(2);
+
+        // Act
+        maintainer.scheduledMaintain();
+
+        // Assert
+        verify(repository).createPartitions(3);
+        verify(repository, never()).detachPartitionsBefore(any());
+        assertThat(failures()).isZero();
+    }
+
+    @Test
+    @DisplayName("保持月数が設定されている場合、その月数前の月より古いパーティションを切り離す")
+    void shouldDetachPartitionsOlderThanRetention() {
+        // Arrange
+        properties.setRetentionMonths(24);
+        when(repository.detachPartitionsBefore(any()))
+                .thenReturn(List.of("meal_items_p202001", "meals_p202001"));
+
+        // Act
+        maintainer.scheduledMaintain();
+
+        // Assert
+        verify(repository).createPartitions(3);
+        verify(repository).detachPartitionsBefore(argThat(before ->
+                before.withDayOfMonth(1).equals(LocalDate.now().minusMonths(24).withDayOfMonth(1))));
+    }
+
+    @Test
+    @DisplayName("作成に失敗しても例外を伝播させず、失敗回数を記録する")
+    void shouldSwallowFailureOnCreate() {
+        // Arrange
+        properties.setRetentionMonths(24);
+        when(repository.createPartitions(anyInt()))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+        // Act & Assert
+        assertThatCode(() -> maintainer.onApplicationReady()).doesNotThrowAnyException();
+        verify(repository, never()).detachPartitionsBefore(any());
+        assertThat(failures()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("切り離しのロック待ちがタイムアウトしても例外を伝播させない")
+    void shouldSwallowFailureOnDetach() {
+        // Arrange
+        properties.setRetentionMonths(12);
+        when(repository.detachPartitionsBefore(any()))
+                .thenThrow(new CannotAcquireLockException("lock timeout"));
+
+        // Act & Assert
+        assertThatCode(() -> maintainer.scheduledMaintain()).doesNotThrowAnyException();
+        assertThat(failures()).isEqualTo(1.0);
+    }
+}
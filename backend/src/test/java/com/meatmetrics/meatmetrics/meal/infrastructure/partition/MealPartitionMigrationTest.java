@@ -0,0 +1,155 @@
+package com.meatmetrics.meatmetrics.meal.infrastructure.partition;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.meatmetrics.meatmetrics.PostgreSQLTestBase;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * V035（食事・明細の月単位パーティション化）のマイグレーションテスト
+ *
+ * <p>V034まで適用した別のデータベースに食事・明細を記録してからV035を適用し、
+ * 既存の食事・明細と合計がそのまま移り、それぞれの月のパーティションに入ることをテストします。
+ * （パーティションの作成は作成済みかを名前で判定するため、同じデータベースの別のスキーマでは検証できない）</p>
+ */
+@SpringBootTest
+@ActiveProfiles("integration")
+@DisplayName("V035 食事・明細のパーティション化")
+class MealPartitionMigrationTest extends PostgreSQLTestBase {
+
+    private static final String DATABASE = "meatmetrics_v035_migration_test";
+
+    private static final String SELECT_MEALS = """
+            SELECT id, user_id, meal_date, meal_type, notes, is_deleted,
+                   total_calories, total_protein_g, total_fat_g, total_net_carbs_g
+            FROM meals ORDER BY id
+            """;
+
+    private static final String SELECT_ITEMS = """
+            SELECT id, meal_id, food_id, food_version, quantity_g, cooking_method, is_deleted,
+                   item_calories, item_protein_g, item_fat_g, item_net_carbs_g
+            FROM meal_items ORDER BY id
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username}")
+    private String username;
+
+    @Value("${spring.datasource.password}")
+    private String password;
+
+    /** 検証用のデータベース（接続はプールしない） */
+    private DriverManagerDataSource scratch;
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DROP DATABASE IF EXISTS " + DATABASE + " WITH (FORCE)");
+        jdbcTemplate.execute("CREATE DATABASE " + DATABASE);
+        scratch = new DriverManagerDataSource(url.replaceFirst("/[^/?]+(\\?|$)", "/" + DATABASE + "$1"),
+                username, password);
+        jdbc = new JdbcTemplate(scratch);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP DATABASE IF EXISTS " + DATABASE + " WITH (FORCE)");
+    }
+
+    private void migrateTo(String target) {
+        Flyway.configure()
+                .dataSource(scratch)
+                .locations("classpath:db/migration")
+                .target(target)
+                .load()
+                .migrate();
+    }
+
+    private long testUserId() {
+        return jdbc.queryForObject("SELECT id FROM users WHERE email = 'test1@example.com'", Long.class);
+    }
+
+    private long insertMeal(long userId, LocalDate mealDate, String mealType) {
+        return jdbc.queryForObject("INSERT INTO meals (user_id, meal_date, meal_type) VALUES (?, ?, ?) RETURNING id",
+                Long.class, userId, mealDate, mealType);
+    }
+
+    private void insertItem(long mealId, long foodId, int quantityG) {
+        jdbc.update("INSERT INTO meal_items (meal_id, food_id, quantity_g) VALUES (?, ?, ?)", mealId, foodId, quantityG);
+    }
+
+    @Test
+    @DisplayName("既存の食事・明細と合計がそのまま移り、食事日の月のパーティションに入る")
+    void shouldPreserveExistingMealsAndItems() {
+        // Arrange: パーティション化する前のテーブルに、月の異なる食事と明細（論理削除を含む）を記録する
+        migrateTo("34");
+        long userId = testUserId();
+        long january = insertMeal(userId, LocalDate.of(2024, 1, 31), "DINNER");
+        insertItem(january, 1, 200);
+        insertItem(january, 2, 150);
+        long february = insertMeal(userId, LocalDate.of(2024, 2, 1), "BREAKFAST");
+        insertItem(february, 1, 80);
+        jdbc.update("UPDATE meal_items SET is_deleted = true WHERE meal_id = ? AND food_id = 2", january);
+        List<Map<String, Object>> mealsBefore = jdbc.queryForList(SELECT_MEALS);
+        List<Map<String, Object>> itemsBefore = jdbc.queryForList(SELECT_ITEMS);
+
+        // Act
+        migrateTo("35");
+
+        // Assert
+        assertThat(jdbc.queryForList(SELECT_MEALS)).isEqualTo(mealsBefore);
+        assertThat(jdbc.queryForList(SELECT_ITEMS)).isEqualTo(itemsBefore);
+        assertThat(jdbc.queryForObject("""
+                SELECT COUNT(*) FROM meal_items mi
+                LEFT JOIN meals m ON m.id = mi.meal_id AND m.meal_date = mi.meal_date
+                WHERE m.id IS NULL
+                """, Integer.class)).isZero();
+        assertThat(jdbc.queryForList("""
+                SELECT tableoid::regclass::text FROM meals WHERE id IN (?, ?)
+                UNION
+                SELECT tableoid::regclass::text FROM meal_items WHERE meal_id IN (?, ?)
+                """, String.class, january, february, january, february))
+                .containsExactlyInAnyOrder("meals_p202401", "meals_p202402", "meal_items_p202401", "meal_items_p202402");
+    }
+
+    @Test
+    @DisplayName("移行後もIDは既存の最大値より後から採番され、合計は明細の変更に追従する")
+    void shouldKeepSequencesAndTriggersAfterMigration() {
+        // Arrange
+        migrateTo("34");
+        long userId = testUserId();
+        long lastMealId = insertMeal(userId, LocalDate.of(2024, 3, 1), "LUNCH");
+        insertItem(lastMealId, 1, 100);
+
+        // Act
+        migrateTo("35");
+        long nextMealId = insertMeal(userId, LocalDate.of(2024, 3, 2), "LUNCH");
+        jdbc.update("INSERT INTO meal_items (meal_id, meal_date, food_id, quantity_g) VALUES (?, '2024-03-01', 2, 100)",
+                lastMealId);
+
+        // Assert
+        assertThat(nextMealId).isGreaterThan(lastMealId);
+        assertThat(jdbc.queryForObject("SELECT total_calories FROM meals WHERE id = ?", Integer.class, lastMealId))
+                .isEqualTo(jdbc.queryForObject("SELECT SUM(item_calories) FROM meal_items WHERE meal_id = ?",
+                        Integer.class, lastMealId));
+    }
+}
@@ -0,0 +1,140 @@
+package com.meatmetrics.meatmetrics.meal.infrastructure.persistence;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.meatmetrics.meatmetrics.PostgreSQLTestBase;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 食材の栄養成分のバージョン（V025）の統合テスト
+ *
+ * <p>栄養成分の変更で新しいバージョンが追加され、記録済みの明細と食事の合計は記録時のバージョンのまま変わらず、
+ * 新しい明細は現在のバージョンで計算されることをテストします。</p>
+ */
+@SpringBootTest
+@ActiveProfiles("integration")
+@Transactional
+@DisplayName("食材の栄養成分のバージョン")
+class FoodNutritionVersionTest extends PostgreSQLTestBase {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long mealId;
+    private int version;
+
+    @BeforeEach
+    void setUp() {
+        long userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'test1@example.com'", Long.class);
+        mealId = jdbcTemplate.queryForObject(
+                "INSERT INTO meals (user_id, meal_date, meal_type) VALUES (?, ?, 'SNACK') RETURNING id",
+                Long.class, userId, TODAY);
+        version = jdbcTemplate.queryForObject("SELECT nutrition_version FROM foods WHERE id = 1", Integer.class);
+    }
+
+    private long insertItem(long foodId, int quantityG) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO meal_items (meal_id, meal_date, food_id, quantity_g) VALUES (?, ?, ?, ?) RETURNING id",
+                Long.class, mealId, TODAY, foodId, quantityG);
+    }
+
+    private Map<String, Object> item(long itemId) {
+        return jdbcTemplate.queryForMap("SELECT food_version, item_calories FROM meal_items WHERE id = ?", itemId);
+    }
+
+    private int totalCalories() {
+        return jdbcTemplate.queryForObject("SELECT total_calories FROM meals WHERE id = ?", Integer.class, mealId);
+    }
+
+    private void correctCalories(int caloriesPer100g) {
+        jdbcTemplate.update("UPDATE foods SET calories_per_100g = ? WHERE id = 1", caloriesPer100g);
+    }
+
+    @Test
+    @DisplayName("栄養成分を変更すると新しいバージョンが追加され、記録済みの明細と合計は変わらない")
+    void shouldKeepLoggedItemsOnOldVersion() {
+        // Arrange
+        long itemId = insertItem(1, 200);
+        Map<String, Object> before = item(itemId);
+        int totalBefore = totalCalories();
+
+        // Act
+        correctCalories(400);
+
+        // Assert
+        assertThat(jdbcTemplate.queryForObject("SELECT nutrition_version FROM foods WHERE id = 1", Integer.class))
+                .isEqualTo(version + 1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT calories_per_100g FROM food_nutrition_versions WHERE food_id = 1 AND version_no = ?",
+                Integer.class, version + 1)).isEqualTo(400);
+        assertThat(item(itemId)).isEqualTo(before);
+        assertThat(totalCalories()).isEqualTo(totalBefore);
+    }
+
+    @Test
+    @DisplayName("変更後に記録した明細は新しいバージョンで計算される")
+    void shouldComputeNewItemsWithCurrentVersion() {
+        // Arrange
+        correctCalories(400);
+
+        // Act
+        long itemId = insertItem(1, 200);
+
+        // Assert
+        assertThat(item(itemId)).containsEntry("food_version", version + 1).containsEntry("item_calories", 800);
+    }
+
+    @Test
+    @DisplayName("摂取量だけを変更した明細は、記録時のバージョンで計算し直す")
+    void shouldRecomputeQuantityChangeWithPinnedVersion() {
+        // Arrange
+        long itemId = insertItem(1, 100);
+        int calories = jdbcTemplate.queryForObject(
+                "SELECT calories_per_100g FROM food_nutrition_versions WHERE food_id = 1 AND version_no = ?",
+                Integer.class, version);
+        correctCalories(calories + 100);
+
+        // Act
+        jdbcTemplate.update("UPDATE meal_items SET quantity_g = 200 WHERE id = ?", itemId);
+
+        // Assert
+        assertThat(item(itemId)).containsEntry("food_version", version).containsEntry("item_calories", calories * 2);
+        assertThat(totalCalories()).isEqualTo(calories * 2);
+    }
+
+    @Test
+    @DisplayName("栄養成分以外の変更ではバージョンを進めない")
+    void shouldNotBumpVersionForOtherColumns() {
+        // Act
+        jdbcTemplate.update("UPDATE foods SET name = name || ' (renamed)' WHERE id = 1");
+
+        // Assert
+        assertThat(jdbcTemplate.queryForObject("SELECT nutrition_version FROM foods WHERE id = 1", Integer.class))
+                .isEqualTo(version);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM food_nutrition_versions WHERE food_id = 1",
+                Integer.class)).isEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("バージョンの行は書き換えられない")
+    void shouldRejectVersionUpdate() {
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "UPDATE food_nutrition_versions SET calories_per_100g = 1 WHERE food_id = 1 AND version_no = ?", version))
+                .isInstanceOf(DataAccessException.class)
+                .hasMessageContaining("append-only");
+    }
+}
@@ -0,0 +1,149 @@
+package com.meatmetrics.meatmetrics.meal.infrastructure.persistence;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.meatmetrics.meatmetrics.PostgreSQLTestBase;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 食事明細の食材参照（共有食材・独自食材）の統合テスト
+ *
+ * <p>独自食材のIDが共有食材のIDと重ならず、明細の栄養成分が参照先の食材から計算されることをテストします。
+ * 一括書き込み中（{@code meatmetrics.bulk_nutrition_write}）は計算しないことも確認します。</p>
+ */
+@SpringBootTest
+@ActiveProfiles("integration")
+@Transactional
+@DisplayName("食事明細の食材参照")
+class MealItemFoodReferenceTest extends PostgreSQLTestBase {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long userId;
+    private long mealId;
+
+    @BeforeEach
+    void setUp() {
+        userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'test1@example.com'", Long.class);
+        mealId = jdbcTemplate.queryForObject(
+                "INSERT INTO meals (user_id, meal_date, meal_type) VALUES (?, ?, 'SNACK') RETURNING id",
+                Long.class, userId, LocalDate.now());
+    }
+
+    private long insertCustomFood(Long id, int caloriesPer100g) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO user_custom_foods (id, user_id, name, calories_per_100g, protein_g_per_100g,
+                                               fat_g_per_100g, carbohydrates_g_per_100g, fiber_g_per_100g)
+                VALUES (COALESCE(?, nextval('user_custom_foods_id_seq')), ?, 'my patty', ?, 10.00, 5.00, 8.00, 2.00)
+                RETURNING id
+                """, Long.class, id, userId, caloriesPer100g);
+    }
+
+    private Map<String, Object> insertItem(long foodId) {
+        return jdbcTemplate.queryForMap("""
+                INSERT INTO meal_items (meal_id, meal_date, food_id, quantity_g)
+                VALUES (?, ?, ?, 200)
+                RETURNING food_version, item_calories, item_net_carbs_g, shared_food_id, custom_food_id
+                """, mealId, LocalDate.now(), foodId);
+    }
+
+    @Test
+    @DisplayName("新しい独自食材のIDは負の値で採番される")
+    void shouldAssignNegativeIdsToCustomFoods() {
+        // Act
+        long first = insertCustomFood(null, 100);
+        long second = insertCustomFood(null, 100);
+
+        // Assert
+        assertThat(first).isNegative();
+        assertThat(second).isLessThan(first);
+    }
+
+    @Test
+    @DisplayName("絶対値が共有食材のIDと同じ独自食材を記録すると、独自食材の栄養成分で計算される")
+    void shouldComputeCustomFoodItemFromCustomFood() {
+        // Arrange: 共有食材 ID 1（100gあたり 498kcal）と絶対値が同じIDの独自食材（100gあたり 120kcal）
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM foods WHERE id = 1", Integer.class)).isEqualTo(1);
+        long customId = insertCustomFood(-1L, 120);
+
+        // Act
+        Map<String, Object> item = insertItem(customId);
+
+        // Assert
+        assertThat(item.get("food_version")).isEqualTo(1);
+        assertThat(item.get("item_calories")).isEqualTo(240);
+        assertThat(item.get("item_net_carbs_g")).hasToString("12.00");
+        assertThat(item.get("shared_food_id")).isNull();
+        assertThat(item.get("custom_food_id")).isEqualTo(-1L);
+        assertThat(jdbcTemplate.queryForObject("SELECT total_calories FROM meals WHERE id = ?", Integer.class, mealId))
+                .isEqualTo(240);
+    }
+
+    @Test
+    @DisplayName("共有食材の明細は従来どおり食材マスタの現在のバージョンで計算される")
+    void shouldComputeSharedFoodItemFromFoods() {
+        // Arrange
+        insertCustomFood(-1L, 120);
+        int version = jdbcTemplate.queryForObject("SELECT nutrition_version FROM foods WHERE id = 1", Integer.class);
+        int calories = jdbcTemplate.queryForObject("SELECT calories_per_100g FROM foods WHERE id = 1", Integer.class);
+
+        // Act
+        Map<String, Object> item = insertItem(1L);
+
+        // Assert
+        assertThat(item.get("food_version")).isEqualTo(version);
+        assertThat(item.get("item_calories")).isEqualTo(calories * 2);
+        assertThat(item.get("shared_food_id")).isEqualTo(1L);
+        assertThat(item.get("custom_food_id")).isNull();
+    }
+
+    @Test
+    @DisplayName("一括書き込み中の更新では、入力が変わっても明細を計算し直さない")
+    void shouldSkipCalculationDuringBulkWrite() {
+        // Arrange
+        long customId = insertCustomFood(-1L, 120);
+        int sharedCalories = (Integer) insertItem(1L).get("item_calories");
+        int customCalories = (Integer) insertItem(customId).get("item_calories");
+        jdbcTemplate.queryForObject("SELECT set_config('meatmetrics.bulk_nutrition_write', 'on', true)", String.class);
+
+        // Act: 計算値は書き換えずに摂取量だけを変える（一括書き込みでなければ計算し直す更新）
+        jdbcTemplate.update("UPDATE meal_items SET quantity_g = 400 WHERE meal_id = ?", mealId);
+
+        // Assert
+        assertThat(jdbcTemplate.queryForList("SELECT item_calories FROM meal_items WHERE meal_id = ? ORDER BY food_id DESC",
+                Integer.class, mealId)).containsExactly(sharedCalories, customCalories);
+
+        // Act: 一括書き込みを終えた後の同じ更新
+        jdbcTemplate.queryForObject("SELECT set_config('meatmetrics.bulk_nutrition_write', 'off', true)", String.class);
+        jdbcTemplate.update("UPDATE meal_items SET quantity_g = 600 WHERE meal_id = ?", mealId);
+
+        // Assert
+        assertThat(jdbcTemplate.queryForList("SELECT item_calories FROM meal_items WHERE meal_id = ? ORDER BY food_id DESC",
+                Integer.class, mealId)).containsExactly(sharedCalories * 3, customCalories * 3);
+    }
+
+    @Test
+    @DisplayName("計算済みの明細でも、存在しない独自食材のIDは外部キー制約で拒否される")
+    void shouldRejectUnknownCustomFood() {
+        assertThatThrownBy(() -> jdbcTemplate.update("""
+                INSERT INTO meal_items (meal_id, meal_date, food_id, food_version, quantity_g, item_calories,
+                                        item_protein_g, item_fat_g, item_net_carbs_g)
+                VALUES (?, ?, -9999999, 1, 100, 100, 1.00, 1.00, 1.00)
+                """, mealId, LocalDate.now()))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .hasMessageContaining("fk_meal_items_custom_food_id");
+    }
+}
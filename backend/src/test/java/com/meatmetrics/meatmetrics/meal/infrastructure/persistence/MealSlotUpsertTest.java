@@ -0,0 +1,138 @@
+package com.meatmetrics.meatmetrics.meal.infrastructure.persistence;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.meatmetrics.meatmetrics.PostgreSQLTestBase;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.JdbcMealCopyRepository.CopyResult;
+import com.meatmetrics.meatmetrics.meal.infrastructure.persistence.JdbcMealSlotRepository.ItemRow;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 食事枠への書き込み（UPSERT）の統合テスト
+ *
+ * <p>パーティション化した食事・明細で、明細追加とコピーの ON CONFLICT ON CONSTRAINT が
+ * 一意制約（unique_user_meal_date_type, unique_meal_food）に解決され、既存の行を更新することをテストします。
+ * 加算後の摂取量が上限を超える明細は、CHECK制約違反にならずに書き込まれないことも確認します。</p>
+ */
+@SpringBootTest
+@ActiveProfiles("integration")
+@Transactional
+@DisplayName("食事枠への書き込み（UPSERT）")
+class MealSlotUpsertTest extends PostgreSQLTestBase {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JdbcMealSlotRepository slotRepository;
+
+    @Autowired
+    private JdbcMealCopyRepository copyRepository;
+
+    private long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'test1@example.com'", Long.class);
+        jdbcTemplate.update("DELETE FROM meals WHERE user_id = ? AND meal_date IN (?, ?)",
+                userId, TODAY, TODAY.minusDays(1));
+    }
+
+    /** 生の食材の明細（100gあたり 498kcal の食材 ID 1） */
+    private static ItemRow rawItem(String quantityG, int calories) {
+        return new ItemRow(1L, 1, new BigDecimal(quantityG), "raw", BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE,
+                BigDecimal.ONE, calories, new BigDecimal("1.00"), new BigDecimal("1.00"), new BigDecimal("1.00"), null);
+    }
+
+    /** 係数0.1で茹でた食材の明細（上限の摂取量でも栄養成分の上限を超えない） */
+    private static ItemRow boiledItem(String quantityG) {
+        BigDecimal factor = new BigDecimal("0.1");
+        return new ItemRow(1L, 1, new BigDecimal(quantityG), "boiled", factor, factor, factor, factor,
+                1, new BigDecimal("1.00"), new BigDecimal("1.00"), new BigDecimal("1.00"), null);
+    }
+
+    private Map<String, Object> item(long mealId) {
+        return jdbcTemplate.queryForMap(
+                "SELECT quantity_g, item_calories, is_deleted FROM meal_items WHERE meal_id = ? AND food_id = 1", mealId);
+    }
+
+    private int totalCalories(long mealId) {
+        return jdbcTemplate.queryForObject("SELECT total_calories FROM meals WHERE id = ?", Integer.class, mealId);
+    }
+
+    @Test
+    @DisplayName("同じ食事枠・同じ食材への明細追加は、既存の食事と明細に摂取量を加算する")
+    void shouldResolveSlotAndItemConflicts() {
+        // Arrange
+        long mealId = slotRepository.upsertMeal(userId, TODAY, "SNACK", null);
+        slotRepository.upsertItems(mealId, TODAY, List.of(rawItem("100", 498)));
+
+        // Act
+        long sameMealId = slotRepository.upsertMeal(userId, TODAY, "SNACK", null);
+        List<Long> written = slotRepository.upsertItems(sameMealId, TODAY, List.of(rawItem("50", 249)));
+
+        // Assert
+        assertThat(sameMealId).isEqualTo(mealId);
+        assertThat(written).containsExactly(1L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM meal_items WHERE meal_id = ?",
+                Integer.class, mealId)).isEqualTo(1);
+        assertThat((BigDecimal) item(mealId).get("quantity_g")).isEqualByComparingTo("150");
+        assertThat(totalCalories(mealId)).isEqualTo(747);
+    }
+
+    @Test
+    @DisplayName("加算後の摂取量が上限を超える明細は更新せず、上限を超える食材として返す")
+    void shouldSkipItemsOverQuantityLimit() {
+        // Arrange
+        long mealId = slotRepository.upsertMeal(userId, TODAY, "SNACK", null);
+        slotRepository.upsertItems(mealId, TODAY, List.of(boiledItem("6000")));
+
+        // Act
+        List<Long> written = slotRepository.upsertItems(mealId, TODAY, List.of(boiledItem("4000.01")));
+        List<Long> overflows = slotRepository.findQuantityOverflows(mealId, TODAY, List.of(boiledItem("4000.01")));
+        List<Long> writtenAtLimit = slotRepository.upsertItems(mealId, TODAY, List.of(boiledItem("4000")));
+
+        // Assert
+        assertThat(written).isEmpty();
+        assertThat(overflows).containsExactly(1L);
+        assertThat(writtenAtLimit).containsExactly(1L);
+        assertThat((BigDecimal) item(mealId).get("quantity_g")).isEqualByComparingTo("10000");
+    }
+
+    @Test
+    @DisplayName("論理削除済みの食事枠へのコピーは、既存の食事と明細をコピー元の内容で復元する")
+    void shouldRestoreDeletedSlotOnCopy() {
+        // Arrange: コピー元（前日）と、論理削除済みのコピー先（今日）
+        long sourceId = slotRepository.upsertMeal(userId, TODAY.minusDays(1), "SNACK", null);
+        slotRepository.upsertItems(sourceId, TODAY.minusDays(1), List.of(rawItem("200", 996)));
+        long targetId = slotRepository.upsertMeal(userId, TODAY, "SNACK", null);
+        slotRepository.upsertItems(targetId, TODAY, List.of(rawItem("30", 149)));
+        jdbcTemplate.update("UPDATE meal_items SET is_deleted = true WHERE meal_id = ?", targetId);
+        jdbcTemplate.update("UPDATE meals SET is_deleted = true WHERE id = ?", targetId);
+
+        // Act
+        CopyResult result = copyRepository.copyMeal(userId, sourceId, TODAY);
+
+        // Assert
+        assertThat(result.mealIds()).containsExactly(targetId);
+        assertThat(result.foodIds()).containsExactly(1L);
+        assertThat(item(targetId)).containsEntry("is_deleted", false).containsEntry("item_calories", 996);
+        assertThat((BigDecimal) item(targetId).get("quantity_g")).isEqualByComparingTo("200");
+        assertThat(totalCalories(targetId)).isEqualTo(996);
+    }
+}
@@ -0,0 +1,166 @@
+package com.meatmetrics.meatmetrics.meal.infrastructure.persistence;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.meatmetrics.meatmetrics.PostgreSQLTestBase;
+import com.meatmetrics.meatmetrics.meal.domain.nutrition.MealItemNutritionBatch;
+import com.meatmetrics.meatmetrics.meal.infrastructure.recompute.JdbcMealNutritionRecomputeRepository;
+import com.meatmetrics.meatmetrics.meal.infrastructure.recompute.RecomputeJobState;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 食事の合計の文単位トリガー（V028）の統合テスト
+ *
+ * <p>複数行の明細のINSERT・UPDATE（別の食事への移動・論理削除を含む）・DELETEの後で、
+ * 食事の合計が有効な明細の合計と一致することをテストします。
+ * {@code meatmetrics.bulk_nutrition_write} でトリガーを止める一括再計算の後も合計が一致することを確認します。</p>
+ */
+@SpringBootTest
+@ActiveProfiles("integration")
+@Transactional
+@DisplayName("食事の合計の文単位トリガー")
+class MealTotalsTriggerTest extends PostgreSQLTestBase {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    private static final String SELECT_TOTALS = """
+            SELECT total_calories AS calories, total_protein_g AS protein_g, total_fat_g AS fat_g,
+                   total_net_carbs_g AS net_carbs_g
+            FROM meals WHERE id = ?
+            """;
+
+    private static final String SUM_ITEMS = """
+            SELECT COALESCE(SUM(item_calories), 0)::integer AS calories,
+                   COALESCE(SUM(item_protein_g), 0.00) AS protein_g,
+                   COALESCE(SUM(item_fat_g), 0.00) AS fat_g,
+                   COALESCE(SUM(item_net_carbs_g), 0.00) AS net_carbs_g
+            FROM meal_items WHERE meal_id = ? AND is_deleted = false
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JdbcMealNutritionRecomputeRepository recomputeRepository;
+
+    private long userId;
+    private long lunchId;
+    private long dinnerId;
+
+    @BeforeEach
+    void setUp() {
+        userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'test1@example.com'", Long.class);
+        jdbcTemplate.update("DELETE FROM meals WHERE user_id = ? AND meal_date = ?", userId, TODAY);
+        lunchId = insertMeal("LUNCH");
+        dinnerId = insertMeal("DINNER");
+        // 2つの食事に3件ずつ、1文で追加する
+        jdbcTemplate.update("""
+                INSERT INTO meal_items (meal_id, meal_date, food_id, quantity_g)
+                VALUES (?, ?, 1, 120), (?, ?, 2, 85.5), (?, ?, 3, 40),
+                       (?, ?, 1, 200), (?, ?, 2, 33.3), (?, ?, 4, 150)
+                """, lunchId, TODAY, lunchId, TODAY, lunchId, TODAY, dinnerId, TODAY, dinnerId, TODAY, dinnerId, TODAY);
+    }
+
+    private long insertMeal(String mealType) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO meals (user_id, meal_date, meal_type) VALUES (?, ?, ?) RETURNING id",
+                Long.class, userId, TODAY, mealType);
+    }
+
+    private Map<String, Object> totals(long mealId) {
+        return jdbcTemplate.queryForMap(SELECT_TOTALS, mealId);
+    }
+
+    private void assertTotalsMatchItems(long mealId) {
+        Map<String, Object> totals = totals(mealId);
+        Map<String, Object> items = jdbcTemplate.queryForMap(SUM_ITEMS, mealId);
+        assertThat(totals.get("calories")).isEqualTo(items.get("calories"));
+        for (String column : List.of("protein_g", "fat_g", "net_carbs_g")) {
+            assertThat((BigDecimal) totals.get(column))
+                    .as(column).isEqualByComparingTo((BigDecimal) items.get(column));
+        }
+    }
+
+    @Test
+    @DisplayName("複数の食事への複数行のINSERTで、それぞれの合計が明細の合計と一致する")
+    void shouldMatchAfterMultiRowInsert() {
+        // Assert
+        assertThat((Integer) totals(lunchId).get("calories")).isPositive();
+        assertTotalsMatchItems(lunchId);
+        assertTotalsMatchItems(dinnerId);
+    }
+
+    @Test
+    @DisplayName("複数行の摂取量の変更と別の食事への移動の後も、合計が明細の合計と一致する")
+    void shouldMatchAfterMultiRowUpdate() {
+        // Act
+        jdbcTemplate.update("UPDATE meal_items SET quantity_g = quantity_g * 2 WHERE meal_id IN (?, ?)",
+                lunchId, dinnerId);
+        jdbcTemplate.update("UPDATE meal_items SET meal_id = ? WHERE meal_id = ? AND food_id = 3", dinnerId, lunchId);
+
+        // Assert
+        assertTotalsMatchItems(lunchId);
+        assertTotalsMatchItems(dinnerId);
+    }
+
+    @Test
+    @DisplayName("論理削除と複数行のDELETEの後も、合計が有効な明細の合計と一致する")
+    void shouldMatchAfterSoftDeleteAndMultiRowDelete() {
+        // Act
+        jdbcTemplate.update("UPDATE meal_items SET is_deleted = true WHERE meal_id = ? AND food_id = 1", lunchId);
+        jdbcTemplate.update("DELETE FROM meal_items WHERE meal_id IN (?, ?) AND food_id = 2", lunchId, dinnerId);
+
+        // Assert
+        assertTotalsMatchItems(lunchId);
+        assertTotalsMatchItems(dinnerId);
+
+        // Act: 残りを全て削除する
+        jdbcTemplate.update("DELETE FROM meal_items WHERE meal_id IN (?, ?)", lunchId, dinnerId);
+
+        // Assert
+        assertThat(totals(lunchId).get("calories")).isEqualTo(0);
+        assertTotalsMatchItems(lunchId);
+        assertTotalsMatchItems(dinnerId);
+    }
+
+    @Test
+    @DisplayName("トリガーを止めた一括再計算の後も合計が明細の合計と一致し、その後の変更ではトリガーが動く")
+    void shouldMatchAfterBulkRecompute() {
+        // Arrange: 食材の栄養成分を変更し、記録済みの明細を古いバージョンにする
+        int caloriesBefore = (Integer) totals(lunchId).get("calories");
+        jdbcTemplate.update("UPDATE foods SET calories_per_100g = calories_per_100g + 100 WHERE id = 1");
+        RecomputeJobState job = recomputeRepository.create(List.of(1L), userId);
+        MealItemNutritionBatch batch = new MealItemNutritionBatch(1000);
+        recomputeRepository.loadChunk(job, batch);
+        batch.calculate();
+
+        // Act
+        recomputeRepository.writeChunk(job.id(), batch);
+
+        // Assert
+        assertThat(jdbcTemplate.queryForObject("SELECT current_setting('meatmetrics.bulk_nutrition_write', true)",
+                String.class)).isEqualTo("off");
+        assertThat((Integer) totals(lunchId).get("calories")).isEqualTo(caloriesBefore + 120);
+        assertTotalsMatchItems(lunchId);
+        assertTotalsMatchItems(dinnerId);
+
+        // Act: 同じトランザクションでの続く変更
+        jdbcTemplate.update("UPDATE meal_items SET quantity_g = 10 WHERE meal_id = ? AND food_id = 1", dinnerId);
+
+        // Assert
+        assertTotalsMatchItems(dinnerId);
+    }
+}
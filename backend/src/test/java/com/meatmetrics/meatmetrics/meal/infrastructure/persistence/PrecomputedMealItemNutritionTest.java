@@ -0,0 +1,211 @@
+package com.meatmetrics.meatmetrics.meal.infrastructure.persistence;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.meatmetrics.meatmetrics.PostgreSQLTestBase;
+import com.meatmetrics.meatmetrics.meal.domain.nutrition.MealItemNutritionBatch;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 計算済みの明細の書き込み（V029）の統合テスト
+ *
+ * <p>バージョンと計算値を指定した明細は行単位のトリガーで計算し直されず、
+ * バージョンまたは計算値のいずれかが未指定（NULL）の明細だけがトリガーで計算されることをテストします
+ * （計算値の列は既定値を持たないため、列を省略した場合も未指定になる）。
+ * アプリケーションの計算（MealItemNutritionBatch）がトリガーと同じ値に丸めることも確認します。</p>
+ */
+@SpringBootTest
+@ActiveProfiles("integration")
+@Transactional
+@DisplayName("計算済みの明細の書き込み")
+class PrecomputedMealItemNutritionTest extends PostgreSQLTestBase {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    private static final String SELECT_ITEM = """
+            SELECT food_version, item_calories, item_protein_g, item_fat_g, item_net_carbs_g
+            FROM meal_items WHERE meal_id = ? AND food_id = ?
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long mealId;
+    private int version;
+
+    @BeforeEach
+    void setUp() {
+        long userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'test1@example.com'", Long.class);
+        jdbcTemplate.update("DELETE FROM meals WHERE user_id = ? AND meal_date = ?", userId, TODAY);
+        mealId = jdbcTemplate.queryForObject(
+                "INSERT INTO meals (user_id, meal_date, meal_type) VALUES (?, ?, 'LUNCH') RETURNING id",
+                Long.class, userId, TODAY);
+        version = jdbcTemplate.queryForObject("SELECT nutrition_version FROM foods WHERE id = 1", Integer.class);
+    }
+
+    private Map<String, Object> item(long foodId) {
+        return jdbcTemplate.queryForMap(SELECT_ITEM, mealId, foodId);
+    }
+
+    private void assertTotalsMatchItems() {
+        Map<String, Object> totals = jdbcTemplate.queryForMap("""
+                SELECT total_calories, total_protein_g FROM meals WHERE id = ?
+                """, mealId);
+        Map<String, Object> items = jdbcTemplate.queryForMap("""
+                SELECT SUM(item_calories)::integer AS total_calories, SUM(item_protein_g) AS total_protein_g
+                FROM meal_items WHERE meal_id = ? AND is_deleted = false
+                """, mealId);
+        assertThat(totals.get("total_calories")).isEqualTo(items.get("total_calories"));
+        assertThat((BigDecimal) totals.get("total_protein_g"))
+                .isEqualByComparingTo((BigDecimal) items.get("total_protein_g"));
+    }
+
+    @Test
+    @DisplayName("計算済みの明細と未計算の明細を1文で追加すると、計算済みの値はそのまま残り、未計算の明細だけ計算される")
+    void shouldKeepPrecomputedValuesOnInsert() {
+        // Act: 計算済みの値はトリガーの計算と区別できる値にする
+        jdbcTemplate.update("""
+                INSERT INTO meal_items (meal_id, meal_date, food_id, quantity_g, food_version,
+                                        item_calories, item_protein_g, item_fat_g, item_net_carbs_g)
+                VALUES (?, ?, 1, 100, ?, 1, 0.01, 0.02, 0.03),
+                       (?, ?, 2, 100, NULL, NULL, NULL, NULL, NULL)
+                """, mealId, TODAY, version, mealId, TODAY);
+
+        // Assert
+        assertThat(item(1)).containsEntry("food_version", version).containsEntry("item_calories", 1);
+        assertThat((BigDecimal) item(1).get("item_net_carbs_g")).isEqualByComparingTo("0.03");
+        assertThat(item(2)).containsEntry("item_calories", 185);
+        assertThat(item(2).get("food_version")).isNotNull();
+        assertTotalsMatchItems();
+    }
+
+    @Test
+    @DisplayName("計算値の一部がNULLの明細はトリガーで計算される")
+    void shouldComputeWhenAnyValueMissing() {
+        // Act
+        jdbcTemplate.update("""
+                INSERT INTO meal_items (meal_id, meal_date, food_id, quantity_g, food_version,
+                                        item_calories, item_protein_g, item_fat_g, item_net_carbs_g)
+                VALUES (?, ?, 1, 100, ?, 1, 0.01, 0.02, NULL)
+                """, mealId, TODAY, version);
+
+        // Assert
+        assertThat(item(1)).containsEntry("item_calories", 498);
+        assertThat((BigDecimal) item(1).get("item_protein_g")).isEqualByComparingTo("17.40");
+        assertTotalsMatchItems();
+    }
+
+    @Test
+    @DisplayName("バージョンだけを指定して計算値の列を省略した明細は、0ではなくトリガーで計算される")
+    void shouldComputeWhenValuesAreOmitted() {
+        // Act
+        jdbcTemplate.update("""
+                INSERT INTO meal_items (meal_id, meal_date, food_id, quantity_g, food_version)
+                VALUES (?, ?, 1, 100, ?)
+                """, mealId, TODAY, version);
+
+        // Assert
+        assertThat(item(1)).containsEntry("item_calories", 498);
+        assertThat((BigDecimal) item(1).get("item_protein_g")).isEqualByComparingTo("17.40");
+        assertThat(jdbcTemplate.queryForList("""
+                SELECT column_default FROM information_schema.columns
+                WHERE table_name = 'meal_items' AND column_name LIKE 'item\\_%'
+                """, String.class)).hasSize(4).containsOnlyNulls();
+        assertTotalsMatchItems();
+    }
+
+    @Test
+    @DisplayName("摂取量だけの変更は計算し直し、摂取量と計算値を同時に書き換えた場合は書き込んだ値が残る")
+    void shouldRecomputeOnlyWhenValuesAreNotWritten() {
+        // Arrange
+        jdbcTemplate.update("INSERT INTO meal_items (meal_id, meal_date, food_id, quantity_g) VALUES (?, ?, 1, 100)",
+                mealId, TODAY);
+
+        // Act
+        jdbcTemplate.update("UPDATE meal_items SET quantity_g = 200 WHERE meal_id = ? AND food_id = 1", mealId);
+
+        // Assert
+        assertThat(item(1)).containsEntry("item_calories", 996);
+        assertTotalsMatchItems();
+
+        // Act
+        jdbcTemplate.update("""
+                UPDATE meal_items SET quantity_g = 300, item_calories = 7, item_protein_g = 0.07
+                WHERE meal_id = ? AND food_id = 1
+                """, mealId);
+
+        // Assert
+        assertThat(item(1)).containsEntry("item_calories", 7);
+        assertThat((BigDecimal) item(1).get("item_protein_g")).isEqualByComparingTo("0.07");
+        assertTotalsMatchItems();
+    }
+
+    @Test
+    @DisplayName("アプリケーションの計算は、端数の出る摂取量・係数でもトリガーと同じ値に丸める")
+    void shouldRoundLikeTrigger() {
+        // Arrange: トリガーで計算させる
+        jdbcTemplate.update("""
+                INSERT INTO meal_items (meal_id, meal_date, food_id, quantity_g, cooking_method,
+                                        calories_factor, protein_factor, fat_factor, net_carbs_factor)
+                VALUES (?, ?, 1, 33.33, 'grilled', 1.3333, 0.85, 0.6667, 1.0),
+                       (?, ?, 2, 0.01, 'raw', 1.0, 1.0, 1.0, 1.0),
+                       (?, ?, 3, 1234.56, 'roasted', 0.7777, 1.1111, 0.5, 2.5),
+                       (?, ?, 4, 12.5, 'boiled', 1.15, 1.15, 1.15, 1.15),
+                       (?, ?, 5, 87.65, 'pan_fried', 0.9999, 0.0001, 1.2345, 0.3333)
+                """, mealId, TODAY, mealId, TODAY, mealId, TODAY, mealId, TODAY, mealId, TODAY);
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("""
+                SELECT mi.food_id, mi.food_version, mi.quantity_g,
+                       mi.calories_factor, mi.protein_factor, mi.fat_factor, mi.net_carbs_factor,
+                       v.calories_per_100g, v.protein_g_per_100g, v.fat_g_per_100g,
+                       v.carbohydrates_g_per_100g - v.fiber_g_per_100g AS net_carbs_g_per_100g
+                FROM meal_items mi
+                JOIN food_nutrition_versions v ON v.food_id = mi.food_id AND v.version_no = mi.food_version
+                WHERE mi.meal_id = ? ORDER BY mi.food_id
+                """, mealId);
+        MealItemNutritionBatch batch = new MealItemNutritionBatch(rows.size());
+        for (Map<String, Object> row : rows) {
+            batch.add((Long) row.get("food_id"), mealId, TODAY, (Integer) row.get("food_version"),
+                    centi(row.get("quantity_g")),
+                    e4(row.get("calories_factor")), e4(row.get("protein_factor")),
+                    e4(row.get("fat_factor")), e4(row.get("net_carbs_factor")),
+                    (Integer) row.get("calories_per_100g"), centi(row.get("protein_g_per_100g")),
+                    centi(row.get("fat_g_per_100g")), centi(row.get("net_carbs_g_per_100g")));
+        }
+
+        // Act
+        batch.calculate();
+
+        // Assert
+        for (int i = 0; i < batch.size(); i++) {
+            Map<String, Object> expected = item(batch.itemId(i));
+            assertThat(batch.calories(i)).as("food %d", batch.itemId(i)).isEqualTo(expected.get("item_calories"));
+            assertThat(batch.proteinG(i)).as("food %d", batch.itemId(i))
+                    .isEqualByComparingTo((BigDecimal) expected.get("item_protein_g"));
+            assertThat(batch.fatG(i)).as("food %d", batch.itemId(i))
+                    .isEqualByComparingTo((BigDecimal) expected.get("item_fat_g"));
+            assertThat(batch.netCarbsG(i)).as("food %d", batch.itemId(i))
+                    .isEqualByComparingTo((BigDecimal) expected.get("item_net_carbs_g"));
+        }
+    }
+
+    private static long centi(Object value) {
+        return ((BigDecimal) value).movePointRight(2).longValueExact();
+    }
+
+    private static int e4(Object value) {
+        return ((BigDecimal) value).movePointRight(4).intValueExact();
+    }
+}
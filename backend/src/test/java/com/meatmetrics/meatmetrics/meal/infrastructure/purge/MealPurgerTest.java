@@ -0,0 +1,162 @@
+package com.meatmetrics.meatmetrics.meal.infrastructure.purge;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.meatmetrics.meatmetrics.config.MealPurgeProperties;
+import com.meatmetrics.meatmetrics.meal.infrastructure.purge.JdbcMealPurgeRepository.PurgeBatch;
+import com.meatmetrics.meatmetrics.meal.infrastructure.purge.JdbcMealPurgeRepository.TableStats;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * MealPurgerのユニットテスト
+ *
+ * <p>バッチの順序と続きの位置、保持期間、1回の実行のバッチ数の上限、メトリクスをテストします。</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MealPurger")
+class MealPurgerTest {
+
+    @Mock
+    private JdbcMealPurgeRepository repository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final MealPurgeProperties properties = new MealPurgeProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MealPurger purger;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        properties.setBatchSize(2);
+        properties.setMaxBatchesPerRun(3);
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        lenient().when(repository.tableStats()).thenReturn(List.of());
+        purger = new MealPurger(repository, transactionTemplate, properties, meterRegistry);
+    }
+
+    private double count(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    @Test
+    @DisplayName("明細 → 食事の順に、各バッチでトリガーを止めてから前のバッチの最大IDの続きを削除する")
+    void shouldPurgeItemsThenMealsInKeysetBatches() {
+        // Arrange
+        when(repository.purgeItems(anyLong(), any(), eq(2)))
+                .thenReturn(new PurgeBatch(2, 15), new PurgeBatch(1, 20));
+        when(repository.purgeMeals(anyLong(), any(), eq(2))).thenReturn(new PurgeBatch(0, 0));
+
+        // Act
+        int purged = purger.purge();
+
+        // Assert
+        assertThat(purged).isEqualTo(3);
+        InOrder inOrder = inOrder(repository);
+        inOrder.verify(repository).suppressItemTriggers();
+        inOrder.verify(repository).purgeItems(eq(0L), any(), eq(2));
+        inOrder.verify(repository).suppressItemTriggers();
+        inOrder.verify(repository).purgeItems(eq(15L), any(), eq(2));
+        inOrder.verify(repository).suppressItemTriggers();
+        inOrder.verify(repository).purgeMeals(eq(0L), any(), eq(2));
+        verify(transactionTemplate, times(3)).execute(any());
+        assertThat(count("meal.purge.items")).isEqualTo(3);
+        assertThat(count("meal.purge.meals")).isZero();
+    }
+
+    @Test
+    @DisplayName("保持期間より前に削除された行だけを削除する")
+    void shouldPurgeOnlyRowsPastRetention() {
+        // Arrange
+        properties.setRetentionDays(30);
+        when(repository.purgeItems(anyLong(), any(), anyInt())).thenReturn(new PurgeBatch(0, 0));
+        when(repository.purgeMeals(anyLong(), any(), anyInt())).thenReturn(new PurgeBatch(1, 8));
+        Instant before = Instant.now().minus(Duration.ofDays(30));
+
+        // Act
+        purger.purge();
+
+        // Assert
+        ArgumentCaptor<Instant> cutoff = ArgumentCaptor.forClass(Instant.class);
+        verify(repository).purgeMeals(eq(0L), cutoff.capture(), eq(2));
+        assertThat(cutoff.getValue()).isBetween(before, Instant.now().minus(Duration.ofDays(30)));
+        assertThat(count("meal.purge.meals")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("1回の実行では最大バッチ数まで削除し、残りは次回に回す")
+    void shouldStopAtMaxBatchesPerRun() {
+        // Arrange
+        when(repository.purgeItems(anyLong(), any(), anyInt())).thenReturn(
+                new PurgeBatch(2, 2), new PurgeBatch(2, 4), new PurgeBatch(2, 6), new PurgeBatch(2, 8));
+        when(repository.purgeMeals(anyLong(), any(), anyInt())).thenReturn(new PurgeBatch(0, 0));
+
+        // Act
+        purger.purge();
+
+        // Assert
+        verify(repository, times(3)).purgeItems(anyLong(), any(), anyInt());
+        assertThat(count("meal.purge.items")).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("テーブルの行数とサイズをテーブルごとのゲージに反映する")
+    void shouldPublishTableStats() {
+        // Arrange
+        when(repository.purgeItems(anyLong(), any(), anyInt())).thenReturn(new PurgeBatch(0, 0));
+        when(repository.purgeMeals(anyLong(), any(), anyInt())).thenReturn(new PurgeBatch(0, 0));
+        when(repository.tableStats()).thenReturn(List.of(
+                new TableStats("meals", 100, 7, 65_536), new TableStats("meal_items", 400, 30, 262_144)));
+
+        // Act
+        purger.purge();
+
+        // Assert
+        assertThat(meterRegistry.get("meal.table.rows.live").tag("table", "meals").gauge().value()).isEqualTo(100);
+        assertThat(meterRegistry.get("meal.table.rows.dead").tag("table", "meal_items").gauge().value()).isEqualTo(30);
+        assertThat(meterRegistry.get("meal.table.size.bytes").tag("table", "meal_items").gauge().value())
+                .isEqualTo(262_144);
+    }
+
+    @Test
+    @DisplayName("無効な場合は何もせず、DBエラーは定期実行の外に投げない")
+    void shouldSkipWhenDisabledAndSwallowDataAccessErrors() {
+        // Arrange
+        properties.setEnabled(false);
+
+        // Act
+        purger.scheduledPurge();
+
+        // Assert
+        verifyNoInteractions(repository);
+
+        // Arrange
+        properties.setEnabled(true);
+        when(repository.purgeItems(anyLong(), any(), anyInt())).thenThrow(new QueryTimeoutException("timeout"));
+
+        // Act & Assert
+        assertThatCode(() -> purger.scheduledPurge()).doesNotThrowAnyException();
+        verify(repository, never()).purgeMeals(anyLong(), any(), anyInt());
+    }
+}
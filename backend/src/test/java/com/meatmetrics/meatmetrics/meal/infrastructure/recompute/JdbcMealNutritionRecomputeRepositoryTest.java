@@ -0,0 +1,113 @@
+package com.meatmetrics.meatmetrics.meal.infrastructure.recompute;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.meatmetrics.meatmetrics.PostgreSQLTestBase;
+import com.meatmetrics.meatmetrics.meal.domain.nutrition.MealItemNutritionBatch;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * JdbcMealNutritionRecomputeRepositoryの統合テスト
+ *
+ * <p>古いバージョンを参照する明細の読み込みで、食材の栄養成分が固定小数点に変換されることと、
+ * 食事日の異なる明細を (id, meal_date) で書き戻し、それぞれの食事の合計を更新することをテストします。</p>
+ */
+@SpringBootTest
+@ActiveProfiles("integration")
+@Transactional
+@DisplayName("JdbcMealNutritionRecomputeRepository")
+class JdbcMealNutritionRecomputeRepositoryTest extends PostgreSQLTestBase {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JdbcMealNutritionRecomputeRepository repository;
+
+    private long userId;
+
+    private long insertMeal(LocalDate mealDate) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO meals (user_id, meal_date, meal_type) VALUES (?, ?, 'SNACK') RETURNING id",
+                Long.class, userId, mealDate);
+    }
+
+    private long insertItem(long mealId, LocalDate mealDate, int quantityG) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO meal_items (meal_id, meal_date, food_id, quantity_g) VALUES (?, ?, 1, ?) RETURNING id",
+                Long.class, mealId, mealDate, quantityG);
+    }
+
+    @BeforeEach
+    void setUp() {
+        userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'test1@example.com'", Long.class);
+    }
+
+    @Test
+    @DisplayName("食物繊維が未設定（NULL）の食材は食物繊維0として正味炭水化物を計算する")
+    void shouldTreatNullFiberAsZero() {
+        // Arrange: バージョン1で記録した明細の後に、炭水化物を変更し食物繊維を未設定にする
+        long mealId = insertMeal(LocalDate.now());
+        long itemId = insertItem(mealId, LocalDate.now(), 200);
+        jdbcTemplate.update("UPDATE foods SET carbohydrates_g_per_100g = 10.00, fiber_g_per_100g = NULL WHERE id = 1");
+        int version = jdbcTemplate.queryForObject("SELECT nutrition_version FROM foods WHERE id = 1", Integer.class);
+        RecomputeJobState job = new RecomputeJobState(1L, List.of(1L), RecomputeJobState.RUNNING, itemId - 1,
+                0, 0, null, null, null, null, null);
+        MealItemNutritionBatch batch = new MealItemNutritionBatch(1);
+
+        // Act
+        repository.loadChunk(job, batch);
+        batch.calculate();
+
+        // Assert
+        assertThat(batch.size()).isEqualTo(1);
+        assertThat(batch.itemId(0)).isEqualTo(itemId);
+        assertThat(batch.mealDate(0)).isEqualTo(LocalDate.now());
+        assertThat(batch.foodVersion(0)).isEqualTo(version);
+        assertThat(batch.netCarbsG(0)).isEqualByComparingTo("20.00");
+    }
+
+    @Test
+    @DisplayName("食事日の月が異なる明細を1チャンクで書き戻し、それぞれの食事の合計を更新する")
+    void shouldWriteChunkAcrossMonths() {
+        // Arrange: 2つの月の食事に記録した後で、食材のカロリーを変更する
+        LocalDate january = LocalDate.of(2024, 1, 31);
+        LocalDate february = LocalDate.of(2024, 2, 1);
+        long januaryMeal = insertMeal(january);
+        long februaryMeal = insertMeal(february);
+        insertItem(januaryMeal, january, 100);
+        insertItem(februaryMeal, february, 200);
+        int calories = jdbcTemplate.queryForObject("SELECT calories_per_100g FROM foods WHERE id = 1", Integer.class);
+        jdbcTemplate.update("UPDATE foods SET calories_per_100g = ? WHERE id = 1", calories + 10);
+        long jobId = repository.create(List.of(1L), userId).id();
+        long checkpoint = jdbcTemplate.queryForObject("SELECT MIN(id) - 1 FROM meal_items WHERE meal_id IN (?, ?)",
+                Long.class, januaryMeal, februaryMeal);
+        RecomputeJobState job = new RecomputeJobState(jobId, List.of(1L), RecomputeJobState.RUNNING, checkpoint,
+                0, 0, null, null, null, null, null);
+        MealItemNutritionBatch batch = new MealItemNutritionBatch(1000);
+        repository.loadChunk(job, batch);
+        batch.calculate();
+
+        // Act
+        int updatedMeals = repository.writeChunk(jobId, batch);
+
+        // Assert
+        assertThat(batch.size()).isEqualTo(2);
+        assertThat(updatedMeals).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForList("SELECT total_calories FROM meals WHERE id IN (?, ?) ORDER BY id",
+                Integer.class, januaryMeal, februaryMeal)).containsExactly(calories + 10, (calories + 10) * 2);
+        assertThat(jdbcTemplate.queryForList("SELECT item_calories FROM meal_items WHERE meal_id IN (?, ?) ORDER BY id",
+                Integer.class, januaryMeal, februaryMeal)).containsExactly(calories + 10, (calories + 10) * 2);
+    }
+}